@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.key;
+
+import com.liferay.portal.kernel.cache.key.CacheKeyGenerator;
+
+import java.io.Serializable;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cache key generators on the keys built by the finder cache of
+ * the persistence layer. Each thread uses its own clone of the generator, as
+ * the generators are not thread safe.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CacheKeyGeneratorBenchmark {
+
+	@Benchmark
+	public Serializable appendAndFinish(ThreadState threadState) {
+		CacheKeyGenerator cacheKeyGenerator = threadState._cacheKeyGenerator;
+
+		cacheKeyGenerator.append(_CLASS_NAME);
+		cacheKeyGenerator.append(_FINDER_NAME);
+		cacheKeyGenerator.append(_ARGUMENTS);
+
+		return cacheKeyGenerator.finish();
+	}
+
+	@Benchmark
+	public Serializable getCacheKey(ThreadState threadState) {
+		CacheKeyGenerator cacheKeyGenerator = threadState._cacheKeyGenerator;
+
+		return cacheKeyGenerator.getCacheKey(_KEYS);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		if (cacheKeyGeneratorType.equals("HashCodeCacheKeyGenerator")) {
+			_cacheKeyGenerator = new HashCodeCacheKeyGenerator();
+		}
+		else if (cacheKeyGeneratorType.equals("JavaMD5CacheKeyGenerator")) {
+			_cacheKeyGenerator = new JavaMD5CacheKeyGenerator();
+		}
+		else if (cacheKeyGeneratorType.equals("SimpleCacheKeyGenerator")) {
+			_cacheKeyGenerator = new SimpleCacheKeyGenerator();
+		}
+		else {
+			throw new IllegalArgumentException(
+				"Unknown cache key generator type " + cacheKeyGeneratorType);
+		}
+	}
+
+	private static final String[] _ARGUMENTS = {
+		"10180", "com.liferay.portlet.journal.model.JournalArticle", "0",
+		"-1", "-1", "com.liferay.portal.kernel.util.OrderByComparator"
+	};
+
+	private static final String _CLASS_NAME =
+		"com.liferay.portlet.asset.model.impl.AssetEntryImpl.List1";
+
+	private static final String _FINDER_NAME = "findByG_C";
+
+	private static final String[] _KEYS = {
+		_CLASS_NAME, _FINDER_NAME, "10180",
+		"com.liferay.portlet.journal.model.JournalArticle", "0", "-1", "-1",
+		"com.liferay.portal.kernel.util.OrderByComparator"
+	};
+
+	@Param(
+		{
+			"HashCodeCacheKeyGenerator", "JavaMD5CacheKeyGenerator",
+			"SimpleCacheKeyGenerator"
+		}
+	)
+	public String cacheKeyGeneratorType;
+
+	private CacheKeyGenerator _cacheKeyGenerator;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		@Setup
+		public void setUp(
+			CacheKeyGeneratorBenchmark cacheKeyGeneratorBenchmark) {
+
+			CacheKeyGenerator cacheKeyGenerator =
+				cacheKeyGeneratorBenchmark._cacheKeyGenerator;
+
+			_cacheKeyGenerator = cacheKeyGenerator.clone();
+		}
+
+		private CacheKeyGenerator _cacheKeyGenerator;
+
+	}
+
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares {@link ConcurrentLRUCache} with {@link ConcurrentClockCache} on a
+ * read mostly workload where 80% of the lookups hit a hot set that fits in
+ * the cache and every miss is followed by a put.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentCacheBenchmark {
+
+	@Benchmark
+	@Threads(1)
+	public Object getOrPut1Thread(ThreadState threadState) {
+		return _getOrPut(threadState);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Object getOrPut8Threads(ThreadState threadState) {
+		return _getOrPut(threadState);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public Object getOrPut32Threads(ThreadState threadState) {
+		return _getOrPut(threadState);
+	}
+
+	@Setup
+	public void setUp() {
+		if (cacheType.equals("ConcurrentClockCache")) {
+			_cache = new ClockCache(_MAX_SIZE);
+		}
+		else if (cacheType.equals("ConcurrentLRUCache")) {
+			_cache = new LRUCache(_MAX_SIZE);
+		}
+		else {
+			throw new IllegalArgumentException(
+				"Unknown cache type " + cacheType);
+		}
+
+		for (int i = 0; i < _HOT_KEYS_COUNT; i++) {
+			_cache.put(_keys[i], _keys[i]);
+		}
+	}
+
+	private Object _getOrPut(ThreadState threadState) {
+		String key = threadState.nextKey();
+
+		Object value = _cache.get(key);
+
+		if (value == null) {
+			_cache.put(key, key);
+		}
+
+		return value;
+	}
+
+	private static final int _HOT_KEYS_COUNT = 512;
+
+	private static final int _KEYS_COUNT = 8192;
+
+	private static final int _MAX_SIZE = 1024;
+
+	private static String[] _keys = new String[_KEYS_COUNT];
+
+	static {
+		for (int i = 0; i < _KEYS_COUNT; i++) {
+			_keys[i] = "key".concat(String.valueOf(i));
+		}
+	}
+
+	@Param({"ConcurrentClockCache", "ConcurrentLRUCache"})
+	public String cacheType;
+
+	private Cache _cache;
+
+	private static interface Cache {
+
+		public Object get(String key);
+
+		public void put(String key, Object value);
+
+	}
+
+	private static class ClockCache implements Cache {
+
+		public ClockCache(int maxSize) {
+			_concurrentClockCache = new ConcurrentClockCache<String, Object>(
+				maxSize);
+		}
+
+		public Object get(String key) {
+			return _concurrentClockCache.get(key);
+		}
+
+		public void put(String key, Object value) {
+			_concurrentClockCache.put(key, value);
+		}
+
+		private ConcurrentClockCache<String, Object> _concurrentClockCache;
+
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		public String nextKey() {
+			int index = 0;
+
+			if (_random.nextInt(100) < 80) {
+				index = _random.nextInt(_HOT_KEYS_COUNT);
+			}
+			else {
+				index = _random.nextInt(_KEYS_COUNT);
+			}
+
+			return _keys[index];
+		}
+
+		private Random _random = new Random();
+
+	}
+
+	private static class LRUCache implements Cache {
+
+		public LRUCache(int maxSize) {
+			_concurrentLRUCache = new ConcurrentLRUCache<String, Object>(
+				maxSize);
+		}
+
+		public Object get(String key) {
+			return _concurrentLRUCache.get(key);
+		}
+
+		public void put(String key, Object value) {
+			_concurrentLRUCache.put(key, value);
+		}
+
+		private ConcurrentLRUCache<String, Object> _concurrentLRUCache;
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.io.unsync;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link UnsyncByteArrayOutputStream} with ByteArrayOutputStream
+ * when buffering a 64 KB response written in chunks of different sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UnsyncByteArrayOutputStreamBenchmark {
+
+	@Benchmark
+	public byte[] byteArrayOutputStream() {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(byteArrayOutputStream);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+
+		random.nextBytes(_bytes);
+	}
+
+	@Benchmark
+	public byte[] unsyncByteArrayOutputStream() {
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		_write(unsyncByteArrayOutputStream);
+
+		return unsyncByteArrayOutputStream.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] unsyncByteArrayOutputStreamUnsafe() {
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		_write(unsyncByteArrayOutputStream);
+
+		return unsyncByteArrayOutputStream.unsafeGetByteArray();
+	}
+
+	private void _write(OutputStream outputStream) {
+		try {
+			if (chunkSize == 1) {
+				for (byte b : _bytes) {
+					outputStream.write(b);
+				}
+
+				return;
+			}
+
+			for (int i = 0; i < _bytes.length; i += chunkSize) {
+				outputStream.write(
+					_bytes, i, Math.min(chunkSize, _bytes.length - i));
+			}
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static final int _SIZE = 64 * 1024;
+
+	@Param({"1", "128", "8192"})
+	public int chunkSize;
+
+	private byte[] _bytes = new byte[_SIZE];
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares borrowing buffers from {@link CharBufferPool} and returning them
+ * at the end of the request with allocating them, on one thread and on
+ * threads contending for the pool lock.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CharBufferPoolBenchmark {
+
+	@Benchmark
+	@Threads(1)
+	public char[] allocate1Thread() {
+		return new char[size];
+	}
+
+	@Benchmark
+	@Threads(8)
+	public char[] allocate8Threads() {
+		return new char[size];
+	}
+
+	@Benchmark
+	@Threads(1)
+	public char[] borrow1Thread(ThreadState threadState) {
+		return _borrow();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public char[] borrow8Threads(ThreadState threadState) {
+		return _borrow();
+	}
+
+	private char[] _borrow() {
+		char[] charBuffer = CharBufferPool.borrow(size);
+
+		CharBufferPool.cleanUp();
+
+		return charBuffer;
+	}
+
+	@Param({"1024", "65536"})
+	public int size;
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		@Setup
+		public void setUp() {
+			CharBufferPool.setEnabled(true);
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.util;
+
+import java.lang.reflect.Method;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares looking up methods through {@link MethodCache} with reflection.
+ * The cache is warmed up first, so every lookup is a hit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MethodCacheBenchmark {
+
+	@Benchmark
+	public Method getMethod() throws Exception {
+		return String.class.getMethod(
+			"regionMatches", _PARAMETER_TYPES);
+	}
+
+	@Benchmark
+	public Method methodCacheGet() throws Exception {
+		return MethodCache.get(_methodKey);
+	}
+
+	@Benchmark
+	public Method methodCacheGetNewMethodKey() throws Exception {
+		return MethodCache.get(
+			String.class.getName(), "regionMatches", _PARAMETER_TYPES);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		MethodCache.reset();
+
+		MethodCache.get(_methodKey);
+	}
+
+	private static final Class<?>[] _PARAMETER_TYPES = {
+		boolean.class, int.class, String.class, int.class, int.class
+	};
+
+	private MethodKey _methodKey = new MethodKey(
+		String.class.getName(), "regionMatches", _PARAMETER_TYPES);
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link StringBundler} with StringBuilder and string concatenation
+ * when joining the short markup fragments typical of taglib and portlet
+ * output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StringBundlerBenchmark {
+
+	@Benchmark
+	public String concat() {
+		String s = StringPool.BLANK;
+
+		for (String fragment : _fragments) {
+			s = s + fragment;
+		}
+
+		return s;
+	}
+
+	@Setup
+	public void setUp() {
+		_fragments = new String[fragmentsCount];
+
+		for (int i = 0; i < fragmentsCount; i++) {
+			_fragments[i] = _FRAGMENTS[i % _FRAGMENTS.length];
+		}
+	}
+
+	@Benchmark
+	public String stringBuilder() {
+		StringBuilder sb = new StringBuilder();
+
+		for (String fragment : _fragments) {
+			sb.append(fragment);
+		}
+
+		return sb.toString();
+	}
+
+	@Benchmark
+	public String stringBundler() {
+		StringBundler sb = new StringBundler(_fragments.length);
+
+		for (String fragment : _fragments) {
+			sb.append(fragment);
+		}
+
+		return sb.toString();
+	}
+
+	@Benchmark
+	public String stringBundlerDefaultCapacity() {
+		StringBundler sb = new StringBundler();
+
+		for (String fragment : _fragments) {
+			sb.append(fragment);
+		}
+
+		return sb.toString();
+	}
+
+	private static final String[] _FRAGMENTS = {
+		"<div class=\"", "portlet-boundary portlet-journal-content",
+		"\" id=\"", "p_p_id_56_INSTANCE_a1B2c3D4_", "\">",
+		"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do " +
+			"eiusmod tempor incididunt ut labore et dolore magna aliqua.",
+		"</div>"
+	};
+
+	@Param({"4", "16", "64"})
+	public int fragmentsCount;
+
+	private String[] _fragments;
+
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link StringUtil} methods used on every page view on a
+ * template script with the tokens of a web content article.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+
+	@Benchmark
+	public String lowerCase() {
+		return StringUtil.lowerCase(_text);
+	}
+
+	@Benchmark
+	public String merge() {
+		return StringUtil.merge(_values);
+	}
+
+	@Benchmark
+	public String replaceChar() {
+		return StringUtil.replace(_text, '@', '#');
+	}
+
+	@Benchmark
+	public String replaceString() {
+		return StringUtil.replace(_text, "@portal_url@", _PORTAL_URL);
+	}
+
+	@Benchmark
+	public String replaceStrings() {
+		return StringUtil.replace(_text, _tokens, _tokenValues);
+	}
+
+	@Setup
+	public void setUp() {
+		StringBundler sb = new StringBundler(textLength / 16);
+
+		while (sb.length() < textLength) {
+			sb.append("<a href=\"@portal_url@@friendly_url_public@/");
+			sb.append(sb.index());
+			sb.append("\"><img src=\"@image_path@/common/page.png\" />");
+			sb.append("Read More About This Article</a>\n");
+		}
+
+		_text = sb.toString();
+
+		_values = new String[textLength / 64];
+
+		for (int i = 0; i < _values.length; i++) {
+			_values[i] = String.valueOf(10000 + i);
+		}
+
+		_valuesString = StringUtil.merge(_values);
+	}
+
+	@Benchmark
+	public String[] split() {
+		return StringUtil.split(_valuesString);
+	}
+
+	private static final String _PORTAL_URL = "http://www.example.com";
+
+	private static String[] _tokenValues = {
+		_PORTAL_URL, "/web/guest", "/html/themes/classic/images"
+	};
+	private static String[] _tokens = {
+		"@portal_url@", "@friendly_url_public@", "@image_path@"
+	};
+
+	@Param({"1024", "16384"})
+	public int textLength;
+
+	private String _text;
+	private String[] _values;
+	private String _valuesString;
+
+}
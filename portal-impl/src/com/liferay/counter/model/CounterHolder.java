@@ -23,13 +23,20 @@ public class CounterHolder {
 
 	public CounterHolder(long initValue, long rangeMax) {
 		_counter = new AtomicLong(initValue);
+		_rangeMin = initValue;
 		_rangeMax = rangeMax;
+
+		_createTime = System.currentTimeMillis();
 	}
 
 	public long addAndGet(long delta) {
 		return _counter.addAndGet(delta);
 	}
 
+	public long getCreateTime() {
+		return _createTime;
+	}
+
 	public long getCurrentValue() {
 		return _counter.get();
 	}
@@ -38,7 +45,13 @@ public class CounterHolder {
 		return _rangeMax;
 	}
 
+	public long getRangeMin() {
+		return _rangeMin;
+	}
+
 	private final AtomicLong _counter;
+	private final long _createTime;
 	private final long _rangeMax;
+	private final long _rangeMin;
 
 }
\ No newline at end of file
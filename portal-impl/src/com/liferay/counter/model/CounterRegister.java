@@ -15,6 +15,7 @@
 package com.liferay.counter.model;
 
 import com.liferay.portal.kernel.concurrent.CompeteLatch;
+import com.liferay.portal.kernel.util.Time;
 
 /**
  * @author Harry Mark
@@ -27,6 +28,7 @@ public class CounterRegister {
 		String name, CounterHolder counterHolder, int rangeSize) {
 
 		_name = name;
+		_baseRangeSize = rangeSize;
 		_rangeSize = rangeSize;
 		_counterHolder = counterHolder;
 		_competeLatch = new CompeteLatch();
@@ -38,6 +40,18 @@ public class CounterRegister {
 		this(name, new CounterHolder(rangeMin, rangeMax), rangeSize);
 	}
 
+	public long getAllocatedCount() {
+		return _allocatedCount;
+	}
+
+	public long getAllocationRate() {
+		return _allocationRate;
+	}
+
+	public int getBaseRangeSize() {
+		return _baseRangeSize;
+	}
+
 	public CompeteLatch getCompeteLatch() {
 		return _competeLatch;
 	}
@@ -54,6 +68,32 @@ public class CounterRegister {
 		return _rangeSize;
 	}
 
+	public long getRefillCount() {
+		return _refillCount;
+	}
+
+	public long getRefillTime() {
+		return _refillTime;
+	}
+
+	/**
+	 * Records the consumption of the previous range and the time it took to
+	 * reserve the next one. Only the thread that won the compete latch calls
+	 * this method, so the statistics need no further synchronization.
+	 */
+	public void refilled(
+		long allocatedCount, long allocationTime, long refillTime) {
+
+		if (allocationTime <= 0) {
+			allocationTime = 1;
+		}
+
+		_allocatedCount += allocatedCount;
+		_allocationRate = allocatedCount * Time.SECOND / allocationTime;
+		_refillCount++;
+		_refillTime += refillTime;
+	}
+
 	public void setCounterHolder(CounterHolder holder) {
 		_counterHolder = holder;
 	}
@@ -62,9 +102,18 @@ public class CounterRegister {
 		_name = name;
 	}
 
+	public void setRangeSize(int rangeSize) {
+		_rangeSize = rangeSize;
+	}
+
+	private volatile long _allocatedCount;
+	private volatile long _allocationRate;
+	private final int _baseRangeSize;
 	private final CompeteLatch _competeLatch;
 	private volatile CounterHolder _counterHolder;
 	private String _name;
-	private final int _rangeSize;
+	private volatile int _rangeSize;
+	private volatile long _refillCount;
+	private volatile long _refillTime;
 
 }
\ No newline at end of file
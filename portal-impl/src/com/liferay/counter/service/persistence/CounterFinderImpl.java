@@ -40,6 +40,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -186,6 +187,44 @@ public class CounterFinderImpl
 		_counterRegisterMap.put(name, counterRegister);
 	}
 
+	protected void adaptRangeSize(
+		CounterRegister counterRegister, CounterHolder counterHolder,
+		long now) {
+
+		// Counters that are pinned to an increment of 1 must never skip IDs
+
+		int baseRangeSize = counterRegister.getBaseRangeSize();
+
+		if (baseRangeSize <= _MINIMUM_INCREMENT_SIZE) {
+			return;
+		}
+
+		long rangeSize = counterRegister.getRangeSize();
+
+		long allocationTime = now - counterHolder.getCreateTime();
+		long refillInterval =
+			PropsValues.COUNTER_ADAPTIVE_INCREMENT_REFILL_INTERVAL;
+
+		if (allocationTime < refillInterval) {
+
+			// The previous range was consumed too fast, reserve more IDs
+
+			rangeSize = Math.min(
+				rangeSize * 2, PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX);
+		}
+		else if (allocationTime > (refillInterval * _SHRINK_FACTOR)) {
+
+			// The previous range lasted too long, reserve fewer IDs so that
+			// fewer are lost on shutdown
+
+			rangeSize = rangeSize / 2;
+		}
+
+		rangeSize = Math.max(rangeSize, baseRangeSize);
+
+		counterRegister.setRangeSize((int)rangeSize);
+	}
+
 	protected CounterRegister createCounterRegister(String name)
 		throws SystemException {
 
@@ -274,6 +313,10 @@ public class CounterFinderImpl
 		}
 	}
 
+	protected Collection<CounterRegister> getCounterRegisters() {
+		return _counterRegisterMap.values();
+	}
+
 	protected int getRangeSize(String name) {
 		if (name.equals(_NAME)) {
 			return PropsValues.COUNTER_INCREMENT;
@@ -347,6 +390,12 @@ public class CounterFinderImpl
 			newValue = counterHolder.addAndGet(size);
 
 			if (newValue > counterHolder.getRangeMax()) {
+				long startTime = System.currentTimeMillis();
+
+				if (PropsValues.COUNTER_ADAPTIVE_INCREMENT_ENABLED) {
+					adaptRangeSize(counterRegister, counterHolder, startTime);
+				}
+
 				CounterHolder newCounterHolder = _obtainIncrement(
 					counterRegister.getName(), counterRegister.getRangeSize(),
 					0);
@@ -354,6 +403,11 @@ public class CounterFinderImpl
 				newValue = newCounterHolder.addAndGet(size);
 
 				counterRegister.setCounterHolder(newCounterHolder);
+
+				counterRegister.refilled(
+					counterHolder.getRangeMax() - counterHolder.getRangeMin(),
+					startTime - counterHolder.getCreateTime(),
+					newCounterHolder.getCreateTime() - startTime);
 			}
 		}
 		catch (Exception e) {
@@ -413,6 +467,8 @@ public class CounterFinderImpl
 
 	private static final String _NAME = Counter.class.getName();
 
+	private static final int _SHRINK_FACTOR = 4;
+
 	private static final String _SQL_INSERT =
 		"insert into Counter(name, currentId) values (?, ?)";
 
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.service.persistence;
+
+import com.liferay.counter.model.CounterRegister;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @see CounterFinderImpl
+ */
+public class CounterManager implements CounterManagerMBean {
+
+	public long getAllocatedCount(String name) {
+		CounterRegister counterRegister = _getCounterRegister(name);
+
+		if (counterRegister == null) {
+			return 0;
+		}
+
+		return counterRegister.getAllocatedCount();
+	}
+
+	public long getAllocationRate(String name) {
+		CounterRegister counterRegister = _getCounterRegister(name);
+
+		if (counterRegister == null) {
+			return 0;
+		}
+
+		return counterRegister.getAllocationRate();
+	}
+
+	public long getAverageRefillTime(String name) {
+		CounterRegister counterRegister = _getCounterRegister(name);
+
+		if ((counterRegister == null) ||
+			(counterRegister.getRefillCount() == 0)) {
+
+			return 0;
+		}
+
+		return counterRegister.getRefillTime() /
+			counterRegister.getRefillCount();
+	}
+
+	public String[] getNames() {
+		List<String> names = new ArrayList<String>();
+
+		for (CounterRegister counterRegister : _getCounterRegisters()) {
+			names.add(counterRegister.getName());
+		}
+
+		Collections.sort(names);
+
+		return names.toArray(new String[names.size()]);
+	}
+
+	public int getRangeSize(String name) {
+		CounterRegister counterRegister = _getCounterRegister(name);
+
+		if (counterRegister == null) {
+			return 0;
+		}
+
+		return counterRegister.getRangeSize();
+	}
+
+	public long getRefillCount(String name) {
+		CounterRegister counterRegister = _getCounterRegister(name);
+
+		if (counterRegister == null) {
+			return 0;
+		}
+
+		return counterRegister.getRefillCount();
+	}
+
+	private CounterRegister _getCounterRegister(String name) {
+		for (CounterRegister counterRegister : _getCounterRegisters()) {
+			if (name.equals(counterRegister.getName())) {
+				return counterRegister;
+			}
+		}
+
+		return null;
+	}
+
+	private Collection<CounterRegister> _getCounterRegisters() {
+		CounterFinderImpl counterFinderImpl =
+			(CounterFinderImpl)CounterFinderUtil.getFinder();
+
+		return counterFinderImpl.getCounterRegisters();
+	}
+
+}
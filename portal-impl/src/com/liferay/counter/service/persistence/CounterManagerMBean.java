@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.service.persistence;
+
+/**
+ * Exposes the range reservation statistics of the counters that have been
+ * used since startup, see {@link #getNames()}. The allocation rate is the
+ * number of IDs per second consumed from the last completed range.
+ */
+public interface CounterManagerMBean {
+
+	public long getAllocatedCount(String name);
+
+	public long getAllocationRate(String name);
+
+	public long getAverageRefillTime(String name);
+
+	public String[] getNames();
+
+	public int getRangeSize(String name);
+
+	public long getRefillCount(String name);
+
+}
@@ -26,6 +26,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -35,6 +36,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.CacheModel;
 import com.liferay.portal.model.ModelListener;
@@ -46,7 +48,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the counter service.
@@ -144,14 +149,14 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 		EntityCacheUtil.removeResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
 			CounterImpl.class, counter.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 	}
 
 	@Override
 	public void clearCache(List<Counter> counters) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (Counter counter : counters) {
 			EntityCacheUtil.removeResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
@@ -273,10 +278,12 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
 		if (isNew) {
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		}
 
 		EntityCacheUtil.putResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
@@ -398,6 +405,112 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 		return counter;
 	}
 
+	/**
+	 * Returns the counters with the primary keys, mapped by primary key. Primary keys that do not match a counter are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the counters that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the counters
+	 * @return the counters that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, Counter> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Counter> map = new HashMap<Serializable, Counter>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(CounterModelImpl.ENTITY_CACHE_ENABLED,
+				CounterImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				Counter counter = (Counter)result;
+
+				if (counter != _nullCounter) {
+					map.put(primaryKey, counter);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_COUNTER_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<Counter> list = q.list();
+
+				for (Counter counter : list) {
+					map.put(counter.getPrimaryKeyObj(), counter);
+
+					cacheResult(counter);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
+					CounterImpl.class, primaryKey, _nullCounter);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the counters.
 	 *
@@ -597,9 +710,11 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 	@BeanReference(type = UserPersistence.class)
 	protected UserPersistence userPersistence;
 	private static final String _SQL_SELECT_COUNTER = "SELECT counter FROM Counter counter";
+	private static final String _SQL_SELECT_COUNTER_WHERE_PKS_IN = "SELECT counter FROM Counter counter WHERE counter.name IN (";
 	private static final String _SQL_COUNT_COUNTER = "SELECT COUNT(counter) FROM Counter counter";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "counter.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Counter exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(CounterPersistenceImpl.class);
 	private static Counter _nullCounter = new CounterImpl() {
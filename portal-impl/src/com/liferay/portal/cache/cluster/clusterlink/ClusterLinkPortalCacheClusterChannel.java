@@ -20,6 +20,9 @@ import com.liferay.portal.kernel.cluster.ClusterLinkUtil;
 import com.liferay.portal.kernel.cluster.Priority;
 import com.liferay.portal.kernel.messaging.Message;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Shuyang Zhou
  */
@@ -43,6 +46,16 @@ public class ClusterLinkPortalCacheClusterChannel
 		ClusterLinkUtil.sendMulticastMessage(message, _priority);
 	}
 
+	@Override
+	public void dispatchEvents(List<PortalCacheClusterEvent> events) {
+		Message message = new Message();
+
+		message.setDestinationName(_destinationName);
+		message.setPayload(new ArrayList<PortalCacheClusterEvent>(events));
+
+		ClusterLinkUtil.sendMulticastMessage(message, _priority);
+	}
+
 	private String _destinationName;
 	private Priority _priority;
 
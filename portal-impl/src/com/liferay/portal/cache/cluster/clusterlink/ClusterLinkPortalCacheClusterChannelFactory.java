@@ -18,6 +18,7 @@ import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannel;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannelFactory;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterException;
 import com.liferay.portal.kernel.cluster.Priority;
+import com.liferay.portal.util.PropsValues;
 
 import java.util.Collections;
 import java.util.List;
@@ -39,8 +40,17 @@ public class ClusterLinkPortalCacheClusterChannelFactory
 				"Cannot create more than " + _priorities.size() + " channels");
 		}
 
-		return new ClusterLinkPortalCacheClusterChannel(
-			_destinationName, _priorities.get(count));
+		ClusterLinkPortalCacheClusterChannel
+			clusterLinkPortalCacheClusterChannel =
+				new ClusterLinkPortalCacheClusterChannel(
+					_destinationName, _priorities.get(count));
+
+		clusterLinkPortalCacheClusterChannel.setBatchFlushInterval(
+			PropsValues.EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_FLUSH_INTERVAL);
+		clusterLinkPortalCacheClusterChannel.setBatchMaxSize(
+			PropsValues.EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_MAX_SIZE);
+
+		return clusterLinkPortalCacheClusterChannel;
 	}
 
 	public void setDestinationName(String destinationName) {
@@ -27,6 +27,8 @@ import com.liferay.portal.kernel.messaging.Message;
 
 import java.io.Serializable;
 
+import java.util.List;
+
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
@@ -51,10 +53,9 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 
 	@Override
 	protected void doReceive(Message message) throws Exception {
-		PortalCacheClusterEvent portalCacheClusterEvent =
-			(PortalCacheClusterEvent)message.getPayload();
+		Object payload = message.getPayload();
 
-		if (portalCacheClusterEvent == null) {
+		if (payload == null) {
 			if (_log.isWarnEnabled()) {
 				_log.warn("Payload is null");
 			}
@@ -62,6 +63,22 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 			return;
 		}
 
+		if (payload instanceof List<?>) {
+			List<?> portalCacheClusterEvents = (List<?>)payload;
+
+			for (Object portalCacheClusterEvent : portalCacheClusterEvents) {
+				handlePortalCacheClusterEvent(
+					(PortalCacheClusterEvent)portalCacheClusterEvent);
+			}
+		}
+		else {
+			handlePortalCacheClusterEvent((PortalCacheClusterEvent)payload);
+		}
+	}
+
+	protected void handlePortalCacheClusterEvent(
+		PortalCacheClusterEvent portalCacheClusterEvent) {
+
 		String cacheName = portalCacheClusterEvent.getCacheName();
 
 		Ehcache ehcache = _portalCacheManager.getEhcache(cacheName);
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.cache.cluster.jmx;
+
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+
+/**
+ * @see PortalCacheClusterLinkUtil
+ */
+public class PortalCacheClusterLinkManager
+	implements PortalCacheClusterLinkManagerMBean {
+
+	public long getCoalescedEventNumber() {
+		return PortalCacheClusterLinkUtil.getCoalescedEventNumber();
+	}
+
+	public long getDroppedEventNumber() {
+		return PortalCacheClusterLinkUtil.getDroppedEventNumber();
+	}
+
+	public int getPendingEventNumber() {
+		return PortalCacheClusterLinkUtil.getPendingEventNumber();
+	}
+
+	public long getSentBatchNumber() {
+		return PortalCacheClusterLinkUtil.getSentBatchNumber();
+	}
+
+	public long getSentEventNumber() {
+		return PortalCacheClusterLinkUtil.getSentEventNumber();
+	}
+
+	public long getSubmittedEventNumber() {
+		return PortalCacheClusterLinkUtil.getSubmittedEventNumber();
+	}
+
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.cache.cluster.jmx;
+
+/**
+ * Exposes the counters of the cluster link cache replication, added up over
+ * all of its channels. Every counter is -1 when cluster link cache
+ * replication is not used.
+ */
+public interface PortalCacheClusterLinkManagerMBean {
+
+	public long getCoalescedEventNumber();
+
+	public long getDroppedEventNumber();
+
+	public int getPendingEventNumber();
+
+	public long getSentBatchNumber();
+
+	public long getSentEventNumber();
+
+	public long getSubmittedEventNumber();
+
+}
@@ -85,7 +85,19 @@ public class MemcachePortalCache implements PortalCache {
 			future.cancel(true);
 		}
 
-		return values.values();
+		List<Object> alignedValues = new ArrayList<Object>(
+			processedKeys.size());
+
+		for (String processedKey : processedKeys) {
+			if (values == null) {
+				alignedValues.add(null);
+			}
+			else {
+				alignedValues.add(values.get(processedKey));
+			}
+		}
+
+		return alignedValues;
 	}
 
 	public Object get(Serializable key) {
@@ -85,7 +85,7 @@ public class PooledMemcachePortalCache implements PortalCache {
 					_log.warn("Error retrieving with keys " + keys, iae);
 				}
 
-				future.cancel(true);
+				return null;
 			}
 
 			try {
@@ -103,7 +103,19 @@ public class PooledMemcachePortalCache implements PortalCache {
 			cleanupClient(memcachedClient);
 		}
 
-		return values.values();
+		List<Object> alignedValues = new ArrayList<Object>(
+			processedKeys.size());
+
+		for (String processedKey : processedKeys) {
+			if (values == null) {
+				alignedValues.add(null);
+			}
+			else {
+				alignedValues.add(values.get(processedKey));
+			}
+		}
+
+		return alignedValues;
 	}
 
 	public Object get(Serializable key) {
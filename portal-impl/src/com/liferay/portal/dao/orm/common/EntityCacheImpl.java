@@ -18,7 +18,11 @@ import com.liferay.portal.kernel.cache.CacheRegistryItem;
 import com.liferay.portal.kernel.cache.CacheRegistryUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.PortalCacheLoader;
+import com.liferay.portal.kernel.cache.PortalCacheLoaderUtil;
 import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
 import com.liferay.portal.kernel.dao.shard.ShardUtil;
@@ -26,6 +30,7 @@ import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
 import com.liferay.portal.model.CacheModel;
@@ -33,12 +38,21 @@ import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.collections.map.LRUMap;
 
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 /**
  * @author Brian Wing Shun Chan
  * @author Shuyang Zhou
@@ -121,6 +135,94 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		return _toEntityModel(result);
 	}
 
+	public Map<Serializable, Object> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		Map<Serializable, Object> results = new HashMap<Serializable, Object>();
+
+		if (!PropsValues.VALUE_OBJECT_ENTITY_CACHE_ENABLED ||
+			!entityCacheEnabled || !CacheRegistryUtil.isActive() ||
+			primaryKeys.isEmpty()) {
+
+			return results;
+		}
+
+		Map<Serializable, Object> localCache = null;
+
+		if (_localCacheAvailable) {
+			localCache = _localCache.get();
+		}
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>(
+			primaryKeys.size());
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = null;
+
+			if (_localCacheAvailable) {
+				result = localCache.get(
+					_encodeLocalCacheKey(clazz, primaryKey));
+			}
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				results.put(primaryKey, _toEntityModel(result));
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return results;
+		}
+
+		List<Serializable> cacheKeys = new ArrayList<Serializable>(
+			uncachedPrimaryKeys.size());
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			cacheKeys.add(_encodeCacheKey(primaryKey));
+		}
+
+		PortalCache portalCache = _getPortalCache(clazz.getName(), true);
+
+		Collection<Object> values = portalCache.get(cacheKeys);
+
+		Iterator<Object> valuesIterator = null;
+
+		if ((values != null) && (values.size() == cacheKeys.size())) {
+			valuesIterator = values.iterator();
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			Object result = null;
+
+			if (valuesIterator != null) {
+				result = valuesIterator.next();
+			}
+
+			if (result == null) {
+				result = StringPool.BLANK;
+			}
+			else if (result == StringPool.BLANK) {
+
+				// The entity is known not to exist, so tell the caller not to
+				// look for it again
+
+				results.put(primaryKey, StringPool.BLANK);
+			}
+			else {
+				results.put(primaryKey, _toEntityModel(result));
+			}
+
+			if (_localCacheAvailable) {
+				localCache.put(_encodeLocalCacheKey(clazz, primaryKey), result);
+			}
+		}
+
+		return results;
+	}
+
 	public void invalidate() {
 		clearCache();
 	}
@@ -165,34 +267,33 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 			Serializable cacheKey = _encodeCacheKey(primaryKey);
 
-			result = portalCache.get(cacheKey);
+			EntityLoader entityLoader = new EntityLoader(
+				clazz, primaryKey, sessionFactory);
 
-			if (result == null) {
-				if (_log.isDebugEnabled()) {
-					_log.debug(
-						"Load " + clazz + " " + primaryKey + " from session");
-				}
+			if (TransactionSynchronizationManager.
+					isActualTransactionActive()) {
 
-				Session session = null;
+				// A transaction must neither wait for nor share the load of
+				// another thread
 
-				try {
-					session = sessionFactory.openSession();
+				result = portalCache.get(cacheKey);
 
-					loadResult = session.load(clazz, primaryKey);
-				}
-				finally {
-					if (loadResult == null) {
-						result = StringPool.BLANK;
-					}
-					else {
-						result = ((BaseModel<?>)loadResult).toCacheModel();
-					}
+				if (result == null) {
+					result = entityLoader.load(cacheKey);
 
 					portalCache.put(cacheKey, result);
-
-					sessionFactory.closeSession(session);
 				}
 			}
+			else {
+
+				// Concurrent misses of the same entity share a single load
+
+				result = PortalCacheLoaderUtil.get(
+					portalCache, cacheKey, entityLoader,
+					PropsValues.VALUE_OBJECT_ENTITY_CACHE_LOAD_TIMEOUT);
+			}
+
+			loadResult = entityLoader._loadResult;
 
 			if (_localCacheAvailable) {
 				localCache.put(localCacheKey, result);
@@ -207,6 +308,121 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		}
 	}
 
+	public Map<Serializable, Object> loadResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys, SessionFactory sessionFactory) {
+
+		for (Serializable primaryKey : primaryKeys) {
+			if (!(primaryKey instanceof Long) &&
+				!(primaryKey instanceof Integer) &&
+				!(primaryKey instanceof String)) {
+
+				return new HashMap<Serializable, Object>();
+			}
+		}
+
+		Map<Serializable, Object> results = getResults(
+			entityCacheEnabled, clazz, primaryKeys);
+
+		Set<Serializable> uncachedPrimaryKeys =
+			new LinkedHashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = results.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result == StringPool.BLANK) {
+				results.remove(primaryKey);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return results;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Load " + uncachedPrimaryKeys.size() + " " + clazz +
+					" from session");
+		}
+
+		List<Serializable> uncachedPrimaryKeysList =
+			new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = sessionFactory.openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+
+				int end = Math.min(
+					start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+					uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys =
+					uncachedPrimaryKeysList.subList(start, end);
+
+				StringBundler sb = new StringBundler(
+					batchPrimaryKeys.size() * 2 + 3);
+
+				sb.append("SELECT entity FROM ");
+				sb.append(clazz.getName());
+				sb.append(" entity WHERE entity.id IN (");
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					sb.append(StringPool.QUESTION);
+					sb.append(StringPool.COMMA);
+				}
+
+				sb.setIndex(sb.index() - 1);
+
+				sb.append(StringPool.CLOSE_PARENTHESIS);
+
+				Query q = session.createQuery(sb.toString());
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<?> list = q.list();
+
+				for (Object result : list) {
+					BaseModel<?> baseModel = (BaseModel<?>)result;
+
+					Serializable primaryKey = baseModel.getPrimaryKeyObj();
+
+					putResult(entityCacheEnabled, clazz, primaryKey, result);
+
+					results.put(primaryKey, result);
+				}
+			}
+		}
+		finally {
+			sessionFactory.closeSession(session);
+		}
+
+		// Primary keys that were not found are left to loadResult, so drop
+		// the local cache miss markers that getResults put down for them
+
+		if (_localCacheAvailable) {
+			Map<Serializable, Object> localCache = _localCache.get();
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!results.containsKey(primaryKey)) {
+					localCache.remove(_encodeLocalCacheKey(clazz, primaryKey));
+				}
+			}
+		}
+
+		return results;
+	}
+
 	public void putResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey,
 		Object result) {
@@ -324,6 +540,8 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+
 	private static Log _log = LogFactoryUtil.getLog(EntityCacheImpl.class);
 
 	private static ThreadLocal<LRUMap> _localCache;
@@ -377,6 +595,49 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 	}
 
+	private static class EntityLoader implements PortalCacheLoader {
+
+		public EntityLoader(
+			Class<?> clazz, Serializable primaryKey,
+			SessionFactory sessionFactory) {
+
+			_clazz = clazz;
+			_primaryKey = primaryKey;
+			_sessionFactory = sessionFactory;
+		}
+
+		public Object load(Serializable key) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Load " + _clazz + " " + _primaryKey + " from session");
+			}
+
+			Session session = null;
+
+			try {
+				session = _sessionFactory.openSession();
+
+				_loadResult = session.load(_clazz, _primaryKey);
+			}
+			finally {
+				_sessionFactory.closeSession(session);
+			}
+
+			if (_loadResult == null) {
+				return StringPool.BLANK;
+			}
+			else {
+				return ((BaseModel<?>)_loadResult).toCacheModel();
+			}
+		}
+
+		private final Class<?> _clazz;
+		private Object _loadResult;
+		private final Serializable _primaryKey;
+		private final SessionFactory _sessionFactory;
+
+	}
+
 	private static class LocalCacheKey implements Serializable {
 
 		public LocalCacheKey(
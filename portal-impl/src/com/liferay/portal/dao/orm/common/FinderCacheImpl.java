@@ -22,6 +22,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCache;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
+import com.liferay.portal.kernel.dao.shard.ShardUtil;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
@@ -33,9 +34,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.collections.MapIterator;
 import org.apache.commons.collections.map.LRUMap;
 
 /**
@@ -90,7 +94,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 		Object primaryKey = null;
 
-		Map<Serializable, Object> localCache = null;
+		Map<Object, Object> localCache = null;
 
 		Serializable localCacheKey = null;
 
@@ -99,7 +103,12 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 			localCacheKey = finderPath.encodeLocalCacheKey(args);
 
-			primaryKey = localCache.get(localCacheKey);
+			LocalResult localResult = (LocalResult)localCache.get(
+				localCacheKey);
+
+			if (localResult != null) {
+				primaryKey = localResult.getResult();
+			}
 		}
 
 		if (primaryKey == null) {
@@ -110,11 +119,25 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 			primaryKey = portalCache.get(cacheKey);
 
-			if (primaryKey != null) {
-				if (_localCacheAvailable) {
-					localCache.put(localCacheKey, primaryKey);
+			if (primaryKey instanceof TaggedResult) {
+				TaggedResult taggedResult = (TaggedResult)primaryKey;
+
+				LocalTagKey localTagKey = new LocalTagKey(
+					finderPath.getCacheName(), _getTagKey(finderPath, args));
+
+				primaryKey = taggedResult.getResult(
+					_getTag(portalCache, localTagKey, false));
+
+				if ((primaryKey != null) && _localCacheAvailable) {
+					LocalResult localResult = new LocalResult(
+						primaryKey, localTagKey);
+
+					localCache.put(localCacheKey, localResult);
 				}
 			}
+			else {
+				primaryKey = null;
+			}
 		}
 
 		if (primaryKey != null) {
@@ -140,20 +163,26 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 		Object primaryKey = _resultToPrimaryKey(result);
 
+		PortalCache portalCache = _getPortalCache(
+			finderPath.getCacheName(), true);
+
+		LocalTagKey localTagKey = new LocalTagKey(
+			finderPath.getCacheName(), _getTagKey(finderPath, args));
+
+		Long tag = _getTag(portalCache, localTagKey, true);
+
 		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
+			Map<Object, Object> localCache = _localCache.get();
 
 			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
 
-			localCache.put(localCacheKey, primaryKey);
+			localCache.put(
+				localCacheKey, new LocalResult(primaryKey, localTagKey));
 		}
 
-		PortalCache portalCache = _getPortalCache(
-			finderPath.getCacheName(), true);
-
 		Serializable cacheKey = finderPath.encodeCacheKey(args);
 
-		portalCache.put(cacheKey, primaryKey);
+		portalCache.put(cacheKey, new TaggedResult(primaryKey, tag));
 	}
 
 	public void removeCache(String className) {
@@ -173,7 +202,7 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		}
 
 		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
+			Map<Object, Object> localCache = _localCache.get();
 
 			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
 
@@ -188,6 +217,41 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		portalCache.remove(cacheKey);
 	}
 
+	public void removeResults(FinderPath finderPath, Object[] args) {
+		if (!PropsValues.VALUE_OBJECT_FINDER_CACHE_ENABLED ||
+			!finderPath.isFinderCacheEnabled() ||
+			!CacheRegistryUtil.isActive()) {
+
+			return;
+		}
+
+		Serializable tagKey = _getTagKey(finderPath, args);
+
+		_removeLocalResults(
+			new LocalTagKey(finderPath.getCacheName(), tagKey));
+
+		PortalCache portalCache = _getPortalCache(
+			finderPath.getCacheName(), true);
+
+		portalCache.remove(tagKey);
+	}
+
+	public void removeUntaggedResults(String className) {
+		if (!PropsValues.VALUE_OBJECT_FINDER_CACHE_ENABLED ||
+			!CacheRegistryUtil.isActive()) {
+
+			return;
+		}
+
+		Serializable untaggedKey = _getUntaggedKey();
+
+		_removeLocalResults(new LocalTagKey(className, untaggedKey));
+
+		PortalCache portalCache = _getPortalCache(className, true);
+
+		portalCache.remove(untaggedKey);
+	}
+
 	public void setMultiVMPool(MultiVMPool multiVMPool) {
 		_multiVMPool = multiVMPool;
 	}
@@ -214,6 +278,78 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		return portalCache;
 	}
 
+	private Long _getTag(
+		PortalCache portalCache, LocalTagKey localTagKey,
+		boolean createIfAbsent) {
+
+		// The thread level cache keeps the tags it has seen, so only the
+		// first result of a tag looks up the tag in the portal cache
+
+		Map<Object, Object> localCache = null;
+
+		if (_localCacheAvailable) {
+			localCache = _localCache.get();
+
+			Long tag = (Long)localCache.get(localTagKey);
+
+			if (tag != null) {
+				return tag;
+			}
+		}
+
+		Serializable tagKey = localTagKey.getTagKey();
+
+		Long tag = (Long)portalCache.get(tagKey);
+
+		if ((tag == null) && createIfAbsent) {
+			tag = _tagCounter.incrementAndGet();
+
+			portalCache.put(tagKey, tag);
+		}
+
+		if ((tag != null) && _localCacheAvailable) {
+			localCache.put(localTagKey, tag);
+		}
+
+		return tag;
+	}
+
+	private Serializable _getTagKey(FinderPath finderPath, Object[] args) {
+		if (finderPath.getTagArgsCount() < 0) {
+			return _getUntaggedKey();
+		}
+
+		return finderPath.encodeTagKey(args);
+	}
+
+	private Serializable _getUntaggedKey() {
+		String shardName = ShardUtil.getCurrentShardName();
+
+		return shardName.concat(_UNTAGGED_KEY_SUFFIX);
+	}
+
+	private Map<Serializable, Object> _loadResults(
+		FinderPath finderPath, SessionFactory sessionFactory,
+		List<Object> primaryKeys) {
+
+		if ((primaryKeys.size() < 2) ||
+			!BaseModel.class.isAssignableFrom(finderPath.getResultClass())) {
+
+			return Collections.emptyMap();
+		}
+
+		List<Serializable> serializablePrimaryKeys =
+			new ArrayList<Serializable>(primaryKeys.size());
+
+		for (Object primaryKey : primaryKeys) {
+			serializablePrimaryKeys.add((Serializable)primaryKey);
+		}
+
+		return EntityCacheUtil.loadResults(
+			finderPath.isEntityCacheEnabled(), finderPath.getResultClass(),
+			serializablePrimaryKeys, sessionFactory);
+	}
+
 	private Object _primaryKeyToResult(
 		FinderPath finderPath, SessionFactory sessionFactory,
 		Object primaryKey) {
@@ -225,11 +361,18 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 				return Collections.emptyList();
 			}
 
+			Map<Serializable, Object> results = _loadResults(
+				finderPath, sessionFactory, cachedList);
+
 			List<Object> list = new ArrayList<Object>(cachedList.size());
 
 			for (Object curPrimaryKey : cachedList) {
-				Object result = _primaryKeyToResult(
-					finderPath, sessionFactory, curPrimaryKey);
+				Object result = results.get(curPrimaryKey);
+
+				if (result == null) {
+					result = _primaryKeyToResult(
+						finderPath, sessionFactory, curPrimaryKey);
+				}
 
 				list.add(result);
 			}
@@ -248,6 +391,32 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		}
 	}
 
+	private void _removeLocalResults(LocalTagKey localTagKey) {
+		if (!_localCacheAvailable) {
+			return;
+		}
+
+		LRUMap localCache = _localCache.get();
+
+		localCache.remove(localTagKey);
+
+		MapIterator mapIterator = localCache.mapIterator();
+
+		while (mapIterator.hasNext()) {
+			mapIterator.next();
+
+			Object value = mapIterator.getValue();
+
+			if (value instanceof LocalResult) {
+				LocalResult localResult = (LocalResult)value;
+
+				if (localTagKey.equals(localResult.getLocalTagKey())) {
+					mapIterator.remove();
+				}
+			}
+		}
+	}
+
 	private Object _resultToPrimaryKey(Object result) {
 		if (result instanceof BaseModel<?>) {
 			BaseModel<?> model = (BaseModel<?>)result;
@@ -279,8 +448,12 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
+	private static final String _UNTAGGED_KEY_SUFFIX = "._U_";
+
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
+	private static AtomicLong _tagCounter = new AtomicLong(
+		new Random().nextLong());
 
 	static {
 		if (PropsValues.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
@@ -297,4 +470,83 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	private ConcurrentMap<String, PortalCache> _portalCaches =
 		new ConcurrentHashMap<String, PortalCache>();
 
+	private static class LocalResult {
+
+		public LocalResult(Object result, LocalTagKey localTagKey) {
+			_result = result;
+			_localTagKey = localTagKey;
+		}
+
+		public LocalTagKey getLocalTagKey() {
+			return _localTagKey;
+		}
+
+		public Object getResult() {
+			return _result;
+		}
+
+		private LocalTagKey _localTagKey;
+		private Object _result;
+
+	}
+
+	private static class LocalTagKey {
+
+		public LocalTagKey(String cacheName, Serializable tagKey) {
+			_cacheName = cacheName;
+			_tagKey = tagKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof LocalTagKey)) {
+				return false;
+			}
+
+			LocalTagKey localTagKey = (LocalTagKey)obj;
+
+			return _cacheName.equals(localTagKey._cacheName) &&
+				_tagKey.equals(localTagKey._tagKey);
+		}
+
+		public Serializable getTagKey() {
+			return _tagKey;
+		}
+
+		@Override
+		public int hashCode() {
+			return _cacheName.hashCode() * 31 + _tagKey.hashCode();
+		}
+
+		private String _cacheName;
+		private Serializable _tagKey;
+
+	}
+
+	private static class TaggedResult implements Serializable {
+
+		public TaggedResult(Object result, Long tag) {
+			_result = result;
+			_tag = tag;
+		}
+
+		public Object getResult(Long tag) {
+			if (_tag.equals(tag)) {
+				return _result;
+			}
+
+			return null;
+		}
+
+		private static final long serialVersionUID = 1L;
+
+		private Object _result;
+		private Long _tag;
+
+	}
+
 }
\ No newline at end of file
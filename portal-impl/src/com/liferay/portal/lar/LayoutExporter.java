@@ -15,6 +15,9 @@
 package com.liferay.portal.lar;
 
 import com.liferay.portal.NoSuchLayoutException;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.lar.ImportExportThreadLocal;
 import com.liferay.portal.kernel.lar.PortletDataContext;
 import com.liferay.portal.kernel.lar.PortletDataHandler;
@@ -26,6 +29,7 @@ import com.liferay.portal.kernel.staging.LayoutStagingUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.KeyValuePair;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
@@ -52,6 +56,7 @@ import com.liferay.portal.model.LayoutSet;
 import com.liferay.portal.model.LayoutSetPrototype;
 import com.liferay.portal.model.LayoutStagingHandler;
 import com.liferay.portal.model.LayoutTypePortlet;
+import com.liferay.portal.model.Lock;
 import com.liferay.portal.model.Portlet;
 import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.model.Theme;
@@ -76,25 +81,43 @@ import com.liferay.portlet.asset.model.AssetCategory;
 import com.liferay.portlet.asset.model.AssetVocabulary;
 import com.liferay.portlet.asset.service.AssetVocabularyLocalServiceUtil;
 import com.liferay.portlet.asset.service.persistence.AssetCategoryUtil;
+import com.liferay.portlet.expando.model.ExpandoColumn;
 import com.liferay.portlet.journal.NoSuchArticleException;
 import com.liferay.portlet.journal.lar.JournalPortletDataHandlerImpl;
 import com.liferay.portlet.journal.model.JournalArticle;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
+import com.liferay.portlet.messageboards.model.MBMessage;
+import com.liferay.portlet.ratings.model.RatingsEntry;
 import com.liferay.util.ContentUtil;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.ServletContext;
 
 import org.apache.commons.lang.time.StopWatch;
 
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 /**
  * @author Brian Wing Shun Chan
  * @author Joel Kozikowski
@@ -284,8 +307,8 @@ public class LayoutExporter {
 		ZipWriter zipWriter = ZipWriterFactoryUtil.getZipWriter();
 
 		PortletDataContext portletDataContext = new PortletDataContextImpl(
-			companyId, groupId, parameterMap, new HashSet<String>(), startDate,
-			endDate, zipWriter);
+			companyId, groupId, parameterMap, new ConcurrentHashSet<String>(),
+			startDate, endDate, zipWriter);
 
 		portletDataContext.setPortetDataContextListener(
 			new PortletDataContextListenerImpl(portletDataContext));
@@ -442,47 +465,24 @@ public class LayoutExporter {
 
 		Element portletsElement = rootElement.addElement("portlets");
 
-		for (Map.Entry<String, Object[]> portletIdsEntry :
-				portletIds.entrySet()) {
-
-			Object[] portletObjects = portletIdsEntry.getValue();
-
-			String portletId = null;
-			long plid = 0;
-			long scopeGroupId = 0;
-			String scopeType = StringPool.BLANK;
-			String scopeLayoutUuid = null;
-
-			if (portletObjects.length == 4) {
-				portletId = (String)portletIdsEntry.getValue()[0];
-				plid = (Long)portletIdsEntry.getValue()[1];
-				scopeGroupId = (Long)portletIdsEntry.getValue()[2];
-				scopeLayoutUuid = (String)portletIdsEntry.getValue()[3];
-			}
-			else {
-				portletId = (String)portletIdsEntry.getValue()[0];
-				plid = (Long)portletIdsEntry.getValue()[1];
-				scopeGroupId = (Long)portletIdsEntry.getValue()[2];
-				scopeType = (String)portletIdsEntry.getValue()[3];
-				scopeLayoutUuid = (String)portletIdsEntry.getValue()[4];
-			}
-
-			Layout layout = LayoutLocalServiceUtil.getLayout(plid);
+		if (PropsValues.LAYOUT_PARALLEL_EXPORT_ENABLE &&
+			(portletIds.size() > 1) &&
+			!TransactionSynchronizationManager.isActualTransactionActive()) {
 
-			portletDataContext.setPlid(layout.getPlid());
-			portletDataContext.setOldPlid(layout.getPlid());
-			portletDataContext.setScopeGroupId(scopeGroupId);
-			portletDataContext.setScopeType(scopeType);
-			portletDataContext.setScopeLayoutUuid(scopeLayoutUuid);
+			// Executor threads do not join the current transaction, so they
+			// would neither see its changes nor wait for its locks to be
+			// released
 
-			boolean[] exportPortletControls = getExportPortletControls(
-				companyId, portletId, portletDataContext, parameterMap);
-
-			_portletExporter.exportPortlet(
-				portletDataContext, layoutCache, portletId, layout,
+			exportPortletsInParallel(
+				portletDataContext, portletIds.values(), portletsElement,
+				defaultUserId, exportPermissions, exportPortletArchivedSetups,
+				exportPortletUserPreferences);
+		}
+		else {
+			exportPortlets(
+				portletDataContext, layoutCache, portletIds.values(),
 				portletsElement, defaultUserId, exportPermissions,
-				exportPortletArchivedSetups, exportPortletControls[0],
-				exportPortletControls[1], exportPortletUserPreferences);
+				exportPortletArchivedSetups, exportPortletUserPreferences);
 		}
 
 		portletDataContext.setScopeGroupId(previousScopeGroupId);
@@ -863,6 +863,212 @@ public class LayoutExporter {
 		portletDataContext.addZipEntry(path, layout);
 	}
 
+	protected void exportPortlets(
+			PortletDataContext portletDataContext, LayoutCache layoutCache,
+			Collection<Object[]> portletObjectsList, Element portletsElement,
+			long defaultUserId, boolean exportPermissions,
+			boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences)
+		throws Exception {
+
+		for (Object[] portletObjects : portletObjectsList) {
+			String portletId = null;
+			long plid = 0;
+			long scopeGroupId = 0;
+			String scopeType = StringPool.BLANK;
+			String scopeLayoutUuid = null;
+
+			if (portletObjects.length == 4) {
+				portletId = (String)portletObjects[0];
+				plid = (Long)portletObjects[1];
+				scopeGroupId = (Long)portletObjects[2];
+				scopeLayoutUuid = (String)portletObjects[3];
+			}
+			else {
+				portletId = (String)portletObjects[0];
+				plid = (Long)portletObjects[1];
+				scopeGroupId = (Long)portletObjects[2];
+				scopeType = (String)portletObjects[3];
+				scopeLayoutUuid = (String)portletObjects[4];
+			}
+
+			Layout layout = LayoutLocalServiceUtil.getLayout(plid);
+
+			portletDataContext.setPlid(layout.getPlid());
+			portletDataContext.setOldPlid(layout.getPlid());
+			portletDataContext.setScopeGroupId(scopeGroupId);
+			portletDataContext.setScopeType(scopeType);
+			portletDataContext.setScopeLayoutUuid(scopeLayoutUuid);
+
+			boolean[] exportPortletControls = getExportPortletControls(
+				portletDataContext.getCompanyId(), portletId,
+				portletDataContext, portletDataContext.getParameterMap());
+
+			_portletExporter.exportPortlet(
+				portletDataContext, layoutCache, portletId, layout,
+				portletsElement, defaultUserId, exportPermissions,
+				exportPortletArchivedSetups, exportPortletControls[0],
+				exportPortletControls[1], exportPortletUserPreferences);
+		}
+	}
+
+	protected void exportPortletsInParallel(
+			PortletDataContext portletDataContext,
+			Collection<Object[]> portletObjectsList, Element portletsElement,
+			long defaultUserId, boolean exportPermissions,
+			boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences)
+		throws Exception {
+
+		// Instances of one portlet share data keys and paths, so one task
+		// exports all of them in their original order
+
+		Map<String, List<Object[]>> portletObjectsMap =
+			new LinkedHashMap<String, List<Object[]>>();
+
+		for (Object[] portletObjects : portletObjectsList) {
+			String portletId = (String)portletObjects[0];
+
+			List<Object[]> curPortletObjectsList = portletObjectsMap.get(
+				portletId);
+
+			if (curPortletObjectsList == null) {
+				curPortletObjectsList = new ArrayList<Object[]>();
+
+				portletObjectsMap.put(portletId, curPortletObjectsList);
+			}
+
+			curPortletObjectsList.add(portletObjects);
+		}
+
+		ExecutorService executorService =
+			PortalExecutorManagerUtil.getPortalExecutor(
+				LayoutExporter.class.getName());
+
+		Map<String, PortletExporterTask> portletExporterTasks =
+			new LinkedHashMap<String, PortletExporterTask>();
+		BlockingQueue<PortletExporterTask> doneExporterTasks =
+			new LinkedBlockingQueue<PortletExporterTask>();
+
+		for (String portletId : portletObjectsMap.keySet()) {
+			PortletDataContext curPortletDataContext =
+				new PortletDataContextImpl(
+					portletDataContext.getCompanyId(),
+					portletDataContext.getGroupId(),
+					portletDataContext.getParameterMap(),
+					portletDataContext.getPrimaryKeys(),
+					portletDataContext.getStartDate(),
+					portletDataContext.getEndDate(),
+					portletDataContext.getZipWriter());
+
+			curPortletDataContext.setPortetDataContextListener(
+				new PortletDataContextListenerImpl(curPortletDataContext));
+
+			PortletExporterTask portletExporterTask = new PortletExporterTask(
+				new PortletExporterCallable(
+					curPortletDataContext, portletObjectsMap.get(portletId),
+					defaultUserId, exportPermissions,
+					exportPortletArchivedSetups, exportPortletUserPreferences),
+				doneExporterTasks);
+
+			try {
+				executorService.execute(portletExporterTask);
+			}
+			catch (RejectedExecutionException ree) {
+
+				// The current thread exports the portlet below
+
+			}
+
+			portletExporterTasks.put(portletId, portletExporterTask);
+		}
+
+		// Export the portlets that no executor thread has picked up yet on
+		// the current thread instead of waiting for them in the queue
+
+		for (PortletExporterTask portletExporterTask :
+				portletExporterTasks.values()) {
+
+			portletExporterTask.runInline();
+		}
+
+		boolean exported = false;
+
+		try {
+
+			// Check the portlets as they finish so that the first failure
+			// stops the others right away
+
+			for (int i = 0; i < portletExporterTasks.size(); i++) {
+				PortletExporterTask portletExporterTask =
+					doneExporterTasks.take();
+
+				portletExporterTask.get();
+			}
+
+			exported = true;
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof Exception) {
+				throw (Exception)cause;
+			}
+
+			throw ee;
+		}
+		finally {
+			if (!exported) {
+
+				// Stop the other portlets since the export fails anyway, and
+				// wait for the running ones so that none of them writes to the
+				// archive after the failure
+
+				for (PortletExporterTask portletExporterTask :
+						portletExporterTasks.values()) {
+
+					portletExporterTask.cancel(true);
+				}
+
+				for (PortletExporterTask portletExporterTask :
+						portletExporterTasks.values()) {
+
+					portletExporterTask.awaitTermination();
+				}
+			}
+		}
+
+		Map<String, Iterator<Element>> portletsElementsIterators =
+			new HashMap<String, Iterator<Element>>();
+
+		for (String portletId : portletExporterTasks.keySet()) {
+			PortletExporterTask portletExporterTask = portletExporterTasks.get(
+				portletId);
+
+			PortletExporterCallable portletExporterCallable =
+				portletExporterTask.getPortletExporterCallable();
+
+			mergePortletDataContext(
+				portletDataContext,
+				portletExporterCallable.getPortletDataContext());
+
+			List<Element> portletsElements =
+				portletExporterCallable.getPortletsElements();
+
+			portletsElementsIterators.put(
+				portletId, portletsElements.iterator());
+		}
+
+		// Append the exported portlets in the order of a sequential export
+
+		for (Object[] portletObjects : portletObjectsList) {
+			Iterator<Element> portletsElementsIterator =
+				portletsElementsIterators.get((String)portletObjects[0]);
+
+			portletsElement.appendContent(portletsElementsIterator.next());
+		}
+	}
+
 	protected void exportTheme(LayoutSet layoutSet, ZipWriter zipWriter)
 		throws Exception {
 
@@ -896,9 +1102,7 @@ public class LayoutExporter {
 			return;
 		}
 
-		File themeZip = new File(zipWriter.getPath() + "/theme.zip");
-
-		ZipWriter themeZipWriter = ZipWriterFactoryUtil.getZipWriter(themeZip);
+		ZipWriter themeZipWriter = ZipWriterFactoryUtil.getZipWriter();
 
 		themeZipWriter.addEntry("liferay-look-and-feel.xml", lookAndFeelXML);
 
@@ -940,6 +1144,19 @@ public class LayoutExporter {
 		exportThemeFiles("images", imagesPath, themeZipWriter);
 		exportThemeFiles("javascript", javaScriptPath, themeZipWriter);
 		exportThemeFiles("templates", templatesPath, themeZipWriter);
+
+		File themeZip = themeZipWriter.getFile();
+
+		InputStream inputStream = new FileInputStream(themeZip);
+
+		try {
+			zipWriter.addEntry("theme.zip", inputStream);
+		}
+		finally {
+			inputStream.close();
+
+			themeZip.delete();
+		}
 	}
 
 	protected void exportThemeFiles(String path, File dir, ZipWriter zipWriter)
@@ -1122,9 +1339,203 @@ public class LayoutExporter {
 		return sb.toString();
 	}
 
+	protected void mergePortletDataContext(
+		PortletDataContext portletDataContext,
+		PortletDataContext curPortletDataContext) {
+
+		Map<String, long[]> assetCategoryIdsMap =
+			portletDataContext.getAssetCategoryIdsMap();
+
+		assetCategoryIdsMap.putAll(
+			curPortletDataContext.getAssetCategoryIdsMap());
+
+		Map<String, String[]> assetCategoryUuidsMap =
+			portletDataContext.getAssetCategoryUuidsMap();
+
+		assetCategoryUuidsMap.putAll(
+			curPortletDataContext.getAssetCategoryUuidsMap());
+
+		Map<String, String[]> assetLinkUuidsMap =
+			portletDataContext.getAssetLinkUuidsMap();
+
+		assetLinkUuidsMap.putAll(curPortletDataContext.getAssetLinkUuidsMap());
+
+		Map<String, String[]> assetTagNamesMap =
+			portletDataContext.getAssetTagNamesMap();
+
+		assetTagNamesMap.putAll(curPortletDataContext.getAssetTagNamesMap());
+
+		Map<String, List<MBMessage>> comments =
+			portletDataContext.getComments();
+
+		comments.putAll(curPortletDataContext.getComments());
+
+		Map<String, List<ExpandoColumn>> expandoColumns =
+			portletDataContext.getExpandoColumns();
+
+		expandoColumns.putAll(curPortletDataContext.getExpandoColumns());
+
+		Map<String, Lock> locks = portletDataContext.getLocks();
+
+		locks.putAll(curPortletDataContext.getLocks());
+
+		Map<String, List<KeyValuePair>> permissions =
+			portletDataContext.getPermissions();
+
+		permissions.putAll(curPortletDataContext.getPermissions());
+
+		Map<String, List<RatingsEntry>> ratingsEntries =
+			portletDataContext.getRatingsEntries();
+
+		ratingsEntries.putAll(curPortletDataContext.getRatingsEntries());
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(LayoutExporter.class);
 
 	private PermissionExporter _permissionExporter = new PermissionExporter();
 	private PortletExporter _portletExporter = new PortletExporter();
 
-}
\ No newline at end of file
+	private class PortletExporterCallable
+		extends CopyThreadLocalCallable<Void> {
+
+		public PortletExporterCallable(
+			PortletDataContext portletDataContext,
+			List<Object[]> portletObjectsList, long defaultUserId,
+			boolean exportPermissions, boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences) {
+
+			super(false, true);
+
+			_portletDataContext = portletDataContext;
+			_portletObjectsList = portletObjectsList;
+			_defaultUserId = defaultUserId;
+			_exportPermissions = exportPermissions;
+			_exportPortletArchivedSetups = exportPortletArchivedSetups;
+			_exportPortletUserPreferences = exportPortletUserPreferences;
+		}
+
+		@Override
+		public Void doCall() throws Exception {
+			export();
+
+			return null;
+		}
+
+		public void export() throws Exception {
+			LayoutCache layoutCache = new LayoutCache();
+
+			for (Object[] portletObjects : _portletObjectsList) {
+				Thread currentThread = Thread.currentThread();
+
+				if (currentThread.isInterrupted()) {
+					throw new InterruptedException();
+				}
+
+				// Each portlet gets its own element so that the portlets can
+				// be merged back in their original order
+
+				Document document = SAXReaderUtil.createDocument();
+
+				Element portletsElement = document.addElement("portlets");
+
+				exportPortlets(
+					_portletDataContext, layoutCache,
+					Collections.singletonList(portletObjects), portletsElement,
+					_defaultUserId, _exportPermissions,
+					_exportPortletArchivedSetups,
+					_exportPortletUserPreferences);
+
+				_portletsElements.add(portletsElement);
+			}
+		}
+
+		public PortletDataContext getPortletDataContext() {
+			return _portletDataContext;
+		}
+
+		public List<Element> getPortletsElements() {
+			return _portletsElements;
+		}
+
+		private long _defaultUserId;
+		private boolean _exportPermissions;
+		private boolean _exportPortletArchivedSetups;
+		private boolean _exportPortletUserPreferences;
+		private PortletDataContext _portletDataContext;
+		private List<Object[]> _portletObjectsList;
+		private List<Element> _portletsElements = new ArrayList<Element>();
+
+	}
+
+	private class PortletExporterTask extends FutureTask<Void> {
+
+		public PortletExporterTask(
+			PortletExporterCallable portletExporterCallable,
+			BlockingQueue<PortletExporterTask> doneExporterTasks) {
+
+			super(portletExporterCallable);
+
+			_portletExporterCallable = portletExporterCallable;
+			_doneExporterTasks = doneExporterTasks;
+		}
+
+		public void awaitTermination() throws InterruptedException {
+
+			// A task that no thread has claimed yet is never run afterwards
+
+			if (_claimed.compareAndSet(false, true)) {
+				return;
+			}
+
+			_countDownLatch.await();
+		}
+
+		public PortletExporterCallable getPortletExporterCallable() {
+			return _portletExporterCallable;
+		}
+
+		@Override
+		public void run() {
+			if (!_claimed.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				super.run();
+			}
+			finally {
+				_countDownLatch.countDown();
+			}
+		}
+
+		public void runInline() {
+			if (!_claimed.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				_portletExporterCallable.export();
+
+				set(null);
+			}
+			catch (Throwable t) {
+				setException(t);
+			}
+			finally {
+				_countDownLatch.countDown();
+			}
+		}
+
+		@Override
+		protected void done() {
+			_doneExporterTasks.add(this);
+		}
+
+		private AtomicBoolean _claimed = new AtomicBoolean();
+		private CountDownLatch _countDownLatch = new CountDownLatch(1);
+		private BlockingQueue<PortletExporterTask> _doneExporterTasks;
+		private PortletExporterCallable _portletExporterCallable;
+
+	}
+
+}
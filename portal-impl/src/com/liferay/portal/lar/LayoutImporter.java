@@ -26,14 +26,17 @@ import com.liferay.portal.kernel.cluster.ClusterExecutorUtil;
 import com.liferay.portal.kernel.cluster.ClusterRequest;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.lar.ImportExportThreadLocal;
 import com.liferay.portal.kernel.lar.PortletDataContext;
 import com.liferay.portal.kernel.lar.PortletDataHandlerKeys;
 import com.liferay.portal.kernel.lar.UserIdStrategy;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.IndexWriterBatchUtil;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchException;
 import com.liferay.portal.kernel.staging.StagingUtil;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CharPool;
@@ -140,6 +143,8 @@ public class LayoutImporter {
 		try {
 			ImportExportThreadLocal.setLayoutImportInProcess(true);
 
+			IndexWriterBatchUtil.begin();
+
 			doImportLayouts(userId, groupId, privateLayout, parameterMap, file);
 		}
 		finally {
@@ -148,6 +153,13 @@ public class LayoutImporter {
 			CacheUtil.clearCache();
 			JournalContentUtil.clearCache();
 			PermissionCacheUtil.clearCache();
+
+			try {
+				IndexWriterBatchUtil.end();
+			}
+			catch (SearchException se) {
+				_log.error("Unable to index the imported documents", se);
+			}
 		}
 	}
 
@@ -291,14 +303,20 @@ public class LayoutImporter {
 		UserIdStrategy strategy = _portletImporter.getUserIdStrategy(
 			user, userIdStrategy);
 
-		ZipReader zipReader = ZipReaderFactoryUtil.getZipReader(file);
+		PrefetchZipReader zipReader = new PrefetchZipReader(
+			ZipReaderFactoryUtil.getZipReader(file),
+			PortalExecutorManagerUtil.getPortalExecutor(
+				LayoutImporter.class.getName()));
 
 		PortletDataContext portletDataContext = new PortletDataContextImpl(
 			companyId, groupId, parameterMap, new HashSet<String>(), strategy,
 			zipReader);
 
+		PortletDataContextListenerImpl portletDataContextListener =
+			new PortletDataContextListenerImpl(portletDataContext);
+
 		portletDataContext.setPortetDataContextListener(
-			new PortletDataContextListenerImpl(portletDataContext));
+			portletDataContextListener);
 
 		portletDataContext.setPrivateLayout(privateLayout);
 
@@ -626,38 +644,35 @@ public class LayoutImporter {
 			}
 		}
 
-		for (Element portletElement : portletElements) {
-			String portletPath = portletElement.attributeValue("path");
-			String portletId = portletElement.attributeValue("portlet-id");
-			long layoutId = GetterUtil.getLong(
-				portletElement.attributeValue("layout-id"));
-			long plid = newLayoutsMap.get(layoutId).getPlid();
-			long oldPlid = GetterUtil.getLong(
-				portletElement.attributeValue("old-plid"));
+		List<Object[]> portletImports = getPortletImports(
+			portletDataContext, zipReader, newLayoutsMap, portletElements);
 
-			Portlet portlet = PortletLocalServiceUtil.getPortletById(
-				portletDataContext.getCompanyId(), portletId);
+		long portletsStartTime = System.currentTimeMillis();
+		int portletsImportCount = portletDataContextListener.getImportCount();
 
-			if (!portlet.isActive() || portlet.isUndeployedPortlet()) {
-				continue;
+		for (int i = 0; i < portletImports.size(); i++) {
+			if (importPortletData &&
+				(PropsValues.LAYOUT_IMPORT_PREFETCH_SIZE > 0)) {
+
+				prefetchPortletData(
+					zipReader, portletImports, i,
+					i + PropsValues.LAYOUT_IMPORT_PREFETCH_SIZE);
 			}
 
-			Layout layout = null;
+			Object[] portletImport = portletImports.get(i);
 
-			try {
-				layout = LayoutUtil.findByPrimaryKey(plid);
-			}
-			catch (NoSuchLayoutException nsle) {
-				continue;
-			}
+			String portletId = (String)portletImport[0];
+			Layout layout = (Layout)portletImport[1];
+			long oldPlid = (Long)portletImport[2];
+			Element portletElement = (Element)portletImport[3];
 
-			portletDataContext.setPlid(plid);
-			portletDataContext.setOldPlid(oldPlid);
+			long plid = layout.getPlid();
 
-			Document portletDocument = SAXReaderUtil.read(
-				portletDataContext.getZipEntryAsString(portletPath));
+			long startTime = System.currentTimeMillis();
+			int importCount = portletDataContextListener.getImportCount();
 
-			portletElement = portletDocument.getRootElement();
+			portletDataContext.setPlid(plid);
+			portletDataContext.setOldPlid(oldPlid);
 
 			// The order of the import is important. You must always import
 			// the portlet preferences first, then the portlet data, then
@@ -667,6 +682,9 @@ public class LayoutImporter {
 			_portletImporter.setPortletScope(
 				portletDataContext, portletElement);
 
+			Element portletDataElement = portletElement.element(
+				"portlet-data");
+
 			try {
 
 				// Portlet preferences
@@ -679,9 +697,6 @@ public class LayoutImporter {
 
 				// Portlet data
 
-				Element portletDataElement = portletElement.element(
-					"portlet-data");
-
 				if (importPortletData && (portletDataElement != null)) {
 					_portletImporter.importPortletData(
 						portletDataContext, portletId, plid,
@@ -691,6 +706,10 @@ public class LayoutImporter {
 			finally {
 				_portletImporter.resetPortletScope(
 					portletDataContext, layout.getGroupId());
+
+				if (portletDataElement != null) {
+					zipReader.cancel(portletDataElement.attributeValue("path"));
+				}
 			}
 
 			// Portlet permissions
@@ -708,6 +727,32 @@ public class LayoutImporter {
 				null, portletElement, importPortletSetup,
 				importPortletArchivedSetups, importPortletUserPreferences,
 				false);
+
+			if (_log.isInfoEnabled()) {
+				long time = System.currentTimeMillis() - startTime;
+
+				importCount =
+					portletDataContextListener.getImportCount() - importCount;
+
+				_log.info(
+					"Importing portlet " + portletId + " on layout " + plid +
+						" (" + (i + 1) + " of " + portletImports.size() +
+							") takes " + time + " ms and reads " +
+								importCount + " entries");
+			}
+		}
+
+		if (_log.isInfoEnabled() && !portletImports.isEmpty()) {
+			long time = System.currentTimeMillis() - portletsStartTime;
+			int importCount =
+				portletDataContextListener.getImportCount() -
+					portletsImportCount;
+
+			_log.info(
+				"Importing " + portletImports.size() + " portlets takes " +
+					time + " ms and reads " + importCount + " entries (" +
+						(importCount * Time.SECOND / Math.max(time, 1)) +
+							" entries per second)");
 		}
 
 		if (importPermissions) {
@@ -828,6 +873,60 @@ public class LayoutImporter {
 		return sb.toString();
 	}
 
+	protected List<Object[]> getPortletImports(
+			PortletDataContext portletDataContext,
+			PrefetchZipReader zipReader, Map<Long, Layout> newLayoutsMap,
+			List<Element> portletElements)
+		throws Exception {
+
+		List<Object[]> portletImports = new ArrayList<Object[]>();
+
+		for (Element portletElement : portletElements) {
+			String portletId = portletElement.attributeValue("portlet-id");
+			long layoutId = GetterUtil.getLong(
+				portletElement.attributeValue("layout-id"));
+			long plid = newLayoutsMap.get(layoutId).getPlid();
+			long oldPlid = GetterUtil.getLong(
+				portletElement.attributeValue("old-plid"));
+
+			Portlet portlet = PortletLocalServiceUtil.getPortletById(
+				portletDataContext.getCompanyId(), portletId);
+
+			if (!portlet.isActive() || portlet.isUndeployedPortlet()) {
+				continue;
+			}
+
+			Layout layout = LayoutUtil.fetchByPrimaryKey(plid);
+
+			if (layout == null) {
+				continue;
+			}
+
+			String portletPath = portletElement.attributeValue("path");
+
+			if (PropsValues.LAYOUT_IMPORT_PREFETCH_SIZE > 0) {
+				zipReader.prefetch(portletPath);
+			}
+
+			portletImports.add(
+				new Object[] {portletId, layout, oldPlid, portletPath});
+		}
+
+		// Read every portlet document before the first portlet is imported so
+		// that the paths of the portlet data are known in advance
+
+		for (Object[] portletImport : portletImports) {
+			String portletPath = (String)portletImport[3];
+
+			Document portletDocument = SAXReaderUtil.read(
+				portletDataContext.getZipEntryAsString(portletPath));
+
+			portletImport[3] = portletDocument.getRootElement();
+		}
+
+		return portletImports;
+	}
+
 	protected void importJournalArticle(
 			PortletDataContext portletDataContext, Layout layout,
 			Element layoutElement)
@@ -1489,6 +1588,25 @@ public class LayoutImporter {
 		}
 	}
 
+	protected void prefetchPortletData(
+		PrefetchZipReader zipReader, List<Object[]> portletImports, int start,
+		int end) {
+
+		end = Math.min(end, portletImports.size() - 1);
+
+		for (int i = start; i <= end; i++) {
+			Object[] portletImport = portletImports.get(i);
+
+			Element portletElement = (Element)portletImport[3];
+
+			Element portletDataElement = portletElement.element("portlet-data");
+
+			if (portletDataElement != null) {
+				zipReader.prefetch(portletDataElement.attributeValue("path"));
+			}
+		}
+	}
+
 	protected void validateLayoutPrototypes(
 			long companyId, Element layoutsElement,
 			List<Element> layoutElements)
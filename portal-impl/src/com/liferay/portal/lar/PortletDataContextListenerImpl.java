@@ -19,6 +19,8 @@ import com.liferay.portal.kernel.lar.PortletDataContextListener;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Raymond Augé
  */
@@ -29,6 +31,10 @@ public class PortletDataContextListenerImpl
 		PortletDataContext portletDataContext) {
 	}
 
+	public int getImportCount() {
+		return _importCount.get();
+	}
+
 	public void onAddZipEntry(String path) {
 		if (_log.isInfoEnabled()) {
 			_log.info("Export " + path);
@@ -36,6 +42,8 @@ public class PortletDataContextListenerImpl
 	}
 
 	public void onGetZipEntry(String path) {
+		_importCount.incrementAndGet();
+
 		if (_log.isInfoEnabled()) {
 			_log.info("Import " + path);
 		}
@@ -44,4 +52,6 @@ public class PortletDataContextListenerImpl
 	private static Log _log = LogFactoryUtil.getLog(
 		PortletDataContextListenerImpl.class);
 
+	private AtomicInteger _importCount = new AtomicInteger();
+
 }
\ No newline at end of file
@@ -28,8 +28,10 @@ import com.liferay.portal.kernel.lar.PortletDataHandlerKeys;
 import com.liferay.portal.kernel.lar.UserIdStrategy;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.IndexWriterBatchUtil;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchException;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
@@ -132,6 +134,8 @@ public class PortletImporter {
 		try {
 			ImportExportThreadLocal.setPortletImportInProcess(true);
 
+			IndexWriterBatchUtil.begin();
+
 			doImportPortletInfo(
 				userId, plid, groupId, portletId, parameterMap, file);
 		}
@@ -141,6 +145,13 @@ public class PortletImporter {
 			CacheUtil.clearCache();
 			JournalContentUtil.clearCache();
 			PermissionCacheUtil.clearCache();
+
+			try {
+				IndexWriterBatchUtil.end();
+			}
+			catch (SearchException se) {
+				_log.error("Unable to index the imported documents", se);
+			}
 		}
 	}
 
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.lar;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.zip.ZipReader;
+
+import java.io.InputStream;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Reads zip entries ahead of time on the threads of an executor.
+ *
+ * <p>
+ * Each prefetched entry is handed out once and then forgotten, so the caller
+ * bounds the memory used by choosing how far ahead to prefetch. An entry that
+ * is requested before a thread picks it up is read by the requesting thread.
+ * </p>
+ */
+public class PrefetchZipReader implements ZipReader {
+
+	public PrefetchZipReader(
+		ZipReader zipReader, ExecutorService executorService) {
+
+		_zipReader = zipReader;
+		_executorService = executorService;
+	}
+
+	public void cancel(String name) {
+		if (Validator.isNull(name)) {
+			return;
+		}
+
+		FutureTask<byte[]> futureTask = _futureTasks.remove(getKey(name));
+
+		if (futureTask != null) {
+			futureTask.cancel(false);
+		}
+	}
+
+	public void close() {
+		for (FutureTask<byte[]> futureTask : _futureTasks.values()) {
+			futureTask.cancel(false);
+		}
+
+		_futureTasks.clear();
+
+		_zipReader.close();
+	}
+
+	public List<String> getEntries() {
+		return _zipReader.getEntries();
+	}
+
+	public byte[] getEntryAsByteArray(String name) {
+		if (Validator.isNull(name)) {
+			return null;
+		}
+
+		FutureTask<byte[]> futureTask = _futureTasks.remove(getKey(name));
+
+		if (futureTask == null) {
+			return _zipReader.getEntryAsByteArray(name);
+		}
+
+		futureTask.run();
+
+		try {
+			return futureTask.get();
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+		catch (ExecutionException ee) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to prefetch " + name, ee.getCause());
+			}
+		}
+
+		return _zipReader.getEntryAsByteArray(name);
+	}
+
+	public InputStream getEntryAsInputStream(String name) {
+		return _zipReader.getEntryAsInputStream(name);
+	}
+
+	public String getEntryAsString(String name) {
+		byte[] bytes = getEntryAsByteArray(name);
+
+		if (bytes != null) {
+			return new String(bytes);
+		}
+
+		return null;
+	}
+
+	public List<String> getFolderEntries(String path) {
+		return _zipReader.getFolderEntries(path);
+	}
+
+	public void prefetch(final String name) {
+		if (Validator.isNull(name)) {
+			return;
+		}
+
+		FutureTask<byte[]> futureTask = new FutureTask<byte[]>(
+			new Callable<byte[]>() {
+
+				public byte[] call() {
+					return _zipReader.getEntryAsByteArray(name);
+				}
+
+			});
+
+		if (_futureTasks.putIfAbsent(getKey(name), futureTask) != null) {
+			return;
+		}
+
+		try {
+			_executorService.submit(futureTask);
+		}
+		catch (RejectedExecutionException ree) {
+
+			// The entry is read by the thread that requests it
+
+		}
+	}
+
+	protected String getKey(String name) {
+		if (name.startsWith(StringPool.SLASH)) {
+			return name.substring(1);
+		}
+
+		return name;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(PrefetchZipReader.class);
+
+	private ExecutorService _executorService;
+	private ConcurrentMap<String, FutureTask<byte[]>> _futureTasks =
+		new ConcurrentHashMap<String, FutureTask<byte[]>>();
+	private ZipReader _zipReader;
+
+}
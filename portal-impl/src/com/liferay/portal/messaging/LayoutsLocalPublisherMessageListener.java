@@ -20,13 +20,17 @@ import com.liferay.portal.kernel.messaging.MessageStatus;
 import com.liferay.portal.kernel.messaging.sender.MessageSender;
 import com.liferay.portal.kernel.messaging.sender.SingleDestinationMessageSender;
 import com.liferay.portal.kernel.staging.StagingUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.UnicodeProperties;
+import com.liferay.portal.model.LayoutSet;
 import com.liferay.portal.model.User;
 import com.liferay.portal.security.auth.PrincipalThreadLocal;
 import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.security.permission.PermissionCheckerFactoryUtil;
 import com.liferay.portal.security.permission.PermissionThreadLocal;
+import com.liferay.portal.service.LayoutSetLocalServiceUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portal.service.ServiceContextThreadLocal;
 import com.liferay.portal.service.UserLocalServiceUtil;
@@ -79,7 +83,23 @@ public class LayoutsLocalPublisherMessageListener
 
 		String range = MapUtil.getString(parameterMap, "range");
 
-		if (range.equals("last")) {
+		if (range.equals("fromLastPublishDate")) {
+			LayoutSet layoutSet = LayoutSetLocalServiceUtil.getLayoutSet(
+				sourceGroupId, privateLayout);
+
+			UnicodeProperties settingsProperties =
+				layoutSet.getSettingsProperties();
+
+			long lastPublishDate = GetterUtil.getLong(
+				settingsProperties.getProperty("last-publish-date"));
+
+			if (lastPublishDate > 0) {
+				startDate = new Date(lastPublishDate);
+
+				endDate = new Date();
+			}
+		}
+		else if (range.equals("last")) {
 			int last = MapUtil.getInteger(parameterMap, "last");
 
 			if (last > 0) {
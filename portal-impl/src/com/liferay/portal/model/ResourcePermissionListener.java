@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model;
+
+import com.liferay.portal.ModelListenerException;
+import com.liferay.portal.security.permission.PermissionCacheUtil;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheUtil;
+
+/**
+ * Invalidates the cached permissions of a resource whenever one of its
+ * resource permissions changes, including the changes made through the
+ * persistence by services that do not clear the permission cache themselves.
+ * The cached output of portlets is cleared as well since it depends on what
+ * the viewer may see.
+ */
+public class ResourcePermissionListener
+	extends BaseModelListener<ResourcePermission> {
+
+	@Override
+	public void onAfterCreate(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		clearResourceCache(resourcePermission);
+	}
+
+	@Override
+	public void onAfterRemove(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		clearResourceCache(resourcePermission);
+	}
+
+	@Override
+	public void onAfterUpdate(ResourcePermission resourcePermission)
+		throws ModelListenerException {
+
+		clearResourceCache(resourcePermission);
+	}
+
+	protected void clearResourceCache(ResourcePermission resourcePermission) {
+		PermissionCacheUtil.clearResourcePermissionIndex(
+			resourcePermission.getCompanyId(), resourcePermission.getName(),
+			resourcePermission.getScope(), resourcePermission.getPrimKey());
+
+		PortletFragmentCacheUtil.clearCache();
+	}
+
+}
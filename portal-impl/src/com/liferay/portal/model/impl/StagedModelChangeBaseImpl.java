@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model.impl;
+
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.service.StagedModelChangeLocalServiceUtil;
+
+/**
+ * The extended model base implementation for the StagedModelChange service. Represents a row in the &quot;StagedModelChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This class exists only as a container for the default extended model level methods generated by ServiceBuilder. Helper methods and all application logic should be put in {@link StagedModelChangeImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangeImpl
+ * @see com.liferay.portal.model.StagedModelChange
+ * @generated
+ */
+public abstract class StagedModelChangeBaseImpl
+	extends StagedModelChangeModelImpl implements StagedModelChange {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a staged model change model instance should use the {@link StagedModelChange} interface instead.
+	 */
+	public void persist() throws SystemException {
+		if (this.isNew()) {
+			StagedModelChangeLocalServiceUtil.addStagedModelChange(this);
+		}
+		else {
+			StagedModelChangeLocalServiceUtil.updateStagedModelChange(this);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model.impl;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.StagedModelChange;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The cache model class for representing StagedModelChange in entity cache.
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChange
+ * @generated
+ */
+public class StagedModelChangeCacheModel implements CacheModel<StagedModelChange>,
+	Serializable {
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(17);
+
+		sb.append("{stagedModelChangeId=");
+		sb.append(stagedModelChangeId);
+		sb.append(", groupId=");
+		sb.append(groupId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", modifiedDate=");
+		sb.append(modifiedDate);
+		sb.append(", classNameId=");
+		sb.append(classNameId);
+		sb.append(", classPK=");
+		sb.append(classPK);
+		sb.append(", classUuid=");
+		sb.append(classUuid);
+		sb.append(", type=");
+		sb.append(type);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public StagedModelChange toEntityModel() {
+		StagedModelChangeImpl stagedModelChangeImpl = new StagedModelChangeImpl();
+
+		stagedModelChangeImpl.setStagedModelChangeId(stagedModelChangeId);
+		stagedModelChangeImpl.setGroupId(groupId);
+		stagedModelChangeImpl.setCompanyId(companyId);
+
+		if (modifiedDate == Long.MIN_VALUE) {
+			stagedModelChangeImpl.setModifiedDate(null);
+		}
+		else {
+			stagedModelChangeImpl.setModifiedDate(new Date(modifiedDate));
+		}
+
+		stagedModelChangeImpl.setClassNameId(classNameId);
+		stagedModelChangeImpl.setClassPK(classPK);
+
+		if (classUuid == null) {
+			stagedModelChangeImpl.setClassUuid(StringPool.BLANK);
+		}
+		else {
+			stagedModelChangeImpl.setClassUuid(classUuid);
+		}
+
+		stagedModelChangeImpl.setType(type);
+
+		stagedModelChangeImpl.resetOriginalValues();
+
+		return stagedModelChangeImpl;
+	}
+
+	public long stagedModelChangeId;
+	public long groupId;
+	public long companyId;
+	public long modifiedDate;
+	public long classNameId;
+	public long classPK;
+	public String classUuid;
+	public int type;
+}
\ No newline at end of file
@@ -0,0 +1,559 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model.impl;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.util.DateUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.model.StagedModelChangeModel;
+import com.liferay.portal.service.ServiceContext;
+import com.liferay.portal.util.PortalUtil;
+
+import com.liferay.portlet.expando.model.ExpandoBridge;
+import com.liferay.portlet.expando.util.ExpandoBridgeFactoryUtil;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the StagedModelChange service. Represents a row in the &quot;StagedModelChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link com.liferay.portal.model.StagedModelChangeModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link StagedModelChangeImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangeImpl
+ * @see com.liferay.portal.model.StagedModelChange
+ * @see com.liferay.portal.model.StagedModelChangeModel
+ * @generated
+ */
+public class StagedModelChangeModelImpl extends BaseModelImpl<StagedModelChange>
+	implements StagedModelChangeModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a staged model change model instance should use the {@link com.liferay.portal.model.StagedModelChange} interface instead.
+	 */
+	public static final String TABLE_NAME = "StagedModelChange";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "stagedModelChangeId", Types.BIGINT },
+			{ "groupId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "modifiedDate", Types.TIMESTAMP },
+			{ "classNameId", Types.BIGINT },
+			{ "classPK", Types.BIGINT },
+			{ "classUuid", Types.VARCHAR },
+			{ "type_", Types.INTEGER }
+		};
+	public static final String TABLE_SQL_CREATE = "create table StagedModelChange (stagedModelChangeId LONG not null primary key,groupId LONG,companyId LONG,modifiedDate DATE null,classNameId LONG,classPK LONG,classUuid VARCHAR(75) null,type_ INTEGER)";
+	public static final String TABLE_SQL_DROP = "drop table StagedModelChange";
+	public static final String ORDER_BY_JPQL = " ORDER BY stagedModelChange.modifiedDate ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY StagedModelChange.modifiedDate ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.entity.cache.enabled.com.liferay.portal.model.StagedModelChange"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.finder.cache.enabled.com.liferay.portal.model.StagedModelChange"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.column.bitmask.enabled.com.liferay.portal.model.StagedModelChange"),
+			true);
+	public static long CLASSNAMEID_COLUMN_BITMASK = 1L;
+	public static long CLASSPK_COLUMN_BITMASK = 2L;
+	public static long GROUPID_COLUMN_BITMASK = 4L;
+	public static long MODIFIEDDATE_COLUMN_BITMASK = 8L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.portal.util.PropsUtil.get(
+				"lock.expiration.time.com.liferay.portal.model.StagedModelChange"));
+
+	public StagedModelChangeModelImpl() {
+	}
+
+	public long getPrimaryKey() {
+		return _stagedModelChangeId;
+	}
+
+	public void setPrimaryKey(long primaryKey) {
+		setStagedModelChangeId(primaryKey);
+	}
+
+	public Serializable getPrimaryKeyObj() {
+		return new Long(_stagedModelChangeId);
+	}
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	public Class<?> getModelClass() {
+		return StagedModelChange.class;
+	}
+
+	public String getModelClassName() {
+		return StagedModelChange.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("stagedModelChangeId", getStagedModelChangeId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("modifiedDate", getModifiedDate());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("classUuid", getClassUuid());
+		attributes.put("type", getType());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long stagedModelChangeId = (Long)attributes.get("stagedModelChangeId");
+
+		if (stagedModelChangeId != null) {
+			setStagedModelChangeId(stagedModelChangeId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Date modifiedDate = (Date)attributes.get("modifiedDate");
+
+		if (modifiedDate != null) {
+			setModifiedDate(modifiedDate);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String classUuid = (String)attributes.get("classUuid");
+
+		if (classUuid != null) {
+			setClassUuid(classUuid);
+		}
+
+		Integer type = (Integer)attributes.get("type");
+
+		if (type != null) {
+			setType(type);
+		}
+	}
+
+	public long getStagedModelChangeId() {
+		return _stagedModelChangeId;
+	}
+
+	public void setStagedModelChangeId(long stagedModelChangeId) {
+		_stagedModelChangeId = stagedModelChangeId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public void setGroupId(long groupId) {
+		_columnBitmask |= GROUPID_COLUMN_BITMASK;
+
+		if (!_setOriginalGroupId) {
+			_setOriginalGroupId = true;
+
+			_originalGroupId = _groupId;
+		}
+
+		_groupId = groupId;
+	}
+
+	public long getOriginalGroupId() {
+		return _originalGroupId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public Date getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	public void setModifiedDate(Date modifiedDate) {
+		_columnBitmask = -1L;
+
+		if (_originalModifiedDate == null) {
+			_originalModifiedDate = _modifiedDate;
+		}
+
+		_modifiedDate = modifiedDate;
+	}
+
+	public Date getOriginalModifiedDate() {
+		return _originalModifiedDate;
+	}
+
+	public String getClassName() {
+		if (getClassNameId() <= 0) {
+			return StringPool.BLANK;
+		}
+
+		return PortalUtil.getClassName(getClassNameId());
+	}
+
+	public void setClassName(String className) {
+		long classNameId = 0;
+
+		if (Validator.isNotNull(className)) {
+			classNameId = PortalUtil.getClassNameId(className);
+		}
+
+		setClassNameId(classNameId);
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public void setClassNameId(long classNameId) {
+		_columnBitmask |= CLASSNAMEID_COLUMN_BITMASK;
+
+		if (!_setOriginalClassNameId) {
+			_setOriginalClassNameId = true;
+
+			_originalClassNameId = _classNameId;
+		}
+
+		_classNameId = classNameId;
+	}
+
+	public long getOriginalClassNameId() {
+		return _originalClassNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public void setClassPK(long classPK) {
+		_columnBitmask |= CLASSPK_COLUMN_BITMASK;
+
+		if (!_setOriginalClassPK) {
+			_setOriginalClassPK = true;
+
+			_originalClassPK = _classPK;
+		}
+
+		_classPK = classPK;
+	}
+
+	public long getOriginalClassPK() {
+		return _originalClassPK;
+	}
+
+	public String getClassUuid() {
+		if (_classUuid == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _classUuid;
+		}
+	}
+
+	public void setClassUuid(String classUuid) {
+		_classUuid = classUuid;
+	}
+
+	public int getType() {
+		return _type;
+	}
+
+	public void setType(int type) {
+		_type = type;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public StagedModelChange toEscapedModel() {
+		if (_escapedModelProxy == null) {
+			_escapedModelProxy = (StagedModelChange)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelProxyInterfaces,
+					new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModelProxy;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			StagedModelChange.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public Object clone() {
+		StagedModelChangeImpl stagedModelChangeImpl = new StagedModelChangeImpl();
+
+		stagedModelChangeImpl.setStagedModelChangeId(getStagedModelChangeId());
+		stagedModelChangeImpl.setGroupId(getGroupId());
+		stagedModelChangeImpl.setCompanyId(getCompanyId());
+		stagedModelChangeImpl.setModifiedDate(getModifiedDate());
+		stagedModelChangeImpl.setClassNameId(getClassNameId());
+		stagedModelChangeImpl.setClassPK(getClassPK());
+		stagedModelChangeImpl.setClassUuid(getClassUuid());
+		stagedModelChangeImpl.setType(getType());
+
+		stagedModelChangeImpl.resetOriginalValues();
+
+		return stagedModelChangeImpl;
+	}
+
+	public int compareTo(StagedModelChange stagedModelChange) {
+		int value = 0;
+
+		value = DateUtil.compareTo(getModifiedDate(),
+				stagedModelChange.getModifiedDate());
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == null) {
+			return false;
+		}
+
+		StagedModelChange stagedModelChange = null;
+
+		try {
+			stagedModelChange = (StagedModelChange)obj;
+		}
+		catch (ClassCastException cce) {
+			return false;
+		}
+
+		long primaryKey = stagedModelChange.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		StagedModelChangeModelImpl stagedModelChangeModelImpl = this;
+
+		stagedModelChangeModelImpl._originalGroupId = stagedModelChangeModelImpl._groupId;
+
+		stagedModelChangeModelImpl._setOriginalGroupId = false;
+
+		stagedModelChangeModelImpl._originalModifiedDate = stagedModelChangeModelImpl._modifiedDate;
+
+		stagedModelChangeModelImpl._originalClassNameId = stagedModelChangeModelImpl._classNameId;
+
+		stagedModelChangeModelImpl._setOriginalClassNameId = false;
+
+		stagedModelChangeModelImpl._originalClassPK = stagedModelChangeModelImpl._classPK;
+
+		stagedModelChangeModelImpl._setOriginalClassPK = false;
+
+		stagedModelChangeModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<StagedModelChange> toCacheModel() {
+		StagedModelChangeCacheModel stagedModelChangeCacheModel = new StagedModelChangeCacheModel();
+
+		stagedModelChangeCacheModel.stagedModelChangeId = getStagedModelChangeId();
+
+		stagedModelChangeCacheModel.groupId = getGroupId();
+
+		stagedModelChangeCacheModel.companyId = getCompanyId();
+
+		Date modifiedDate = getModifiedDate();
+
+		if (modifiedDate != null) {
+			stagedModelChangeCacheModel.modifiedDate = modifiedDate.getTime();
+		}
+		else {
+			stagedModelChangeCacheModel.modifiedDate = Long.MIN_VALUE;
+		}
+
+		stagedModelChangeCacheModel.classNameId = getClassNameId();
+
+		stagedModelChangeCacheModel.classPK = getClassPK();
+
+		stagedModelChangeCacheModel.classUuid = getClassUuid();
+
+		String classUuid = stagedModelChangeCacheModel.classUuid;
+
+		if ((classUuid != null) && (classUuid.length() == 0)) {
+			stagedModelChangeCacheModel.classUuid = null;
+		}
+
+		stagedModelChangeCacheModel.type = getType();
+
+		return stagedModelChangeCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(17);
+
+		sb.append("{stagedModelChangeId=");
+		sb.append(getStagedModelChangeId());
+		sb.append(", groupId=");
+		sb.append(getGroupId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", modifiedDate=");
+		sb.append(getModifiedDate());
+		sb.append(", classNameId=");
+		sb.append(getClassNameId());
+		sb.append(", classPK=");
+		sb.append(getClassPK());
+		sb.append(", classUuid=");
+		sb.append(getClassUuid());
+		sb.append(", type=");
+		sb.append(getType());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(28);
+
+		sb.append("<model><model-name>");
+		sb.append("com.liferay.portal.model.StagedModelChange");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>stagedModelChangeId</column-name><column-value><![CDATA[");
+		sb.append(getStagedModelChangeId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>groupId</column-name><column-value><![CDATA[");
+		sb.append(getGroupId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>modifiedDate</column-name><column-value><![CDATA[");
+		sb.append(getModifiedDate());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classNameId</column-name><column-value><![CDATA[");
+		sb.append(getClassNameId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classPK</column-name><column-value><![CDATA[");
+		sb.append(getClassPK());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classUuid</column-name><column-value><![CDATA[");
+		sb.append(getClassUuid());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>type</column-name><column-value><![CDATA[");
+		sb.append(getType());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static ClassLoader _classLoader = StagedModelChange.class.getClassLoader();
+	private static Class<?>[] _escapedModelProxyInterfaces = new Class[] {
+			StagedModelChange.class
+		};
+	private long _stagedModelChangeId;
+	private long _groupId;
+	private long _originalGroupId;
+	private boolean _setOriginalGroupId;
+	private long _companyId;
+	private Date _modifiedDate;
+	private Date _originalModifiedDate;
+	private long _classNameId;
+	private long _originalClassNameId;
+	private boolean _setOriginalClassNameId;
+	private long _classPK;
+	private long _originalClassPK;
+	private boolean _setOriginalClassPK;
+	private String _classUuid;
+	private int _type;
+	private long _columnBitmask;
+	private StagedModelChange _escapedModelProxy;
+}
\ No newline at end of file
@@ -22,7 +22,10 @@ import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.search.lucene.dump.DumpIndexDeletionPolicy;
+import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo.Segment;
+import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo;
 import com.liferay.portal.search.lucene.dump.IndexCommitSerializationUtil;
+import com.liferay.portal.search.lucene.dump.SegmentChecksumCache;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.File;
@@ -30,7 +33,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -47,6 +53,7 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogMergePolicy;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.MMapDirectory;
@@ -62,13 +69,29 @@ import org.apache.lucene.store.RAMDirectory;
 public class IndexAccessorImpl implements IndexAccessor {
 
 	public IndexAccessorImpl(long companyId) {
+		this(companyId, String.valueOf(companyId));
+	}
+
+	public IndexAccessorImpl(long companyId, String indexName) {
 		_companyId = companyId;
+		_indexName = indexName;
 
 		_checkLuceneDir();
 		_initIndexWriter();
 		_initCommitScheduler();
 	}
 
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		IndexSearcherManager indexSearcherManager = _indexSearcherManager;
+
+		if (indexSearcherManager == null) {
+			throw new IOException(
+				"Lucene searcher is not available for " + _companyId);
+		}
+
+		return indexSearcherManager.acquire();
+	}
+
 	public void addDocument(Document document) throws IOException {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -77,12 +100,48 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(null, document);
 	}
 
-	public void close() {
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
 		try {
-			_indexWriter.close();
+			for (Document document : documents) {
+				_indexWriter.addDocument(document);
+
+				_batchCount++;
+			}
 		}
-		catch (Exception e) {
-			_log.error("Closing Lucene writer failed for " + _companyId, e);
+		finally {
+			_commit();
+		}
+	}
+
+	public void close() {
+		IndexSearcherManager indexSearcherManager = _indexSearcherManager;
+
+		_indexSearcherManager = null;
+
+		if (indexSearcherManager != null) {
+			try {
+				indexSearcherManager.close();
+			}
+			catch (Exception e) {
+				_log.error(
+					"Closing Lucene searcher failed for " + _companyId, e);
+			}
+		}
+
+		if (_indexWriter != null) {
+			try {
+				_indexWriter.close();
+			}
+			catch (Exception e) {
+				_log.error(
+					"Closing Lucene writer failed for " + _companyId, e);
+			}
 		}
 	}
 
@@ -99,6 +158,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 		_deleteDirectory();
 
+		_dumpIndexDeletionPolicy.clearSegmentChecksums();
+
 		_initIndexWriter();
 	}
 
@@ -121,6 +182,14 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_dumpIndexDeletionPolicy.dump(outputStream, _indexWriter, _commitLock);
 	}
 
+	public void dumpIndex(
+			OutputStream outputStream, Set<String> localSegmentKeys)
+		throws IOException {
+
+		_dumpIndexDeletionPolicy.dump(
+			outputStream, _indexWriter, _commitLock, localSegmentKeys);
+	}
+
 	public long getCompanyId() {
 		return _companyId;
 	}
@@ -152,31 +221,101 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public Set<String> getSegmentKeys() throws IOException {
+		Set<String> segmentKeys = _dumpIndexDeletionPolicy.getSegmentKeys(
+			_commitLock);
+
+		File stagingFile = new File(_getStagingPath());
+
+		if (!stagingFile.exists()) {
+			return segmentKeys;
+		}
+
+		Directory stagingDirectory = FSDirectory.open(stagingFile);
+
+		try {
+			for (String fileName : stagingDirectory.listAll()) {
+				segmentKeys.add(_getSegmentKey(stagingDirectory, fileName));
+			}
+		}
+		finally {
+			stagingDirectory.close();
+		}
+
+		return segmentKeys;
+	}
+
 	public void loadIndex(InputStream inputStream) throws IOException {
-		File tempFile = FileUtil.createTempFile();
 
-		Directory tempDirectory = FSDirectory.open(tempFile);
+		// Received segments are kept in the staging directory until the
+		// whole index generation has arrived, so an interrupted transfer
+		// resumes from the segments that were already received
 
-		IndexCommitSerializationUtil.deserializeIndex(
-			inputStream, tempDirectory);
+		File stagingFile = new File(_getStagingPath());
 
-		close();
+		Directory stagingDirectory = FSDirectory.open(stagingFile);
 
-		if (PropsValues.INDEX_FORCE_GC_BEFORE_DELETE) {
-			System.gc();
+		try {
+			IndexCommitMetaInfo indexCommitMetaInfo =
+				IndexCommitSerializationUtil.deserializeSegments(
+					inputStream, stagingDirectory);
+
+			// Closing the writer commits, and the commit may delete the files
+			// of older commits, so the live files are only validated once the
+			// writer is closed
+
+			close();
+
+			if (PropsValues.INDEX_FORCE_GC_BEFORE_DELETE) {
+				System.gc();
+			}
+
+			try {
+				if (indexCommitMetaInfo.isEmpty()) {
+					_deleteDirectory();
+				}
+				else {
+					Set<String> stagedFileNames = _getStagedFileNames(
+						indexCommitMetaInfo, stagingDirectory);
+
+					_loadSegments(
+						indexCommitMetaInfo, stagingDirectory, stagedFileNames);
+				}
+			}
+			finally {
+				_dumpIndexDeletionPolicy.clearSegmentChecksums();
+
+				_initIndexWriter();
+			}
+		}
+		finally {
+			stagingDirectory.close();
 		}
 
-		_deleteDirectory();
+		FileUtil.deltree(stagingFile);
+	}
 
-		for (String file : tempDirectory.listAll()) {
-			tempDirectory.copy(getLuceneDir(), file, file);
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		if (indexSearcher == null) {
+			return;
 		}
 
-		_initIndexWriter();
+		IndexSearcherManager indexSearcherManager = _indexSearcherManager;
+
+		if (indexSearcherManager != null) {
+			indexSearcherManager.release(indexSearcher);
+		}
+		else {
+
+			// The searcher was leased from a manager that has since been
+			// closed, so only its reference on the reader is left to drop
 
-		tempDirectory.close();
+			IndexReader indexReader = indexSearcher.getIndexReader();
 
-		FileUtil.deltree(tempFile);
+			indexReader.decRef();
+		}
 	}
 
 	public void updateDocument(Term term, Document document)
@@ -193,6 +332,31 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(term, document);
 	}
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		try {
+			for (Map.Entry<Term, Document> entry : documents.entrySet()) {
+				Document document = entry.getValue();
+
+				if (_log.isDebugEnabled()) {
+					_log.debug("Indexing " + document);
+				}
+
+				_indexWriter.updateDocument(entry.getKey(), document);
+
+				_batchCount++;
+			}
+		}
+		finally {
+			_commit();
+		}
+	}
+
 	private void _checkLuceneDir() {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -271,6 +435,12 @@ public class IndexAccessorImpl implements IndexAccessor {
 			finally {
 				_commitLock.unlock();
 			}
+
+			IndexSearcherManager indexSearcherManager = _indexSearcherManager;
+
+			if (indexSearcherManager != null) {
+				indexSearcherManager.invalidate();
+			}
 		}
 
 		_batchCount = 0;
@@ -336,10 +506,53 @@ public class IndexAccessorImpl implements IndexAccessor {
 	}
 
 	private String _getPath() {
-		return PropsValues.LUCENE_DIR.concat(String.valueOf(_companyId)).concat(
+		return PropsValues.LUCENE_DIR.concat(_indexName).concat(
 			StringPool.SLASH);
 	}
 
+	private String _getSegmentKey(Directory directory, String fileName)
+		throws IOException {
+
+		return IndexCommitMetaInfo.getKey(
+			fileName, directory.fileLength(fileName),
+			SegmentChecksumCache.computeChecksum(directory, fileName));
+	}
+
+	private Set<String> _getStagedFileNames(
+			IndexCommitMetaInfo indexCommitMetaInfo, Directory stagingDirectory)
+		throws IOException {
+
+		Set<String> stagedFileNames = new HashSet<String>();
+
+		Directory directory = getLuceneDir();
+
+		for (Segment segment : indexCommitMetaInfo.getSegments()) {
+			String fileName = segment.getFileName();
+
+			if (stagingDirectory.fileExists(fileName) &&
+				segment.getKey().equals(
+					_getSegmentKey(stagingDirectory, fileName))) {
+
+				stagedFileNames.add(fileName);
+			}
+			else if (!directory.fileExists(fileName) ||
+					 !segment.getKey().equals(
+						 _getSegmentKey(directory, fileName))) {
+
+				throw new IOException(
+					"Segment " + fileName + " is missing for company " +
+						_companyId);
+			}
+		}
+
+		return stagedFileNames;
+	}
+
+	private String _getStagingPath() {
+		return PropsValues.LUCENE_DIR.concat(_indexName).concat(
+			_STAGING_DIR_SUFFIX).concat(StringPool.SLASH);
+	}
+
 	private void _initCommitScheduler() {
 		if ((PropsValues.LUCENE_COMMIT_BATCH_SIZE <= 0) ||
 			(PropsValues.LUCENE_COMMIT_TIME_INTERVAL <= 0)) {
@@ -396,6 +609,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 				_doCommit();
 			}
+
+			_indexSearcherManager = new IndexSearcherManager(_indexWriter);
 		}
 		catch (Exception e) {
 			_log.error(
@@ -403,6 +618,35 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _loadSegments(
+			IndexCommitMetaInfo indexCommitMetaInfo, Directory stagingDirectory,
+			Set<String> stagedFileNames)
+		throws IOException {
+
+		Directory directory = getLuceneDir();
+
+		for (String fileName : stagedFileNames) {
+			stagingDirectory.copy(directory, fileName, fileName);
+		}
+
+		Set<String> fileNames = new HashSet<String>();
+
+		for (Segment segment : indexCommitMetaInfo.getSegments()) {
+			fileNames.add(segment.getFileName());
+		}
+
+		for (String fileName : directory.listAll()) {
+			if (!fileNames.contains(fileName) &&
+				!fileName.equals(IndexWriter.WRITE_LOCK_NAME)) {
+
+				directory.deleteFile(fileName);
+			}
+		}
+
+		IndexCommitSerializationUtil.writeSegmentsGen(
+			directory, indexCommitMetaInfo.getGeneration());
+	}
+
 	private void _write(Term term, Document document) throws IOException {
 		try {
 			if (term != null) {
@@ -425,6 +669,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 	private static final String _LUCENE_STORE_TYPE_RAM = "ram";
 
+	private static final String _STAGING_DIR_SUFFIX = "_staging";
+
 	private static Log _log = LogFactoryUtil.getLog(IndexAccessorImpl.class);
 
 	private volatile int _batchCount;
@@ -432,6 +678,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 	private long _companyId;
 	private DumpIndexDeletionPolicy _dumpIndexDeletionPolicy =
 		new DumpIndexDeletionPolicy();
+	private String _indexName;
+	private volatile IndexSearcherManager _indexSearcherManager;
 	private IndexWriter _indexWriter;
 	private Map<String, Directory> _ramDirectories =
 		new ConcurrentHashMap<String, Directory>();
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import java.io.IOException;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Shares one near real time {@link IndexSearcher} per index writer between
+ * all concurrent searches.
+ *
+ * <p>
+ * Every call to {@link #acquire()} must be paired with a call to {@link
+ * #release(IndexSearcher)}. The underlying reader is reference counted, so a
+ * searcher that is replaced by {@link #invalidate()} stays usable until the
+ * last lease on it is released.
+ * </p>
+ */
+public class IndexSearcherManager {
+
+	public IndexSearcherManager(IndexWriter indexWriter) throws IOException {
+		_indexWriter = indexWriter;
+
+		_indexSearcher = _createIndexSearcher(
+			IndexReader.open(_indexWriter, true));
+	}
+
+	public IndexSearcher acquire() throws IOException {
+		if (_closed) {
+			throw new IllegalStateException(
+				"Index searcher manager is already closed");
+		}
+
+		if (_invalid) {
+			_refresh();
+		}
+
+		while (true) {
+			IndexSearcher indexSearcher = _indexSearcher;
+
+			IndexReader indexReader = indexSearcher.getIndexReader();
+
+			if (indexReader.tryIncRef()) {
+				return indexSearcher;
+			}
+
+			if (_closed) {
+				throw new IllegalStateException(
+					"Index searcher manager is already closed");
+			}
+		}
+	}
+
+	public void close() throws IOException {
+		_lock.lock();
+
+		try {
+			if (_closed) {
+				return;
+			}
+
+			_closed = true;
+
+			IndexSearcher indexSearcher = _indexSearcher;
+
+			IndexReader indexReader = indexSearcher.getIndexReader();
+
+			indexReader.decRef();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public void invalidate() {
+		_invalid = true;
+	}
+
+	public void release(IndexSearcher indexSearcher) throws IOException {
+		if (indexSearcher == null) {
+			return;
+		}
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		indexReader.decRef();
+	}
+
+	private IndexSearcher _createIndexSearcher(IndexReader indexReader) {
+		IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+
+		indexSearcher.setDefaultFieldSortScoring(true, true);
+		indexSearcher.setSimilarity(new FieldWeightSimilarity());
+
+		return indexSearcher;
+	}
+
+	private void _refresh() throws IOException {
+		if (!_lock.tryLock()) {
+
+			// Another thread is already reopening, keep serving the current
+			// searcher instead of blocking
+
+			return;
+		}
+
+		try {
+			if (_closed || !_invalid) {
+				return;
+			}
+
+			_invalid = false;
+
+			IndexSearcher indexSearcher = _indexSearcher;
+
+			IndexReader oldIndexReader = indexSearcher.getIndexReader();
+
+			IndexReader newIndexReader = null;
+
+			try {
+				newIndexReader = IndexReader.openIfChanged(
+					oldIndexReader, _indexWriter, true);
+			}
+			catch (IOException ioe) {
+				_invalid = true;
+
+				throw ioe;
+			}
+
+			if (newIndexReader == null) {
+				return;
+			}
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Reopened near real time index reader");
+			}
+
+			_indexSearcher = _createIndexSearcher(newIndexReader);
+
+			oldIndexReader.decRef();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(IndexSearcherManager.class);
+
+	private volatile boolean _closed;
+	private volatile IndexSearcher _indexSearcher;
+	private IndexWriter _indexWriter;
+	private volatile boolean _invalid;
+	private Lock _lock = new ReentrantLock();
+
+}
@@ -22,6 +22,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
@@ -36,9 +40,15 @@ import org.apache.lucene.util.Version;
  */
 public interface LuceneHelper {
 
+	public IndexSearcher acquireIndexSearcher(long companyId)
+		throws IOException;
+
 	public void addDocument(long companyId, Document document)
 		throws IOException;
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException;
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value);
 
@@ -75,6 +85,11 @@ public interface LuceneHelper {
 	public void dumpIndex(long companyId, OutputStream outputStream)
 		throws IOException;
 
+	public void dumpIndex(
+			long companyId, OutputStream outputStream,
+			Set<String> localSegmentKeys)
+		throws IOException;
+
 	public Analyzer getAnalyzer();
 
 	public long getLastGeneration(long companyId);
@@ -85,6 +100,9 @@ public interface LuceneHelper {
 
 	public String[] getQueryTerms(Query query);
 
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #acquireIndexSearcher(long)}
+	 */
 	public IndexSearcher getSearcher(long companyId, boolean readOnly)
 		throws IOException;
 
@@ -103,6 +121,10 @@ public interface LuceneHelper {
 
 	public void loadIndexesFromCluster(long companyId) throws SystemException;
 
+	public void releaseIndexSearcher(
+			long companyId, IndexSearcher indexSearcher)
+		throws IOException;
+
 	public void shutdown();
 
 	public void startup(long companyId);
@@ -110,4 +132,7 @@ public interface LuceneHelper {
 	public void updateDocument(long companyId, Term term, Document document)
 		throws IOException;
 
+	public void updateDocuments(long companyId, Map<Term, Document> documents)
+		throws IOException;
+
 }
\ No newline at end of file
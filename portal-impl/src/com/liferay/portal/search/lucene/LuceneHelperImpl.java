@@ -37,6 +37,7 @@ import com.liferay.portal.kernel.search.BooleanClauseOccur;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.MethodHandler;
 import com.liferay.portal.kernel.util.MethodKey;
 import com.liferay.portal.kernel.util.ObjectValuePair;
@@ -60,6 +61,8 @@ import java.net.InetAddress;
 import java.net.URL;
 import java.net.URLConnection;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -102,6 +105,14 @@ import org.apache.lucene.util.Version;
  */
 public class LuceneHelperImpl implements LuceneHelper {
 
+	public IndexSearcher acquireIndexSearcher(long companyId)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		return indexAccessor.acquireIndexSearcher();
+	}
+
 	public void addDocument(long companyId, Document document)
 		throws IOException {
 
@@ -110,6 +121,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.addDocument(document);
 	}
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.addDocuments(documents);
+	}
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value) {
 
@@ -272,6 +291,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 	public void dumpIndex(long companyId, OutputStream outputStream)
 		throws IOException {
 
+		dumpIndex(companyId, outputStream, Collections.<String>emptySet());
+	}
+
+	public void dumpIndex(
+			long companyId, OutputStream outputStream,
+			Set<String> localSegmentKeys)
+		throws IOException {
+
 		long lastGeneration = getLastGeneration(companyId);
 
 		if (lastGeneration == IndexAccessor.DEFAULT_LAST_GENERATION) {
@@ -289,7 +316,7 @@ public class LuceneHelperImpl implements LuceneHelper {
 			return;
 		}
 
-		indexAccessor.dumpIndex(outputStream);
+		indexAccessor.dumpIndex(outputStream, localSegmentKeys);
 	}
 
 	public Analyzer getAnalyzer() {
@@ -338,6 +365,16 @@ public class LuceneHelperImpl implements LuceneHelper {
 			unsyncPrintWriter.write("&companyId=");
 			unsyncPrintWriter.write(String.valueOf(companyId));
 
+			IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+			if (indexAccessor != null) {
+				Set<String> segmentKeys = indexAccessor.getSegmentKeys();
+
+				unsyncPrintWriter.write("&segmentKeys=");
+				unsyncPrintWriter.write(
+					HttpUtil.encodeURL(StringUtil.merge(segmentKeys)));
+			}
+
 			unsyncPrintWriter.close();
 
 			inputStream = urlConnection.getInputStream();
@@ -389,6 +426,9 @@ public class LuceneHelperImpl implements LuceneHelper {
 		return queryTerms.toArray(new String[queryTerms.size()]);
 	}
 
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #acquireIndexSearcher(long)}
+	 */
 	public IndexSearcher getSearcher(long companyId, boolean readOnly)
 		throws IOException {
 
@@ -514,6 +554,19 @@ public class LuceneHelperImpl implements LuceneHelper {
 		_loadIndexFromCluster(indexAccessor, localLastGeneration);
 	}
 
+	public void releaseIndexSearcher(
+			long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _indexAccessors.get(companyId);
+
+		if (indexAccessor == null) {
+			return;
+		}
+
+		indexAccessor.releaseIndexSearcher(indexSearcher);
+	}
+
 	public void setAnalyzer(Analyzer analyzer) {
 		_analyzer = analyzer;
 	}
@@ -570,6 +623,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.updateDocument(term, document);
 	}
 
+	public void updateDocuments(long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.updateDocuments(documents);
+	}
+
 	private LuceneHelperImpl() {
 		if (PropsValues.INDEX_ON_STARTUP && PropsValues.INDEX_WITH_THREAD) {
 			_luceneIndexThreadPoolExecutor =
@@ -632,7 +693,19 @@ public class LuceneHelperImpl implements LuceneHelper {
 		synchronized (this) {
 			indexAccessor = _indexAccessors.get(companyId);
 
-			if (indexAccessor == null) {
+			if ((indexAccessor == null) && (PropsValues.LUCENE_SHARDS > 1)) {
+				if (isLoadIndexFromClusterEnabled() && _log.isWarnEnabled()) {
+					_log.warn(
+						"Skip Lucene index files cluster loading for company " +
+							companyId + " since its index is sharded");
+				}
+
+				indexAccessor = new ShardedIndexAccessorImpl(
+					companyId, PropsValues.LUCENE_SHARDS);
+
+				_indexAccessors.put(companyId, indexAccessor);
+			}
+			else if (indexAccessor == null) {
 				indexAccessor = new IndexAccessorImpl(companyId);
 
 				if (isLoadIndexFromClusterEnabled()) {
@@ -23,7 +23,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
@@ -41,6 +44,12 @@ import org.apache.lucene.util.Version;
  */
 public class LuceneHelperUtil {
 
+	public static IndexSearcher acquireIndexSearcher(long companyId)
+		throws IOException {
+
+		return getLuceneHelper().acquireIndexSearcher(companyId);
+	}
+
 	public static void addDate(Document doc, String field, Date value) {
 		doc.add(LuceneFields.getDate(field, value));
 	}
@@ -51,6 +60,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().addDocument(companyId, document);
 	}
 
+	public static void addDocuments(
+			long companyId, Collection<Document> documents)
+		throws IOException {
+
+		getLuceneHelper().addDocuments(companyId, documents);
+	}
+
 	public static void addExactTerm(
 		BooleanQuery booleanQuery, String field, boolean value) {
 
@@ -303,6 +319,15 @@ public class LuceneHelperUtil {
 		getLuceneHelper().dumpIndex(companyId, outputStream);
 	}
 
+	public static void dumpIndex(
+			long companyId, OutputStream outputStream,
+			Set<String> localSegmentKeys)
+		throws IOException {
+
+		getLuceneHelper().dumpIndex(
+			companyId, outputStream, localSegmentKeys);
+	}
+
 	public static Analyzer getAnalyzer() {
 		return getLuceneHelper().getAnalyzer();
 	}
@@ -327,6 +352,9 @@ public class LuceneHelperUtil {
 		return getLuceneHelper().getQueryTerms(query);
 	}
 
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #acquireIndexSearcher(long)}
+	 */
 	public static IndexSearcher getSearcher(long companyId, boolean readOnly)
 		throws IOException {
 
@@ -371,6 +399,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().loadIndexesFromCluster(companyId);
 	}
 
+	public static void releaseIndexSearcher(
+			long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		getLuceneHelper().releaseIndexSearcher(companyId, indexSearcher);
+	}
+
 	public static void shutdown() {
 		getLuceneHelper().shutdown();
 	}
@@ -386,6 +421,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().updateDocument(companyId, term, document);
 	}
 
+	public static void updateDocuments(
+			long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		getLuceneHelper().updateDocuments(companyId, documents);
+	}
+
 	public void setLuceneHelper(LuceneHelper luceneHelper) {
 		_luceneHelper = luceneHelper;
 	}
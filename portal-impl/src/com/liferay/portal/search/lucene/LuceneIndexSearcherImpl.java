@@ -64,9 +64,14 @@ import com.liferay.portal.util.PropsValues;
 import java.io.IOException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.lucene.document.NumericField;
 import org.apache.lucene.index.IndexReader;
@@ -75,6 +80,7 @@ import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * @author Bruno Farache
@@ -84,6 +90,10 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 	public Hits search(SearchContext searchContext, Query query)
 		throws SearchException {
 
+		if (PropsValues.LUCENE_SHARDS > 1) {
+			return searchShards(searchContext, query);
+		}
+
 		if (_log.isDebugEnabled()) {
 			_log.debug("Query " + query);
 		}
@@ -96,72 +106,12 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 		Browsable browsable = null;
 
 		try {
-			indexSearcher = LuceneHelperUtil.getSearcher(
-				searchContext.getCompanyId(), true);
-
-			List<FacetHandler<?>> facetHandlers =
-				new ArrayList<FacetHandler<?>>();
+			indexSearcher = LuceneHelperUtil.acquireIndexSearcher(
+				searchContext.getCompanyId());
 
 			facets = searchContext.getFacets();
 
-			for (Facet facet : facets.values()) {
-				if (facet.isStatic()) {
-					continue;
-				}
-
-				FacetConfiguration facetConfiguration =
-					facet.getFacetConfiguration();
-
-				if (facet instanceof MultiValueFacet) {
-					MultiValueFacetHandler multiValueFacetHandler =
-						new MultiValueFacetHandler(
-							facetConfiguration.getFieldName(),
-							facetConfiguration.getFieldName());
-
-					JSONObject dataJSONObject = facetConfiguration.getData();
-
-					if (dataJSONObject.has("maxTerms")) {
-						multiValueFacetHandler.setMaxItems(
-							dataJSONObject.getInt("maxTerms"));
-					}
-
-					facetHandlers.add(multiValueFacetHandler);
-				}
-				else if (facet instanceof RangeFacet) {
-					List<String> ranges = new ArrayList<String>();
-
-					JSONObject dataJSONObject = facetConfiguration.getData();
-
-					JSONArray rangesJSONArray = dataJSONObject.getJSONArray(
-						"ranges");
-
-					if (rangesJSONArray != null) {
-						for (int i = 0; i < rangesJSONArray.length(); i++) {
-							JSONObject rangeJSONObject =
-								rangesJSONArray.getJSONObject(i);
-
-							ranges.add(rangeJSONObject.getString("range"));
-						}
-					}
-
-					RangeFacetHandler rangeFacetHandler =
-						new RangeFacetHandler(
-							facetConfiguration.getFieldName(),
-							facetConfiguration.getFieldName(), ranges);
-
-					rangeFacetHandler.setTermCountSize(TermCountSize.large);
-
-					facetHandlers.add(rangeFacetHandler);
-				}
-				else if (facet instanceof SimpleFacet) {
-					SimpleFacetHandler simpleFacetHandler =
-						new SimpleFacetHandler(
-							facetConfiguration.getFieldName(),
-							facetConfiguration.getFieldName());
-
-					facetHandlers.add(simpleFacetHandler);
-				}
-			}
+			List<FacetHandler<?>> facetHandlers = getFacetHandlers(facets);
 
 			BoboIndexReader boboIndexReader = BoboIndexReader.getInstance(
 				indexSearcher.getIndexReader(), facetHandlers);
@@ -291,14 +241,7 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 		finally {
 			close(browsable);
 
-			if (indexSearcher != null) {
-				try {
-					indexSearcher.close();
-				}
-				catch (IOException ioe) {
-					_log.error(ioe, ioe);
-				}
-			}
+			release(searchContext.getCompanyId(), indexSearcher);
 		}
 
 		if (_log.isDebugEnabled()) {
@@ -325,7 +268,7 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 		org.apache.lucene.search.Sort luceneSort = null;
 
 		try {
-			indexSearcher = LuceneHelperUtil.getSearcher(companyId, true);
+			indexSearcher = LuceneHelperUtil.acquireIndexSearcher(companyId);
 
 			if (sorts != null) {
 				SortField[] sortFields = new SortField[sorts.length];
@@ -395,14 +338,7 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 			throw new SearchException(e);
 		}
 		finally {
-			if (indexSearcher != null) {
-				try {
-					indexSearcher.close();
-				}
-				catch (IOException ioe) {
-					_log.error(ioe, ioe);
-				}
-			}
+			release(companyId, indexSearcher);
 		}
 
 		if (_log.isDebugEnabled()) {
@@ -458,6 +394,71 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 		return newDocument;
 	}
 
+	protected List<FacetHandler<?>> getFacetHandlers(
+		Map<String, Facet> facets) {
+
+		List<FacetHandler<?>> facetHandlers = new ArrayList<FacetHandler<?>>();
+
+		for (Facet facet : facets.values()) {
+			if (facet.isStatic()) {
+				continue;
+			}
+
+			FacetConfiguration facetConfiguration =
+				facet.getFacetConfiguration();
+
+			if (facet instanceof MultiValueFacet) {
+				MultiValueFacetHandler multiValueFacetHandler =
+					new MultiValueFacetHandler(
+						facetConfiguration.getFieldName(),
+						facetConfiguration.getFieldName());
+
+				JSONObject dataJSONObject = facetConfiguration.getData();
+
+				if (dataJSONObject.has("maxTerms")) {
+					multiValueFacetHandler.setMaxItems(
+						dataJSONObject.getInt("maxTerms"));
+				}
+
+				facetHandlers.add(multiValueFacetHandler);
+			}
+			else if (facet instanceof RangeFacet) {
+				List<String> ranges = new ArrayList<String>();
+
+				JSONObject dataJSONObject = facetConfiguration.getData();
+
+				JSONArray rangesJSONArray = dataJSONObject.getJSONArray(
+					"ranges");
+
+				if (rangesJSONArray != null) {
+					for (int i = 0; i < rangesJSONArray.length(); i++) {
+						JSONObject rangeJSONObject =
+							rangesJSONArray.getJSONObject(i);
+
+						ranges.add(rangeJSONObject.getString("range"));
+					}
+				}
+
+				RangeFacetHandler rangeFacetHandler = new RangeFacetHandler(
+					facetConfiguration.getFieldName(),
+					facetConfiguration.getFieldName(), ranges);
+
+				rangeFacetHandler.setTermCountSize(TermCountSize.large);
+
+				facetHandlers.add(rangeFacetHandler);
+			}
+			else if (facet instanceof SimpleFacet) {
+				SimpleFacetHandler simpleFacetHandler = new SimpleFacetHandler(
+					facetConfiguration.getFieldName(),
+					facetConfiguration.getFieldName());
+
+				facetHandlers.add(simpleFacetHandler);
+			}
+		}
+
+		return facetHandlers;
+	}
+
 	protected String[] getQueryTerms(Query query) {
 		String[] queryTerms = new String[0];
 
@@ -507,6 +508,76 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 		return snippet;
 	}
 
+	protected void release(
+		long companyId, org.apache.lucene.search.IndexSearcher indexSearcher) {
+
+		if (indexSearcher == null) {
+			return;
+		}
+
+		try {
+			LuceneHelperUtil.releaseIndexSearcher(companyId, indexSearcher);
+		}
+		catch (IOException ioe) {
+			_log.error(ioe, ioe);
+		}
+	}
+
+	protected Hits searchShards(SearchContext searchContext, Query query)
+		throws SearchException {
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Query " + query);
+		}
+
+		Hits hits = null;
+
+		ShardedIndexSearcher shardedIndexSearcher = null;
+
+		try {
+			shardedIndexSearcher =
+				(ShardedIndexSearcher)LuceneHelperUtil.acquireIndexSearcher(
+					searchContext.getCompanyId());
+
+			hits = _searchShards(searchContext, query, shardedIndexSearcher);
+		}
+		catch (BooleanQuery.TooManyClauses tmc) {
+			int maxClauseCount = BooleanQuery.getMaxClauseCount();
+
+			BooleanQuery.setMaxClauseCount(Integer.MAX_VALUE);
+
+			try {
+				hits = _searchShards(
+					searchContext, query, shardedIndexSearcher);
+			}
+			catch (Exception e) {
+				throw new SearchException(e);
+			}
+			finally {
+				BooleanQuery.setMaxClauseCount(maxClauseCount);
+			}
+		}
+		catch (ParseException pe) {
+			_log.error("Query " + query, pe);
+
+			return new HitsImpl();
+		}
+		catch (Exception e) {
+			throw new SearchException(e);
+		}
+		finally {
+			release(searchContext.getCompanyId(), shardedIndexSearcher);
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Search found " + hits.getLength() + " results in " +
+					hits.getSearchTime() + "ms");
+		}
+
+		return hits;
+	}
+
 	protected Hits toHits(
 			org.apache.lucene.search.IndexSearcher indexSearcher,
 			HitDocs hitDocs, Query query, long startTime, float searchTime,
@@ -621,6 +692,200 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 	private static Log _log = LogFactoryUtil.getLog(
 		LuceneIndexSearcherImpl.class);
 
+	private List<Map<String, FacetAccessible>> _getShardFacetMaps(
+			List<Future<Map<String, FacetAccessible>>> futures)
+		throws Exception {
+
+		List<Map<String, FacetAccessible>> shardFacetMaps =
+			new ArrayList<Map<String, FacetAccessible>>(futures.size());
+
+		Throwable throwable = null;
+
+		// Wait for every shard even after a failure because the shard readers
+		// are released as soon as this search returns
+
+		for (Future<Map<String, FacetAccessible>> future : futures) {
+			try {
+				shardFacetMaps.add(future.get());
+			}
+			catch (ExecutionException ee) {
+				if (throwable == null) {
+					throwable = ee.getCause();
+				}
+			}
+		}
+
+		if (throwable instanceof RuntimeException) {
+			throw (RuntimeException)throwable;
+		}
+		else if (throwable != null) {
+			throw new SearchException(throwable);
+		}
+
+		return shardFacetMaps;
+	}
+
+	private Hits _searchShards(
+			SearchContext searchContext, Query query,
+			ShardedIndexSearcher shardedIndexSearcher)
+		throws Exception {
+
+		org.apache.lucene.search.Query luceneQuery =
+			(org.apache.lucene.search.Query)QueryTranslatorUtil.translate(
+				query);
+
+		Map<String, Facet> facets = searchContext.getFacets();
+
+		List<FacetHandler<?>> facetHandlers = getFacetHandlers(facets);
+
+		BrowseRequest browseRequest = new BrowseRequest();
+
+		for (FacetHandler<?> facetHandler : facetHandlers) {
+			Facet facet = facets.get(facetHandler.getName());
+
+			FacetConfiguration facetConfiguration =
+				facet.getFacetConfiguration();
+
+			FacetSpec facetSpec = new FacetSpec();
+
+			facetSpec.setOrderBy(
+				FacetSortSpec.valueOf(facetConfiguration.getOrder()));
+
+			browseRequest.setFacetSpec(facetHandler.getName(), facetSpec);
+		}
+
+		browseRequest.setQuery(luceneQuery);
+
+		org.apache.lucene.search.Sort luceneSort =
+			new org.apache.lucene.search.Sort();
+
+		Sort[] sorts = searchContext.getSorts();
+
+		if ((sorts != null) && (sorts.length > 0)) {
+			SortField[] sortFields = new SortField[sorts.length];
+
+			for (int i = 0; i < sorts.length; i++) {
+				Sort sort = sorts[i];
+
+				sortFields[i] = new SortField(
+					sort.getFieldName(), sort.getType(), sort.isReverse());
+			}
+
+			luceneSort.setSort(sortFields);
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		// Count the facets of each shard in the background while the top hits
+		// of all the shards are collected and merged by Lucene
+
+		List<Future<Map<String, FacetAccessible>>> futures =
+			new ArrayList<Future<Map<String, FacetAccessible>>>();
+
+		if (!facetHandlers.isEmpty()) {
+			ExecutorService executorService =
+				shardedIndexSearcher.getExecutorService();
+
+			for (IndexReader shardIndexReader :
+					shardedIndexSearcher.getShardIndexReaders()) {
+
+				futures.add(
+					executorService.submit(
+						new FacetCountCallable(
+							shardIndexReader, getFacetHandlers(facets),
+							browseRequest)));
+			}
+		}
+
+		TopFieldDocs topFieldDocs = null;
+
+		try {
+			topFieldDocs = shardedIndexSearcher.search(
+				luceneQuery, null, PropsValues.INDEX_SEARCH_LIMIT, luceneSort);
+		}
+		catch (Exception e) {
+			try {
+				_getShardFacetMaps(futures);
+			}
+			catch (Exception e2) {
+			}
+
+			throw e;
+		}
+
+		List<Map<String, FacetAccessible>> shardFacetMaps = _getShardFacetMaps(
+			futures);
+
+		for (FacetHandler<?> facetHandler : facetHandlers) {
+			String fieldName = facetHandler.getName();
+
+			List<FacetAccessible> facetAccessibles =
+				new ArrayList<FacetAccessible>(shardFacetMaps.size());
+
+			for (Map<String, FacetAccessible> shardFacetMap : shardFacetMaps) {
+				FacetAccessible facetAccessible = shardFacetMap.get(fieldName);
+
+				if (facetAccessible != null) {
+					facetAccessibles.add(facetAccessible);
+				}
+			}
+
+			FacetAccessible facetAccessible = facetHandler.merge(
+				browseRequest.getFacetSpec(fieldName), facetAccessibles);
+
+			Facet facet = facets.get(fieldName);
+
+			facet.setFacetCollector(
+				new BoboFacetCollector(fieldName, facetAccessible));
+		}
+
+		long endTime = System.currentTimeMillis();
+
+		float searchTime = (float)(endTime - startTime) / Time.SECOND;
+
+		return toHits(
+			shardedIndexSearcher, new HitDocs(topFieldDocs), query, startTime,
+			searchTime, searchContext.getStart(), searchContext.getEnd());
+	}
+
+	private class FacetCountCallable
+		implements Callable<Map<String, FacetAccessible>> {
+
+		public FacetCountCallable(
+			IndexReader indexReader, List<FacetHandler<?>> facetHandlers,
+			BrowseRequest browseRequest) {
+
+			_indexReader = indexReader;
+			_facetHandlers = facetHandlers;
+			_browseRequest = browseRequest;
+		}
+
+		public Map<String, FacetAccessible> call() throws Exception {
+			BoboIndexReader boboIndexReader = BoboIndexReader.getInstance(
+				_indexReader, _facetHandlers);
+
+			Browsable browsable = new BoboBrowser(boboIndexReader);
+
+			try {
+				Map<String, FacetAccessible> facetMap =
+					new HashMap<String, FacetAccessible>();
+
+				browsable.browse(
+					_browseRequest, new TotalHitCountCollector(), facetMap);
+
+				return facetMap;
+			}
+			finally {
+				close(browsable);
+			}
+		}
+
+		private BrowseRequest _browseRequest;
+		private List<FacetHandler<?>> _facetHandlers;
+		private IndexReader _indexReader;
+
+	}
+
 	private class HitDocs {
 
 		public HitDocs(BrowseHit[] browseHits) {
@@ -673,4 +938,4 @@ public class LuceneIndexSearcherImpl implements IndexSearcher {
 
 	}
 
-}
\ No newline at end of file
+}
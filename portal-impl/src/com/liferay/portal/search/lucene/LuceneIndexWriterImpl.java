@@ -27,7 +27,10 @@ import com.liferay.portal.kernel.util.Validator;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -61,8 +64,24 @@ public class LuceneIndexWriterImpl implements IndexWriter {
 			SearchContext searchContext, Collection<Document> documents)
 		throws SearchException {
 
+		List<org.apache.lucene.document.Document> luceneDocuments =
+			new ArrayList<org.apache.lucene.document.Document>(
+				documents.size());
+
 		for (Document document : documents) {
-			addDocument(searchContext, document);
+			luceneDocuments.add(_getLuceneDocument(document));
+		}
+
+		try {
+			LuceneHelperUtil.addDocuments(
+				searchContext.getCompanyId(), luceneDocuments);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Added " + luceneDocuments.size() + " documents");
+			}
+		}
+		catch (IOException ioe) {
+			throw new SearchException(ioe);
 		}
 	}
 
@@ -127,8 +146,26 @@ public class LuceneIndexWriterImpl implements IndexWriter {
 			SearchContext searchContext, Collection<Document> documents)
 		throws SearchException {
 
+		Map<Term, org.apache.lucene.document.Document> luceneDocuments =
+			new LinkedHashMap<Term, org.apache.lucene.document.Document>();
+
 		for (Document document : documents) {
-			updateDocument(searchContext, document);
+			luceneDocuments.put(
+				new Term(Field.UID, document.getUID()),
+				_getLuceneDocument(document));
+		}
+
+		try {
+			LuceneHelperUtil.updateDocuments(
+				searchContext.getCompanyId(), luceneDocuments);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Updated " + luceneDocuments.size() + " documents");
+			}
+		}
+		catch (IOException ioe) {
+			throw new SearchException(ioe);
 		}
 	}
 
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Splits the index of a company into hash partitioned shards that each have
+ * their own directory and index writer.
+ *
+ * <p>
+ * Documents are routed to a shard by the hash of their UID field, so updates
+ * and deletes by UID only touch one shard. Deletes by any other term are sent
+ * to every shard. Searches use a {@link ShardedIndexSearcher} over all the
+ * shards.
+ * </p>
+ *
+ * <p>
+ * Changing the number of shards changes the routing of every document, so the
+ * company must be reindexed afterwards. Dumping and loading the index through
+ * the cluster is not supported for sharded indexes.
+ * </p>
+ */
+public class ShardedIndexAccessorImpl implements IndexAccessor {
+
+	public ShardedIndexAccessorImpl(long companyId, int shardsCount) {
+		_companyId = companyId;
+
+		_indexAccessors = new IndexAccessor[shardsCount];
+
+		for (int i = 0; i < shardsCount; i++) {
+			String indexName = String.valueOf(companyId).concat(
+				StringPool.UNDERLINE).concat(String.valueOf(i));
+
+			_indexAccessors[i] = new IndexAccessorImpl(companyId, indexName);
+		}
+
+		_executorService = PortalExecutorManagerUtil.getPortalExecutor(
+			ShardedIndexAccessorImpl.class.getName());
+	}
+
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		IndexSearcher[] indexSearchers =
+			new IndexSearcher[_indexAccessors.length];
+
+		try {
+			IndexReader[] indexReaders =
+				new IndexReader[_indexAccessors.length];
+
+			for (int i = 0; i < _indexAccessors.length; i++) {
+				indexSearchers[i] = _indexAccessors[i].acquireIndexSearcher();
+
+				indexReaders[i] = indexSearchers[i].getIndexReader();
+			}
+
+			return new ShardedIndexSearcher(indexReaders, _executorService);
+		}
+		finally {
+			for (int i = 0; i < _indexAccessors.length; i++) {
+				_indexAccessors[i].releaseIndexSearcher(indexSearchers[i]);
+			}
+		}
+	}
+
+	public void addDocument(Document document) throws IOException {
+		IndexAccessor indexAccessor = _getIndexAccessor(
+			document.get(Field.UID));
+
+		indexAccessor.addDocument(document);
+	}
+
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		List<List<Document>> shardDocumentsList =
+			new ArrayList<List<Document>>(_indexAccessors.length);
+
+		for (int i = 0; i < _indexAccessors.length; i++) {
+			shardDocumentsList.add(new ArrayList<Document>());
+		}
+
+		for (Document document : documents) {
+			int shard = _getShard(document.get(Field.UID));
+
+			List<Document> shardDocuments = shardDocumentsList.get(shard);
+
+			shardDocuments.add(document);
+		}
+
+		for (int i = 0; i < _indexAccessors.length; i++) {
+			List<Document> shardDocuments = shardDocumentsList.get(i);
+
+			if (!shardDocuments.isEmpty()) {
+				_indexAccessors[i].addDocuments(shardDocuments);
+			}
+		}
+	}
+
+	public void close() {
+		for (IndexAccessor indexAccessor : _indexAccessors) {
+			indexAccessor.close();
+		}
+	}
+
+	public void delete() {
+		for (IndexAccessor indexAccessor : _indexAccessors) {
+			indexAccessor.delete();
+		}
+	}
+
+	public void deleteDocuments(Term term) throws IOException {
+		if (term.field().equals(Field.UID)) {
+			IndexAccessor indexAccessor = _getIndexAccessor(term.text());
+
+			indexAccessor.deleteDocuments(term);
+
+			return;
+		}
+
+		for (IndexAccessor indexAccessor : _indexAccessors) {
+			indexAccessor.deleteDocuments(term);
+		}
+	}
+
+	public void dumpIndex(OutputStream outputStream) {
+		throw new UnsupportedOperationException(
+			"Sharded index for company " + _companyId + " cannot be dumped");
+	}
+
+	public void dumpIndex(
+		OutputStream outputStream, Set<String> localSegmentKeys) {
+
+		dumpIndex(outputStream);
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public long getLastGeneration() {
+		return DEFAULT_LAST_GENERATION;
+	}
+
+	public Directory getLuceneDir() {
+		throw new UnsupportedOperationException(
+			"Sharded index for company " + _companyId +
+				" does not have a single directory");
+	}
+
+	public Set<String> getSegmentKeys() {
+		return Collections.emptySet();
+	}
+
+	public void loadIndex(InputStream inputStream) {
+		throw new UnsupportedOperationException(
+			"Sharded index for company " + _companyId + " cannot be loaded");
+	}
+
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		if (indexSearcher == null) {
+			return;
+		}
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		indexReader.decRef();
+	}
+
+	public void updateDocument(Term term, Document document)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(
+			_getUID(term, document));
+
+		indexAccessor.updateDocument(term, document);
+	}
+
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		List<Map<Term, Document>> shardDocumentsList =
+			new ArrayList<Map<Term, Document>>(_indexAccessors.length);
+
+		for (int i = 0; i < _indexAccessors.length; i++) {
+			shardDocumentsList.add(new HashMap<Term, Document>());
+		}
+
+		for (Map.Entry<Term, Document> entry : documents.entrySet()) {
+			int shard = _getShard(_getUID(entry.getKey(), entry.getValue()));
+
+			Map<Term, Document> shardDocuments = shardDocumentsList.get(shard);
+
+			shardDocuments.put(entry.getKey(), entry.getValue());
+		}
+
+		for (int i = 0; i < _indexAccessors.length; i++) {
+			Map<Term, Document> shardDocuments = shardDocumentsList.get(i);
+
+			if (!shardDocuments.isEmpty()) {
+				_indexAccessors[i].updateDocuments(shardDocuments);
+			}
+		}
+	}
+
+	private IndexAccessor _getIndexAccessor(String uid) {
+		return _indexAccessors[_getShard(uid)];
+	}
+
+	private int _getShard(String uid) {
+		if (uid == null) {
+			return 0;
+		}
+
+		return (uid.hashCode() & Integer.MAX_VALUE) % _indexAccessors.length;
+	}
+
+	private String _getUID(Term term, Document document) {
+		if (term.field().equals(Field.UID)) {
+			return term.text();
+		}
+
+		return document.get(Field.UID);
+	}
+
+	private long _companyId;
+	private ExecutorService _executorService;
+	private IndexAccessor[] _indexAccessors;
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * Searches all the shards of a sharded company index at once.
+ *
+ * <p>
+ * The shard readers are combined in a {@link MultiReader} that holds its own
+ * reference on each of them, so the searcher stays usable after the shard
+ * searchers it was built from have been released. Top-N searches run once
+ * per segment on the given executor and the partial hits are merged by
+ * Lucene. Releasing this searcher decrements the reference count of the
+ * combined reader, which in turn releases the shard readers.
+ * </p>
+ */
+public class ShardedIndexSearcher extends IndexSearcher {
+
+	public ShardedIndexSearcher(
+		IndexReader[] shardIndexReaders, ExecutorService executorService) {
+
+		super(new MultiReader(shardIndexReaders, false), executorService);
+
+		_executorService = executorService;
+
+		setDefaultFieldSortScoring(true, true);
+		setSimilarity(new FieldWeightSimilarity());
+	}
+
+	public ExecutorService getExecutorService() {
+		return _executorService;
+	}
+
+	public IndexReader[] getShardIndexReaders() {
+		IndexReader indexReader = getIndexReader();
+
+		return indexReader.getSequentialSubReaders();
+	}
+
+	private ExecutorService _executorService;
+
+}
@@ -17,23 +17,41 @@ package com.liferay.portal.search.lucene.dump;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexDeletionPolicy;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Shuyang Zhou
  */
 public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 
+	public void clearSegmentChecksums() {
+		_segmentChecksumCache.clear();
+	}
+
 	public void dump(
 			OutputStream outputStream, IndexWriter indexWriter, Lock commitLock)
 		throws IOException {
 
+		dump(
+			outputStream, indexWriter, commitLock,
+			Collections.<String>emptySet());
+	}
+
+	public void dump(
+			OutputStream outputStream, IndexWriter indexWriter, Lock commitLock,
+			Set<String> localSegmentKeys)
+		throws IOException {
+
 		IndexCommit indexCommit = null;
 
 		String segmentsFileName = null;
@@ -54,8 +72,13 @@ public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 		}
 
 		try {
+			IndexCommitMetaInfo indexCommitMetaInfo = new IndexCommitMetaInfo(
+				indexCommit, _segmentChecksumCache, localSegmentKeys);
+
+			_segmentChecksumCache.retainAll(indexCommit.getFileNames());
+
 			IndexCommitSerializationUtil.serializeIndex(
-				indexCommit, outputStream);
+				indexCommitMetaInfo, indexCommit.getDirectory(), outputStream);
 		}
 		finally {
 			_segmentsFileNames.remove(segmentsFileName);
@@ -66,6 +89,48 @@ public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 		return _lastIndexCommit.getGeneration();
 	}
 
+	public Set<String> getSegmentKeys(Lock commitLock) throws IOException {
+		IndexCommit indexCommit = null;
+
+		String segmentsFileName = null;
+
+		commitLock.lock();
+
+		try {
+			indexCommit = _lastIndexCommit;
+
+			if (indexCommit == null) {
+				return new HashSet<String>();
+			}
+
+			segmentsFileName = indexCommit.getSegmentsFileName();
+
+			_segmentsFileNames.add(segmentsFileName);
+		}
+		finally {
+			commitLock.unlock();
+		}
+
+		try {
+			Set<String> segmentKeys = new HashSet<String>();
+
+			Directory directory = indexCommit.getDirectory();
+
+			for (String fileName : indexCommit.getFileNames()) {
+				segmentKeys.add(
+					IndexCommitMetaInfo.getKey(
+						fileName, directory.fileLength(fileName),
+						_segmentChecksumCache.getChecksum(
+							directory, fileName)));
+			}
+
+			return segmentKeys;
+		}
+		finally {
+			_segmentsFileNames.remove(segmentsFileName);
+		}
+	}
+
 	public void onCommit(List<? extends IndexCommit> indexCommits) {
 		_lastIndexCommit = indexCommits.get(indexCommits.size() - 1);
 
@@ -85,6 +150,8 @@ public class DumpIndexDeletionPolicy implements IndexDeletionPolicy {
 	}
 
 	private volatile IndexCommit _lastIndexCommit;
+	private SegmentChecksumCache _segmentChecksumCache =
+		new SegmentChecksumCache();
 	private List<String> _segmentsFileNames =
 		new CopyOnWriteArrayList<String>();
 
@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.io.Serializable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.store.Directory;
@@ -31,7 +33,29 @@ import org.apache.lucene.store.Directory;
  */
 public class IndexCommitMetaInfo implements Serializable {
 
+	public static String getKey(String fileName, long fileSize, long checksum) {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(fileName);
+		sb.append(StringPool.COLON);
+		sb.append(fileSize);
+		sb.append(StringPool.COLON);
+		sb.append(checksum);
+
+		return sb.toString();
+	}
+
 	public IndexCommitMetaInfo(IndexCommit indexCommit) throws IOException {
+		this(
+			indexCommit, new SegmentChecksumCache(),
+			Collections.<String>emptySet());
+	}
+
+	public IndexCommitMetaInfo(
+			IndexCommit indexCommit, SegmentChecksumCache segmentChecksumCache,
+			Set<String> localSegmentKeys)
+		throws IOException {
+
 		if (indexCommit == null) {
 			_empty = true;
 
@@ -47,7 +71,14 @@ public class IndexCommitMetaInfo implements Serializable {
 
 		for (String fileName : fileNames) {
 			Segment segment = new Segment(
-				fileName, directory.fileLength(fileName));
+				fileName, directory.fileLength(fileName),
+				segmentChecksumCache.getChecksum(directory, fileName));
+
+			if (!localSegmentKeys.contains(segment.getKey())) {
+				segment._transferred = true;
+
+				_transferSize += segment.getFileSize();
+			}
 
 			_segments.add(segment);
 		}
@@ -63,6 +94,10 @@ public class IndexCommitMetaInfo implements Serializable {
 		return _segments;
 	}
 
+	public long getTransferSize() {
+		return _transferSize;
+	}
+
 	public boolean isEmpty() {
 		return _empty;
 	}
@@ -73,7 +108,7 @@ public class IndexCommitMetaInfo implements Serializable {
 			return StringPool.BLANK;
 		}
 
-		StringBundler sb = new StringBundler(_segments.size() * 5 + 3);
+		StringBundler sb = new StringBundler(_segments.size() * 7 + 3);
 
 		sb.append("{fileInfos[");
 
@@ -84,6 +119,8 @@ public class IndexCommitMetaInfo implements Serializable {
 			sb.append(fileInfo._fileName);
 			sb.append(", fileSize=");
 			sb.append(fileInfo._fileSize);
+			sb.append(", transferred=");
+			sb.append(fileInfo._transferred);
 
 			if ((i + 1) < _segments.size()) {
 				sb.append(", ");
@@ -99,9 +136,14 @@ public class IndexCommitMetaInfo implements Serializable {
 
 	public class Segment implements Serializable {
 
-		public Segment(String fileName, long fileSize) {
+		public Segment(String fileName, long fileSize, long checksum) {
 			_fileName = fileName;
 			_fileSize = fileSize;
+			_checksum = checksum;
+		}
+
+		public long getChecksum() {
+			return _checksum;
 		}
 
 		public String getFileName() {
@@ -112,26 +154,41 @@ public class IndexCommitMetaInfo implements Serializable {
 			return _fileSize;
 		}
 
+		public String getKey() {
+			return IndexCommitMetaInfo.getKey(_fileName, _fileSize, _checksum);
+		}
+
+		public boolean isTransferred() {
+			return _transferred;
+		}
+
 		@Override
 		public String toString() {
-			StringBundler sb = new StringBundler(5);
+			StringBundler sb = new StringBundler(9);
 
-			sb.append("{_fileName=");
+			sb.append("{_checksum=");
+			sb.append(_checksum);
+			sb.append(", _fileName=");
 			sb.append(_fileName);
 			sb.append(", _fileSize=");
 			sb.append(_fileSize);
+			sb.append(", _transferred=");
+			sb.append(_transferred);
 			sb.append("}");
 
 			return sb.toString();
 		}
 
+		private long _checksum;
 		private String _fileName;
 		private long _fileSize;
+		private boolean _transferred;
 
 	}
 
 	private boolean _empty;
 	private long _generation;
 	private List<Segment> _segments;
+	private long _transferSize;
 
 }
\ No newline at end of file
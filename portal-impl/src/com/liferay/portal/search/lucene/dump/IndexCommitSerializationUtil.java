@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo.Segment;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -26,6 +27,7 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 
 import java.util.List;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -44,6 +46,28 @@ public class IndexCommitSerializationUtil {
 			InputStream inputStream, Directory directory)
 		throws IOException {
 
+		IndexCommitMetaInfo indexCommitMetaInfo = deserializeSegments(
+			inputStream, directory);
+
+		if (indexCommitMetaInfo.isEmpty()) {
+			return;
+		}
+
+		for (Segment segment : indexCommitMetaInfo.getSegments()) {
+			if (!segment.isTransferred()) {
+				throw new IOException(
+					"Segment " + segment.getFileName() +
+						" was not transferred");
+			}
+		}
+
+		writeSegmentsGen(directory, indexCommitMetaInfo.getGeneration());
+	}
+
+	public static IndexCommitMetaInfo deserializeSegments(
+			InputStream inputStream, Directory directory)
+		throws IOException {
+
 		if (PropsValues.INDEX_DUMP_COMPRESSION_ENABLED) {
 			inputStream = new GZIPInputStream(inputStream);
 		}
@@ -68,22 +92,42 @@ public class IndexCommitSerializationUtil {
 			}
 
 			if (indexCommitMetaInfo.isEmpty()) {
-				return;
+				return indexCommitMetaInfo;
 			}
 
+			long transferSize = indexCommitMetaInfo.getTransferSize();
+
+			long received = 0;
+
 			List<Segment> segments = indexCommitMetaInfo.getSegments();
 
 			for (Segment segment : segments) {
+				if (!segment.isTransferred()) {
+					continue;
+				}
+
 				if (_log.isDebugEnabled()) {
 					_log.debug("Deserializing segment " + segment);
 				}
 
-				_deserializeSegment(
-					objectInputStream, segment.getFileSize(),
-					directory.createOutput(segment.getFileName()));
+				_deserializeSegment(objectInputStream, segment, directory);
+
+				long previousReceived = received;
+
+				received += segment.getFileSize();
+
+				if (_log.isInfoEnabled() &&
+					((previousReceived * 10 / transferSize) <
+						(received * 10 / transferSize))) {
+
+					_log.info(
+						"Received " + received + " of " + transferSize +
+							" bytes of index generation " +
+								indexCommitMetaInfo.getGeneration());
+				}
 			}
 
-			_writeSegmentsGen(directory, indexCommitMetaInfo.getGeneration());
+			return indexCommitMetaInfo;
 		}
 		finally {
 			if (objectInputStream != null) {
@@ -96,6 +140,16 @@ public class IndexCommitSerializationUtil {
 			IndexCommit indexCommit, OutputStream outputStream)
 		throws IOException {
 
+		serializeIndex(
+			new IndexCommitMetaInfo(indexCommit), indexCommit.getDirectory(),
+			outputStream);
+	}
+
+	public static void serializeIndex(
+			IndexCommitMetaInfo indexCommitMetaInfo, Directory directory,
+			OutputStream outputStream)
+		throws IOException {
+
 		if (PropsValues.INDEX_DUMP_COMPRESSION_ENABLED) {
 			outputStream = new GZIPOutputStream(outputStream);
 		}
@@ -103,27 +157,28 @@ public class IndexCommitSerializationUtil {
 		ObjectOutputStream objectOputStream = new ObjectOutputStream(
 			outputStream);
 
-		IndexCommitMetaInfo indexCommitMetaInfo = new IndexCommitMetaInfo(
-			indexCommit);
-
 		if (_log.isDebugEnabled()) {
 			_log.debug("Serializing " + indexCommitMetaInfo);
 		}
 
 		objectOputStream.writeObject(indexCommitMetaInfo);
 
-		List<Segment> segments = indexCommitMetaInfo.getSegments();
+		if (!indexCommitMetaInfo.isEmpty()) {
+			List<Segment> segments = indexCommitMetaInfo.getSegments();
 
-		Directory directory = indexCommit.getDirectory();
+			for (Segment segment : segments) {
+				if (!segment.isTransferred()) {
+					continue;
+				}
 
-		for (Segment segment : segments) {
-			if (_log.isDebugEnabled()) {
-				_log.debug("Serializing segment " + segment);
-			}
+				if (_log.isDebugEnabled()) {
+					_log.debug("Serializing segment " + segment);
+				}
 
-			_serializeSegment(
-				directory.openInput(segment.getFileName()),
-				segment.getFileSize(), objectOputStream);
+				_serializeSegment(
+					directory.openInput(segment.getFileName()),
+					segment.getFileSize(), objectOputStream);
+			}
 		}
 
 		objectOputStream.flush();
@@ -135,10 +190,39 @@ public class IndexCommitSerializationUtil {
 		}
 	}
 
+	public static void writeSegmentsGen(Directory directory, long generation)
+		throws IOException {
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Writing " + _SEGMENTS_GEN_FILE_NAME + " with generation " +
+					generation);
+		}
+
+		IndexOutput indexOutput = directory.createOutput(
+			_SEGMENTS_GEN_FILE_NAME);
+
+		try {
+			indexOutput.writeInt(SegmentInfos.FORMAT_LOCKLESS);
+			indexOutput.writeLong(generation);
+			indexOutput.writeLong(generation);
+		}
+		finally {
+			indexOutput.close();
+		}
+	}
+
 	private static void _deserializeSegment(
-			InputStream inputStream, long length, IndexOutput indexOutput)
+			InputStream inputStream, Segment segment, Directory directory)
 		throws IOException {
 
+		String fileName = segment.getFileName();
+		long length = segment.getFileSize();
+
+		CRC32 crc32 = new CRC32();
+
+		IndexOutput indexOutput = directory.createOutput(fileName);
+
 		try {
 			indexOutput.setLength(length);
 
@@ -155,13 +239,33 @@ public class IndexCommitSerializationUtil {
 
 				int actualSize = inputStream.read(buffer, 0, bufferSize);
 
+				if (actualSize == -1) {
+					throw new EOFException(
+						"Stream ended after " + received + " of " + length +
+							" bytes of segment " + fileName);
+				}
+
 				indexOutput.writeBytes(buffer, actualSize);
 
+				crc32.update(buffer, 0, actualSize);
+
 				received += actualSize;
 			}
 		}
-		finally {
+		catch (IOException ioe) {
 			indexOutput.close();
+
+			directory.deleteFile(fileName);
+
+			throw ioe;
+		}
+
+		indexOutput.close();
+
+		if (crc32.getValue() != segment.getChecksum()) {
+			directory.deleteFile(fileName);
+
+			throw new IOException("Checksum mismatch for segment " + fileName);
 		}
 	}
 
@@ -188,28 +292,6 @@ public class IndexCommitSerializationUtil {
 		}
 	}
 
-	private static void _writeSegmentsGen(Directory directory, long generation)
-		throws IOException {
-
-		if (_log.isDebugEnabled()) {
-			_log.debug(
-				"Writing " + _SEGMENTS_GEN_FILE_NAME + " with generation " +
-					generation);
-		}
-
-		IndexOutput indexOutput = directory.createOutput(
-			_SEGMENTS_GEN_FILE_NAME);
-
-		try {
-			indexOutput.writeInt(SegmentInfos.FORMAT_LOCKLESS);
-			indexOutput.writeLong(generation);
-			indexOutput.writeLong(generation);
-		}
-		finally {
-			indexOutput.close();
-		}
-	}
-
 	private static final int _BUFFER_SIZE = 8192;
 
 	private static final String _SEGMENTS_GEN_FILE_NAME = "segments.gen";
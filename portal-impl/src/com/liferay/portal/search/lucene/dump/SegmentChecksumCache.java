@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene.dump;
+
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.IOException;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * Caches the CRC32 checksums of index files.
+ *
+ * <p>
+ * Lucene never rewrites a committed file, so a checksum stays valid for as
+ * long as a file with the same name and length exists. The cache must be
+ * cleared whenever the files of a directory are replaced wholesale, such as
+ * when an index is loaded from another cluster node.
+ * </p>
+ */
+public class SegmentChecksumCache {
+
+	public static long computeChecksum(Directory directory, String fileName)
+		throws IOException {
+
+		IndexInput indexInput = directory.openInput(fileName);
+
+		try {
+			CRC32 crc32 = new CRC32();
+
+			byte[] buffer = new byte[_BUFFER_SIZE];
+
+			long length = indexInput.length();
+
+			long read = 0;
+
+			while (read < length) {
+				int bufferSize = (int)Math.min(_BUFFER_SIZE, length - read);
+
+				indexInput.readBytes(buffer, 0, bufferSize);
+
+				crc32.update(buffer, 0, bufferSize);
+
+				read += bufferSize;
+			}
+
+			return crc32.getValue();
+		}
+		finally {
+			indexInput.close();
+		}
+	}
+
+	public void clear() {
+		_checksums.clear();
+	}
+
+	public long getChecksum(Directory directory, String fileName)
+		throws IOException {
+
+		String key = fileName.concat(StringPool.COLON).concat(
+			String.valueOf(directory.fileLength(fileName)));
+
+		Long checksum = _checksums.get(key);
+
+		if (checksum == null) {
+			checksum = computeChecksum(directory, fileName);
+
+			_checksums.put(key, checksum);
+		}
+
+		return checksum;
+	}
+
+	public void retainAll(Collection<String> fileNames) {
+		Iterator<String> iterator = _checksums.keySet().iterator();
+
+		while (iterator.hasNext()) {
+			String key = iterator.next();
+
+			String fileName = key.substring(
+				0, key.lastIndexOf(StringPool.COLON));
+
+			if (!fileNames.contains(fileName)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private Map<String, Long> _checksums =
+		new ConcurrentHashMap<String, Long>();
+
+}
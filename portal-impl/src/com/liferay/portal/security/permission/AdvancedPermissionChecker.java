@@ -547,8 +547,8 @@ public class AdvancedPermissionChecker extends BasePermissionChecker {
 		}
 
 		Boolean value = PermissionCacheUtil.getPermission(
-			user.getUserId(), signedIn, checkGuest, groupId, name, primKey,
-			actionId);
+			getCompanyId(), user.getUserId(), signedIn, checkGuest, groupId,
+			name, primKey, actionId);
 
 		if (value == null) {
 			try {
@@ -568,8 +568,8 @@ public class AdvancedPermissionChecker extends BasePermissionChecker {
 				}
 
 				PermissionCacheUtil.putPermission(
-					user.getUserId(), signedIn, checkGuest, groupId, name,
-					primKey, actionId, value);
+					getCompanyId(), user.getUserId(), signedIn, checkGuest,
+					groupId, name, primKey, actionId, value);
 			}
 		}
 
@@ -16,19 +16,35 @@ package com.liferay.portal.security.permission;
 
 import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
 import com.liferay.portal.kernel.lar.ImportExportThreadLocal;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.HashUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.ResourceConstants;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
 import java.util.Map;
+import java.util.Random;
 
 import org.apache.commons.collections.map.LRUMap;
 
 /**
+ * Besides clearing everything with {@link #clearCache()}, the cache can be
+ * invalidated for a single resource with {@link #clearResourceCache(long,
+ * String, int, String)} or for a single user with {@link
+ * #clearUserCache(long)}. Targeted invalidation never removes entries.
+ * Instead, every cache key embeds the versions of the resource, the resource
+ * name, and the user it depends on, so removing a version makes the matching
+ * entries unreachable and leaves them to expire. Versions are kept in a
+ * cluster cache whose removals are replicated like any other cache removal,
+ * and a missing version is replaced by a new random one, so a version that is
+ * evicted or removed on any node never makes old entries reachable again. The
+ * versions of several users cleared together are replicated in one cluster
+ * message.
+ *
  * @author Charles May
  * @author Michael Young
  * @author Shuyang Zhou
@@ -45,6 +61,12 @@ public class PermissionCacheUtil {
 	public static final String RESOURCE_BLOCK_IDS_BAG_CACHE_NAME =
 		PermissionCacheUtil.class.getName() + "_RESOURCE_BLOCK_IDS_BAG";
 
+	public static final String RESOURCE_PERMISSION_INDEX_CACHE_NAME =
+		PermissionCacheUtil.class.getName() + "_RESOURCE_PERMISSION_INDEX";
+
+	public static final String VERSION_CACHE_NAME =
+		PermissionCacheUtil.class.getName() + "_VERSION";
+
 	public static void clearCache() {
 		if (ImportExportThreadLocal.isImportInProcess() ||
 			!PermissionThreadLocal.isFlushEnabled()) {
@@ -57,6 +79,7 @@ public class PermissionCacheUtil {
 		_permissionCheckerBagPortalCache.removeAll();
 		_permissionPortalCache.removeAll();
 		_resourceBlockIdsBagCache.removeAll();
+		_resourcePermissionIndexPortalCache.removeAll();
 	}
 
 	public static void clearLocalCache() {
@@ -67,10 +90,57 @@ public class PermissionCacheUtil {
 		}
 	}
 
+	public static void clearResourceCache(long companyId, String name) {
+		_invalidate(new VersionKey(companyId, name, null, 0));
+	}
+
+	public static void clearResourceCache(
+		long companyId, String name, int scope, String primKey) {
+
+		if (scope == ResourceConstants.SCOPE_INDIVIDUAL) {
+			_invalidate(new VersionKey(companyId, name, primKey, 0));
+		}
+		else {
+
+			// Group, group template, and company scoped permissions apply to
+			// every resource with the same name
+
+			clearResourceCache(companyId, name);
+		}
+	}
+
+	/**
+	 * Invalidates the resource permission index of the resource along with
+	 * every cached permission of the resource, since they are all computed
+	 * from its resource permissions.
+	 */
+	public static void clearResourcePermissionIndex(
+		long companyId, String name, int scope, String primKey) {
+
+		clearResourceCache(companyId, name, scope, primKey);
+	}
+
+	public static void clearUserCache(long userId) {
+		_invalidate(new VersionKey(0, null, null, userId));
+	}
+
+	public static void clearUserCache(long[] userIds) {
+		PortalCacheClusterLinkUtil.beginBatch();
+
+		try {
+			for (long userId : userIds) {
+				clearUserCache(userId);
+			}
+		}
+		finally {
+			PortalCacheClusterLinkUtil.endBatch();
+		}
+	}
+
 	public static PermissionCheckerBag getBag(long userId, long groupId) {
 		PermissionCheckerBag bag = null;
 
-		Serializable key = new BagKey(userId, groupId);
+		Serializable key = new BagKey(userId, groupId, _getVersion(userId));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -87,13 +157,14 @@ public class PermissionCacheUtil {
 	}
 
 	public static Boolean getPermission(
-		long userId, boolean signedIn, boolean checkGuest, long groupId,
-		String name, String primKey, String actionId) {
+		long companyId, long userId, boolean signedIn, boolean checkGuest,
+		long groupId, String name, String primKey, String actionId) {
 
 		Boolean value = null;
 
 		Serializable key = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			_getVersion(companyId, name, primKey, userId));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -115,7 +186,8 @@ public class PermissionCacheUtil {
 		ResourceBlockIdsBag resourceBlockIdsBag = null;
 
 		Serializable key = new ResourceBlockIdsBagKey(
-			companyId, groupId, userId, name, checkGuest);
+			companyId, groupId, userId, name, checkGuest,
+			_getVersion(companyId, name, null, userId));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -131,6 +203,31 @@ public class PermissionCacheUtil {
 		return resourceBlockIdsBag;
 	}
 
+	public static ResourcePermissionIndex getResourcePermissionIndex(
+		long companyId, String name, int scope, String primKey) {
+
+		ResourcePermissionIndex resourcePermissionIndex = null;
+
+		Serializable key = new ResourcePermissionIndexKey(
+			companyId, name, scope, primKey,
+			_getVersion(companyId, name, scope, primKey));
+
+		if (_localCacheAvailable) {
+			Map<String, Object> localCache = _localCache.get();
+
+			resourcePermissionIndex = (ResourcePermissionIndex)localCache.get(
+				key);
+		}
+
+		if (resourcePermissionIndex == null) {
+			resourcePermissionIndex =
+				(ResourcePermissionIndex)
+					_resourcePermissionIndexPortalCache.get(key);
+		}
+
+		return resourcePermissionIndex;
+	}
+
 	public static PermissionCheckerBag putBag(
 		long userId, long groupId, PermissionCheckerBag bag) {
 
@@ -138,7 +235,7 @@ public class PermissionCacheUtil {
 			return null;
 		}
 
-		Serializable key = new BagKey(userId, groupId);
+		Serializable key = new BagKey(userId, groupId, _getVersion(userId));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -152,15 +249,17 @@ public class PermissionCacheUtil {
 	}
 
 	public static Boolean putPermission(
-		long userId, boolean signedIn, boolean checkGuest, long groupId,
-		String name, String primKey, String actionId, Boolean value) {
+		long companyId, long userId, boolean signedIn, boolean checkGuest,
+		long groupId, String name, String primKey, String actionId,
+		Boolean value) {
 
 		if (value == null) {
 			return null;
 		}
 
 		Serializable key = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			_getVersion(companyId, name, primKey, userId));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -182,7 +281,8 @@ public class PermissionCacheUtil {
 		}
 
 		Serializable key = new ResourceBlockIdsBagKey(
-			companyId, groupId, userId, name, checkGuest);
+			companyId, groupId, userId, name, checkGuest,
+			_getVersion(companyId, name, null, userId));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -195,6 +295,78 @@ public class PermissionCacheUtil {
 		return resourceBlockIdsBag;
 	}
 
+	public static ResourcePermissionIndex putResourcePermissionIndex(
+		long companyId, String name, int scope, String primKey,
+		ResourcePermissionIndex resourcePermissionIndex) {
+
+		if (resourcePermissionIndex == null) {
+			return null;
+		}
+
+		Serializable key = new ResourcePermissionIndexKey(
+			companyId, name, scope, primKey,
+			_getVersion(companyId, name, scope, primKey));
+
+		if (_localCacheAvailable) {
+			Map<Serializable, Object> localCache = _localCache.get();
+
+			localCache.put(key, resourcePermissionIndex);
+		}
+
+		_resourcePermissionIndexPortalCache.put(key, resourcePermissionIndex);
+
+		return resourcePermissionIndex;
+	}
+
+	private static long _getVersion(
+		long companyId, String name, int scope, String primKey) {
+
+		if (scope == ResourceConstants.SCOPE_INDIVIDUAL) {
+			return _getVersion(companyId, name, primKey, 0);
+		}
+		else {
+			return _getVersion(companyId, name, null, 0);
+		}
+	}
+
+	private static long _getVersion(long userId) {
+		return _getVersion(new VersionKey(0, null, null, userId));
+	}
+
+	private static long _getVersion(
+		long companyId, String name, String primKey, long userId) {
+
+		long version = _getVersion(new VersionKey(companyId, name, null, 0));
+
+		if (primKey != null) {
+			version += _getVersion(new VersionKey(companyId, name, primKey, 0));
+		}
+
+		return version + _getVersion(userId);
+	}
+
+	private static long _getVersion(Serializable versionKey) {
+		Long version = (Long)_versionPortalCache.get(versionKey);
+
+		if (version == null) {
+			version = _random.nextLong();
+
+			_versionPortalCache.put(versionKey, version);
+		}
+
+		return version.longValue();
+	}
+
+	private static void _invalidate(Serializable versionKey) {
+		if (ImportExportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		_versionPortalCache.remove(versionKey);
+	}
+
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
 	private static PortalCache _permissionCheckerBagPortalCache =
@@ -205,23 +377,33 @@ public class PermissionCacheUtil {
 		MultiVMPoolUtil.getCache(
 			PERMISSION_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static Random _random = new Random();
 	private static PortalCache _resourceBlockIdsBagCache =
 		MultiVMPoolUtil.getCache(
 			RESOURCE_BLOCK_IDS_BAG_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCache _resourcePermissionIndexPortalCache =
+		MultiVMPoolUtil.getCache(
+			RESOURCE_PERMISSION_INDEX_CACHE_NAME,
+			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCache _versionPortalCache = MultiVMPoolUtil.getCache(
+		VERSION_CACHE_NAME);
 
 	private static class BagKey implements Serializable {
 
-		public BagKey(long userId, long groupId) {
+		public BagKey(long userId, long groupId, long version) {
 			_userId = userId;
 			_groupId = groupId;
+			_version = version;
 		}
 
 		@Override
 		public boolean equals(Object obj) {
 			BagKey bagKey = (BagKey)obj;
 
-			if ((bagKey._userId == _userId) && (bagKey._groupId == _groupId)) {
+			if ((bagKey._userId == _userId) && (bagKey._groupId == _groupId) &&
+				(bagKey._version == _version)) {
+
 				return true;
 			}
 			else {
@@ -238,6 +420,7 @@ public class PermissionCacheUtil {
 
 		private final long _groupId;
 		private final long _userId;
+		private final long _version;
 
 	}
 
@@ -245,7 +428,7 @@ public class PermissionCacheUtil {
 
 		public PermissionKey(
 			long userId, boolean signedIn, boolean checkGuest, long groupId,
-			String name, String primKey, String actionId) {
+			String name, String primKey, String actionId, long version) {
 
 			_userId = userId;
 			_signedIn = signedIn;
@@ -254,6 +437,7 @@ public class PermissionCacheUtil {
 			_name = name;
 			_primKey = primKey;
 			_actionId = actionId;
+			_version = version;
 		}
 
 		@Override
@@ -266,7 +450,8 @@ public class PermissionCacheUtil {
 				(permissionKey._groupId == _groupId) &&
 				Validator.equals(permissionKey._name, _name) &&
 				Validator.equals(permissionKey._primKey, _primKey) &&
-				Validator.equals(permissionKey._actionId, _actionId)) {
+				Validator.equals(permissionKey._actionId, _actionId) &&
+				(permissionKey._version == _version)) {
 
 				return true;
 			}
@@ -285,6 +470,7 @@ public class PermissionCacheUtil {
 			hashCode = HashUtil.hash(hashCode, _name);
 			hashCode = HashUtil.hash(hashCode, _primKey);
 			hashCode = HashUtil.hash(hashCode, _actionId);
+			hashCode = HashUtil.hash(hashCode, _version);
 
 			return hashCode;
 		}
@@ -298,6 +484,7 @@ public class PermissionCacheUtil {
 		private final String _primKey;
 		private final boolean _signedIn;
 		private final long _userId;
+		private final long _version;
 
 	}
 
@@ -305,13 +492,14 @@ public class PermissionCacheUtil {
 
 		public ResourceBlockIdsBagKey(
 			long companyId, long groupId, long userId, String name,
-			boolean checkGuest) {
+			boolean checkGuest, long version) {
 
 			_companyId = companyId;
 			_groupId = groupId;
 			_userId = userId;
 			_name = name;
 			_checkGuest = checkGuest;
+			_version = version;
 		}
 
 		@Override
@@ -323,7 +511,8 @@ public class PermissionCacheUtil {
 				(resourceBlockIdsKey._groupId == _groupId) &&
 				(resourceBlockIdsKey._userId == _userId) &&
 				(resourceBlockIdsKey._checkGuest == _checkGuest) &&
-				Validator.equals(resourceBlockIdsKey._name, _name)) {
+				Validator.equals(resourceBlockIdsKey._name, _name) &&
+				(resourceBlockIdsKey._version == _version)) {
 
 				return true;
 			}
@@ -340,6 +529,7 @@ public class PermissionCacheUtil {
 			hashCode = HashUtil.hash(hashCode, _userId);
 			hashCode = HashUtil.hash(hashCode, _name);
 			hashCode = HashUtil.hash(hashCode, _checkGuest);
+			hashCode = HashUtil.hash(hashCode, _version);
 
 			return hashCode;
 		}
@@ -351,6 +541,108 @@ public class PermissionCacheUtil {
 		private final long _groupId;
 		private final String _name;
 		private final long _userId;
+		private final long _version;
+
+	}
+
+	private static class ResourcePermissionIndexKey implements Serializable {
+
+		public ResourcePermissionIndexKey(
+			long companyId, String name, int scope, String primKey,
+			long version) {
+
+			_companyId = companyId;
+			_name = name;
+			_scope = scope;
+			_primKey = primKey;
+			_version = version;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			ResourcePermissionIndexKey resourcePermissionIndexKey =
+				(ResourcePermissionIndexKey)obj;
+
+			if ((resourcePermissionIndexKey._companyId == _companyId) &&
+				(resourcePermissionIndexKey._scope == _scope) &&
+				Validator.equals(resourcePermissionIndexKey._name, _name) &&
+				Validator.equals(
+					resourcePermissionIndexKey._primKey, _primKey) &&
+				(resourcePermissionIndexKey._version == _version)) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = HashUtil.hash(0, _companyId);
+
+			hashCode = HashUtil.hash(hashCode, _name);
+			hashCode = HashUtil.hash(hashCode, _scope);
+			hashCode = HashUtil.hash(hashCode, _primKey);
+			hashCode = HashUtil.hash(hashCode, _version);
+
+			return hashCode;
+		}
+
+		private static final long serialVersionUID = 1L;
+
+		private final long _companyId;
+		private final String _name;
+		private final String _primKey;
+		private final int _scope;
+		private final long _version;
+
+	}
+
+	private static class VersionKey implements Serializable {
+
+		public VersionKey(
+			long companyId, String name, String primKey, long userId) {
+
+			_companyId = companyId;
+			_name = name;
+			_primKey = primKey;
+			_userId = userId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			VersionKey versionKey = (VersionKey)obj;
+
+			if ((versionKey._companyId == _companyId) &&
+				(versionKey._userId == _userId) &&
+				Validator.equals(versionKey._name, _name) &&
+				Validator.equals(versionKey._primKey, _primKey)) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = HashUtil.hash(0, _companyId);
+
+			hashCode = HashUtil.hash(hashCode, _userId);
+			hashCode = HashUtil.hash(hashCode, _name);
+			hashCode = HashUtil.hash(hashCode, _primKey);
+
+			return hashCode;
+		}
+
+		private static final long serialVersionUID = 1L;
+
+		private final long _companyId;
+		private final String _name;
+		private final String _primKey;
+		private final long _userId;
 
 	}
 
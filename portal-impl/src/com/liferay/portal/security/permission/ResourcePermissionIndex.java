@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.permission;
+
+import com.liferay.portal.model.ResourcePermission;
+
+import java.io.Serializable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Indexes the resource permissions of a single resource at a single scope.
+ *
+ * <p>
+ * The role IDs are kept in a sorted array with a parallel array of action
+ * bitmasks, so checking a set of roles takes one binary search and one bitwise
+ * AND per role. The union of every bitmask rejects actions that no role is
+ * granted without looking at the roles at all.
+ * </p>
+ */
+public class ResourcePermissionIndex implements Serializable {
+
+	public ResourcePermissionIndex(
+		List<ResourcePermission> resourcePermissions) {
+
+		Map<Long, Long> actionIdsMap = new TreeMap<Long, Long>();
+
+		for (ResourcePermission resourcePermission : resourcePermissions) {
+			long actionIds = resourcePermission.getActionIds();
+
+			if (actionIds == 0) {
+				continue;
+			}
+
+			Long roleActionIds = actionIdsMap.get(
+				resourcePermission.getRoleId());
+
+			if (roleActionIds != null) {
+				actionIds |= roleActionIds.longValue();
+			}
+
+			actionIdsMap.put(resourcePermission.getRoleId(), actionIds);
+		}
+
+		_roleIds = new long[actionIdsMap.size()];
+		_actionIds = new long[actionIdsMap.size()];
+
+		int i = 0;
+
+		for (Map.Entry<Long, Long> entry : actionIdsMap.entrySet()) {
+			_roleIds[i] = entry.getKey();
+			_actionIds[i] = entry.getValue();
+
+			_allActionIds |= _actionIds[i];
+
+			i++;
+		}
+	}
+
+	public boolean hasPermission(long roleId, long bitwiseValue) {
+		if ((_allActionIds & bitwiseValue) == 0) {
+			return false;
+		}
+
+		int index = Arrays.binarySearch(_roleIds, roleId);
+
+		if ((index >= 0) && ((_actionIds[index] & bitwiseValue) != 0)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public boolean hasPermission(long[] roleIds, long bitwiseValue) {
+		if ((_allActionIds & bitwiseValue) == 0) {
+			return false;
+		}
+
+		for (long roleId : roleIds) {
+			int index = Arrays.binarySearch(_roleIds, roleId);
+
+			if ((index >= 0) && ((_actionIds[index] & bitwiseValue) != 0)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public int size() {
+		return _roleIds.length;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long[] _actionIds;
+	private long _allActionIds;
+	private final long[] _roleIds;
+
+}
@@ -109,6 +109,7 @@ import com.liferay.portal.service.RoleLocalService;
 import com.liferay.portal.service.RoleService;
 import com.liferay.portal.service.ServiceComponentLocalService;
 import com.liferay.portal.service.ShardLocalService;
+import com.liferay.portal.service.StagedModelChangeLocalService;
 import com.liferay.portal.service.SubscriptionLocalService;
 import com.liferay.portal.service.TeamLocalService;
 import com.liferay.portal.service.TeamService;
@@ -189,6 +190,7 @@ import com.liferay.portal.service.persistence.RoleFinder;
 import com.liferay.portal.service.persistence.RolePersistence;
 import com.liferay.portal.service.persistence.ServiceComponentPersistence;
 import com.liferay.portal.service.persistence.ShardPersistence;
+import com.liferay.portal.service.persistence.StagedModelChangePersistence;
 import com.liferay.portal.service.persistence.SubscriptionPersistence;
 import com.liferay.portal.service.persistence.TeamFinder;
 import com.liferay.portal.service.persistence.TeamPersistence;
@@ -2921,6 +2923,44 @@ public abstract class AccountLocalServiceBaseImpl extends BaseLocalServiceImpl
 		this.shardPersistence = shardPersistence;
 	}
 
+	/**
+	 * Returns the staged model change local service.
+	 *
+	 * @return the staged model change local service
+	 */
+	public StagedModelChangeLocalService getStagedModelChangeLocalService() {
+		return stagedModelChangeLocalService;
+	}
+
+	/**
+	 * Sets the staged model change local service.
+	 *
+	 * @param stagedModelChangeLocalService the staged model change local service
+	 */
+	public void setStagedModelChangeLocalService(
+		StagedModelChangeLocalService stagedModelChangeLocalService) {
+		this.stagedModelChangeLocalService = stagedModelChangeLocalService;
+	}
+
+	/**
+	 * Returns the staged model change persistence.
+	 *
+	 * @return the staged model change persistence
+	 */
+	public StagedModelChangePersistence getStagedModelChangePersistence() {
+		return stagedModelChangePersistence;
+	}
+
+	/**
+	 * Sets the staged model change persistence.
+	 *
+	 * @param stagedModelChangePersistence the staged model change persistence
+	 */
+	public void setStagedModelChangePersistence(
+		StagedModelChangePersistence stagedModelChangePersistence) {
+		this.stagedModelChangePersistence = stagedModelChangePersistence;
+	}
+
 	/**
 	 * Returns the subscription local service.
 	 *
@@ -4080,6 +4120,10 @@ public abstract class AccountLocalServiceBaseImpl extends BaseLocalServiceImpl
 	protected ShardLocalService shardLocalService;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangeLocalService.class)
+	protected StagedModelChangeLocalService stagedModelChangeLocalService;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionLocalService.class)
 	protected SubscriptionLocalService subscriptionLocalService;
 	@BeanReference(type = SubscriptionPersistence.class)
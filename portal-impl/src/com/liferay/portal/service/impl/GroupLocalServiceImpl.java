@@ -423,7 +423,7 @@ public class GroupLocalServiceImpl extends GroupLocalServiceBaseImpl {
 
 		userPersistence.addGroups(userId, groupIds);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
@@ -721,6 +721,11 @@ public class GroupLocalServiceImpl extends GroupLocalServiceBaseImpl {
 
 		wikiNodeLocalService.deleteNodes(group.getGroupId());
 
+		// Staged model changes
+
+		stagedModelChangeLocalService.deleteStagedModelChanges(
+			group.getGroupId());
+
 		// Resources
 
 		List<ResourcePermission> resourcePermissions =
@@ -1932,7 +1937,7 @@ public class GroupLocalServiceImpl extends GroupLocalServiceBaseImpl {
 
 		userPersistence.removeGroups(userId, groupIds);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
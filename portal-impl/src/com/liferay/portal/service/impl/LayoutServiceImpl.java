@@ -22,6 +22,8 @@ import com.liferay.portal.kernel.scheduler.CronTrigger;
 import com.liferay.portal.kernel.scheduler.SchedulerEngineUtil;
 import com.liferay.portal.kernel.scheduler.StorageType;
 import com.liferay.portal.kernel.scheduler.Trigger;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.StringPool;
@@ -269,6 +271,7 @@ public class LayoutServiceImpl extends LayoutServiceBaseImpl {
 	 *         manage the layouts, or if some other portal exception occurred
 	 * @throws SystemException if a system exception occurred
 	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(
 			long groupId, boolean privateLayout, long[] layoutIds,
 			Map<String, String[]> parameterMap, Date startDate, Date endDate)
@@ -299,6 +302,7 @@ public class LayoutServiceImpl extends LayoutServiceBaseImpl {
 	 *         layouts, or if some other portal exception occurred
 	 * @throws SystemException if a system exception occurred
 	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(
 			long groupId, boolean privateLayout,
 			Map<String, String[]> parameterMap, Date startDate, Date endDate)
@@ -330,6 +334,7 @@ public class LayoutServiceImpl extends LayoutServiceBaseImpl {
 	 *         manage the layouts, or if some other portal exception occurred
 	 * @throws SystemException if a system exception occurred
 	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public File exportLayoutsAsFile(
 			long groupId, boolean privateLayout, long[] layoutIds,
 			Map<String, String[]> parameterMap, Date startDate, Date endDate)
@@ -490,7 +490,8 @@ public class ResourceLocalServiceImpl extends ResourceLocalServiceBaseImpl {
 		finally {
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearResourceCache(
+				companyId, name, ResourceConstants.SCOPE_INDIVIDUAL, primKey);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
@@ -602,7 +603,8 @@ public class ResourceLocalServiceImpl extends ResourceLocalServiceBaseImpl {
 
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearResourceCache(
+				companyId, name, ResourceConstants.SCOPE_INDIVIDUAL, primKey);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
@@ -743,6 +745,10 @@ public class ResourceLocalServiceImpl extends ResourceLocalServiceBaseImpl {
 
 			resourcePermissionPersistence.update(resourcePermission, false);
 		}
+
+		PermissionCacheUtil.clearResourceCache(companyId, name, scope, primKey);
+		PermissionCacheUtil.clearResourceCache(
+			companyId, name, scope, newPrimKey);
 	}
 
 	protected void updateResources(
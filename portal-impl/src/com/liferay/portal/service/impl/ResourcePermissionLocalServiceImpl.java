@@ -34,6 +34,7 @@ import com.liferay.portal.model.RoleConstants;
 import com.liferay.portal.security.permission.PermissionCacheUtil;
 import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portal.security.permission.ResourceActionsUtil;
+import com.liferay.portal.security.permission.ResourcePermissionIndex;
 import com.liferay.portal.service.base.ResourcePermissionLocalServiceBaseImpl;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsValues;
@@ -140,7 +141,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_ADD);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(companyId, name, scope, primKey);
 	}
 
 	/**
@@ -583,18 +584,31 @@ public class ResourcePermissionLocalServiceImpl
 
 		// Iterate the list of resources in reverse order to test permissions
 		// from company scope to individual scope because it is more likely that
-		// a permission is assigned at a higher scope. Optimizing this method
-		// to one SQL call may actually slow things down since most of the calls
-		// will pull from the cache after the first request.
+		// a permission is assigned at a higher scope. Each resource is checked
+		// against a cached index of all of its resource permissions, which is
+		// shared by every user and set of roles. The index is loaded without
+		// filtering on the roles, so the role count that makes the single
+		// resource check switch to a counting query does not apply here.
+
+		long bitwiseValue = 0;
 
 		for (int i = resources.size() - 1; i >= 0; i--) {
 			Resource resource = resources.get(i);
 
-			if (hasResourcePermission(
+			if (bitwiseValue == 0) {
+				ResourceAction resourceAction =
+					resourceActionLocalService.getResourceAction(
+						resource.getName(), actionId);
+
+				bitwiseValue = resourceAction.getBitwiseValue();
+			}
+
+			ResourcePermissionIndex resourcePermissionIndex =
+				getResourcePermissionIndex(
 					resource.getCompanyId(), resource.getName(),
-					resource.getScope(), resource.getPrimKey(), roleIds,
-					actionId)) {
+					resource.getScope(), resource.getPrimKey());
 
+			if (resourcePermissionIndex.hasPermission(roleIds, bitwiseValue)) {
 				return true;
 			}
 		}
@@ -901,7 +915,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_REMOVE);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(companyId, name, scope, primKey);
 	}
 
 	/**
@@ -935,7 +949,7 @@ public class ResourcePermissionLocalServiceImpl
 				ResourcePermissionConstants.OPERATOR_REMOVE);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(companyId, name);
 	}
 
 	/**
@@ -1129,7 +1143,7 @@ public class ResourcePermissionLocalServiceImpl
 
 		resourcePermissionPersistence.update(resourcePermission, false);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearResourceCache(companyId, name, scope, primKey);
 
 		SearchEngineUtil.updatePermissionFields(name, primKey);
 	}
@@ -1158,12 +1172,36 @@ public class ResourcePermissionLocalServiceImpl
 		finally {
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearResourceCache(
+				companyId, name, scope, primKey);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
 	}
 
+	protected ResourcePermissionIndex getResourcePermissionIndex(
+			long companyId, String name, int scope, String primKey)
+		throws SystemException {
+
+		ResourcePermissionIndex resourcePermissionIndex =
+			PermissionCacheUtil.getResourcePermissionIndex(
+				companyId, name, scope, primKey);
+
+		if (resourcePermissionIndex == null) {
+			List<ResourcePermission> resourcePermissions =
+				resourcePermissionPersistence.findByC_N_S_P(
+					companyId, name, scope, primKey);
+
+			resourcePermissionIndex = new ResourcePermissionIndex(
+				resourcePermissions);
+
+			PermissionCacheUtil.putResourcePermissionIndex(
+				companyId, name, scope, primKey, resourcePermissionIndex);
+		}
+
+		return resourcePermissionIndex;
+	}
+
 	/**
 	 * Updates the role's permissions at the scope, either adding to, removing
 	 * from, or setting the actions that can be performed on resources of the
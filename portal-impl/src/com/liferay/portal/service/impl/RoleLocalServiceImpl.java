@@ -189,7 +189,7 @@ public class RoleLocalServiceImpl extends RoleLocalServiceBaseImpl {
 
 		indexer.reindex(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
@@ -1108,7 +1108,7 @@ public class RoleLocalServiceImpl extends RoleLocalServiceBaseImpl {
 
 		indexer.reindex(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
@@ -1132,7 +1132,7 @@ public class RoleLocalServiceImpl extends RoleLocalServiceBaseImpl {
 
 		indexer.reindex(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
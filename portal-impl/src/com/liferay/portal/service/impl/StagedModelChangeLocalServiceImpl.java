@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.impl;
+
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.model.StagedModelChangeConstants;
+import com.liferay.portal.service.base.StagedModelChangeLocalServiceBaseImpl;
+import com.liferay.portal.util.PortalUtil;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Keeps the change journal of staged groups. The journal has at most one row
+ * for each changed entity, holding the type and the date of its latest change,
+ * so that a publication can find what changed since the last publication
+ * without looking at the content that did not change.
+ *
+ * @see com.liferay.portal.staging.StagedModelChangeListener
+ */
+public class StagedModelChangeLocalServiceImpl
+	extends StagedModelChangeLocalServiceBaseImpl {
+
+	public void deleteStagedModelChanges(long groupId) throws SystemException {
+		stagedModelChangePersistence.removeByGroupId(groupId);
+	}
+
+	public void deleteStagedModelChanges(long groupId, Date modifiedDate)
+		throws SystemException {
+
+		stagedModelChangePersistence.removeByG_LtM(groupId, modifiedDate);
+	}
+
+	public List<StagedModelChange> getStagedModelChanges(
+			long groupId, Date modifiedDate)
+		throws SystemException {
+
+		return stagedModelChangePersistence.findByG_GtM(groupId, modifiedDate);
+	}
+
+	public StagedModelChange updateStagedModelChange(
+			long companyId, long groupId, String className, long classPK,
+			String classUuid, int type)
+		throws SystemException {
+
+		long classNameId = PortalUtil.getClassNameId(className);
+
+		// There is no unique index so that concurrent changes of the same
+		// entity never fail. A duplicate row only repeats the same change.
+
+		List<StagedModelChange> stagedModelChanges =
+			stagedModelChangePersistence.findByG_C_C(
+				groupId, classNameId, classPK);
+
+		StagedModelChange stagedModelChange = null;
+
+		if (stagedModelChanges.isEmpty()) {
+			long stagedModelChangeId = counterLocalService.increment();
+
+			stagedModelChange = stagedModelChangePersistence.create(
+				stagedModelChangeId);
+
+			stagedModelChange.setGroupId(groupId);
+			stagedModelChange.setCompanyId(companyId);
+			stagedModelChange.setClassNameId(classNameId);
+			stagedModelChange.setClassPK(classPK);
+		}
+		else {
+			stagedModelChange = stagedModelChanges.get(0);
+
+			// An entity that was added and then updated before it was
+			// published is still new to the target group
+
+			if ((stagedModelChange.getType() ==
+					StagedModelChangeConstants.TYPE_ADD) &&
+				(type == StagedModelChangeConstants.TYPE_UPDATE)) {
+
+				type = StagedModelChangeConstants.TYPE_ADD;
+			}
+		}
+
+		stagedModelChange.setModifiedDate(new Date());
+		stagedModelChange.setClassUuid(classUuid);
+		stagedModelChange.setType(type);
+
+		stagedModelChangePersistence.update(stagedModelChange, false);
+
+		return stagedModelChange;
+	}
+
+}
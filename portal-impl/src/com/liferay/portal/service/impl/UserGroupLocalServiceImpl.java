@@ -154,7 +154,7 @@ public class UserGroupLocalServiceImpl extends UserGroupLocalServiceBaseImpl {
 	public void clearUserUserGroups(long userId) throws SystemException {
 		userPersistence.clearUserGroups(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
@@ -552,7 +552,7 @@ public class UserGroupLocalServiceImpl extends UserGroupLocalServiceBaseImpl {
 
 		indexer.reindex(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	/**
@@ -48,7 +48,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	public void addUserGroupRoles(long[] userIds, long groupId, long roleId)
@@ -67,7 +67,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userIds);
 	}
 
 	@Override
@@ -76,7 +76,7 @@ public class UserGroupRoleLocalServiceImpl
 
 		userGroupRolePersistence.remove(userGroupRole);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userGroupRole.getUserId());
 
 		return userGroupRole;
 	}
@@ -94,7 +94,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	public void deleteUserGroupRoles(long userId, long[] groupIds)
@@ -104,7 +104,7 @@ public class UserGroupRoleLocalServiceImpl
 			userGroupRolePersistence.removeByU_G(userId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	public void deleteUserGroupRoles(long[] userIds, long groupId)
@@ -114,7 +114,7 @@ public class UserGroupRoleLocalServiceImpl
 			userGroupRolePersistence.removeByU_G(userId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userIds);
 	}
 
 	public void deleteUserGroupRoles(long[] userIds, long groupId, long roleId)
@@ -130,7 +130,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userIds);
 	}
 
 	public void deleteUserGroupRolesByGroupId(long groupId)
@@ -154,7 +154,7 @@ public class UserGroupRoleLocalServiceImpl
 
 		userGroupRolePersistence.removeByUserId(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearUserCache(userId);
 	}
 
 	public List<UserGroupRole> getUserGroupRoles(long userId)
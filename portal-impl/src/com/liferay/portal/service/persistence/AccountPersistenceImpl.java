@@ -22,6 +22,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -31,6 +32,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.Account;
 import com.liferay.portal.model.CacheModel;
@@ -43,7 +45,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the account service.
@@ -141,14 +146,14 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		EntityCacheUtil.removeResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
 			AccountImpl.class, account.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 	}
 
 	@Override
 	public void clearCache(List<Account> accounts) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (Account account : accounts) {
 			EntityCacheUtil.removeResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
@@ -270,10 +275,12 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
 		if (isNew) {
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 		}
 
 		EntityCacheUtil.putResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
@@ -410,6 +417,112 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		return account;
 	}
 
+	/**
+	 * Returns the accounts with the primary keys, mapped by primary key. Primary keys that do not match a account are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the accounts that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the accounts
+	 * @return the accounts that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, Account> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Account> map = new HashMap<Serializable, Account>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(AccountModelImpl.ENTITY_CACHE_ENABLED,
+				AccountImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				Account account = (Account)result;
+
+				if (account != _nullAccount) {
+					map.put(primaryKey, account);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ACCOUNT_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<Account> list = q.list();
+
+				for (Account account : list) {
+					map.put(account.getPrimaryKeyObj(), account);
+
+					cacheResult(account);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
+					AccountImpl.class, primaryKey, _nullAccount);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the accounts.
 	 *
@@ -694,6 +807,8 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -727,9 +842,11 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_ACCOUNT = "SELECT account FROM Account account";
+	private static final String _SQL_SELECT_ACCOUNT_WHERE_PKS_IN = "SELECT account FROM Account account WHERE account.accountId IN (";
 	private static final String _SQL_COUNT_ACCOUNT = "SELECT COUNT(account) FROM Account account";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "account.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Account exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(AccountPersistenceImpl.class);
 	private static Account _nullAccount = new AccountImpl() {
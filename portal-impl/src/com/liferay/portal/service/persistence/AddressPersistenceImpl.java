@@ -45,7 +45,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the address service.
@@ -80,17 +83,17 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 1);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID =
 		new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByCompanyId",
 			new String[] { Long.class.getName() },
-			AddressModelImpl.COMPANYID_COLUMN_BITMASK);
+			AddressModelImpl.COMPANYID_COLUMN_BITMASK, 1);
 	public static final FinderPath FINDER_PATH_COUNT_BY_COMPANYID = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByCompanyId",
-			new String[] { Long.class.getName() });
+			new String[] { Long.class.getName() }, -1, 1);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByUserId",
@@ -99,17 +102,17 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 1);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID =
 		new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByUserId",
 			new String[] { Long.class.getName() },
-			AddressModelImpl.USERID_COLUMN_BITMASK);
+			AddressModelImpl.USERID_COLUMN_BITMASK, 1);
 	public static final FinderPath FINDER_PATH_COUNT_BY_USERID = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByUserId",
-			new String[] { Long.class.getName() });
+			new String[] { Long.class.getName() }, -1, 1);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C",
@@ -118,17 +121,17 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 2);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_C",
 			new String[] { Long.class.getName(), Long.class.getName() },
 			AddressModelImpl.COMPANYID_COLUMN_BITMASK |
-			AddressModelImpl.CLASSNAMEID_COLUMN_BITMASK);
+			AddressModelImpl.CLASSNAMEID_COLUMN_BITMASK, 2);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C",
-			new String[] { Long.class.getName(), Long.class.getName() });
+			new String[] { Long.class.getName(), Long.class.getName() }, -1, 2);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C_C",
@@ -137,7 +140,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_C_C",
@@ -146,13 +149,13 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 			},
 			AddressModelImpl.COMPANYID_COLUMN_BITMASK |
 			AddressModelImpl.CLASSNAMEID_COLUMN_BITMASK |
-			AddressModelImpl.CLASSPK_COLUMN_BITMASK);
+			AddressModelImpl.CLASSPK_COLUMN_BITMASK, 3);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C_C = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C_C",
 			new String[] {
 				Long.class.getName(), Long.class.getName(), Long.class.getName()
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_M = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C_C_M",
@@ -162,7 +165,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M =
 		new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
@@ -174,14 +177,14 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 			AddressModelImpl.COMPANYID_COLUMN_BITMASK |
 			AddressModelImpl.CLASSNAMEID_COLUMN_BITMASK |
 			AddressModelImpl.CLASSPK_COLUMN_BITMASK |
-			AddressModelImpl.MAILING_COLUMN_BITMASK);
+			AddressModelImpl.MAILING_COLUMN_BITMASK, 4);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C_C_M = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C_C_M",
 			new String[] {
 				Long.class.getName(), Long.class.getName(), Long.class.getName(),
 				Boolean.class.getName()
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C_C_P",
@@ -191,7 +194,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P =
 		new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
@@ -203,14 +206,14 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 			AddressModelImpl.COMPANYID_COLUMN_BITMASK |
 			AddressModelImpl.CLASSNAMEID_COLUMN_BITMASK |
 			AddressModelImpl.CLASSPK_COLUMN_BITMASK |
-			AddressModelImpl.PRIMARY_COLUMN_BITMASK);
+			AddressModelImpl.PRIMARY_COLUMN_BITMASK, 4);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C_C_P = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C_C_P",
 			new String[] {
 				Long.class.getName(), Long.class.getName(), Long.class.getName(),
 				Boolean.class.getName()
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressModelImpl.FINDER_CACHE_ENABLED, AddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
@@ -283,21 +286,92 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 		EntityCacheUtil.removeResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
 			AddressImpl.class, address.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(address);
 	}
 
 	@Override
 	public void clearCache(List<Address> addresses) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (Address address : addresses) {
 			EntityCacheUtil.removeResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
 				AddressImpl.class, address.getPrimaryKey());
+
+			clearCollectionFindersCache(address);
 		}
 	}
 
+	protected void clearCollectionFindersCache(Address address) {
+		Object[] args = new Object[] { Long.valueOf(address.getCompanyId()) };
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
+			args);
+
+		args = new Object[] { Long.valueOf(address.getUserId()) };
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(address.getCompanyId()),
+				Long.valueOf(address.getClassNameId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(address.getCompanyId()),
+				Long.valueOf(address.getClassNameId()),
+				Long.valueOf(address.getClassPK())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(address.getCompanyId()),
+				Long.valueOf(address.getClassNameId()),
+				Long.valueOf(address.getClassPK()),
+				Boolean.valueOf(address.getMailing())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_M, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_M,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(address.getCompanyId()),
+				Long.valueOf(address.getClassNameId()),
+				Long.valueOf(address.getClassPK()),
+				Boolean.valueOf(address.getPrimary())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
+			args);
+	}
+
 	/**
 	 * Creates a new address with the primary key. Does not add the address to the database.
 	 *
@@ -414,50 +488,67 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !AddressModelImpl.COLUMN_BITMASK_ENABLED) {
+		if (!AddressModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(address);
+		}
 		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
 						Long.valueOf(addressModelImpl.getOriginalCompanyId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
 					args);
 
 				args = new Object[] {
 						Long.valueOf(addressModelImpl.getCompanyId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
+				new Object[] { Long.valueOf(addressModelImpl.getCompanyId()) });
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
 						Long.valueOf(addressModelImpl.getOriginalUserId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
 					args);
 
 				args = new Object[] { Long.valueOf(addressModelImpl.getUserId()) };
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
+				new Object[] { Long.valueOf(addressModelImpl.getUserId()) });
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -465,8 +556,10 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Long.valueOf(addressModelImpl.getOriginalClassNameId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
 					args);
 
 				args = new Object[] {
@@ -474,11 +567,17 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Long.valueOf(addressModelImpl.getClassNameId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
+				new Object[] {
+					Long.valueOf(addressModelImpl.getCompanyId()),
+					Long.valueOf(addressModelImpl.getClassNameId())
+				});
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -487,8 +586,10 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Long.valueOf(addressModelImpl.getOriginalClassPK())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
 					args);
 
 				args = new Object[] {
@@ -497,11 +598,18 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Long.valueOf(addressModelImpl.getClassPK())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
+				new Object[] {
+					Long.valueOf(addressModelImpl.getCompanyId()),
+					Long.valueOf(addressModelImpl.getClassNameId()),
+					Long.valueOf(addressModelImpl.getClassPK())
+				});
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -511,8 +619,10 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Boolean.valueOf(addressModelImpl.getOriginalMailing())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_M, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_M, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_M,
 					args);
 
 				args = new Object[] {
@@ -522,11 +632,19 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Boolean.valueOf(addressModelImpl.getMailing())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_M, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_M, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_M,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_M,
+				new Object[] {
+					Long.valueOf(addressModelImpl.getCompanyId()),
+					Long.valueOf(addressModelImpl.getClassNameId()),
+					Long.valueOf(addressModelImpl.getClassPK()),
+					Boolean.valueOf(addressModelImpl.getMailing())
+				});
+
 			if ((addressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -536,8 +654,10 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Boolean.valueOf(addressModelImpl.getOriginalPrimary())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
 					args);
 
 				args = new Object[] {
@@ -547,10 +667,18 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 						Boolean.valueOf(addressModelImpl.getPrimary())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
 					args);
 			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
+				new Object[] {
+					Long.valueOf(addressModelImpl.getCompanyId()),
+					Long.valueOf(addressModelImpl.getClassNameId()),
+					Long.valueOf(addressModelImpl.getClassPK()),
+					Boolean.valueOf(addressModelImpl.getPrimary())
+				});
 		}
 
 		EntityCacheUtil.putResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
@@ -689,6 +817,112 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 		return address;
 	}
 
+	/**
+	 * Returns the addresses with the primary keys, mapped by primary key. Primary keys that do not match a address are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the addresses that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the addresses
+	 * @return the addresses that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, Address> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Address> map = new HashMap<Serializable, Address>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(AddressModelImpl.ENTITY_CACHE_ENABLED,
+				AddressImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				Address address = (Address)result;
+
+				if (address != _nullAddress) {
+					map.put(primaryKey, address);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ADDRESS_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<Address> list = q.list();
+
+				for (Address address : list) {
+					map.put(address.getPrimaryKeyObj(), address);
+
+					cacheResult(address);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
+					AddressImpl.class, primaryKey, _nullAddress);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the addresses where companyId = &#63;.
 	 *
@@ -3776,6 +4010,8 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -3810,6 +4046,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_ADDRESS = "SELECT address FROM Address address";
 	private static final String _SQL_SELECT_ADDRESS_WHERE = "SELECT address FROM Address address WHERE ";
+	private static final String _SQL_SELECT_ADDRESS_WHERE_PKS_IN = "SELECT address FROM Address address WHERE address.addressId IN (";
 	private static final String _SQL_COUNT_ADDRESS = "SELECT COUNT(address) FROM Address address";
 	private static final String _SQL_COUNT_ADDRESS_WHERE = "SELECT COUNT(address) FROM Address address WHERE ";
 	private static final String _FINDER_COLUMN_COMPANYID_COMPANYID_2 = "address.companyId = ?";
@@ -3829,6 +4066,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	private static final String _FINDER_COLUMN_C_C_C_P_PRIMARY_2 = "address.primary = ?";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "address.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Address exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No Address exists with the key {";
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(AddressPersistenceImpl.class);
@@ -45,7 +45,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the browser tracker service.
@@ -159,16 +162,16 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 		EntityCacheUtil.removeResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
 			BrowserTrackerImpl.class, browserTracker.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		clearUniqueFindersCache(browserTracker);
 	}
 
 	@Override
 	public void clearCache(List<BrowserTracker> browserTrackers) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (BrowserTracker browserTracker : browserTrackers) {
 			EntityCacheUtil.removeResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
@@ -302,11 +305,17 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !BrowserTrackerModelImpl.COLUMN_BITMASK_ENABLED) {
+		if (!BrowserTrackerModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		}
 
 		EntityCacheUtil.putResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
 			BrowserTrackerImpl.class, browserTracker.getPrimaryKey(),
@@ -453,6 +462,112 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 		return browserTracker;
 	}
 
+	/**
+	 * Returns the browser trackers with the primary keys, mapped by primary key. Primary keys that do not match a browser tracker are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the browser trackers that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the browser trackers
+	 * @return the browser trackers that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, BrowserTracker> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, BrowserTracker> map = new HashMap<Serializable, BrowserTracker>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+				BrowserTrackerImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				BrowserTracker browserTracker = (BrowserTracker)result;
+
+				if (browserTracker != _nullBrowserTracker) {
+					map.put(primaryKey, browserTracker);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<BrowserTracker> list = q.list();
+
+				for (BrowserTracker browserTracker : list) {
+					map.put(browserTracker.getPrimaryKeyObj(), browserTracker);
+
+					cacheResult(browserTracker);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					BrowserTrackerImpl.class, primaryKey, _nullBrowserTracker);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the browser tracker where userId = &#63; or throws a {@link com.liferay.portal.NoSuchBrowserTrackerException} if it could not be found.
 	 *
@@ -940,6 +1055,8 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -974,11 +1091,13 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_BROWSERTRACKER = "SELECT browserTracker FROM BrowserTracker browserTracker";
 	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE ";
+	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE browserTracker.browserTrackerId IN (";
 	private static final String _SQL_COUNT_BROWSERTRACKER = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker";
 	private static final String _SQL_COUNT_BROWSERTRACKER_WHERE = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker WHERE ";
 	private static final String _FINDER_COLUMN_USERID_USERID_2 = "browserTracker.userId = ?";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "browserTracker.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No BrowserTracker exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No BrowserTracker exists with the key {";
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(BrowserTrackerPersistenceImpl.class);
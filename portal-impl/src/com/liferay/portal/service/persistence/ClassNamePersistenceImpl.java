@@ -46,7 +46,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the class name service.
@@ -156,16 +159,16 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 		EntityCacheUtil.removeResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
 			ClassNameImpl.class, className.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		clearUniqueFindersCache(className);
 	}
 
 	@Override
 	public void clearCache(List<ClassName> classNames) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (ClassName className : classNames) {
 			EntityCacheUtil.removeResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
@@ -298,11 +301,17 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !ClassNameModelImpl.COLUMN_BITMASK_ENABLED) {
+		if (!ClassNameModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		}
 
 		EntityCacheUtil.putResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
 			ClassNameImpl.class, className.getPrimaryKey(), className);
@@ -444,6 +453,112 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 		return className;
 	}
 
+	/**
+	 * Returns the class names with the primary keys, mapped by primary key. Primary keys that do not match a class name are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the class names that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the class names
+	 * @return the class names that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, ClassName> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, ClassName> map = new HashMap<Serializable, ClassName>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+				ClassNameImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				ClassName className = (ClassName)result;
+
+				if (className != _nullClassName) {
+					map.put(primaryKey, className);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CLASSNAME_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<ClassName> list = q.list();
+
+				for (ClassName className : list) {
+					map.put(className.getPrimaryKeyObj(), className);
+
+					cacheResult(className);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+					ClassNameImpl.class, primaryKey, _nullClassName);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the class name where value = &#63; or throws a {@link com.liferay.portal.NoSuchClassNameException} if it could not be found.
 	 *
@@ -956,6 +1071,8 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -990,6 +1107,7 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_CLASSNAME = "SELECT className FROM ClassName className";
 	private static final String _SQL_SELECT_CLASSNAME_WHERE = "SELECT className FROM ClassName className WHERE ";
+	private static final String _SQL_SELECT_CLASSNAME_WHERE_PKS_IN = "SELECT className FROM ClassName className WHERE className.classNameId IN (";
 	private static final String _SQL_COUNT_CLASSNAME = "SELECT COUNT(className) FROM ClassName className";
 	private static final String _SQL_COUNT_CLASSNAME_WHERE = "SELECT COUNT(className) FROM ClassName className WHERE ";
 	private static final String _FINDER_COLUMN_VALUE_VALUE_1 = "className.value IS NULL";
@@ -997,6 +1115,7 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	private static final String _FINDER_COLUMN_VALUE_VALUE_3 = "(className.value IS NULL OR className.value = ?)";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "className.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ClassName exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No ClassName exists with the key {";
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(ClassNamePersistenceImpl.class);
@@ -45,7 +45,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the email address service.
@@ -80,17 +83,17 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 1);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID =
 		new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByCompanyId",
 			new String[] { Long.class.getName() },
-			EmailAddressModelImpl.COMPANYID_COLUMN_BITMASK);
+			EmailAddressModelImpl.COMPANYID_COLUMN_BITMASK, 1);
 	public static final FinderPath FINDER_PATH_COUNT_BY_COMPANYID = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByCompanyId",
-			new String[] { Long.class.getName() });
+			new String[] { Long.class.getName() }, -1, 1);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByUserId",
@@ -99,17 +102,17 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 1);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID =
 		new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByUserId",
 			new String[] { Long.class.getName() },
-			EmailAddressModelImpl.USERID_COLUMN_BITMASK);
+			EmailAddressModelImpl.USERID_COLUMN_BITMASK, 1);
 	public static final FinderPath FINDER_PATH_COUNT_BY_USERID = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByUserId",
-			new String[] { Long.class.getName() });
+			new String[] { Long.class.getName() }, -1, 1);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C",
@@ -118,17 +121,17 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 2);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_C",
 			new String[] { Long.class.getName(), Long.class.getName() },
 			EmailAddressModelImpl.COMPANYID_COLUMN_BITMASK |
-			EmailAddressModelImpl.CLASSNAMEID_COLUMN_BITMASK);
+			EmailAddressModelImpl.CLASSNAMEID_COLUMN_BITMASK, 2);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C",
-			new String[] { Long.class.getName(), Long.class.getName() });
+			new String[] { Long.class.getName(), Long.class.getName() }, -1, 2);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C_C",
@@ -137,7 +140,7 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_C_C",
@@ -146,13 +149,13 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 			},
 			EmailAddressModelImpl.COMPANYID_COLUMN_BITMASK |
 			EmailAddressModelImpl.CLASSNAMEID_COLUMN_BITMASK |
-			EmailAddressModelImpl.CLASSPK_COLUMN_BITMASK);
+			EmailAddressModelImpl.CLASSPK_COLUMN_BITMASK, 3);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C_C = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C_C",
 			new String[] {
 				Long.class.getName(), Long.class.getName(), Long.class.getName()
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_C_C_P",
@@ -162,7 +165,7 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P =
 		new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
@@ -174,14 +177,14 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 			EmailAddressModelImpl.COMPANYID_COLUMN_BITMASK |
 			EmailAddressModelImpl.CLASSNAMEID_COLUMN_BITMASK |
 			EmailAddressModelImpl.CLASSPK_COLUMN_BITMASK |
-			EmailAddressModelImpl.PRIMARY_COLUMN_BITMASK);
+			EmailAddressModelImpl.PRIMARY_COLUMN_BITMASK, 4);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_C_C_P = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C_C_P",
 			new String[] {
 				Long.class.getName(), Long.class.getName(), Long.class.getName(),
 				Boolean.class.getName()
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressModelImpl.FINDER_CACHE_ENABLED, EmailAddressImpl.class,
 			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
@@ -254,21 +257,79 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 		EntityCacheUtil.removeResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 			EmailAddressImpl.class, emailAddress.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(emailAddress);
 	}
 
 	@Override
 	public void clearCache(List<EmailAddress> emailAddresses) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (EmailAddress emailAddress : emailAddresses) {
 			EntityCacheUtil.removeResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
 				EmailAddressImpl.class, emailAddress.getPrimaryKey());
+
+			clearCollectionFindersCache(emailAddress);
 		}
 	}
 
+	protected void clearCollectionFindersCache(EmailAddress emailAddress) {
+		Object[] args = new Object[] { Long.valueOf(emailAddress.getCompanyId()) };
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
+			args);
+
+		args = new Object[] { Long.valueOf(emailAddress.getUserId()) };
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(emailAddress.getCompanyId()),
+				Long.valueOf(emailAddress.getClassNameId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(emailAddress.getCompanyId()),
+				Long.valueOf(emailAddress.getClassNameId()),
+				Long.valueOf(emailAddress.getClassPK())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(emailAddress.getCompanyId()),
+				Long.valueOf(emailAddress.getClassNameId()),
+				Long.valueOf(emailAddress.getClassPK()),
+				Boolean.valueOf(emailAddress.getPrimary())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
+			args);
+	}
+
 	/**
 	 * Creates a new email address with the primary key. Does not add the email address to the database.
 	 *
@@ -388,52 +449,70 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !EmailAddressModelImpl.COLUMN_BITMASK_ENABLED) {
+		if (!EmailAddressModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(emailAddress);
+		}
 		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
 			if ((emailAddressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
 						Long.valueOf(emailAddressModelImpl.getOriginalCompanyId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
 					args);
 
 				args = new Object[] {
 						Long.valueOf(emailAddressModelImpl.getCompanyId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_COMPANYID,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_COMPANYID,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_COMPANYID,
+				new Object[] { Long.valueOf(
+						emailAddressModelImpl.getCompanyId()) });
+
 			if ((emailAddressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
 						Long.valueOf(emailAddressModelImpl.getOriginalUserId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
 					args);
 
 				args = new Object[] {
 						Long.valueOf(emailAddressModelImpl.getUserId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_USERID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_USERID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_USERID,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_USERID,
+				new Object[] { Long.valueOf(emailAddressModelImpl.getUserId()) });
+
 			if ((emailAddressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -441,8 +520,10 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Long.valueOf(emailAddressModelImpl.getOriginalClassNameId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
 					args);
 
 				args = new Object[] {
@@ -450,11 +531,17 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Long.valueOf(emailAddressModelImpl.getClassNameId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C,
+				new Object[] {
+					Long.valueOf(emailAddressModelImpl.getCompanyId()),
+					Long.valueOf(emailAddressModelImpl.getClassNameId())
+				});
+
 			if ((emailAddressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -463,8 +550,10 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Long.valueOf(emailAddressModelImpl.getOriginalClassPK())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
 					args);
 
 				args = new Object[] {
@@ -473,11 +562,18 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Long.valueOf(emailAddressModelImpl.getClassPK())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C,
+				new Object[] {
+					Long.valueOf(emailAddressModelImpl.getCompanyId()),
+					Long.valueOf(emailAddressModelImpl.getClassNameId()),
+					Long.valueOf(emailAddressModelImpl.getClassPK())
+				});
+
 			if ((emailAddressModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -487,8 +583,10 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Boolean.valueOf(emailAddressModelImpl.getOriginalPrimary())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
 					args);
 
 				args = new Object[] {
@@ -498,10 +596,18 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 						Boolean.valueOf(emailAddressModelImpl.getPrimary())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_C_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_C_C_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_C_C_P,
 					args);
 			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_C_C_P,
+				new Object[] {
+					Long.valueOf(emailAddressModelImpl.getCompanyId()),
+					Long.valueOf(emailAddressModelImpl.getClassNameId()),
+					Long.valueOf(emailAddressModelImpl.getClassPK()),
+					Boolean.valueOf(emailAddressModelImpl.getPrimary())
+				});
 		}
 
 		EntityCacheUtil.putResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
@@ -635,6 +741,112 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 		return emailAddress;
 	}
 
+	/**
+	 * Returns the email addresses with the primary keys, mapped by primary key. Primary keys that do not match a email address are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the email addresses that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the email addresses
+	 * @return the email addresses that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, EmailAddress> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, EmailAddress> map = new HashMap<Serializable, EmailAddress>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+				EmailAddressImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				EmailAddress emailAddress = (EmailAddress)result;
+
+				if (emailAddress != _nullEmailAddress) {
+					map.put(primaryKey, emailAddress);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_EMAILADDRESS_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<EmailAddress> list = q.list();
+
+				for (EmailAddress emailAddress : list) {
+					map.put(emailAddress.getPrimaryKeyObj(), emailAddress);
+
+					cacheResult(emailAddress);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(EmailAddressModelImpl.ENTITY_CACHE_ENABLED,
+					EmailAddressImpl.class, primaryKey, _nullEmailAddress);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the email addresses where companyId = &#63;.
 	 *
@@ -3222,6 +3434,8 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -3256,6 +3470,7 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_EMAILADDRESS = "SELECT emailAddress FROM EmailAddress emailAddress";
 	private static final String _SQL_SELECT_EMAILADDRESS_WHERE = "SELECT emailAddress FROM EmailAddress emailAddress WHERE ";
+	private static final String _SQL_SELECT_EMAILADDRESS_WHERE_PKS_IN = "SELECT emailAddress FROM EmailAddress emailAddress WHERE emailAddress.emailAddressId IN (";
 	private static final String _SQL_COUNT_EMAILADDRESS = "SELECT COUNT(emailAddress) FROM EmailAddress emailAddress";
 	private static final String _SQL_COUNT_EMAILADDRESS_WHERE = "SELECT COUNT(emailAddress) FROM EmailAddress emailAddress WHERE ";
 	private static final String _FINDER_COLUMN_COMPANYID_COMPANYID_2 = "emailAddress.companyId = ?";
@@ -3271,6 +3486,7 @@ public class EmailAddressPersistenceImpl extends BasePersistenceImpl<EmailAddres
 	private static final String _FINDER_COLUMN_C_C_C_P_PRIMARY_2 = "emailAddress.primary = ?";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "emailAddress.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No EmailAddress exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No EmailAddress exists with the key {";
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(EmailAddressPersistenceImpl.class);
@@ -47,7 +47,10 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the resource permission service.
@@ -106,18 +109,18 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 1);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
 			ResourcePermissionImpl.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByRoleId",
 			new String[] { Long.class.getName() },
-			ResourcePermissionModelImpl.ROLEID_COLUMN_BITMASK);
+			ResourcePermissionModelImpl.ROLEID_COLUMN_BITMASK, 1);
 	public static final FinderPath FINDER_PATH_COUNT_BY_ROLEID = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByRoleId",
-			new String[] { Long.class.getName() });
+			new String[] { Long.class.getName() }, -1, 1);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_P = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
 			ResourcePermissionImpl.class,
@@ -149,7 +152,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
 			ResourcePermissionImpl.class,
@@ -160,14 +163,14 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 			},
 			ResourcePermissionModelImpl.COMPANYID_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.NAME_COLUMN_BITMASK |
-			ResourcePermissionModelImpl.SCOPE_COLUMN_BITMASK);
+			ResourcePermissionModelImpl.SCOPE_COLUMN_BITMASK, 3);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_N_S = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_N_S",
 			new String[] {
 				Long.class.getName(), String.class.getName(),
 				Integer.class.getName()
-			});
+			}, -1, 3);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
 			ResourcePermissionImpl.class,
@@ -178,7 +181,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
@@ -191,14 +194,14 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 			ResourcePermissionModelImpl.COMPANYID_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.NAME_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.SCOPE_COLUMN_BITMASK |
-			ResourcePermissionModelImpl.PRIMKEY_COLUMN_BITMASK);
+			ResourcePermissionModelImpl.PRIMKEY_COLUMN_BITMASK, 4);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_N_S_P = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_N_S_P",
 			new String[] {
 				Long.class.getName(), String.class.getName(),
 				Integer.class.getName(), String.class.getName()
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_O = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
 			ResourcePermissionImpl.class,
@@ -209,7 +212,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
@@ -222,14 +225,14 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 			ResourcePermissionModelImpl.COMPANYID_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.NAME_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.PRIMKEY_COLUMN_BITMASK |
-			ResourcePermissionModelImpl.OWNERID_COLUMN_BITMASK);
+			ResourcePermissionModelImpl.OWNERID_COLUMN_BITMASK, 4);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_N_P_O = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_N_P_O",
 			new String[] {
 				Long.class.getName(), String.class.getName(),
 				String.class.getName(), Long.class.getName()
-			});
+			}, -1, 4);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P_R =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
@@ -287,7 +290,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				
 			"java.lang.Integer", "java.lang.Integer",
 				"com.liferay.portal.kernel.util.OrderByComparator"
-			});
+			}, -1, 5);
 	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
@@ -302,7 +305,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 			ResourcePermissionModelImpl.NAME_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.PRIMKEY_COLUMN_BITMASK |
 			ResourcePermissionModelImpl.ROLEID_COLUMN_BITMASK |
-			ResourcePermissionModelImpl.ACTIONIDS_COLUMN_BITMASK);
+			ResourcePermissionModelImpl.ACTIONIDS_COLUMN_BITMASK, 5);
 	public static final FinderPath FINDER_PATH_COUNT_BY_C_N_P_R_A = new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED, Long.class,
 			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_N_P_R_A",
@@ -310,7 +313,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 				Long.class.getName(), String.class.getName(),
 				String.class.getName(), Long.class.getName(),
 				Long.class.getName()
-			});
+			}, -1, 5);
 	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P_R_A =
 		new FinderPath(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionModelImpl.FINDER_CACHE_ENABLED,
@@ -470,25 +473,101 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 		EntityCacheUtil.removeResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 			ResourcePermissionImpl.class, resourcePermission.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(resourcePermission);
 
 		clearUniqueFindersCache(resourcePermission);
 	}
 
 	@Override
 	public void clearCache(List<ResourcePermission> resourcePermissions) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (ResourcePermission resourcePermission : resourcePermissions) {
 			EntityCacheUtil.removeResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
 				ResourcePermissionImpl.class, resourcePermission.getPrimaryKey());
 
+			clearCollectionFindersCache(resourcePermission);
+
 			clearUniqueFindersCache(resourcePermission);
 		}
 	}
 
+	protected void clearCollectionFindersCache(
+		ResourcePermission resourcePermission) {
+		Object[] args = new Object[] {
+				Long.valueOf(resourcePermission.getRoleId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_ROLEID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_ROLEID,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(resourcePermission.getCompanyId()),
+				
+				resourcePermission.getName(),
+				Integer.valueOf(resourcePermission.getScope())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(resourcePermission.getCompanyId()),
+				
+				resourcePermission.getName(),
+				Integer.valueOf(resourcePermission.getScope()),
+				
+				resourcePermission.getPrimKey()
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S_P, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(resourcePermission.getCompanyId()),
+				
+				resourcePermission.getName(),
+				
+				resourcePermission.getPrimKey(),
+				Long.valueOf(resourcePermission.getOwnerId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_O, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_O,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(resourcePermission.getCompanyId()),
+				
+				resourcePermission.getName(),
+				
+				resourcePermission.getPrimKey(),
+				Long.valueOf(resourcePermission.getRoleId()),
+				Long.valueOf(resourcePermission.getActionIds())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_R_A, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_R_A,
+			args);
+	}
+
 	protected void clearUniqueFindersCache(
 		ResourcePermission resourcePermission) {
 		FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_N_S_P_R_O_A,
@@ -624,29 +703,22 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
-		if (isNew || !ResourcePermissionModelImpl.COLUMN_BITMASK_ENABLED) {
+		if (!ResourcePermissionModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(resourcePermission);
+		}
 		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_SCOPE.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						Integer.valueOf(resourcePermissionModelImpl.getOriginalScope())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_SCOPE, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_SCOPE,
-					args);
-
-				args = new Object[] {
-						Integer.valueOf(resourcePermissionModelImpl.getScope())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_SCOPE, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_SCOPE,
-					args);
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 			}
 
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
@@ -655,40 +727,29 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Long.valueOf(resourcePermissionModelImpl.getOriginalRoleId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ROLEID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_ROLEID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_ROLEID,
 					args);
 
 				args = new Object[] {
 						Long.valueOf(resourcePermissionModelImpl.getRoleId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_ROLEID, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_ROLEID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_ROLEID,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_ROLEID,
+				new Object[] {
+					Long.valueOf(resourcePermissionModelImpl.getRoleId())
+				});
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_P.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getOriginalCompanyId()),
-						
-						resourcePermissionModelImpl.getOriginalPrimKey()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_P,
-					args);
-
-				args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
-						
-						resourcePermissionModelImpl.getPrimKey()
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_P,
-					args);
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 			}
 
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
@@ -700,8 +761,10 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Integer.valueOf(resourcePermissionModelImpl.getOriginalScope())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S,
 					args);
 
 				args = new Object[] {
@@ -711,11 +774,19 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Integer.valueOf(resourcePermissionModelImpl.getScope())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S,
+				new Object[] {
+					Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
+					
+				resourcePermissionModelImpl.getName(),
+					Integer.valueOf(resourcePermissionModelImpl.getScope())
+				});
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -727,8 +798,10 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						resourcePermissionModelImpl.getOriginalPrimKey()
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P,
 					args);
 
 				args = new Object[] {
@@ -740,11 +813,21 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						resourcePermissionModelImpl.getPrimKey()
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_S_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_S_P,
+				new Object[] {
+					Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
+					
+				resourcePermissionModelImpl.getName(),
+					Integer.valueOf(resourcePermissionModelImpl.getScope()),
+					
+				resourcePermissionModelImpl.getPrimKey()
+				});
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O.getColumnBitmask()) != 0) {
 				Object[] args = new Object[] {
@@ -756,8 +839,10 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Long.valueOf(resourcePermissionModelImpl.getOriginalOwnerId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_P_O, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_O, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_O,
 					args);
 
 				args = new Object[] {
@@ -769,42 +854,24 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Long.valueOf(resourcePermissionModelImpl.getOwnerId())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_P_O, args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_O, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_O,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_O,
+				new Object[] {
+					Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
+					
+				resourcePermissionModelImpl.getName(),
+					
+				resourcePermissionModelImpl.getPrimKey(),
+					Long.valueOf(resourcePermissionModelImpl.getOwnerId())
+				});
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getOriginalCompanyId()),
-						
-						resourcePermissionModelImpl.getOriginalName(),
-						Integer.valueOf(resourcePermissionModelImpl.getOriginalScope()),
-						
-						resourcePermissionModelImpl.getOriginalPrimKey(),
-						Long.valueOf(resourcePermissionModelImpl.getOriginalRoleId())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P_R,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R,
-					args);
-
-				args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
-						
-						resourcePermissionModelImpl.getName(),
-						Integer.valueOf(resourcePermissionModelImpl.getScope()),
-						
-						resourcePermissionModelImpl.getPrimKey(),
-						Long.valueOf(resourcePermissionModelImpl.getRoleId())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P_R,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R,
-					args);
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 			}
 
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
@@ -819,9 +886,11 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Long.valueOf(resourcePermissionModelImpl.getOriginalActionIds())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_P_R_A,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_R_A,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_R_A,
 					args);
 
 				args = new Object[] {
@@ -834,45 +903,26 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 						Long.valueOf(resourcePermissionModelImpl.getActionIds())
 					};
 
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_P_R_A,
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_N_P_R_A,
 					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A,
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_P_R_A,
 					args);
 			}
 
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_N_P_R_A,
+				new Object[] {
+					Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
+					
+				resourcePermissionModelImpl.getName(),
+					
+				resourcePermissionModelImpl.getPrimKey(),
+					Long.valueOf(resourcePermissionModelImpl.getRoleId()),
+					Long.valueOf(resourcePermissionModelImpl.getActionIds())
+				});
+
 			if ((resourcePermissionModelImpl.getColumnBitmask() &
 					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R_A.getColumnBitmask()) != 0) {
-				Object[] args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getOriginalCompanyId()),
-						
-						resourcePermissionModelImpl.getOriginalName(),
-						Integer.valueOf(resourcePermissionModelImpl.getOriginalScope()),
-						
-						resourcePermissionModelImpl.getOriginalPrimKey(),
-						Long.valueOf(resourcePermissionModelImpl.getOriginalRoleId()),
-						Long.valueOf(resourcePermissionModelImpl.getOriginalActionIds())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P_R_A,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R_A,
-					args);
-
-				args = new Object[] {
-						Long.valueOf(resourcePermissionModelImpl.getCompanyId()),
-						
-						resourcePermissionModelImpl.getName(),
-						Integer.valueOf(resourcePermissionModelImpl.getScope()),
-						
-						resourcePermissionModelImpl.getPrimKey(),
-						Long.valueOf(resourcePermissionModelImpl.getRoleId()),
-						Long.valueOf(resourcePermissionModelImpl.getActionIds())
-					};
-
-				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_N_S_P_R_A,
-					args);
-				FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_N_S_P_R_A,
-					args);
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 			}
 		}
 
@@ -1056,6 +1106,114 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 		return resourcePermission;
 	}
 
+	/**
+	 * Returns the resource permissions with the primary keys, mapped by primary key. Primary keys that do not match a resource permission are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the resource permissions that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the resource permissions
+	 * @return the resource permissions that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, ResourcePermission> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, ResourcePermission> map = new HashMap<Serializable, ResourcePermission>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+				ResourcePermissionImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				ResourcePermission resourcePermission = (ResourcePermission)result;
+
+				if (resourcePermission != _nullResourcePermission) {
+					map.put(primaryKey, resourcePermission);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_RESOURCEPERMISSION_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<ResourcePermission> list = q.list();
+
+				for (ResourcePermission resourcePermission : list) {
+					map.put(resourcePermission.getPrimaryKeyObj(),
+						resourcePermission);
+
+					cacheResult(resourcePermission);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(ResourcePermissionModelImpl.ENTITY_CACHE_ENABLED,
+					ResourcePermissionImpl.class, primaryKey,
+					_nullResourcePermission);
+			}
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the resource permissions where scope = &#63;.
 	 *
@@ -7598,6 +7756,8 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 	protected ServiceComponentPersistence serviceComponentPersistence;
 	@BeanReference(type = ShardPersistence.class)
 	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
 	@BeanReference(type = SubscriptionPersistence.class)
 	protected SubscriptionPersistence subscriptionPersistence;
 	@BeanReference(type = TeamPersistence.class)
@@ -7632,6 +7792,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_RESOURCEPERMISSION = "SELECT resourcePermission FROM ResourcePermission resourcePermission";
 	private static final String _SQL_SELECT_RESOURCEPERMISSION_WHERE = "SELECT resourcePermission FROM ResourcePermission resourcePermission WHERE ";
+	private static final String _SQL_SELECT_RESOURCEPERMISSION_WHERE_PKS_IN = "SELECT resourcePermission FROM ResourcePermission resourcePermission WHERE resourcePermission.resourcePermissionId IN (";
 	private static final String _SQL_COUNT_RESOURCEPERMISSION = "SELECT COUNT(resourcePermission) FROM ResourcePermission resourcePermission";
 	private static final String _SQL_COUNT_RESOURCEPERMISSION_WHERE = "SELECT COUNT(resourcePermission) FROM ResourcePermission resourcePermission WHERE ";
 	private static final String _FINDER_COLUMN_SCOPE_SCOPE_2 = "resourcePermission.scope = ?";
@@ -7753,6 +7914,7 @@ public class ResourcePermissionPersistenceImpl extends BasePersistenceImpl<Resou
 
 	private static final String _ORDER_BY_ENTITY_ALIAS = "resourcePermission.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ResourcePermission exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
 	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No ResourcePermission exists with the key {";
 	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
 	private static Log _log = LogFactoryUtil.getLog(ResourcePermissionPersistenceImpl.class);
@@ -0,0 +1,2954 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.persistence;
+
+import com.liferay.portal.NoSuchModelException;
+import com.liferay.portal.NoSuchStagedModelChangeException;
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.CalendarUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.InstanceFactory;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.ModelListener;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.model.impl.StagedModelChangeImpl;
+import com.liferay.portal.model.impl.StagedModelChangeModelImpl;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the staged model change service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangePersistence
+ * @see StagedModelChangeUtil
+ * @generated
+ */
+public class StagedModelChangePersistenceImpl extends BasePersistenceImpl<StagedModelChange>
+	implements StagedModelChangePersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link StagedModelChangeUtil} to access the staged model change persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = StagedModelChangeImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_GROUPID = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByGroupId",
+			new String[] {
+				Long.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 1);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID =
+		new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByGroupId",
+			new String[] { Long.class.getName() },
+			StagedModelChangeModelImpl.GROUPID_COLUMN_BITMASK, 1);
+	public static final FinderPath FINDER_PATH_COUNT_BY_GROUPID = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByGroupId",
+			new String[] { Long.class.getName() }, -1, 1);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_LTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByG_LtM",
+			new String[] {
+				Long.class.getName(), Date.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_LTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByG_LtM",
+			new String[] { Long.class.getName(), Date.class.getName() },
+			StagedModelChangeModelImpl.GROUPID_COLUMN_BITMASK |
+			StagedModelChangeModelImpl.MODIFIEDDATE_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_G_LTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByG_LtM",
+			new String[] { Long.class.getName(), Date.class.getName() });
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_GTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByG_GtM",
+			new String[] {
+				Long.class.getName(), Date.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_GTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByG_GtM",
+			new String[] { Long.class.getName(), Date.class.getName() },
+			StagedModelChangeModelImpl.GROUPID_COLUMN_BITMASK |
+			StagedModelChangeModelImpl.MODIFIEDDATE_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_G_GTM = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByG_GtM",
+			new String[] { Long.class.getName(), Date.class.getName() });
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_C_C = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByG_C_C",
+			new String[] {
+				Long.class.getName(), Long.class.getName(), Long.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 3);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByG_C_C",
+			new String[] {
+				Long.class.getName(), Long.class.getName(), Long.class.getName()
+			},
+			StagedModelChangeModelImpl.GROUPID_COLUMN_BITMASK |
+			StagedModelChangeModelImpl.CLASSNAMEID_COLUMN_BITMASK |
+			StagedModelChangeModelImpl.CLASSPK_COLUMN_BITMASK, 3);
+	public static final FinderPath FINDER_PATH_COUNT_BY_G_C_C = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByG_C_C",
+			new String[] {
+				Long.class.getName(), Long.class.getName(), Long.class.getName()
+			}, -1, 3);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED,
+			StagedModelChangeImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+
+	/**
+	 * Caches the staged model change in the entity cache if it is enabled.
+	 *
+	 * @param stagedModelChange the staged model change
+	 */
+	public void cacheResult(StagedModelChange stagedModelChange) {
+		EntityCacheUtil.putResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeImpl.class, stagedModelChange.getPrimaryKey(),
+			stagedModelChange);
+
+		stagedModelChange.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the staged model changes in the entity cache if it is enabled.
+	 *
+	 * @param stagedModelChanges the staged model changes
+	 */
+	public void cacheResult(List<StagedModelChange> stagedModelChanges) {
+		for (StagedModelChange stagedModelChange : stagedModelChanges) {
+			if (EntityCacheUtil.getResult(
+						StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+						StagedModelChangeImpl.class,
+						stagedModelChange.getPrimaryKey()) == null) {
+				cacheResult(stagedModelChange);
+			}
+			else {
+				stagedModelChange.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all staged model changes.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		if (_HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			CacheRegistryUtil.clear(StagedModelChangeImpl.class.getName());
+		}
+
+		EntityCacheUtil.clearCache(StagedModelChangeImpl.class.getName());
+
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the staged model change.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(StagedModelChange stagedModelChange) {
+		EntityCacheUtil.removeResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeImpl.class, stagedModelChange.getPrimaryKey());
+
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(stagedModelChange);
+	}
+
+	@Override
+	public void clearCache(List<StagedModelChange> stagedModelChanges) {
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (StagedModelChange stagedModelChange : stagedModelChanges) {
+			EntityCacheUtil.removeResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+				StagedModelChangeImpl.class, stagedModelChange.getPrimaryKey());
+
+			clearCollectionFindersCache(stagedModelChange);
+		}
+	}
+
+	protected void clearCollectionFindersCache(
+		StagedModelChange stagedModelChange) {
+		Object[] args = new Object[] {
+				Long.valueOf(stagedModelChange.getGroupId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_GROUPID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_GROUPID,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(stagedModelChange.getGroupId()),
+				Long.valueOf(stagedModelChange.getClassNameId()),
+				Long.valueOf(stagedModelChange.getClassPK())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_G_C_C, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_G_C_C,
+			args);
+	}
+
+	/**
+	 * Creates a new staged model change with the primary key. Does not add the staged model change to the database.
+	 *
+	 * @param stagedModelChangeId the primary key for the new staged model change
+	 * @return the new staged model change
+	 */
+	public StagedModelChange create(long stagedModelChangeId) {
+		StagedModelChange stagedModelChange = new StagedModelChangeImpl();
+
+		stagedModelChange.setNew(true);
+		stagedModelChange.setPrimaryKey(stagedModelChangeId);
+
+		return stagedModelChange;
+	}
+
+	/**
+	 * Removes the staged model change with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param stagedModelChangeId the primary key of the staged model change
+	 * @return the staged model change that was removed
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange remove(long stagedModelChangeId)
+		throws NoSuchStagedModelChangeException, SystemException {
+		return remove(Long.valueOf(stagedModelChangeId));
+	}
+
+	/**
+	 * Removes the staged model change with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the staged model change
+	 * @return the staged model change that was removed
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public StagedModelChange remove(Serializable primaryKey)
+		throws NoSuchStagedModelChangeException, SystemException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			StagedModelChange stagedModelChange = (StagedModelChange)session.get(StagedModelChangeImpl.class,
+					primaryKey);
+
+			if (stagedModelChange == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchStagedModelChangeException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(stagedModelChange);
+		}
+		catch (NoSuchStagedModelChangeException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected StagedModelChange removeImpl(StagedModelChange stagedModelChange)
+		throws SystemException {
+		stagedModelChange = toUnwrappedModel(stagedModelChange);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.delete(session, stagedModelChange);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		clearCache(stagedModelChange);
+
+		return stagedModelChange;
+	}
+
+	@Override
+	public StagedModelChange updateImpl(
+		com.liferay.portal.model.StagedModelChange stagedModelChange,
+		boolean merge) throws SystemException {
+		stagedModelChange = toUnwrappedModel(stagedModelChange);
+
+		boolean isNew = stagedModelChange.isNew();
+
+		StagedModelChangeModelImpl stagedModelChangeModelImpl = (StagedModelChangeModelImpl)stagedModelChange;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.update(session, stagedModelChange, merge);
+
+			stagedModelChange.setNew(false);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (!StagedModelChangeModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(stagedModelChange);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+			if ((stagedModelChangeModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(stagedModelChangeModelImpl.getOriginalGroupId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_GROUPID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_GROUPID,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(stagedModelChangeModelImpl.getGroupId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_GROUPID, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_GROUPID,
+				new Object[] {
+					Long.valueOf(stagedModelChangeModelImpl.getGroupId())
+				});
+
+			if ((stagedModelChangeModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_LTM.getColumnBitmask()) != 0) {
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			}
+
+			if ((stagedModelChangeModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_GTM.getColumnBitmask()) != 0) {
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			}
+
+			if ((stagedModelChangeModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(stagedModelChangeModelImpl.getOriginalGroupId()),
+						Long.valueOf(stagedModelChangeModelImpl.getOriginalClassNameId()),
+						Long.valueOf(stagedModelChangeModelImpl.getOriginalClassPK())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_G_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_G_C_C,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(stagedModelChangeModelImpl.getGroupId()),
+						Long.valueOf(stagedModelChangeModelImpl.getClassNameId()),
+						Long.valueOf(stagedModelChangeModelImpl.getClassPK())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_G_C_C, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_G_C_C,
+				new Object[] {
+					Long.valueOf(stagedModelChangeModelImpl.getGroupId()),
+					Long.valueOf(stagedModelChangeModelImpl.getClassNameId()),
+					Long.valueOf(stagedModelChangeModelImpl.getClassPK())
+				});
+		}
+
+		EntityCacheUtil.putResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+			StagedModelChangeImpl.class, stagedModelChange.getPrimaryKey(),
+			stagedModelChange);
+
+		return stagedModelChange;
+	}
+
+	protected StagedModelChange toUnwrappedModel(
+		StagedModelChange stagedModelChange) {
+		if (stagedModelChange instanceof StagedModelChangeImpl) {
+			return stagedModelChange;
+		}
+
+		StagedModelChangeImpl stagedModelChangeImpl = new StagedModelChangeImpl();
+
+		stagedModelChangeImpl.setNew(stagedModelChange.isNew());
+		stagedModelChangeImpl.setPrimaryKey(stagedModelChange.getPrimaryKey());
+
+		stagedModelChangeImpl.setStagedModelChangeId(stagedModelChange.getStagedModelChangeId());
+		stagedModelChangeImpl.setGroupId(stagedModelChange.getGroupId());
+		stagedModelChangeImpl.setCompanyId(stagedModelChange.getCompanyId());
+		stagedModelChangeImpl.setModifiedDate(stagedModelChange.getModifiedDate());
+		stagedModelChangeImpl.setClassNameId(stagedModelChange.getClassNameId());
+		stagedModelChangeImpl.setClassPK(stagedModelChange.getClassPK());
+		stagedModelChangeImpl.setClassUuid(stagedModelChange.getClassUuid());
+		stagedModelChangeImpl.setType(stagedModelChange.getType());
+
+		return stagedModelChangeImpl;
+	}
+
+	/**
+	 * Returns the staged model change with the primary key or throws a {@link com.liferay.portal.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the staged model change
+	 * @return the staged model change
+	 * @throws com.liferay.portal.NoSuchModelException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public StagedModelChange findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchModelException, SystemException {
+		return findByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the staged model change with the primary key or throws a {@link com.liferay.portal.NoSuchStagedModelChangeException} if it could not be found.
+	 *
+	 * @param stagedModelChangeId the primary key of the staged model change
+	 * @return the staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByPrimaryKey(long stagedModelChangeId)
+		throws NoSuchStagedModelChangeException, SystemException {
+		StagedModelChange stagedModelChange = fetchByPrimaryKey(stagedModelChangeId);
+
+		if (stagedModelChange == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					stagedModelChangeId);
+			}
+
+			throw new NoSuchStagedModelChangeException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				stagedModelChangeId);
+		}
+
+		return stagedModelChange;
+	}
+
+	/**
+	 * Returns the staged model change with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the staged model change
+	 * @return the staged model change, or <code>null</code> if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public StagedModelChange fetchByPrimaryKey(Serializable primaryKey)
+		throws SystemException {
+		return fetchByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the staged model change with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param stagedModelChangeId the primary key of the staged model change
+	 * @return the staged model change, or <code>null</code> if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange fetchByPrimaryKey(long stagedModelChangeId)
+		throws SystemException {
+		StagedModelChange stagedModelChange = (StagedModelChange)EntityCacheUtil.getResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+				StagedModelChangeImpl.class, stagedModelChangeId);
+
+		if (stagedModelChange == _nullStagedModelChange) {
+			return null;
+		}
+
+		if (stagedModelChange == null) {
+			Session session = null;
+
+			boolean hasException = false;
+
+			try {
+				session = openSession();
+
+				stagedModelChange = (StagedModelChange)session.get(StagedModelChangeImpl.class,
+						Long.valueOf(stagedModelChangeId));
+			}
+			catch (Exception e) {
+				hasException = true;
+
+				throw processException(e);
+			}
+			finally {
+				if (stagedModelChange != null) {
+					cacheResult(stagedModelChange);
+				}
+				else if (!hasException) {
+					EntityCacheUtil.putResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+						StagedModelChangeImpl.class, stagedModelChangeId,
+						_nullStagedModelChange);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return stagedModelChange;
+	}
+
+	/**
+	 * Returns the staged model changes with the primary keys, mapped by primary key. Primary keys that do not match a staged model change are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the staged model changes that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the staged model changes
+	 * @return the staged model changes that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, StagedModelChange> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, StagedModelChange> map = new HashMap<Serializable, StagedModelChange>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+				StagedModelChangeImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				StagedModelChange stagedModelChange = (StagedModelChange)result;
+
+				if (stagedModelChange != _nullStagedModelChange) {
+					map.put(primaryKey, stagedModelChange);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<StagedModelChange> list = q.list();
+
+				for (StagedModelChange stagedModelChange : list) {
+					map.put(stagedModelChange.getPrimaryKeyObj(),
+						stagedModelChange);
+
+					cacheResult(stagedModelChange);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(StagedModelChangeModelImpl.ENTITY_CACHE_ENABLED,
+					StagedModelChangeImpl.class, primaryKey,
+					_nullStagedModelChange);
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the staged model changes where groupId = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @return the matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByGroupId(long groupId)
+		throws SystemException {
+		return findByGroupId(groupId, QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the staged model changes where groupId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @return the range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByGroupId(long groupId, int start,
+		int end) throws SystemException {
+		return findByGroupId(groupId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the staged model changes where groupId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByGroupId(long groupId, int start,
+		int end, OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_GROUPID;
+			finderArgs = new Object[] { groupId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_GROUPID;
+			finderArgs = new Object[] { groupId, start, end, orderByComparator };
+		}
+
+		List<StagedModelChange> list = (List<StagedModelChange>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (StagedModelChange stagedModelChange : list) {
+				if ((groupId != stagedModelChange.getGroupId())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_GROUPID_GROUPID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				list = (List<StagedModelChange>)QueryUtil.list(q, getDialect(),
+						start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first staged model change in the ordered set where groupId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByGroupId_First(long groupId,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		List<StagedModelChange> list = findByGroupId(groupId, 0, 1,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(4);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last staged model change in the ordered set where groupId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByGroupId_Last(long groupId,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		int count = countByGroupId(groupId);
+
+		List<StagedModelChange> list = findByGroupId(groupId, count - 1, count,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(4);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param stagedModelChangeId the primary key of the current staged model change
+	 * @param groupId the group ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange[] findByGroupId_PrevAndNext(
+		long stagedModelChangeId, long groupId,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		StagedModelChange stagedModelChange = findByPrimaryKey(stagedModelChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			StagedModelChange[] array = new StagedModelChangeImpl[3];
+
+			array[0] = getByGroupId_PrevAndNext(session, stagedModelChange,
+					groupId, orderByComparator, true);
+
+			array[1] = stagedModelChange;
+
+			array[2] = getByGroupId_PrevAndNext(session, stagedModelChange,
+					groupId, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected StagedModelChange getByGroupId_PrevAndNext(Session session,
+		StagedModelChange stagedModelChange, long groupId,
+		OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+		query.append(_FINDER_COLUMN_GROUPID_GROUPID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(stagedModelChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<StagedModelChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @return the matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_LtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		return findByG_LtM(groupId, modifiedDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @return the range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_LtM(long groupId, Date modifiedDate,
+		int start, int end) throws SystemException {
+		return findByG_LtM(groupId, modifiedDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_LtM(long groupId, Date modifiedDate,
+		int start, int end, OrderByComparator orderByComparator)
+		throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_LTM;
+			finderArgs = new Object[] { groupId, modifiedDate };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_LTM;
+			finderArgs = new Object[] {
+					groupId, modifiedDate,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<StagedModelChange> list = (List<StagedModelChange>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (StagedModelChange stagedModelChange : list) {
+				if ((groupId != stagedModelChange.getGroupId()) ||
+						!Validator.equals(modifiedDate,
+							stagedModelChange.getModifiedDate())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_LTM_GROUPID_2);
+
+			if (modifiedDate == null) {
+				query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_1);
+			}
+			else {
+				query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_2);
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (modifiedDate != null) {
+					qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+				}
+
+				list = (List<StagedModelChange>)QueryUtil.list(q, getDialect(),
+						start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_LtM_First(long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		List<StagedModelChange> list = findByG_LtM(groupId, modifiedDate, 0, 1,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", modifiedDate=");
+			msg.append(modifiedDate);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_LtM_Last(long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		int count = countByG_LtM(groupId, modifiedDate);
+
+		List<StagedModelChange> list = findByG_LtM(groupId, modifiedDate,
+				count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", modifiedDate=");
+			msg.append(modifiedDate);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param stagedModelChangeId the primary key of the current staged model change
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange[] findByG_LtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		StagedModelChange stagedModelChange = findByPrimaryKey(stagedModelChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			StagedModelChange[] array = new StagedModelChangeImpl[3];
+
+			array[0] = getByG_LtM_PrevAndNext(session, stagedModelChange,
+					groupId, modifiedDate, orderByComparator, true);
+
+			array[1] = stagedModelChange;
+
+			array[2] = getByG_LtM_PrevAndNext(session, stagedModelChange,
+					groupId, modifiedDate, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected StagedModelChange getByG_LtM_PrevAndNext(Session session,
+		StagedModelChange stagedModelChange, long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+		query.append(_FINDER_COLUMN_G_LTM_GROUPID_2);
+
+		if (modifiedDate == null) {
+			query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_1);
+		}
+		else {
+			query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (modifiedDate != null) {
+			qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(stagedModelChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<StagedModelChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @return the matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_GtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		return findByG_GtM(groupId, modifiedDate, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @return the range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_GtM(long groupId, Date modifiedDate,
+		int start, int end) throws SystemException {
+		return findByG_GtM(groupId, modifiedDate, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_GtM(long groupId, Date modifiedDate,
+		int start, int end, OrderByComparator orderByComparator)
+		throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_GTM;
+			finderArgs = new Object[] { groupId, modifiedDate };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_GTM;
+			finderArgs = new Object[] {
+					groupId, modifiedDate,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<StagedModelChange> list = (List<StagedModelChange>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (StagedModelChange stagedModelChange : list) {
+				if ((groupId != stagedModelChange.getGroupId()) ||
+						!Validator.equals(modifiedDate,
+							stagedModelChange.getModifiedDate())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_GTM_GROUPID_2);
+
+			if (modifiedDate == null) {
+				query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_1);
+			}
+			else {
+				query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_2);
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (modifiedDate != null) {
+					qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+				}
+
+				list = (List<StagedModelChange>)QueryUtil.list(q, getDialect(),
+						start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_GtM_First(long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		List<StagedModelChange> list = findByG_GtM(groupId, modifiedDate, 0, 1,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", modifiedDate=");
+			msg.append(modifiedDate);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_GtM_Last(long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		int count = countByG_GtM(groupId, modifiedDate);
+
+		List<StagedModelChange> list = findByG_GtM(groupId, modifiedDate,
+				count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", modifiedDate=");
+			msg.append(modifiedDate);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param stagedModelChangeId the primary key of the current staged model change
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange[] findByG_GtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		StagedModelChange stagedModelChange = findByPrimaryKey(stagedModelChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			StagedModelChange[] array = new StagedModelChangeImpl[3];
+
+			array[0] = getByG_GtM_PrevAndNext(session, stagedModelChange,
+					groupId, modifiedDate, orderByComparator, true);
+
+			array[1] = stagedModelChange;
+
+			array[2] = getByG_GtM_PrevAndNext(session, stagedModelChange,
+					groupId, modifiedDate, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected StagedModelChange getByG_GtM_PrevAndNext(Session session,
+		StagedModelChange stagedModelChange, long groupId, Date modifiedDate,
+		OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+		query.append(_FINDER_COLUMN_G_GTM_GROUPID_2);
+
+		if (modifiedDate == null) {
+			query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_1);
+		}
+		else {
+			query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_2);
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		if (modifiedDate != null) {
+			qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(stagedModelChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<StagedModelChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_C_C(long groupId, long classNameId,
+		long classPK) throws SystemException {
+		return findByG_C_C(groupId, classNameId, classPK, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @return the range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_C_C(long groupId, long classNameId,
+		long classPK, int start, int end) throws SystemException {
+		return findByG_C_C(groupId, classNameId, classPK, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findByG_C_C(long groupId, long classNameId,
+		long classPK, int start, int end, OrderByComparator orderByComparator)
+		throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_C_C;
+			finderArgs = new Object[] { groupId, classNameId, classPK };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_C_C;
+			finderArgs = new Object[] {
+					groupId, classNameId, classPK,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<StagedModelChange> list = (List<StagedModelChange>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (StagedModelChange stagedModelChange : list) {
+				if ((groupId != stagedModelChange.getGroupId()) ||
+						(classNameId != stagedModelChange.getClassNameId()) ||
+						(classPK != stagedModelChange.getClassPK())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(5 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(5);
+			}
+
+			query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_C_C_GROUPID_2);
+
+			query.append(_FINDER_COLUMN_G_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_G_C_C_CLASSPK_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				list = (List<StagedModelChange>)QueryUtil.list(q, getDialect(),
+						start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_C_C_First(long groupId, long classNameId,
+		long classPK, OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		List<StagedModelChange> list = findByG_C_C(groupId, classNameId,
+				classPK, 0, 1, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", classNameId=");
+			msg.append(classNameId);
+
+			msg.append(", classPK=");
+			msg.append(classPK);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange findByG_C_C_Last(long groupId, long classNameId,
+		long classPK, OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		int count = countByG_C_C(groupId, classNameId, classPK);
+
+		List<StagedModelChange> list = findByG_C_C(groupId, classNameId,
+				classPK, count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("groupId=");
+			msg.append(groupId);
+
+			msg.append(", classNameId=");
+			msg.append(classNameId);
+
+			msg.append(", classPK=");
+			msg.append(classPK);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchStagedModelChangeException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param stagedModelChangeId the primary key of the current staged model change
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next staged model change
+	 * @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public StagedModelChange[] findByG_C_C_PrevAndNext(
+		long stagedModelChangeId, long groupId, long classNameId, long classPK,
+		OrderByComparator orderByComparator)
+		throws NoSuchStagedModelChangeException, SystemException {
+		StagedModelChange stagedModelChange = findByPrimaryKey(stagedModelChangeId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			StagedModelChange[] array = new StagedModelChangeImpl[3];
+
+			array[0] = getByG_C_C_PrevAndNext(session, stagedModelChange,
+					groupId, classNameId, classPK, orderByComparator, true);
+
+			array[1] = stagedModelChange;
+
+			array[2] = getByG_C_C_PrevAndNext(session, stagedModelChange,
+					groupId, classNameId, classPK, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected StagedModelChange getByG_C_C_PrevAndNext(Session session,
+		StagedModelChange stagedModelChange, long groupId, long classNameId,
+		long classPK, OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_STAGEDMODELCHANGE_WHERE);
+
+		query.append(_FINDER_COLUMN_G_C_C_GROUPID_2);
+
+		query.append(_FINDER_COLUMN_G_C_C_CLASSNAMEID_2);
+
+		query.append(_FINDER_COLUMN_G_C_C_CLASSPK_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		qPos.add(classNameId);
+
+		qPos.add(classPK);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(stagedModelChange);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<StagedModelChange> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the staged model changes.
+	 *
+	 * @return the staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findAll() throws SystemException {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the staged model changes.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @return the range of staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findAll(int start, int end)
+		throws SystemException {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the staged model changes.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of staged model changes
+	 * @param end the upper bound of the range of staged model changes (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<StagedModelChange> findAll(int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = new Object[] { start, end, orderByComparator };
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<StagedModelChange> list = (List<StagedModelChange>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 3));
+
+				query.append(_SQL_SELECT_STAGEDMODELCHANGE);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_STAGEDMODELCHANGE.concat(StagedModelChangeModelImpl.ORDER_BY_JPQL);
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (orderByComparator == null) {
+					list = (List<StagedModelChange>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+				}
+				else {
+					list = (List<StagedModelChange>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the staged model changes where groupId = &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByGroupId(long groupId) throws SystemException {
+		for (StagedModelChange stagedModelChange : findByGroupId(groupId)) {
+			remove(stagedModelChange);
+		}
+	}
+
+	/**
+	 * Removes all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByG_LtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		for (StagedModelChange stagedModelChange : findByG_LtM(groupId,
+				modifiedDate)) {
+			remove(stagedModelChange);
+		}
+	}
+
+	/**
+	 * Removes all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByG_GtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		for (StagedModelChange stagedModelChange : findByG_GtM(groupId,
+				modifiedDate)) {
+			remove(stagedModelChange);
+		}
+	}
+
+	/**
+	 * Removes all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByG_C_C(long groupId, long classNameId, long classPK)
+		throws SystemException {
+		for (StagedModelChange stagedModelChange : findByG_C_C(groupId,
+				classNameId, classPK)) {
+			remove(stagedModelChange);
+		}
+	}
+
+	/**
+	 * Removes all the staged model changes from the database.
+	 *
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeAll() throws SystemException {
+		for (StagedModelChange stagedModelChange : findAll()) {
+			remove(stagedModelChange);
+		}
+	}
+
+	/**
+	 * Returns the number of staged model changes where groupId = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @return the number of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByGroupId(long groupId) throws SystemException {
+		Object[] finderArgs = new Object[] { groupId };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_GROUPID,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_GROUPID_GROUPID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_GROUPID,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @return the number of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByG_LtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { groupId, modifiedDate };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_G_LTM,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_LTM_GROUPID_2);
+
+			if (modifiedDate == null) {
+				query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_1);
+			}
+			else {
+				query.append(_FINDER_COLUMN_G_LTM_MODIFIEDDATE_2);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (modifiedDate != null) {
+					qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_G_LTM,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param modifiedDate the modified date
+	 * @return the number of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByG_GtM(long groupId, Date modifiedDate)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { groupId, modifiedDate };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_G_GTM,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_GTM_GROUPID_2);
+
+			if (modifiedDate == null) {
+				query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_1);
+			}
+			else {
+				query.append(_FINDER_COLUMN_G_GTM_MODIFIEDDATE_2);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				if (modifiedDate != null) {
+					qPos.add(CalendarUtil.getTimestamp(modifiedDate));
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_G_GTM,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the number of matching staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByG_C_C(long groupId, long classNameId, long classPK)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { groupId, classNameId, classPK };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_G_C_C,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_COUNT_STAGEDMODELCHANGE_WHERE);
+
+			query.append(_FINDER_COLUMN_G_C_C_GROUPID_2);
+
+			query.append(_FINDER_COLUMN_G_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_G_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_G_C_C,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of staged model changes.
+	 *
+	 * @return the number of staged model changes
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countAll() throws SystemException {
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_STAGEDMODELCHANGE);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Initializes the staged model change persistence.
+	 */
+	public void afterPropertiesSet() {
+		String[] listenerClassNames = StringUtil.split(GetterUtil.getString(
+					com.liferay.portal.util.PropsUtil.get(
+						"value.object.listener.com.liferay.portal.model.StagedModelChange")));
+
+		if (listenerClassNames.length > 0) {
+			try {
+				List<ModelListener<StagedModelChange>> listenersList = new ArrayList<ModelListener<StagedModelChange>>();
+
+				for (String listenerClassName : listenerClassNames) {
+					listenersList.add((ModelListener<StagedModelChange>)InstanceFactory.newInstance(
+							listenerClassName));
+				}
+
+				listeners = listenersList.toArray(new ModelListener[listenersList.size()]);
+			}
+			catch (Exception e) {
+				_log.error(e);
+			}
+		}
+	}
+
+	public void destroy() {
+		EntityCacheUtil.removeCache(StagedModelChangeImpl.class.getName());
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@BeanReference(type = AccountPersistence.class)
+	protected AccountPersistence accountPersistence;
+	@BeanReference(type = AddressPersistence.class)
+	protected AddressPersistence addressPersistence;
+	@BeanReference(type = BrowserTrackerPersistence.class)
+	protected BrowserTrackerPersistence browserTrackerPersistence;
+	@BeanReference(type = ClassNamePersistence.class)
+	protected ClassNamePersistence classNamePersistence;
+	@BeanReference(type = ClusterGroupPersistence.class)
+	protected ClusterGroupPersistence clusterGroupPersistence;
+	@BeanReference(type = CompanyPersistence.class)
+	protected CompanyPersistence companyPersistence;
+	@BeanReference(type = ContactPersistence.class)
+	protected ContactPersistence contactPersistence;
+	@BeanReference(type = CountryPersistence.class)
+	protected CountryPersistence countryPersistence;
+	@BeanReference(type = EmailAddressPersistence.class)
+	protected EmailAddressPersistence emailAddressPersistence;
+	@BeanReference(type = GroupPersistence.class)
+	protected GroupPersistence groupPersistence;
+	@BeanReference(type = ImagePersistence.class)
+	protected ImagePersistence imagePersistence;
+	@BeanReference(type = LayoutPersistence.class)
+	protected LayoutPersistence layoutPersistence;
+	@BeanReference(type = LayoutBranchPersistence.class)
+	protected LayoutBranchPersistence layoutBranchPersistence;
+	@BeanReference(type = LayoutPrototypePersistence.class)
+	protected LayoutPrototypePersistence layoutPrototypePersistence;
+	@BeanReference(type = LayoutRevisionPersistence.class)
+	protected LayoutRevisionPersistence layoutRevisionPersistence;
+	@BeanReference(type = LayoutSetPersistence.class)
+	protected LayoutSetPersistence layoutSetPersistence;
+	@BeanReference(type = LayoutSetBranchPersistence.class)
+	protected LayoutSetBranchPersistence layoutSetBranchPersistence;
+	@BeanReference(type = LayoutSetPrototypePersistence.class)
+	protected LayoutSetPrototypePersistence layoutSetPrototypePersistence;
+	@BeanReference(type = ListTypePersistence.class)
+	protected ListTypePersistence listTypePersistence;
+	@BeanReference(type = LockPersistence.class)
+	protected LockPersistence lockPersistence;
+	@BeanReference(type = MembershipRequestPersistence.class)
+	protected MembershipRequestPersistence membershipRequestPersistence;
+	@BeanReference(type = OrganizationPersistence.class)
+	protected OrganizationPersistence organizationPersistence;
+	@BeanReference(type = OrgGroupRolePersistence.class)
+	protected OrgGroupRolePersistence orgGroupRolePersistence;
+	@BeanReference(type = OrgLaborPersistence.class)
+	protected OrgLaborPersistence orgLaborPersistence;
+	@BeanReference(type = PasswordPolicyPersistence.class)
+	protected PasswordPolicyPersistence passwordPolicyPersistence;
+	@BeanReference(type = PasswordPolicyRelPersistence.class)
+	protected PasswordPolicyRelPersistence passwordPolicyRelPersistence;
+	@BeanReference(type = PasswordTrackerPersistence.class)
+	protected PasswordTrackerPersistence passwordTrackerPersistence;
+	@BeanReference(type = PhonePersistence.class)
+	protected PhonePersistence phonePersistence;
+	@BeanReference(type = PluginSettingPersistence.class)
+	protected PluginSettingPersistence pluginSettingPersistence;
+	@BeanReference(type = PortalPreferencesPersistence.class)
+	protected PortalPreferencesPersistence portalPreferencesPersistence;
+	@BeanReference(type = PortletPersistence.class)
+	protected PortletPersistence portletPersistence;
+	@BeanReference(type = PortletItemPersistence.class)
+	protected PortletItemPersistence portletItemPersistence;
+	@BeanReference(type = PortletPreferencesPersistence.class)
+	protected PortletPreferencesPersistence portletPreferencesPersistence;
+	@BeanReference(type = RegionPersistence.class)
+	protected RegionPersistence regionPersistence;
+	@BeanReference(type = ReleasePersistence.class)
+	protected ReleasePersistence releasePersistence;
+	@BeanReference(type = RepositoryPersistence.class)
+	protected RepositoryPersistence repositoryPersistence;
+	@BeanReference(type = RepositoryEntryPersistence.class)
+	protected RepositoryEntryPersistence repositoryEntryPersistence;
+	@BeanReference(type = ResourceActionPersistence.class)
+	protected ResourceActionPersistence resourceActionPersistence;
+	@BeanReference(type = ResourceBlockPersistence.class)
+	protected ResourceBlockPersistence resourceBlockPersistence;
+	@BeanReference(type = ResourceBlockPermissionPersistence.class)
+	protected ResourceBlockPermissionPersistence resourceBlockPermissionPersistence;
+	@BeanReference(type = ResourcePermissionPersistence.class)
+	protected ResourcePermissionPersistence resourcePermissionPersistence;
+	@BeanReference(type = ResourceTypePermissionPersistence.class)
+	protected ResourceTypePermissionPersistence resourceTypePermissionPersistence;
+	@BeanReference(type = RolePersistence.class)
+	protected RolePersistence rolePersistence;
+	@BeanReference(type = ServiceComponentPersistence.class)
+	protected ServiceComponentPersistence serviceComponentPersistence;
+	@BeanReference(type = ShardPersistence.class)
+	protected ShardPersistence shardPersistence;
+	@BeanReference(type = StagedModelChangePersistence.class)
+	protected StagedModelChangePersistence stagedModelChangePersistence;
+	@BeanReference(type = SubscriptionPersistence.class)
+	protected SubscriptionPersistence subscriptionPersistence;
+	@BeanReference(type = TeamPersistence.class)
+	protected TeamPersistence teamPersistence;
+	@BeanReference(type = TicketPersistence.class)
+	protected TicketPersistence ticketPersistence;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	@BeanReference(type = UserGroupPersistence.class)
+	protected UserGroupPersistence userGroupPersistence;
+	@BeanReference(type = UserGroupGroupRolePersistence.class)
+	protected UserGroupGroupRolePersistence userGroupGroupRolePersistence;
+	@BeanReference(type = UserGroupRolePersistence.class)
+	protected UserGroupRolePersistence userGroupRolePersistence;
+	@BeanReference(type = UserIdMapperPersistence.class)
+	protected UserIdMapperPersistence userIdMapperPersistence;
+	@BeanReference(type = UserNotificationEventPersistence.class)
+	protected UserNotificationEventPersistence userNotificationEventPersistence;
+	@BeanReference(type = UserTrackerPersistence.class)
+	protected UserTrackerPersistence userTrackerPersistence;
+	@BeanReference(type = UserTrackerPathPersistence.class)
+	protected UserTrackerPathPersistence userTrackerPathPersistence;
+	@BeanReference(type = VirtualHostPersistence.class)
+	protected VirtualHostPersistence virtualHostPersistence;
+	@BeanReference(type = WebDAVPropsPersistence.class)
+	protected WebDAVPropsPersistence webDAVPropsPersistence;
+	@BeanReference(type = WebsitePersistence.class)
+	protected WebsitePersistence websitePersistence;
+	@BeanReference(type = WorkflowDefinitionLinkPersistence.class)
+	protected WorkflowDefinitionLinkPersistence workflowDefinitionLinkPersistence;
+	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
+	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
+	private static final String _SQL_SELECT_STAGEDMODELCHANGE = "SELECT stagedModelChange FROM StagedModelChange stagedModelChange";
+	private static final String _SQL_SELECT_STAGEDMODELCHANGE_WHERE = "SELECT stagedModelChange FROM StagedModelChange stagedModelChange WHERE ";
+	private static final String _SQL_SELECT_STAGEDMODELCHANGE_WHERE_PKS_IN = "SELECT stagedModelChange FROM StagedModelChange stagedModelChange WHERE stagedModelChange.stagedModelChangeId IN (";
+	private static final String _SQL_COUNT_STAGEDMODELCHANGE = "SELECT COUNT(stagedModelChange) FROM StagedModelChange stagedModelChange";
+	private static final String _SQL_COUNT_STAGEDMODELCHANGE_WHERE = "SELECT COUNT(stagedModelChange) FROM StagedModelChange stagedModelChange WHERE ";
+	private static final String _FINDER_COLUMN_GROUPID_GROUPID_2 = "stagedModelChange.groupId = ?";
+	private static final String _FINDER_COLUMN_G_LTM_GROUPID_2 = "stagedModelChange.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_LTM_MODIFIEDDATE_1 = "stagedModelChange.modifiedDate < NULL";
+	private static final String _FINDER_COLUMN_G_LTM_MODIFIEDDATE_2 = "stagedModelChange.modifiedDate < ?";
+	private static final String _FINDER_COLUMN_G_GTM_GROUPID_2 = "stagedModelChange.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_GTM_MODIFIEDDATE_1 = "stagedModelChange.modifiedDate > NULL";
+	private static final String _FINDER_COLUMN_G_GTM_MODIFIEDDATE_2 = "stagedModelChange.modifiedDate > ?";
+	private static final String _FINDER_COLUMN_G_C_C_GROUPID_2 = "stagedModelChange.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_C_C_CLASSNAMEID_2 = "stagedModelChange.classNameId = ? AND ";
+	private static final String _FINDER_COLUMN_G_C_C_CLASSPK_2 = "stagedModelChange.classPK = ?";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "stagedModelChange.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No StagedModelChange exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No StagedModelChange exists with the key {";
+	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
+	private static Log _log = LogFactoryUtil.getLog(StagedModelChangePersistenceImpl.class);
+	private static StagedModelChange _nullStagedModelChange = new StagedModelChangeImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<StagedModelChange> toCacheModel() {
+				return _nullStagedModelChangeCacheModel;
+			}
+		};
+
+	private static CacheModel<StagedModelChange> _nullStagedModelChangeCacheModel =
+		new CacheModel<StagedModelChange>() {
+			public StagedModelChange toEntityModel() {
+				return _nullStagedModelChange;
+			}
+		};
+}
\ No newline at end of file
@@ -16,6 +16,8 @@ package com.liferay.portal.servlet;
 
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.CompanyConstants;
 import com.liferay.portal.search.lucene.LuceneHelperUtil;
@@ -24,6 +26,8 @@ import com.liferay.portal.service.CompanyLocalServiceUtil;
 
 import java.io.IOException;
 
+import java.util.Set;
+
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -79,7 +83,11 @@ public class LuceneServlet extends HttpServlet {
 			}
 		}
 
-		LuceneHelperUtil.dumpIndex(companyId, response.getOutputStream());
+		Set<String> segmentKeys = SetUtil.fromArray(
+			StringUtil.split(ParamUtil.getString(request, "segmentKeys")));
+
+		LuceneHelperUtil.dumpIndex(
+			companyId, response.getOutputStream(), segmentKeys);
 	}
 
 }
\ No newline at end of file
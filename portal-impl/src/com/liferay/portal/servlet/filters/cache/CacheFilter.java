@@ -50,6 +50,11 @@ import com.liferay.portal.util.WebKeys;
 import com.liferay.util.servlet.filters.CacheResponseData;
 import com.liferay.util.servlet.filters.CacheResponseUtil;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
 import javax.servlet.http.HttpServletRequest;
@@ -269,6 +274,15 @@ public class CacheFilter extends BasePortalFilter {
 		}
 	}
 
+	protected String getStatisticsKey(HttpServletRequest request) {
+		if (_pattern == _PATTERN_LAYOUT) {
+			return "p_l_id=".concat(ParamUtil.getString(request, "p_l_id"));
+		}
+
+		return request.getServletPath().concat(
+			GetterUtil.getString(request.getPathInfo()));
+	}
+
 	protected boolean isAlreadyFiltered(HttpServletRequest request) {
 		if (request.getAttribute(SKIP_FILTER) != null) {
 			return true;
@@ -420,66 +434,209 @@ public class CacheFilter extends BasePortalFilter {
 
 		long companyId = PortalInstances.getCompanyId(request);
 
+		String statisticsKey = getStatisticsKey(request);
+
 		CacheResponseData cacheResponseData = CacheUtil.getCacheResponseData(
 			companyId, key);
 
-		if (cacheResponseData == null) {
-			if (!isCacheableData(companyId, request)) {
-				if (_log.isDebugEnabled()) {
-					_log.debug("Request is not cacheable " + key);
+		if (cacheResponseData != null) {
+			CacheStatisticsUtil.incrementHitCount(statisticsKey);
+
+			write(request, response, cacheResponseData);
+
+			return;
+		}
+
+		if (!isCacheableData(companyId, request)) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Request is not cacheable " + key);
+			}
+
+			processFilter(CacheFilter.class, request, response, filterChain);
+
+			return;
+		}
+
+		String flightKey = String.valueOf(companyId).concat(
+			StringPool.POUND).concat(key);
+
+		Flight flight = new Flight();
+
+		Flight currentFlight = _flights.putIfAbsent(flightKey, flight);
+
+		if (currentFlight != null) {
+
+			// Another request is already rendering the same content, serve the
+			// stale copy or wait for the result instead of rendering it again
+
+			CacheResponseData staleCacheResponseData =
+				CacheUtil.getStaleCacheResponseData(companyId, key);
+
+			if (staleCacheResponseData != null) {
+				CacheStatisticsUtil.incrementStaleHitCount(statisticsKey);
+
+				write(request, response, staleCacheResponseData);
+
+				return;
+			}
+
+			cacheResponseData = currentFlight.await();
+
+			if (cacheResponseData != null) {
+				CacheStatisticsUtil.incrementCoalescedHitCount(statisticsKey);
+
+				write(request, response, cacheResponseData);
+
+				return;
+			}
+
+			CacheStatisticsUtil.incrementMissCount(statisticsKey);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Coalesced request did not get a result " + key);
+			}
+
+			cacheResponseData = render(
+				companyId, key, statisticsKey, request, response, filterChain);
+
+			if (cacheResponseData != null) {
+				CacheResponseUtil.write(response, cacheResponseData);
+			}
+
+			return;
+		}
+
+		try {
+			CacheResponseData staleCacheResponseData =
+				CacheUtil.getStaleCacheResponseData(companyId, key);
+
+			if (staleCacheResponseData != null) {
+
+				// Send the stale copy to this client right away and refresh
+				// the content once the response is flushed. The refresh runs
+				// in this thread because the container recycles the request
+				// as soon as the filter returns.
+
+				CacheStatisticsUtil.incrementStaleHitCount(statisticsKey);
+
+				write(request, response, staleCacheResponseData);
+
+				response.flushBuffer();
+
+				try {
+					cacheResponseData = render(
+						companyId, key, statisticsKey, request, response,
+						filterChain);
+				}
+				catch (Exception e) {
+					_log.error("Unable to refresh stale request " + key, e);
+				}
+
+				// Content that can no longer be cached must not be served
+				// from the stale copy either
+
+				if (cacheResponseData == null) {
+					CacheUtil.removeStaleCacheResponseData(companyId, key);
 				}
 
-				processFilter(
-					CacheFilter.class, request, response, filterChain);
+				flight.complete(cacheResponseData);
 
 				return;
 			}
 
+			CacheStatisticsUtil.incrementMissCount(statisticsKey);
+
 			if (_log.isInfoEnabled()) {
 				_log.info("Caching request " + key);
 			}
 
-			ByteBufferServletResponse byteBufferResponse =
-				new ByteBufferServletResponse(response);
+			cacheResponseData = render(
+				companyId, key, statisticsKey, request, response, filterChain);
 
-			processFilter(
-				CacheFilter.class, request, byteBufferResponse, filterChain);
+			flight.complete(cacheResponseData);
 
-			cacheResponseData = new CacheResponseData(byteBufferResponse);
+			if (cacheResponseData != null) {
+				CacheResponseUtil.write(response, cacheResponseData);
+			}
+		}
+		finally {
+			_flights.remove(flightKey, flight);
 
-			LastPath lastPath = (LastPath)request.getAttribute(
-				WebKeys.LAST_PATH);
+			flight.complete(null);
+		}
+	}
 
-			if (lastPath != null) {
-				cacheResponseData.setAttribute(WebKeys.LAST_PATH, lastPath);
-			}
+	/**
+	 * Renders the content into a buffer and caches it. Returns the cached
+	 * content, or <code>null</code> if the content is not cacheable and has
+	 * already been written to the response.
+	 */
+	protected CacheResponseData render(
+			long companyId, String key, String statisticsKey,
+			HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain)
+		throws Exception {
 
-			// Cache the result if and only if there is a result and the request
-			// is cacheable. We have to test the cacheability of a request
-			// twice because the user could have been authenticated after the
-			// initial test.
+		ByteBufferServletResponse byteBufferResponse =
+			new ByteBufferServletResponse(response);
 
-			String cacheControl = GetterUtil.getString(
-				byteBufferResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+		long startTime = System.currentTimeMillis();
 
-			if ((byteBufferResponse.getStatus() == HttpServletResponse.SC_OK) &&
-				!cacheControl.contains(HttpHeaders.PRAGMA_NO_CACHE_VALUE) &&
-				isCacheableRequest(request) &&
-				isCacheableResponse(byteBufferResponse)) {
+		processFilter(
+			CacheFilter.class, request, byteBufferResponse, filterChain);
 
-				CacheUtil.putCacheResponseData(
-					companyId, key, cacheResponseData);
-			}
+		CacheStatisticsUtil.incrementRenderTime(
+			statisticsKey, System.currentTimeMillis() - startTime);
+
+		CacheResponseData cacheResponseData = new CacheResponseData(
+			byteBufferResponse);
+
+		LastPath lastPath = (LastPath)request.getAttribute(WebKeys.LAST_PATH);
+
+		if (lastPath != null) {
+			cacheResponseData.setAttribute(WebKeys.LAST_PATH, lastPath);
 		}
-		else {
-			LastPath lastPath = (LastPath)cacheResponseData.getAttribute(
-				WebKeys.LAST_PATH);
 
-			if (lastPath != null) {
-				HttpSession session = request.getSession();
+		// Cache the result if and only if there is a result and the request is
+		// cacheable. We have to test the cacheability of a request twice
+		// because the user could have been authenticated after the initial
+		// test.
 
-				session.setAttribute(WebKeys.LAST_PATH, lastPath);
-			}
+		String cacheControl = GetterUtil.getString(
+			byteBufferResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+
+		if ((byteBufferResponse.getStatus() == HttpServletResponse.SC_OK) &&
+			!cacheControl.contains(HttpHeaders.PRAGMA_NO_CACHE_VALUE) &&
+			isCacheableRequest(request) &&
+			isCacheableResponse(byteBufferResponse)) {
+
+			CacheUtil.putCacheResponseData(companyId, key, cacheResponseData);
+
+			return cacheResponseData;
+		}
+
+		// Content that is not cacheable must not be shared with coalesced
+		// requests
+
+		if (!response.isCommitted()) {
+			CacheResponseUtil.write(response, cacheResponseData);
+		}
+
+		return null;
+	}
+
+	protected void write(
+			HttpServletRequest request, HttpServletResponse response,
+			CacheResponseData cacheResponseData)
+		throws Exception {
+
+		LastPath lastPath = (LastPath)cacheResponseData.getAttribute(
+			WebKeys.LAST_PATH);
+
+		if (lastPath != null) {
+			HttpSession session = request.getSession();
+
+			session.setAttribute(WebKeys.LAST_PATH, lastPath);
 		}
 
 		CacheResponseUtil.write(response, cacheResponseData);
@@ -493,6 +650,39 @@ public class CacheFilter extends BasePortalFilter {
 
 	private static Log _log = LogFactoryUtil.getLog(CacheFilter.class);
 
+	private static ConcurrentMap<String, Flight> _flights =
+		new ConcurrentHashMap<String, Flight>();
+
 	private int _pattern;
 
+	private static class Flight {
+
+		public CacheResponseData await() throws InterruptedException {
+			if (_countDownLatch.await(
+					PropsValues.CACHE_CONTENT_COALESCE_TIMEOUT,
+					TimeUnit.MILLISECONDS)) {
+
+				return _cacheResponseData;
+			}
+
+			return null;
+		}
+
+		public synchronized void complete(
+			CacheResponseData cacheResponseData) {
+
+			if (_countDownLatch.getCount() == 0) {
+				return;
+			}
+
+			_cacheResponseData = cacheResponseData;
+
+			_countDownLatch.countDown();
+		}
+
+		private volatile CacheResponseData _cacheResponseData;
+		private final CountDownLatch _countDownLatch = new CountDownLatch(1);
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how the cache filter served the requests for one layout or
+ * resource.
+ */
+public class CacheStatistics {
+
+	public long getAverageRenderTime() {
+		long renderCount = _renderCount.get();
+
+		if (renderCount == 0) {
+			return 0;
+		}
+
+		return _renderTime.get() / renderCount;
+	}
+
+	public long getCoalescedHitCount() {
+		return _coalescedHitCount.get();
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public long getMaxRenderTime() {
+		return _maxRenderTime.get();
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	public long getRenderCount() {
+		return _renderCount.get();
+	}
+
+	public long getRenderTime() {
+		return _renderTime.get();
+	}
+
+	public long getStaleHitCount() {
+		return _staleHitCount.get();
+	}
+
+	public void incrementCoalescedHitCount() {
+		_coalescedHitCount.incrementAndGet();
+	}
+
+	public void incrementHitCount() {
+		_hitCount.incrementAndGet();
+	}
+
+	public void incrementMissCount() {
+		_missCount.incrementAndGet();
+	}
+
+	public void incrementRenderTime(long renderTime) {
+		_renderCount.incrementAndGet();
+		_renderTime.addAndGet(renderTime);
+
+		while (true) {
+			long maxRenderTime = _maxRenderTime.get();
+
+			if ((renderTime <= maxRenderTime) ||
+				_maxRenderTime.compareAndSet(maxRenderTime, renderTime)) {
+
+				return;
+			}
+		}
+	}
+
+	public void incrementStaleHitCount() {
+		_staleHitCount.incrementAndGet();
+	}
+
+	public void reset() {
+		_coalescedHitCount.set(0);
+		_hitCount.set(0);
+		_maxRenderTime.set(0);
+		_missCount.set(0);
+		_renderCount.set(0);
+		_renderTime.set(0);
+		_staleHitCount.set(0);
+	}
+
+	private AtomicLong _coalescedHitCount = new AtomicLong();
+	private AtomicLong _hitCount = new AtomicLong();
+	private AtomicLong _maxRenderTime = new AtomicLong();
+	private AtomicLong _missCount = new AtomicLong();
+	private AtomicLong _renderCount = new AtomicLong();
+	private AtomicLong _renderTime = new AtomicLong();
+	private AtomicLong _staleHitCount = new AtomicLong();
+
+}
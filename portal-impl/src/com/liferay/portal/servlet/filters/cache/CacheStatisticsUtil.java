@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the statistics of the cache filter in total and for each layout or
+ * resource. Only the first keys up to a fixed limit get their own
+ * statistics, the remaining keys are only counted in the total.
+ */
+public class CacheStatisticsUtil {
+
+	public static CacheStatistics getCacheStatistics() {
+		return _cacheStatistics;
+	}
+
+	public static CacheStatistics getCacheStatistics(String key) {
+		return _cacheStatisticsMap.get(key);
+	}
+
+	public static String[] getKeys() {
+		Set<String> keys = _cacheStatisticsMap.keySet();
+
+		return keys.toArray(new String[keys.size()]);
+	}
+
+	public static void incrementCoalescedHitCount(String key) {
+		_cacheStatistics.incrementCoalescedHitCount();
+
+		CacheStatistics cacheStatistics = _getCacheStatistics(key);
+
+		if (cacheStatistics != null) {
+			cacheStatistics.incrementCoalescedHitCount();
+		}
+	}
+
+	public static void incrementHitCount(String key) {
+		_cacheStatistics.incrementHitCount();
+
+		CacheStatistics cacheStatistics = _getCacheStatistics(key);
+
+		if (cacheStatistics != null) {
+			cacheStatistics.incrementHitCount();
+		}
+	}
+
+	public static void incrementMissCount(String key) {
+		_cacheStatistics.incrementMissCount();
+
+		CacheStatistics cacheStatistics = _getCacheStatistics(key);
+
+		if (cacheStatistics != null) {
+			cacheStatistics.incrementMissCount();
+		}
+	}
+
+	public static void incrementRenderTime(String key, long renderTime) {
+		_cacheStatistics.incrementRenderTime(renderTime);
+
+		CacheStatistics cacheStatistics = _getCacheStatistics(key);
+
+		if (cacheStatistics != null) {
+			cacheStatistics.incrementRenderTime(renderTime);
+		}
+	}
+
+	public static void incrementStaleHitCount(String key) {
+		_cacheStatistics.incrementStaleHitCount();
+
+		CacheStatistics cacheStatistics = _getCacheStatistics(key);
+
+		if (cacheStatistics != null) {
+			cacheStatistics.incrementStaleHitCount();
+		}
+	}
+
+	public static void reset() {
+		_cacheStatistics.reset();
+
+		_cacheStatisticsMap.clear();
+	}
+
+	private static CacheStatistics _getCacheStatistics(String key) {
+		CacheStatistics cacheStatistics = _cacheStatisticsMap.get(key);
+
+		if ((cacheStatistics != null) ||
+			(_cacheStatisticsMap.size() >= _MAX_SIZE)) {
+
+			return cacheStatistics;
+		}
+
+		cacheStatistics = new CacheStatistics();
+
+		CacheStatistics previousCacheStatistics =
+			_cacheStatisticsMap.putIfAbsent(key, cacheStatistics);
+
+		if (previousCacheStatistics != null) {
+			cacheStatistics = previousCacheStatistics;
+		}
+
+		return cacheStatistics;
+	}
+
+	private static final int _MAX_SIZE = 1000;
+
+	private static CacheStatistics _cacheStatistics = new CacheStatistics();
+	private static ConcurrentMap<String, CacheStatistics> _cacheStatisticsMap =
+		new ConcurrentHashMap<String, CacheStatistics>();
+
+}
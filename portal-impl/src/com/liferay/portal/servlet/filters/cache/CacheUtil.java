@@ -14,16 +14,37 @@
 
 package com.liferay.portal.servlet.filters.cache;
 
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
 import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentClockCache;
 import com.liferay.portal.kernel.lar.ImportExportThreadLocal;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.util.servlet.filters.CacheResponseData;
 
+import java.io.Serializable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
+ * Cached responses live for the time set in the property
+ * <code>cache.content.time.to.live</code>. Every cached response is also kept
+ * in a local stale cache, so that {@link #getStaleCacheResponseData(long,
+ * String)} can return it after it expired until it is older than its
+ * expiration time plus the property <code>cache.content.stale.max.age</code>.
+ * Stale copies of responses that are explicitly removed from the cache, on
+ * this node or on any other node of the cluster, are discarded. Stale copies
+ * are kept when {@link #clearCache()} empties the cache, so they can be served
+ * while the content is rendered again, but they expire at once and are only
+ * served for <code>cache.content.stale.max.age</code> after that. They are
+ * discarded when the cache is emptied in any other way on this node.
+ *
  * @author Alexander Chow
  * @author Michael Young
  */
@@ -36,7 +57,16 @@ public class CacheUtil {
 			return;
 		}
 
-		_portalCache.removeAll();
+		_expireStaleCache();
+
+		_keepStaleCache.set(Boolean.TRUE);
+
+		try {
+			_portalCache.removeAll();
+		}
+		finally {
+			_keepStaleCache.remove();
+		}
 	}
 
 	public static void clearCache(long companyId) {
@@ -57,14 +87,68 @@ public class CacheUtil {
 		return data;
 	}
 
+	public static CacheResponseData getStaleCacheResponseData(
+		long companyId, String key) {
+
+		if ((_staleCache == null) || Validator.isNull(key)) {
+			return null;
+		}
+
+		key = _encodeKey(companyId, key);
+
+		StaleCacheResponseData staleData = _staleCache.get(key);
+
+		if ((staleData == null) || (staleData._data == null)) {
+			return null;
+		}
+
+		long expirationTime =
+			staleData._putTime +
+				(PropsValues.CACHE_CONTENT_TIME_TO_LIVE * Time.SECOND);
+
+		// A copy that was put before the cache was last cleared expired when
+		// the cache was cleared
+
+		if (staleData._clearCount != _staleCacheClearCount.get()) {
+			expirationTime = Math.min(
+				expirationTime, _staleCacheExpirationTime);
+		}
+
+		if (System.currentTimeMillis() >
+				(expirationTime + PropsValues.CACHE_CONTENT_STALE_MAX_AGE)) {
+
+			return null;
+		}
+
+		return staleData._data;
+	}
+
 	public static void putCacheResponseData(
 		long companyId, String key, CacheResponseData data) {
 
 		if (data != null) {
 			key = _encodeKey(companyId, key);
 
-			_portalCache.put(key, data);
+			_portalCache.put(key, data, PropsValues.CACHE_CONTENT_TIME_TO_LIVE);
+
+			if (_staleCache != null) {
+				_staleCache.put(
+					key,
+					new StaleCacheResponseData(
+						data, System.currentTimeMillis(),
+						_staleCacheClearCount.get()));
+			}
+		}
+	}
+
+	public static void removeStaleCacheResponseData(
+		long companyId, String key) {
+
+		if ((_staleCache == null) || Validator.isNull(key)) {
+			return;
 		}
+
+		_removeStaleCacheResponseData(_encodeKey(companyId, key));
 	}
 
 	private static String _encodeKey(long companyId, String key) {
@@ -79,7 +163,109 @@ public class CacheUtil {
 		return sb.toString();
 	}
 
+	private static void _expireStaleCache() {
+		_staleCacheExpirationTime = System.currentTimeMillis();
+
+		_staleCacheClearCount.incrementAndGet();
+	}
+
+	private static void _removeStaleCacheResponseData(String key) {
+
+		// The clock cache cannot remove a single entry, replace it with an
+		// entry that has no data instead
+
+		_staleCache.put(key, new StaleCacheResponseData(null, 0, 0));
+	}
+
+	private static ThreadLocal<Boolean> _keepStaleCache =
+		new ThreadLocal<Boolean>();
 	private static PortalCache _portalCache = MultiVMPoolUtil.getCache(
 		CACHE_NAME);
+	private static ConcurrentClockCache<String, StaleCacheResponseData>
+		_staleCache;
+	private static AtomicInteger _staleCacheClearCount = new AtomicInteger();
+	private static volatile long _staleCacheExpirationTime;
+
+	private static class StaleCacheListener implements CacheListener {
+
+		public StaleCacheListener(boolean remote) {
+			_remote = remote;
+		}
+
+		public void notifyEntryEvicted(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyEntryExpired(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyEntryPut(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyEntryRemoved(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			_removeStaleCacheResponseData(String.valueOf(key));
+		}
+
+		public void notifyEntryUpdated(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyRemoveAll(PortalCache portalCache) {
+
+			// Another node cannot tell whether it emptied the cache through
+			// clearCache, so the stale copies are kept and expire at once
+			// like they do for clearCache
+
+			if (_remote) {
+				_expireStaleCache();
+
+				return;
+			}
+
+			if (_keepStaleCache.get() != null) {
+				return;
+			}
+
+			_staleCache.clear();
+		}
+
+		private final boolean _remote;
+
+	}
+
+	private static class StaleCacheResponseData {
+
+		public StaleCacheResponseData(
+			CacheResponseData data, long putTime, int clearCount) {
+
+			_data = data;
+			_putTime = putTime;
+			_clearCount = clearCount;
+		}
+
+		private final int _clearCount;
+		private final CacheResponseData _data;
+		private final long _putTime;
+
+	}
+
+	static {
+		if ((PropsValues.CACHE_CONTENT_STALE_MAX_AGE > 0) &&
+			(PropsValues.CACHE_CONTENT_STALE_MAX_SIZE > 0)) {
+
+			_staleCache =
+				new ConcurrentClockCache<String, StaleCacheResponseData>(
+					PropsValues.CACHE_CONTENT_STALE_MAX_SIZE);
+
+			_portalCache.registerCacheListener(
+				new StaleCacheListener(false), CacheListenerScope.LOCAL);
+			_portalCache.registerCacheListener(
+				new StaleCacheListener(true), CacheListenerScope.REMOTE);
+		}
+	}
 
-}
\ No newline at end of file
+}
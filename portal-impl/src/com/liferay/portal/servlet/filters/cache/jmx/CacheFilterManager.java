@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache.jmx;
+
+import com.liferay.portal.servlet.filters.cache.CacheStatistics;
+import com.liferay.portal.servlet.filters.cache.CacheStatisticsUtil;
+
+/**
+ * @see CacheStatisticsUtil
+ */
+public class CacheFilterManager implements CacheFilterManagerMBean {
+
+	public long getAverageRenderTime() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getAverageRenderTime();
+	}
+
+	public long getAverageRenderTime(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getAverageRenderTime();
+	}
+
+	public long getCoalescedHitCount() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getCoalescedHitCount();
+	}
+
+	public long getCoalescedHitCount(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getCoalescedHitCount();
+	}
+
+	public long getHitCount() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getHitCount();
+	}
+
+	public long getHitCount(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getHitCount();
+	}
+
+	public String[] getKeys() {
+		return CacheStatisticsUtil.getKeys();
+	}
+
+	public long getMaxRenderTime() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getMaxRenderTime();
+	}
+
+	public long getMaxRenderTime(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getMaxRenderTime();
+	}
+
+	public long getMissCount() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getMissCount();
+	}
+
+	public long getMissCount(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getMissCount();
+	}
+
+	public long getRenderCount() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getRenderCount();
+	}
+
+	public long getRenderCount(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getRenderCount();
+	}
+
+	public long getStaleHitCount() {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics();
+
+		return cacheStatistics.getStaleHitCount();
+	}
+
+	public long getStaleHitCount(String key) {
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(key);
+
+		if (cacheStatistics == null) {
+			return 0;
+		}
+
+		return cacheStatistics.getStaleHitCount();
+	}
+
+	public void reset() {
+		CacheStatisticsUtil.reset();
+	}
+
+}
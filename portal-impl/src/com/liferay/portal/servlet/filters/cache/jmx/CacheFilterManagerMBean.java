@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache.jmx;
+
+/**
+ * Exposes the statistics of the cache filter. The methods that take a key
+ * return the statistics of a single layout or resource, see {@link
+ * #getKeys()}.
+ */
+public interface CacheFilterManagerMBean {
+
+	public long getAverageRenderTime();
+
+	public long getAverageRenderTime(String key);
+
+	public long getCoalescedHitCount();
+
+	public long getCoalescedHitCount(String key);
+
+	public long getHitCount();
+
+	public long getHitCount(String key);
+
+	public String[] getKeys();
+
+	public long getMaxRenderTime();
+
+	public long getMaxRenderTime(String key);
+
+	public long getMissCount();
+
+	public long getMissCount(String key);
+
+	public long getRenderCount();
+
+	public long getRenderCount(String key);
+
+	public long getStaleHitCount();
+
+	public long getStaleHitCount(String key);
+
+	public void reset();
+
+}
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.gzip;
+
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.Time;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the compressed content of static files on disk. Entries are looked up
+ * by a key, usually the request URI and query string, and point to a data file
+ * named after the digest of the uncompressed content, so that equal content is
+ * compressed and stored only once. The number of entries and the total size
+ * of the data files are bounded, the least recently used are removed first.
+ * A removed data file is deleted once no request reads it anymore and a delay
+ * has passed, since the container may send it after the response was written.
+ * Data files are never deleted when the cache is created, a data file left by
+ * a previous run is reused when its content is compressed again.
+ */
+public class GZipCache {
+
+	public GZipCache(File cacheDir, int maxEntries, long maxSize) {
+		this(cacheDir, maxEntries, maxSize, _DELETE_DELAY);
+	}
+
+	public GZipCache(
+		File cacheDir, int maxEntries, long maxSize, long deleteDelay) {
+
+		_cacheDir = cacheDir;
+		_maxEntries = maxEntries;
+		_maxSize = maxSize;
+		_deleteDelay = deleteDelay;
+	}
+
+	/**
+	 * Returns the entry of the key, or <code>null</code> if the original file
+	 * was modified since it was compressed. The data file of a returned entry
+	 * is not deleted before {@link #release(GZipCacheEntry)} is called.
+	 */
+	public synchronized GZipCacheEntry get(String key, long lastModified) {
+		GZipCacheEntry gZipCacheEntry = _gZipCacheEntries.get(key);
+
+		if (gZipCacheEntry == null) {
+			return null;
+		}
+
+		if ((gZipCacheEntry.getLastModified() < lastModified) ||
+			(_dataFileSizes.get(gZipCacheEntry.getDigest()) == null)) {
+
+			_gZipCacheEntries.remove(key);
+
+			return null;
+		}
+
+		acquire(gZipCacheEntry.getDigest());
+
+		return gZipCacheEntry;
+	}
+
+	public synchronized long getSize() {
+		return _size;
+	}
+
+	/**
+	 * Compresses the content and returns its entry. The data file of the
+	 * returned entry is not deleted before {@link #release(GZipCacheEntry)} is
+	 * called.
+	 */
+	public GZipCacheEntry put(
+			String key, long lastModified, String contentType,
+			ByteBuffer byteBuffer)
+		throws IOException {
+
+		String digest = DigesterUtil.digestHex(
+			Digester.SHA_1, byteBuffer.duplicate());
+
+		File dataFile = new File(_cacheDir, digest.concat(_GZIP_EXTENSION));
+
+		GZipCacheEntry gZipCacheEntry = new GZipCacheEntry(
+			contentType, dataFile, digest, lastModified);
+
+		synchronized (this) {
+			if (_dataFileSizes.get(digest) != null) {
+				_gZipCacheEntries.put(key, gZipCacheEntry);
+
+				acquire(digest);
+
+				return gZipCacheEntry;
+			}
+
+			// Data files are only ever renamed into place once they are
+			// complete, so one that was evicted but not yet deleted, or that
+			// was left by a previous run, holds the same compressed content
+
+			_evictedDataFiles.remove(digest);
+
+			if (dataFile.isFile()) {
+				addDataFile(key, gZipCacheEntry, dataFile.length());
+
+				return gZipCacheEntry;
+			}
+		}
+
+		long dataFileSize = writeDataFile(dataFile, byteBuffer);
+
+		synchronized (this) {
+			addDataFile(key, gZipCacheEntry, dataFileSize);
+		}
+
+		return gZipCacheEntry;
+	}
+
+	/**
+	 * Releases an entry returned by {@link #get(String, long)} or {@link
+	 * #put(String, long, String, ByteBuffer)} once its data file has been
+	 * written to the response.
+	 */
+	public synchronized void release(GZipCacheEntry gZipCacheEntry) {
+		String digest = gZipCacheEntry.getDigest();
+
+		Integer readerCount = _readerCounts.get(digest);
+
+		if (readerCount == null) {
+			return;
+		}
+
+		if (readerCount > 1) {
+			_readerCounts.put(digest, readerCount - 1);
+
+			return;
+		}
+
+		_readerCounts.remove(digest);
+
+		// The container may still be sending the file after the response was
+		// written, so the delay of an evicted data file starts over
+
+		if (_evictedDataFiles.containsKey(digest)) {
+			_evictedDataFiles.put(digest, System.currentTimeMillis());
+		}
+	}
+
+	public synchronized int size() {
+		return _gZipCacheEntries.size();
+	}
+
+	protected void acquire(String digest) {
+		Integer readerCount = _readerCounts.get(digest);
+
+		if (readerCount == null) {
+			readerCount = 0;
+		}
+
+		_readerCounts.put(digest, readerCount + 1);
+	}
+
+	protected void addDataFile(
+		String key, GZipCacheEntry gZipCacheEntry, long dataFileSize) {
+
+		String digest = gZipCacheEntry.getDigest();
+
+		if (_dataFileSizes.put(digest, dataFileSize) == null) {
+			_size += dataFileSize;
+		}
+
+		_gZipCacheEntries.put(key, gZipCacheEntry);
+
+		acquire(digest);
+
+		removeEldestDataFiles(digest);
+
+		deleteEvictedDataFiles();
+	}
+
+	protected void deleteEvictedDataFiles() {
+		long now = System.currentTimeMillis();
+
+		Iterator<Map.Entry<String, Long>> iterator =
+			_evictedDataFiles.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, Long> entry = iterator.next();
+
+			String digest = entry.getKey();
+
+			if (_readerCounts.containsKey(digest) ||
+				((now - entry.getValue()) < _deleteDelay)) {
+
+				continue;
+			}
+
+			File dataFile = new File(
+				_cacheDir, digest.concat(_GZIP_EXTENSION));
+
+			// A file that is still open cannot be deleted on some platforms,
+			// it is tried again later
+
+			if (dataFile.delete() || !dataFile.exists()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	protected void removeEldestDataFiles(String digest) {
+		Iterator<Map.Entry<String, Long>> iterator =
+			_dataFileSizes.entrySet().iterator();
+
+		while ((_size > _maxSize) && iterator.hasNext()) {
+			Map.Entry<String, Long> entry = iterator.next();
+
+			String eldestDigest = entry.getKey();
+
+			if (eldestDigest.equals(digest)) {
+				continue;
+			}
+
+			iterator.remove();
+
+			_size -= entry.getValue();
+
+			// The data file may still be read or sent by the container, so it
+			// is only deleted once it is released and the delay has passed
+
+			_evictedDataFiles.put(eldestDigest, System.currentTimeMillis());
+		}
+	}
+
+	protected long writeDataFile(File dataFile, ByteBuffer byteBuffer)
+		throws IOException {
+
+		_cacheDir.mkdirs();
+
+		// Compress into a temporary file first so that concurrent requests
+		// never see a partially written data file
+
+		File tempFile = File.createTempFile(_GZIP, null, _cacheDir);
+
+		try {
+			GZIPOutputStream gZipOutputStream = new GZIPOutputStream(
+				new FileOutputStream(tempFile));
+
+			try {
+				gZipOutputStream.write(
+					byteBuffer.array(),
+					byteBuffer.arrayOffset() + byteBuffer.position(),
+					byteBuffer.remaining());
+			}
+			finally {
+				gZipOutputStream.close();
+			}
+
+			if (!tempFile.renameTo(dataFile)) {
+				dataFile.delete();
+
+				if (!tempFile.renameTo(dataFile)) {
+					throw new IOException(
+						"Unable to rename " + tempFile + " to " + dataFile);
+				}
+			}
+
+			return dataFile.length();
+		}
+		finally {
+			tempFile.delete();
+		}
+	}
+
+	private static final long _DELETE_DELAY = Time.MINUTE;
+
+	private static final String _GZIP = "gzip";
+
+	private static final String _GZIP_EXTENSION = ".gz";
+
+	private File _cacheDir;
+	private Map<String, Long> _dataFileSizes =
+		new LinkedHashMap<String, Long>(16, 0.75F, true);
+	private long _deleteDelay;
+	private Map<String, Long> _evictedDataFiles = new HashMap<String, Long>();
+	private Map<String, GZipCacheEntry> _gZipCacheEntries =
+		new LinkedHashMap<String, GZipCacheEntry>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<String, GZipCacheEntry> eldestEntry) {
+
+				if (size() > _maxEntries) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+	private int _maxEntries;
+	private long _maxSize;
+	private Map<String, Integer> _readerCounts = new HashMap<String, Integer>();
+	private long _size;
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.gzip;
+
+import java.io.File;
+
+public class GZipCacheEntry {
+
+	public GZipCacheEntry(
+		String contentType, File dataFile, String digest, long lastModified) {
+
+		_contentType = contentType;
+		_dataFile = dataFile;
+		_digest = digest;
+		_lastModified = lastModified;
+	}
+
+	public String getContentType() {
+		return _contentType;
+	}
+
+	public File getDataFile() {
+		return _dataFile;
+	}
+
+	public String getDigest() {
+		return _digest;
+	}
+
+	public long getLastModified() {
+		return _lastModified;
+	}
+
+	private String _contentType;
+	private File _dataFile;
+	private String _digest;
+	private long _lastModified;
+
+}
@@ -14,20 +14,42 @@
 
 package com.liferay.portal.servlet.filters.gzip;
 
+import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.servlet.BrowserSnifferUtil;
+import com.liferay.portal.kernel.servlet.ByteBufferServletResponse;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.servlet.HttpMethods;
+import com.liferay.portal.kernel.servlet.ServletContextUtil;
+import com.liferay.portal.kernel.servlet.ServletResponseUtil;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.JavaConstants;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.ServerDetector;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.SystemProperties;
+import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.servlet.filters.BasePortalFilter;
+import com.liferay.portal.util.PropsValues;
+
+import java.io.File;
 
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 /**
+ * Static CSS and JavaScript files are compressed only once. Their compressed
+ * content is kept in a bounded disk cache until the original file is modified,
+ * and it is written with the sendfile support of the container where
+ * possible. All other content is compressed on the fly.
+ *
  * @author Brian Wing Shun Chan
  * @author Raymond Augé
  */
@@ -54,6 +76,25 @@ public class GZipFilter extends BasePortalFilter {
 		}
 	}
 
+	@Override
+	public void init(FilterConfig filterConfig) {
+		super.init(filterConfig);
+
+		_servletContext = filterConfig.getServletContext();
+
+		String servletContextName = GetterUtil.getString(
+			_servletContext.getServletContextName());
+
+		if (Validator.isNull(servletContextName)) {
+			servletContextName = "portal";
+		}
+
+		_gZipCache = new GZipCache(
+			new File(_TEMP_DIR, servletContextName),
+			PropsValues.GZIP_STATIC_CACHE_MAX_ENTRIES,
+			PropsValues.GZIP_STATIC_CACHE_MAX_SIZE);
+	}
+
 	@Override
 	public boolean isFilterEnabled() {
 		return _filterEnabled;
@@ -74,6 +115,67 @@ public class GZipFilter extends BasePortalFilter {
 		}
 	}
 
+	protected String getCacheKey(HttpServletRequest request) {
+
+		// The language filter translates the content of JavaScript files, so
+		// the same request has different content in every language
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(request.getRequestURI());
+
+		String queryString = request.getQueryString();
+
+		if (queryString != null) {
+			sb.append(StringPool.QUESTION);
+			sb.append(queryString);
+		}
+
+		sb.append(StringPool.POUND);
+		sb.append(LanguageUtil.getLanguageId(request));
+
+		return sb.toString();
+	}
+
+	protected File getStaticFile(HttpServletRequest request) {
+		if ((_gZipCache == null) ||
+			!HttpMethods.GET.equals(request.getMethod())) {
+
+			return null;
+		}
+
+		String requestURI = request.getRequestURI();
+
+		if (!requestURI.endsWith(_CSS_EXTENSION) &&
+			!requestURI.endsWith(_JAVASCRIPT_EXTENSION)) {
+
+			return null;
+		}
+
+		String requestPath = requestURI;
+
+		String contextPath = request.getContextPath();
+
+		if (!contextPath.equals(StringPool.SLASH)) {
+			requestPath = requestPath.substring(contextPath.length());
+		}
+
+		String realPath = ServletContextUtil.getRealPath(
+			_servletContext, requestPath);
+
+		if (realPath == null) {
+			return null;
+		}
+
+		File file = new File(realPath);
+
+		if (!file.isFile()) {
+			return null;
+		}
+
+		return file;
+	}
+
 	protected boolean isAlreadyFiltered(HttpServletRequest request) {
 		if (request.getAttribute(SKIP_FILTER) != null) {
 			return true;
@@ -118,6 +220,14 @@ public class GZipFilter extends BasePortalFilter {
 
 		request.setAttribute(SKIP_FILTER, Boolean.TRUE);
 
+		File file = getStaticFile(request);
+
+		if (file != null) {
+			processStaticFile(request, response, filterChain, file);
+
+			return;
+		}
+
 		GZipResponse gZipResponse = new GZipResponse(request, response);
 
 		processFilter(GZipFilter.class, request, gZipResponse, filterChain);
@@ -125,10 +235,73 @@ public class GZipFilter extends BasePortalFilter {
 		gZipResponse.finishResponse();
 	}
 
+	protected void processStaticFile(
+			HttpServletRequest request, HttpServletResponse response,
+			FilterChain filterChain, File file)
+		throws Exception {
+
+		String cacheKey = getCacheKey(request);
+		long lastModified = file.lastModified();
+
+		GZipCacheEntry gZipCacheEntry = _gZipCache.get(cacheKey, lastModified);
+
+		if (gZipCacheEntry == null) {
+			ByteBufferServletResponse byteBufferResponse =
+				new ByteBufferServletResponse(response);
+
+			processFilter(
+				GZipFilter.class, request, byteBufferResponse, filterChain);
+
+			String contentType = byteBufferResponse.getContentType();
+
+			if ((byteBufferResponse.getStatus() != HttpServletResponse.SC_OK) ||
+				Validator.isNull(contentType) ||
+				contentType.equals(ContentTypes.APPLICATION_GZIP) ||
+				contentType.equals(ContentTypes.APPLICATION_X_GZIP)) {
+
+				ServletResponseUtil.write(
+					response, byteBufferResponse.getByteBuffer());
+
+				return;
+			}
+
+			if (_log.isInfoEnabled()) {
+				_log.info("Precompressing " + file);
+			}
+
+			gZipCacheEntry = _gZipCache.put(
+				cacheKey, lastModified, contentType,
+				byteBufferResponse.getByteBuffer());
+		}
+
+		response.setContentType(gZipCacheEntry.getContentType());
+
+		response.addHeader(HttpHeaders.CONTENT_ENCODING, _GZIP);
+
+		try {
+			ServletResponseUtil.write(
+				request, response, gZipCacheEntry.getDataFile());
+		}
+		finally {
+			_gZipCache.release(gZipCacheEntry);
+		}
+	}
+
 	private static final String _COMPRESS = "compress";
 
+	private static final String _CSS_EXTENSION = ".css";
+
+	private static final String _GZIP = "gzip";
+
+	private static final String _JAVASCRIPT_EXTENSION = ".js";
+
+	private static final String _TEMP_DIR =
+		SystemProperties.get(SystemProperties.TMP_DIR) + "/liferay/gzip";
+
 	private static Log _log = LogFactoryUtil.getLog(GZipFilter.class);
 
 	private boolean _filterEnabled;
+	private GZipCache _gZipCache;
+	private ServletContext _servletContext;
 
 }
\ No newline at end of file
@@ -16,7 +16,7 @@ package com.liferay.portal.servlet.filters.strip;
 
 import com.liferay.portal.kernel.cache.key.CacheKeyGenerator;
 import com.liferay.portal.kernel.cache.key.CacheKeyGeneratorUtil;
-import com.liferay.portal.kernel.concurrent.ConcurrentLRUCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentClockCache;
 import com.liferay.portal.kernel.io.OutputStreamWriter;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.log.Log;
@@ -63,7 +63,7 @@ public class StripFilter extends BasePortalFilter {
 
 	public StripFilter() {
 		if (PropsValues.MINIFIER_INLINE_CONTENT_CACHE_SIZE > 0) {
-			_minifierCache = new ConcurrentLRUCache<String, String>(
+			_minifierCache = new ConcurrentClockCache<String, String>(
 				PropsValues.MINIFIER_INLINE_CONTENT_CACHE_SIZE);
 		}
 	}
@@ -684,6 +684,6 @@ public class StripFilter extends BasePortalFilter {
 	private static Log _log = LogFactoryUtil.getLog(StripFilter.class);
 
 	private Set<String> _ignorePaths = new HashSet<String>();
-	private ConcurrentLRUCache<String, String> _minifierCache;
+	private ConcurrentClockCache<String, String> _minifierCache;
 
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.staging;
+
+import com.liferay.portal.ModelListenerException;
+import com.liferay.portal.kernel.bean.BeanPropertiesUtil;
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.StagedModelChangeConstants;
+import com.liferay.portal.service.GroupLocalServiceUtil;
+import com.liferay.portal.service.LayoutLocalServiceUtil;
+import com.liferay.portal.service.StagedModelChangeLocalServiceUtil;
+
+import java.io.Serializable;
+
+/**
+ * Records the changes of the entities of staging groups in the change journal
+ * used to publish only what changed since the last publication. Entities of
+ * the scope groups of staged pages are recorded in the staging group of their
+ * site. Entities without a group that belong to a page, such as portlet
+ * preferences, are recorded as an update of that page.
+ *
+ * @see com.liferay.portal.service.impl.StagedModelChangeLocalServiceImpl
+ */
+public class StagedModelChangeListener<T extends BaseModel<T>>
+	extends BaseModelListener<T> {
+
+	@Override
+	public void onAfterCreate(T model) throws ModelListenerException {
+		updateStagedModelChange(model, StagedModelChangeConstants.TYPE_ADD);
+	}
+
+	@Override
+	public void onAfterRemove(T model) throws ModelListenerException {
+		updateStagedModelChange(
+			model, StagedModelChangeConstants.TYPE_DELETE);
+	}
+
+	@Override
+	public void onAfterUpdate(T model) throws ModelListenerException {
+		updateStagedModelChange(
+			model, StagedModelChangeConstants.TYPE_UPDATE);
+	}
+
+	protected Group getStagingGroup(long groupId) throws Exception {
+		Group group = GroupLocalServiceUtil.fetchGroup(groupId);
+
+		if ((group != null) && group.isLayout()) {
+			group = GroupLocalServiceUtil.fetchGroup(group.getParentGroupId());
+		}
+
+		if ((group != null) && group.isStagingGroup()) {
+			return group;
+		}
+
+		return null;
+	}
+
+	protected void updateStagedModelChange(T model, int type)
+		throws ModelListenerException {
+
+		Serializable primaryKeyObj = model.getPrimaryKeyObj();
+
+		if (!(primaryKeyObj instanceof Long)) {
+			return;
+		}
+
+		try {
+			long groupId = BeanPropertiesUtil.getLongSilent(model, "groupId");
+
+			if (groupId > 0) {
+				updateStagedModelChange(
+					groupId, model.getModelClassName(), (Long)primaryKeyObj,
+					BeanPropertiesUtil.getStringSilent(model, "uuid"), type);
+
+				return;
+			}
+
+			long plid = BeanPropertiesUtil.getLongSilent(model, "plid");
+
+			if (plid <= 0) {
+				return;
+			}
+
+			Layout layout = LayoutLocalServiceUtil.fetchLayout(plid);
+
+			if (layout != null) {
+				updateStagedModelChange(
+					layout.getGroupId(), Layout.class.getName(), plid,
+					layout.getUuid(), StagedModelChangeConstants.TYPE_UPDATE);
+			}
+		}
+		catch (Exception e) {
+			throw new ModelListenerException(e);
+		}
+	}
+
+	protected void updateStagedModelChange(
+			long groupId, String className, long classPK, String classUuid,
+			int type)
+		throws Exception {
+
+		Group group = getStagingGroup(groupId);
+
+		if (group == null) {
+			return;
+		}
+
+		StagedModelChangeLocalServiceUtil.updateStagedModelChange(
+			group.getCompanyId(), group.getGroupId(), className, classPK,
+			classUuid, type);
+	}
+
+}
@@ -25,8 +25,11 @@ import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.lar.PortletDataContext;
+import com.liferay.portal.kernel.lar.PortletDataHandler;
 import com.liferay.portal.kernel.lar.PortletDataHandlerKeys;
 import com.liferay.portal.kernel.lar.UserIdStrategy;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.messaging.DestinationNames;
 import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.messaging.MessageStatus;
@@ -34,6 +37,7 @@ import com.liferay.portal.kernel.scheduler.SchedulerEngineUtil;
 import com.liferay.portal.kernel.staging.LayoutStagingUtil;
 import com.liferay.portal.kernel.staging.Staging;
 import com.liferay.portal.kernel.staging.StagingConstants;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CalendarFactoryUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.Http;
@@ -60,7 +64,10 @@ import com.liferay.portal.model.LayoutBranch;
 import com.liferay.portal.model.LayoutRevision;
 import com.liferay.portal.model.LayoutSet;
 import com.liferay.portal.model.LayoutSetBranchConstants;
+import com.liferay.portal.model.LayoutTypePortlet;
 import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.model.StagedModelChangeConstants;
 import com.liferay.portal.model.User;
 import com.liferay.portal.model.WorkflowInstanceLink;
 import com.liferay.portal.security.auth.HttpPrincipal;
@@ -75,8 +82,10 @@ import com.liferay.portal.service.LayoutRevisionLocalServiceUtil;
 import com.liferay.portal.service.LayoutServiceUtil;
 import com.liferay.portal.service.LayoutSetBranchLocalServiceUtil;
 import com.liferay.portal.service.LayoutSetLocalServiceUtil;
+import com.liferay.portal.service.PortletLocalServiceUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portal.service.ServiceContextThreadLocal;
+import com.liferay.portal.service.StagedModelChangeLocalServiceUtil;
 import com.liferay.portal.service.UserLocalServiceUtil;
 import com.liferay.portal.service.WorkflowInstanceLinkLocalServiceUtil;
 import com.liferay.portal.service.http.GroupServiceHttp;
@@ -93,7 +102,9 @@ import java.io.File;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -917,21 +928,30 @@ public class StagingImpl implements Staging {
 			Map<String, String[]> parameterMap, Date startDate, Date endDate)
 		throws Exception {
 
-		parameterMap.put(
-			PortletDataHandlerKeys.PERFORM_DIRECT_BINARY_IMPORT,
-			new String[] {Boolean.TRUE.toString()});
+		Group sourceGroup = GroupLocalServiceUtil.getGroup(sourceGroupId);
 
-		File file = LayoutLocalServiceUtil.exportLayoutsAsFile(
-			sourceGroupId, privateLayout, layoutIds, parameterMap, startDate,
-			endDate);
+		if (!sourceGroup.isStagingGroup()) {
+			doPublishLayouts(
+				userId, sourceGroupId, targetGroupId, privateLayout, layoutIds,
+				parameterMap, startDate, endDate);
 
-		try {
-			LayoutLocalServiceUtil.importLayouts(
-				userId, targetGroupId, privateLayout, parameterMap, file);
+			return;
 		}
-		finally {
-			file.delete();
+
+		if (hasChangeJournal(sourceGroup, parameterMap, startDate)) {
+			publishLayoutChanges(
+				userId, sourceGroup, targetGroupId, privateLayout, layoutIds,
+				parameterMap, startDate, endDate);
+		}
+		else {
+			startChangeJournal(sourceGroup, endDate);
+
+			doPublishLayouts(
+				userId, sourceGroupId, targetGroupId, privateLayout, layoutIds,
+				parameterMap, startDate, endDate);
 		}
+
+		deleteStagedModelChanges(sourceGroupId);
 	}
 
 	public void publishLayouts(
@@ -1397,6 +1417,62 @@ public class StagingImpl implements Staging {
 			getRecentLayoutRevisionIdKey(layoutSetBranchId, plid), null);
 	}
 
+	protected void deleteStagedModelChanges(long groupId) throws Exception {
+
+		// Changes older than the last publication of every page set are no
+		// longer needed
+
+		long lastPublishDate = Long.MAX_VALUE;
+
+		for (boolean privateLayout : new boolean[] {false, true}) {
+			LayoutSet layoutSet = LayoutSetLocalServiceUtil.getLayoutSet(
+				groupId, privateLayout);
+
+			if (layoutSet.getPageCount() == 0) {
+				continue;
+			}
+
+			UnicodeProperties settingsProperties =
+				layoutSet.getSettingsProperties();
+
+			long layoutSetLastPublishDate = GetterUtil.getLong(
+				settingsProperties.getProperty("last-publish-date"));
+
+			lastPublishDate = Math.min(
+				lastPublishDate, layoutSetLastPublishDate);
+		}
+
+		if ((lastPublishDate <= 0) || (lastPublishDate == Long.MAX_VALUE)) {
+			return;
+		}
+
+		StagedModelChangeLocalServiceUtil.deleteStagedModelChanges(
+			groupId, new Date(lastPublishDate));
+	}
+
+	protected void doPublishLayouts(
+			long userId, long sourceGroupId, long targetGroupId,
+			boolean privateLayout, long[] layoutIds,
+			Map<String, String[]> parameterMap, Date startDate, Date endDate)
+		throws Exception {
+
+		parameterMap.put(
+			PortletDataHandlerKeys.PERFORM_DIRECT_BINARY_IMPORT,
+			new String[] {Boolean.TRUE.toString()});
+
+		File file = LayoutLocalServiceUtil.exportLayoutsAsFile(
+			sourceGroupId, privateLayout, layoutIds, parameterMap, startDate,
+			endDate);
+
+		try {
+			LayoutLocalServiceUtil.importLayouts(
+				userId, targetGroupId, privateLayout, parameterMap, file);
+		}
+		finally {
+			file.delete();
+		}
+	}
+
 	protected boolean getBoolean(
 		PortletRequest portletRequest, Group group, String param) {
 
@@ -1405,6 +1481,173 @@ public class StagingImpl implements Staging {
 			GetterUtil.getBoolean(group.getTypeSettingsProperty(param)));
 	}
 
+	protected List<Layout> getChangedLayouts(
+			Group sourceGroup, long targetGroupId, boolean privateLayout,
+			long[] layoutIds, List<StagedModelChange> stagedModelChanges,
+			Map<String, String[]> parameterMap)
+		throws Exception {
+
+		Set<String> classNames = new HashSet<String>();
+		Set<Long> plids = new HashSet<Long>();
+
+		for (StagedModelChange stagedModelChange : stagedModelChanges) {
+			String className = stagedModelChange.getClassName();
+
+			if (className.equals(LayoutSet.class.getName())) {
+
+				// Page set changes are exported with every page
+
+				return null;
+			}
+
+			if (!className.equals(Layout.class.getName())) {
+				classNames.add(className);
+			}
+			else if (stagedModelChange.getType() !=
+						StagedModelChangeConstants.TYPE_DELETE) {
+
+				plids.add(stagedModelChange.getClassPK());
+			}
+		}
+
+		Set<String> alwaysExportableClassNames = new HashSet<String>();
+		Map<String, Boolean> portletDataMap = new HashMap<String, Boolean>();
+
+		List<Portlet> alwaysExportablePortlets =
+			LayoutExporter.getAlwaysExportablePortlets(
+				sourceGroup.getCompanyId());
+
+		for (Portlet portlet : alwaysExportablePortlets) {
+			String[] portletDataHandlerClassNames =
+				getPortletDataHandlerClassNames(portlet);
+
+			if (portletDataHandlerClassNames.length == 0) {
+				return null;
+			}
+
+			boolean portletChanged = hasChanges(
+				portletDataHandlerClassNames, classNames);
+
+			if (portletChanged) {
+				Collections.addAll(
+					alwaysExportableClassNames, portletDataHandlerClassNames);
+			}
+
+			portletDataMap.put(portlet.getRootPortletId(), portletChanged);
+		}
+
+		List<Layout> sourceLayouts = LayoutLocalServiceUtil.getLayouts(
+			sourceGroup.getGroupId(), privateLayout);
+
+		Layout firstLayout = null;
+		List<Layout> layouts = new ArrayList<Layout>();
+		Set<String> publishedClassNames = new HashSet<String>();
+
+		for (Layout layout : sourceLayouts) {
+			if ((layoutIds != null) && (layoutIds.length > 0) &&
+				!ArrayUtil.contains(layoutIds, layout.getLayoutId())) {
+
+				continue;
+			}
+
+			if (firstLayout == null) {
+				firstLayout = layout;
+			}
+
+			boolean changed = plids.contains(layout.getPlid());
+
+			LayoutTypePortlet layoutTypePortlet =
+				(LayoutTypePortlet)layout.getLayoutType();
+
+			for (String portletId : layoutTypePortlet.getPortletIds()) {
+				Portlet portlet = PortletLocalServiceUtil.getPortletById(
+					sourceGroup.getCompanyId(), portletId);
+
+				if (portlet == null) {
+					continue;
+				}
+
+				String[] portletDataHandlerClassNames =
+					getPortletDataHandlerClassNames(portlet);
+
+				if (portletDataHandlerClassNames == null) {
+					continue;
+				}
+
+				// The changes of a portlet that does not declare the entities
+				// it exports cannot be told apart
+
+				if (portletDataHandlerClassNames.length == 0) {
+					return null;
+				}
+
+				boolean portletChanged = hasChanges(
+					portletDataHandlerClassNames, classNames);
+
+				if (portletChanged) {
+					changed = true;
+
+					Collections.addAll(
+						publishedClassNames, portletDataHandlerClassNames);
+				}
+
+				Boolean portletData = portletDataMap.get(
+					portlet.getRootPortletId());
+
+				if ((portletData == null) || !portletData.booleanValue()) {
+					portletDataMap.put(
+						portlet.getRootPortletId(), portletChanged);
+				}
+			}
+
+			if (changed && !layouts.contains(layout)) {
+				layouts.add(layout);
+
+				List<Layout> parentLayouts = getMissingParentLayouts(
+					layout, targetGroupId);
+
+				for (Layout parentLayout : parentLayouts) {
+					if (!layouts.contains(parentLayout)) {
+						layouts.add(parentLayout);
+					}
+				}
+			}
+		}
+
+		if (layouts.isEmpty() && (firstLayout != null) &&
+			portletDataMap.containsValue(Boolean.TRUE)) {
+
+			// Portlets that are always exported are only exported together
+			// with at least one page
+
+			layouts.add(firstLayout);
+		}
+
+		if (!layouts.isEmpty()) {
+			publishedClassNames.addAll(alwaysExportableClassNames);
+		}
+
+		// A change that no published portlet exports would be skipped, and the
+		// last publish date would be moved past it
+
+		if (!publishedClassNames.containsAll(classNames)) {
+			return null;
+		}
+
+		for (Map.Entry<String, Boolean> entry : portletDataMap.entrySet()) {
+			if (entry.getValue()) {
+				continue;
+			}
+
+			parameterMap.put(
+				PortletDataHandlerKeys.PORTLET_DATA + StringPool.UNDERLINE +
+					entry.getKey(),
+				new String[] {Boolean.FALSE.toString()});
+		}
+
+		return layouts;
+	}
+
 	protected Calendar getDate(
 			PortletRequest portletRequest, String paramPrefix,
 			boolean timeZoneSensitive)
@@ -1494,6 +1737,32 @@ public class StagingImpl implements Staging {
 		return portalPreferences;
 	}
 
+	protected String[] getPortletDataHandlerClassNames(Portlet portlet) {
+		PortletDataHandler portletDataHandler =
+			portlet.getPortletDataHandlerInstance();
+
+		if (portletDataHandler == null) {
+			return null;
+		}
+
+		try {
+			return portletDataHandler.getClassNames();
+		}
+		catch (AbstractMethodError ame) {
+
+			// Data handlers of plugins compiled against an earlier version of
+			// the portal do not implement this method
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Data handler of " + portlet.getPortletId() +
+						" does not declare its class names");
+			}
+
+			return new String[0];
+		}
+	}
+
 	protected long getRecentLayoutBranchId(
 		PortalPreferences portalPreferences, long layoutSetBranchId,
 		long plid) {
@@ -1609,6 +1878,150 @@ public class StagingImpl implements Staging {
 			GetterUtil.getString(group.getTypeSettingsProperty(param)));
 	}
 
+	protected boolean hasChangeJournal(
+		Group sourceGroup, Map<String, String[]> parameterMap, Date startDate) {
+
+		String range = MapUtil.getString(parameterMap, "range");
+
+		if (!range.equals("fromLastPublishDate") || (startDate == null) ||
+			MapUtil.getBoolean(
+				parameterMap, PortletDataHandlerKeys.CATEGORIES) ||
+			MapUtil.getBoolean(
+				parameterMap, PortletDataHandlerKeys.DELETE_PORTLET_DATA) ||
+			MapUtil.getBoolean(
+				parameterMap, PortletDataHandlerKeys.PERMISSIONS) ||
+			MapUtil.getBoolean(
+				parameterMap, PortletDataHandlerKeys.PORTLET_DATA_ALL)) {
+
+			return false;
+		}
+
+		long changeJournalDate = GetterUtil.getLong(
+			sourceGroup.getTypeSettingsProperty(_CHANGE_JOURNAL_DATE));
+
+		if ((changeJournalDate <= 0) ||
+			(changeJournalDate > startDate.getTime())) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	protected boolean hasChanges(
+		String[] portletDataHandlerClassNames, Set<String> classNames) {
+
+		for (String className : portletDataHandlerClassNames) {
+			if (classNames.contains(className)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	protected void publishLayoutChanges(
+			long userId, Group sourceGroup, long targetGroupId,
+			boolean privateLayout, long[] layoutIds,
+			Map<String, String[]> parameterMap, Date startDate, Date endDate)
+		throws Exception {
+
+		List<StagedModelChange> stagedModelChanges =
+			StagedModelChangeLocalServiceUtil.getStagedModelChanges(
+				sourceGroup.getGroupId(), startDate);
+
+		Map<String, String[]> changesParameterMap =
+			new LinkedHashMap<String, String[]>(parameterMap);
+
+		changesParameterMap.put(
+			PortletDataHandlerKeys.DELETE_MISSING_LAYOUTS,
+			new String[] {Boolean.FALSE.toString()});
+
+		List<Layout> layouts = getChangedLayouts(
+			sourceGroup, targetGroupId, privateLayout, layoutIds,
+			stagedModelChanges, changesParameterMap);
+
+		if (layouts == null) {
+			if (_log.isInfoEnabled()) {
+				_log.info(
+					"Publishing all pages because some of the " +
+						stagedModelChanges.size() + " changes since " +
+							startDate + " cannot be published on their own");
+			}
+
+			doPublishLayouts(
+				userId, sourceGroup.getGroupId(), targetGroupId, privateLayout,
+				layoutIds, parameterMap, startDate, endDate);
+
+			return;
+		}
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Publishing " + layouts.size() + " pages with " +
+					stagedModelChanges.size() + " changes since " + startDate);
+		}
+
+		if (!layouts.isEmpty()) {
+			doPublishLayouts(
+				userId, sourceGroup.getGroupId(), targetGroupId, privateLayout,
+				getLayoutIds(layouts), changesParameterMap, startDate,
+				endDate);
+		}
+		else if (MapUtil.getBoolean(
+					parameterMap,
+					PortletDataHandlerKeys.UPDATE_LAST_PUBLISH_DATE)) {
+
+			// None of the changes is on a page of this page set
+
+			LayoutSet layoutSet = LayoutSetLocalServiceUtil.getLayoutSet(
+				sourceGroup.getGroupId(), privateLayout);
+
+			long lastPublishDate = System.currentTimeMillis();
+
+			if (endDate != null) {
+				lastPublishDate = endDate.getTime();
+			}
+
+			LayoutExporter.updateLastPublishDate(layoutSet, lastPublishDate);
+		}
+
+		if (((layoutIds != null) && (layoutIds.length > 0)) ||
+			!MapUtil.getBoolean(
+				parameterMap, PortletDataHandlerKeys.DELETE_MISSING_LAYOUTS)) {
+
+			return;
+		}
+
+		ServiceContext serviceContext =
+			ServiceContextThreadLocal.getServiceContext();
+
+		if (serviceContext == null) {
+			serviceContext = new ServiceContext();
+		}
+
+		for (StagedModelChange stagedModelChange : stagedModelChanges) {
+			String className = stagedModelChange.getClassName();
+
+			if (!className.equals(Layout.class.getName()) ||
+				(stagedModelChange.getType() !=
+					StagedModelChangeConstants.TYPE_DELETE)) {
+
+				continue;
+			}
+
+			Layout layout = LayoutLocalServiceUtil.fetchLayoutByUuidAndGroupId(
+				stagedModelChange.getClassUuid(), targetGroupId);
+
+			if ((layout != null) &&
+				(layout.isPrivateLayout() == privateLayout)) {
+
+				LayoutLocalServiceUtil.deleteLayout(
+					layout, true, serviceContext);
+			}
+		}
+	}
+
 	protected void publishLayouts(
 			PortletRequest portletRequest, long sourceGroupId,
 			long targetGroupId, Map<String, String[]> parameterMap,
@@ -2028,6 +2441,35 @@ public class StagingImpl implements Staging {
 			String.valueOf(layoutBranchId));
 	}
 
+	protected void startChangeJournal(Group sourceGroup, Date endDate)
+		throws Exception {
+
+		UnicodeProperties typeSettingsProperties =
+			sourceGroup.getTypeSettingsProperties();
+
+		if (Validator.isNotNull(
+				typeSettingsProperties.getProperty(_CHANGE_JOURNAL_DATE))) {
+
+			return;
+		}
+
+		// The changes are recorded from now on, but the next publication of
+		// the changes since the last publish date starts at the end date of
+		// this one
+
+		long changeJournalDate = System.currentTimeMillis();
+
+		if ((endDate != null) && (endDate.getTime() < changeJournalDate)) {
+			changeJournalDate = endDate.getTime();
+		}
+
+		typeSettingsProperties.setProperty(
+			_CHANGE_JOURNAL_DATE, String.valueOf(changeJournalDate));
+
+		GroupLocalServiceUtil.updateGroup(
+			sourceGroup.getGroupId(), typeSettingsProperties.toString());
+	}
+
 	protected String stripProtocolFromRemoteAddress(String remoteAddress) {
 		if (remoteAddress.startsWith(Http.HTTP_WITH_SLASH)) {
 			remoteAddress = remoteAddress.substring(
@@ -2122,4 +2564,8 @@ public class StagingImpl implements Staging {
 
 	}
 
-}
\ No newline at end of file
+	private static final String _CHANGE_JOURNAL_DATE = "changeJournalDate";
+
+	private static Log _log = LogFactoryUtil.getLog(StagingImpl.class);
+
+}
@@ -15,6 +15,7 @@
 package com.liferay.portal.tools.servicebuilder;
 
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.TextFormatter;
 
 import java.util.List;
@@ -113,6 +114,24 @@ public class EntityFinder {
 		return _dbIndex;
 	}
 
+	public boolean isExactMatch() {
+		for (EntityColumn column : _columns) {
+			if (column.hasArrayableOperator() ||
+				!column.getComparator().equals(StringPool.EQUAL)) {
+
+				return false;
+			}
+
+			String type = column.getType();
+
+			if (type.equals("String") && !column.isCaseSensitive()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	public boolean isUnique() {
 		return _unique;
 	}
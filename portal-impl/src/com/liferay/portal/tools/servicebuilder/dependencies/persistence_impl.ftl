@@ -68,8 +68,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 <#list referenceList as tempEntity>
@@ -122,7 +124,13 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 					</#list>
 
 					"java.lang.Integer", "java.lang.Integer", "com.liferay.portal.kernel.util.OrderByComparator"
-				});
+				}
+
+				<#if finder.isExactMatch()>
+					, -1, ${finderColsList?size}
+				</#if>
+
+				);
 
 			public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case} = new FinderPath(
 				${entity.name}ModelImpl.ENTITY_CACHE_ENABLED,
@@ -152,6 +160,14 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 					</#list>
 				</#if>
 
+				<#if finder.isExactMatch()>
+					<#if !columnBitmaskEnabled>
+						, -1
+					</#if>
+
+					, ${finderColsList?size}
+				</#if>
+
 				);
 		<#else>
 			public static final FinderPath FINDER_PATH_FETCH_BY_${finder.name?upper_case} = new FinderPath(
@@ -199,7 +215,13 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 						,
 					</#if>
 				</#list>
-			});
+			}
+
+			<#if finder.isCollection() && finder.isExactMatch()>
+				, -1, ${finderColsList?size}
+			</#if>
+
+			);
 
 		<#if finder.hasArrayableOperator()>
 			public static final FinderPath FINDER_PATH_WITH_PAGINATION_COUNT_BY_${finder.name?upper_case} = new FinderPath(
@@ -296,6 +318,14 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		}
 	}
 
+	<#assign exactCollectionFinderList = []>
+
+	<#list entity.getCollectionFinderList() as finder>
+		<#if finder.isExactMatch()>
+			<#assign exactCollectionFinderList = exactCollectionFinderList + [finder]>
+		</#if>
+	</#list>
+
 	/**
 	 * Clears the cache for all ${entity.humanNames}.
 	 *
@@ -327,8 +357,12 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 	public void clearCache(${entity.name} ${entity.varName}) {
 		EntityCacheUtil.removeResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, ${entity.varName}.getPrimaryKey());
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		<#if exactCollectionFinderList?size &gt; 0>
+			clearCollectionFindersCache(${entity.varName});
+		</#if>
 
 		<#if entity.getUniqueFinderList()?size &gt; 0>
 			clearUniqueFindersCache(${entity.varName});
@@ -337,18 +371,56 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 
 	@Override
 	public void clearCache(List<${entity.name}> ${entity.varNames}) {
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
 
 		for (${entity.name} ${entity.varName} : ${entity.varNames}) {
 			EntityCacheUtil.removeResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, ${entity.varName}.getPrimaryKey());
 
+			<#if exactCollectionFinderList?size &gt; 0>
+				clearCollectionFindersCache(${entity.varName});
+			</#if>
+
 			<#if entity.getUniqueFinderList()?size &gt; 0>
 				clearUniqueFindersCache(${entity.varName});
 			</#if>
 		}
 	}
 
+	<#if exactCollectionFinderList?size &gt; 0>
+		protected void clearCollectionFindersCache(${entity.name} ${entity.varName}) {
+			<#list exactCollectionFinderList as finder>
+				<#assign finderColsList = finder.getColumns()>
+
+				<#if finder_index == 0>
+					Object[]
+				</#if>
+
+				args = new Object[] {
+					<#list finderColsList as finderCol>
+						<#if finderCol.isPrimitiveType()>
+							${serviceBuilder.getPrimitiveObj("${finderCol.type}")}.valueOf(
+						</#if>
+
+						${entity.varName}.get${finderCol.methodName}()
+
+						<#if finderCol.isPrimitiveType()>
+							)
+						</#if>
+
+						<#if finderCol_has_next>
+							,
+						</#if>
+					</#list>
+				};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_${finder.name?upper_case}, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+			</#list>
+		}
+	</#if>
+
 	<#if entity.getUniqueFinderList()?size &gt; 0>
 		protected void clearUniqueFindersCache(${entity.name} ${entity.varName}) {
 			<#list entity.getUniqueFinderList() as finder>
@@ -607,48 +679,79 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 			closeSession(session);
 		}
 
-		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
-
 		<#assign collectionFinderList = entity.getCollectionFinderList()>
 
-		if (isNew
-			<#if columnBitmaskEnabled>
-				|| !${entity.name}ModelImpl.COLUMN_BITMASK_ENABLED
-			</#if>
-			) {
+		<#if columnBitmaskEnabled>
+			if (!${entity.name}ModelImpl.COLUMN_BITMASK_ENABLED) {
+				FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+				FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			}
+			else if (isNew) {
+		<#else>
+			if (isNew) {
+		</#if>
 
-			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			<#if exactCollectionFinderList?size &gt; 0>
+				clearCollectionFindersCache(${entity.varName});
+			</#if>
 		}
-		<#if collectionFinderList?size != 0>
-			else {
-				<#list collectionFinderList as finder>
-					<#assign finderColsList = finder.getColumns()>
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
 
-					if (
-						<#if columnBitmaskEnabled>
-							(${entity.varName}ModelImpl.getColumnBitmask() & FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}.getColumnBitmask()) != 0
-						<#else>
+			<#list collectionFinderList as finder>
+				<#assign finderColsList = finder.getColumns()>
+
+				if (
+					<#if columnBitmaskEnabled>
+						(${entity.varName}ModelImpl.getColumnBitmask() & FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}.getColumnBitmask()) != 0
+					<#else>
+						<#list finderColsList as finderCol>
+							<#if finderCol.isPrimitiveType()>
+								(${entity.varName}.get${finderCol.methodName}() != ${entity.varName}ModelImpl.getOriginal${finderCol.methodName}())
+							<#else>
+								!Validator.equals(${entity.varName}.get${finderCol.methodName}(), ${entity.varName}ModelImpl.getOriginal${finderCol.methodName}())
+							</#if>
+
+							<#if finderCol_has_next>
+								||
+							</#if>
+						</#list>
+					</#if>
+					) {
+
+					<#if finder.isExactMatch()>
+						Object[] args = new Object[] {
 							<#list finderColsList as finderCol>
 								<#if finderCol.isPrimitiveType()>
-									(${entity.varName}.get${finderCol.methodName}() != ${entity.varName}ModelImpl.getOriginal${finderCol.methodName}())
-								<#else>
-									!Validator.equals(${entity.varName}.get${finderCol.methodName}(), ${entity.varName}ModelImpl.getOriginal${finderCol.methodName}())
+									${serviceBuilder.getPrimitiveObj("${finderCol.type}")}.valueOf(
+								</#if>
+
+								${entity.varName}ModelImpl.getOriginal${finderCol.methodName}()
+
+								<#if finderCol.isPrimitiveType()>
+									)
 								</#if>
 
 								<#if finderCol_has_next>
-									||
+									,
 								</#if>
 							</#list>
-						</#if>
-						) {
+						};
 
-						Object[] args = new Object[] {
+						FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_${finder.name?upper_case}, args);
+						FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+						FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+
+						args = new Object[] {
 							<#list finderColsList as finderCol>
 								<#if finderCol.isPrimitiveType()>
 									${serviceBuilder.getPrimitiveObj("${finderCol.type}")}.valueOf(
 								</#if>
 
-								${entity.varName}ModelImpl.getOriginal${finderCol.methodName}()
+								${entity.varName}ModelImpl.get${finderCol.methodName}()
 
 								<#if finderCol.isPrimitiveType()>
 									)
@@ -660,10 +763,17 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 							</#list>
 						};
 
-						FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_${finder.name?upper_case}, args);
-						FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+						FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_${finder.name?upper_case}, args);
+						FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
+					<#else>
+						FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+					</#if>
+				}
 
-						args = new Object[] {
+				<#if finder.isExactMatch()>
+					FinderCacheUtil.removeResults(
+						FINDER_PATH_WITH_PAGINATION_FIND_BY_${finder.name?upper_case},
+						new Object[] {
 							<#list finderColsList as finderCol>
 								<#if finderCol.isPrimitiveType()>
 									${serviceBuilder.getPrimitiveObj("${finderCol.type}")}.valueOf(
@@ -679,14 +789,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 									,
 								</#if>
 							</#list>
-						};
-
-						FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_${finder.name?upper_case}, args);
-						FinderCacheUtil.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_${finder.name?upper_case}, args);
-					}
-				</#list>
-			}
-		</#if>
+						});
+				</#if>
+			</#list>
+		}
 
 		EntityCacheUtil.putResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, ${entity.varName}.getPrimaryKey(), ${entity.varName});
 
@@ -913,6 +1019,115 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		return ${entity.varName};
 	}
 
+	/**
+	 * Returns the ${entity.humanNames} with the primary keys, mapped by primary key. Primary keys that do not match a ${entity.humanName} are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the ${entity.humanNames} that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the ${entity.humanNames}
+	 * @return the ${entity.humanNames} that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, ${entity.name}> fetchByPrimaryKeys(Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, ${entity.name}> map = new HashMap<Serializable, ${entity.name}>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		<#if entity.hasCompoundPK()>
+			for (Serializable primaryKey : primaryKeys) {
+				${entity.name} ${entity.varName} = fetchByPrimaryKey(primaryKey);
+
+				if (${entity.varName} != null) {
+					map.put(primaryKey, ${entity.varName});
+				}
+			}
+		<#else>
+			Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKeys);
+
+			List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+			for (Serializable primaryKey : primaryKeys) {
+				Object result = cachedResults.get(primaryKey);
+
+				if (result == null) {
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else if (result != StringPool.BLANK) {
+					${entity.name} ${entity.varName} = (${entity.name})result;
+
+					if (${entity.varName} != _null${entity.name}) {
+						map.put(primaryKey, ${entity.varName});
+					}
+				}
+			}
+
+			if (uncachedPrimaryKeys.isEmpty()) {
+				return map;
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				for (int start = 0; start < uncachedPrimaryKeys.size(); start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+					int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE, uncachedPrimaryKeys.size());
+
+					List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start, end);
+
+					StringBundler query = new StringBundler(batchPrimaryKeys.size() * 2 + 1);
+
+					query.append(_SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN);
+
+					for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+						query.append(StringPool.QUESTION);
+						query.append(StringPool.COMMA);
+					}
+
+					query.setIndex(query.index() - 1);
+
+					query.append(StringPool.CLOSE_PARENTHESIS);
+
+					String sql = query.toString();
+
+					Query q = session.createQuery(sql);
+
+					QueryPos qPos = QueryPos.getInstance(q);
+
+					for (Serializable primaryKey : batchPrimaryKeys) {
+						qPos.add(primaryKey);
+					}
+
+					List<${entity.name}> list = q.list();
+
+					for (${entity.name} ${entity.varName} : list) {
+						map.put(${entity.varName}.getPrimaryKeyObj(), ${entity.varName});
+
+						cacheResult(${entity.varName});
+					}
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				if (!map.containsKey(primaryKey)) {
+					EntityCacheUtil.putResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey, _null${entity.name});
+				}
+			}
+		</#if>
+
+		return map;
+	}
+
 	<#list entity.getFinderList() as finder>
 		<#assign finderColsList = finder.getColumns()>
 
@@ -4134,6 +4349,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ";
 	</#if>
 
+	<#if !entity.hasCompoundPK()>
+		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ${entity.alias}.${entity.PKVarName} IN (";
+	</#if>
+
 	private static final String _SQL_COUNT_${entity.alias?upper_case} = "SELECT COUNT(${entity.alias}) FROM ${entity.name} ${entity.alias}";
 
 	<#if entity.getFinderList()?size != 0>
@@ -4264,6 +4483,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ${entity.name} exists with the primary key ";
 
+	<#if !entity.hasCompoundPK()>
+		private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+	</#if>
+
 	<#if entity.getFinderList()?size != 0>
 		private static final String _NO_SUCH_ENTITY_WITH_KEY = "No ${entity.name} exists with the key {";
 	</#if>
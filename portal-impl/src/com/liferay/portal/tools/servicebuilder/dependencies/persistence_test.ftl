@@ -38,10 +38,15 @@ import com.liferay.portal.test.ExecutionTestListeners;
 import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
 import java.sql.Blob;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -309,6 +314,36 @@ public class ${entity.name}PersistenceTest {
 		Assert.assertNull(missing${entity.name});
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		${entity.name} new${entity.name} = add${entity.name}();
+		${entity.name} removed${entity.name} = add${entity.name}();
+
+		_persistence.remove(removed${entity.name});
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(new${entity.name}.getPrimaryKey());
+		primaryKeys.add(removed${entity.name}.getPrimaryKey());
+
+		Map<Serializable, ${entity.name}> ${entity.varNames} = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ${entity.varNames}.size());
+		Assert.assertEquals(new${entity.name}, ${entity.varNames}.get(new${entity.name}.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		${entity.varNames} = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ${entity.varNames}.size());
+		Assert.assertEquals(new${entity.name}, ${entity.varNames}.get(new${entity.name}.getPrimaryKey()));
+
+		${entity.varNames} = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(${entity.varNames}.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting() throws Exception {
 		${entity.name} new${entity.name} = add${entity.name}();
@@ -198,8 +198,16 @@ public class PropsValues {
 
 	public static final int BUFFERED_INCREMENT_SERIAL_QUEUE_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.BUFFERED_INCREMENT_SERIAL_QUEUE_SIZE));
 
+	public static final long CACHE_CONTENT_COALESCE_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.CACHE_CONTENT_COALESCE_TIMEOUT));
+
+	public static final long CACHE_CONTENT_STALE_MAX_AGE = GetterUtil.getLong(PropsUtil.get(PropsKeys.CACHE_CONTENT_STALE_MAX_AGE));
+
+	public static final int CACHE_CONTENT_STALE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.CACHE_CONTENT_STALE_MAX_SIZE));
+
 	public static final int CACHE_CONTENT_THRESHOLD_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.CACHE_CONTENT_THRESHOLD_SIZE));
 
+	public static final int CACHE_CONTENT_TIME_TO_LIVE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.CACHE_CONTENT_TIME_TO_LIVE));
+
 	public static final String CALENDAR_EMAIL_FROM_ADDRESS = PropsUtil.get(PropsKeys.CALENDAR_EMAIL_FROM_ADDRESS);
 
 	public static final String CALENDAR_EMAIL_FROM_NAME = PropsUtil.get(PropsKeys.CALENDAR_EMAIL_FROM_NAME);
@@ -338,6 +346,12 @@ public class PropsValues {
 
 	public static String[] CONVERT_PROCESSES = PropsUtil.getArray(PropsKeys.CONVERT_PROCESSES);
 
+	public static final boolean COUNTER_ADAPTIVE_INCREMENT_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_ENABLED));
+
+	public static final int COUNTER_ADAPTIVE_INCREMENT_MAX = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_MAX));
+
+	public static final long COUNTER_ADAPTIVE_INCREMENT_REFILL_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_REFILL_INTERVAL));
+
 	public static final int COUNTER_INCREMENT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_INCREMENT));
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNOTNULL);
@@ -526,6 +540,10 @@ public class PropsValues {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_CMIS_SYSTEM_ROOT_DIR);
 
+	public static final boolean DL_STORE_CONTENT_ADDRESSED_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.DL_STORE_CONTENT_ADDRESSED_ENABLED));
+
+	public static final int DL_STORE_DB_CHUNK_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_STORE_DB_CHUNK_SIZE));
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_FILE_SYSTEM_ROOT_DIR);
 
 	public static String DL_STORE_IMPL = PropsUtil.get(PropsKeys.DL_STORE_IMPL);
@@ -558,6 +576,10 @@ public class PropsValues {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = PropsUtil.get(PropsKeys.EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY);
 
+	public static final long EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_FLUSH_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_FLUSH_INTERVAL));
+
+	public static final int EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_MAX_SIZE));
+
 	public static final boolean EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED));
 
 	public static final boolean EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED));
@@ -614,6 +636,10 @@ public class PropsValues {
 
 	public static final int GZIP_COMPRESSION_LEVEL = GetterUtil.getInteger(PropsUtil.get(PropsKeys.GZIP_COMPRESSION_LEVEL));
 
+	public static final int GZIP_STATIC_CACHE_MAX_ENTRIES = GetterUtil.getInteger(PropsUtil.get(PropsKeys.GZIP_STATIC_CACHE_MAX_ENTRIES));
+
+	public static final long GZIP_STATIC_CACHE_MAX_SIZE = GetterUtil.getLong(PropsUtil.get(PropsKeys.GZIP_STATIC_CACHE_MAX_SIZE));
+
 	public static final boolean HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE));
 
 	public static final String HIBERNATE_DIALECT = PropsUtil.get(PropsKeys.HIBERNATE_DIALECT);
@@ -732,6 +758,8 @@ public class PropsValues {
 
 	public static final String[] JOURNAL_TEMPLATE_VELOCITY_RESTRICTED_VARIABLES = PropsUtil.getArray(PropsKeys.JOURNAL_TEMPLATE_VELOCITY_RESTRICTED_VARIABLES);
 
+	public static final boolean JOURNAL_TRANSFORMER_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.JOURNAL_TRANSFORMER_CACHE_ENABLED));
+
 	public static final String[] JPA_CONFIGS = PropsUtil.getArray(PropsKeys.JPA_CONFIGS);
 
 	public static final String JPA_DATABASE_PLATFORM = PropsUtil.get(PropsKeys.JPA_DATABASE_PLATFORM);
@@ -784,12 +812,20 @@ public class PropsValues {
 
 	public static final boolean LAYOUT_GUEST_SHOW_MIN_ICON = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_GUEST_SHOW_MIN_ICON));
 
+	public static final int LAYOUT_IMPORT_PREFETCH_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_IMPORT_PREFETCH_SIZE));
+
 	public static final int LAYOUT_MANAGE_PAGES_INITIAL_CHILDREN = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_MANAGE_PAGES_INITIAL_CHILDREN));
 
+	public static final boolean LAYOUT_PARALLEL_EXPORT_ENABLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_EXPORT_ENABLE));
+
 	public static final boolean LAYOUT_PARALLEL_RENDER_ENABLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_ENABLE));
 
 	public static final int LAYOUT_PARALLEL_RENDER_TIMEOUT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_TIMEOUT));
 
+	public static final String[] LAYOUT_PORTLET_FRAGMENT_CACHE_PORTLET_IDS = PropsUtil.getArray(PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_PORTLET_IDS);
+
+	public static final boolean LAYOUT_PORTLET_FRAGMENT_CACHE_SIGNED_IN_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_SIGNED_IN_ENABLED));
+
 	public static final int LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD));
 
 	public static final long LAYOUT_PROTOTYPE_MERGE_LOCK_MAX_TIME = GetterUtil.getLong(PropsUtil.get(PropsKeys.LAYOUT_PROTOTYPE_MERGE_LOCK_MAX_TIME)) * Time.SECOND;
@@ -920,6 +956,8 @@ public class PropsValues {
 
 	public static final boolean LUCENE_REPLICATE_WRITE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_REPLICATE_WRITE));
 
+	public static final int LUCENE_SHARDS = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LUCENE_SHARDS));
+
 	public static final String LUCENE_STORE_TYPE = PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE);
 
 	public static final boolean LUCENE_STORE_TYPE_FILE_FORCE_MMAP = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE_FILE_FORCE_MMAP));
@@ -1598,6 +1636,8 @@ public class PropsValues {
 
 	public static final boolean VALUE_OBJECT_ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_CACHE_ENABLED));
 
+	public static final long VALUE_OBJECT_ENTITY_CACHE_LOAD_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_CACHE_LOAD_TIMEOUT));
+
 	public static final int VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE));
 
 	public static final boolean VALUE_OBJECT_FINDER_BLOCKING_CACHE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_BLOCKING_CACHE));
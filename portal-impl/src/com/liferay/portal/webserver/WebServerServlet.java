@@ -42,6 +42,7 @@ import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.MimeTypesUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.ReleaseInfo;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
@@ -75,11 +76,13 @@ import com.liferay.portlet.documentlibrary.NoSuchFolderException;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 import com.liferay.portlet.documentlibrary.model.DLFileEntryMetadata;
 import com.liferay.portlet.documentlibrary.model.DLFileShortcut;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
 import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
 import com.liferay.portlet.documentlibrary.service.DLAppLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLAppServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryMetadataLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryServiceUtil;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
 import com.liferay.portlet.documentlibrary.util.AudioProcessorUtil;
 import com.liferay.portlet.documentlibrary.util.DLUtil;
 import com.liferay.portlet.documentlibrary.util.DocumentConversionUtil;
@@ -335,6 +338,29 @@ public class WebServerServlet extends HttpServlet {
 		}
 	}
 
+	/**
+	 * Returns the file that stores the content of the file version, or
+	 * <code>null</code> if the content is not stored in a file system store.
+	 */
+	protected File getFile(FileVersion fileVersion) throws Exception {
+		if (!(fileVersion instanceof LiferayFileVersion)) {
+			return null;
+		}
+
+		DLFileVersion dlFileVersion = (DLFileVersion)fileVersion.getModel();
+
+		DLFileEntry dlFileEntry = dlFileVersion.getFileEntry();
+
+		try {
+			return DLStoreUtil.getFile(
+				dlFileEntry.getCompanyId(), dlFileEntry.getDataRepositoryId(),
+				dlFileEntry.getName(), dlFileVersion.getVersion());
+		}
+		catch (UnsupportedOperationException uoe) {
+			return null;
+		}
+	}
+
 	protected FileEntry getFileEntry(String[] pathArray) throws Exception {
 		if (pathArray.length == 1) {
 			long dlFileShortcutId = GetterUtil.getLong(pathArray[0]);
@@ -994,9 +1020,28 @@ public class WebServerServlet extends HttpServlet {
 		}
 
 		if ((ranges == null) || ranges.isEmpty()) {
-			ServletResponseUtil.sendFile(
-				request, response, fileName, inputStream, contentLength,
-				contentType);
+			File file = null;
+
+			if (!converted && (inputStream instanceof FileInputStream)) {
+				file = getFile(fileVersion);
+			}
+
+			if (file != null) {
+
+				// Let the container send the file without copying it through
+				// the heap. The stream was still opened so that the view
+				// counters are updated as for any other store.
+
+				StreamUtil.cleanUp(inputStream);
+
+				ServletResponseUtil.sendFile(
+					request, response, fileName, file, contentType);
+			}
+			else {
+				ServletResponseUtil.sendFile(
+					request, response, fileName, inputStream, contentLength,
+					contentType);
+			}
 		}
 		else {
 			if (_log.isDebugEnabled()) {
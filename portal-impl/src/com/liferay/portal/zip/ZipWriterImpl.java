@@ -14,96 +14,82 @@
 
 package com.liferay.portal.zip;
 
-import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
-import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.memory.DeleteFileFinalizeAction;
 import com.liferay.portal.kernel.memory.FinalizeManager;
 import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.SystemProperties;
 import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
 import com.liferay.portal.kernel.zip.ZipWriter;
 
-import de.schlichtherle.io.ArchiveDetector;
-import de.schlichtherle.io.ArchiveException;
-import de.schlichtherle.io.DefaultArchiveDetector;
-import de.schlichtherle.io.File;
-import de.schlichtherle.io.FileInputStream;
-import de.schlichtherle.io.FileOutputStream;
-import de.schlichtherle.io.archive.zip.ZipDriver;
-
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
+ * Writes each entry straight to a {@link ZipOutputStream} as it is added
+ * instead of staging it in a temporary archive first.
+ *
+ * <p>
+ * Entries can be added from several threads at once. An entry whose name was
+ * already added is skipped, because a streamed archive cannot replace an entry
+ * that was already written.
+ * </p>
+ *
  * @author Raymond Augé
  */
 public class ZipWriterImpl implements ZipWriter {
 
-	static {
-		File.setDefaultArchiveDetector(
-			new DefaultArchiveDetector(
-				ArchiveDetector.ALL, "lar|" + ArchiveDetector.ALL.getSuffixes(),
-				new ZipDriver()));
-	}
-
 	public ZipWriterImpl() {
 		_file = new File(
 			SystemProperties.get(SystemProperties.TMP_DIR) + StringPool.SLASH +
 				PortalUUIDUtil.generate() + ".zip");
 
-		_file.mkdir();
-
 		FinalizeManager.register(
 			_file, new DeleteFileFinalizeAction(_file.getAbsolutePath()));
 	}
 
-	public ZipWriterImpl(java.io.File file) {
-		_file = new File(file);
-
-		_file.mkdir();
+	public ZipWriterImpl(File file) {
+		_file = file;
 	}
 
-	public void addEntry(String name, byte[] bytes) throws IOException {
-		UnsyncByteArrayInputStream unsyncByteArrayInputStream =
-			new UnsyncByteArrayInputStream(bytes);
+	public synchronized void addEntry(String name, byte[] bytes)
+		throws IOException {
+
+		if ((bytes == null) || !_putNextEntry(name)) {
+			return;
+		}
 
 		try {
-			addEntry(name, unsyncByteArrayInputStream);
+			_zipOutputStream.write(bytes);
 		}
 		finally {
-			unsyncByteArrayInputStream.close();
+			_zipOutputStream.closeEntry();
 		}
 	}
 
-	public void addEntry(String name, InputStream inpuStream)
+	public synchronized void addEntry(String name, InputStream inpuStream)
 		throws IOException {
 
-		if (name.startsWith(StringPool.SLASH)) {
-			name = name.substring(1);
-		}
-
-		if (inpuStream == null) {
+		if ((inpuStream == null) || !_putNextEntry(name)) {
 			return;
 		}
 
-		if (_log.isDebugEnabled()) {
-			_log.debug("Adding " + name);
-		}
-
-		FileUtil.mkdirs(getPath());
-
-		OutputStream outputStream = new FileOutputStream(
-			new File(getPath() + StringPool.SLASH + name));
-
 		try {
-			File.cat(inpuStream, outputStream);
+			StreamUtil.transfer(inpuStream, _zipOutputStream, false);
 		}
 		finally {
-			outputStream.close();
+			_zipOutputStream.closeEntry();
 		}
 	}
 
@@ -116,39 +102,81 @@ public class ZipWriterImpl implements ZipWriter {
 	}
 
 	public byte[] finish() throws IOException {
-		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
-			new UnsyncByteArrayOutputStream();
-
-		InputStream inputStream = new FileInputStream(_file);
+		return FileUtil.getBytes(getFile());
+	}
 
-		try {
-			File.cat(inputStream, unsyncByteArrayOutputStream);
-		}
-		finally {
-			unsyncByteArrayOutputStream.close();
-			inputStream.close();
+	public synchronized File getFile() {
+		if (_closed) {
+			return _file;
 		}
 
-		return unsyncByteArrayOutputStream.toByteArray();
-	}
+		_closed = true;
 
-	public java.io.File getFile() {
 		try {
-			File.umount(_file);
+			if (_zipOutputStream != null) {
+				_zipOutputStream.close();
+			}
+			else {
+
+				// ZipOutputStream refuses to finish an archive without entries
+
+				FileUtil.write(_file, _EMPTY_ZIP);
+			}
 		}
-		catch (ArchiveException ae) {
-			_log.error(ae, ae);
+		catch (IOException ioe) {
+			_log.error(ioe, ioe);
 		}
 
-		return _file.getDelegate();
+		return _file;
 	}
 
 	public String getPath() {
 		return _file.getPath();
 	}
 
+	private boolean _putNextEntry(String name) throws IOException {
+		if (_closed) {
+			throw new IOException(_file + " is already closed");
+		}
+
+		if (name.startsWith(StringPool.SLASH)) {
+			name = name.substring(1);
+		}
+
+		if (!_names.add(name)) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Skipping duplicate entry " + name);
+			}
+
+			return false;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Adding " + name);
+		}
+
+		if (_zipOutputStream == null) {
+			FileUtil.mkdirs(_file.getParent());
+
+			_zipOutputStream = new ZipOutputStream(
+				new BufferedOutputStream(new FileOutputStream(_file)));
+		}
+
+		_zipOutputStream.putNextEntry(new ZipEntry(name));
+
+		return true;
+	}
+
+	private static final byte[] _EMPTY_ZIP = {
+		0x50, 0x4b, 0x05, 0x06, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+		0, 0
+	};
+
 	private static Log _log = LogFactoryUtil.getLog(ZipWriter.class);
 
+	private boolean _closed;
 	private File _file;
+	private Set<String> _names = new HashSet<String>();
+	private ZipOutputStream _zipOutputStream;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.model;
+
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheThreadLocal;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheUtil;
+
+/**
+ * Clears the cached output of portlets whenever an asset is added, updated
+ * or removed, since portlets like the Asset Publisher list assets of any
+ * type. Updates that only increment the view counter keep the cache.
+ */
+public class AssetEntryListener extends BaseModelListener<AssetEntry> {
+
+	@Override
+	public void onAfterCreate(AssetEntry entry) {
+		clearCache(entry);
+	}
+
+	@Override
+	public void onAfterRemove(AssetEntry entry) {
+		clearCache(entry);
+	}
+
+	@Override
+	public void onAfterUpdate(AssetEntry entry) {
+		clearCache(entry);
+	}
+
+	protected void clearCache(AssetEntry entry) {
+
+		// Portlet fragment cache
+
+		if (PortletFragmentCacheThreadLocal.isClearCache()) {
+			PortletFragmentCacheUtil.clearCache();
+		}
+	}
+
+}
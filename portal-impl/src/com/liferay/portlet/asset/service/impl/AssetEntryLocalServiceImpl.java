@@ -61,6 +61,7 @@ import com.liferay.portlet.blogs.model.BlogsEntry;
 import com.liferay.portlet.bookmarks.model.BookmarksEntry;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 import com.liferay.portlet.journal.model.JournalArticle;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheThreadLocal;
 import com.liferay.portlet.messageboards.model.MBMessage;
 import com.liferay.portlet.wiki.model.WikiPage;
 
@@ -355,7 +356,19 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 		entry.setViewCount(entry.getViewCount() + increment);
 
-		assetEntryPersistence.update(entry, false);
+		// A view does not change the content of the entry, so it must not
+		// clear the cached output of the portlets that list it
+
+		boolean clearCache = PortletFragmentCacheThreadLocal.isClearCache();
+
+		PortletFragmentCacheThreadLocal.setClearCache(false);
+
+		try {
+			assetEntryPersistence.update(entry, false);
+		}
+		finally {
+			PortletFragmentCacheThreadLocal.setClearCache(clearCache);
+		}
 
 		return entry;
 	}
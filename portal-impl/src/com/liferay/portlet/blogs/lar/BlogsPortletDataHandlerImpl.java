@@ -52,6 +52,11 @@ import javax.portlet.PortletPreferences;
  */
 public class BlogsPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -410,6 +415,10 @@ public class BlogsPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		BlogsEntry.class.getName()
+	};
+
 	private static final String _NAMESPACE = "blogs";
 
 	private static PortletDataHandlerBoolean _entries =
@@ -46,6 +46,11 @@ import javax.portlet.PortletPreferences;
  */
 public class BookmarksPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -438,6 +443,11 @@ public class BookmarksPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		BookmarksEntry.class.getName(),
+		BookmarksFolder.class.getName()
+	};
+
 	private static final String _NAMESPACE = "bookmarks";
 
 	private static final boolean _PUBLISH_TO_LIVE_BY_DEFAULT = true;
@@ -43,6 +43,11 @@ import javax.portlet.PortletPreferences;
  */
 public class CalendarPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -293,6 +298,10 @@ public class CalendarPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		CalEvent.class.getName()
+	};
+
 	private static final String _NAMESPACE = "calendar";
 
 	private static final boolean _PUBLISH_TO_LIVE_BY_DEFAULT = true;
@@ -23,6 +23,7 @@ import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.portlet.LiferayWindowState;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.search.IndexWriterBatchUtil;
 import com.liferay.portal.kernel.servlet.ServletResponseConstants;
 import com.liferay.portal.kernel.servlet.SessionErrors;
 import com.liferay.portal.kernel.upload.UploadException;
@@ -313,10 +314,17 @@ public class EditFileEntryAction extends PortletAction {
 		String[] selectedFileNames = ParamUtil.getParameterValues(
 			actionRequest, "selectedFileName");
 
-		for (String selectedFileName : selectedFileNames) {
-			addMultipleFileEntries(
-				actionRequest, actionResponse, selectedFileName, validFileNames,
-				invalidFileNameKVPs);
+		IndexWriterBatchUtil.begin();
+
+		try {
+			for (String selectedFileName : selectedFileNames) {
+				addMultipleFileEntries(
+					actionRequest, actionResponse, selectedFileName,
+					validFileNames, invalidFileNameKVPs);
+			}
+		}
+		finally {
+			IndexWriterBatchUtil.end();
 		}
 
 		JSONArray jsonArray = JSONFactoryUtil.createJSONArray();
@@ -27,6 +27,10 @@ import com.liferay.portal.kernel.xml.Document;
 import com.liferay.portal.kernel.xml.Element;
 import com.liferay.portal.kernel.xml.SAXReaderUtil;
 import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.model.DLFileEntryType;
+import com.liferay.portlet.documentlibrary.model.DLFileShortcut;
+import com.liferay.portlet.documentlibrary.model.DLFolder;
 import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
 
 import java.util.List;
@@ -39,6 +43,11 @@ import javax.portlet.PortletPreferences;
  */
 public class DLDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -239,6 +248,13 @@ public class DLDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 		return portletPreferences;
 	}
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		DLFileEntry.class.getName(),
+		DLFileEntryType.class.getName(),
+		DLFileShortcut.class.getName(),
+		DLFolder.class.getName()
+	};
+
 	private static final String _NAMESPACE = "document_library";
 
 	private static PortletDataHandlerBoolean _foldersAndDocuments =
@@ -512,6 +512,11 @@ public class DLPortletDataHandlerImpl extends BasePortletDataHandler {
 		importFolder(portletDataContext, path, folderElement, folder);
 	}
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -1740,6 +1745,13 @@ public class DLPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		DLFileEntry.class.getName(),
+		DLFileEntryType.class.getName(),
+		DLFileShortcut.class.getName(),
+		DLFolder.class.getName()
+	};
+
 	private static final String _NAMESPACE = "document_library";
 
 	private static Log _log = LogFactoryUtil.getLog(
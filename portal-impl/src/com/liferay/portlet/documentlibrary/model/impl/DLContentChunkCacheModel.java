@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.model.CacheModel;
+
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+
+import java.io.Serializable;
+
+/**
+ * The cache model class for representing DLContentChunk in entity cache.
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunk
+ * @generated
+ */
+public class DLContentChunkCacheModel implements CacheModel<DLContentChunk>,
+	Serializable {
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(11);
+
+		sb.append("{chunkId=");
+		sb.append(chunkId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", contentId=");
+		sb.append(contentId);
+		sb.append(", chunkIndex=");
+		sb.append(chunkIndex);
+		sb.append(", size=");
+		sb.append(size);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public DLContentChunk toEntityModel() {
+		DLContentChunkImpl dlContentChunkImpl = new DLContentChunkImpl();
+
+		dlContentChunkImpl.setChunkId(chunkId);
+		dlContentChunkImpl.setCompanyId(companyId);
+		dlContentChunkImpl.setContentId(contentId);
+		dlContentChunkImpl.setChunkIndex(chunkIndex);
+		dlContentChunkImpl.setSize(size);
+
+		dlContentChunkImpl.resetOriginalValues();
+
+		return dlContentChunkImpl;
+	}
+
+	public long chunkId;
+	public long companyId;
+	public long contentId;
+	public int chunkIndex;
+	public long size;
+}
\ No newline at end of file
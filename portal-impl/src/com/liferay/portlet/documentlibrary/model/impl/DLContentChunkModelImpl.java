@@ -0,0 +1,440 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.impl.BaseModelImpl;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+import com.liferay.portlet.documentlibrary.model.DLContentChunkDataBlobModel;
+import com.liferay.portlet.documentlibrary.model.DLContentChunkModel;
+import com.liferay.portlet.documentlibrary.service.DLContentChunkLocalServiceUtil;
+import com.liferay.portlet.expando.model.ExpandoBridge;
+import com.liferay.portlet.expando.util.ExpandoBridgeFactoryUtil;
+
+import java.io.Serializable;
+
+import java.sql.Blob;
+import java.sql.Types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the DLContentChunk service. Represents a row in the &quot;DLContentChunk&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link com.liferay.portlet.documentlibrary.model.DLContentChunkModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link DLContentChunkImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunkImpl
+ * @see com.liferay.portlet.documentlibrary.model.DLContentChunk
+ * @see com.liferay.portlet.documentlibrary.model.DLContentChunkModel
+ * @generated
+ */
+public class DLContentChunkModelImpl extends BaseModelImpl<DLContentChunk>
+	implements DLContentChunkModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a document library content chunk model instance should use the {@link com.liferay.portlet.documentlibrary.model.DLContentChunk} interface instead.
+	 */
+	public static final String TABLE_NAME = "DLContentChunk";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "chunkId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "contentId", Types.BIGINT },
+			{ "chunkIndex", Types.INTEGER },
+			{ "data_", Types.BLOB },
+			{ "size_", Types.BIGINT }
+		};
+	public static final String TABLE_SQL_CREATE = "create table DLContentChunk (chunkId LONG not null primary key,companyId LONG,contentId LONG,chunkIndex INTEGER,data_ BLOB,size_ LONG)";
+	public static final String TABLE_SQL_DROP = "drop table DLContentChunk";
+	public static final String ORDER_BY_JPQL = " ORDER BY dlContentChunk.chunkIndex ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY DLContentChunk.chunkIndex ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.entity.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentChunk"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.finder.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentChunk"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.column.bitmask.enabled.com.liferay.portlet.documentlibrary.model.DLContentChunk"),
+			true);
+	public static long CONTENTID_COLUMN_BITMASK = 1L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.portal.util.PropsUtil.get(
+				"lock.expiration.time.com.liferay.portlet.documentlibrary.model.DLContentChunk"));
+
+	public DLContentChunkModelImpl() {
+	}
+
+	public long getPrimaryKey() {
+		return _chunkId;
+	}
+
+	public void setPrimaryKey(long primaryKey) {
+		setChunkId(primaryKey);
+	}
+
+	public Serializable getPrimaryKeyObj() {
+		return new Long(_chunkId);
+	}
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentChunk.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentChunk.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("chunkId", getChunkId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("contentId", getContentId());
+		attributes.put("chunkIndex", getChunkIndex());
+		attributes.put("data", getData());
+		attributes.put("size", getSize());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long chunkId = (Long)attributes.get("chunkId");
+
+		if (chunkId != null) {
+			setChunkId(chunkId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long contentId = (Long)attributes.get("contentId");
+
+		if (contentId != null) {
+			setContentId(contentId);
+		}
+
+		Integer chunkIndex = (Integer)attributes.get("chunkIndex");
+
+		if (chunkIndex != null) {
+			setChunkIndex(chunkIndex);
+		}
+
+		Blob data = (Blob)attributes.get("data");
+
+		if (data != null) {
+			setData(data);
+		}
+
+		Long size = (Long)attributes.get("size");
+
+		if (size != null) {
+			setSize(size);
+		}
+	}
+
+	public long getChunkId() {
+		return _chunkId;
+	}
+
+	public void setChunkId(long chunkId) {
+		_chunkId = chunkId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public long getContentId() {
+		return _contentId;
+	}
+
+	public void setContentId(long contentId) {
+		_columnBitmask |= CONTENTID_COLUMN_BITMASK;
+
+		if (!_setOriginalContentId) {
+			_setOriginalContentId = true;
+
+			_originalContentId = _contentId;
+		}
+
+		_contentId = contentId;
+	}
+
+	public long getOriginalContentId() {
+		return _originalContentId;
+	}
+
+	public int getChunkIndex() {
+		return _chunkIndex;
+	}
+
+	public void setChunkIndex(int chunkIndex) {
+		_columnBitmask = -1L;
+
+		_chunkIndex = chunkIndex;
+	}
+
+	public Blob getData() {
+		if (_dataBlobModel == null) {
+			try {
+				_dataBlobModel = DLContentChunkLocalServiceUtil.getDataBlobModel(getPrimaryKey());
+			}
+			catch (Exception e) {
+			}
+		}
+
+		Blob blob = null;
+
+		if (_dataBlobModel != null) {
+			blob = _dataBlobModel.getDataBlob();
+		}
+
+		return blob;
+	}
+
+	public void setData(Blob data) {
+		if (_dataBlobModel == null) {
+			_dataBlobModel = new DLContentChunkDataBlobModel(getPrimaryKey(),
+					data);
+		}
+		else {
+			_dataBlobModel.setDataBlob(data);
+		}
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	public void setSize(long size) {
+		_size = size;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public DLContentChunk toEscapedModel() {
+		if (_escapedModelProxy == null) {
+			_escapedModelProxy = (DLContentChunk)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelProxyInterfaces,
+					new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModelProxy;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			DLContentChunk.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public Object clone() {
+		DLContentChunkImpl dlContentChunkImpl = new DLContentChunkImpl();
+
+		dlContentChunkImpl.setChunkId(getChunkId());
+		dlContentChunkImpl.setCompanyId(getCompanyId());
+		dlContentChunkImpl.setContentId(getContentId());
+		dlContentChunkImpl.setChunkIndex(getChunkIndex());
+		dlContentChunkImpl.setSize(getSize());
+
+		dlContentChunkImpl.resetOriginalValues();
+
+		return dlContentChunkImpl;
+	}
+
+	public int compareTo(DLContentChunk dlContentChunk) {
+		int value = 0;
+
+		if (getChunkIndex() < dlContentChunk.getChunkIndex()) {
+			value = -1;
+		}
+		else if (getChunkIndex() > dlContentChunk.getChunkIndex()) {
+			value = 1;
+		}
+		else {
+			value = 0;
+		}
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == null) {
+			return false;
+		}
+
+		DLContentChunk dlContentChunk = null;
+
+		try {
+			dlContentChunk = (DLContentChunk)obj;
+		}
+		catch (ClassCastException cce) {
+			return false;
+		}
+
+		long primaryKey = dlContentChunk.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		DLContentChunkModelImpl dlContentChunkModelImpl = this;
+
+		dlContentChunkModelImpl._originalContentId = dlContentChunkModelImpl._contentId;
+
+		dlContentChunkModelImpl._setOriginalContentId = false;
+
+		dlContentChunkModelImpl._dataBlobModel = null;
+
+		dlContentChunkModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<DLContentChunk> toCacheModel() {
+		DLContentChunkCacheModel dlContentChunkCacheModel = new DLContentChunkCacheModel();
+
+		dlContentChunkCacheModel.chunkId = getChunkId();
+
+		dlContentChunkCacheModel.companyId = getCompanyId();
+
+		dlContentChunkCacheModel.contentId = getContentId();
+
+		dlContentChunkCacheModel.chunkIndex = getChunkIndex();
+
+		dlContentChunkCacheModel.size = getSize();
+
+		return dlContentChunkCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("{chunkId=");
+		sb.append(getChunkId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", contentId=");
+		sb.append(getContentId());
+		sb.append(", chunkIndex=");
+		sb.append(getChunkIndex());
+		sb.append(", size=");
+		sb.append(getSize());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(22);
+
+		sb.append("<model><model-name>");
+		sb.append("com.liferay.portlet.documentlibrary.model.DLContentChunk");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>chunkId</column-name><column-value><![CDATA[");
+		sb.append(getChunkId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>contentId</column-name><column-value><![CDATA[");
+		sb.append(getContentId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>chunkIndex</column-name><column-value><![CDATA[");
+		sb.append(getChunkIndex());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>size</column-name><column-value><![CDATA[");
+		sb.append(getSize());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static ClassLoader _classLoader = DLContentChunk.class.getClassLoader();
+	private static Class<?>[] _escapedModelProxyInterfaces = new Class[] {
+			DLContentChunk.class
+		};
+	private long _chunkId;
+	private long _companyId;
+	private long _contentId;
+	private long _originalContentId;
+	private boolean _setOriginalContentId;
+	private int _chunkIndex;
+	private DLContentChunkDataBlobModel _dataBlobModel;
+	private long _size;
+	private long _columnBitmask;
+	private DLContentChunk _escapedModelProxy;
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+
+import java.io.Serializable;
+
+/**
+ * The cache model class for representing DLContentHash in entity cache.
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHash
+ * @generated
+ */
+public class DLContentHashCacheModel implements CacheModel<DLContentHash>,
+	Serializable {
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(7);
+
+		sb.append("{contentHashId=");
+		sb.append(contentHashId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", hash=");
+		sb.append(hash);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public DLContentHash toEntityModel() {
+		DLContentHashImpl dlContentHashImpl = new DLContentHashImpl();
+
+		dlContentHashImpl.setContentHashId(contentHashId);
+		dlContentHashImpl.setCompanyId(companyId);
+
+		if (hash == null) {
+			dlContentHashImpl.setHash(StringPool.BLANK);
+		}
+		else {
+			dlContentHashImpl.setHash(hash);
+		}
+
+		dlContentHashImpl.resetOriginalValues();
+
+		return dlContentHashImpl;
+	}
+
+	public long contentHashId;
+	public long companyId;
+	public String hash;
+}
\ No newline at end of file
@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.impl.BaseModelImpl;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.portlet.documentlibrary.model.DLContentHashModel;
+import com.liferay.portlet.expando.model.ExpandoBridge;
+import com.liferay.portlet.expando.util.ExpandoBridgeFactoryUtil;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the DLContentHash service. Represents a row in the &quot;DLContentHash&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link com.liferay.portlet.documentlibrary.model.DLContentHashModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link DLContentHashImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHashImpl
+ * @see com.liferay.portlet.documentlibrary.model.DLContentHash
+ * @see com.liferay.portlet.documentlibrary.model.DLContentHashModel
+ * @generated
+ */
+public class DLContentHashModelImpl extends BaseModelImpl<DLContentHash>
+	implements DLContentHashModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a document library content hash model instance should use the {@link com.liferay.portlet.documentlibrary.model.DLContentHash} interface instead.
+	 */
+	public static final String TABLE_NAME = "DLContentHash";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "contentHashId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "hash", Types.VARCHAR }
+		};
+	public static final String TABLE_SQL_CREATE = "create table DLContentHash (contentHashId LONG not null primary key,companyId LONG,hash VARCHAR(75) null)";
+	public static final String TABLE_SQL_DROP = "drop table DLContentHash";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.entity.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentHash"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.finder.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentHash"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.column.bitmask.enabled.com.liferay.portlet.documentlibrary.model.DLContentHash"),
+			true);
+	public static long COMPANYID_COLUMN_BITMASK = 1L;
+	public static long HASH_COLUMN_BITMASK = 2L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.portal.util.PropsUtil.get(
+				"lock.expiration.time.com.liferay.portlet.documentlibrary.model.DLContentHash"));
+
+	public DLContentHashModelImpl() {
+	}
+
+	public long getPrimaryKey() {
+		return _contentHashId;
+	}
+
+	public void setPrimaryKey(long primaryKey) {
+		setContentHashId(primaryKey);
+	}
+
+	public Serializable getPrimaryKeyObj() {
+		return new Long(_contentHashId);
+	}
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentHash.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentHash.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("contentHashId", getContentHashId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("hash", getHash());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long contentHashId = (Long)attributes.get("contentHashId");
+
+		if (contentHashId != null) {
+			setContentHashId(contentHashId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		String hash = (String)attributes.get("hash");
+
+		if (hash != null) {
+			setHash(hash);
+		}
+	}
+
+	public long getContentHashId() {
+		return _contentHashId;
+	}
+
+	public void setContentHashId(long contentHashId) {
+		_contentHashId = contentHashId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_columnBitmask |= COMPANYID_COLUMN_BITMASK;
+
+		if (!_setOriginalCompanyId) {
+			_setOriginalCompanyId = true;
+
+			_originalCompanyId = _companyId;
+		}
+
+		_companyId = companyId;
+	}
+
+	public long getOriginalCompanyId() {
+		return _originalCompanyId;
+	}
+
+	public String getHash() {
+		if (_hash == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _hash;
+		}
+	}
+
+	public void setHash(String hash) {
+		_columnBitmask |= HASH_COLUMN_BITMASK;
+
+		if (_originalHash == null) {
+			_originalHash = _hash;
+		}
+
+		_hash = hash;
+	}
+
+	public String getOriginalHash() {
+		return GetterUtil.getString(_originalHash);
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public DLContentHash toEscapedModel() {
+		if (_escapedModelProxy == null) {
+			_escapedModelProxy = (DLContentHash)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelProxyInterfaces,
+					new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModelProxy;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			DLContentHash.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public Object clone() {
+		DLContentHashImpl dlContentHashImpl = new DLContentHashImpl();
+
+		dlContentHashImpl.setContentHashId(getContentHashId());
+		dlContentHashImpl.setCompanyId(getCompanyId());
+		dlContentHashImpl.setHash(getHash());
+
+		dlContentHashImpl.resetOriginalValues();
+
+		return dlContentHashImpl;
+	}
+
+	public int compareTo(DLContentHash dlContentHash) {
+		long primaryKey = dlContentHash.getPrimaryKey();
+
+		if (getPrimaryKey() < primaryKey) {
+			return -1;
+		}
+		else if (getPrimaryKey() > primaryKey) {
+			return 1;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == null) {
+			return false;
+		}
+
+		DLContentHash dlContentHash = null;
+
+		try {
+			dlContentHash = (DLContentHash)obj;
+		}
+		catch (ClassCastException cce) {
+			return false;
+		}
+
+		long primaryKey = dlContentHash.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		DLContentHashModelImpl dlContentHashModelImpl = this;
+
+		dlContentHashModelImpl._originalCompanyId = dlContentHashModelImpl._companyId;
+
+		dlContentHashModelImpl._setOriginalCompanyId = false;
+
+		dlContentHashModelImpl._originalHash = dlContentHashModelImpl._hash;
+
+		dlContentHashModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<DLContentHash> toCacheModel() {
+		DLContentHashCacheModel dlContentHashCacheModel = new DLContentHashCacheModel();
+
+		dlContentHashCacheModel.contentHashId = getContentHashId();
+
+		dlContentHashCacheModel.companyId = getCompanyId();
+
+		dlContentHashCacheModel.hash = getHash();
+
+		String hash = dlContentHashCacheModel.hash;
+
+		if ((hash != null) && (hash.length() == 0)) {
+			dlContentHashCacheModel.hash = null;
+		}
+
+		return dlContentHashCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(7);
+
+		sb.append("{contentHashId=");
+		sb.append(getContentHashId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", hash=");
+		sb.append(getHash());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("<model><model-name>");
+		sb.append("com.liferay.portlet.documentlibrary.model.DLContentHash");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>contentHashId</column-name><column-value><![CDATA[");
+		sb.append(getContentHashId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>hash</column-name><column-value><![CDATA[");
+		sb.append(getHash());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static ClassLoader _classLoader = DLContentHash.class.getClassLoader();
+	private static Class<?>[] _escapedModelProxyInterfaces = new Class[] {
+			DLContentHash.class
+		};
+	private long _contentHashId;
+	private long _companyId;
+	private long _originalCompanyId;
+	private boolean _setOriginalCompanyId;
+	private String _hash;
+	private String _originalHash;
+	private long _columnBitmask;
+	private DLContentHash _escapedModelProxy;
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+
+import java.io.Serializable;
+
+/**
+ * The cache model class for representing DLContentReference in entity cache.
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentReference
+ * @generated
+ */
+public class DLContentReferenceCacheModel implements CacheModel<DLContentReference>,
+	Serializable {
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(15);
+
+		sb.append("{referenceId=");
+		sb.append(referenceId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", repositoryId=");
+		sb.append(repositoryId);
+		sb.append(", path=");
+		sb.append(path);
+		sb.append(", version=");
+		sb.append(version);
+		sb.append(", hash=");
+		sb.append(hash);
+		sb.append(", size=");
+		sb.append(size);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public DLContentReference toEntityModel() {
+		DLContentReferenceImpl dlContentReferenceImpl = new DLContentReferenceImpl();
+
+		dlContentReferenceImpl.setReferenceId(referenceId);
+		dlContentReferenceImpl.setCompanyId(companyId);
+		dlContentReferenceImpl.setRepositoryId(repositoryId);
+
+		if (path == null) {
+			dlContentReferenceImpl.setPath(StringPool.BLANK);
+		}
+		else {
+			dlContentReferenceImpl.setPath(path);
+		}
+
+		if (version == null) {
+			dlContentReferenceImpl.setVersion(StringPool.BLANK);
+		}
+		else {
+			dlContentReferenceImpl.setVersion(version);
+		}
+
+		if (hash == null) {
+			dlContentReferenceImpl.setHash(StringPool.BLANK);
+		}
+		else {
+			dlContentReferenceImpl.setHash(hash);
+		}
+
+		dlContentReferenceImpl.setSize(size);
+
+		dlContentReferenceImpl.resetOriginalValues();
+
+		return dlContentReferenceImpl;
+	}
+
+	public long referenceId;
+	public long companyId;
+	public long repositoryId;
+	public String path;
+	public String version;
+	public String hash;
+	public long size;
+}
\ No newline at end of file
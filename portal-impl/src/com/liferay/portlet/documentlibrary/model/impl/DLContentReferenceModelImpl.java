@@ -0,0 +1,538 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model.impl;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.impl.BaseModelImpl;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.model.DLContentReferenceModel;
+import com.liferay.portlet.expando.model.ExpandoBridge;
+import com.liferay.portlet.expando.util.ExpandoBridgeFactoryUtil;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the DLContentReference service. Represents a row in the &quot;DLContentReference&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link com.liferay.portlet.documentlibrary.model.DLContentReferenceModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link DLContentReferenceImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentReferenceImpl
+ * @see com.liferay.portlet.documentlibrary.model.DLContentReference
+ * @see com.liferay.portlet.documentlibrary.model.DLContentReferenceModel
+ * @generated
+ */
+public class DLContentReferenceModelImpl extends BaseModelImpl<DLContentReference>
+	implements DLContentReferenceModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a document library content reference model instance should use the {@link com.liferay.portlet.documentlibrary.model.DLContentReference} interface instead.
+	 */
+	public static final String TABLE_NAME = "DLContentReference";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "referenceId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "repositoryId", Types.BIGINT },
+			{ "path_", Types.VARCHAR },
+			{ "version", Types.VARCHAR },
+			{ "hash", Types.VARCHAR },
+			{ "size_", Types.BIGINT }
+		};
+	public static final String TABLE_SQL_CREATE = "create table DLContentReference (referenceId LONG not null primary key,companyId LONG,repositoryId LONG,path_ VARCHAR(255) null,version VARCHAR(75) null,hash VARCHAR(75) null,size_ LONG)";
+	public static final String TABLE_SQL_DROP = "drop table DLContentReference";
+	public static final String ORDER_BY_JPQL = " ORDER BY dlContentReference.version DESC";
+	public static final String ORDER_BY_SQL = " ORDER BY DLContentReference.version DESC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.entity.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentReference"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.finder.cache.enabled.com.liferay.portlet.documentlibrary.model.DLContentReference"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.portal.util.PropsUtil.get(
+				"value.object.column.bitmask.enabled.com.liferay.portlet.documentlibrary.model.DLContentReference"),
+			true);
+	public static long COMPANYID_COLUMN_BITMASK = 1L;
+	public static long HASH_COLUMN_BITMASK = 2L;
+	public static long PATH_COLUMN_BITMASK = 4L;
+	public static long REPOSITORYID_COLUMN_BITMASK = 8L;
+	public static long VERSION_COLUMN_BITMASK = 16L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.portal.util.PropsUtil.get(
+				"lock.expiration.time.com.liferay.portlet.documentlibrary.model.DLContentReference"));
+
+	public DLContentReferenceModelImpl() {
+	}
+
+	public long getPrimaryKey() {
+		return _referenceId;
+	}
+
+	public void setPrimaryKey(long primaryKey) {
+		setReferenceId(primaryKey);
+	}
+
+	public Serializable getPrimaryKeyObj() {
+		return new Long(_referenceId);
+	}
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentReference.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentReference.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("referenceId", getReferenceId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("repositoryId", getRepositoryId());
+		attributes.put("path", getPath());
+		attributes.put("version", getVersion());
+		attributes.put("hash", getHash());
+		attributes.put("size", getSize());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long referenceId = (Long)attributes.get("referenceId");
+
+		if (referenceId != null) {
+			setReferenceId(referenceId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long repositoryId = (Long)attributes.get("repositoryId");
+
+		if (repositoryId != null) {
+			setRepositoryId(repositoryId);
+		}
+
+		String path = (String)attributes.get("path");
+
+		if (path != null) {
+			setPath(path);
+		}
+
+		String version = (String)attributes.get("version");
+
+		if (version != null) {
+			setVersion(version);
+		}
+
+		String hash = (String)attributes.get("hash");
+
+		if (hash != null) {
+			setHash(hash);
+		}
+
+		Long size = (Long)attributes.get("size");
+
+		if (size != null) {
+			setSize(size);
+		}
+	}
+
+	public long getReferenceId() {
+		return _referenceId;
+	}
+
+	public void setReferenceId(long referenceId) {
+		_referenceId = referenceId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_columnBitmask |= COMPANYID_COLUMN_BITMASK;
+
+		if (!_setOriginalCompanyId) {
+			_setOriginalCompanyId = true;
+
+			_originalCompanyId = _companyId;
+		}
+
+		_companyId = companyId;
+	}
+
+	public long getOriginalCompanyId() {
+		return _originalCompanyId;
+	}
+
+	public long getRepositoryId() {
+		return _repositoryId;
+	}
+
+	public void setRepositoryId(long repositoryId) {
+		_columnBitmask |= REPOSITORYID_COLUMN_BITMASK;
+
+		if (!_setOriginalRepositoryId) {
+			_setOriginalRepositoryId = true;
+
+			_originalRepositoryId = _repositoryId;
+		}
+
+		_repositoryId = repositoryId;
+	}
+
+	public long getOriginalRepositoryId() {
+		return _originalRepositoryId;
+	}
+
+	public String getPath() {
+		if (_path == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _path;
+		}
+	}
+
+	public void setPath(String path) {
+		_columnBitmask |= PATH_COLUMN_BITMASK;
+
+		if (_originalPath == null) {
+			_originalPath = _path;
+		}
+
+		_path = path;
+	}
+
+	public String getOriginalPath() {
+		return GetterUtil.getString(_originalPath);
+	}
+
+	public String getVersion() {
+		if (_version == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _version;
+		}
+	}
+
+	public void setVersion(String version) {
+		_columnBitmask = -1L;
+
+		if (_originalVersion == null) {
+			_originalVersion = _version;
+		}
+
+		_version = version;
+	}
+
+	public String getOriginalVersion() {
+		return GetterUtil.getString(_originalVersion);
+	}
+
+	public String getHash() {
+		if (_hash == null) {
+			return StringPool.BLANK;
+		}
+		else {
+			return _hash;
+		}
+	}
+
+	public void setHash(String hash) {
+		_columnBitmask |= HASH_COLUMN_BITMASK;
+
+		if (_originalHash == null) {
+			_originalHash = _hash;
+		}
+
+		_hash = hash;
+	}
+
+	public String getOriginalHash() {
+		return GetterUtil.getString(_originalHash);
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	public void setSize(long size) {
+		_size = size;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public DLContentReference toEscapedModel() {
+		if (_escapedModelProxy == null) {
+			_escapedModelProxy = (DLContentReference)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelProxyInterfaces,
+					new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModelProxy;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			DLContentReference.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public Object clone() {
+		DLContentReferenceImpl dlContentReferenceImpl = new DLContentReferenceImpl();
+
+		dlContentReferenceImpl.setReferenceId(getReferenceId());
+		dlContentReferenceImpl.setCompanyId(getCompanyId());
+		dlContentReferenceImpl.setRepositoryId(getRepositoryId());
+		dlContentReferenceImpl.setPath(getPath());
+		dlContentReferenceImpl.setVersion(getVersion());
+		dlContentReferenceImpl.setHash(getHash());
+		dlContentReferenceImpl.setSize(getSize());
+
+		dlContentReferenceImpl.resetOriginalValues();
+
+		return dlContentReferenceImpl;
+	}
+
+	public int compareTo(DLContentReference dlContentReference) {
+		int value = 0;
+
+		value = getVersion().compareTo(dlContentReference.getVersion());
+
+		value = value * -1;
+
+		if (value != 0) {
+			return value;
+		}
+
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == null) {
+			return false;
+		}
+
+		DLContentReference dlContentReference = null;
+
+		try {
+			dlContentReference = (DLContentReference)obj;
+		}
+		catch (ClassCastException cce) {
+			return false;
+		}
+
+		long primaryKey = dlContentReference.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		DLContentReferenceModelImpl dlContentReferenceModelImpl = this;
+
+		dlContentReferenceModelImpl._originalCompanyId = dlContentReferenceModelImpl._companyId;
+
+		dlContentReferenceModelImpl._setOriginalCompanyId = false;
+
+		dlContentReferenceModelImpl._originalRepositoryId = dlContentReferenceModelImpl._repositoryId;
+
+		dlContentReferenceModelImpl._setOriginalRepositoryId = false;
+
+		dlContentReferenceModelImpl._originalPath = dlContentReferenceModelImpl._path;
+
+		dlContentReferenceModelImpl._originalVersion = dlContentReferenceModelImpl._version;
+
+		dlContentReferenceModelImpl._originalHash = dlContentReferenceModelImpl._hash;
+
+		dlContentReferenceModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<DLContentReference> toCacheModel() {
+		DLContentReferenceCacheModel dlContentReferenceCacheModel = new DLContentReferenceCacheModel();
+
+		dlContentReferenceCacheModel.referenceId = getReferenceId();
+
+		dlContentReferenceCacheModel.companyId = getCompanyId();
+
+		dlContentReferenceCacheModel.repositoryId = getRepositoryId();
+
+		dlContentReferenceCacheModel.path = getPath();
+
+		String path = dlContentReferenceCacheModel.path;
+
+		if ((path != null) && (path.length() == 0)) {
+			dlContentReferenceCacheModel.path = null;
+		}
+
+		dlContentReferenceCacheModel.version = getVersion();
+
+		String version = dlContentReferenceCacheModel.version;
+
+		if ((version != null) && (version.length() == 0)) {
+			dlContentReferenceCacheModel.version = null;
+		}
+
+		dlContentReferenceCacheModel.hash = getHash();
+
+		String hash = dlContentReferenceCacheModel.hash;
+
+		if ((hash != null) && (hash.length() == 0)) {
+			dlContentReferenceCacheModel.hash = null;
+		}
+
+		dlContentReferenceCacheModel.size = getSize();
+
+		return dlContentReferenceCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(15);
+
+		sb.append("{referenceId=");
+		sb.append(getReferenceId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", repositoryId=");
+		sb.append(getRepositoryId());
+		sb.append(", path=");
+		sb.append(getPath());
+		sb.append(", version=");
+		sb.append(getVersion());
+		sb.append(", hash=");
+		sb.append(getHash());
+		sb.append(", size=");
+		sb.append(getSize());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(25);
+
+		sb.append("<model><model-name>");
+		sb.append(
+			"com.liferay.portlet.documentlibrary.model.DLContentReference");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>referenceId</column-name><column-value><![CDATA[");
+		sb.append(getReferenceId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>repositoryId</column-name><column-value><![CDATA[");
+		sb.append(getRepositoryId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>path</column-name><column-value><![CDATA[");
+		sb.append(getPath());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>version</column-name><column-value><![CDATA[");
+		sb.append(getVersion());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>hash</column-name><column-value><![CDATA[");
+		sb.append(getHash());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>size</column-name><column-value><![CDATA[");
+		sb.append(getSize());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static ClassLoader _classLoader = DLContentReference.class.getClassLoader();
+	private static Class<?>[] _escapedModelProxyInterfaces = new Class[] {
+			DLContentReference.class
+		};
+	private long _referenceId;
+	private long _companyId;
+	private long _originalCompanyId;
+	private boolean _setOriginalCompanyId;
+	private long _repositoryId;
+	private long _originalRepositoryId;
+	private boolean _setOriginalRepositoryId;
+	private String _path;
+	private String _originalPath;
+	private String _version;
+	private String _originalVersion;
+	private String _hash;
+	private String _originalHash;
+	private long _size;
+	private long _columnBitmask;
+	private DLContentReference _escapedModelProxy;
+}
\ No newline at end of file
@@ -67,7 +67,10 @@ import com.liferay.portlet.asset.service.persistence.AssetTagPersistence;
 import com.liferay.portlet.documentlibrary.service.DLAppHelperLocalService;
 import com.liferay.portlet.documentlibrary.service.DLAppLocalService;
 import com.liferay.portlet.documentlibrary.service.DLAppService;
+import com.liferay.portlet.documentlibrary.service.DLContentChunkLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentHashLocalService;
 import com.liferay.portlet.documentlibrary.service.DLContentLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentReferenceLocalService;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalService;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryMetadataLocalService;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryService;
@@ -82,7 +85,11 @@ import com.liferay.portlet.documentlibrary.service.DLFolderLocalService;
 import com.liferay.portlet.documentlibrary.service.DLFolderService;
 import com.liferay.portlet.documentlibrary.service.DLSyncLocalService;
 import com.liferay.portlet.documentlibrary.service.DLSyncService;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentChunkPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentHashFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentHashPersistence;
 import com.liferay.portlet.documentlibrary.service.persistence.DLContentPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentReferencePersistence;
 import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryFinder;
 import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryMetadataPersistence;
 import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryPersistence;
@@ -238,6 +245,138 @@ public abstract class DLAppHelperLocalServiceBaseImpl
 		this.dlContentPersistence = dlContentPersistence;
 	}
 
+	/**
+	 * Returns the document library content chunk local service.
+	 *
+	 * @return the document library content chunk local service
+	 */
+	public DLContentChunkLocalService getDLContentChunkLocalService() {
+		return dlContentChunkLocalService;
+	}
+
+	/**
+	 * Sets the document library content chunk local service.
+	 *
+	 * @param dlContentChunkLocalService the document library content chunk local service
+	 */
+	public void setDLContentChunkLocalService(
+		DLContentChunkLocalService dlContentChunkLocalService) {
+		this.dlContentChunkLocalService = dlContentChunkLocalService;
+	}
+
+	/**
+	 * Returns the document library content chunk persistence.
+	 *
+	 * @return the document library content chunk persistence
+	 */
+	public DLContentChunkPersistence getDLContentChunkPersistence() {
+		return dlContentChunkPersistence;
+	}
+
+	/**
+	 * Sets the document library content chunk persistence.
+	 *
+	 * @param dlContentChunkPersistence the document library content chunk persistence
+	 */
+	public void setDLContentChunkPersistence(
+		DLContentChunkPersistence dlContentChunkPersistence) {
+		this.dlContentChunkPersistence = dlContentChunkPersistence;
+	}
+
+	/**
+	 * Returns the document library content hash local service.
+	 *
+	 * @return the document library content hash local service
+	 */
+	public DLContentHashLocalService getDLContentHashLocalService() {
+		return dlContentHashLocalService;
+	}
+
+	/**
+	 * Sets the document library content hash local service.
+	 *
+	 * @param dlContentHashLocalService the document library content hash local service
+	 */
+	public void setDLContentHashLocalService(
+		DLContentHashLocalService dlContentHashLocalService) {
+		this.dlContentHashLocalService = dlContentHashLocalService;
+	}
+
+	/**
+	 * Returns the document library content hash persistence.
+	 *
+	 * @return the document library content hash persistence
+	 */
+	public DLContentHashPersistence getDLContentHashPersistence() {
+		return dlContentHashPersistence;
+	}
+
+	/**
+	 * Sets the document library content hash persistence.
+	 *
+	 * @param dlContentHashPersistence the document library content hash persistence
+	 */
+	public void setDLContentHashPersistence(
+		DLContentHashPersistence dlContentHashPersistence) {
+		this.dlContentHashPersistence = dlContentHashPersistence;
+	}
+
+	/**
+	 * Returns the document library content hash finder.
+	 *
+	 * @return the document library content hash finder
+	 */
+	public DLContentHashFinder getDLContentHashFinder() {
+		return dlContentHashFinder;
+	}
+
+	/**
+	 * Sets the document library content hash finder.
+	 *
+	 * @param dlContentHashFinder the document library content hash finder
+	 */
+	public void setDLContentHashFinder(DLContentHashFinder dlContentHashFinder) {
+		this.dlContentHashFinder = dlContentHashFinder;
+	}
+
+	/**
+	 * Returns the document library content reference local service.
+	 *
+	 * @return the document library content reference local service
+	 */
+	public DLContentReferenceLocalService getDLContentReferenceLocalService() {
+		return dlContentReferenceLocalService;
+	}
+
+	/**
+	 * Sets the document library content reference local service.
+	 *
+	 * @param dlContentReferenceLocalService the document library content reference local service
+	 */
+	public void setDLContentReferenceLocalService(
+		DLContentReferenceLocalService dlContentReferenceLocalService) {
+		this.dlContentReferenceLocalService = dlContentReferenceLocalService;
+	}
+
+	/**
+	 * Returns the document library content reference persistence.
+	 *
+	 * @return the document library content reference persistence
+	 */
+	public DLContentReferencePersistence getDLContentReferencePersistence() {
+		return dlContentReferencePersistence;
+	}
+
+	/**
+	 * Sets the document library content reference persistence.
+	 *
+	 * @param dlContentReferencePersistence the document library content reference persistence
+	 */
+	public void setDLContentReferencePersistence(
+		DLContentReferencePersistence dlContentReferencePersistence) {
+		this.dlContentReferencePersistence = dlContentReferencePersistence;
+	}
+
 	/**
 	 * Returns the document library file entry local service.
 	 *
@@ -2015,6 +2154,20 @@ public abstract class DLAppHelperLocalServiceBaseImpl
 	protected DLContentLocalService dlContentLocalService;
 	@BeanReference(type = DLContentPersistence.class)
 	protected DLContentPersistence dlContentPersistence;
+	@BeanReference(type = DLContentChunkLocalService.class)
+	protected DLContentChunkLocalService dlContentChunkLocalService;
+	@BeanReference(type = DLContentChunkPersistence.class)
+	protected DLContentChunkPersistence dlContentChunkPersistence;
+	@BeanReference(type = DLContentHashLocalService.class)
+	protected DLContentHashLocalService dlContentHashLocalService;
+	@BeanReference(type = DLContentHashPersistence.class)
+	protected DLContentHashPersistence dlContentHashPersistence;
+	@BeanReference(type = DLContentHashFinder.class)
+	protected DLContentHashFinder dlContentHashFinder;
+	@BeanReference(type = DLContentReferenceLocalService.class)
+	protected DLContentReferenceLocalService dlContentReferenceLocalService;
+	@BeanReference(type = DLContentReferencePersistence.class)
+	protected DLContentReferencePersistence dlContentReferencePersistence;
 	@BeanReference(type = DLFileEntryLocalService.class)
 	protected DLFileEntryLocalService dlFileEntryLocalService;
 	@BeanReference(type = DLFileEntryService.class)
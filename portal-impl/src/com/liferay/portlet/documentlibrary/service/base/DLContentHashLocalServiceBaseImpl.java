@@ -0,0 +1,1296 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.base;
+
+import com.liferay.counter.service.CounterLocalService;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.bean.IdentifiableBean;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdate;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdateFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.model.PersistedModel;
+import com.liferay.portal.service.BaseLocalServiceImpl;
+import com.liferay.portal.service.PersistedModelLocalServiceRegistry;
+import com.liferay.portal.service.ResourceLocalService;
+import com.liferay.portal.service.UserLocalService;
+import com.liferay.portal.service.UserService;
+import com.liferay.portal.service.persistence.UserFinder;
+import com.liferay.portal.service.persistence.UserPersistence;
+
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.portlet.documentlibrary.service.DLAppHelperLocalService;
+import com.liferay.portlet.documentlibrary.service.DLAppLocalService;
+import com.liferay.portlet.documentlibrary.service.DLAppService;
+import com.liferay.portlet.documentlibrary.service.DLContentChunkLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentHashLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentReferenceLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryMetadataLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryService;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryTypeLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryTypeService;
+import com.liferay.portlet.documentlibrary.service.DLFileRankLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileShortcutLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileShortcutService;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionService;
+import com.liferay.portlet.documentlibrary.service.DLFolderLocalService;
+import com.liferay.portlet.documentlibrary.service.DLFolderService;
+import com.liferay.portlet.documentlibrary.service.DLSyncLocalService;
+import com.liferay.portlet.documentlibrary.service.DLSyncService;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentChunkPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentHashFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentHashPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLContentReferencePersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryMetadataPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryTypeFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryTypePersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileRankFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileRankPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileShortcutPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFileVersionPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFolderFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLFolderPersistence;
+import com.liferay.portlet.documentlibrary.service.persistence.DLSyncFinder;
+import com.liferay.portlet.documentlibrary.service.persistence.DLSyncPersistence;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * The base implementation of the document library content hash local service.
+ *
+ * <p>
+ * This implementation exists only as a container for the default service methods generated by ServiceBuilder. All custom service methods should be put in {@link com.liferay.portlet.documentlibrary.service.impl.DLContentHashLocalServiceImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see com.liferay.portlet.documentlibrary.service.impl.DLContentHashLocalServiceImpl
+ * @see com.liferay.portlet.documentlibrary.service.DLContentHashLocalServiceUtil
+ * @generated
+ */
+public abstract class DLContentHashLocalServiceBaseImpl
+	extends BaseLocalServiceImpl implements DLContentHashLocalService,
+		IdentifiableBean {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link com.liferay.portlet.documentlibrary.service.DLContentHashLocalServiceUtil} to access the document library content hash local service.
+	 */
+
+	/**
+	 * Adds the document library content hash to the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param dlContentHash the document library content hash
+	 * @return the document library content hash that was added
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	public DLContentHash addDLContentHash(DLContentHash dlContentHash)
+		throws SystemException {
+		dlContentHash.setNew(true);
+
+		return dlContentHashPersistence.update(dlContentHash, false);
+	}
+
+	/**
+	 * Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	 *
+	 * @param contentHashId the primary key for the new document library content hash
+	 * @return the new document library content hash
+	 */
+	public DLContentHash createDLContentHash(long contentHashId) {
+		return dlContentHashPersistence.create(contentHashId);
+	}
+
+	/**
+	 * Deletes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param contentHashId the primary key of the document library content hash
+	 * @return the document library content hash that was removed
+	 * @throws PortalException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	public DLContentHash deleteDLContentHash(long contentHashId)
+		throws PortalException, SystemException {
+		return dlContentHashPersistence.remove(contentHashId);
+	}
+
+	/**
+	 * Deletes the document library content hash from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param dlContentHash the document library content hash
+	 * @return the document library content hash that was removed
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	public DLContentHash deleteDLContentHash(DLContentHash dlContentHash)
+		throws SystemException {
+		return dlContentHashPersistence.remove(dlContentHash);
+	}
+
+	public DynamicQuery dynamicQuery() {
+		Class<?> clazz = getClass();
+
+		return DynamicQueryFactoryUtil.forClass(DLContentHash.class,
+			clazz.getClassLoader());
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns the matching rows.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the matching rows
+	 * @throws SystemException if a system exception occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	public List dynamicQuery(DynamicQuery dynamicQuery)
+		throws SystemException {
+		return dlContentHashPersistence.findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns a range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @return the range of matching rows
+	 * @throws SystemException if a system exception occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	public List dynamicQuery(DynamicQuery dynamicQuery, int start, int end)
+		throws SystemException {
+		return dlContentHashPersistence.findWithDynamicQuery(dynamicQuery,
+			start, end);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching rows
+	 * @throws SystemException if a system exception occurred
+	 */
+	@SuppressWarnings("rawtypes")
+	public List dynamicQuery(DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		return dlContentHashPersistence.findWithDynamicQuery(dynamicQuery,
+			start, end, orderByComparator);
+	}
+
+	/**
+	 * Returns the number of rows that match the dynamic query.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the number of rows that match the dynamic query
+	 * @throws SystemException if a system exception occurred
+	 */
+	public long dynamicQueryCount(DynamicQuery dynamicQuery)
+		throws SystemException {
+		return dlContentHashPersistence.countWithDynamicQuery(dynamicQuery);
+	}
+
+	public DLContentHash fetchDLContentHash(long contentHashId)
+		throws SystemException {
+		return dlContentHashPersistence.fetchByPrimaryKey(contentHashId);
+	}
+
+	/**
+	 * Returns the document library content hash with the primary key.
+	 *
+	 * @param contentHashId the primary key of the document library content hash
+	 * @return the document library content hash
+	 * @throws PortalException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash getDLContentHash(long contentHashId)
+		throws PortalException, SystemException {
+		return dlContentHashPersistence.findByPrimaryKey(contentHashId);
+	}
+
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj)
+		throws PortalException, SystemException {
+		return dlContentHashPersistence.findByPrimaryKey(primaryKeyObj);
+	}
+
+	/**
+	 * Returns a range of all the document library content hashs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content hashs
+	 * @param end the upper bound of the range of document library content hashs (not inclusive)
+	 * @return the range of document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentHash> getDLContentHashs(int start, int end)
+		throws SystemException {
+		return dlContentHashPersistence.findAll(start, end);
+	}
+
+	/**
+	 * Returns the number of document library content hashs.
+	 *
+	 * @return the number of document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int getDLContentHashsCount() throws SystemException {
+		return dlContentHashPersistence.countAll();
+	}
+
+	/**
+	 * Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	 *
+	 * @param dlContentHash the document library content hash
+	 * @return the document library content hash that was updated
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	public DLContentHash updateDLContentHash(DLContentHash dlContentHash)
+		throws SystemException {
+		return updateDLContentHash(dlContentHash, true);
+	}
+
+	/**
+	 * Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	 *
+	 * @param dlContentHash the document library content hash
+	 * @param merge whether to merge the document library content hash with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	 * @return the document library content hash that was updated
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	public DLContentHash updateDLContentHash(DLContentHash dlContentHash,
+		boolean merge) throws SystemException {
+		dlContentHash.setNew(false);
+
+		return dlContentHashPersistence.update(dlContentHash, merge);
+	}
+
+	/**
+	 * Returns the d l app local service.
+	 *
+	 * @return the d l app local service
+	 */
+	public DLAppLocalService getDLAppLocalService() {
+		return dlAppLocalService;
+	}
+
+	/**
+	 * Sets the d l app local service.
+	 *
+	 * @param dlAppLocalService the d l app local service
+	 */
+	public void setDLAppLocalService(DLAppLocalService dlAppLocalService) {
+		this.dlAppLocalService = dlAppLocalService;
+	}
+
+	/**
+	 * Returns the d l app remote service.
+	 *
+	 * @return the d l app remote service
+	 */
+	public DLAppService getDLAppService() {
+		return dlAppService;
+	}
+
+	/**
+	 * Sets the d l app remote service.
+	 *
+	 * @param dlAppService the d l app remote service
+	 */
+	public void setDLAppService(DLAppService dlAppService) {
+		this.dlAppService = dlAppService;
+	}
+
+	/**
+	 * Returns the d l app helper local service.
+	 *
+	 * @return the d l app helper local service
+	 */
+	public DLAppHelperLocalService getDLAppHelperLocalService() {
+		return dlAppHelperLocalService;
+	}
+
+	/**
+	 * Sets the d l app helper local service.
+	 *
+	 * @param dlAppHelperLocalService the d l app helper local service
+	 */
+	public void setDLAppHelperLocalService(
+		DLAppHelperLocalService dlAppHelperLocalService) {
+		this.dlAppHelperLocalService = dlAppHelperLocalService;
+	}
+
+	/**
+	 * Returns the document library content local service.
+	 *
+	 * @return the document library content local service
+	 */
+	public DLContentLocalService getDLContentLocalService() {
+		return dlContentLocalService;
+	}
+
+	/**
+	 * Sets the document library content local service.
+	 *
+	 * @param dlContentLocalService the document library content local service
+	 */
+	public void setDLContentLocalService(
+		DLContentLocalService dlContentLocalService) {
+		this.dlContentLocalService = dlContentLocalService;
+	}
+
+	/**
+	 * Returns the document library content persistence.
+	 *
+	 * @return the document library content persistence
+	 */
+	public DLContentPersistence getDLContentPersistence() {
+		return dlContentPersistence;
+	}
+
+	/**
+	 * Sets the document library content persistence.
+	 *
+	 * @param dlContentPersistence the document library content persistence
+	 */
+	public void setDLContentPersistence(
+		DLContentPersistence dlContentPersistence) {
+		this.dlContentPersistence = dlContentPersistence;
+	}
+
+	/**
+	 * Returns the document library content chunk local service.
+	 *
+	 * @return the document library content chunk local service
+	 */
+	public DLContentChunkLocalService getDLContentChunkLocalService() {
+		return dlContentChunkLocalService;
+	}
+
+	/**
+	 * Sets the document library content chunk local service.
+	 *
+	 * @param dlContentChunkLocalService the document library content chunk local service
+	 */
+	public void setDLContentChunkLocalService(
+		DLContentChunkLocalService dlContentChunkLocalService) {
+		this.dlContentChunkLocalService = dlContentChunkLocalService;
+	}
+
+	/**
+	 * Returns the document library content chunk persistence.
+	 *
+	 * @return the document library content chunk persistence
+	 */
+	public DLContentChunkPersistence getDLContentChunkPersistence() {
+		return dlContentChunkPersistence;
+	}
+
+	/**
+	 * Sets the document library content chunk persistence.
+	 *
+	 * @param dlContentChunkPersistence the document library content chunk persistence
+	 */
+	public void setDLContentChunkPersistence(
+		DLContentChunkPersistence dlContentChunkPersistence) {
+		this.dlContentChunkPersistence = dlContentChunkPersistence;
+	}
+
+	/**
+	 * Returns the document library content hash local service.
+	 *
+	 * @return the document library content hash local service
+	 */
+	public DLContentHashLocalService getDLContentHashLocalService() {
+		return dlContentHashLocalService;
+	}
+
+	/**
+	 * Sets the document library content hash local service.
+	 *
+	 * @param dlContentHashLocalService the document library content hash local service
+	 */
+	public void setDLContentHashLocalService(
+		DLContentHashLocalService dlContentHashLocalService) {
+		this.dlContentHashLocalService = dlContentHashLocalService;
+	}
+
+	/**
+	 * Returns the document library content hash persistence.
+	 *
+	 * @return the document library content hash persistence
+	 */
+	public DLContentHashPersistence getDLContentHashPersistence() {
+		return dlContentHashPersistence;
+	}
+
+	/**
+	 * Sets the document library content hash persistence.
+	 *
+	 * @param dlContentHashPersistence the document library content hash persistence
+	 */
+	public void setDLContentHashPersistence(
+		DLContentHashPersistence dlContentHashPersistence) {
+		this.dlContentHashPersistence = dlContentHashPersistence;
+	}
+
+	/**
+	 * Returns the document library content hash finder.
+	 *
+	 * @return the document library content hash finder
+	 */
+	public DLContentHashFinder getDLContentHashFinder() {
+		return dlContentHashFinder;
+	}
+
+	/**
+	 * Sets the document library content hash finder.
+	 *
+	 * @param dlContentHashFinder the document library content hash finder
+	 */
+	public void setDLContentHashFinder(DLContentHashFinder dlContentHashFinder) {
+		this.dlContentHashFinder = dlContentHashFinder;
+	}
+
+	/**
+	 * Returns the document library content reference local service.
+	 *
+	 * @return the document library content reference local service
+	 */
+	public DLContentReferenceLocalService getDLContentReferenceLocalService() {
+		return dlContentReferenceLocalService;
+	}
+
+	/**
+	 * Sets the document library content reference local service.
+	 *
+	 * @param dlContentReferenceLocalService the document library content reference local service
+	 */
+	public void setDLContentReferenceLocalService(
+		DLContentReferenceLocalService dlContentReferenceLocalService) {
+		this.dlContentReferenceLocalService = dlContentReferenceLocalService;
+	}
+
+	/**
+	 * Returns the document library content reference persistence.
+	 *
+	 * @return the document library content reference persistence
+	 */
+	public DLContentReferencePersistence getDLContentReferencePersistence() {
+		return dlContentReferencePersistence;
+	}
+
+	/**
+	 * Sets the document library content reference persistence.
+	 *
+	 * @param dlContentReferencePersistence the document library content reference persistence
+	 */
+	public void setDLContentReferencePersistence(
+		DLContentReferencePersistence dlContentReferencePersistence) {
+		this.dlContentReferencePersistence = dlContentReferencePersistence;
+	}
+
+	/**
+	 * Returns the document library file entry local service.
+	 *
+	 * @return the document library file entry local service
+	 */
+	public DLFileEntryLocalService getDLFileEntryLocalService() {
+		return dlFileEntryLocalService;
+	}
+
+	/**
+	 * Sets the document library file entry local service.
+	 *
+	 * @param dlFileEntryLocalService the document library file entry local service
+	 */
+	public void setDLFileEntryLocalService(
+		DLFileEntryLocalService dlFileEntryLocalService) {
+		this.dlFileEntryLocalService = dlFileEntryLocalService;
+	}
+
+	/**
+	 * Returns the document library file entry remote service.
+	 *
+	 * @return the document library file entry remote service
+	 */
+	public DLFileEntryService getDLFileEntryService() {
+		return dlFileEntryService;
+	}
+
+	/**
+	 * Sets the document library file entry remote service.
+	 *
+	 * @param dlFileEntryService the document library file entry remote service
+	 */
+	public void setDLFileEntryService(DLFileEntryService dlFileEntryService) {
+		this.dlFileEntryService = dlFileEntryService;
+	}
+
+	/**
+	 * Returns the document library file entry persistence.
+	 *
+	 * @return the document library file entry persistence
+	 */
+	public DLFileEntryPersistence getDLFileEntryPersistence() {
+		return dlFileEntryPersistence;
+	}
+
+	/**
+	 * Sets the document library file entry persistence.
+	 *
+	 * @param dlFileEntryPersistence the document library file entry persistence
+	 */
+	public void setDLFileEntryPersistence(
+		DLFileEntryPersistence dlFileEntryPersistence) {
+		this.dlFileEntryPersistence = dlFileEntryPersistence;
+	}
+
+	/**
+	 * Returns the document library file entry finder.
+	 *
+	 * @return the document library file entry finder
+	 */
+	public DLFileEntryFinder getDLFileEntryFinder() {
+		return dlFileEntryFinder;
+	}
+
+	/**
+	 * Sets the document library file entry finder.
+	 *
+	 * @param dlFileEntryFinder the document library file entry finder
+	 */
+	public void setDLFileEntryFinder(DLFileEntryFinder dlFileEntryFinder) {
+		this.dlFileEntryFinder = dlFileEntryFinder;
+	}
+
+	/**
+	 * Returns the document library file entry metadata local service.
+	 *
+	 * @return the document library file entry metadata local service
+	 */
+	public DLFileEntryMetadataLocalService getDLFileEntryMetadataLocalService() {
+		return dlFileEntryMetadataLocalService;
+	}
+
+	/**
+	 * Sets the document library file entry metadata local service.
+	 *
+	 * @param dlFileEntryMetadataLocalService the document library file entry metadata local service
+	 */
+	public void setDLFileEntryMetadataLocalService(
+		DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService) {
+		this.dlFileEntryMetadataLocalService = dlFileEntryMetadataLocalService;
+	}
+
+	/**
+	 * Returns the document library file entry metadata persistence.
+	 *
+	 * @return the document library file entry metadata persistence
+	 */
+	public DLFileEntryMetadataPersistence getDLFileEntryMetadataPersistence() {
+		return dlFileEntryMetadataPersistence;
+	}
+
+	/**
+	 * Sets the document library file entry metadata persistence.
+	 *
+	 * @param dlFileEntryMetadataPersistence the document library file entry metadata persistence
+	 */
+	public void setDLFileEntryMetadataPersistence(
+		DLFileEntryMetadataPersistence dlFileEntryMetadataPersistence) {
+		this.dlFileEntryMetadataPersistence = dlFileEntryMetadataPersistence;
+	}
+
+	/**
+	 * Returns the document library file entry type local service.
+	 *
+	 * @return the document library file entry type local service
+	 */
+	public DLFileEntryTypeLocalService getDLFileEntryTypeLocalService() {
+		return dlFileEntryTypeLocalService;
+	}
+
+	/**
+	 * Sets the document library file entry type local service.
+	 *
+	 * @param dlFileEntryTypeLocalService the document library file entry type local service
+	 */
+	public void setDLFileEntryTypeLocalService(
+		DLFileEntryTypeLocalService dlFileEntryTypeLocalService) {
+		this.dlFileEntryTypeLocalService = dlFileEntryTypeLocalService;
+	}
+
+	/**
+	 * Returns the document library file entry type remote service.
+	 *
+	 * @return the document library file entry type remote service
+	 */
+	public DLFileEntryTypeService getDLFileEntryTypeService() {
+		return dlFileEntryTypeService;
+	}
+
+	/**
+	 * Sets the document library file entry type remote service.
+	 *
+	 * @param dlFileEntryTypeService the document library file entry type remote service
+	 */
+	public void setDLFileEntryTypeService(
+		DLFileEntryTypeService dlFileEntryTypeService) {
+		this.dlFileEntryTypeService = dlFileEntryTypeService;
+	}
+
+	/**
+	 * Returns the document library file entry type persistence.
+	 *
+	 * @return the document library file entry type persistence
+	 */
+	public DLFileEntryTypePersistence getDLFileEntryTypePersistence() {
+		return dlFileEntryTypePersistence;
+	}
+
+	/**
+	 * Sets the document library file entry type persistence.
+	 *
+	 * @param dlFileEntryTypePersistence the document library file entry type persistence
+	 */
+	public void setDLFileEntryTypePersistence(
+		DLFileEntryTypePersistence dlFileEntryTypePersistence) {
+		this.dlFileEntryTypePersistence = dlFileEntryTypePersistence;
+	}
+
+	/**
+	 * Returns the document library file entry type finder.
+	 *
+	 * @return the document library file entry type finder
+	 */
+	public DLFileEntryTypeFinder getDLFileEntryTypeFinder() {
+		return dlFileEntryTypeFinder;
+	}
+
+	/**
+	 * Sets the document library file entry type finder.
+	 *
+	 * @param dlFileEntryTypeFinder the document library file entry type finder
+	 */
+	public void setDLFileEntryTypeFinder(
+		DLFileEntryTypeFinder dlFileEntryTypeFinder) {
+		this.dlFileEntryTypeFinder = dlFileEntryTypeFinder;
+	}
+
+	/**
+	 * Returns the document library file rank local service.
+	 *
+	 * @return the document library file rank local service
+	 */
+	public DLFileRankLocalService getDLFileRankLocalService() {
+		return dlFileRankLocalService;
+	}
+
+	/**
+	 * Sets the document library file rank local service.
+	 *
+	 * @param dlFileRankLocalService the document library file rank local service
+	 */
+	public void setDLFileRankLocalService(
+		DLFileRankLocalService dlFileRankLocalService) {
+		this.dlFileRankLocalService = dlFileRankLocalService;
+	}
+
+	/**
+	 * Returns the document library file rank persistence.
+	 *
+	 * @return the document library file rank persistence
+	 */
+	public DLFileRankPersistence getDLFileRankPersistence() {
+		return dlFileRankPersistence;
+	}
+
+	/**
+	 * Sets the document library file rank persistence.
+	 *
+	 * @param dlFileRankPersistence the document library file rank persistence
+	 */
+	public void setDLFileRankPersistence(
+		DLFileRankPersistence dlFileRankPersistence) {
+		this.dlFileRankPersistence = dlFileRankPersistence;
+	}
+
+	/**
+	 * Returns the document library file rank finder.
+	 *
+	 * @return the document library file rank finder
+	 */
+	public DLFileRankFinder getDLFileRankFinder() {
+		return dlFileRankFinder;
+	}
+
+	/**
+	 * Sets the document library file rank finder.
+	 *
+	 * @param dlFileRankFinder the document library file rank finder
+	 */
+	public void setDLFileRankFinder(DLFileRankFinder dlFileRankFinder) {
+		this.dlFileRankFinder = dlFileRankFinder;
+	}
+
+	/**
+	 * Returns the document library file shortcut local service.
+	 *
+	 * @return the document library file shortcut local service
+	 */
+	public DLFileShortcutLocalService getDLFileShortcutLocalService() {
+		return dlFileShortcutLocalService;
+	}
+
+	/**
+	 * Sets the document library file shortcut local service.
+	 *
+	 * @param dlFileShortcutLocalService the document library file shortcut local service
+	 */
+	public void setDLFileShortcutLocalService(
+		DLFileShortcutLocalService dlFileShortcutLocalService) {
+		this.dlFileShortcutLocalService = dlFileShortcutLocalService;
+	}
+
+	/**
+	 * Returns the document library file shortcut remote service.
+	 *
+	 * @return the document library file shortcut remote service
+	 */
+	public DLFileShortcutService getDLFileShortcutService() {
+		return dlFileShortcutService;
+	}
+
+	/**
+	 * Sets the document library file shortcut remote service.
+	 *
+	 * @param dlFileShortcutService the document library file shortcut remote service
+	 */
+	public void setDLFileShortcutService(
+		DLFileShortcutService dlFileShortcutService) {
+		this.dlFileShortcutService = dlFileShortcutService;
+	}
+
+	/**
+	 * Returns the document library file shortcut persistence.
+	 *
+	 * @return the document library file shortcut persistence
+	 */
+	public DLFileShortcutPersistence getDLFileShortcutPersistence() {
+		return dlFileShortcutPersistence;
+	}
+
+	/**
+	 * Sets the document library file shortcut persistence.
+	 *
+	 * @param dlFileShortcutPersistence the document library file shortcut persistence
+	 */
+	public void setDLFileShortcutPersistence(
+		DLFileShortcutPersistence dlFileShortcutPersistence) {
+		this.dlFileShortcutPersistence = dlFileShortcutPersistence;
+	}
+
+	/**
+	 * Returns the document library file version local service.
+	 *
+	 * @return the document library file version local service
+	 */
+	public DLFileVersionLocalService getDLFileVersionLocalService() {
+		return dlFileVersionLocalService;
+	}
+
+	/**
+	 * Sets the document library file version local service.
+	 *
+	 * @param dlFileVersionLocalService the document library file version local service
+	 */
+	public void setDLFileVersionLocalService(
+		DLFileVersionLocalService dlFileVersionLocalService) {
+		this.dlFileVersionLocalService = dlFileVersionLocalService;
+	}
+
+	/**
+	 * Returns the document library file version remote service.
+	 *
+	 * @return the document library file version remote service
+	 */
+	public DLFileVersionService getDLFileVersionService() {
+		return dlFileVersionService;
+	}
+
+	/**
+	 * Sets the document library file version remote service.
+	 *
+	 * @param dlFileVersionService the document library file version remote service
+	 */
+	public void setDLFileVersionService(
+		DLFileVersionService dlFileVersionService) {
+		this.dlFileVersionService = dlFileVersionService;
+	}
+
+	/**
+	 * Returns the document library file version persistence.
+	 *
+	 * @return the document library file version persistence
+	 */
+	public DLFileVersionPersistence getDLFileVersionPersistence() {
+		return dlFileVersionPersistence;
+	}
+
+	/**
+	 * Sets the document library file version persistence.
+	 *
+	 * @param dlFileVersionPersistence the document library file version persistence
+	 */
+	public void setDLFileVersionPersistence(
+		DLFileVersionPersistence dlFileVersionPersistence) {
+		this.dlFileVersionPersistence = dlFileVersionPersistence;
+	}
+
+	/**
+	 * Returns the document library folder local service.
+	 *
+	 * @return the document library folder local service
+	 */
+	public DLFolderLocalService getDLFolderLocalService() {
+		return dlFolderLocalService;
+	}
+
+	/**
+	 * Sets the document library folder local service.
+	 *
+	 * @param dlFolderLocalService the document library folder local service
+	 */
+	public void setDLFolderLocalService(
+		DLFolderLocalService dlFolderLocalService) {
+		this.dlFolderLocalService = dlFolderLocalService;
+	}
+
+	/**
+	 * Returns the document library folder remote service.
+	 *
+	 * @return the document library folder remote service
+	 */
+	public DLFolderService getDLFolderService() {
+		return dlFolderService;
+	}
+
+	/**
+	 * Sets the document library folder remote service.
+	 *
+	 * @param dlFolderService the document library folder remote service
+	 */
+	public void setDLFolderService(DLFolderService dlFolderService) {
+		this.dlFolderService = dlFolderService;
+	}
+
+	/**
+	 * Returns the document library folder persistence.
+	 *
+	 * @return the document library folder persistence
+	 */
+	public DLFolderPersistence getDLFolderPersistence() {
+		return dlFolderPersistence;
+	}
+
+	/**
+	 * Sets the document library folder persistence.
+	 *
+	 * @param dlFolderPersistence the document library folder persistence
+	 */
+	public void setDLFolderPersistence(DLFolderPersistence dlFolderPersistence) {
+		this.dlFolderPersistence = dlFolderPersistence;
+	}
+
+	/**
+	 * Returns the document library folder finder.
+	 *
+	 * @return the document library folder finder
+	 */
+	public DLFolderFinder getDLFolderFinder() {
+		return dlFolderFinder;
+	}
+
+	/**
+	 * Sets the document library folder finder.
+	 *
+	 * @param dlFolderFinder the document library folder finder
+	 */
+	public void setDLFolderFinder(DLFolderFinder dlFolderFinder) {
+		this.dlFolderFinder = dlFolderFinder;
+	}
+
+	/**
+	 * Returns the d l sync local service.
+	 *
+	 * @return the d l sync local service
+	 */
+	public DLSyncLocalService getDLSyncLocalService() {
+		return dlSyncLocalService;
+	}
+
+	/**
+	 * Sets the d l sync local service.
+	 *
+	 * @param dlSyncLocalService the d l sync local service
+	 */
+	public void setDLSyncLocalService(DLSyncLocalService dlSyncLocalService) {
+		this.dlSyncLocalService = dlSyncLocalService;
+	}
+
+	/**
+	 * Returns the d l sync remote service.
+	 *
+	 * @return the d l sync remote service
+	 */
+	public DLSyncService getDLSyncService() {
+		return dlSyncService;
+	}
+
+	/**
+	 * Sets the d l sync remote service.
+	 *
+	 * @param dlSyncService the d l sync remote service
+	 */
+	public void setDLSyncService(DLSyncService dlSyncService) {
+		this.dlSyncService = dlSyncService;
+	}
+
+	/**
+	 * Returns the d l sync persistence.
+	 *
+	 * @return the d l sync persistence
+	 */
+	public DLSyncPersistence getDLSyncPersistence() {
+		return dlSyncPersistence;
+	}
+
+	/**
+	 * Sets the d l sync persistence.
+	 *
+	 * @param dlSyncPersistence the d l sync persistence
+	 */
+	public void setDLSyncPersistence(DLSyncPersistence dlSyncPersistence) {
+		this.dlSyncPersistence = dlSyncPersistence;
+	}
+
+	/**
+	 * Returns the d l sync finder.
+	 *
+	 * @return the d l sync finder
+	 */
+	public DLSyncFinder getDLSyncFinder() {
+		return dlSyncFinder;
+	}
+
+	/**
+	 * Sets the d l sync finder.
+	 *
+	 * @param dlSyncFinder the d l sync finder
+	 */
+	public void setDLSyncFinder(DLSyncFinder dlSyncFinder) {
+		this.dlSyncFinder = dlSyncFinder;
+	}
+
+	/**
+	 * Returns the counter local service.
+	 *
+	 * @return the counter local service
+	 */
+	public CounterLocalService getCounterLocalService() {
+		return counterLocalService;
+	}
+
+	/**
+	 * Sets the counter local service.
+	 *
+	 * @param counterLocalService the counter local service
+	 */
+	public void setCounterLocalService(CounterLocalService counterLocalService) {
+		this.counterLocalService = counterLocalService;
+	}
+
+	/**
+	 * Returns the resource local service.
+	 *
+	 * @return the resource local service
+	 */
+	public ResourceLocalService getResourceLocalService() {
+		return resourceLocalService;
+	}
+
+	/**
+	 * Sets the resource local service.
+	 *
+	 * @param resourceLocalService the resource local service
+	 */
+	public void setResourceLocalService(
+		ResourceLocalService resourceLocalService) {
+		this.resourceLocalService = resourceLocalService;
+	}
+
+	/**
+	 * Returns the user local service.
+	 *
+	 * @return the user local service
+	 */
+	public UserLocalService getUserLocalService() {
+		return userLocalService;
+	}
+
+	/**
+	 * Sets the user local service.
+	 *
+	 * @param userLocalService the user local service
+	 */
+	public void setUserLocalService(UserLocalService userLocalService) {
+		this.userLocalService = userLocalService;
+	}
+
+	/**
+	 * Returns the user remote service.
+	 *
+	 * @return the user remote service
+	 */
+	public UserService getUserService() {
+		return userService;
+	}
+
+	/**
+	 * Sets the user remote service.
+	 *
+	 * @param userService the user remote service
+	 */
+	public void setUserService(UserService userService) {
+		this.userService = userService;
+	}
+
+	/**
+	 * Returns the user persistence.
+	 *
+	 * @return the user persistence
+	 */
+	public UserPersistence getUserPersistence() {
+		return userPersistence;
+	}
+
+	/**
+	 * Sets the user persistence.
+	 *
+	 * @param userPersistence the user persistence
+	 */
+	public void setUserPersistence(UserPersistence userPersistence) {
+		this.userPersistence = userPersistence;
+	}
+
+	/**
+	 * Returns the user finder.
+	 *
+	 * @return the user finder
+	 */
+	public UserFinder getUserFinder() {
+		return userFinder;
+	}
+
+	/**
+	 * Sets the user finder.
+	 *
+	 * @param userFinder the user finder
+	 */
+	public void setUserFinder(UserFinder userFinder) {
+		this.userFinder = userFinder;
+	}
+
+	public void afterPropertiesSet() {
+		persistedModelLocalServiceRegistry.register("com.liferay.portlet.documentlibrary.model.DLContentHash",
+			dlContentHashLocalService);
+	}
+
+	public void destroy() {
+		persistedModelLocalServiceRegistry.unregister(
+			"com.liferay.portlet.documentlibrary.model.DLContentHash");
+	}
+
+	/**
+	 * Returns the Spring bean ID for this bean.
+	 *
+	 * @return the Spring bean ID for this bean
+	 */
+	public String getBeanIdentifier() {
+		return _beanIdentifier;
+	}
+
+	/**
+	 * Sets the Spring bean ID for this bean.
+	 *
+	 * @param beanIdentifier the Spring bean ID for this bean
+	 */
+	public void setBeanIdentifier(String beanIdentifier) {
+		_beanIdentifier = beanIdentifier;
+	}
+
+	protected Class<?> getModelClass() {
+		return DLContentHash.class;
+	}
+
+	protected String getModelClassName() {
+		return DLContentHash.class.getName();
+	}
+
+	/**
+	 * Performs an SQL query.
+	 *
+	 * @param sql the sql query
+	 */
+	protected void runSQL(String sql) throws SystemException {
+		try {
+			DataSource dataSource = dlContentHashPersistence.getDataSource();
+
+			SqlUpdate sqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(dataSource,
+					sql, new int[0]);
+
+			sqlUpdate.update();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+	}
+
+	@BeanReference(type = DLAppLocalService.class)
+	protected DLAppLocalService dlAppLocalService;
+	@BeanReference(type = DLAppService.class)
+	protected DLAppService dlAppService;
+	@BeanReference(type = DLAppHelperLocalService.class)
+	protected DLAppHelperLocalService dlAppHelperLocalService;
+	@BeanReference(type = DLContentLocalService.class)
+	protected DLContentLocalService dlContentLocalService;
+	@BeanReference(type = DLContentPersistence.class)
+	protected DLContentPersistence dlContentPersistence;
+	@BeanReference(type = DLContentChunkLocalService.class)
+	protected DLContentChunkLocalService dlContentChunkLocalService;
+	@BeanReference(type = DLContentChunkPersistence.class)
+	protected DLContentChunkPersistence dlContentChunkPersistence;
+	@BeanReference(type = DLContentHashLocalService.class)
+	protected DLContentHashLocalService dlContentHashLocalService;
+	@BeanReference(type = DLContentHashPersistence.class)
+	protected DLContentHashPersistence dlContentHashPersistence;
+	@BeanReference(type = DLContentHashFinder.class)
+	protected DLContentHashFinder dlContentHashFinder;
+	@BeanReference(type = DLContentReferenceLocalService.class)
+	protected DLContentReferenceLocalService dlContentReferenceLocalService;
+	@BeanReference(type = DLContentReferencePersistence.class)
+	protected DLContentReferencePersistence dlContentReferencePersistence;
+	@BeanReference(type = DLFileEntryLocalService.class)
+	protected DLFileEntryLocalService dlFileEntryLocalService;
+	@BeanReference(type = DLFileEntryService.class)
+	protected DLFileEntryService dlFileEntryService;
+	@BeanReference(type = DLFileEntryPersistence.class)
+	protected DLFileEntryPersistence dlFileEntryPersistence;
+	@BeanReference(type = DLFileEntryFinder.class)
+	protected DLFileEntryFinder dlFileEntryFinder;
+	@BeanReference(type = DLFileEntryMetadataLocalService.class)
+	protected DLFileEntryMetadataLocalService dlFileEntryMetadataLocalService;
+	@BeanReference(type = DLFileEntryMetadataPersistence.class)
+	protected DLFileEntryMetadataPersistence dlFileEntryMetadataPersistence;
+	@BeanReference(type = DLFileEntryTypeLocalService.class)
+	protected DLFileEntryTypeLocalService dlFileEntryTypeLocalService;
+	@BeanReference(type = DLFileEntryTypeService.class)
+	protected DLFileEntryTypeService dlFileEntryTypeService;
+	@BeanReference(type = DLFileEntryTypePersistence.class)
+	protected DLFileEntryTypePersistence dlFileEntryTypePersistence;
+	@BeanReference(type = DLFileEntryTypeFinder.class)
+	protected DLFileEntryTypeFinder dlFileEntryTypeFinder;
+	@BeanReference(type = DLFileRankLocalService.class)
+	protected DLFileRankLocalService dlFileRankLocalService;
+	@BeanReference(type = DLFileRankPersistence.class)
+	protected DLFileRankPersistence dlFileRankPersistence;
+	@BeanReference(type = DLFileRankFinder.class)
+	protected DLFileRankFinder dlFileRankFinder;
+	@BeanReference(type = DLFileShortcutLocalService.class)
+	protected DLFileShortcutLocalService dlFileShortcutLocalService;
+	@BeanReference(type = DLFileShortcutService.class)
+	protected DLFileShortcutService dlFileShortcutService;
+	@BeanReference(type = DLFileShortcutPersistence.class)
+	protected DLFileShortcutPersistence dlFileShortcutPersistence;
+	@BeanReference(type = DLFileVersionLocalService.class)
+	protected DLFileVersionLocalService dlFileVersionLocalService;
+	@BeanReference(type = DLFileVersionService.class)
+	protected DLFileVersionService dlFileVersionService;
+	@BeanReference(type = DLFileVersionPersistence.class)
+	protected DLFileVersionPersistence dlFileVersionPersistence;
+	@BeanReference(type = DLFolderLocalService.class)
+	protected DLFolderLocalService dlFolderLocalService;
+	@BeanReference(type = DLFolderService.class)
+	protected DLFolderService dlFolderService;
+	@BeanReference(type = DLFolderPersistence.class)
+	protected DLFolderPersistence dlFolderPersistence;
+	@BeanReference(type = DLFolderFinder.class)
+	protected DLFolderFinder dlFolderFinder;
+	@BeanReference(type = DLSyncLocalService.class)
+	protected DLSyncLocalService dlSyncLocalService;
+	@BeanReference(type = DLSyncService.class)
+	protected DLSyncService dlSyncService;
+	@BeanReference(type = DLSyncPersistence.class)
+	protected DLSyncPersistence dlSyncPersistence;
+	@BeanReference(type = DLSyncFinder.class)
+	protected DLSyncFinder dlSyncFinder;
+	@BeanReference(type = CounterLocalService.class)
+	protected CounterLocalService counterLocalService;
+	@BeanReference(type = ResourceLocalService.class)
+	protected ResourceLocalService resourceLocalService;
+	@BeanReference(type = UserLocalService.class)
+	protected UserLocalService userLocalService;
+	@BeanReference(type = UserService.class)
+	protected UserService userService;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	@BeanReference(type = UserFinder.class)
+	protected UserFinder userFinder;
+	@BeanReference(type = PersistedModelLocalServiceRegistry.class)
+	protected PersistedModelLocalServiceRegistry persistedModelLocalServiceRegistry;
+	private String _beanIdentifier;
+}
\ No newline at end of file
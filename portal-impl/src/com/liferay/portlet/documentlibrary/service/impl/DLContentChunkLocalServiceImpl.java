@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.impl;
+
+import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+import com.liferay.portlet.documentlibrary.service.base.DLContentChunkLocalServiceBaseImpl;
+
+import java.io.InputStream;
+
+import java.util.List;
+
+/**
+ * Stores the content of large files as a sequence of rows of bounded size so
+ * that the content can be written and read without holding all of it in
+ * memory.
+ *
+ * @see DLContentLocalServiceImpl
+ */
+public class DLContentChunkLocalServiceImpl
+	extends DLContentChunkLocalServiceBaseImpl {
+
+	public DLContentChunk addContentChunk(
+			long companyId, long contentId, int chunkIndex,
+			InputStream inputStream, long size)
+		throws SystemException {
+
+		long chunkId = counterLocalService.increment();
+
+		DLContentChunk dlContentChunk = dlContentChunkPersistence.create(
+			chunkId);
+
+		dlContentChunk.setCompanyId(companyId);
+		dlContentChunk.setContentId(contentId);
+		dlContentChunk.setChunkIndex(chunkIndex);
+
+		OutputBlob dataOutputBlob = new OutputBlob(inputStream, size);
+
+		dlContentChunk.setData(dataOutputBlob);
+
+		dlContentChunk.setSize(size);
+
+		dlContentChunkPersistence.update(dlContentChunk, false);
+
+		// Write the chunk right away so that the caller can reuse or close the
+		// input stream before the next chunk is added
+
+		Session session = null;
+
+		try {
+			session = dlContentChunkPersistence.openSession();
+
+			session.flush();
+		}
+		catch (Exception e) {
+			throw dlContentChunkPersistence.processException(e);
+		}
+		finally {
+			dlContentChunkPersistence.closeSession(session);
+		}
+
+		return dlContentChunk;
+	}
+
+	public void deleteContentChunks(long contentId) throws SystemException {
+		dlContentChunkPersistence.removeByContentId(contentId);
+	}
+
+	public List<DLContentChunk> getContentChunks(long contentId)
+		throws SystemException {
+
+		return dlContentChunkPersistence.findByContentId(contentId);
+	}
+
+}
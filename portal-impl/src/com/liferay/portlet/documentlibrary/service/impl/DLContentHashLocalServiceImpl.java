@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.impl;
+
+import com.liferay.portal.kernel.dao.orm.LockMode;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.Isolation;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
+import com.liferay.portal.model.CompanyConstants;
+import com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+import com.liferay.portlet.documentlibrary.NoSuchFileException;
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.service.base.DLContentHashLocalServiceBaseImpl;
+import com.liferay.portlet.documentlibrary.store.ContentAddressedStoreWrapper;
+import com.liferay.portlet.documentlibrary.store.Store;
+import com.liferay.portlet.documentlibrary.store.StoreFactory;
+
+import java.io.File;
+
+/**
+ * Serializes the writes and deletes of the content of each hash of a content
+ * addressed store across transactions and cluster nodes. Every hash has a row
+ * that is locked with a pessimistic lock before its content is written,
+ * referenced, or deleted, and the lock is held until the transaction ends.
+ * The rows are never deleted, so that the lock is never taken on a missing
+ * row. The content of a hash is only written and referenced by the methods of
+ * this service that take the lock, so that the lock, the write, and the
+ * reference are in one transaction even if the caller is not in a
+ * transaction.
+ *
+ * @see com.liferay.portlet.documentlibrary.store.ContentAddressedStoreWrapper
+ */
+public class DLContentHashLocalServiceImpl
+	extends DLContentHashLocalServiceBaseImpl {
+
+	/**
+	 * Adds a reference of the file version to the content of the hash,
+	 * storing the content first if it is not stored yet.
+	 */
+	@Transactional(
+		isolation = Isolation.PORTAL, propagation = Propagation.REQUIRED,
+		rollbackFor = {PortalException.class, SystemException.class})
+	public DLContentReference addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, String hash, byte[] bytes)
+		throws PortalException, SystemException {
+
+		lockContentHash(companyId, hash);
+
+		Store store = StoreFactory.getInstance();
+
+		String contentPath = ContentAddressedStoreWrapper.getContentPath(hash);
+
+		if (!store.hasFile(
+				companyId, CompanyConstants.SYSTEM, contentPath,
+				Store.VERSION_DEFAULT)) {
+
+			store.addFile(
+				companyId, CompanyConstants.SYSTEM, contentPath, bytes);
+		}
+
+		return dlContentReferenceLocalService.addContentReference(
+			companyId, repositoryId, fileName, versionLabel, hash,
+			bytes.length);
+	}
+
+	/**
+	 * Adds a reference of the file version to the content of the hash,
+	 * storing the content first if it is not stored yet.
+	 */
+	@Transactional(
+		isolation = Isolation.PORTAL, propagation = Propagation.REQUIRED,
+		rollbackFor = {PortalException.class, SystemException.class})
+	public DLContentReference addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, String hash, File file)
+		throws PortalException, SystemException {
+
+		lockContentHash(companyId, hash);
+
+		Store store = StoreFactory.getInstance();
+
+		String contentPath = ContentAddressedStoreWrapper.getContentPath(hash);
+
+		if (!store.hasFile(
+				companyId, CompanyConstants.SYSTEM, contentPath,
+				Store.VERSION_DEFAULT)) {
+
+			store.addFile(
+				companyId, CompanyConstants.SYSTEM, contentPath, file);
+		}
+
+		return dlContentReferenceLocalService.addContentReference(
+			companyId, repositoryId, fileName, versionLabel, hash,
+			file.length());
+	}
+
+	/**
+	 * Adds the row of the hash in a new transaction, so that concurrent
+	 * transactions that lock the same hash find it.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public DLContentHash addContentHash(long companyId, String hash)
+		throws SystemException {
+
+		DLContentHash dlContentHash = dlContentHashPersistence.fetchByC_H(
+			companyId, hash, false);
+
+		if (dlContentHash != null) {
+			return dlContentHash;
+		}
+
+		long contentHashId = counterLocalService.increment();
+
+		dlContentHash = dlContentHashPersistence.create(contentHashId);
+
+		dlContentHash.setCompanyId(companyId);
+		dlContentHash.setHash(hash);
+
+		dlContentHashPersistence.update(dlContentHash, false);
+
+		return dlContentHash;
+	}
+
+	/**
+	 * Adds a reference of the file version to the stored content of the hash,
+	 * failing if the content was deleted in the meantime.
+	 */
+	@Transactional(
+		isolation = Isolation.PORTAL, propagation = Propagation.REQUIRED,
+		rollbackFor = {PortalException.class, SystemException.class})
+	public DLContentReference copyContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, String hash, long size)
+		throws PortalException, SystemException {
+
+		lockContentHash(companyId, hash);
+
+		Store store = StoreFactory.getInstance();
+
+		if (!store.hasFile(
+				companyId, CompanyConstants.SYSTEM,
+				ContentAddressedStoreWrapper.getContentPath(hash),
+				Store.VERSION_DEFAULT)) {
+
+			throw new NoSuchFileException(fileName);
+		}
+
+		return dlContentReferenceLocalService.addContentReference(
+			companyId, repositoryId, fileName, versionLabel, hash, size);
+	}
+
+	/**
+	 * Deletes the stored content of the hash if no file references it. This
+	 * is called after the transaction that deleted the references commits,
+	 * and checks the references again while it holds the lock of the hash.
+	 */
+	public void deleteUnreferencedContent(long companyId, String hash)
+		throws PortalException, SystemException {
+
+		DLContentHash dlContentHash = dlContentHashFinder.fetchByC_H(
+			companyId, hash, LockMode.UPGRADE);
+
+		if (dlContentHash == null) {
+			return;
+		}
+
+		int count = dlContentReferencePersistence.countByC_H(companyId, hash);
+
+		if (count > 0) {
+			return;
+		}
+
+		Store store = StoreFactory.getInstance();
+
+		try {
+			store.deleteFile(
+				companyId, CompanyConstants.SYSTEM,
+				ContentAddressedStoreWrapper.getContentPath(hash));
+		}
+		catch (NoSuchFileException nsfe) {
+		}
+	}
+
+	/**
+	 * Locks the hash until the current transaction ends, adding its row if it
+	 * does not exist yet.
+	 */
+	public DLContentHash lockContentHash(long companyId, String hash)
+		throws PortalException, SystemException {
+
+		DLContentHash dlContentHash = dlContentHashPersistence.fetchByC_H(
+			companyId, hash, false);
+
+		if (dlContentHash == null) {
+			try {
+				dlContentHashLocalService.addContentHash(companyId, hash);
+			}
+			catch (Exception e) {
+
+				// Another transaction added the same hash at the same time
+
+				if (_log.isDebugEnabled()) {
+					_log.debug("Unable to add content hash " + hash, e);
+				}
+			}
+		}
+
+		dlContentHash = dlContentHashFinder.fetchByC_H(
+			companyId, hash, LockMode.UPGRADE);
+
+		if (dlContentHash == null) {
+			throw new NoSuchContentHashException(
+				"No content hash exists with the key {companyId=" +
+					companyId + ", hash=" + hash + "}");
+		}
+
+		return dlContentHash;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		DLContentHashLocalServiceImpl.class);
+
+}
@@ -17,6 +17,7 @@ package com.liferay.portlet.documentlibrary.service.impl;
 import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.io.LimitedInputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StreamUtil;
@@ -26,6 +27,9 @@ import com.liferay.portlet.documentlibrary.model.DLContent;
 import com.liferay.portlet.documentlibrary.service.base.DLContentLocalServiceBaseImpl;
 import com.liferay.portlet.documentlibrary.util.comparator.DLContentVersionComparator;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
 import java.util.List;
@@ -65,6 +69,67 @@ public class DLContentLocalServiceImpl extends DLContentLocalServiceBaseImpl {
 		return dlContent;
 	}
 
+	public DLContent addContent(
+			long companyId, long repositoryId, String path, String version,
+			byte[] bytes, int chunkSize)
+		throws SystemException {
+
+		long contentId = counterLocalService.increment();
+
+		int chunkIndex = 0;
+
+		for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+			int length = Math.min(chunkSize, bytes.length - offset);
+
+			UnsyncByteArrayInputStream unsyncByteArrayInputStream =
+				new UnsyncByteArrayInputStream(bytes, offset, length);
+
+			dlContentChunkLocalService.addContentChunk(
+				companyId, contentId, chunkIndex++, unsyncByteArrayInputStream,
+				length);
+		}
+
+		return addChunkedContent(
+			contentId, companyId, repositoryId, path, version, bytes.length);
+	}
+
+	public DLContent addContent(
+			long companyId, long repositoryId, String path, String version,
+			File file, int chunkSize)
+		throws SystemException {
+
+		long contentId = counterLocalService.increment();
+
+		long size = file.length();
+
+		int chunkIndex = 0;
+
+		for (long offset = 0; offset < size; offset += chunkSize) {
+			long length = Math.min(chunkSize, size - offset);
+
+			InputStream inputStream = null;
+
+			try {
+				inputStream = new FileInputStream(file);
+
+				inputStream = new LimitedInputStream(
+					inputStream, offset, length);
+
+				dlContentChunkLocalService.addContentChunk(
+					companyId, contentId, chunkIndex++, inputStream, length);
+			}
+			catch (IOException ioe) {
+				throw new SystemException(ioe);
+			}
+			finally {
+				StreamUtil.cleanUp(inputStream);
+			}
+		}
+
+		return addChunkedContent(
+			contentId, companyId, repositoryId, path, version, size);
+	}
+
 	public DLContent addContent(
 			long companyId, long repositoryId, String path, String version,
 			InputStream inputStream, long size)
@@ -99,14 +164,20 @@ public class DLContentLocalServiceImpl extends DLContentLocalServiceBaseImpl {
 			long companyId, long repositoryId, String path, String version)
 		throws PortalException, SystemException {
 
-		dlContentPersistence.removeByC_R_P_V(
+		DLContent dlContent = dlContentPersistence.removeByC_R_P_V(
 			companyId, repositoryId, path, version);
+
+		dlContentChunkLocalService.deleteContentChunks(
+			dlContent.getContentId());
 	}
 
 	public void deleteContents(long companyId, long repositoryId, String path)
 		throws SystemException {
 
-		dlContentPersistence.removeByC_R_P(companyId, repositoryId, path);
+		List<DLContent> dlContents = dlContentPersistence.findByC_R_P(
+			companyId, repositoryId, path);
+
+		deleteContents(dlContents);
 	}
 
 	public void deleteContentsByDirectory(
@@ -119,8 +190,10 @@ public class DLContentLocalServiceImpl extends DLContentLocalServiceBaseImpl {
 
 		dirName = dirName.concat(StringPool.PERCENT);
 
-		dlContentPersistence.removeByC_R_LikeP(
+		List<DLContent> dlContents = dlContentPersistence.findByC_R_LikeP(
 			companyId, repositoryId, dirName);
+
+		deleteContents(dlContents);
 	}
 
 	public DLContent getContent(long companyId, long repositoryId, String path)
@@ -204,4 +277,36 @@ public class DLContentLocalServiceImpl extends DLContentLocalServiceBaseImpl {
 		}
 	}
 
+	protected DLContent addChunkedContent(
+			long contentId, long companyId, long repositoryId, String path,
+			String version, long size)
+		throws SystemException {
+
+		// The content row is added after its chunks so that the content is
+		// never visible while it is incomplete. Its data column is left empty.
+
+		DLContent dlContent = dlContentPersistence.create(contentId);
+
+		dlContent.setCompanyId(companyId);
+		dlContent.setRepositoryId(repositoryId);
+		dlContent.setPath(path);
+		dlContent.setVersion(version);
+		dlContent.setSize(size);
+
+		dlContentPersistence.update(dlContent, false);
+
+		return dlContent;
+	}
+
+	protected void deleteContents(List<DLContent> dlContents)
+		throws SystemException {
+
+		for (DLContent dlContent : dlContents) {
+			dlContentPersistence.remove(dlContent);
+
+			dlContentChunkLocalService.deleteContentChunks(
+				dlContent.getContentId());
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.impl;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.spring.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.service.base.DLContentReferenceLocalServiceBaseImpl;
+import com.liferay.portlet.documentlibrary.util.DLUtil;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Maps the files of a content addressed store to the hashes of their
+ * content. The number of references to a hash is the number of files that
+ * share its content. Deleting references deletes the content that is no
+ * longer referenced once the transaction commits.
+ *
+ * @see com.liferay.portlet.documentlibrary.store.ContentAddressedStoreWrapper
+ */
+public class DLContentReferenceLocalServiceImpl
+	extends DLContentReferenceLocalServiceBaseImpl {
+
+	public DLContentReference addContentReference(
+			long companyId, long repositoryId, String path, String version,
+			String hash, long size)
+		throws SystemException {
+
+		long referenceId = counterLocalService.increment();
+
+		DLContentReference dlContentReference =
+			dlContentReferencePersistence.create(referenceId);
+
+		dlContentReference.setCompanyId(companyId);
+		dlContentReference.setRepositoryId(repositoryId);
+		dlContentReference.setPath(path);
+		dlContentReference.setVersion(version);
+		dlContentReference.setHash(hash);
+		dlContentReference.setSize(size);
+
+		dlContentReferencePersistence.update(dlContentReference, false);
+
+		return dlContentReference;
+	}
+
+	public DLContentReference deleteContentReference(
+			long companyId, long repositoryId, String path, String version)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			dlContentReferencePersistence.removeByC_R_P_V(
+				companyId, repositoryId, path, version);
+
+		releaseContents(
+			companyId, Collections.singletonList(dlContentReference));
+
+		return dlContentReference;
+	}
+
+	public List<DLContentReference> deleteContentReferences(
+			long companyId, long repositoryId, String path)
+		throws SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			dlContentReferencePersistence.findByC_R_P(
+				companyId, repositoryId, path);
+
+		dlContentReferencePersistence.removeByC_R_P(
+			companyId, repositoryId, path);
+
+		releaseContents(companyId, dlContentReferences);
+
+		return dlContentReferences;
+	}
+
+	public List<DLContentReference> deleteContentReferencesByDirectory(
+			long companyId, long repositoryId, String dirName)
+		throws SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			getContentReferencesByDirectory(companyId, repositoryId, dirName);
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			dlContentReferencePersistence.remove(dlContentReference);
+		}
+
+		releaseContents(companyId, dlContentReferences);
+
+		return dlContentReferences;
+	}
+
+	public DLContentReference fetchContentReference(
+			long companyId, long repositoryId, String path, String version)
+		throws SystemException {
+
+		return dlContentReferencePersistence.fetchByC_R_P_V(
+			companyId, repositoryId, path, version);
+	}
+
+	public DLContentReference fetchLatestContentReference(
+			long companyId, long repositoryId, String path)
+		throws SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			dlContentReferencePersistence.findByC_R_P(
+				companyId, repositoryId, path);
+
+		DLContentReference latestDLContentReference = null;
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			if ((latestDLContentReference == null) ||
+				(DLUtil.compareVersions(
+					dlContentReference.getVersion(),
+					latestDLContentReference.getVersion()) > 0)) {
+
+				latestDLContentReference = dlContentReference;
+			}
+		}
+
+		return latestDLContentReference;
+	}
+
+	public List<DLContentReference> getContentReferences(
+			long companyId, long repositoryId)
+		throws SystemException {
+
+		return dlContentReferencePersistence.findByC_R(companyId, repositoryId);
+	}
+
+	public List<DLContentReference> getContentReferencesByDirectory(
+			long companyId, long repositoryId, String dirName)
+		throws SystemException {
+
+		if (!dirName.endsWith(StringPool.SLASH)) {
+			dirName = dirName.concat(StringPool.SLASH);
+		}
+
+		dirName = dirName.concat(StringPool.PERCENT);
+
+		return dlContentReferencePersistence.findByC_R_LikeP(
+			companyId, repositoryId, dirName);
+	}
+
+	public int getContentReferencesCount(long companyId, String hash)
+		throws SystemException {
+
+		return dlContentReferencePersistence.countByC_H(companyId, hash);
+	}
+
+	public void updateContentReferences(
+			long companyId, long oldRepositoryId, long newRepositoryId,
+			String oldPath, String newPath)
+		throws SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			dlContentReferencePersistence.findByC_R_P(
+				companyId, oldRepositoryId, oldPath);
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			dlContentReference.setRepositoryId(newRepositoryId);
+			dlContentReference.setPath(newPath);
+
+			dlContentReferencePersistence.update(dlContentReference, false);
+		}
+	}
+
+	public DLContentReference updateContentReferenceVersion(
+			long companyId, long repositoryId, String path,
+			String fromVersion, String toVersion)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			dlContentReferencePersistence.findByC_R_P_V(
+				companyId, repositoryId, path, fromVersion);
+
+		dlContentReference.setVersion(toVersion);
+
+		dlContentReferencePersistence.update(dlContentReference, false);
+
+		return dlContentReference;
+	}
+
+	protected void releaseContents(
+		final long companyId, List<DLContentReference> dlContentReferences) {
+
+		Set<String> hashes = new HashSet<String>();
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			hashes.add(dlContentReference.getHash());
+		}
+
+		// Other transactions may still add references to the same content
+		// that this transaction cannot see, so the content is only deleted
+		// after this transaction commits and while the hash is locked
+
+		for (final String hash : hashes) {
+			TransactionCommitCallbackUtil.registerCallback(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						dlContentHashLocalService.deleteUnreferencedContent(
+							companyId, hash);
+
+						return null;
+					}
+
+				});
+		}
+	}
+
+}
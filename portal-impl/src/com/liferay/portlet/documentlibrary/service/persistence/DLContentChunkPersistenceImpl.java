@@ -0,0 +1,1276 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.NoSuchModelException;
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.InstanceFactory;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.ModelListener;
+import com.liferay.portal.service.persistence.BatchSessionUtil;
+import com.liferay.portal.service.persistence.UserPersistence;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentChunkImpl;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentChunkModelImpl;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the document library content chunk service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunkPersistence
+ * @see DLContentChunkUtil
+ * @generated
+ */
+public class DLContentChunkPersistenceImpl extends BasePersistenceImpl<DLContentChunk>
+	implements DLContentChunkPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link DLContentChunkUtil} to access the document library content chunk persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = DLContentChunkImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_CONTENTID =
+		new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED,
+			DLContentChunkImpl.class, FINDER_CLASS_NAME_LIST_WITH_PAGINATION,
+			"findByContentId",
+			new String[] {
+				Long.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 1);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID =
+		new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED,
+			DLContentChunkImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByContentId",
+			new String[] { Long.class.getName() },
+			DLContentChunkModelImpl.CONTENTID_COLUMN_BITMASK, 1);
+	public static final FinderPath FINDER_PATH_COUNT_BY_CONTENTID = new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByContentId",
+			new String[] { Long.class.getName() }, -1, 1);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED,
+			DLContentChunkImpl.class, FINDER_CLASS_NAME_LIST_WITH_PAGINATION,
+			"findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED,
+			DLContentChunkImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+
+	/**
+	 * Caches the document library content chunk in the entity cache if it is enabled.
+	 *
+	 * @param dlContentChunk the document library content chunk
+	 */
+	public void cacheResult(DLContentChunk dlContentChunk) {
+		EntityCacheUtil.putResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkImpl.class, dlContentChunk.getPrimaryKey(),
+			dlContentChunk);
+
+		dlContentChunk.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the document library content chunks in the entity cache if it is enabled.
+	 *
+	 * @param dlContentChunks the document library content chunks
+	 */
+	public void cacheResult(List<DLContentChunk> dlContentChunks) {
+		for (DLContentChunk dlContentChunk : dlContentChunks) {
+			if (EntityCacheUtil.getResult(
+						DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentChunkImpl.class, dlContentChunk.getPrimaryKey()) == null) {
+				cacheResult(dlContentChunk);
+			}
+			else {
+				dlContentChunk.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all document library content chunks.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		if (_HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			CacheRegistryUtil.clear(DLContentChunkImpl.class.getName());
+		}
+
+		EntityCacheUtil.clearCache(DLContentChunkImpl.class.getName());
+
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the document library content chunk.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(DLContentChunk dlContentChunk) {
+		EntityCacheUtil.removeResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkImpl.class, dlContentChunk.getPrimaryKey());
+
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(dlContentChunk);
+	}
+
+	@Override
+	public void clearCache(List<DLContentChunk> dlContentChunks) {
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (DLContentChunk dlContentChunk : dlContentChunks) {
+			EntityCacheUtil.removeResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentChunkImpl.class, dlContentChunk.getPrimaryKey());
+
+			clearCollectionFindersCache(dlContentChunk);
+		}
+	}
+
+	protected void clearCollectionFindersCache(DLContentChunk dlContentChunk) {
+		Object[] args = new Object[] { Long.valueOf(dlContentChunk.getContentId()) };
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_CONTENTID, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_CONTENTID,
+			args);
+	}
+
+	/**
+	 * Creates a new document library content chunk with the primary key. Does not add the document library content chunk to the database.
+	 *
+	 * @param chunkId the primary key for the new document library content chunk
+	 * @return the new document library content chunk
+	 */
+	public DLContentChunk create(long chunkId) {
+		DLContentChunk dlContentChunk = new DLContentChunkImpl();
+
+		dlContentChunk.setNew(true);
+		dlContentChunk.setPrimaryKey(chunkId);
+
+		return dlContentChunk;
+	}
+
+	/**
+	 * Removes the document library content chunk with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param chunkId the primary key of the document library content chunk
+	 * @return the document library content chunk that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk remove(long chunkId)
+		throws NoSuchContentChunkException, SystemException {
+		return remove(Long.valueOf(chunkId));
+	}
+
+	/**
+	 * Removes the document library content chunk with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the document library content chunk
+	 * @return the document library content chunk that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentChunk remove(Serializable primaryKey)
+		throws NoSuchContentChunkException, SystemException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentChunk dlContentChunk = (DLContentChunk)session.get(DLContentChunkImpl.class,
+					primaryKey);
+
+			if (dlContentChunk == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchContentChunkException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(dlContentChunk);
+		}
+		catch (NoSuchContentChunkException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected DLContentChunk removeImpl(DLContentChunk dlContentChunk)
+		throws SystemException {
+		dlContentChunk = toUnwrappedModel(dlContentChunk);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.delete(session, dlContentChunk);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		clearCache(dlContentChunk);
+
+		return dlContentChunk;
+	}
+
+	@Override
+	public DLContentChunk updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk,
+		boolean merge) throws SystemException {
+		dlContentChunk = toUnwrappedModel(dlContentChunk);
+
+		boolean isNew = dlContentChunk.isNew();
+
+		DLContentChunkModelImpl dlContentChunkModelImpl = (DLContentChunkModelImpl)dlContentChunk;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.update(session, dlContentChunk, merge);
+
+			dlContentChunk.setNew(false);
+
+			session.flush();
+			session.clear();
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (!DLContentChunkModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(dlContentChunk);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+			if ((dlContentChunkModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentChunkModelImpl.getOriginalContentId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_CONTENTID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_CONTENTID,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(dlContentChunkModelImpl.getContentId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_CONTENTID,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_CONTENTID,
+				new Object[] {
+					Long.valueOf(dlContentChunkModelImpl.getContentId())
+				});
+		}
+
+		EntityCacheUtil.putResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentChunkImpl.class, dlContentChunk.getPrimaryKey(),
+			dlContentChunk);
+
+		dlContentChunk.resetOriginalValues();
+
+		return dlContentChunk;
+	}
+
+	protected DLContentChunk toUnwrappedModel(DLContentChunk dlContentChunk) {
+		if (dlContentChunk instanceof DLContentChunkImpl) {
+			return dlContentChunk;
+		}
+
+		DLContentChunkImpl dlContentChunkImpl = new DLContentChunkImpl();
+
+		dlContentChunkImpl.setNew(dlContentChunk.isNew());
+		dlContentChunkImpl.setPrimaryKey(dlContentChunk.getPrimaryKey());
+
+		dlContentChunkImpl.setChunkId(dlContentChunk.getChunkId());
+		dlContentChunkImpl.setCompanyId(dlContentChunk.getCompanyId());
+		dlContentChunkImpl.setContentId(dlContentChunk.getContentId());
+		dlContentChunkImpl.setChunkIndex(dlContentChunk.getChunkIndex());
+		dlContentChunkImpl.setData(dlContentChunk.getData());
+		dlContentChunkImpl.setSize(dlContentChunk.getSize());
+
+		return dlContentChunkImpl;
+	}
+
+	/**
+	 * Returns the document library content chunk with the primary key or throws a {@link com.liferay.portal.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content chunk
+	 * @return the document library content chunk
+	 * @throws com.liferay.portal.NoSuchModelException if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentChunk findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchModelException, SystemException {
+		return findByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content chunk with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentChunkException} if it could not be found.
+	 *
+	 * @param chunkId the primary key of the document library content chunk
+	 * @return the document library content chunk
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk findByPrimaryKey(long chunkId)
+		throws NoSuchContentChunkException, SystemException {
+		DLContentChunk dlContentChunk = fetchByPrimaryKey(chunkId);
+
+		if (dlContentChunk == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + chunkId);
+			}
+
+			throw new NoSuchContentChunkException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				chunkId);
+		}
+
+		return dlContentChunk;
+	}
+
+	/**
+	 * Returns the document library content chunk with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content chunk
+	 * @return the document library content chunk, or <code>null</code> if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentChunk fetchByPrimaryKey(Serializable primaryKey)
+		throws SystemException {
+		return fetchByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content chunk with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param chunkId the primary key of the document library content chunk
+	 * @return the document library content chunk, or <code>null</code> if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk fetchByPrimaryKey(long chunkId)
+		throws SystemException {
+		DLContentChunk dlContentChunk = (DLContentChunk)EntityCacheUtil.getResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentChunkImpl.class, chunkId);
+
+		if (dlContentChunk == _nullDLContentChunk) {
+			return null;
+		}
+
+		if (dlContentChunk == null) {
+			Session session = null;
+
+			boolean hasException = false;
+
+			try {
+				session = openSession();
+
+				dlContentChunk = (DLContentChunk)session.get(DLContentChunkImpl.class,
+						Long.valueOf(chunkId));
+			}
+			catch (Exception e) {
+				hasException = true;
+
+				throw processException(e);
+			}
+			finally {
+				if (dlContentChunk != null) {
+					cacheResult(dlContentChunk);
+				}
+				else if (!hasException) {
+					EntityCacheUtil.putResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentChunkImpl.class, chunkId, _nullDLContentChunk);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return dlContentChunk;
+	}
+
+	/**
+	 * Returns the document library content chunks with the primary keys, mapped by primary key. Primary keys that do not match a document library content chunk are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the document library content chunks that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the document library content chunks
+	 * @return the document library content chunks that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, DLContentChunk> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, DLContentChunk> map = new HashMap<Serializable, DLContentChunk>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentChunkImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				DLContentChunk dlContentChunk = (DLContentChunk)result;
+
+				if (dlContentChunk != _nullDLContentChunk) {
+					map.put(primaryKey, dlContentChunk);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLCONTENTCHUNK_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<DLContentChunk> list = q.list();
+
+				for (DLContentChunk dlContentChunk : list) {
+					map.put(dlContentChunk.getPrimaryKeyObj(), dlContentChunk);
+
+					cacheResult(dlContentChunk);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(DLContentChunkModelImpl.ENTITY_CACHE_ENABLED,
+					DLContentChunkImpl.class, primaryKey, _nullDLContentChunk);
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the document library content chunks where contentId = &#63;.
+	 *
+	 * @param contentId the content ID
+	 * @return the matching document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findByContentId(long contentId)
+		throws SystemException {
+		return findByContentId(contentId, QueryUtil.ALL_POS, QueryUtil.ALL_POS,
+			null);
+	}
+
+	/**
+	 * Returns a range of all the document library content chunks where contentId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param contentId the content ID
+	 * @param start the lower bound of the range of document library content chunks
+	 * @param end the upper bound of the range of document library content chunks (not inclusive)
+	 * @return the range of matching document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findByContentId(long contentId, int start,
+		int end) throws SystemException {
+		return findByContentId(contentId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content chunks where contentId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param contentId the content ID
+	 * @param start the lower bound of the range of document library content chunks
+	 * @param end the upper bound of the range of document library content chunks (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findByContentId(long contentId, int start,
+		int end, OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_CONTENTID;
+			finderArgs = new Object[] { contentId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_CONTENTID;
+			finderArgs = new Object[] { contentId, start, end, orderByComparator };
+		}
+
+		List<DLContentChunk> list = (List<DLContentChunk>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (DLContentChunk dlContentChunk : list) {
+				if ((contentId != dlContentChunk.getContentId())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(3 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(3);
+			}
+
+			query.append(_SQL_SELECT_DLCONTENTCHUNK_WHERE);
+
+			query.append(_FINDER_COLUMN_CONTENTID_CONTENTID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(DLContentChunkModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(contentId);
+
+				list = (List<DLContentChunk>)QueryUtil.list(q, getDialect(),
+						start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first document library content chunk in the ordered set where contentId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param contentId the content ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching document library content chunk
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a matching document library content chunk could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk findByContentId_First(long contentId,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentChunkException, SystemException {
+		List<DLContentChunk> list = findByContentId(contentId, 0, 1,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(4);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("contentId=");
+			msg.append(contentId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentChunkException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last document library content chunk in the ordered set where contentId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param contentId the content ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching document library content chunk
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a matching document library content chunk could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk findByContentId_Last(long contentId,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentChunkException, SystemException {
+		int count = countByContentId(contentId);
+
+		List<DLContentChunk> list = findByContentId(contentId, count - 1,
+				count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(4);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("contentId=");
+			msg.append(contentId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentChunkException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the document library content chunks before and after the current document library content chunk in the ordered set where contentId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param chunkId the primary key of the current document library content chunk
+	 * @param contentId the content ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next document library content chunk
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentChunk[] findByContentId_PrevAndNext(long chunkId,
+		long contentId, OrderByComparator orderByComparator)
+		throws NoSuchContentChunkException, SystemException {
+		DLContentChunk dlContentChunk = findByPrimaryKey(chunkId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentChunk[] array = new DLContentChunkImpl[3];
+
+			array[0] = getByContentId_PrevAndNext(session, dlContentChunk,
+					contentId, orderByComparator, true);
+
+			array[1] = dlContentChunk;
+
+			array[2] = getByContentId_PrevAndNext(session, dlContentChunk,
+					contentId, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected DLContentChunk getByContentId_PrevAndNext(Session session,
+		DLContentChunk dlContentChunk, long contentId,
+		OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_DLCONTENTCHUNK_WHERE);
+
+		query.append(_FINDER_COLUMN_CONTENTID_CONTENTID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(DLContentChunkModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(contentId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(dlContentChunk);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<DLContentChunk> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the document library content chunks.
+	 *
+	 * @return the document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findAll() throws SystemException {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content chunks.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content chunks
+	 * @param end the upper bound of the range of document library content chunks (not inclusive)
+	 * @return the range of document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findAll(int start, int end)
+		throws SystemException {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content chunks.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content chunks
+	 * @param end the upper bound of the range of document library content chunks (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentChunk> findAll(int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = new Object[] { start, end, orderByComparator };
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<DLContentChunk> list = (List<DLContentChunk>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 3));
+
+				query.append(_SQL_SELECT_DLCONTENTCHUNK);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_DLCONTENTCHUNK.concat(DLContentChunkModelImpl.ORDER_BY_JPQL);
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (orderByComparator == null) {
+					list = (List<DLContentChunk>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+				}
+				else {
+					list = (List<DLContentChunk>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the document library content chunks where contentId = &#63; from the database.
+	 *
+	 * @param contentId the content ID
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByContentId(long contentId) throws SystemException {
+		for (DLContentChunk dlContentChunk : findByContentId(contentId)) {
+			remove(dlContentChunk);
+		}
+	}
+
+	/**
+	 * Removes all the document library content chunks from the database.
+	 *
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeAll() throws SystemException {
+		for (DLContentChunk dlContentChunk : findAll()) {
+			remove(dlContentChunk);
+		}
+	}
+
+	/**
+	 * Returns the number of document library content chunks where contentId = &#63;.
+	 *
+	 * @param contentId the content ID
+	 * @return the number of matching document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByContentId(long contentId) throws SystemException {
+		Object[] finderArgs = new Object[] { contentId };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_CONTENTID,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(2);
+
+			query.append(_SQL_COUNT_DLCONTENTCHUNK_WHERE);
+
+			query.append(_FINDER_COLUMN_CONTENTID_CONTENTID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(contentId);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_CONTENTID,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content chunks.
+	 *
+	 * @return the number of document library content chunks
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countAll() throws SystemException {
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_DLCONTENTCHUNK);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Initializes the document library content chunk persistence.
+	 */
+	public void afterPropertiesSet() {
+		String[] listenerClassNames = StringUtil.split(GetterUtil.getString(
+					com.liferay.portal.util.PropsUtil.get(
+						"value.object.listener.com.liferay.portlet.documentlibrary.model.DLContentChunk")));
+
+		if (listenerClassNames.length > 0) {
+			try {
+				List<ModelListener<DLContentChunk>> listenersList = new ArrayList<ModelListener<DLContentChunk>>();
+
+				for (String listenerClassName : listenerClassNames) {
+					listenersList.add((ModelListener<DLContentChunk>)InstanceFactory.newInstance(
+							listenerClassName));
+				}
+
+				listeners = listenersList.toArray(new ModelListener[listenersList.size()]);
+			}
+			catch (Exception e) {
+				_log.error(e);
+			}
+		}
+	}
+
+	public void destroy() {
+		EntityCacheUtil.removeCache(DLContentChunkImpl.class.getName());
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@BeanReference(type = DLContentPersistence.class)
+	protected DLContentPersistence dlContentPersistence;
+	@BeanReference(type = DLContentChunkPersistence.class)
+	protected DLContentChunkPersistence dlContentChunkPersistence;
+	@BeanReference(type = DLContentHashPersistence.class)
+	protected DLContentHashPersistence dlContentHashPersistence;
+	@BeanReference(type = DLContentReferencePersistence.class)
+	protected DLContentReferencePersistence dlContentReferencePersistence;
+	@BeanReference(type = DLFileEntryPersistence.class)
+	protected DLFileEntryPersistence dlFileEntryPersistence;
+	@BeanReference(type = DLFileEntryMetadataPersistence.class)
+	protected DLFileEntryMetadataPersistence dlFileEntryMetadataPersistence;
+	@BeanReference(type = DLFileEntryTypePersistence.class)
+	protected DLFileEntryTypePersistence dlFileEntryTypePersistence;
+	@BeanReference(type = DLFileRankPersistence.class)
+	protected DLFileRankPersistence dlFileRankPersistence;
+	@BeanReference(type = DLFileShortcutPersistence.class)
+	protected DLFileShortcutPersistence dlFileShortcutPersistence;
+	@BeanReference(type = DLFileVersionPersistence.class)
+	protected DLFileVersionPersistence dlFileVersionPersistence;
+	@BeanReference(type = DLFolderPersistence.class)
+	protected DLFolderPersistence dlFolderPersistence;
+	@BeanReference(type = DLSyncPersistence.class)
+	protected DLSyncPersistence dlSyncPersistence;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	private static final String _SQL_SELECT_DLCONTENTCHUNK = "SELECT dlContentChunk FROM DLContentChunk dlContentChunk";
+	private static final String _SQL_SELECT_DLCONTENTCHUNK_WHERE = "SELECT dlContentChunk FROM DLContentChunk dlContentChunk WHERE ";
+	private static final String _SQL_SELECT_DLCONTENTCHUNK_WHERE_PKS_IN = "SELECT dlContentChunk FROM DLContentChunk dlContentChunk WHERE dlContentChunk.chunkId IN (";
+	private static final String _SQL_COUNT_DLCONTENTCHUNK = "SELECT COUNT(dlContentChunk) FROM DLContentChunk dlContentChunk";
+	private static final String _SQL_COUNT_DLCONTENTCHUNK_WHERE = "SELECT COUNT(dlContentChunk) FROM DLContentChunk dlContentChunk WHERE ";
+	private static final String _FINDER_COLUMN_CONTENTID_CONTENTID_2 = "dlContentChunk.contentId = ?";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "dlContentChunk.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No DLContentChunk exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No DLContentChunk exists with the key {";
+	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
+	private static Log _log = LogFactoryUtil.getLog(DLContentChunkPersistenceImpl.class);
+	private static DLContentChunk _nullDLContentChunk = new DLContentChunkImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<DLContentChunk> toCacheModel() {
+				return _nullDLContentChunkCacheModel;
+			}
+		};
+
+	private static CacheModel<DLContentChunk> _nullDLContentChunkCacheModel = new CacheModel<DLContentChunk>() {
+			public DLContentChunk toEntityModel() {
+				return _nullDLContentChunk;
+			}
+		};
+}
\ No newline at end of file
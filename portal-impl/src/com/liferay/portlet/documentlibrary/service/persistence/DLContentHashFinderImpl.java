@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.dao.orm.LockMode;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import java.util.List;
+
+public class DLContentHashFinderImpl
+	extends BasePersistenceImpl<DLContentHash> implements DLContentHashFinder {
+
+	public static final String FIND_BY_C_H =
+		DLContentHashFinder.class.getName() + ".findByC_H";
+
+	public DLContentHash fetchByC_H(
+			long companyId, String hash, LockMode lockMode)
+		throws SystemException {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_C_H);
+
+			Query q = session.createQuery(sql);
+
+			q.setLockMode("dlContentHash", lockMode);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(companyId);
+			qPos.add(hash);
+
+			List<DLContentHash> dlContentHashes = q.list();
+
+			if (!dlContentHashes.isEmpty()) {
+				return dlContentHashes.get(0);
+			}
+
+			return null;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+}
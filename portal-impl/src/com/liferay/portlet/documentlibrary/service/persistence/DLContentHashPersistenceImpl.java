@@ -0,0 +1,1091 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.NoSuchModelException;
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.InstanceFactory;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.ModelListener;
+import com.liferay.portal.service.persistence.BatchSessionUtil;
+import com.liferay.portal.service.persistence.UserPersistence;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentHashImpl;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentHashModelImpl;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the document library content hash service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHashPersistence
+ * @see DLContentHashUtil
+ * @generated
+ */
+public class DLContentHashPersistenceImpl extends BasePersistenceImpl<DLContentHash>
+	implements DLContentHashPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link DLContentHashUtil} to access the document library content hash persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = DLContentHashImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_FETCH_BY_C_H = new FinderPath(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashModelImpl.FINDER_CACHE_ENABLED,
+			DLContentHashImpl.class, FINDER_CLASS_NAME_ENTITY, "fetchByC_H",
+			new String[] { Long.class.getName(), String.class.getName() },
+			DLContentHashModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentHashModelImpl.HASH_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_H = new FinderPath(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_H",
+			new String[] { Long.class.getName(), String.class.getName() });
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashModelImpl.FINDER_CACHE_ENABLED,
+			DLContentHashImpl.class, FINDER_CLASS_NAME_LIST_WITH_PAGINATION,
+			"findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashModelImpl.FINDER_CACHE_ENABLED,
+			DLContentHashImpl.class, FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION,
+			"findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+
+	/**
+	 * Caches the document library content hash in the entity cache if it is enabled.
+	 *
+	 * @param dlContentHash the document library content hash
+	 */
+	public void cacheResult(DLContentHash dlContentHash) {
+		EntityCacheUtil.putResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashImpl.class, dlContentHash.getPrimaryKey(),
+			dlContentHash);
+
+		FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_H,
+			new Object[] {
+				Long.valueOf(dlContentHash.getCompanyId()),
+				
+			dlContentHash.getHash()
+			}, dlContentHash);
+
+		dlContentHash.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the document library content hashs in the entity cache if it is enabled.
+	 *
+	 * @param dlContentHashs the document library content hashs
+	 */
+	public void cacheResult(List<DLContentHash> dlContentHashs) {
+		for (DLContentHash dlContentHash : dlContentHashs) {
+			if (EntityCacheUtil.getResult(
+						DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentHashImpl.class, dlContentHash.getPrimaryKey()) == null) {
+				cacheResult(dlContentHash);
+			}
+			else {
+				dlContentHash.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all document library content hashs.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		if (_HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			CacheRegistryUtil.clear(DLContentHashImpl.class.getName());
+		}
+
+		EntityCacheUtil.clearCache(DLContentHashImpl.class.getName());
+
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the document library content hash.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(DLContentHash dlContentHash) {
+		EntityCacheUtil.removeResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashImpl.class, dlContentHash.getPrimaryKey());
+
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearUniqueFindersCache(dlContentHash);
+	}
+
+	@Override
+	public void clearCache(List<DLContentHash> dlContentHashs) {
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (DLContentHash dlContentHash : dlContentHashs) {
+			EntityCacheUtil.removeResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentHashImpl.class, dlContentHash.getPrimaryKey());
+
+			clearUniqueFindersCache(dlContentHash);
+		}
+	}
+
+	protected void clearUniqueFindersCache(DLContentHash dlContentHash) {
+		FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_H,
+			new Object[] {
+				Long.valueOf(dlContentHash.getCompanyId()),
+				
+			dlContentHash.getHash()
+			});
+	}
+
+	/**
+	 * Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	 *
+	 * @param contentHashId the primary key for the new document library content hash
+	 * @return the new document library content hash
+	 */
+	public DLContentHash create(long contentHashId) {
+		DLContentHash dlContentHash = new DLContentHashImpl();
+
+		dlContentHash.setNew(true);
+		dlContentHash.setPrimaryKey(contentHashId);
+
+		return dlContentHash;
+	}
+
+	/**
+	 * Removes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param contentHashId the primary key of the document library content hash
+	 * @return the document library content hash that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash remove(long contentHashId)
+		throws NoSuchContentHashException, SystemException {
+		return remove(Long.valueOf(contentHashId));
+	}
+
+	/**
+	 * Removes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the document library content hash
+	 * @return the document library content hash that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentHash remove(Serializable primaryKey)
+		throws NoSuchContentHashException, SystemException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentHash dlContentHash = (DLContentHash)session.get(DLContentHashImpl.class,
+					primaryKey);
+
+			if (dlContentHash == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchContentHashException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(dlContentHash);
+		}
+		catch (NoSuchContentHashException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected DLContentHash removeImpl(DLContentHash dlContentHash)
+		throws SystemException {
+		dlContentHash = toUnwrappedModel(dlContentHash);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.delete(session, dlContentHash);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		clearCache(dlContentHash);
+
+		return dlContentHash;
+	}
+
+	@Override
+	public DLContentHash updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash,
+		boolean merge) throws SystemException {
+		dlContentHash = toUnwrappedModel(dlContentHash);
+
+		boolean isNew = dlContentHash.isNew();
+
+		DLContentHashModelImpl dlContentHashModelImpl = (DLContentHashModelImpl)dlContentHash;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.update(session, dlContentHash, merge);
+
+			dlContentHash.setNew(false);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (!DLContentHashModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		}
+
+		EntityCacheUtil.putResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentHashImpl.class, dlContentHash.getPrimaryKey(),
+			dlContentHash);
+
+		if (isNew) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_H,
+				new Object[] {
+					Long.valueOf(dlContentHash.getCompanyId()),
+					
+				dlContentHash.getHash()
+				}, dlContentHash);
+		}
+		else {
+			if ((dlContentHashModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_C_H.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentHashModelImpl.getOriginalCompanyId()),
+						
+						dlContentHashModelImpl.getOriginalHash()
+					};
+
+				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_H, args);
+				FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_H, args);
+
+				FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_H,
+					new Object[] {
+						Long.valueOf(dlContentHash.getCompanyId()),
+						
+					dlContentHash.getHash()
+					}, dlContentHash);
+			}
+		}
+
+		return dlContentHash;
+	}
+
+	protected DLContentHash toUnwrappedModel(DLContentHash dlContentHash) {
+		if (dlContentHash instanceof DLContentHashImpl) {
+			return dlContentHash;
+		}
+
+		DLContentHashImpl dlContentHashImpl = new DLContentHashImpl();
+
+		dlContentHashImpl.setNew(dlContentHash.isNew());
+		dlContentHashImpl.setPrimaryKey(dlContentHash.getPrimaryKey());
+
+		dlContentHashImpl.setContentHashId(dlContentHash.getContentHashId());
+		dlContentHashImpl.setCompanyId(dlContentHash.getCompanyId());
+		dlContentHashImpl.setHash(dlContentHash.getHash());
+
+		return dlContentHashImpl;
+	}
+
+	/**
+	 * Returns the document library content hash with the primary key or throws a {@link com.liferay.portal.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content hash
+	 * @return the document library content hash
+	 * @throws com.liferay.portal.NoSuchModelException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentHash findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchModelException, SystemException {
+		return findByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content hash with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	 *
+	 * @param contentHashId the primary key of the document library content hash
+	 * @return the document library content hash
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash findByPrimaryKey(long contentHashId)
+		throws NoSuchContentHashException, SystemException {
+		DLContentHash dlContentHash = fetchByPrimaryKey(contentHashId);
+
+		if (dlContentHash == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + contentHashId);
+			}
+
+			throw new NoSuchContentHashException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				contentHashId);
+		}
+
+		return dlContentHash;
+	}
+
+	/**
+	 * Returns the document library content hash with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content hash
+	 * @return the document library content hash, or <code>null</code> if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentHash fetchByPrimaryKey(Serializable primaryKey)
+		throws SystemException {
+		return fetchByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content hash with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param contentHashId the primary key of the document library content hash
+	 * @return the document library content hash, or <code>null</code> if a document library content hash with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash fetchByPrimaryKey(long contentHashId)
+		throws SystemException {
+		DLContentHash dlContentHash = (DLContentHash)EntityCacheUtil.getResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentHashImpl.class, contentHashId);
+
+		if (dlContentHash == _nullDLContentHash) {
+			return null;
+		}
+
+		if (dlContentHash == null) {
+			Session session = null;
+
+			boolean hasException = false;
+
+			try {
+				session = openSession();
+
+				dlContentHash = (DLContentHash)session.get(DLContentHashImpl.class,
+						Long.valueOf(contentHashId));
+			}
+			catch (Exception e) {
+				hasException = true;
+
+				throw processException(e);
+			}
+			finally {
+				if (dlContentHash != null) {
+					cacheResult(dlContentHash);
+				}
+				else if (!hasException) {
+					EntityCacheUtil.putResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentHashImpl.class, contentHashId,
+						_nullDLContentHash);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return dlContentHash;
+	}
+
+	/**
+	 * Returns the document library content hashs with the primary keys, mapped by primary key. Primary keys that do not match a document library content hash are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the document library content hashs that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the document library content hashs
+	 * @return the document library content hashs that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, DLContentHash> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, DLContentHash> map = new HashMap<Serializable, DLContentHash>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentHashImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				DLContentHash dlContentHash = (DLContentHash)result;
+
+				if (dlContentHash != _nullDLContentHash) {
+					map.put(primaryKey, dlContentHash);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLCONTENTHASH_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<DLContentHash> list = q.list();
+
+				for (DLContentHash dlContentHash : list) {
+					map.put(dlContentHash.getPrimaryKeyObj(), dlContentHash);
+
+					cacheResult(dlContentHash);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(DLContentHashModelImpl.ENTITY_CACHE_ENABLED,
+					DLContentHashImpl.class, primaryKey, _nullDLContentHash);
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns the document library content hash where companyId = &#63; and hash = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the matching document library content hash
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a matching document library content hash could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash findByC_H(long companyId, String hash)
+		throws NoSuchContentHashException, SystemException {
+		DLContentHash dlContentHash = fetchByC_H(companyId, hash);
+
+		if (dlContentHash == null) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", hash=");
+			msg.append(hash);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(msg.toString());
+			}
+
+			throw new NoSuchContentHashException(msg.toString());
+		}
+
+		return dlContentHash;
+	}
+
+	/**
+	 * Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash fetchByC_H(long companyId, String hash)
+		throws SystemException {
+		return fetchByC_H(companyId, hash, true);
+	}
+
+	/**
+	 * Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param retrieveFromCache whether to use the finder cache
+	 * @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash fetchByC_H(long companyId, String hash,
+		boolean retrieveFromCache) throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, hash };
+
+		Object result = null;
+
+		if (retrieveFromCache) {
+			result = FinderCacheUtil.getResult(FINDER_PATH_FETCH_BY_C_H,
+					finderArgs, this);
+		}
+
+		if (result instanceof DLContentHash) {
+			DLContentHash dlContentHash = (DLContentHash)result;
+
+			if ((companyId != dlContentHash.getCompanyId()) ||
+					!Validator.equals(hash, dlContentHash.getHash())) {
+				result = null;
+			}
+		}
+
+		if (result == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_SELECT_DLCONTENTHASH_WHERE);
+
+			query.append(_FINDER_COLUMN_C_H_COMPANYID_2);
+
+			if (hash == null) {
+				query.append(_FINDER_COLUMN_C_H_HASH_1);
+			}
+			else {
+				if (hash.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_H_HASH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_H_HASH_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				if (hash != null) {
+					qPos.add(hash);
+				}
+
+				List<DLContentHash> list = q.list();
+
+				result = list;
+
+				DLContentHash dlContentHash = null;
+
+				if (list.isEmpty()) {
+					FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_H,
+						finderArgs, list);
+				}
+				else {
+					dlContentHash = list.get(0);
+
+					cacheResult(dlContentHash);
+
+					if ((dlContentHash.getCompanyId() != companyId) ||
+							(dlContentHash.getHash() == null) ||
+							!dlContentHash.getHash().equals(hash)) {
+						FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_H,
+							finderArgs, dlContentHash);
+					}
+				}
+
+				return dlContentHash;
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (result == null) {
+					FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_H,
+						finderArgs);
+				}
+
+				closeSession(session);
+			}
+		}
+		else {
+			if (result instanceof List<?>) {
+				return null;
+			}
+			else {
+				return (DLContentHash)result;
+			}
+		}
+	}
+
+	/**
+	 * Returns all the document library content hashs.
+	 *
+	 * @return the document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentHash> findAll() throws SystemException {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content hashs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content hashs
+	 * @param end the upper bound of the range of document library content hashs (not inclusive)
+	 * @return the range of document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentHash> findAll(int start, int end)
+		throws SystemException {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content hashs.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content hashs
+	 * @param end the upper bound of the range of document library content hashs (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentHash> findAll(int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = new Object[] { start, end, orderByComparator };
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<DLContentHash> list = (List<DLContentHash>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 3));
+
+				query.append(_SQL_SELECT_DLCONTENTHASH);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_DLCONTENTHASH;
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (orderByComparator == null) {
+					list = (List<DLContentHash>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+				}
+				else {
+					list = (List<DLContentHash>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes the document library content hash where companyId = &#63; and hash = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the document library content hash that was removed
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentHash removeByC_H(long companyId, String hash)
+		throws NoSuchContentHashException, SystemException {
+		DLContentHash dlContentHash = findByC_H(companyId, hash);
+
+		return remove(dlContentHash);
+	}
+
+	/**
+	 * Removes all the document library content hashs from the database.
+	 *
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeAll() throws SystemException {
+		for (DLContentHash dlContentHash : findAll()) {
+			remove(dlContentHash);
+		}
+	}
+
+	/**
+	 * Returns the number of document library content hashs where companyId = &#63; and hash = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the number of matching document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_H(long companyId, String hash)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, hash };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_H,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_DLCONTENTHASH_WHERE);
+
+			query.append(_FINDER_COLUMN_C_H_COMPANYID_2);
+
+			if (hash == null) {
+				query.append(_FINDER_COLUMN_C_H_HASH_1);
+			}
+			else {
+				if (hash.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_H_HASH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_H_HASH_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				if (hash != null) {
+					qPos.add(hash);
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_H, finderArgs,
+					count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content hashs.
+	 *
+	 * @return the number of document library content hashs
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countAll() throws SystemException {
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_DLCONTENTHASH);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Initializes the document library content hash persistence.
+	 */
+	public void afterPropertiesSet() {
+		String[] listenerClassNames = StringUtil.split(GetterUtil.getString(
+					com.liferay.portal.util.PropsUtil.get(
+						"value.object.listener.com.liferay.portlet.documentlibrary.model.DLContentHash")));
+
+		if (listenerClassNames.length > 0) {
+			try {
+				List<ModelListener<DLContentHash>> listenersList = new ArrayList<ModelListener<DLContentHash>>();
+
+				for (String listenerClassName : listenerClassNames) {
+					listenersList.add((ModelListener<DLContentHash>)InstanceFactory.newInstance(
+							listenerClassName));
+				}
+
+				listeners = listenersList.toArray(new ModelListener[listenersList.size()]);
+			}
+			catch (Exception e) {
+				_log.error(e);
+			}
+		}
+	}
+
+	public void destroy() {
+		EntityCacheUtil.removeCache(DLContentHashImpl.class.getName());
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@BeanReference(type = DLContentPersistence.class)
+	protected DLContentPersistence dlContentPersistence;
+	@BeanReference(type = DLContentChunkPersistence.class)
+	protected DLContentChunkPersistence dlContentChunkPersistence;
+	@BeanReference(type = DLContentHashPersistence.class)
+	protected DLContentHashPersistence dlContentHashPersistence;
+	@BeanReference(type = DLContentReferencePersistence.class)
+	protected DLContentReferencePersistence dlContentReferencePersistence;
+	@BeanReference(type = DLFileEntryPersistence.class)
+	protected DLFileEntryPersistence dlFileEntryPersistence;
+	@BeanReference(type = DLFileEntryMetadataPersistence.class)
+	protected DLFileEntryMetadataPersistence dlFileEntryMetadataPersistence;
+	@BeanReference(type = DLFileEntryTypePersistence.class)
+	protected DLFileEntryTypePersistence dlFileEntryTypePersistence;
+	@BeanReference(type = DLFileRankPersistence.class)
+	protected DLFileRankPersistence dlFileRankPersistence;
+	@BeanReference(type = DLFileShortcutPersistence.class)
+	protected DLFileShortcutPersistence dlFileShortcutPersistence;
+	@BeanReference(type = DLFileVersionPersistence.class)
+	protected DLFileVersionPersistence dlFileVersionPersistence;
+	@BeanReference(type = DLFolderPersistence.class)
+	protected DLFolderPersistence dlFolderPersistence;
+	@BeanReference(type = DLSyncPersistence.class)
+	protected DLSyncPersistence dlSyncPersistence;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	private static final String _SQL_SELECT_DLCONTENTHASH = "SELECT dlContentHash FROM DLContentHash dlContentHash";
+	private static final String _SQL_SELECT_DLCONTENTHASH_WHERE = "SELECT dlContentHash FROM DLContentHash dlContentHash WHERE ";
+	private static final String _SQL_SELECT_DLCONTENTHASH_WHERE_PKS_IN = "SELECT dlContentHash FROM DLContentHash dlContentHash WHERE dlContentHash.contentHashId IN (";
+	private static final String _SQL_COUNT_DLCONTENTHASH = "SELECT COUNT(dlContentHash) FROM DLContentHash dlContentHash";
+	private static final String _SQL_COUNT_DLCONTENTHASH_WHERE = "SELECT COUNT(dlContentHash) FROM DLContentHash dlContentHash WHERE ";
+	private static final String _FINDER_COLUMN_C_H_COMPANYID_2 = "dlContentHash.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_H_HASH_1 = "dlContentHash.hash IS NULL";
+	private static final String _FINDER_COLUMN_C_H_HASH_2 = "dlContentHash.hash = ?";
+	private static final String _FINDER_COLUMN_C_H_HASH_3 = "(dlContentHash.hash IS NULL OR dlContentHash.hash = ?)";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "dlContentHash.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No DLContentHash exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No DLContentHash exists with the key {";
+	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
+	private static Log _log = LogFactoryUtil.getLog(DLContentHashPersistenceImpl.class);
+	private static DLContentHash _nullDLContentHash = new DLContentHashImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<DLContentHash> toCacheModel() {
+				return _nullDLContentHashCacheModel;
+			}
+		};
+
+	private static CacheModel<DLContentHash> _nullDLContentHashCacheModel = new CacheModel<DLContentHash>() {
+			public DLContentHash toEntityModel() {
+				return _nullDLContentHash;
+			}
+		};
+}
\ No newline at end of file
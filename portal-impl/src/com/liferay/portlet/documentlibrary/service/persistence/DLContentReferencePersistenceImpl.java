@@ -0,0 +1,3460 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.NoSuchModelException;
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.InstanceFactory;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.model.ModelListener;
+import com.liferay.portal.service.persistence.BatchSessionUtil;
+import com.liferay.portal.service.persistence.UserPersistence;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentReferenceException;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceImpl;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceModelImpl;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the document library content reference service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentReferencePersistence
+ * @see DLContentReferenceUtil
+ * @generated
+ */
+public class DLContentReferencePersistenceImpl extends BasePersistenceImpl<DLContentReference>
+	implements DLContentReferencePersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link DLContentReferenceUtil} to access the document library content reference persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = DLContentReferenceImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_R",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 2);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_R",
+			new String[] { Long.class.getName(), Long.class.getName() },
+			DLContentReferenceModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.REPOSITORYID_COLUMN_BITMASK, 2);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_R = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_R",
+			new String[] { Long.class.getName(), Long.class.getName() }, -1, 2);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_H = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_H",
+			new String[] {
+				Long.class.getName(), String.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 2);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_H",
+			new String[] { Long.class.getName(), String.class.getName() },
+			DLContentReferenceModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.HASH_COLUMN_BITMASK, 2);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_H = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_H",
+			new String[] { Long.class.getName(), String.class.getName() }, -1, 2);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_P = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_R_P",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			}, -1, 3);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_R_P",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName()
+			},
+			DLContentReferenceModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.REPOSITORYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.PATH_COLUMN_BITMASK, 3);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_R_P = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_R_P",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName()
+			}, -1, 3);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_LIKEP =
+		new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findByC_R_LikeP",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName(),
+				
+			"java.lang.Integer", "java.lang.Integer",
+				"com.liferay.portal.kernel.util.OrderByComparator"
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_LIKEP =
+		new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_R_LikeP",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName()
+			},
+			DLContentReferenceModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.REPOSITORYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.PATH_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_R_LIKEP = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_R_LikeP",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_FETCH_BY_C_R_P_V = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class, FINDER_CLASS_NAME_ENTITY,
+			"fetchByC_R_P_V",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName(), String.class.getName()
+			},
+			DLContentReferenceModelImpl.COMPANYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.REPOSITORYID_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.PATH_COLUMN_BITMASK |
+			DLContentReferenceModelImpl.VERSION_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_R_P_V = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_R_P_V",
+			new String[] {
+				Long.class.getName(), Long.class.getName(),
+				String.class.getName(), String.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED,
+			DLContentReferenceImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+
+	/**
+	 * Caches the document library content reference in the entity cache if it is enabled.
+	 *
+	 * @param dlContentReference the document library content reference
+	 */
+	public void cacheResult(DLContentReference dlContentReference) {
+		EntityCacheUtil.putResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceImpl.class, dlContentReference.getPrimaryKey(),
+			dlContentReference);
+
+		FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+			new Object[] {
+				Long.valueOf(dlContentReference.getCompanyId()),
+				Long.valueOf(dlContentReference.getRepositoryId()),
+				
+			dlContentReference.getPath(),
+				
+			dlContentReference.getVersion()
+			}, dlContentReference);
+
+		dlContentReference.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the document library content references in the entity cache if it is enabled.
+	 *
+	 * @param dlContentReferences the document library content references
+	 */
+	public void cacheResult(List<DLContentReference> dlContentReferences) {
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			if (EntityCacheUtil.getResult(
+						DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentReferenceImpl.class,
+						dlContentReference.getPrimaryKey()) == null) {
+				cacheResult(dlContentReference);
+			}
+			else {
+				dlContentReference.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all document library content references.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		if (_HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			CacheRegistryUtil.clear(DLContentReferenceImpl.class.getName());
+		}
+
+		EntityCacheUtil.clearCache(DLContentReferenceImpl.class.getName());
+
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the document library content reference.
+	 *
+	 * <p>
+	 * The {@link com.liferay.portal.kernel.dao.orm.EntityCache} and {@link com.liferay.portal.kernel.dao.orm.FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(DLContentReference dlContentReference) {
+		EntityCacheUtil.removeResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceImpl.class, dlContentReference.getPrimaryKey());
+
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearCollectionFindersCache(dlContentReference);
+
+		clearUniqueFindersCache(dlContentReference);
+	}
+
+	@Override
+	public void clearCache(List<DLContentReference> dlContentReferences) {
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			EntityCacheUtil.removeResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentReferenceImpl.class, dlContentReference.getPrimaryKey());
+
+			clearCollectionFindersCache(dlContentReference);
+
+			clearUniqueFindersCache(dlContentReference);
+		}
+	}
+
+	protected void clearCollectionFindersCache(
+		DLContentReference dlContentReference) {
+		Object[] args = new Object[] {
+				Long.valueOf(dlContentReference.getCompanyId()),
+				Long.valueOf(dlContentReference.getRepositoryId())
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(dlContentReference.getCompanyId()),
+				
+				dlContentReference.getHash()
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_H, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_H,
+			args);
+
+		args = new Object[] {
+				Long.valueOf(dlContentReference.getCompanyId()),
+				Long.valueOf(dlContentReference.getRepositoryId()),
+				
+				dlContentReference.getPath()
+			};
+
+		FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R_P, args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P,
+			args);
+		FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_P,
+			args);
+	}
+
+	protected void clearUniqueFindersCache(
+		DLContentReference dlContentReference) {
+		FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+			new Object[] {
+				Long.valueOf(dlContentReference.getCompanyId()),
+				Long.valueOf(dlContentReference.getRepositoryId()),
+				
+			dlContentReference.getPath(),
+				
+			dlContentReference.getVersion()
+			});
+	}
+
+	/**
+	 * Creates a new document library content reference with the primary key. Does not add the document library content reference to the database.
+	 *
+	 * @param referenceId the primary key for the new document library content reference
+	 * @return the new document library content reference
+	 */
+	public DLContentReference create(long referenceId) {
+		DLContentReference dlContentReference = new DLContentReferenceImpl();
+
+		dlContentReference.setNew(true);
+		dlContentReference.setPrimaryKey(referenceId);
+
+		return dlContentReference;
+	}
+
+	/**
+	 * Removes the document library content reference with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param referenceId the primary key of the document library content reference
+	 * @return the document library content reference that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference remove(long referenceId)
+		throws NoSuchContentReferenceException, SystemException {
+		return remove(Long.valueOf(referenceId));
+	}
+
+	/**
+	 * Removes the document library content reference with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the document library content reference
+	 * @return the document library content reference that was removed
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentReference remove(Serializable primaryKey)
+		throws NoSuchContentReferenceException, SystemException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentReference dlContentReference = (DLContentReference)session.get(DLContentReferenceImpl.class,
+					primaryKey);
+
+			if (dlContentReference == null) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchContentReferenceException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(dlContentReference);
+		}
+		catch (NoSuchContentReferenceException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected DLContentReference removeImpl(
+		DLContentReference dlContentReference) throws SystemException {
+		dlContentReference = toUnwrappedModel(dlContentReference);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.delete(session, dlContentReference);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		clearCache(dlContentReference);
+
+		return dlContentReference;
+	}
+
+	@Override
+	public DLContentReference updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference,
+		boolean merge) throws SystemException {
+		dlContentReference = toUnwrappedModel(dlContentReference);
+
+		boolean isNew = dlContentReference.isNew();
+
+		DLContentReferenceModelImpl dlContentReferenceModelImpl = (DLContentReferenceModelImpl)dlContentReference;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			BatchSessionUtil.update(session, dlContentReference, merge);
+
+			dlContentReference.setNew(false);
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (!DLContentReferenceModelImpl.COLUMN_BITMASK_ENABLED) {
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+		else if (isNew) {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+			clearCollectionFindersCache(dlContentReference);
+		}
+		else {
+			FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+			if ((dlContentReferenceModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalCompanyId()),
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalRepositoryId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+						Long.valueOf(dlContentReferenceModelImpl.getRepositoryId())
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R,
+				new Object[] {
+					Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+					Long.valueOf(dlContentReferenceModelImpl.getRepositoryId())
+				});
+
+			if ((dlContentReferenceModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalCompanyId()),
+						
+						dlContentReferenceModelImpl.getOriginalHash()
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_H, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_H,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+						
+						dlContentReferenceModelImpl.getHash()
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_H, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_H,
+				new Object[] {
+					Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+					
+				dlContentReferenceModelImpl.getHash()
+				});
+
+			if ((dlContentReferenceModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalCompanyId()),
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalRepositoryId()),
+						
+						dlContentReferenceModelImpl.getOriginalPath()
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P,
+					args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_P,
+					args);
+
+				args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+						Long.valueOf(dlContentReferenceModelImpl.getRepositoryId()),
+						
+						dlContentReferenceModelImpl.getPath()
+					};
+
+				FinderCacheUtil.removeResults(FINDER_PATH_COUNT_BY_C_R_P, args);
+				FinderCacheUtil.removeResults(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P,
+					args);
+			}
+
+			FinderCacheUtil.removeResults(FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_P,
+				new Object[] {
+					Long.valueOf(dlContentReferenceModelImpl.getCompanyId()),
+					Long.valueOf(dlContentReferenceModelImpl.getRepositoryId()),
+					
+				dlContentReferenceModelImpl.getPath()
+				});
+
+			if ((dlContentReferenceModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_LIKEP.getColumnBitmask()) != 0) {
+				FinderCacheUtil.removeUntaggedResults(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+			}
+		}
+
+		EntityCacheUtil.putResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+			DLContentReferenceImpl.class, dlContentReference.getPrimaryKey(),
+			dlContentReference);
+
+		if (isNew) {
+			FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+				new Object[] {
+					Long.valueOf(dlContentReference.getCompanyId()),
+					Long.valueOf(dlContentReference.getRepositoryId()),
+					
+				dlContentReference.getPath(),
+					
+				dlContentReference.getVersion()
+				}, dlContentReference);
+		}
+		else {
+			if ((dlContentReferenceModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_C_R_P_V.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalCompanyId()),
+						Long.valueOf(dlContentReferenceModelImpl.getOriginalRepositoryId()),
+						
+						dlContentReferenceModelImpl.getOriginalPath(),
+						
+						dlContentReferenceModelImpl.getOriginalVersion()
+					};
+
+				FinderCacheUtil.removeResult(FINDER_PATH_COUNT_BY_C_R_P_V, args);
+				FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_R_P_V, args);
+
+				FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+					new Object[] {
+						Long.valueOf(dlContentReference.getCompanyId()),
+						Long.valueOf(dlContentReference.getRepositoryId()),
+						
+					dlContentReference.getPath(),
+						
+					dlContentReference.getVersion()
+					}, dlContentReference);
+			}
+		}
+
+		return dlContentReference;
+	}
+
+	protected DLContentReference toUnwrappedModel(
+		DLContentReference dlContentReference) {
+		if (dlContentReference instanceof DLContentReferenceImpl) {
+			return dlContentReference;
+		}
+
+		DLContentReferenceImpl dlContentReferenceImpl = new DLContentReferenceImpl();
+
+		dlContentReferenceImpl.setNew(dlContentReference.isNew());
+		dlContentReferenceImpl.setPrimaryKey(dlContentReference.getPrimaryKey());
+
+		dlContentReferenceImpl.setReferenceId(dlContentReference.getReferenceId());
+		dlContentReferenceImpl.setCompanyId(dlContentReference.getCompanyId());
+		dlContentReferenceImpl.setRepositoryId(dlContentReference.getRepositoryId());
+		dlContentReferenceImpl.setPath(dlContentReference.getPath());
+		dlContentReferenceImpl.setVersion(dlContentReference.getVersion());
+		dlContentReferenceImpl.setHash(dlContentReference.getHash());
+		dlContentReferenceImpl.setSize(dlContentReference.getSize());
+
+		return dlContentReferenceImpl;
+	}
+
+	/**
+	 * Returns the document library content reference with the primary key or throws a {@link com.liferay.portal.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content reference
+	 * @return the document library content reference
+	 * @throws com.liferay.portal.NoSuchModelException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentReference findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchModelException, SystemException {
+		return findByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content reference with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentReferenceException} if it could not be found.
+	 *
+	 * @param referenceId the primary key of the document library content reference
+	 * @return the document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByPrimaryKey(long referenceId)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = fetchByPrimaryKey(referenceId);
+
+		if (dlContentReference == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + referenceId);
+			}
+
+			throw new NoSuchContentReferenceException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				referenceId);
+		}
+
+		return dlContentReference;
+	}
+
+	/**
+	 * Returns the document library content reference with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the document library content reference
+	 * @return the document library content reference, or <code>null</code> if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public DLContentReference fetchByPrimaryKey(Serializable primaryKey)
+		throws SystemException {
+		return fetchByPrimaryKey(((Long)primaryKey).longValue());
+	}
+
+	/**
+	 * Returns the document library content reference with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param referenceId the primary key of the document library content reference
+	 * @return the document library content reference, or <code>null</code> if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference fetchByPrimaryKey(long referenceId)
+		throws SystemException {
+		DLContentReference dlContentReference = (DLContentReference)EntityCacheUtil.getResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentReferenceImpl.class, referenceId);
+
+		if (dlContentReference == _nullDLContentReference) {
+			return null;
+		}
+
+		if (dlContentReference == null) {
+			Session session = null;
+
+			boolean hasException = false;
+
+			try {
+				session = openSession();
+
+				dlContentReference = (DLContentReference)session.get(DLContentReferenceImpl.class,
+						Long.valueOf(referenceId));
+			}
+			catch (Exception e) {
+				hasException = true;
+
+				throw processException(e);
+			}
+			finally {
+				if (dlContentReference != null) {
+					cacheResult(dlContentReference);
+				}
+				else if (!hasException) {
+					EntityCacheUtil.putResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+						DLContentReferenceImpl.class, referenceId,
+						_nullDLContentReference);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return dlContentReference;
+	}
+
+	/**
+	 * Returns the document library content references with the primary keys, mapped by primary key. Primary keys that do not match a document library content reference are left out of the map.
+	 *
+	 * <p>
+	 * The entity cache is checked for all the primary keys at once, and the document library content references that are not cached are loaded with as few queries as possible and then cached.
+	 * </p>
+	 *
+	 * @param primaryKeys the primary keys of the document library content references
+	 * @return the document library content references that were found, mapped by primary key
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, DLContentReference> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, DLContentReference> map = new HashMap<Serializable, DLContentReference>();
+
+		if (primaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Map<Serializable, Object> cachedResults = EntityCacheUtil.getResults(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+				DLContentReferenceImpl.class, primaryKeys);
+
+		List<Serializable> uncachedPrimaryKeys = new ArrayList<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Object result = cachedResults.get(primaryKey);
+
+			if (result == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (result != StringPool.BLANK) {
+				DLContentReference dlContentReference = (DLContentReference)result;
+
+				if (dlContentReference != _nullDLContentReference) {
+					map.put(primaryKey, dlContentReference);
+				}
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeys.size();
+					start += _SQL_SELECT_PKS_IN_MAX_SIZE) {
+				int end = Math.min(start + _SQL_SELECT_PKS_IN_MAX_SIZE,
+						uncachedPrimaryKeys.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add(primaryKey);
+				}
+
+				List<DLContentReference> list = q.list();
+
+				for (DLContentReference dlContentReference : list) {
+					map.put(dlContentReference.getPrimaryKeyObj(),
+						dlContentReference);
+
+					cacheResult(dlContentReference);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			if (!map.containsKey(primaryKey)) {
+				EntityCacheUtil.putResult(DLContentReferenceModelImpl.ENTITY_CACHE_ENABLED,
+					DLContentReferenceImpl.class, primaryKey,
+					_nullDLContentReference);
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @return the matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R(long companyId, long repositoryId)
+		throws SystemException {
+		return findByC_R(companyId, repositoryId, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @return the range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R(long companyId,
+		long repositoryId, int start, int end) throws SystemException {
+		return findByC_R(companyId, repositoryId, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R(long companyId,
+		long repositoryId, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R;
+			finderArgs = new Object[] { companyId, repositoryId };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R;
+			finderArgs = new Object[] {
+					companyId, repositoryId,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<DLContentReference> list = (List<DLContentReference>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (DLContentReference dlContentReference : list) {
+				if ((companyId != dlContentReference.getCompanyId()) ||
+						(repositoryId != dlContentReference.getRepositoryId())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_REPOSITORYID_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				list = (List<DLContentReference>)QueryUtil.list(q,
+						getDialect(), start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_First(long companyId,
+		long repositoryId, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		List<DLContentReference> list = findByC_R(companyId, repositoryId, 0,
+				1, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_Last(long companyId, long repositoryId,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		int count = countByC_R(companyId, repositoryId);
+
+		List<DLContentReference> list = findByC_R(companyId, repositoryId,
+				count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param referenceId the primary key of the current document library content reference
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference[] findByC_R_PrevAndNext(long referenceId,
+		long companyId, long repositoryId, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = findByPrimaryKey(referenceId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentReference[] array = new DLContentReferenceImpl[3];
+
+			array[0] = getByC_R_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, orderByComparator, true);
+
+			array[1] = dlContentReference;
+
+			array[2] = getByC_R_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected DLContentReference getByC_R_PrevAndNext(Session session,
+		DLContentReference dlContentReference, long companyId,
+		long repositoryId, OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+		query.append(_FINDER_COLUMN_C_R_COMPANYID_2);
+
+		query.append(_FINDER_COLUMN_C_R_REPOSITORYID_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		qPos.add(repositoryId);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(dlContentReference);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<DLContentReference> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the document library content references where companyId = &#63; and hash = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_H(long companyId, String hash)
+		throws SystemException {
+		return findByC_H(companyId, hash, QueryUtil.ALL_POS, QueryUtil.ALL_POS,
+			null);
+	}
+
+	/**
+	 * Returns a range of all the document library content references where companyId = &#63; and hash = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @return the range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_H(long companyId, String hash,
+		int start, int end) throws SystemException {
+		return findByC_H(companyId, hash, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content references where companyId = &#63; and hash = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_H(long companyId, String hash,
+		int start, int end, OrderByComparator orderByComparator)
+		throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_H;
+			finderArgs = new Object[] { companyId, hash };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_H;
+			finderArgs = new Object[] {
+					companyId, hash,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<DLContentReference> list = (List<DLContentReference>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (DLContentReference dlContentReference : list) {
+				if ((companyId != dlContentReference.getCompanyId()) ||
+						!Validator.equals(hash, dlContentReference.getHash())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_H_COMPANYID_2);
+
+			if (hash == null) {
+				query.append(_FINDER_COLUMN_C_H_HASH_1);
+			}
+			else {
+				if (hash.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_H_HASH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_H_HASH_2);
+				}
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				if (hash != null) {
+					qPos.add(hash);
+				}
+
+				list = (List<DLContentReference>)QueryUtil.list(q,
+						getDialect(), start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_H_First(long companyId, String hash,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		List<DLContentReference> list = findByC_H(companyId, hash, 0, 1,
+				orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", hash=");
+			msg.append(hash);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_H_Last(long companyId, String hash,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		int count = countByC_H(companyId, hash);
+
+		List<DLContentReference> list = findByC_H(companyId, hash, count - 1,
+				count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", hash=");
+			msg.append(hash);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param referenceId the primary key of the current document library content reference
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference[] findByC_H_PrevAndNext(long referenceId,
+		long companyId, String hash, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = findByPrimaryKey(referenceId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentReference[] array = new DLContentReferenceImpl[3];
+
+			array[0] = getByC_H_PrevAndNext(session, dlContentReference,
+					companyId, hash, orderByComparator, true);
+
+			array[1] = dlContentReference;
+
+			array[2] = getByC_H_PrevAndNext(session, dlContentReference,
+					companyId, hash, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected DLContentReference getByC_H_PrevAndNext(Session session,
+		DLContentReference dlContentReference, long companyId, String hash,
+		OrderByComparator orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+		query.append(_FINDER_COLUMN_C_H_COMPANYID_2);
+
+		if (hash == null) {
+			query.append(_FINDER_COLUMN_C_H_HASH_1);
+		}
+		else {
+			if (hash.equals(StringPool.BLANK)) {
+				query.append(_FINDER_COLUMN_C_H_HASH_3);
+			}
+			else {
+				query.append(_FINDER_COLUMN_C_H_HASH_2);
+			}
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		if (hash != null) {
+			qPos.add(hash);
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(dlContentReference);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<DLContentReference> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @return the matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_P(long companyId,
+		long repositoryId, String path) throws SystemException {
+		return findByC_R_P(companyId, repositoryId, path, QueryUtil.ALL_POS,
+			QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @return the range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_P(long companyId,
+		long repositoryId, String path, int start, int end)
+		throws SystemException {
+		return findByC_R_P(companyId, repositoryId, path, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_P(long companyId,
+		long repositoryId, String path, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_P;
+			finderArgs = new Object[] { companyId, repositoryId, path };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_P;
+			finderArgs = new Object[] {
+					companyId, repositoryId, path,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<DLContentReference> list = (List<DLContentReference>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (DLContentReference dlContentReference : list) {
+				if ((companyId != dlContentReference.getCompanyId()) ||
+						(repositoryId != dlContentReference.getRepositoryId()) ||
+						!Validator.equals(path, dlContentReference.getPath())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(5 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(5);
+			}
+
+			query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_P_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_P_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_P_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_PATH_2);
+				}
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				list = (List<DLContentReference>)QueryUtil.list(q,
+						getDialect(), start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_P_First(long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		List<DLContentReference> list = findByC_R_P(companyId, repositoryId,
+				path, 0, 1, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(", path=");
+			msg.append(path);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_P_Last(long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		int count = countByC_R_P(companyId, repositoryId, path);
+
+		List<DLContentReference> list = findByC_R_P(companyId, repositoryId,
+				path, count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(", path=");
+			msg.append(path);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param referenceId the primary key of the current document library content reference
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference[] findByC_R_P_PrevAndNext(long referenceId,
+		long companyId, long repositoryId, String path,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = findByPrimaryKey(referenceId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentReference[] array = new DLContentReferenceImpl[3];
+
+			array[0] = getByC_R_P_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, path, orderByComparator, true);
+
+			array[1] = dlContentReference;
+
+			array[2] = getByC_R_P_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, path, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected DLContentReference getByC_R_P_PrevAndNext(Session session,
+		DLContentReference dlContentReference, long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+		query.append(_FINDER_COLUMN_C_R_P_COMPANYID_2);
+
+		query.append(_FINDER_COLUMN_C_R_P_REPOSITORYID_2);
+
+		if (path == null) {
+			query.append(_FINDER_COLUMN_C_R_P_PATH_1);
+		}
+		else {
+			if (path.equals(StringPool.BLANK)) {
+				query.append(_FINDER_COLUMN_C_R_P_PATH_3);
+			}
+			else {
+				query.append(_FINDER_COLUMN_C_R_P_PATH_2);
+			}
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		qPos.add(repositoryId);
+
+		if (path != null) {
+			qPos.add(path);
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(dlContentReference);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<DLContentReference> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @return the matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_LikeP(long companyId,
+		long repositoryId, String path) throws SystemException {
+		return findByC_R_LikeP(companyId, repositoryId, path,
+			QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @return the range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_LikeP(long companyId,
+		long repositoryId, String path, int start, int end)
+		throws SystemException {
+		return findByC_R_LikeP(companyId, repositoryId, path, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findByC_R_LikeP(long companyId,
+		long repositoryId, String path, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_R_LIKEP;
+			finderArgs = new Object[] { companyId, repositoryId, path };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_R_LIKEP;
+			finderArgs = new Object[] {
+					companyId, repositoryId, path,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<DLContentReference> list = (List<DLContentReference>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if ((list != null) && !list.isEmpty()) {
+			for (DLContentReference dlContentReference : list) {
+				if ((companyId != dlContentReference.getCompanyId()) ||
+						(repositoryId != dlContentReference.getRepositoryId()) ||
+						!Validator.equals(path, dlContentReference.getPath())) {
+					list = null;
+
+					break;
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(5 +
+						(orderByComparator.getOrderByFields().length * 3));
+			}
+			else {
+				query = new StringBundler(5);
+			}
+
+			query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_LIKEP_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_LIKEP_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_2);
+				}
+			}
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+
+			else {
+				query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				list = (List<DLContentReference>)QueryUtil.list(q,
+						getDialect(), start, end);
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_LikeP_First(long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		List<DLContentReference> list = findByC_R_LikeP(companyId,
+				repositoryId, path, 0, 1, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(", path=");
+			msg.append(path);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_LikeP_Last(long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		int count = countByC_R_LikeP(companyId, repositoryId, path);
+
+		List<DLContentReference> list = findByC_R_LikeP(companyId,
+				repositoryId, path, count - 1, count, orderByComparator);
+
+		if (list.isEmpty()) {
+			StringBundler msg = new StringBundler(8);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(", path=");
+			msg.append(path);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+		else {
+			return list.get(0);
+		}
+	}
+
+	/**
+	 * Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param referenceId the primary key of the current document library content reference
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference[] findByC_R_LikeP_PrevAndNext(long referenceId,
+		long companyId, long repositoryId, String path,
+		OrderByComparator orderByComparator)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = findByPrimaryKey(referenceId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			DLContentReference[] array = new DLContentReferenceImpl[3];
+
+			array[0] = getByC_R_LikeP_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, path, orderByComparator, true);
+
+			array[1] = dlContentReference;
+
+			array[2] = getByC_R_LikeP_PrevAndNext(session, dlContentReference,
+					companyId, repositoryId, path, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected DLContentReference getByC_R_LikeP_PrevAndNext(Session session,
+		DLContentReference dlContentReference, long companyId,
+		long repositoryId, String path, OrderByComparator orderByComparator,
+		boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(6 +
+					(orderByComparator.getOrderByFields().length * 6));
+		}
+		else {
+			query = new StringBundler(3);
+		}
+
+		query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+		query.append(_FINDER_COLUMN_C_R_LIKEP_COMPANYID_2);
+
+		query.append(_FINDER_COLUMN_C_R_LIKEP_REPOSITORYID_2);
+
+		if (path == null) {
+			query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_1);
+		}
+		else {
+			if (path.equals(StringPool.BLANK)) {
+				query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_3);
+			}
+			else {
+				query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_2);
+			}
+		}
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+
+		else {
+			query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		qPos.add(repositoryId);
+
+		if (path != null) {
+			qPos.add(path);
+		}
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(dlContentReference);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<DLContentReference> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentReferenceException} if it could not be found.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param version the version
+	 * @return the matching document library content reference
+	 * @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference findByC_R_P_V(long companyId, long repositoryId,
+		String path, String version)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = fetchByC_R_P_V(companyId,
+				repositoryId, path, version);
+
+		if (dlContentReference == null) {
+			StringBundler msg = new StringBundler(10);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("companyId=");
+			msg.append(companyId);
+
+			msg.append(", repositoryId=");
+			msg.append(repositoryId);
+
+			msg.append(", path=");
+			msg.append(path);
+
+			msg.append(", version=");
+			msg.append(version);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(msg.toString());
+			}
+
+			throw new NoSuchContentReferenceException(msg.toString());
+		}
+
+		return dlContentReference;
+	}
+
+	/**
+	 * Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param version the version
+	 * @return the matching document library content reference, or <code>null</code> if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference fetchByC_R_P_V(long companyId, long repositoryId,
+		String path, String version) throws SystemException {
+		return fetchByC_R_P_V(companyId, repositoryId, path, version, true);
+	}
+
+	/**
+	 * Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param version the version
+	 * @param retrieveFromCache whether to use the finder cache
+	 * @return the matching document library content reference, or <code>null</code> if a matching document library content reference could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference fetchByC_R_P_V(long companyId, long repositoryId,
+		String path, String version, boolean retrieveFromCache)
+		throws SystemException {
+		Object[] finderArgs = new Object[] {
+				companyId, repositoryId, path, version
+			};
+
+		Object result = null;
+
+		if (retrieveFromCache) {
+			result = FinderCacheUtil.getResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+					finderArgs, this);
+		}
+
+		if (result instanceof DLContentReference) {
+			DLContentReference dlContentReference = (DLContentReference)result;
+
+			if ((companyId != dlContentReference.getCompanyId()) ||
+					(repositoryId != dlContentReference.getRepositoryId()) ||
+					!Validator.equals(path, dlContentReference.getPath()) ||
+					!Validator.equals(version, dlContentReference.getVersion())) {
+				result = null;
+			}
+		}
+
+		if (result == null) {
+			StringBundler query = new StringBundler(6);
+
+			query.append(_SQL_SELECT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_P_V_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_P_V_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_P_V_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_V_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_V_PATH_2);
+				}
+			}
+
+			if (version == null) {
+				query.append(_FINDER_COLUMN_C_R_P_V_VERSION_1);
+			}
+			else {
+				if (version.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_V_VERSION_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_V_VERSION_2);
+				}
+			}
+
+			query.append(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				if (version != null) {
+					qPos.add(version);
+				}
+
+				List<DLContentReference> list = q.list();
+
+				result = list;
+
+				DLContentReference dlContentReference = null;
+
+				if (list.isEmpty()) {
+					FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+						finderArgs, list);
+				}
+				else {
+					dlContentReference = list.get(0);
+
+					cacheResult(dlContentReference);
+
+					if ((dlContentReference.getCompanyId() != companyId) ||
+							(dlContentReference.getRepositoryId() != repositoryId) ||
+							(dlContentReference.getPath() == null) ||
+							!dlContentReference.getPath().equals(path) ||
+							(dlContentReference.getVersion() == null) ||
+							!dlContentReference.getVersion().equals(version)) {
+						FinderCacheUtil.putResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+							finderArgs, dlContentReference);
+					}
+				}
+
+				return dlContentReference;
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (result == null) {
+					FinderCacheUtil.removeResult(FINDER_PATH_FETCH_BY_C_R_P_V,
+						finderArgs);
+				}
+
+				closeSession(session);
+			}
+		}
+		else {
+			if (result instanceof List<?>) {
+				return null;
+			}
+			else {
+				return (DLContentReference)result;
+			}
+		}
+	}
+
+	/**
+	 * Returns all the document library content references.
+	 *
+	 * @return the document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findAll() throws SystemException {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the document library content references.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @return the range of document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findAll(int start, int end)
+		throws SystemException {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the document library content references.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of document library content references
+	 * @param end the upper bound of the range of document library content references (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<DLContentReference> findAll(int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		FinderPath finderPath = null;
+		Object[] finderArgs = new Object[] { start, end, orderByComparator };
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<DLContentReference> list = (List<DLContentReference>)FinderCacheUtil.getResult(finderPath,
+				finderArgs, this);
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 3));
+
+				query.append(_SQL_SELECT_DLCONTENTREFERENCE);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_DLCONTENTREFERENCE.concat(DLContentReferenceModelImpl.ORDER_BY_JPQL);
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (orderByComparator == null) {
+					list = (List<DLContentReference>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+				}
+				else {
+					list = (List<DLContentReference>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (list == null) {
+					FinderCacheUtil.removeResult(finderPath, finderArgs);
+				}
+				else {
+					cacheResult(list);
+
+					FinderCacheUtil.putResult(finderPath, finderArgs, list);
+				}
+
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the document library content references where companyId = &#63; and repositoryId = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByC_R(long companyId, long repositoryId)
+		throws SystemException {
+		for (DLContentReference dlContentReference : findByC_R(companyId,
+				repositoryId)) {
+			remove(dlContentReference);
+		}
+	}
+
+	/**
+	 * Removes all the document library content references where companyId = &#63; and hash = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByC_H(long companyId, String hash)
+		throws SystemException {
+		for (DLContentReference dlContentReference : findByC_H(companyId, hash)) {
+			remove(dlContentReference);
+		}
+	}
+
+	/**
+	 * Removes all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByC_R_P(long companyId, long repositoryId, String path)
+		throws SystemException {
+		for (DLContentReference dlContentReference : findByC_R_P(companyId,
+				repositoryId, path)) {
+			remove(dlContentReference);
+		}
+	}
+
+	/**
+	 * Removes all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeByC_R_LikeP(long companyId, long repositoryId, String path)
+		throws SystemException {
+		for (DLContentReference dlContentReference : findByC_R_LikeP(
+				companyId, repositoryId, path)) {
+			remove(dlContentReference);
+		}
+	}
+
+	/**
+	 * Removes the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param version the version
+	 * @return the document library content reference that was removed
+	 * @throws SystemException if a system exception occurred
+	 */
+	public DLContentReference removeByC_R_P_V(long companyId,
+		long repositoryId, String path, String version)
+		throws NoSuchContentReferenceException, SystemException {
+		DLContentReference dlContentReference = findByC_R_P_V(companyId,
+				repositoryId, path, version);
+
+		return remove(dlContentReference);
+	}
+
+	/**
+	 * Removes all the document library content references from the database.
+	 *
+	 * @throws SystemException if a system exception occurred
+	 */
+	public void removeAll() throws SystemException {
+		for (DLContentReference dlContentReference : findAll()) {
+			remove(dlContentReference);
+		}
+	}
+
+	/**
+	 * Returns the number of document library content references where companyId = &#63; and repositoryId = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @return the number of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_R(long companyId, long repositoryId)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, repositoryId };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_R,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_REPOSITORYID_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_R, finderArgs,
+					count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content references where companyId = &#63; and hash = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param hash the hash
+	 * @return the number of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_H(long companyId, String hash)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, hash };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_H,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_H_COMPANYID_2);
+
+			if (hash == null) {
+				query.append(_FINDER_COLUMN_C_H_HASH_1);
+			}
+			else {
+				if (hash.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_H_HASH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_H_HASH_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				if (hash != null) {
+					qPos.add(hash);
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_H, finderArgs,
+					count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @return the number of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_R_P(long companyId, long repositoryId, String path)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, repositoryId, path };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_R_P,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_COUNT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_P_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_P_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_P_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_PATH_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_R_P,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @return the number of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_R_LikeP(long companyId, long repositoryId, String path)
+		throws SystemException {
+		Object[] finderArgs = new Object[] { companyId, repositoryId, path };
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_R_LIKEP,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_COUNT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_LIKEP_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_LIKEP_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_LIKEP_PATH_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_R_LIKEP,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param repositoryId the repository ID
+	 * @param path the path
+	 * @param version the version
+	 * @return the number of matching document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countByC_R_P_V(long companyId, long repositoryId, String path,
+		String version) throws SystemException {
+		Object[] finderArgs = new Object[] {
+				companyId, repositoryId, path, version
+			};
+
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_BY_C_R_P_V,
+				finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(5);
+
+			query.append(_SQL_COUNT_DLCONTENTREFERENCE_WHERE);
+
+			query.append(_FINDER_COLUMN_C_R_P_V_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_R_P_V_REPOSITORYID_2);
+
+			if (path == null) {
+				query.append(_FINDER_COLUMN_C_R_P_V_PATH_1);
+			}
+			else {
+				if (path.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_V_PATH_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_V_PATH_2);
+				}
+			}
+
+			if (version == null) {
+				query.append(_FINDER_COLUMN_C_R_P_V_VERSION_1);
+			}
+			else {
+				if (version.equals(StringPool.BLANK)) {
+					query.append(_FINDER_COLUMN_C_R_P_V_VERSION_3);
+				}
+				else {
+					query.append(_FINDER_COLUMN_C_R_P_V_VERSION_2);
+				}
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(repositoryId);
+
+				if (path != null) {
+					qPos.add(path);
+				}
+
+				if (version != null) {
+					qPos.add(version);
+				}
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_BY_C_R_P_V,
+					finderArgs, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Returns the number of document library content references.
+	 *
+	 * @return the number of document library content references
+	 * @throws SystemException if a system exception occurred
+	 */
+	public int countAll() throws SystemException {
+		Long count = (Long)FinderCacheUtil.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_DLCONTENTREFERENCE);
+
+				count = (Long)q.uniqueResult();
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				if (count == null) {
+					count = Long.valueOf(0);
+				}
+
+				FinderCacheUtil.putResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY, count);
+
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	/**
+	 * Initializes the document library content reference persistence.
+	 */
+	public void afterPropertiesSet() {
+		String[] listenerClassNames = StringUtil.split(GetterUtil.getString(
+					com.liferay.portal.util.PropsUtil.get(
+						"value.object.listener.com.liferay.portlet.documentlibrary.model.DLContentReference")));
+
+		if (listenerClassNames.length > 0) {
+			try {
+				List<ModelListener<DLContentReference>> listenersList = new ArrayList<ModelListener<DLContentReference>>();
+
+				for (String listenerClassName : listenerClassNames) {
+					listenersList.add((ModelListener<DLContentReference>)InstanceFactory.newInstance(
+							listenerClassName));
+				}
+
+				listeners = listenersList.toArray(new ModelListener[listenersList.size()]);
+			}
+			catch (Exception e) {
+				_log.error(e);
+			}
+		}
+	}
+
+	public void destroy() {
+		EntityCacheUtil.removeCache(DLContentReferenceImpl.class.getName());
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_ENTITY);
+		FinderCacheUtil.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	@BeanReference(type = DLContentPersistence.class)
+	protected DLContentPersistence dlContentPersistence;
+	@BeanReference(type = DLContentChunkPersistence.class)
+	protected DLContentChunkPersistence dlContentChunkPersistence;
+	@BeanReference(type = DLContentHashPersistence.class)
+	protected DLContentHashPersistence dlContentHashPersistence;
+	@BeanReference(type = DLContentReferencePersistence.class)
+	protected DLContentReferencePersistence dlContentReferencePersistence;
+	@BeanReference(type = DLFileEntryPersistence.class)
+	protected DLFileEntryPersistence dlFileEntryPersistence;
+	@BeanReference(type = DLFileEntryMetadataPersistence.class)
+	protected DLFileEntryMetadataPersistence dlFileEntryMetadataPersistence;
+	@BeanReference(type = DLFileEntryTypePersistence.class)
+	protected DLFileEntryTypePersistence dlFileEntryTypePersistence;
+	@BeanReference(type = DLFileRankPersistence.class)
+	protected DLFileRankPersistence dlFileRankPersistence;
+	@BeanReference(type = DLFileShortcutPersistence.class)
+	protected DLFileShortcutPersistence dlFileShortcutPersistence;
+	@BeanReference(type = DLFileVersionPersistence.class)
+	protected DLFileVersionPersistence dlFileVersionPersistence;
+	@BeanReference(type = DLFolderPersistence.class)
+	protected DLFolderPersistence dlFolderPersistence;
+	@BeanReference(type = DLSyncPersistence.class)
+	protected DLSyncPersistence dlSyncPersistence;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	private static final String _SQL_SELECT_DLCONTENTREFERENCE = "SELECT dlContentReference FROM DLContentReference dlContentReference";
+	private static final String _SQL_SELECT_DLCONTENTREFERENCE_WHERE = "SELECT dlContentReference FROM DLContentReference dlContentReference WHERE ";
+	private static final String _SQL_SELECT_DLCONTENTREFERENCE_WHERE_PKS_IN = "SELECT dlContentReference FROM DLContentReference dlContentReference WHERE dlContentReference.referenceId IN (";
+	private static final String _SQL_COUNT_DLCONTENTREFERENCE = "SELECT COUNT(dlContentReference) FROM DLContentReference dlContentReference";
+	private static final String _SQL_COUNT_DLCONTENTREFERENCE_WHERE = "SELECT COUNT(dlContentReference) FROM DLContentReference dlContentReference WHERE ";
+	private static final String _FINDER_COLUMN_C_R_COMPANYID_2 = "dlContentReference.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_REPOSITORYID_2 = "dlContentReference.repositoryId = ?";
+	private static final String _FINDER_COLUMN_C_H_COMPANYID_2 = "dlContentReference.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_H_HASH_1 = "dlContentReference.hash IS NULL";
+	private static final String _FINDER_COLUMN_C_H_HASH_2 = "dlContentReference.hash = ?";
+	private static final String _FINDER_COLUMN_C_H_HASH_3 = "(dlContentReference.hash IS NULL OR dlContentReference.hash = ?)";
+	private static final String _FINDER_COLUMN_C_R_P_COMPANYID_2 = "dlContentReference.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_P_REPOSITORYID_2 = "dlContentReference.repositoryId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_P_PATH_1 = "dlContentReference.path IS NULL";
+	private static final String _FINDER_COLUMN_C_R_P_PATH_2 = "dlContentReference.path = ?";
+	private static final String _FINDER_COLUMN_C_R_P_PATH_3 = "(dlContentReference.path IS NULL OR dlContentReference.path = ?)";
+	private static final String _FINDER_COLUMN_C_R_LIKEP_COMPANYID_2 = "dlContentReference.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_LIKEP_REPOSITORYID_2 = "dlContentReference.repositoryId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_LIKEP_PATH_1 = "dlContentReference.path LIKE NULL";
+	private static final String _FINDER_COLUMN_C_R_LIKEP_PATH_2 = "dlContentReference.path LIKE ?";
+	private static final String _FINDER_COLUMN_C_R_LIKEP_PATH_3 = "(dlContentReference.path IS NULL OR dlContentReference.path LIKE ?)";
+	private static final String _FINDER_COLUMN_C_R_P_V_COMPANYID_2 = "dlContentReference.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_P_V_REPOSITORYID_2 = "dlContentReference.repositoryId = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_P_V_PATH_1 = "dlContentReference.path IS NULL AND ";
+	private static final String _FINDER_COLUMN_C_R_P_V_PATH_2 = "dlContentReference.path = ? AND ";
+	private static final String _FINDER_COLUMN_C_R_P_V_PATH_3 = "(dlContentReference.path IS NULL OR dlContentReference.path = ?) AND ";
+	private static final String _FINDER_COLUMN_C_R_P_V_VERSION_1 = "dlContentReference.version IS NULL";
+	private static final String _FINDER_COLUMN_C_R_P_V_VERSION_2 = "dlContentReference.version = ?";
+	private static final String _FINDER_COLUMN_C_R_P_V_VERSION_3 = "(dlContentReference.version IS NULL OR dlContentReference.version = ?)";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "dlContentReference.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No DLContentReference exists with the primary key ";
+	private static final int _SQL_SELECT_PKS_IN_MAX_SIZE = 1000;
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No DLContentReference exists with the key {";
+	private static final boolean _HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = com.liferay.portal.util.PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE;
+	private static Log _log = LogFactoryUtil.getLog(DLContentReferencePersistenceImpl.class);
+	private static DLContentReference _nullDLContentReference = new DLContentReferenceImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<DLContentReference> toCacheModel() {
+				return _nullDLContentReferenceCacheModel;
+			}
+		};
+
+	private static CacheModel<DLContentReference> _nullDLContentReferenceCacheModel =
+		new CacheModel<DLContentReference>() {
+			public DLContentReference toEntityModel() {
+				return _nullDLContentReference;
+			}
+		};
+}
\ No newline at end of file
@@ -0,0 +1,625 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.store;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CompanyConstants;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.documentlibrary.DuplicateFileException;
+import com.liferay.portlet.documentlibrary.NoSuchDirectoryException;
+import com.liferay.portlet.documentlibrary.NoSuchFileException;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.service.DLContentHashLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLContentReferenceLocalServiceUtil;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Stores every distinct content only once in the wrapped store.
+ *
+ * <p>
+ * New content is stored under the SHA-256 hash of its bytes and every file
+ * version is a {@link DLContentReference} to a hash, so identical uploads and
+ * copied versions share their content. Files without references were stored
+ * before this wrapper was enabled and are still served by the wrapped store.
+ * </p>
+ *
+ * <p>
+ * The content of a hash is written and referenced by {@link
+ * com.liferay.portlet.documentlibrary.service.DLContentHashLocalService} in
+ * one transaction that locks the hash, or joins the transaction of the file
+ * entry, so the content is never deleted while a concurrent transaction is
+ * still adding a reference to it. The content is deleted after the
+ * transaction that deleted its last reference commits.
+ * </p>
+ */
+public class ContentAddressedStoreWrapper implements Store {
+
+	public static String getContentPath(String hash) {
+		StringBundler sb = new StringBundler(7);
+
+		sb.append(_CONTENT_DIR_NAME);
+		sb.append(StringPool.SLASH);
+		sb.append(hash.substring(0, 2));
+		sb.append(StringPool.SLASH);
+		sb.append(hash.substring(2, 4));
+		sb.append(StringPool.SLASH);
+		sb.append(hash);
+
+		return sb.toString();
+	}
+
+	public static Store wrap(Store store) {
+		if (!PropsValues.DL_STORE_CONTENT_ADDRESSED_ENABLED) {
+			return store;
+		}
+
+		return new ContentAddressedStoreWrapper(store);
+	}
+
+	public ContentAddressedStoreWrapper(Store store) {
+		_store = store;
+	}
+
+	public void addDirectory(long companyId, long repositoryId, String dirName)
+		throws PortalException, SystemException {
+
+		_store.addDirectory(companyId, repositoryId, dirName);
+	}
+
+	public void addFile(
+			long companyId, long repositoryId, String fileName, byte[] bytes)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, VERSION_DEFAULT);
+
+		addContent(companyId, repositoryId, fileName, VERSION_DEFAULT, bytes);
+	}
+
+	public void addFile(
+			long companyId, long repositoryId, String fileName, File file)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, VERSION_DEFAULT);
+
+		addContent(companyId, repositoryId, fileName, VERSION_DEFAULT, file);
+	}
+
+	public void addFile(
+			long companyId, long repositoryId, String fileName, InputStream is)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, VERSION_DEFAULT);
+
+		addContent(companyId, repositoryId, fileName, VERSION_DEFAULT, is);
+	}
+
+	public void checkRoot(long companyId) throws SystemException {
+		_store.checkRoot(companyId);
+	}
+
+	public void copyFileVersion(
+			long companyId, long repositoryId, String fileName,
+			String fromVersionLabel, String toVersionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchContentReference(
+				companyId, repositoryId, fileName, fromVersionLabel);
+
+		if (dlContentReference == null) {
+			_store.copyFileVersion(
+				companyId, repositoryId, fileName, fromVersionLabel,
+				toVersionLabel);
+
+			return;
+		}
+
+		validate(companyId, repositoryId, fileName, toVersionLabel);
+
+		DLContentHashLocalServiceUtil.copyContent(
+			companyId, repositoryId, fileName, toVersionLabel,
+			dlContentReference.getHash(), dlContentReference.getSize());
+	}
+
+	public void deleteDirectory(
+			long companyId, long repositoryId, String dirName)
+		throws PortalException, SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			DLContentReferenceLocalServiceUtil.
+				deleteContentReferencesByDirectory(
+					companyId, repositoryId, dirName);
+
+		try {
+			_store.deleteDirectory(companyId, repositoryId, dirName);
+		}
+		catch (NoSuchDirectoryException nsde) {
+			if (dlContentReferences.isEmpty()) {
+				throw nsde;
+			}
+		}
+	}
+
+	public void deleteFile(long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			DLContentReferenceLocalServiceUtil.deleteContentReferences(
+				companyId, repositoryId, fileName);
+
+		try {
+			_store.deleteFile(companyId, repositoryId, fileName);
+		}
+		catch (NoSuchFileException nsfe) {
+			if (dlContentReferences.isEmpty()) {
+				throw nsfe;
+			}
+		}
+	}
+
+	public void deleteFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchContentReference(
+				companyId, repositoryId, fileName, versionLabel);
+
+		if (dlContentReference == null) {
+			_store.deleteFile(companyId, repositoryId, fileName, versionLabel);
+
+			return;
+		}
+
+		DLContentReferenceLocalServiceUtil.deleteContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+	}
+
+	public File getFile(long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		return getFile(companyId, repositoryId, fileName, StringPool.BLANK);
+	}
+
+	public File getFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference = fetchContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (dlContentReference == null) {
+			return _store.getFile(
+				companyId, repositoryId, fileName, versionLabel);
+		}
+
+		return _store.getFile(
+			companyId, CompanyConstants.SYSTEM,
+			getContentPath(dlContentReference.getHash()), VERSION_DEFAULT);
+	}
+
+	public byte[] getFileAsBytes(
+			long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		return getFileAsBytes(
+			companyId, repositoryId, fileName, StringPool.BLANK);
+	}
+
+	public byte[] getFileAsBytes(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference = fetchContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (dlContentReference == null) {
+			return _store.getFileAsBytes(
+				companyId, repositoryId, fileName, versionLabel);
+		}
+
+		return _store.getFileAsBytes(
+			companyId, CompanyConstants.SYSTEM,
+			getContentPath(dlContentReference.getHash()), VERSION_DEFAULT);
+	}
+
+	public InputStream getFileAsStream(
+			long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		return getFileAsStream(
+			companyId, repositoryId, fileName, StringPool.BLANK);
+	}
+
+	public InputStream getFileAsStream(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference = fetchContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (dlContentReference == null) {
+			return _store.getFileAsStream(
+				companyId, repositoryId, fileName, versionLabel);
+		}
+
+		return _store.getFileAsStream(
+			companyId, CompanyConstants.SYSTEM,
+			getContentPath(dlContentReference.getHash()), VERSION_DEFAULT);
+	}
+
+	public String[] getFileNames(long companyId, long repositoryId)
+		throws SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			DLContentReferenceLocalServiceUtil.getContentReferences(
+				companyId, repositoryId);
+
+		return getFileNames(
+			_store.getFileNames(companyId, repositoryId), dlContentReferences);
+	}
+
+	public String[] getFileNames(
+			long companyId, long repositoryId, String dirName)
+		throws PortalException, SystemException {
+
+		List<DLContentReference> dlContentReferences =
+			DLContentReferenceLocalServiceUtil.getContentReferencesByDirectory(
+				companyId, repositoryId, dirName);
+
+		String[] fileNames = null;
+
+		try {
+			fileNames = _store.getFileNames(companyId, repositoryId, dirName);
+		}
+		catch (NoSuchDirectoryException nsde) {
+			if (dlContentReferences.isEmpty()) {
+				throw nsde;
+			}
+
+			fileNames = new String[0];
+		}
+
+		return getFileNames(fileNames, dlContentReferences);
+	}
+
+	public long getFileSize(long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchLatestContentReference(
+				companyId, repositoryId, fileName);
+
+		if (dlContentReference == null) {
+			return _store.getFileSize(companyId, repositoryId, fileName);
+		}
+
+		return dlContentReference.getSize();
+	}
+
+	public boolean hasDirectory(
+			long companyId, long repositoryId, String dirName)
+		throws PortalException, SystemException {
+
+		return _store.hasDirectory(companyId, repositoryId, dirName);
+	}
+
+	public boolean hasFile(long companyId, long repositoryId, String fileName)
+		throws PortalException, SystemException {
+
+		return hasFile(companyId, repositoryId, fileName, VERSION_DEFAULT);
+	}
+
+	public boolean hasFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference = fetchContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (dlContentReference != null) {
+			return true;
+		}
+
+		return _store.hasFile(companyId, repositoryId, fileName, versionLabel);
+	}
+
+	public void move(String srcDir, String destDir) throws SystemException {
+		_store.move(srcDir, destDir);
+	}
+
+	public void updateFile(
+			long companyId, long repositoryId, long newRepositoryId,
+			String fileName)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchLatestContentReference(
+				companyId, repositoryId, fileName);
+
+		if (dlContentReference == null) {
+			_store.updateFile(
+				companyId, repositoryId, newRepositoryId, fileName);
+
+			return;
+		}
+
+		if (hasFile(companyId, newRepositoryId, fileName, StringPool.BLANK)) {
+			throw new DuplicateFileException(fileName);
+		}
+
+		DLContentReferenceLocalServiceUtil.updateContentReferences(
+			companyId, repositoryId, newRepositoryId, fileName, fileName);
+
+		try {
+			_store.updateFile(
+				companyId, repositoryId, newRepositoryId, fileName);
+		}
+		catch (NoSuchFileException nsfe) {
+		}
+	}
+
+	public void updateFile(
+			long companyId, long repositoryId, String fileName,
+			String newFileName)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchLatestContentReference(
+				companyId, repositoryId, fileName);
+
+		if (dlContentReference == null) {
+			_store.updateFile(companyId, repositoryId, fileName, newFileName);
+
+			return;
+		}
+
+		if (hasFile(companyId, repositoryId, newFileName, StringPool.BLANK)) {
+			throw new DuplicateFileException(newFileName);
+		}
+
+		DLContentReferenceLocalServiceUtil.updateContentReferences(
+			companyId, repositoryId, repositoryId, fileName, newFileName);
+
+		try {
+			_store.updateFile(companyId, repositoryId, fileName, newFileName);
+		}
+		catch (NoSuchFileException nsfe) {
+		}
+	}
+
+	public void updateFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, byte[] bytes)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, versionLabel);
+
+		addContent(companyId, repositoryId, fileName, versionLabel, bytes);
+	}
+
+	public void updateFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, File file)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, versionLabel);
+
+		addContent(companyId, repositoryId, fileName, versionLabel, file);
+	}
+
+	public void updateFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, InputStream is)
+		throws PortalException, SystemException {
+
+		validate(companyId, repositoryId, fileName, versionLabel);
+
+		addContent(companyId, repositoryId, fileName, versionLabel, is);
+	}
+
+	public void updateFileVersion(
+			long companyId, long repositoryId, String fileName,
+			String fromVersionLabel, String toVersionLabel)
+		throws PortalException, SystemException {
+
+		DLContentReference dlContentReference =
+			DLContentReferenceLocalServiceUtil.fetchContentReference(
+				companyId, repositoryId, fileName, fromVersionLabel);
+
+		if (dlContentReference == null) {
+			_store.updateFileVersion(
+				companyId, repositoryId, fileName, fromVersionLabel,
+				toVersionLabel);
+
+			return;
+		}
+
+		validate(companyId, repositoryId, fileName, toVersionLabel);
+
+		DLContentReferenceLocalServiceUtil.updateContentReferenceVersion(
+			companyId, repositoryId, fileName, fromVersionLabel,
+			toVersionLabel);
+	}
+
+	protected void addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, byte[] bytes)
+		throws PortalException, SystemException {
+
+		MessageDigest messageDigest = getMessageDigest();
+
+		String hash = Hex.encodeHexString(messageDigest.digest(bytes));
+
+		DLContentHashLocalServiceUtil.addContent(
+			companyId, repositoryId, fileName, versionLabel, hash, bytes);
+	}
+
+	protected void addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, File file)
+		throws PortalException, SystemException {
+
+		MessageDigest messageDigest = getMessageDigest();
+
+		InputStream inputStream = null;
+
+		try {
+			inputStream = new DigestInputStream(
+				new FileInputStream(file), messageDigest);
+
+			byte[] buffer = new byte[_BUFFER_SIZE];
+
+			while (inputStream.read(buffer) != -1) {
+			}
+		}
+		catch (IOException ioe) {
+			throw new SystemException(ioe);
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+
+		addContent(
+			companyId, repositoryId, fileName, versionLabel, file,
+			Hex.encodeHexString(messageDigest.digest()));
+	}
+
+	protected void addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, File file, String hash)
+		throws PortalException, SystemException {
+
+		DLContentHashLocalServiceUtil.addContent(
+			companyId, repositoryId, fileName, versionLabel, hash, file);
+	}
+
+	protected void addContent(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, InputStream is)
+		throws PortalException, SystemException {
+
+		// Hash the input stream while spooling it to a file so that it is
+		// only read once and never held in memory
+
+		MessageDigest messageDigest = getMessageDigest();
+
+		File file = null;
+
+		try {
+			file = FileUtil.createTempFile();
+
+			FileUtil.write(file, new DigestInputStream(is, messageDigest));
+
+			addContent(
+				companyId, repositoryId, fileName, versionLabel, file,
+				Hex.encodeHexString(messageDigest.digest()));
+		}
+		catch (IOException ioe) {
+			throw new SystemException(ioe);
+		}
+		finally {
+			StreamUtil.cleanUp(is);
+
+			FileUtil.delete(file);
+		}
+	}
+
+	protected DLContentReference fetchContentReference(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws SystemException {
+
+		if (Validator.isNull(versionLabel)) {
+			return DLContentReferenceLocalServiceUtil.
+				fetchLatestContentReference(companyId, repositoryId, fileName);
+		}
+
+		return DLContentReferenceLocalServiceUtil.fetchContentReference(
+			companyId, repositoryId, fileName, versionLabel);
+	}
+
+	protected String[] getFileNames(
+		String[] fileNames, List<DLContentReference> dlContentReferences) {
+
+		if (dlContentReferences.isEmpty()) {
+			return fileNames;
+		}
+
+		Set<String> fileNamesSet = new TreeSet<String>();
+
+		Collections.addAll(fileNamesSet, fileNames);
+
+		for (DLContentReference dlContentReference : dlContentReferences) {
+			fileNamesSet.add(dlContentReference.getPath());
+		}
+
+		return fileNamesSet.toArray(new String[fileNamesSet.size()]);
+	}
+
+	protected MessageDigest getMessageDigest() throws SystemException {
+		try {
+			return MessageDigest.getInstance(_DIGEST_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new SystemException(nsae);
+		}
+	}
+
+	protected void validate(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException, SystemException {
+
+		if (hasFile(companyId, repositoryId, fileName, versionLabel)) {
+			throw new DuplicateFileException(fileName);
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private static final String _CONTENT_DIR_NAME = "content_store";
+
+	private static final String _DIGEST_ALGORITHM = "SHA-256";
+
+	private Store _store;
+
+}
@@ -16,13 +16,19 @@ package com.liferay.portlet.documentlibrary.store;
 
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.io.ChunkedInputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.documentlibrary.DuplicateFileException;
 import com.liferay.portlet.documentlibrary.model.DLContent;
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+import com.liferay.portlet.documentlibrary.model.DLContentChunkDataBlobModel;
+import com.liferay.portlet.documentlibrary.service.DLContentChunkLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLContentLocalServiceUtil;
 
 import java.io.ByteArrayInputStream;
@@ -118,6 +124,12 @@ public class DBStore extends BaseStore {
 		DLContent dlContent = DLContentLocalServiceUtil.getContent(
 			companyId, repositoryId, fileName);
 
+		InputStream inputStream = getChunkedInputStream(dlContent);
+
+		if (inputStream != null) {
+			return inputStream;
+		}
+
 		dlContent.resetOriginalValues();
 
 		Blob blobData = dlContent.getData();
@@ -167,6 +179,12 @@ public class DBStore extends BaseStore {
 		DLContent dlContent = DLContentLocalServiceUtil.getContent(
 			companyId, repositoryId, fileName, versionLabel);
 
+		InputStream inputStream = getChunkedInputStream(dlContent);
+
+		if (inputStream != null) {
+			return inputStream;
+		}
+
 		Blob blobData = dlContent.getData();
 
 		if (blobData == null) {
@@ -308,6 +326,14 @@ public class DBStore extends BaseStore {
 			throw new DuplicateFileException(fileName);
 		}
 
+		if (isChunked(bytes.length)) {
+			DLContentLocalServiceUtil.addContent(
+				companyId, repositoryId, fileName, versionLabel, bytes,
+				PropsValues.DL_STORE_DB_CHUNK_SIZE);
+
+			return;
+		}
+
 		DLContentLocalServiceUtil.addContent(
 			companyId, repositoryId, fileName, versionLabel, bytes);
 	}
@@ -324,6 +350,14 @@ public class DBStore extends BaseStore {
 			throw new DuplicateFileException(fileName);
 		}
 
+		if (isChunked(file.length())) {
+			DLContentLocalServiceUtil.addContent(
+				companyId, repositoryId, fileName, versionLabel, file,
+				PropsValues.DL_STORE_DB_CHUNK_SIZE);
+
+			return;
+		}
+
 		InputStream inputStream = null;
 
 		try {
@@ -380,7 +414,33 @@ public class DBStore extends BaseStore {
 			length = unsyncByteArrayInputStream.available();
 		}
 
-		if (length >= 0) {
+		if ((PropsValues.DL_STORE_DB_CHUNK_SIZE > 0) &&
+			((length < 0) || isChunked(length))) {
+
+			// Spool the input stream to a file so that it can be split into
+			// chunks of known sizes without reading it into memory
+
+			File file = null;
+
+			try {
+				file = FileUtil.createTempFile();
+
+				FileUtil.write(file, inputStream);
+
+				DLContentLocalServiceUtil.addContent(
+					companyId, repositoryId, fileName, versionLabel, file,
+					PropsValues.DL_STORE_DB_CHUNK_SIZE);
+			}
+			catch (IOException ioe) {
+				throw new SystemException(ioe);
+			}
+			finally {
+				StreamUtil.cleanUp(inputStream);
+
+				FileUtil.delete(file);
+			}
+		}
+		else if (length >= 0) {
 			DLContentLocalServiceUtil.addContent(
 				companyId, repositoryId, fileName, versionLabel, inputStream,
 				length);
@@ -406,6 +466,79 @@ public class DBStore extends BaseStore {
 		}
 	}
 
+	protected InputStream getChunkedInputStream(DLContent dlContent)
+		throws SystemException {
+
+		List<DLContentChunk> dlContentChunks =
+			DLContentChunkLocalServiceUtil.getContentChunks(
+				dlContent.getContentId());
+
+		if (dlContentChunks.isEmpty()) {
+			return null;
+		}
+
+		return new DLContentChunkInputStream(dlContentChunks);
+	}
+
+	protected boolean isChunked(long size) {
+		if ((PropsValues.DL_STORE_DB_CHUNK_SIZE > 0) &&
+			(size > PropsValues.DL_STORE_DB_CHUNK_SIZE)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(DBStore.class);
 
+	private static class DLContentChunkInputStream extends ChunkedInputStream {
+
+		public DLContentChunkInputStream(List<DLContentChunk> dlContentChunks) {
+			super(_getChunkSizes(dlContentChunks));
+
+			_chunkIds = new long[dlContentChunks.size()];
+
+			for (int i = 0; i < dlContentChunks.size(); i++) {
+				DLContentChunk dlContentChunk = dlContentChunks.get(i);
+
+				_chunkIds[i] = dlContentChunk.getChunkId();
+			}
+		}
+
+		@Override
+		protected InputStream openChunk(int chunkIndex) throws IOException {
+			try {
+				DLContentChunkDataBlobModel dlContentChunkDataBlobModel =
+					DLContentChunkLocalServiceUtil.getDataBlobModel(
+						_chunkIds[chunkIndex]);
+
+				Blob blob = dlContentChunkDataBlobModel.getDataBlob();
+
+				return blob.getBinaryStream();
+			}
+			catch (Exception e) {
+				throw new IOException(
+					"Unable to load chunk " + _chunkIds[chunkIndex], e);
+			}
+		}
+
+		private static long[] _getChunkSizes(
+			List<DLContentChunk> dlContentChunks) {
+
+			long[] chunkSizes = new long[dlContentChunks.size()];
+
+			for (int i = 0; i < dlContentChunks.size(); i++) {
+				DLContentChunk dlContentChunk = dlContentChunks.get(i);
+
+				chunkSizes[i] = dlContentChunk.getSize();
+			}
+
+			return chunkSizes;
+		}
+
+		private long[] _chunkIds;
+
+	}
+
 }
\ No newline at end of file
@@ -34,6 +34,7 @@ import com.liferay.portal.kernel.search.BooleanQueryFactoryUtil;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IntervalReindexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.SearchException;
@@ -526,7 +527,7 @@ public class DLIndexer extends BaseIndexer {
 	}
 
 	protected void reindexFileEntries(
-			long companyId, long groupId, long dataRepositoryId)
+			final long companyId, final long groupId, long dataRepositoryId)
 		throws Exception {
 
 		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
@@ -544,7 +545,7 @@ public class DLIndexer extends BaseIndexer {
 
 		dynamicQuery.setProjection(projectionList);
 
-		long folderId = DLFolderConstants.getFolderId(
+		final long folderId = DLFolderConstants.getFolderId(
 			groupId, dataRepositoryId);
 
 		addReindexCriteria(dynamicQuery, groupId, folderId);
@@ -563,19 +564,22 @@ public class DLIndexer extends BaseIndexer {
 		long minFileEntryId = (Long)minAndMaxFileEntryIds[0];
 		long maxFileEntryId = (Long)minAndMaxFileEntryIds[1];
 
-		long startFileEntryId = minFileEntryId;
-		long endFileEntryId = startFileEntryId + DEFAULT_INTERVAL;
+		reindexIntervals(
+			minFileEntryId, maxFileEntryId,
+			new IntervalReindexer() {
 
-		while (startFileEntryId <= maxFileEntryId) {
-			reindexFileEntries(
-				companyId, groupId, folderId, startFileEntryId, endFileEntryId);
+				public int reindex(long startFileEntryId, long endFileEntryId)
+					throws Exception {
 
-			startFileEntryId = endFileEntryId;
-			endFileEntryId += DEFAULT_INTERVAL;
-		}
+					return reindexFileEntries(
+						companyId, groupId, folderId, startFileEntryId,
+						endFileEntryId);
+				}
+
+			});
 	}
 
-	protected void reindexFileEntries(
+	protected int reindexFileEntries(
 			long companyId, long groupId, long folderId, long startFileEntryId,
 			long endFileEntryId)
 		throws Exception {
@@ -594,7 +598,7 @@ public class DLIndexer extends BaseIndexer {
 			DLFileEntryLocalServiceUtil.dynamicQuery(dynamicQuery);
 
 		if (dlFileEntries.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		Collection<Document> documents = new ArrayList<Document>(
@@ -610,6 +614,8 @@ public class DLIndexer extends BaseIndexer {
 
 		SearchEngineUtil.updateDocuments(
 			getSearchEngineId(), companyId, documents);
+
+		return documents.size();
 	}
 
 	protected void reindexFolders(long companyId) throws Exception {
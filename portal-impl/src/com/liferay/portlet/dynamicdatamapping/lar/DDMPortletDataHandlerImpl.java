@@ -122,6 +122,11 @@ public class DDMPortletDataHandlerImpl extends BasePortletDataHandler {
 			structure.getStructureId(), importedStructure.getStructureId());
 	}
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {_structures, _templates};
@@ -363,6 +368,11 @@ public class DDMPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		DDMStructure.class.getName(),
+		DDMTemplate.class.getName()
+	};
+
 	private static final String _NAMESPACE = "ddm";
 
 	private static PortletDataHandlerBoolean _structures =
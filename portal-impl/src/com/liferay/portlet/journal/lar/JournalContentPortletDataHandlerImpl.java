@@ -33,6 +33,7 @@ import com.liferay.portal.service.LayoutLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.lar.DLPortletDataHandlerImpl;
 import com.liferay.portlet.journal.NoSuchArticleException;
 import com.liferay.portlet.journal.model.JournalArticle;
+import com.liferay.portlet.journal.model.JournalStructure;
 import com.liferay.portlet.journal.model.JournalTemplate;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
 import com.liferay.portlet.journal.service.JournalContentSearchLocalServiceUtil;
@@ -70,6 +71,11 @@ import javax.portlet.PortletPreferences;
 public class JournalContentPortletDataHandlerImpl
 	extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -341,6 +347,12 @@ public class JournalContentPortletDataHandlerImpl
 
 	private static final boolean _ALWAYS_STAGED = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		JournalArticle.class.getName(),
+		JournalStructure.class.getName(),
+		JournalTemplate.class.getName()
+	};
+
 	private static final String _NAMESPACE = "journal";
 
 	private static final boolean _PUBLISH_TO_LIVE_BY_DEFAULT = true;
@@ -1334,6 +1334,11 @@ public class JournalPortletDataHandlerImpl extends BasePortletDataHandler {
 		}
 	}
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -2506,6 +2511,13 @@ public class JournalPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		JournalArticle.class.getName(),
+		JournalFeed.class.getName(),
+		JournalStructure.class.getName(),
+		JournalTemplate.class.getName()
+	};
+
 	private static final String _NAMESPACE = "journal";
 
 	private static Log _log = LogFactoryUtil.getLog(
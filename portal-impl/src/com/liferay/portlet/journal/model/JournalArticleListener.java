@@ -16,7 +16,9 @@ package com.liferay.portlet.journal.model;
 
 import com.liferay.portal.model.BaseModelListener;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portlet.journal.util.JournalTransformer;
 import com.liferay.portlet.journalcontent.util.JournalContentUtil;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheUtil;
 
 /**
  * @author Brian Wing Shun Chan
@@ -41,9 +43,17 @@ public class JournalArticleListener extends BaseModelListener<JournalArticle> {
 
 		JournalContentUtil.clearCache();
 
+		// Journal transformer
+
+		JournalTransformer.clearCache();
+
 		// Layout cache
 
 		CacheUtil.clearCache(article.getCompanyId());
+
+		// Portlet fragment cache
+
+		PortletFragmentCacheUtil.clearCache();
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.model;
+
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portlet.journal.util.JournalTransformer;
+
+public class JournalStructureListener
+	extends BaseModelListener<JournalStructure> {
+
+	@Override
+	public void onAfterRemove(JournalStructure structure) {
+		clearCache(structure);
+	}
+
+	@Override
+	public void onAfterUpdate(JournalStructure structure) {
+		clearCache(structure);
+	}
+
+	protected void clearCache(JournalStructure structure) {
+
+		// Journal transformer
+
+		JournalTransformer.clearCache();
+	}
+
+}
@@ -20,7 +20,9 @@ import com.liferay.portal.kernel.template.TemplateManagerUtil;
 import com.liferay.portal.model.BaseModelListener;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
 import com.liferay.portal.velocity.LiferayResourceCacheUtil;
+import com.liferay.portlet.journal.util.JournalTransformer;
 import com.liferay.portlet.journalcontent.util.JournalContentUtil;
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheUtil;
 
 import org.apache.velocity.runtime.resource.ResourceManager;
 
@@ -72,6 +74,10 @@ public class JournalTemplateListener
 
 		JournalContentUtil.clearCache();
 
+		// Journal transformer
+
+		JournalTransformer.clearCache();
+
 		// Layout cache
 
 		CacheUtil.clearCache(template.getCompanyId());
@@ -81,6 +87,10 @@ public class JournalTemplateListener
 		LiferayResourceCacheUtil.remove(
 			_RESOURCE_TEMPLATE_NAME_SPACE.concat(freeMarkerTemplateId));
 
+		// Portlet fragment cache
+
+		PortletFragmentCacheUtil.clearCache();
+
 		// Velocity cache
 
 		TemplateManagerUtil.clearCache(
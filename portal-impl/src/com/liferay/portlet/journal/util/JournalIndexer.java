@@ -27,6 +27,7 @@ import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.BooleanQuery;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IntervalReindexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -586,7 +587,7 @@ public class JournalIndexer extends BaseIndexer {
 		}
 	}
 
-	protected void reindexArticles(long companyId) throws Exception {
+	protected void reindexArticles(final long companyId) throws Exception {
 		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
 			JournalArticle.class, PortalClassLoaderUtil.getClassLoader());
 
@@ -615,18 +616,20 @@ public class JournalIndexer extends BaseIndexer {
 		long minId = (Long)minAndMaxIds[0];
 		long maxId = (Long)minAndMaxIds[1];
 
-		long startId = minId;
-		long endId = startId + DEFAULT_INTERVAL;
+		reindexIntervals(
+			minId, maxId,
+			new IntervalReindexer() {
 
-		while (startId <= maxId) {
-			reindexArticles(companyId, startId, endId);
+				public int reindex(long startId, long endId)
+					throws Exception {
 
-			startId = endId;
-			endId += DEFAULT_INTERVAL;
-		}
+					return reindexArticles(companyId, startId, endId);
+				}
+
+			});
 	}
 
-	protected void reindexArticles(long companyId, long startId, long endId)
+	protected int reindexArticles(long companyId, long startId, long endId)
 		throws Exception {
 
 		List<JournalArticle> articles = new ArrayList<JournalArticle>();
@@ -635,7 +638,7 @@ public class JournalIndexer extends BaseIndexer {
 		articles.addAll(getReindexDraftArticles(companyId, startId, endId));
 
 		if (articles.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		Collection<Document> documents = new ArrayList<Document>(
@@ -664,6 +667,8 @@ public class JournalIndexer extends BaseIndexer {
 
 		SearchEngineUtil.updateDocuments(
 			getSearchEngineId(), companyId, documents);
+
+		return documents.size();
 	}
 
 	private static final String _FIELD_NAMESPACE = "web_content";
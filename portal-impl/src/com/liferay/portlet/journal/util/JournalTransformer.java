@@ -14,16 +14,36 @@
 
 package com.liferay.portlet.journal.util;
 
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.configuration.Filter;
 import com.liferay.portal.kernel.templateparser.BaseTransformer;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.util.PropsUtil;
+import com.liferay.portal.util.PropsValues;
 
 /**
  * @author Marcellus Tavares
  */
 public class JournalTransformer extends BaseTransformer {
 
+	public static final String CACHE_NAME = JournalTransformer.class.getName();
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+
+		XSLTemplateParser.clearCache();
+	}
+
+	@Override
+	protected PortalCache getPortalCache() {
+		if (PropsValues.JOURNAL_TRANSFORMER_CACHE_ENABLED) {
+			return _portalCache;
+		}
+
+		return null;
+	}
+
 	@Override
 	protected String getTemplateParserClassName(String langType) {
 		return PropsUtil.get(
@@ -35,4 +55,7 @@ public class JournalTransformer extends BaseTransformer {
 		return PropsUtil.getArray(PropsKeys.JOURNAL_TRANSFORMER_LISTENER);
 	}
 
+	private static PortalCache _portalCache = MultiVMPoolUtil.getCache(
+		CACHE_NAME);
+
 }
\ No newline at end of file
@@ -14,15 +14,23 @@
 
 package com.liferay.portlet.journal.util;
 
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
 import com.liferay.portal.kernel.io.unsync.UnsyncStringWriter;
 import com.liferay.portal.kernel.templateparser.TemplateContext;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.util.ContentUtil;
 
 import java.util.Locale;
+import java.util.Map;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
@@ -34,6 +42,12 @@ import javax.xml.transform.stream.StreamSource;
  */
 public class XSLTemplateParser extends VelocityTemplateParser {
 
+	public static final String CACHE_NAME = XSLTemplateParser.class.getName();
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+	}
+
 	@Override
 	protected String getErrorTemplateContent() {
 		return ContentUtil.get(PropsValues.JOURNAL_ERROR_TEMPLATE_XSL);
@@ -93,15 +107,57 @@ public class XSLTemplateParser extends VelocityTemplateParser {
 		return true;
 	}
 
+	private String _getCacheKey(String script) {
+		Map<String, String> tokens = getTokens();
+
+		StringBundler sb = new StringBundler(7);
+
+		sb.append(tokens.get("group_id"));
+		sb.append(StringPool.POUND);
+		sb.append(tokens.get("template_id"));
+		sb.append(StringPool.POUND);
+		sb.append(getLanguageId());
+		sb.append(StringPool.POUND);
+		sb.append(DigesterUtil.digestHex(Digester.SHA_1, script));
+
+		return sb.toString();
+	}
+
 	private TemplateContext _getTemplateContext(String script)
 		throws Exception {
 
-		TransformerFactory transformerFactory = _getTransformerFactory();
+		String cacheKey = null;
+		Templates templates = null;
+
+		if (PropsValues.JOURNAL_TRANSFORMER_CACHE_ENABLED) {
+			cacheKey = _getCacheKey(script);
+
+			templates = (Templates)_portalCache.get(cacheKey);
+		}
+
+		if (templates == null) {
+			TransformerFactory transformerFactory = _getTransformerFactory();
+
+			StreamSource scriptSource = new StreamSource(
+				new UnsyncStringReader(script));
+
+			templates = transformerFactory.newTemplates(scriptSource);
+
+			if (cacheKey != null) {
+				_portalCache.put(cacheKey, templates);
+			}
+		}
+
+		// Compiled templates are shared, so the error listener and the URI
+		// resolver of this parser are set on the transformer
 
-		StreamSource scriptSource = new StreamSource(
-			new UnsyncStringReader(script));
+		Transformer transformer = templates.newTransformer();
 
-		return new XSLContext(transformerFactory.newTransformer(scriptSource));
+		transformer.setErrorListener(_getXSLErrorListener());
+		transformer.setURIResolver(
+			new URIResolver(getTokens(), getLanguageId()));
+
+		return new XSLContext(transformer);
 	}
 
 	private TransformerFactory _getTransformerFactory() {
@@ -126,6 +182,9 @@ public class XSLTemplateParser extends VelocityTemplateParser {
 		return _xslErrorListener;
 	}
 
+	private static PortalCache _portalCache = MultiVMPoolUtil.getCache(
+		CACHE_NAME);
+
 	private TransformerFactory _transformerFactory;
 	private XSLErrorListener _xslErrorListener;
 
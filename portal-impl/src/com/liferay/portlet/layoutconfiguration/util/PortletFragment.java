@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.servlet.taglib.aui.ScriptData;
+import com.liferay.portal.kernel.servlet.taglib.portletext.RuntimePortletIDs;
+import com.liferay.portal.kernel.servlet.taglib.util.OutputData;
+import com.liferay.portal.kernel.util.ListMergeable;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.MimeResponse;
+
+import javax.servlet.ServletRequest;
+
+/**
+ * The cached output of a portlet together with what its render added to the
+ * shared attributes of the request, such as its scripts, its html-top and
+ * html-bottom output, and the page title.
+ *
+ * <p>
+ * The shared attributes are kept as copies and replayed into new objects, so
+ * that merging them into the attributes of a page never changes the cached
+ * copies.
+ * </p>
+ *
+ * @see PortletFragmentServletRequest
+ */
+public class PortletFragment {
+
+	public PortletFragment(String portletId, String content) {
+		_portletId = portletId;
+		_content = content;
+	}
+
+	public void addListMergeable(String name, ListMergeable<?> listMergeable) {
+		ListMergeable<Object> copyListMergeable = new ListMergeable<Object>();
+
+		copyListMergeable.merge((ListMergeable<Object>)listMergeable);
+
+		_listMergeables.put(name, copyListMergeable);
+	}
+
+	public void addOutputData(String outputKey, String webKey, String data) {
+		_outputData.add(new String[] {outputKey, webKey, data});
+	}
+
+	public void addOutputKey(String outputKey) {
+		_outputKeys.add(outputKey);
+	}
+
+	public String getContent() {
+		return _content;
+	}
+
+	/**
+	 * Merges what the render of the portlet added to the shared attributes
+	 * into the attributes of the request, the same way they were merged when
+	 * the portlet was rendered.
+	 */
+	public void replay(ServletRequest servletRequest) {
+		if (_scriptUse != null) {
+			ScriptData scriptData = new ScriptData();
+
+			if (Validator.isNotNull(_scriptRaw)) {
+				scriptData.append(_portletId, _scriptRaw, null);
+			}
+
+			if (Validator.isNotNull(_scriptCallback)) {
+				scriptData.append(_portletId, _scriptCallback, _scriptUse);
+			}
+
+			PortletFragmentServletRequest.mergeAttribute(
+				servletRequest, WebKeys.AUI_SCRIPT_DATA, scriptData);
+		}
+
+		if (!_outputData.isEmpty() || !_outputKeys.isEmpty()) {
+			OutputData outputData = new OutputData();
+
+			for (String outputKey : _outputKeys) {
+				outputData.addOutputKey(outputKey);
+			}
+
+			for (String[] data : _outputData) {
+				outputData.addData(
+					data[0], data[1], new StringBundler(data[2]));
+			}
+
+			PortletFragmentServletRequest.mergeAttribute(
+				servletRequest, WebKeys.OUTPUT_DATA, outputData);
+		}
+
+		for (Map.Entry<String, ListMergeable<Object>> entry :
+				_listMergeables.entrySet()) {
+
+			ListMergeable<Object> listMergeable = new ListMergeable<Object>();
+
+			listMergeable.merge(entry.getValue());
+
+			PortletFragmentServletRequest.mergeAttribute(
+				servletRequest, entry.getKey(), listMergeable);
+		}
+
+		if (_markupHeadElements != null) {
+			PortletFragmentServletRequest.mergeAttribute(
+				servletRequest, MimeResponse.MARKUP_HEAD_ELEMENT,
+				new ArrayList<String>(_markupHeadElements));
+		}
+
+		if (_runtimePortletIds != null) {
+			RuntimePortletIDs runtimePortletIDs = new RuntimePortletIDs();
+
+			for (String runtimePortletId : _runtimePortletIds) {
+				runtimePortletIDs.addRuntimePortletID(runtimePortletId);
+			}
+
+			PortletFragmentServletRequest.mergeAttribute(
+				servletRequest, WebKeys.RUNTIME_PORTLET_IDS, runtimePortletIDs);
+		}
+	}
+
+	public void setMarkupHeadElements(List<String> markupHeadElements) {
+		_markupHeadElements = new ArrayList<String>(markupHeadElements);
+	}
+
+	public void setRuntimePortletIds(Set<String> runtimePortletIds) {
+		_runtimePortletIds = new HashSet<String>(runtimePortletIds);
+	}
+
+	/**
+	 * Keeps the scripts of the script data. The callbacks are replayed as one
+	 * callback that runs all of them, which does the same.
+	 */
+	public void setScriptData(ScriptData scriptData) {
+		_scriptCallback = String.valueOf(scriptData.getCallbackSB());
+		_scriptRaw = String.valueOf(scriptData.getRawSB());
+		_scriptUse = StringUtil.merge(scriptData.getUseSet());
+	}
+
+	private String _content;
+	private Map<String, ListMergeable<Object>> _listMergeables =
+		new HashMap<String, ListMergeable<Object>>();
+	private List<String> _markupHeadElements;
+	private List<String[]> _outputData = new ArrayList<String[]>();
+	private List<String> _outputKeys = new ArrayList<String>();
+	private String _portletId;
+	private Set<String> _runtimePortletIds;
+	private String _scriptCallback;
+	private String _scriptRaw;
+	private String _scriptUse;
+
+}
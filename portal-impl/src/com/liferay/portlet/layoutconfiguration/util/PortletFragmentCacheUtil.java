@@ -0,0 +1,381 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.URLCodec;
+import com.liferay.portal.kernel.util.WebKeys;
+import com.liferay.portal.kernel.xml.QName;
+import com.liferay.portal.model.LayoutTypePortlet;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.PublicRenderParameter;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.PortletPreferencesFactoryUtil;
+import com.liferay.portlet.PortletQNameUtil;
+import com.liferay.portlet.PublicRenderParametersPool;
+import com.liferay.portlet.RenderParametersPool;
+import com.liferay.portlet.portletconfiguration.util.PublicRenderParameterConfiguration;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.portlet.PortletPreferences;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Caches the rendered output of the portlets listed in the property
+ * <code>layout.portlet.fragment.cache.portlet.ids</code>.
+ *
+ * <p>
+ * The key holds everything the output of a portlet in the normal view state
+ * depends on, so a change of preferences, render parameters, public render
+ * parameters, theme or roles never returns stale output. Changes to the
+ * content the portlets display are handled by the model listeners calling
+ * {@link #clearCache()}.
+ * </p>
+ *
+ * <p>
+ * Each entry is a {@link PortletFragment}, which also replays what the render
+ * added to the shared request attributes, such as scripts and html-top
+ * output, so a cache hit leaves the page the same as a render would.
+ * </p>
+ */
+public class PortletFragmentCacheUtil {
+
+	public static final String CACHE_NAME =
+		PortletFragmentCacheUtil.class.getName();
+
+	public static void clearCache() {
+		if (_portletIds.isEmpty()) {
+			return;
+		}
+
+		_portalCache.removeAll();
+	}
+
+	public static long getHitCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._hitCount.get();
+	}
+
+	/**
+	 * Returns the key of the output of the portlet for the current request,
+	 * or <code>null</code> if the output must not be cached.
+	 */
+	public static String getKey(
+		HttpServletRequest request, Portlet portlet, String columnId,
+		Integer columnPos, Integer columnCount) {
+
+		if (!_portletIds.contains(portlet.getRootPortletId())) {
+			return null;
+		}
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		if ((themeDisplay == null) ||
+			(themeDisplay.isSignedIn() &&
+			 !PropsValues.LAYOUT_PORTLET_FRAGMENT_CACHE_SIGNED_IN_ENABLED)) {
+
+			return null;
+		}
+
+		String portletId = portlet.getPortletId();
+
+		if (portletId.equals(ParamUtil.getString(request, "p_p_id"))) {
+			return null;
+		}
+
+		LayoutTypePortlet layoutTypePortlet =
+			themeDisplay.getLayoutTypePortlet();
+
+		if ((layoutTypePortlet == null) ||
+			!layoutTypePortlet.hasModeViewPortletId(portletId) ||
+			!layoutTypePortlet.hasStateNormalPortletId(portletId)) {
+
+			return null;
+		}
+
+		if (_hasPublicRenderParameters(request, portlet)) {
+			return null;
+		}
+
+		String parametersDigest = null;
+		String preferencesDigest = null;
+
+		try {
+			PortletPreferences portletPreferences =
+				PortletPreferencesFactoryUtil.getPortletSetup(
+					request, portletId);
+
+			parametersDigest = _getParametersDigest(
+				request, portlet, portletPreferences, themeDisplay.getPlid());
+			preferencesDigest = DigesterUtil.digestHex(
+				PortletPreferencesFactoryUtil.toXML(portletPreferences));
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to get the preferences of portlet " + portletId,
+					e);
+			}
+
+			return null;
+		}
+
+		PermissionChecker permissionChecker =
+			themeDisplay.getPermissionChecker();
+
+		long[] roleIds = permissionChecker.getRoleIds(
+			themeDisplay.getUserId(), themeDisplay.getScopeGroupId());
+
+		roleIds = roleIds.clone();
+
+		Arrays.sort(roleIds);
+
+		StringBundler sb = new StringBundler(25);
+
+		sb.append(themeDisplay.getCompanyId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getPlid());
+		sb.append(StringPool.POUND);
+		sb.append(portletId);
+		sb.append(StringPool.POUND);
+		sb.append(columnId);
+		sb.append(StringPool.POUND);
+		sb.append(columnPos);
+		sb.append(StringPool.POUND);
+		sb.append(columnCount);
+		sb.append(StringPool.POUND);
+		sb.append(preferencesDigest);
+		sb.append(StringPool.POUND);
+		sb.append(parametersDigest);
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getLanguageId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getThemeId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getColorSchemeId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getPortalURL());
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(roleIds));
+
+		return sb.toString();
+	}
+
+	public static long getMissCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._missCount.get();
+	}
+
+	public static String[] getPortletIds() {
+		return _portletIds.toArray(new String[_portletIds.size()]);
+	}
+
+	public static PortletFragment getPortletFragment(
+		Portlet portlet, String key) {
+
+		PortletFragment portletFragment = (PortletFragment)_portalCache.get(
+			key);
+
+		Statistics statistics = _getStatistics(portlet.getRootPortletId());
+
+		if (portletFragment != null) {
+			statistics._hitCount.incrementAndGet();
+		}
+		else {
+			statistics._missCount.incrementAndGet();
+		}
+
+		return portletFragment;
+	}
+
+	public static void putPortletFragment(
+		String key, PortletFragment portletFragment) {
+
+		_portalCache.put(key, portletFragment);
+	}
+
+	private static void _appendParameter(
+		StringBundler sb, String name, String[] values) {
+
+		if ((values == null) || (values.length == 0)) {
+			return;
+		}
+
+		for (String value : values) {
+			sb.append(URLCodec.encodeURL(name));
+			sb.append(StringPool.EQUAL);
+			sb.append(URLCodec.encodeURL(value));
+			sb.append(StringPool.AMPERSAND);
+		}
+	}
+
+	/**
+	 * Returns a digest of the render parameters the portlet is rendered with,
+	 * that is, its own render parameters kept in the session and the values of
+	 * its public render parameters, resolved the same way the portlet request
+	 * resolves them.
+	 */
+	private static String _getParametersDigest(
+		HttpServletRequest request, Portlet portlet,
+		PortletPreferences portletPreferences, long plid) {
+
+		StringBundler sb = new StringBundler();
+
+		Map<String, String[]> renderParameters = new TreeMap<String, String[]>(
+			RenderParametersPool.get(request, plid, portlet.getPortletId()));
+
+		for (Map.Entry<String, String[]> entry : renderParameters.entrySet()) {
+			_appendParameter(sb, entry.getKey(), entry.getValue());
+		}
+
+		Map<String, String[]> publicRenderParameters =
+			PublicRenderParametersPool.get(request, plid);
+
+		Map<String, String[]> publicRenderParameterValues =
+			new TreeMap<String, String[]>();
+
+		for (PublicRenderParameter publicRenderParameter :
+				portlet.getPublicRenderParameters()) {
+
+			String mappingValue = GetterUtil.getString(
+				portletPreferences.getValue(
+					PublicRenderParameterConfiguration.getMappingKey(
+						publicRenderParameter),
+					null));
+
+			String[] values = request.getParameterValues(mappingValue);
+
+			if ((values == null) || (values.length == 0)) {
+				QName qName = publicRenderParameter.getQName();
+
+				values = publicRenderParameters.get(
+					PortletQNameUtil.getPublicRenderParameterName(qName));
+			}
+
+			publicRenderParameterValues.put(
+				publicRenderParameter.getIdentifier(), values);
+		}
+
+		for (Map.Entry<String, String[]> entry :
+				publicRenderParameterValues.entrySet()) {
+
+			_appendParameter(sb, entry.getKey(), entry.getValue());
+		}
+
+		if (sb.index() == 0) {
+			return StringPool.BLANK;
+		}
+
+		return DigesterUtil.digestHex(sb.toString());
+	}
+
+	private static Statistics _getStatistics(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics != null) {
+			return statistics;
+		}
+
+		statistics = new Statistics();
+
+		Statistics previousStatistics = _statisticsMap.putIfAbsent(
+			portletId, statistics);
+
+		if (previousStatistics != null) {
+			statistics = previousStatistics;
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Returns <code>true</code> if the request sets or removes one of the
+	 * public render parameters of the portlet. The portlet container only
+	 * stores these values when the portlet is rendered, so they cannot be part
+	 * of the key.
+	 */
+	private static boolean _hasPublicRenderParameters(
+		HttpServletRequest request, Portlet portlet) {
+
+		if (portlet.getPublicRenderParameters().isEmpty()) {
+			return false;
+		}
+
+		Enumeration<String> enu = request.getParameterNames();
+
+		while (enu.hasMoreElements()) {
+			QName qName = PortletQNameUtil.getQName(enu.nextElement());
+
+			if ((qName != null) &&
+				(portlet.getPublicRenderParameter(
+					qName.getNamespaceURI(), qName.getLocalPart()) != null)) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		PortletFragmentCacheUtil.class);
+
+	private static PortalCache _portalCache = MultiVMPoolUtil.getCache(
+		CACHE_NAME);
+	private static Set<String> _portletIds = SetUtil.fromArray(
+		PropsValues.LAYOUT_PORTLET_FRAGMENT_CACHE_PORTLET_IDS);
+	private static ConcurrentMap<String, Statistics> _statisticsMap =
+		new ConcurrentHashMap<String, Statistics>();
+
+	private static class Statistics {
+
+		private AtomicLong _hitCount = new AtomicLong();
+		private AtomicLong _missCount = new AtomicLong();
+
+	}
+
+}
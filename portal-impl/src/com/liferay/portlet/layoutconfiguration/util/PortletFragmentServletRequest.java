@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.servlet.PersistentHttpServletRequestWrapper;
+import com.liferay.portal.kernel.servlet.taglib.aui.ScriptData;
+import com.liferay.portal.kernel.servlet.taglib.portletext.RuntimePortletIDs;
+import com.liferay.portal.kernel.servlet.taglib.util.OutputData;
+import com.liferay.portal.kernel.util.ListMergeable;
+import com.liferay.portal.kernel.util.Mergeable;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.MimeResponse;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Records what the render of a portlet adds to the shared attributes of the
+ * request, so that it can be replayed when the output of the portlet is served
+ * from the cache.
+ *
+ * <p>
+ * The attributes that collect the scripts, the html-top and html-bottom
+ * output, the page title, subtitle, description and keywords, the markup head
+ * elements, and the runtime portlets start out empty in this request and are
+ * merged into the wrapped request by {@link #mergeAttributes()}. Any other
+ * shared attribute that is set or removed is passed through, but makes the
+ * render impossible to replay.
+ * </p>
+ *
+ * @see com.liferay.portal.kernel.portlet.RestrictPortletServletRequest
+ */
+public class PortletFragmentServletRequest
+	extends PersistentHttpServletRequestWrapper {
+
+	public static void mergeAttribute(
+		ServletRequest servletRequest, String name, Object value) {
+
+		Object masterValue = servletRequest.getAttribute(name);
+
+		if (masterValue == null) {
+			servletRequest.setAttribute(name, value);
+		}
+		else if ((masterValue instanceof List<?>) &&
+				 (value instanceof List<?>)) {
+
+			List<Object> masterList = (List<Object>)masterValue;
+
+			masterList.addAll((List<Object>)value);
+		}
+		else if (value instanceof Mergeable<?>) {
+			Mergeable<Object> masterMergeable = (Mergeable<Object>)masterValue;
+
+			masterMergeable.merge(value);
+		}
+		else {
+			servletRequest.setAttribute(name, value);
+		}
+	}
+
+	public PortletFragmentServletRequest(HttpServletRequest request) {
+		super(request);
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		if (!_recordedNames.contains(name)) {
+			return super.getAttribute(name);
+		}
+
+		Object value = _attributes.get(name);
+
+		// The output data cannot be read back, so it is recorded while it is
+		// written
+
+		if ((value == null) && name.equals(WebKeys.OUTPUT_DATA)) {
+			value = new RecordingOutputData();
+
+			_attributes.put(name, value);
+		}
+
+		return value;
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		Set<String> names = new HashSet<String>();
+
+		Enumeration<String> enumeration = super.getAttributeNames();
+
+		while (enumeration.hasMoreElements()) {
+			String name = enumeration.nextElement();
+
+			if (!_recordedNames.contains(name)) {
+				names.add(name);
+			}
+		}
+
+		names.addAll(_attributes.keySet());
+
+		return Collections.enumeration(names);
+	}
+
+	/**
+	 * Returns the output of the portlet with the recorded attributes, or
+	 * <code>null</code> if the render cannot be replayed.
+	 */
+	public PortletFragment getPortletFragment(
+		String portletId, String content) {
+
+		if (!_replayable) {
+			return null;
+		}
+
+		PortletFragment portletFragment = new PortletFragment(
+			portletId, content);
+
+		for (Map.Entry<String, Object> entry : _attributes.entrySet()) {
+			String name = entry.getKey();
+			Object value = entry.getValue();
+
+			if (value instanceof RecordingOutputData) {
+				RecordingOutputData recordingOutputData =
+					(RecordingOutputData)value;
+
+				if (!recordingOutputData._replayable) {
+					return null;
+				}
+
+				for (String outputKey : recordingOutputData._outputKeys) {
+					portletFragment.addOutputKey(outputKey);
+				}
+
+				for (String[] data : recordingOutputData._outputData) {
+					portletFragment.addOutputData(data[0], data[1], data[2]);
+				}
+			}
+			else if (value instanceof ScriptData) {
+				portletFragment.setScriptData((ScriptData)value);
+			}
+			else if (value instanceof ListMergeable<?>) {
+				portletFragment.addListMergeable(
+					name, (ListMergeable<?>)value);
+			}
+			else if (value instanceof RuntimePortletIDs) {
+				RuntimePortletIDs runtimePortletIDs = (RuntimePortletIDs)value;
+
+				portletFragment.setRuntimePortletIds(
+					runtimePortletIDs.getRuntimePortletIDs());
+			}
+			else if (name.equals(MimeResponse.MARKUP_HEAD_ELEMENT) &&
+					 (value instanceof List<?>)) {
+
+				portletFragment.setMarkupHeadElements((List<String>)value);
+			}
+			else {
+				return null;
+			}
+		}
+
+		return portletFragment;
+	}
+
+	public boolean isReplayable() {
+		return _replayable;
+	}
+
+	/**
+	 * Merges the recorded attributes into the wrapped request.
+	 */
+	public void mergeAttributes() {
+		ServletRequest servletRequest = getRequest();
+
+		for (Map.Entry<String, Object> entry : _attributes.entrySet()) {
+			mergeAttribute(servletRequest, entry.getKey(), entry.getValue());
+		}
+
+		_attributes.clear();
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		if (_recordedNames.contains(name)) {
+			_attributes.remove(name);
+
+			return;
+		}
+
+		if (name.startsWith(_SHARED_PREFIX)) {
+			_replayable = false;
+		}
+
+		super.removeAttribute(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			removeAttribute(name);
+
+			return;
+		}
+
+		if (_recordedNames.contains(name)) {
+			_attributes.put(name, value);
+
+			return;
+		}
+
+		if (name.startsWith(_SHARED_PREFIX)) {
+			_replayable = false;
+		}
+
+		super.setAttribute(name, value);
+	}
+
+	private static final String _SHARED_PREFIX = "LIFERAY_SHARED_";
+
+	private static Set<String> _recordedNames = SetUtil.fromArray(
+		new String[] {
+			MimeResponse.MARKUP_HEAD_ELEMENT, WebKeys.AUI_SCRIPT_DATA,
+			WebKeys.OUTPUT_DATA, WebKeys.PAGE_DESCRIPTION,
+			WebKeys.PAGE_KEYWORDS, WebKeys.PAGE_SUBTITLE, WebKeys.PAGE_TITLE,
+			WebKeys.RUNTIME_PORTLET_IDS
+		});
+
+	private Map<String, Object> _attributes = new HashMap<String, Object>();
+	private boolean _replayable = true;
+
+	private static class RecordingOutputData extends OutputData {
+
+		@Override
+		public void addData(String outputKey, String webKey, StringBundler sb) {
+			_outputData.add(new String[] {outputKey, webKey, sb.toString()});
+
+			super.addData(outputKey, webKey, sb);
+		}
+
+		@Override
+		public boolean addOutputKey(String outputKey) {
+			_outputKeys.add(outputKey);
+
+			return super.addOutputKey(outputKey);
+		}
+
+		@Override
+		public OutputData merge(OutputData outputData) {
+
+			// The data of other output data cannot be read
+
+			if ((outputData != null) && (outputData != this)) {
+				_replayable = false;
+			}
+
+			return super.merge(outputData);
+		}
+
+		private List<String[]> _outputData = new ArrayList<String[]>();
+		private List<String> _outputKeys = new ArrayList<String>();
+		private boolean _replayable = true;
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps a render time histogram and the number of parallel rendering
+ * timeouts for each portlet. Instances of a portlet share the statistics of
+ * its root portlet ID, and only the first portlets up to a fixed limit get
+ * their own statistics.
+ */
+public class PortletRenderStatisticsUtil {
+
+	public static long[] getHistogram(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		long[] histogram = new long[_HISTOGRAM_BOUNDS.length + 1];
+
+		if (statistics == null) {
+			return histogram;
+		}
+
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = statistics._histogram.get(i);
+		}
+
+		return histogram;
+	}
+
+	/**
+	 * Returns the exclusive upper bounds in milliseconds of the histogram
+	 * buckets. The last bucket of a histogram counts the render times that
+	 * are greater than or equal to the last bound.
+	 */
+	public static long[] getHistogramBounds() {
+		return _HISTOGRAM_BOUNDS.clone();
+	}
+
+	public static String[] getPortletIds() {
+		Set<String> portletIds = _statisticsMap.keySet();
+
+		return portletIds.toArray(new String[portletIds.size()]);
+	}
+
+	public static long getRenderCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._renderCount.get();
+	}
+
+	public static long getRenderTime(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._renderTime.get();
+	}
+
+	public static long getTimeoutCount(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if (statistics == null) {
+			return 0;
+		}
+
+		return statistics._timeoutCount.get();
+	}
+
+	public static void incrementRenderTime(String portletId, long renderTime) {
+		Statistics statistics = _getStatistics(portletId);
+
+		if (statistics == null) {
+			return;
+		}
+
+		int index = 0;
+
+		while ((index < _HISTOGRAM_BOUNDS.length) &&
+			   (renderTime >= _HISTOGRAM_BOUNDS[index])) {
+
+			index++;
+		}
+
+		statistics._histogram.incrementAndGet(index);
+		statistics._renderCount.incrementAndGet();
+		statistics._renderTime.addAndGet(renderTime);
+	}
+
+	public static void incrementTimeoutCount(String portletId) {
+		Statistics statistics = _getStatistics(portletId);
+
+		if (statistics != null) {
+			statistics._timeoutCount.incrementAndGet();
+		}
+	}
+
+	public static void reset() {
+		_statisticsMap.clear();
+	}
+
+	private static Statistics _getStatistics(String portletId) {
+		Statistics statistics = _statisticsMap.get(portletId);
+
+		if ((statistics != null) || (_statisticsMap.size() >= _MAX_SIZE)) {
+			return statistics;
+		}
+
+		statistics = new Statistics();
+
+		Statistics previousStatistics = _statisticsMap.putIfAbsent(
+			portletId, statistics);
+
+		if (previousStatistics != null) {
+			statistics = previousStatistics;
+		}
+
+		return statistics;
+	}
+
+	private static final long[] _HISTOGRAM_BOUNDS = {
+		10, 25, 50, 100, 250, 500, 1000, 2500, 5000
+	};
+
+	private static final int _MAX_SIZE = 1000;
+
+	private static ConcurrentMap<String, Statistics> _statisticsMap =
+		new ConcurrentHashMap<String, Statistics>();
+
+	private static class Statistics {
+
+		private AtomicLongArray _histogram = new AtomicLongArray(
+			_HISTOGRAM_BOUNDS.length + 1);
+		private AtomicLong _renderCount = new AtomicLong();
+		private AtomicLong _renderTime = new AtomicLong();
+		private AtomicLong _timeoutCount = new AtomicLong();
+
+	}
+
+}
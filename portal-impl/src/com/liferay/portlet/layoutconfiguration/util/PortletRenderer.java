@@ -68,7 +68,7 @@ public class PortletRenderer {
 		request = PortletContainerUtil.setupOptionalRenderParameters(
 			request, null, _columnId, _columnPos, _columnCount);
 
-		return _render(request, response);
+		return _renderCacheable(request, response);
 	}
 
 	public StringBundler renderAjax(
@@ -99,6 +99,25 @@ public class PortletRenderer {
 		}
 	}
 
+	public StringBundler renderParallel(
+			HttpServletRequest request, HttpServletResponse response)
+		throws Exception {
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		request = PortletContainerUtil.setupOptionalRenderParameters(
+			request, null, _columnId, _columnPos, _columnCount);
+
+		_restrictPortletServletRequest = (RestrictPortletServletRequest)request;
+
+		themeDisplay = (ThemeDisplay)themeDisplay.clone();
+
+		request.setAttribute(WebKeys.THEME_DISPLAY, themeDisplay);
+
+		return _renderCacheable(request, response);
+	}
+
 	private StringBundler _render(
 			HttpServletRequest request, HttpServletResponse response)
 		throws PortletContainerException {
@@ -113,6 +132,58 @@ public class PortletRenderer {
 		return unsyncStringWriter.getStringBundler();
 	}
 
+	private StringBundler _renderCacheable(
+			HttpServletRequest request, HttpServletResponse response)
+		throws PortletContainerException {
+
+		long startTime = System.currentTimeMillis();
+
+		StringBundler sb = null;
+
+		String key = PortletFragmentCacheUtil.getKey(
+			request, _portlet, _columnId, _columnPos, _columnCount);
+
+		if (key == null) {
+			sb = _render(request, response);
+		}
+		else {
+			PortletFragment portletFragment =
+				PortletFragmentCacheUtil.getPortletFragment(_portlet, key);
+
+			if (portletFragment != null) {
+				portletFragment.replay(request);
+
+				sb = new StringBundler(portletFragment.getContent());
+			}
+			else {
+				PortletFragmentServletRequest portletFragmentServletRequest =
+					new PortletFragmentServletRequest(request);
+
+				try {
+					sb = _render(portletFragmentServletRequest, response);
+
+					portletFragment =
+						portletFragmentServletRequest.getPortletFragment(
+							_portlet.getPortletId(), sb.toString());
+				}
+				finally {
+					portletFragmentServletRequest.mergeAttributes();
+				}
+
+				if (portletFragment != null) {
+					PortletFragmentCacheUtil.putPortletFragment(
+						key, portletFragment);
+				}
+			}
+		}
+
+		PortletRenderStatisticsUtil.incrementRenderTime(
+			_portlet.getRootPortletId(),
+			System.currentTimeMillis() - startTime);
+
+		return sb;
+	}
+
 	private static final String _RENDER_PATH =
 		"/html/portal/load_render_portlet.jsp";
 
@@ -138,22 +209,8 @@ public class PortletRenderer {
 
 		@Override
 		public StringBundler doCall() throws Exception {
-			ThemeDisplay themeDisplay =
-				(ThemeDisplay)_request.getAttribute(WebKeys.THEME_DISPLAY);
-
-			HttpServletRequest request =
-				PortletContainerUtil.setupOptionalRenderParameters(
-					_request, null, _columnId, _columnPos, _columnCount);
-
-			_restrictPortletServletRequest =
-				(RestrictPortletServletRequest)request;
-
 			try {
-				themeDisplay = (ThemeDisplay)themeDisplay.clone();
-
-				request.setAttribute(WebKeys.THEME_DISPLAY, themeDisplay);
-
-				return _render(request, _response);
+				return renderParallel(_request, _response);
 			}
 			catch (Exception e) {
 
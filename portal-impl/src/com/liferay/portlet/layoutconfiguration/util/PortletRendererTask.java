@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Renders a portlet of a parallel rendered page either on a thread of the
+ * parallel render executor or on the request thread, whichever claims it
+ * first. The request thread claims the tasks that no executor thread has
+ * picked up yet, so a saturated executor degrades to serial rendering instead
+ * of making the page wait in its queue.
+ */
+public class PortletRendererTask extends FutureTask<StringBundler> {
+
+	public PortletRendererTask(
+		PortletRenderer portletRenderer, HttpServletRequest request,
+		HttpServletResponse response) {
+
+		super(portletRenderer.getCallable(request, response));
+
+		_portletRenderer = portletRenderer;
+		_request = request;
+		_response = response;
+	}
+
+	/**
+	 * Cancels the task unless another thread has already claimed it, so that
+	 * the portlet is never rendered.
+	 *
+	 * @return <code>true</code> if the task was cancelled before any thread
+	 *         claimed it
+	 */
+	public boolean cancelUnclaimed() {
+		if (!_claimed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		return cancel(false);
+	}
+
+	public PortletRenderer getPortletRenderer() {
+		return _portletRenderer;
+	}
+
+	/**
+	 * Returns the time the rendering started, or <code>0</code> if no thread
+	 * has claimed the task yet.
+	 */
+	public long getStartTime() {
+		return _startTime;
+	}
+
+	@Override
+	public void run() {
+		if (_claim()) {
+			super.run();
+		}
+	}
+
+	/**
+	 * Renders the portlet on the calling thread unless another thread has
+	 * already claimed the task.
+	 *
+	 * @return <code>true</code> if the portlet was rendered on the calling
+	 *         thread
+	 */
+	public boolean runInline() {
+		if (!_claim()) {
+			return false;
+		}
+
+		try {
+			set(_portletRenderer.renderParallel(_request, _response));
+		}
+		catch (Throwable t) {
+			setException(t);
+		}
+
+		return true;
+	}
+
+	private boolean _claim() {
+		if (!_claimed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		_startTime = System.currentTimeMillis();
+
+		return true;
+	}
+
+	private final AtomicBoolean _claimed = new AtomicBoolean();
+	private final PortletRenderer _portletRenderer;
+	private final HttpServletRequest _request;
+	private final HttpServletResponse _response;
+	private volatile long _startTime;
+
+}
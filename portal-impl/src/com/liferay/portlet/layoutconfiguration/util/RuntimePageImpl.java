@@ -14,6 +14,7 @@
 
 package com.liferay.portlet.layoutconfiguration.util;
 
+import com.liferay.portal.kernel.configuration.Filter;
 import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.io.unsync.UnsyncStringWriter;
 import com.liferay.portal.kernel.log.Log;
@@ -27,6 +28,8 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.MethodHandler;
 import com.liferay.portal.kernel.util.MethodKey;
 import com.liferay.portal.kernel.util.ObjectValuePair;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
@@ -41,12 +44,13 @@ import com.liferay.portlet.layoutconfiguration.util.xml.RuntimeLogic;
 
 import java.io.Closeable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
@@ -357,6 +361,36 @@ public class RuntimePageImpl implements RuntimePage {
 		}
 	}
 
+	protected long getWaitTime(
+		PortletRendererTask portletRendererTask, long deadline) {
+
+		long now = System.currentTimeMillis();
+
+		long waitTime = deadline - now;
+
+		if (_waitTime == Integer.MAX_VALUE) {
+			return waitTime;
+		}
+
+		PortletRenderer portletRenderer =
+			portletRendererTask.getPortletRenderer();
+
+		Portlet portlet = portletRenderer.getPortlet();
+
+		long timeout = GetterUtil.getLong(
+			PropsUtil.get(
+				PropsKeys.LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT,
+				new Filter(portlet.getRootPortletId())));
+
+		long startTime = portletRendererTask.getStartTime();
+
+		if ((timeout > 0) && (startTime > 0)) {
+			waitTime = Math.min(waitTime, startTime + timeout - now);
+		}
+
+		return waitTime;
+	}
+
 	protected void parallelyRenderPortlets(
 			HttpServletRequest request, HttpServletResponse response,
 			TemplateProcessor processor, Map<String, StringBundler> contentsMap,
@@ -367,9 +401,8 @@ public class RuntimePageImpl implements RuntimePage {
 			PortalExecutorManagerUtil.getPortalExecutor(
 				RuntimePageImpl.class.getName());
 
-		Map<Future<StringBundler>, PortletRenderer> futures =
-			new HashMap<Future<StringBundler>, PortletRenderer>(
-				portletRenderers.size());
+		List<PortletRendererTask> portletRendererTasks =
+			new ArrayList<PortletRendererTask>(portletRenderers.size());
 
 		for (PortletRenderer portletRenderer : portletRenderers) {
 			if (_log.isDebugEnabled()) {
@@ -380,33 +413,77 @@ public class RuntimePageImpl implements RuntimePage {
 						" for parallel rendering");
 			}
 
-			Future<StringBundler> future = executorService.submit(
-				portletRenderer.getCallable(request, response));
+			PortletRendererTask portletRendererTask = new PortletRendererTask(
+				portletRenderer, request, response);
+
+			try {
+				executorService.execute(portletRendererTask);
+			}
+			catch (RejectedExecutionException ree) {
+
+				// The request thread renders the portlet below
+
+			}
 
-			futures.put(future, portletRenderer);
+			portletRendererTasks.add(portletRendererTask);
 		}
 
-		long waitTime = _waitTime;
+		long deadline = System.currentTimeMillis() + _waitTime;
+
+		// Render the portlets that no executor thread has picked up yet on
+		// the request thread instead of waiting for them in the queue. Once
+		// the page times out, the portlets that are still queued fall back
+		// without being rendered.
+
+		for (PortletRendererTask portletRendererTask : portletRendererTasks) {
+			PortletRenderer portletRenderer =
+				portletRendererTask.getPortletRenderer();
 
-		for (Map.Entry<Future<StringBundler>, PortletRenderer> entry :
-				futures.entrySet()) {
+			Portlet portlet = portletRenderer.getPortlet();
+
+			if (System.currentTimeMillis() < deadline) {
+				if (portletRendererTask.runInline() && _log.isDebugEnabled()) {
+					_log.debug(
+						"Rendered portlet " + portlet.getPortletId() +
+							" on the request thread");
+				}
+			}
+			else if (portletRendererTask.cancelUnclaimed() &&
+					 _log.isDebugEnabled()) {
+
+				_log.debug(
+					"Skip portlet " + portlet.getPortletId() +
+						" since the page timed out before it was rendered");
+			}
+		}
+
+		boolean interrupted = false;
 
-			Future<StringBundler> future = entry.getKey();
-			PortletRenderer portletRenderer = entry.getValue();
+		for (PortletRendererTask portletRendererTask : portletRendererTasks) {
+			PortletRenderer portletRenderer =
+				portletRendererTask.getPortletRenderer();
 
 			Portlet portlet = portletRenderer.getPortlet();
 
-			if ((waitTime > 0) || future.isDone()) {
+			long waitTime = getWaitTime(portletRendererTask, deadline);
+
+			boolean timeout = false;
+
+			if (portletRendererTask.isCancelled()) {
+
+				// The page timed out before any thread started rendering the
+				// portlet
+
+			}
+			else if ((waitTime > 0) || portletRendererTask.isDone()) {
 				try {
 					long startTime = System.currentTimeMillis();
 
-					StringBundler sb = future.get(
-						waitTime, TimeUnit.MILLISECONDS);
+					StringBundler sb = portletRendererTask.get(
+						Math.max(waitTime, 0), TimeUnit.MILLISECONDS);
 
 					long duration = System.currentTimeMillis() - startTime;
 
-					waitTime -= duration;
-
 					contentsMap.put(portlet.getPortletId(), sb);
 
 					portletRenderer.finishParallelRender();
@@ -429,20 +506,30 @@ public class RuntimePageImpl implements RuntimePage {
 					// portlets to fall back to ajax loading or an error
 					// message.
 
-					waitTime = -1;
+					deadline = 0;
+					interrupted = true;
 				}
 				catch (TimeoutException te) {
 
-					// On timeout, stop waiting, force all pending portlets to
-					// fall back to ajax loading or an error message.
+					// On timeout of the page, all pending portlets fall back
+					// to ajax loading or an error message. On timeout of the
+					// portlet, only this portlet falls back.
 
-					waitTime = -1;
+					timeout = true;
 				}
 			}
+			else {
+				timeout = !interrupted;
+			}
 
 			// Cancel by interrupting rendering thread
 
-			future.cancel(true);
+			portletRendererTask.cancel(true);
+
+			if (timeout) {
+				PortletRenderStatisticsUtil.incrementTimeoutCount(
+					portlet.getRootPortletId());
+			}
 
 			StringBundler sb = null;
 
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util.jmx;
+
+import com.liferay.portlet.layoutconfiguration.util.PortletFragmentCacheUtil;
+
+/**
+ * @see PortletFragmentCacheUtil
+ */
+public class PortletFragmentCacheManager
+	implements PortletFragmentCacheManagerMBean {
+
+	public long getHitCount(String portletId) {
+		return PortletFragmentCacheUtil.getHitCount(portletId);
+	}
+
+	public double getHitRate(String portletId) {
+		long hitCount = PortletFragmentCacheUtil.getHitCount(portletId);
+		long missCount = PortletFragmentCacheUtil.getMissCount(portletId);
+
+		if ((hitCount + missCount) == 0) {
+			return 0;
+		}
+
+		return (double)hitCount / (hitCount + missCount);
+	}
+
+	public long getMissCount(String portletId) {
+		return PortletFragmentCacheUtil.getMissCount(portletId);
+	}
+
+	public String[] getPortletIds() {
+		return PortletFragmentCacheUtil.getPortletIds();
+	}
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util.jmx;
+
+import com.liferay.portlet.layoutconfiguration.util.PortletRenderStatisticsUtil;
+
+/**
+ * @see PortletRenderStatisticsUtil
+ */
+public class PortletRenderManager implements PortletRenderManagerMBean {
+
+	public long getAverageRenderTime(String portletId) {
+		long renderCount = PortletRenderStatisticsUtil.getRenderCount(
+			portletId);
+
+		if (renderCount == 0) {
+			return 0;
+		}
+
+		return PortletRenderStatisticsUtil.getRenderTime(portletId) /
+			renderCount;
+	}
+
+	public long[] getHistogram(String portletId) {
+		return PortletRenderStatisticsUtil.getHistogram(portletId);
+	}
+
+	public long[] getHistogramBounds() {
+		return PortletRenderStatisticsUtil.getHistogramBounds();
+	}
+
+	public String[] getPortletIds() {
+		return PortletRenderStatisticsUtil.getPortletIds();
+	}
+
+	public long getRenderCount(String portletId) {
+		return PortletRenderStatisticsUtil.getRenderCount(portletId);
+	}
+
+	public long getTimeoutCount(String portletId) {
+		return PortletRenderStatisticsUtil.getTimeoutCount(portletId);
+	}
+
+	public void reset() {
+		PortletRenderStatisticsUtil.reset();
+	}
+
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util.jmx;
+
+/**
+ * Exposes the render times and the parallel rendering timeouts of each
+ * portlet, see {@link #getPortletIds()}. The histogram of a portlet has one
+ * more bucket than there are bounds in {@link #getHistogramBounds()}.
+ */
+public interface PortletRenderManagerMBean {
+
+	public long getAverageRenderTime(String portletId);
+
+	public long[] getHistogram(String portletId);
+
+	public long[] getHistogramBounds();
+
+	public String[] getPortletIds();
+
+	public long getRenderCount(String portletId);
+
+	public long getTimeoutCount(String portletId);
+
+	public void reset();
+
+}
@@ -72,6 +72,11 @@ import javax.portlet.PortletPreferences;
  */
 public class MBPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -873,6 +878,12 @@ public class MBPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		MBBan.class.getName(),
+		MBCategory.class.getName(),
+		MBMessage.class.getName()
+	};
+
 	private static final String _NAMESPACE = "message_board";
 
 	private static Log _log = LogFactoryUtil.getLog(
@@ -33,6 +33,7 @@ import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.Hits;
+import com.liferay.portal.kernel.search.IntervalReindexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -431,7 +432,7 @@ public class MBIndexer extends BaseIndexer {
 	}
 
 	protected void reindexMessages(
-			long companyId, long groupId, long categoryId)
+			final long companyId, final long groupId, final long categoryId)
 		throws Exception {
 
 		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
@@ -465,19 +466,22 @@ public class MBIndexer extends BaseIndexer {
 		long minMessageId = (Long)minAndMaxMessageIds[0];
 		long maxMessageId = (Long)minAndMaxMessageIds[1];
 
-		long startMessageId = minMessageId;
-		long endMessageId = startMessageId + DEFAULT_INTERVAL;
+		reindexIntervals(
+			minMessageId, maxMessageId,
+			new IntervalReindexer() {
 
-		while (startMessageId <= maxMessageId) {
-			reindexMessages(
-				companyId, groupId, categoryId, startMessageId, endMessageId);
+				public int reindex(long startMessageId, long endMessageId)
+					throws Exception {
 
-			startMessageId = endMessageId;
-			endMessageId += DEFAULT_INTERVAL;
-		}
+					return reindexMessages(
+						companyId, groupId, categoryId, startMessageId,
+						endMessageId);
+				}
+
+			});
 	}
 
-	protected void reindexMessages(
+	protected int reindexMessages(
 			long companyId, long groupId, long categoryId, long startMessageId,
 			long endMessageId)
 		throws Exception {
@@ -496,7 +500,7 @@ public class MBIndexer extends BaseIndexer {
 			dynamicQuery);
 
 		if (messages.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		Collection<Document> documents = new ArrayList<Document>(
@@ -510,6 +514,8 @@ public class MBIndexer extends BaseIndexer {
 
 		SearchEngineUtil.updateDocuments(
 			getSearchEngineId(), companyId, documents);
+
+		return documents.size();
 	}
 
 	protected void reindexRoot(long companyId) throws Exception {
@@ -55,6 +55,11 @@ import javax.portlet.PortletPreferences;
  */
 public class MDRPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -630,6 +635,13 @@ public class MDRPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_STAGED = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		MDRAction.class.getName(),
+		MDRRule.class.getName(),
+		MDRRuleGroup.class.getName(),
+		MDRRuleGroupInstance.class.getName()
+	};
+
 	private static final String _NAMESPACE = "mobile_device_rules";
 
 	private static final boolean _PUBLISH_TO_LIVE_BY_DEFAULT = true;
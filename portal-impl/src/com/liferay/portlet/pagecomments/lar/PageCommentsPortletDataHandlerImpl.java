@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.lar.PortletDataHandlerBoolean;
 import com.liferay.portal.kernel.lar.PortletDataHandlerControl;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.model.Layout;
+import com.liferay.portlet.messageboards.model.MBMessage;
 import com.liferay.portlet.messageboards.service.MBMessageLocalServiceUtil;
 
 import javax.portlet.PortletPreferences;
@@ -29,6 +30,11 @@ import javax.portlet.PortletPreferences;
  */
 public class PageCommentsPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {_comments};
@@ -78,6 +84,10 @@ public class PageCommentsPortletDataHandlerImpl extends BasePortletDataHandler {
 		return null;
 	}
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		MBMessage.class.getName()
+	};
+
 	private static final String _NAMESPACE = "page_comments";
 
 	private static PortletDataHandlerBoolean _comments =
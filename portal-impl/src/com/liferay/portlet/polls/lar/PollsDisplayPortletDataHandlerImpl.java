@@ -42,6 +42,11 @@ import javax.portlet.PortletPreferences;
  */
 public class PollsDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {_questions, _votes};
@@ -206,6 +211,10 @@ public class PollsDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 		return portletPreferences;
 	}
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		PollsQuestion.class.getName()
+	};
+
 	private static final String _NAMESPACE = "polls";
 
 	private static final boolean _PUBLISH_TO_LIVE_BY_DEFAULT = true;
@@ -51,6 +51,11 @@ import javax.portlet.PortletPreferences;
  */
 public class PollsPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {_questions, _votes};
@@ -439,6 +444,10 @@ public class PollsPortletDataHandlerImpl extends BasePortletDataHandler {
 
 	private static final boolean _ALWAYS_EXPORTABLE = true;
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		PollsQuestion.class.getName()
+	};
+
 	private static final String _NAMESPACE = "polls";
 
 	private static PortletDataHandlerBoolean _questions =
@@ -45,6 +45,11 @@ import javax.portlet.PortletPreferences;
  */
 public class WikiDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -241,6 +246,11 @@ public class WikiDisplayPortletDataHandlerImpl extends BasePortletDataHandler {
 		return portletPreferences;
 	}
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		WikiNode.class.getName(),
+		WikiPage.class.getName()
+	};
+
 	private static final String _NAMESPACE = "wiki";
 
 	private static Log _log = LogFactoryUtil.getLog(
@@ -255,6 +255,11 @@ public class WikiPortletDataHandlerImpl extends BasePortletDataHandler {
 		portletDataContext.importClassedModel(page, importedPage, _NAMESPACE);
 	}
 
+	@Override
+	public String[] getClassNames() {
+		return _CLASS_NAMES;
+	}
+
 	@Override
 	public PortletDataHandlerControl[] getExportControls() {
 		return new PortletDataHandlerControl[] {
@@ -582,6 +587,11 @@ public class WikiPortletDataHandlerImpl extends BasePortletDataHandler {
 		return null;
 	}
 
+	private static final String[] _CLASS_NAMES = new String[] {
+		WikiNode.class.getName(),
+		WikiPage.class.getName()
+	};
+
 	private static final String _NAMESPACE = "wiki";
 
 	private static PortletDataHandlerControl[] _metadataControls =
@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -131,6 +136,36 @@ public class CounterPersistenceTest {
 		Assert.assertNull(missingCounter);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Counter newCounter = addCounter();
+		Counter removedCounter = addCounter();
+
+		_persistence.remove(removedCounter);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCounter.getPrimaryKey());
+		primaryKeys.add(removedCounter.getPrimaryKey());
+
+		Map<Serializable, Counter> counters = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, counters.size());
+		Assert.assertEquals(newCounter, counters.get(newCounter.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		counters = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, counters.size());
+		Assert.assertEquals(newCounter, counters.get(newCounter.getPrimaryKey()));
+
+		counters = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(counters.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import com.liferay.portal.test.EnvironmentExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@ExecutionTestListeners(listeners = {EnvironmentExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class ShardedIndexAccessorImplTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_shardedIndexAccessorImpl = new ShardedIndexAccessorImpl(
+			_TEST_COMPANY_ID, _SHARDS_COUNT);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		System.gc();
+
+		_shardedIndexAccessorImpl.delete();
+		_shardedIndexAccessorImpl.close();
+	}
+
+	@Test
+	public void testAddDocuments() throws Exception {
+		_addDocuments("test");
+
+		_assertHits(new MatchAllDocsQuery(), _DOCUMENTS_COUNT);
+
+		for (int i = 0; i < _DOCUMENTS_COUNT; i++) {
+			_assertHits(
+				new TermQuery(new Term(_FIELD_NAME_UID, "test" + i)), 1);
+		}
+	}
+
+	@Test
+	public void testDeleteDocumentsByTerm() throws Exception {
+		_addDocuments("test");
+
+		_shardedIndexAccessorImpl.deleteDocuments(
+			new Term(_FIELD_NAME_KEY, "test"));
+
+		_assertHits(new MatchAllDocsQuery(), 0);
+	}
+
+	@Test
+	public void testDeleteDocumentsByUID() throws Exception {
+		_addDocuments("test");
+
+		_shardedIndexAccessorImpl.deleteDocuments(
+			new Term(_FIELD_NAME_UID, "test0"));
+
+		_assertHits(new MatchAllDocsQuery(), _DOCUMENTS_COUNT - 1);
+		_assertHits(new TermQuery(new Term(_FIELD_NAME_UID, "test0")), 0);
+	}
+
+	@Test
+	public void testUpdateDocument() throws Exception {
+		_addDocuments("test");
+
+		Document document = _createDocument("test", 0);
+
+		_shardedIndexAccessorImpl.updateDocument(
+			new Term(_FIELD_NAME_UID, "test0"), document);
+
+		_assertHits(new MatchAllDocsQuery(), _DOCUMENTS_COUNT);
+	}
+
+	private void _addDocuments(String key) throws Exception {
+		for (int i = 0; i < _DOCUMENTS_COUNT; i++) {
+			_shardedIndexAccessorImpl.addDocument(_createDocument(key, i));
+		}
+	}
+
+	private void _assertHits(
+			org.apache.lucene.search.Query query, int expectedHits)
+		throws Exception {
+
+		IndexSearcher indexSearcher =
+			_shardedIndexAccessorImpl.acquireIndexSearcher();
+
+		try {
+			Assert.assertTrue(indexSearcher instanceof ShardedIndexSearcher);
+
+			TopDocs topDocs = indexSearcher.search(query, _DOCUMENTS_COUNT);
+
+			Assert.assertEquals(expectedHits, topDocs.totalHits);
+		}
+		finally {
+			_shardedIndexAccessorImpl.releaseIndexSearcher(indexSearcher);
+		}
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		Assert.assertEquals(0, indexReader.getRefCount());
+	}
+
+	private Document _createDocument(String key, int i) {
+		Document document = new Document();
+
+		document.add(
+			new Field(
+				_FIELD_NAME_KEY, key, Field.Store.YES,
+				Field.Index.NOT_ANALYZED));
+		document.add(
+			new Field(
+				_FIELD_NAME_UID, key + i, Field.Store.YES,
+				Field.Index.NOT_ANALYZED));
+
+		return document;
+	}
+
+	private static final int _DOCUMENTS_COUNT = 20;
+
+	private static final String _FIELD_NAME_KEY = "key";
+
+	private static final String _FIELD_NAME_UID =
+		com.liferay.portal.kernel.search.Field.UID;
+
+	private static final int _SHARDS_COUNT = 3;
+
+	private static final long _TEST_COMPANY_ID = 1000;
+
+	private ShardedIndexAccessorImpl _shardedIndexAccessorImpl;
+
+}
@@ -22,6 +22,11 @@ import com.liferay.portal.util.PropsValues;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
@@ -56,6 +61,8 @@ public class IndexAccessorImplTest extends PowerMockito {
 		}
 
 		_indexAccessorImpl = new IndexAccessorImpl(_TEST_COMPANY_ID);
+		_targetIndexAccessorImpl = new IndexAccessorImpl(
+			_TARGET_COMPANY_ID);
 	}
 
 	@After
@@ -64,6 +71,9 @@ public class IndexAccessorImplTest extends PowerMockito {
 
 		_indexAccessorImpl.delete();
 		_indexAccessorImpl.close();
+
+		_targetIndexAccessorImpl.delete();
+		_targetIndexAccessorImpl.close();
 	}
 
 	@Test
@@ -94,6 +104,80 @@ public class IndexAccessorImplTest extends PowerMockito {
 		_assertHits("test", true);
 	}
 
+	@Test
+	public void testResumedDump() throws Exception {
+		_addDocuments("test1");
+		_addDocuments("test2");
+
+		byte[] bytes = _dumpIndex(Collections.<String>emptySet());
+
+		// A transfer that misses a segment fails, but keeps the segments that
+		// were received
+
+		Set<String> segmentKeys = new HashSet<String>();
+
+		for (String segmentKey : _indexAccessorImpl.getSegmentKeys()) {
+			if (!segmentKey.startsWith("segments")) {
+				segmentKeys.add(segmentKey);
+
+				break;
+			}
+		}
+
+		Assert.assertEquals(1, segmentKeys.size());
+
+		try {
+			_targetIndexAccessorImpl.loadIndex(
+				new ByteArrayInputStream(_dumpIndex(segmentKeys)));
+
+			Assert.fail();
+		}
+		catch (IOException ioe) {
+		}
+
+		_assertHits(_targetIndexAccessorImpl, "test1", false);
+		_assertHits(_targetIndexAccessorImpl, "test2", false);
+
+		// The resumed transfer only sends the missing segment
+
+		byte[] resumedBytes = _dumpIndex(
+			_targetIndexAccessorImpl.getSegmentKeys());
+
+		Assert.assertTrue(resumedBytes.length < bytes.length);
+
+		_targetIndexAccessorImpl.loadIndex(
+			new ByteArrayInputStream(resumedBytes));
+
+		_assertHits(_targetIndexAccessorImpl, "test1", true);
+		_assertHits(_targetIndexAccessorImpl, "test2", true);
+	}
+
+	@Test
+	public void testReusedSegmentsDump() throws Exception {
+		_addDocuments("test1");
+
+		_targetIndexAccessorImpl.loadIndex(
+			new ByteArrayInputStream(
+				_dumpIndex(Collections.<String>emptySet())));
+
+		_assertHits(_targetIndexAccessorImpl, "test1", true);
+
+		_addDocuments("test2");
+
+		// Only the segments that the target index does not have yet are
+		// transferred
+
+		byte[] bytes = _dumpIndex(_targetIndexAccessorImpl.getSegmentKeys());
+
+		Assert.assertTrue(
+			bytes.length < _dumpIndex(Collections.<String>emptySet()).length);
+
+		_targetIndexAccessorImpl.loadIndex(new ByteArrayInputStream(bytes));
+
+		_assertHits(_targetIndexAccessorImpl, "test1", true);
+		_assertHits(_targetIndexAccessorImpl, "test2", true);
+	}
+
 	@Test
 	public void testThreeCommitsDump() throws Exception {
 		_addDocuments("test1");
@@ -202,8 +286,15 @@ public class IndexAccessorImplTest extends PowerMockito {
 	}
 
 	private void _assertHits(String key, boolean expectHit) throws Exception {
+		_assertHits(_indexAccessorImpl, key, expectHit);
+	}
+
+	private void _assertHits(
+			IndexAccessorImpl indexAccessorImpl, String key, boolean expectHit)
+		throws Exception {
+
 		IndexReader indexReader = IndexReader.open(
-			_indexAccessorImpl.getLuceneDir());
+			indexAccessorImpl.getLuceneDir());
 
 		IndexSearcher indexSearcher = new IndexSearcher(indexReader);
 
@@ -238,9 +329,21 @@ public class IndexAccessorImplTest extends PowerMockito {
 		}
 	}
 
+	private byte[] _dumpIndex(Set<String> segmentKeys) throws Exception {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_indexAccessorImpl.dumpIndex(byteArrayOutputStream, segmentKeys);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final long _TARGET_COMPANY_ID = 1001;
+
 	private static final long _TEST_COMPANY_ID = 1000;
 
 	private int _documentsCount;
 	private IndexAccessorImpl _indexAccessorImpl;
+	private IndexAccessorImpl _targetIndexAccessorImpl;
 
 }
\ No newline at end of file
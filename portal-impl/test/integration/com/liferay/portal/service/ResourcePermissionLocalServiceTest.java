@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service;
+
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.Resource;
+import com.liferay.portal.model.ResourceConstants;
+import com.liferay.portal.model.ResourcePermission;
+import com.liferay.portal.model.Role;
+import com.liferay.portal.model.RoleConstants;
+import com.liferay.portal.model.impl.ResourceImpl;
+import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.service.persistence.ResourcePermissionUtil;
+import com.liferay.portal.test.EnvironmentExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.util.TestPropsValues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@ExecutionTestListeners(listeners = {EnvironmentExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class ResourcePermissionLocalServiceTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_primKey = String.valueOf(ServiceTestUtil.nextLong());
+
+		Role role = RoleLocalServiceUtil.getRole(
+			TestPropsValues.getCompanyId(), RoleConstants.GUEST);
+
+		_roleId = role.getRoleId();
+
+		Resource resource = new ResourceImpl();
+
+		resource.setCompanyId(TestPropsValues.getCompanyId());
+		resource.setName(_NAME);
+		resource.setScope(ResourceConstants.SCOPE_INDIVIDUAL);
+		resource.setPrimKey(_primKey);
+
+		_resources.add(resource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourcePermissionLocalServiceUtil.deleteResourcePermissions(
+			TestPropsValues.getCompanyId(), _NAME,
+			ResourceConstants.SCOPE_INDIVIDUAL, _primKey);
+	}
+
+	@Test
+	public void testDeleteResourcePermissionThroughPersistence()
+		throws Exception {
+
+		ResourcePermission resourcePermission = addResourcePermission();
+
+		ResourcePermissionUtil.remove(
+			resourcePermission.getResourcePermissionId());
+
+		Assert.assertFalse(hasResourcePermission());
+	}
+
+	@Test
+	public void testDeleteResourcePermissionWithBaseService()
+		throws Exception {
+
+		ResourcePermission resourcePermission = addResourcePermission();
+
+		// The generated delete method goes straight to the persistence and
+		// does not clear the permission cache itself
+
+		ResourcePermissionLocalServiceUtil.deleteResourcePermission(
+			resourcePermission);
+
+		Assert.assertFalse(hasResourcePermission());
+	}
+
+	@Test
+	public void testUpdateResourcePermissionThroughPersistence()
+		throws Exception {
+
+		ResourcePermission resourcePermission = addResourcePermission();
+
+		resourcePermission.setActionIds(0);
+
+		ResourcePermissionUtil.update(resourcePermission, false);
+
+		Assert.assertFalse(hasResourcePermission());
+	}
+
+	protected ResourcePermission addResourcePermission() throws Exception {
+		Assert.assertFalse(hasResourcePermission());
+
+		ResourcePermissionLocalServiceUtil.setResourcePermissions(
+			TestPropsValues.getCompanyId(), _NAME,
+			ResourceConstants.SCOPE_INDIVIDUAL, _primKey, _roleId,
+			new String[] {ActionKeys.VIEW});
+
+		// Loads the resource permission index of the resource into the cache
+
+		Assert.assertTrue(hasResourcePermission());
+
+		return ResourcePermissionLocalServiceUtil.getResourcePermission(
+			TestPropsValues.getCompanyId(), _NAME,
+			ResourceConstants.SCOPE_INDIVIDUAL, _primKey, _roleId);
+	}
+
+	protected boolean hasResourcePermission() throws Exception {
+		return ResourcePermissionLocalServiceUtil.hasResourcePermission(
+			_resources, new long[] {_roleId}, ActionKeys.VIEW);
+	}
+
+	private static final String _NAME = Layout.class.getName();
+
+	private String _primKey;
+	private List<Resource> _resources = new ArrayList<Resource>();
+	private long _roleId;
+
+}
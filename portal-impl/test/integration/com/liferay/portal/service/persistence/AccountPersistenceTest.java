@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -186,6 +191,36 @@ public class AccountPersistenceTest {
 		Assert.assertNull(missingAccount);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Account newAccount = addAccount();
+		Account removedAccount = addAccount();
+
+		_persistence.remove(removedAccount);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAccount.getPrimaryKey());
+		primaryKeys.add(removedAccount.getPrimaryKey());
+
+		Map<Serializable, Account> accounts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, accounts.size());
+		Assert.assertEquals(newAccount, accounts.get(newAccount.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		accounts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, accounts.size());
+		Assert.assertEquals(newAccount, accounts.get(newAccount.getPrimaryKey()));
+
+		accounts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(accounts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
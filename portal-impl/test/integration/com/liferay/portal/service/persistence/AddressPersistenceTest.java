@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -194,6 +199,36 @@ public class AddressPersistenceTest {
 		Assert.assertNull(missingAddress);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Address newAddress = addAddress();
+		Address removedAddress = addAddress();
+
+		_persistence.remove(removedAddress);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAddress.getPrimaryKey());
+		primaryKeys.add(removedAddress.getPrimaryKey());
+
+		Map<Serializable, Address> addresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, addresses.size());
+		Assert.assertEquals(newAddress, addresses.get(newAddress.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		addresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, addresses.size());
+		Assert.assertEquals(newAddress, addresses.get(newAddress.getPrimaryKey()));
+
+		addresses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(addresses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
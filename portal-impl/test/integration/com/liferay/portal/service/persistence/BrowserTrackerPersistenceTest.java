@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,36 @@ public class BrowserTrackerPersistenceTest {
 		Assert.assertNull(missingBrowserTracker);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		BrowserTracker newBrowserTracker = addBrowserTracker();
+		BrowserTracker removedBrowserTracker = addBrowserTracker();
+
+		_persistence.remove(removedBrowserTracker);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBrowserTracker.getPrimaryKey());
+		primaryKeys.add(removedBrowserTracker.getPrimaryKey());
+
+		Map<Serializable, BrowserTracker> browserTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, browserTrackers.size());
+		Assert.assertEquals(newBrowserTracker, browserTrackers.get(newBrowserTracker.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		browserTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, browserTrackers.size());
+		Assert.assertEquals(newBrowserTracker, browserTrackers.get(newBrowserTracker.getPrimaryKey()));
+
+		browserTrackers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(browserTrackers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -134,6 +139,36 @@ public class ClassNamePersistenceTest {
 		Assert.assertNull(missingClassName);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ClassName newClassName = addClassName();
+		ClassName removedClassName = addClassName();
+
+		_persistence.remove(removedClassName);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newClassName.getPrimaryKey());
+		primaryKeys.add(removedClassName.getPrimaryKey());
+
+		Map<Serializable, ClassName> classNames = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, classNames.size());
+		Assert.assertEquals(newClassName, classNames.get(newClassName.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		classNames = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, classNames.size());
+		Assert.assertEquals(newClassName, classNames.get(newClassName.getPrimaryKey()));
+
+		classNames = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(classNames.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
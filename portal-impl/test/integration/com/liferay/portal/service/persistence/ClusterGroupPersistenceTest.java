@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -140,6 +145,36 @@ public class ClusterGroupPersistenceTest {
 		Assert.assertNull(missingClusterGroup);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ClusterGroup newClusterGroup = addClusterGroup();
+		ClusterGroup removedClusterGroup = addClusterGroup();
+
+		_persistence.remove(removedClusterGroup);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newClusterGroup.getPrimaryKey());
+		primaryKeys.add(removedClusterGroup.getPrimaryKey());
+
+		Map<Serializable, ClusterGroup> clusterGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, clusterGroups.size());
+		Assert.assertEquals(newClusterGroup, clusterGroups.get(newClusterGroup.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		clusterGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, clusterGroups.size());
+		Assert.assertEquals(newClusterGroup, clusterGroups.get(newClusterGroup.getPrimaryKey()));
+
+		clusterGroups = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(clusterGroups.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,36 @@ public class CompanyPersistenceTest {
 		Assert.assertNull(missingCompany);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Company newCompany = addCompany();
+		Company removedCompany = addCompany();
+
+		_persistence.remove(removedCompany);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCompany.getPrimaryKey());
+		primaryKeys.add(removedCompany.getPrimaryKey());
+
+		Map<Serializable, Company> companies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, companies.size());
+		Assert.assertEquals(newCompany, companies.get(newCompany.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		companies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, companies.size());
+		Assert.assertEquals(newCompany, companies.get(newCompany.getPrimaryKey()));
+
+		companies = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(companies.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
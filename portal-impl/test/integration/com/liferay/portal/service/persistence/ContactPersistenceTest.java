@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -252,6 +257,36 @@ public class ContactPersistenceTest {
 		Assert.assertNull(missingContact);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Contact newContact = addContact();
+		Contact removedContact = addContact();
+
+		_persistence.remove(removedContact);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newContact.getPrimaryKey());
+		primaryKeys.add(removedContact.getPrimaryKey());
+
+		Map<Serializable, Contact> contacts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, contacts.size());
+		Assert.assertEquals(newContact, contacts.get(newContact.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		contacts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, contacts.size());
+		Assert.assertEquals(newContact, contacts.get(newContact.getPrimaryKey()));
+
+		contacts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(contacts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,36 @@ public class CountryPersistenceTest {
 		Assert.assertNull(missingCountry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Country newCountry = addCountry();
+		Country removedCountry = addCountry();
+
+		_persistence.remove(removedCountry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCountry.getPrimaryKey());
+		primaryKeys.add(removedCountry.getPrimaryKey());
+
+		Map<Serializable, Country> countries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, countries.size());
+		Assert.assertEquals(newCountry, countries.get(newCountry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		countries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, countries.size());
+		Assert.assertEquals(newCountry, countries.get(newCountry.getPrimaryKey()));
+
+		countries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(countries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
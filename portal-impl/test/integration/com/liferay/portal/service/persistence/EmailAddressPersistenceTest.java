@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -171,6 +176,36 @@ public class EmailAddressPersistenceTest {
 		Assert.assertNull(missingEmailAddress);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		EmailAddress newEmailAddress = addEmailAddress();
+		EmailAddress removedEmailAddress = addEmailAddress();
+
+		_persistence.remove(removedEmailAddress);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newEmailAddress.getPrimaryKey());
+		primaryKeys.add(removedEmailAddress.getPrimaryKey());
+
+		Map<Serializable, EmailAddress> emailAddresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, emailAddresses.size());
+		Assert.assertEquals(newEmailAddress, emailAddresses.get(newEmailAddress.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		emailAddresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, emailAddresses.size());
+		Assert.assertEquals(newEmailAddress, emailAddresses.get(newEmailAddress.getPrimaryKey()));
+
+		emailAddresses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(emailAddresses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
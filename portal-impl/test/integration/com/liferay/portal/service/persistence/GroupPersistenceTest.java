@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -176,6 +181,36 @@ public class GroupPersistenceTest {
 		Assert.assertNull(missingGroup);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Group newGroup = addGroup();
+		Group removedGroup = addGroup();
+
+		_persistence.remove(removedGroup);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newGroup.getPrimaryKey());
+		primaryKeys.add(removedGroup.getPrimaryKey());
+
+		Map<Serializable, Group> groups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, groups.size());
+		Assert.assertEquals(newGroup, groups.get(newGroup.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		groups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, groups.size());
+		Assert.assertEquals(newGroup, groups.get(newGroup.getPrimaryKey()));
+
+		groups = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(groups.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
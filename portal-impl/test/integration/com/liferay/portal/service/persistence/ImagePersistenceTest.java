@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class ImagePersistenceTest {
 		Assert.assertNull(missingImage);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Image newImage = addImage();
+		Image removedImage = addImage();
+
+		_persistence.remove(removedImage);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newImage.getPrimaryKey());
+		primaryKeys.add(removedImage.getPrimaryKey());
+
+		Map<Serializable, Image> images = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, images.size());
+		Assert.assertEquals(newImage, images.get(newImage.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		images = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, images.size());
+		Assert.assertEquals(newImage, images.get(newImage.getPrimaryKey()));
+
+		images = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(images.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
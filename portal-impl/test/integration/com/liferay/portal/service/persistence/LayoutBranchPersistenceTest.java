@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class LayoutBranchPersistenceTest {
 		Assert.assertNull(missingLayoutBranch);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutBranch newLayoutBranch = addLayoutBranch();
+		LayoutBranch removedLayoutBranch = addLayoutBranch();
+
+		_persistence.remove(removedLayoutBranch);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutBranch.getPrimaryKey());
+		primaryKeys.add(removedLayoutBranch.getPrimaryKey());
+
+		Map<Serializable, LayoutBranch> layoutBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutBranchs.size());
+		Assert.assertEquals(newLayoutBranch, layoutBranchs.get(newLayoutBranch.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layoutBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutBranchs.size());
+		Assert.assertEquals(newLayoutBranch, layoutBranchs.get(newLayoutBranch.getPrimaryKey()));
+
+		layoutBranchs = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layoutBranchs.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
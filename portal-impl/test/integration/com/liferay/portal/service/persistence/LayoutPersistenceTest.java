@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -235,6 +240,36 @@ public class LayoutPersistenceTest {
 		Assert.assertNull(missingLayout);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Layout newLayout = addLayout();
+		Layout removedLayout = addLayout();
+
+		_persistence.remove(removedLayout);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayout.getPrimaryKey());
+		primaryKeys.add(removedLayout.getPrimaryKey());
+
+		Map<Serializable, Layout> layouts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layouts.size());
+		Assert.assertEquals(newLayout, layouts.get(newLayout.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layouts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layouts.size());
+		Assert.assertEquals(newLayout, layouts.get(newLayout.getPrimaryKey()));
+
+		layouts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layouts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,36 @@ public class LayoutPrototypePersistenceTest {
 		Assert.assertNull(missingLayoutPrototype);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutPrototype newLayoutPrototype = addLayoutPrototype();
+		LayoutPrototype removedLayoutPrototype = addLayoutPrototype();
+
+		_persistence.remove(removedLayoutPrototype);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutPrototype.getPrimaryKey());
+		primaryKeys.add(removedLayoutPrototype.getPrimaryKey());
+
+		Map<Serializable, LayoutPrototype> layoutPrototypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutPrototypes.size());
+		Assert.assertEquals(newLayoutPrototype, layoutPrototypes.get(newLayoutPrototype.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layoutPrototypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutPrototypes.size());
+		Assert.assertEquals(newLayoutPrototype, layoutPrototypes.get(newLayoutPrototype.getPrimaryKey()));
+
+		layoutPrototypes = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layoutPrototypes.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -254,6 +259,36 @@ public class LayoutRevisionPersistenceTest {
 		Assert.assertNull(missingLayoutRevision);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutRevision newLayoutRevision = addLayoutRevision();
+		LayoutRevision removedLayoutRevision = addLayoutRevision();
+
+		_persistence.remove(removedLayoutRevision);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutRevision.getPrimaryKey());
+		primaryKeys.add(removedLayoutRevision.getPrimaryKey());
+
+		Map<Serializable, LayoutRevision> layoutRevisions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutRevisions.size());
+		Assert.assertEquals(newLayoutRevision, layoutRevisions.get(newLayoutRevision.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layoutRevisions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutRevisions.size());
+		Assert.assertEquals(newLayoutRevision, layoutRevisions.get(newLayoutRevision.getPrimaryKey()));
+
+		layoutRevisions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layoutRevisions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
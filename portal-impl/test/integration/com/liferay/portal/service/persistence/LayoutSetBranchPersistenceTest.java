@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -214,6 +219,36 @@ public class LayoutSetBranchPersistenceTest {
 		Assert.assertNull(missingLayoutSetBranch);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutSetBranch newLayoutSetBranch = addLayoutSetBranch();
+		LayoutSetBranch removedLayoutSetBranch = addLayoutSetBranch();
+
+		_persistence.remove(removedLayoutSetBranch);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutSetBranch.getPrimaryKey());
+		primaryKeys.add(removedLayoutSetBranch.getPrimaryKey());
+
+		Map<Serializable, LayoutSetBranch> layoutSetBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutSetBranchs.size());
+		Assert.assertEquals(newLayoutSetBranch, layoutSetBranchs.get(newLayoutSetBranch.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layoutSetBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutSetBranchs.size());
+		Assert.assertEquals(newLayoutSetBranch, layoutSetBranchs.get(newLayoutSetBranch.getPrimaryKey()));
+
+		layoutSetBranchs = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layoutSetBranchs.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
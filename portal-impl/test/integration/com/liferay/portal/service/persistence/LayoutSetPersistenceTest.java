@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -194,6 +199,36 @@ public class LayoutSetPersistenceTest {
 		Assert.assertNull(missingLayoutSet);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutSet newLayoutSet = addLayoutSet();
+		LayoutSet removedLayoutSet = addLayoutSet();
+
+		_persistence.remove(removedLayoutSet);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutSet.getPrimaryKey());
+		primaryKeys.add(removedLayoutSet.getPrimaryKey());
+
+		Map<Serializable, LayoutSet> layoutSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutSets.size());
+		Assert.assertEquals(newLayoutSet, layoutSets.get(newLayoutSet.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		layoutSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, layoutSets.size());
+		Assert.assertEquals(newLayoutSet, layoutSets.get(newLayoutSet.getPrimaryKey()));
+
+		layoutSets = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(layoutSets.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
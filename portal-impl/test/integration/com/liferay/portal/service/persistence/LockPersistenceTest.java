@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -164,6 +169,36 @@ public class LockPersistenceTest {
 		Assert.assertNull(missingLock);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Lock newLock = addLock();
+		Lock removedLock = addLock();
+
+		_persistence.remove(removedLock);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLock.getPrimaryKey());
+		primaryKeys.add(removedLock.getPrimaryKey());
+
+		Map<Serializable, Lock> locks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, locks.size());
+		Assert.assertEquals(newLock, locks.get(newLock.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		locks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, locks.size());
+		Assert.assertEquals(newLock, locks.get(newLock.getPrimaryKey()));
+
+		locks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(locks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class MembershipRequestPersistenceTest {
 		Assert.assertNull(missingMembershipRequest);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MembershipRequest newMembershipRequest = addMembershipRequest();
+		MembershipRequest removedMembershipRequest = addMembershipRequest();
+
+		_persistence.remove(removedMembershipRequest);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMembershipRequest.getPrimaryKey());
+		primaryKeys.add(removedMembershipRequest.getPrimaryKey());
+
+		Map<Serializable, MembershipRequest> membershipRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, membershipRequests.size());
+		Assert.assertEquals(newMembershipRequest, membershipRequests.get(newMembershipRequest.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		membershipRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, membershipRequests.size());
+		Assert.assertEquals(newMembershipRequest, membershipRequests.get(newMembershipRequest.getPrimaryKey()));
+
+		membershipRequests = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(membershipRequests.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,36 @@ public class OrgGroupRolePersistenceTest {
 		Assert.assertNull(missingOrgGroupRole);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		OrgGroupRole newOrgGroupRole = addOrgGroupRole();
+		OrgGroupRole removedOrgGroupRole = addOrgGroupRole();
+
+		_persistence.remove(removedOrgGroupRole);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrgGroupRole.getPrimaryKey());
+		primaryKeys.add(removedOrgGroupRole.getPrimaryKey());
+
+		Map<Serializable, OrgGroupRole> orgGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, orgGroupRoles.size());
+		Assert.assertEquals(newOrgGroupRole, orgGroupRoles.get(newOrgGroupRole.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		orgGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, orgGroupRoles.size());
+		Assert.assertEquals(newOrgGroupRole, orgGroupRoles.get(newOrgGroupRole.getPrimaryKey()));
+
+		orgGroupRoles = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(orgGroupRoles.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -191,6 +196,36 @@ public class OrgLaborPersistenceTest {
 		Assert.assertNull(missingOrgLabor);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		OrgLabor newOrgLabor = addOrgLabor();
+		OrgLabor removedOrgLabor = addOrgLabor();
+
+		_persistence.remove(removedOrgLabor);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrgLabor.getPrimaryKey());
+		primaryKeys.add(removedOrgLabor.getPrimaryKey());
+
+		Map<Serializable, OrgLabor> orgLabors = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, orgLabors.size());
+		Assert.assertEquals(newOrgLabor, orgLabors.get(newOrgLabor.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		orgLabors = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, orgLabors.size());
+		Assert.assertEquals(newOrgLabor, orgLabors.get(newOrgLabor.getPrimaryKey()));
+
+		orgLabors = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(orgLabors.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -171,6 +176,36 @@ public class OrganizationPersistenceTest {
 		Assert.assertNull(missingOrganization);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Organization newOrganization = addOrganization();
+		Organization removedOrganization = addOrganization();
+
+		_persistence.remove(removedOrganization);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrganization.getPrimaryKey());
+		primaryKeys.add(removedOrganization.getPrimaryKey());
+
+		Map<Serializable, Organization> organizations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, organizations.size());
+		Assert.assertEquals(newOrganization, organizations.get(newOrganization.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		organizations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, organizations.size());
+		Assert.assertEquals(newOrganization, organizations.get(newOrganization.getPrimaryKey()));
+
+		organizations = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(organizations.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
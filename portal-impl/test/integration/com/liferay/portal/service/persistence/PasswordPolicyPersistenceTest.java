@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -258,6 +263,36 @@ public class PasswordPolicyPersistenceTest {
 		Assert.assertNull(missingPasswordPolicy);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordPolicy newPasswordPolicy = addPasswordPolicy();
+		PasswordPolicy removedPasswordPolicy = addPasswordPolicy();
+
+		_persistence.remove(removedPasswordPolicy);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordPolicy.getPrimaryKey());
+		primaryKeys.add(removedPasswordPolicy.getPrimaryKey());
+
+		Map<Serializable, PasswordPolicy> passwordPolicies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordPolicies.size());
+		Assert.assertEquals(newPasswordPolicy, passwordPolicies.get(newPasswordPolicy.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		passwordPolicies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordPolicies.size());
+		Assert.assertEquals(newPasswordPolicy, passwordPolicies.get(newPasswordPolicy.getPrimaryKey()));
+
+		passwordPolicies = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(passwordPolicies.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class PasswordPolicyRelPersistenceTest {
 		Assert.assertNull(missingPasswordPolicyRel);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordPolicyRel newPasswordPolicyRel = addPasswordPolicyRel();
+		PasswordPolicyRel removedPasswordPolicyRel = addPasswordPolicyRel();
+
+		_persistence.remove(removedPasswordPolicyRel);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordPolicyRel.getPrimaryKey());
+		primaryKeys.add(removedPasswordPolicyRel.getPrimaryKey());
+
+		Map<Serializable, PasswordPolicyRel> passwordPolicyRels = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordPolicyRels.size());
+		Assert.assertEquals(newPasswordPolicyRel, passwordPolicyRels.get(newPasswordPolicyRel.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		passwordPolicyRels = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordPolicyRels.size());
+		Assert.assertEquals(newPasswordPolicyRel, passwordPolicyRels.get(newPasswordPolicyRel.getPrimaryKey()));
+
+		passwordPolicyRels = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(passwordPolicyRels.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
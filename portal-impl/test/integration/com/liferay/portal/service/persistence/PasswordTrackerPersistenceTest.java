@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class PasswordTrackerPersistenceTest {
 		Assert.assertNull(missingPasswordTracker);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordTracker newPasswordTracker = addPasswordTracker();
+		PasswordTracker removedPasswordTracker = addPasswordTracker();
+
+		_persistence.remove(removedPasswordTracker);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordTracker.getPrimaryKey());
+		primaryKeys.add(removedPasswordTracker.getPrimaryKey());
+
+		Map<Serializable, PasswordTracker> passwordTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordTrackers.size());
+		Assert.assertEquals(newPasswordTracker, passwordTrackers.get(newPasswordTracker.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		passwordTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, passwordTrackers.size());
+		Assert.assertEquals(newPasswordTracker, passwordTrackers.get(newPasswordTracker.getPrimaryKey()));
+
+		passwordTrackers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(passwordTrackers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
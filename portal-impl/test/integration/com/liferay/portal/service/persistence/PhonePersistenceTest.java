@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class PhonePersistenceTest {
 		Assert.assertNull(missingPhone);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Phone newPhone = addPhone();
+		Phone removedPhone = addPhone();
+
+		_persistence.remove(removedPhone);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPhone.getPrimaryKey());
+		primaryKeys.add(removedPhone.getPrimaryKey());
+
+		Map<Serializable, Phone> phones = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, phones.size());
+		Assert.assertEquals(newPhone, phones.get(newPhone.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		phones = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, phones.size());
+		Assert.assertEquals(newPhone, phones.get(newPhone.getPrimaryKey()));
+
+		phones = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(phones.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -151,6 +156,36 @@ public class PluginSettingPersistenceTest {
 		Assert.assertNull(missingPluginSetting);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PluginSetting newPluginSetting = addPluginSetting();
+		PluginSetting removedPluginSetting = addPluginSetting();
+
+		_persistence.remove(removedPluginSetting);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPluginSetting.getPrimaryKey());
+		primaryKeys.add(removedPluginSetting.getPrimaryKey());
+
+		Map<Serializable, PluginSetting> pluginSettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pluginSettings.size());
+		Assert.assertEquals(newPluginSetting, pluginSettings.get(newPluginSetting.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		pluginSettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pluginSettings.size());
+		Assert.assertEquals(newPluginSetting, pluginSettings.get(newPluginSetting.getPrimaryKey()));
+
+		pluginSettings = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(pluginSettings.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class PortalPreferencesPersistenceTest {
 		Assert.assertNull(missingPortalPreferences);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortalPreferences newPortalPreferences = addPortalPreferences();
+		PortalPreferences removedPortalPreferences = addPortalPreferences();
+
+		_persistence.remove(removedPortalPreferences);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortalPreferences.getPrimaryKey());
+		primaryKeys.add(removedPortalPreferences.getPrimaryKey());
+
+		Map<Serializable, PortalPreferences> portalPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portalPreferenceses.size());
+		Assert.assertEquals(newPortalPreferences, portalPreferenceses.get(newPortalPreferences.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		portalPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portalPreferenceses.size());
+		Assert.assertEquals(newPortalPreferences, portalPreferenceses.get(newPortalPreferences.getPrimaryKey()));
+
+		portalPreferenceses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(portalPreferenceses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -170,6 +175,36 @@ public class PortletItemPersistenceTest {
 		Assert.assertNull(missingPortletItem);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortletItem newPortletItem = addPortletItem();
+		PortletItem removedPortletItem = addPortletItem();
+
+		_persistence.remove(removedPortletItem);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortletItem.getPrimaryKey());
+		primaryKeys.add(removedPortletItem.getPrimaryKey());
+
+		Map<Serializable, PortletItem> portletItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portletItems.size());
+		Assert.assertEquals(newPortletItem, portletItems.get(newPortletItem.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		portletItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portletItems.size());
+		Assert.assertEquals(newPortletItem, portletItems.get(newPortletItem.getPrimaryKey()));
+
+		portletItems = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(portletItems.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class PortletPersistenceTest {
 		Assert.assertNull(missingPortlet);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Portlet newPortlet = addPortlet();
+		Portlet removedPortlet = addPortlet();
+
+		_persistence.remove(removedPortlet);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortlet.getPrimaryKey());
+		primaryKeys.add(removedPortlet.getPrimaryKey());
+
+		Map<Serializable, Portlet> portlets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portlets.size());
+		Assert.assertEquals(newPortlet, portlets.get(newPortlet.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		portlets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portlets.size());
+		Assert.assertEquals(newPortlet, portlets.get(newPortlet.getPrimaryKey()));
+
+		portlets = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(portlets.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -151,6 +156,36 @@ public class PortletPreferencesPersistenceTest {
 		Assert.assertNull(missingPortletPreferences);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortletPreferences newPortletPreferences = addPortletPreferences();
+		PortletPreferences removedPortletPreferences = addPortletPreferences();
+
+		_persistence.remove(removedPortletPreferences);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortletPreferences.getPrimaryKey());
+		primaryKeys.add(removedPortletPreferences.getPrimaryKey());
+
+		Map<Serializable, PortletPreferences> portletPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portletPreferenceses.size());
+		Assert.assertEquals(newPortletPreferences, portletPreferenceses.get(newPortletPreferences.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		portletPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, portletPreferenceses.size());
+		Assert.assertEquals(newPortletPreferences, portletPreferenceses.get(newPortletPreferences.getPrimaryKey()));
+
+		portletPreferenceses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(portletPreferenceses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,36 @@ public class RegionPersistenceTest {
 		Assert.assertNull(missingRegion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Region newRegion = addRegion();
+		Region removedRegion = addRegion();
+
+		_persistence.remove(removedRegion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRegion.getPrimaryKey());
+		primaryKeys.add(removedRegion.getPrimaryKey());
+
+		Map<Serializable, Region> regions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, regions.size());
+		Assert.assertEquals(newRegion, regions.get(newRegion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		regions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, regions.size());
+		Assert.assertEquals(newRegion, regions.get(newRegion.getPrimaryKey()));
+
+		regions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(regions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,36 @@ public class ReleasePersistenceTest {
 		Assert.assertNull(missingRelease);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Release newRelease = addRelease();
+		Release removedRelease = addRelease();
+
+		_persistence.remove(removedRelease);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRelease.getPrimaryKey());
+		primaryKeys.add(removedRelease.getPrimaryKey());
+
+		Map<Serializable, Release> releases = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, releases.size());
+		Assert.assertEquals(newRelease, releases.get(newRelease.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		releases = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, releases.size());
+		Assert.assertEquals(newRelease, releases.get(newRelease.getPrimaryKey()));
+
+		releases = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(releases.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
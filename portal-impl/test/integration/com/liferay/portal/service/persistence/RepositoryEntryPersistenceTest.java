@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class RepositoryEntryPersistenceTest {
 		Assert.assertNull(missingRepositoryEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		RepositoryEntry newRepositoryEntry = addRepositoryEntry();
+		RepositoryEntry removedRepositoryEntry = addRepositoryEntry();
+
+		_persistence.remove(removedRepositoryEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRepositoryEntry.getPrimaryKey());
+		primaryKeys.add(removedRepositoryEntry.getPrimaryKey());
+
+		Map<Serializable, RepositoryEntry> repositoryEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, repositoryEntries.size());
+		Assert.assertEquals(newRepositoryEntry, repositoryEntries.get(newRepositoryEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		repositoryEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, repositoryEntries.size());
+		Assert.assertEquals(newRepositoryEntry, repositoryEntries.get(newRepositoryEntry.getPrimaryKey()));
+
+		repositoryEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(repositoryEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -186,6 +191,36 @@ public class RepositoryPersistenceTest {
 		Assert.assertNull(missingRepository);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Repository newRepository = addRepository();
+		Repository removedRepository = addRepository();
+
+		_persistence.remove(removedRepository);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRepository.getPrimaryKey());
+		primaryKeys.add(removedRepository.getPrimaryKey());
+
+		Map<Serializable, Repository> repositories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, repositories.size());
+		Assert.assertEquals(newRepository, repositories.get(newRepository.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		repositories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, repositories.size());
+		Assert.assertEquals(newRepository, repositories.get(newRepository.getPrimaryKey()));
+
+		repositories = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(repositories.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class ResourceActionPersistenceTest {
 		Assert.assertNull(missingResourceAction);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceAction newResourceAction = addResourceAction();
+		ResourceAction removedResourceAction = addResourceAction();
+
+		_persistence.remove(removedResourceAction);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceAction.getPrimaryKey());
+		primaryKeys.add(removedResourceAction.getPrimaryKey());
+
+		Map<Serializable, ResourceAction> resourceActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceActions.size());
+		Assert.assertEquals(newResourceAction, resourceActions.get(newResourceAction.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		resourceActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceActions.size());
+		Assert.assertEquals(newResourceAction, resourceActions.get(newResourceAction.getPrimaryKey()));
+
+		resourceActions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(resourceActions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
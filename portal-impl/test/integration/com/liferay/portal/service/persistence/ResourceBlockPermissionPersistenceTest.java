@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,36 @@ public class ResourceBlockPermissionPersistenceTest {
 		Assert.assertNull(missingResourceBlockPermission);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceBlockPermission newResourceBlockPermission = addResourceBlockPermission();
+		ResourceBlockPermission removedResourceBlockPermission = addResourceBlockPermission();
+
+		_persistence.remove(removedResourceBlockPermission);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceBlockPermission.getPrimaryKey());
+		primaryKeys.add(removedResourceBlockPermission.getPrimaryKey());
+
+		Map<Serializable, ResourceBlockPermission> resourceBlockPermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceBlockPermissions.size());
+		Assert.assertEquals(newResourceBlockPermission, resourceBlockPermissions.get(newResourceBlockPermission.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		resourceBlockPermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceBlockPermissions.size());
+		Assert.assertEquals(newResourceBlockPermission, resourceBlockPermissions.get(newResourceBlockPermission.getPrimaryKey()));
+
+		resourceBlockPermissions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(resourceBlockPermissions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -151,6 +156,36 @@ public class ResourceBlockPersistenceTest {
 		Assert.assertNull(missingResourceBlock);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceBlock newResourceBlock = addResourceBlock();
+		ResourceBlock removedResourceBlock = addResourceBlock();
+
+		_persistence.remove(removedResourceBlock);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceBlock.getPrimaryKey());
+		primaryKeys.add(removedResourceBlock.getPrimaryKey());
+
+		Map<Serializable, ResourceBlock> resourceBlocks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceBlocks.size());
+		Assert.assertEquals(newResourceBlock, resourceBlocks.get(newResourceBlock.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		resourceBlocks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceBlocks.size());
+		Assert.assertEquals(newResourceBlock, resourceBlocks.get(newResourceBlock.getPrimaryKey()));
+
+		resourceBlocks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(resourceBlocks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -159,6 +164,36 @@ public class ResourcePermissionPersistenceTest {
 		Assert.assertNull(missingResourcePermission);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourcePermission newResourcePermission = addResourcePermission();
+		ResourcePermission removedResourcePermission = addResourcePermission();
+
+		_persistence.remove(removedResourcePermission);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourcePermission.getPrimaryKey());
+		primaryKeys.add(removedResourcePermission.getPrimaryKey());
+
+		Map<Serializable, ResourcePermission> resourcePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourcePermissions.size());
+		Assert.assertEquals(newResourcePermission, resourcePermissions.get(newResourcePermission.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		resourcePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourcePermissions.size());
+		Assert.assertEquals(newResourcePermission, resourcePermissions.get(newResourcePermission.getPrimaryKey()));
+
+		resourcePermissions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(resourcePermissions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -153,6 +158,36 @@ public class ResourceTypePermissionPersistenceTest {
 		Assert.assertNull(missingResourceTypePermission);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceTypePermission newResourceTypePermission = addResourceTypePermission();
+		ResourceTypePermission removedResourceTypePermission = addResourceTypePermission();
+
+		_persistence.remove(removedResourceTypePermission);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceTypePermission.getPrimaryKey());
+		primaryKeys.add(removedResourceTypePermission.getPrimaryKey());
+
+		Map<Serializable, ResourceTypePermission> resourceTypePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceTypePermissions.size());
+		Assert.assertEquals(newResourceTypePermission, resourceTypePermissions.get(newResourceTypePermission.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		resourceTypePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, resourceTypePermissions.size());
+		Assert.assertEquals(newResourceTypePermission, resourceTypePermissions.get(newResourceTypePermission.getPrimaryKey()));
+
+		resourceTypePermissions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(resourceTypePermissions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,36 @@ public class RolePersistenceTest {
 		Assert.assertNull(missingRole);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Role newRole = addRole();
+		Role removedRole = addRole();
+
+		_persistence.remove(removedRole);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRole.getPrimaryKey());
+		primaryKeys.add(removedRole.getPrimaryKey());
+
+		Map<Serializable, Role> roles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, roles.size());
+		Assert.assertEquals(newRole, roles.get(newRole.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		roles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, roles.size());
+		Assert.assertEquals(newRole, roles.get(newRole.getPrimaryKey()));
+
+		roles = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(roles.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
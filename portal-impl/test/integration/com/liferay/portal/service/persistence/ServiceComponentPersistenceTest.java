@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class ServiceComponentPersistenceTest {
 		Assert.assertNull(missingServiceComponent);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ServiceComponent newServiceComponent = addServiceComponent();
+		ServiceComponent removedServiceComponent = addServiceComponent();
+
+		_persistence.remove(removedServiceComponent);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newServiceComponent.getPrimaryKey());
+		primaryKeys.add(removedServiceComponent.getPrimaryKey());
+
+		Map<Serializable, ServiceComponent> serviceComponents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, serviceComponents.size());
+		Assert.assertEquals(newServiceComponent, serviceComponents.get(newServiceComponent.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		serviceComponents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, serviceComponents.size());
+		Assert.assertEquals(newServiceComponent, serviceComponents.get(newServiceComponent.getPrimaryKey()));
+
+		serviceComponents = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(serviceComponents.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
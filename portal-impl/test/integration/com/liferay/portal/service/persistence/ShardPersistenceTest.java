@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -139,6 +144,36 @@ public class ShardPersistenceTest {
 		Assert.assertNull(missingShard);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Shard newShard = addShard();
+		Shard removedShard = addShard();
+
+		_persistence.remove(removedShard);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShard.getPrimaryKey());
+		primaryKeys.add(removedShard.getPrimaryKey());
+
+		Map<Serializable, Shard> shards = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shards.size());
+		Assert.assertEquals(newShard, shards.get(newShard.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shards = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shards.size());
+		Assert.assertEquals(newShard, shards.get(newShard.getPrimaryKey()));
+
+		shards = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shards.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
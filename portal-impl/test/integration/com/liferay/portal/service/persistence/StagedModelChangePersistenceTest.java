@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.persistence;
+
+import com.liferay.portal.NoSuchStagedModelChangeException;
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.service.persistence.PersistenceExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+@ExecutionTestListeners(listeners =  {
+	PersistenceExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class StagedModelChangePersistenceTest {
+	@Before
+	public void setUp() throws Exception {
+		_persistence = (StagedModelChangePersistence)PortalBeanLocatorUtil.locate(StagedModelChangePersistence.class.getName());
+	}
+
+	@Test
+	public void testCreate() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		StagedModelChange stagedModelChange = _persistence.create(pk);
+
+		Assert.assertNotNull(stagedModelChange);
+
+		Assert.assertEquals(stagedModelChange.getPrimaryKey(), pk);
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+
+		_persistence.remove(newStagedModelChange);
+
+		StagedModelChange existingStagedModelChange = _persistence.fetchByPrimaryKey(newStagedModelChange.getPrimaryKey());
+
+		Assert.assertNull(existingStagedModelChange);
+	}
+
+	@Test
+	public void testUpdateNew() throws Exception {
+		addStagedModelChange();
+	}
+
+	@Test
+	public void testUpdateExisting() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		StagedModelChange newStagedModelChange = _persistence.create(pk);
+
+		newStagedModelChange.setGroupId(ServiceTestUtil.nextLong());
+
+		newStagedModelChange.setCompanyId(ServiceTestUtil.nextLong());
+
+		newStagedModelChange.setModifiedDate(ServiceTestUtil.nextDate());
+
+		newStagedModelChange.setClassNameId(ServiceTestUtil.nextLong());
+
+		newStagedModelChange.setClassPK(ServiceTestUtil.nextLong());
+
+		newStagedModelChange.setClassUuid(ServiceTestUtil.randomString());
+
+		newStagedModelChange.setType(ServiceTestUtil.nextInt());
+
+		_persistence.update(newStagedModelChange, false);
+
+		StagedModelChange existingStagedModelChange = _persistence.findByPrimaryKey(newStagedModelChange.getPrimaryKey());
+
+		Assert.assertEquals(existingStagedModelChange.getStagedModelChangeId(),
+			newStagedModelChange.getStagedModelChangeId());
+		Assert.assertEquals(existingStagedModelChange.getGroupId(),
+			newStagedModelChange.getGroupId());
+		Assert.assertEquals(existingStagedModelChange.getCompanyId(),
+			newStagedModelChange.getCompanyId());
+		Assert.assertEquals(Time.getShortTimestamp(
+				existingStagedModelChange.getModifiedDate()),
+			Time.getShortTimestamp(newStagedModelChange.getModifiedDate()));
+		Assert.assertEquals(existingStagedModelChange.getClassNameId(),
+			newStagedModelChange.getClassNameId());
+		Assert.assertEquals(existingStagedModelChange.getClassPK(),
+			newStagedModelChange.getClassPK());
+		Assert.assertEquals(existingStagedModelChange.getClassUuid(),
+			newStagedModelChange.getClassUuid());
+		Assert.assertEquals(existingStagedModelChange.getType(),
+			newStagedModelChange.getType());
+	}
+
+	@Test
+	public void testFindByPrimaryKeyExisting() throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+
+		StagedModelChange existingStagedModelChange = _persistence.findByPrimaryKey(newStagedModelChange.getPrimaryKey());
+
+		Assert.assertEquals(existingStagedModelChange, newStagedModelChange);
+	}
+
+	@Test
+	public void testFindByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		try {
+			_persistence.findByPrimaryKey(pk);
+
+			Assert.fail(
+				"Missing entity did not throw NoSuchStagedModelChangeException");
+		}
+		catch (NoSuchStagedModelChangeException nsee) {
+		}
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyExisting() throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+
+		StagedModelChange existingStagedModelChange = _persistence.fetchByPrimaryKey(newStagedModelChange.getPrimaryKey());
+
+		Assert.assertEquals(existingStagedModelChange, newStagedModelChange);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		StagedModelChange missingStagedModelChange = _persistence.fetchByPrimaryKey(pk);
+
+		Assert.assertNull(missingStagedModelChange);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+		StagedModelChange removedStagedModelChange = addStagedModelChange();
+
+		_persistence.remove(removedStagedModelChange);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newStagedModelChange.getPrimaryKey());
+		primaryKeys.add(removedStagedModelChange.getPrimaryKey());
+
+		Map<Serializable, StagedModelChange> stagedModelChanges = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, stagedModelChanges.size());
+		Assert.assertEquals(newStagedModelChange, stagedModelChanges.get(newStagedModelChange.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		stagedModelChanges = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, stagedModelChanges.size());
+		Assert.assertEquals(newStagedModelChange, stagedModelChanges.get(newStagedModelChange.getPrimaryKey()));
+
+		stagedModelChanges = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(stagedModelChanges.isEmpty());
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyExisting()
+		throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(StagedModelChange.class,
+				StagedModelChange.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("stagedModelChangeId",
+				newStagedModelChange.getStagedModelChangeId()));
+
+		List<StagedModelChange> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		StagedModelChange existingStagedModelChange = result.get(0);
+
+		Assert.assertEquals(existingStagedModelChange, newStagedModelChange);
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(StagedModelChange.class,
+				StagedModelChange.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("stagedModelChangeId",
+				ServiceTestUtil.nextLong()));
+
+		List<StagedModelChange> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionExisting()
+		throws Exception {
+		StagedModelChange newStagedModelChange = addStagedModelChange();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(StagedModelChange.class,
+				StagedModelChange.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property(
+				"stagedModelChangeId"));
+
+		Object newStagedModelChangeId = newStagedModelChange.getStagedModelChangeId();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("stagedModelChangeId",
+				new Object[] { newStagedModelChangeId }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		Object existingStagedModelChangeId = result.get(0);
+
+		Assert.assertEquals(existingStagedModelChangeId, newStagedModelChangeId);
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(StagedModelChange.class,
+				StagedModelChange.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property(
+				"stagedModelChangeId"));
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("stagedModelChangeId",
+				new Object[] { ServiceTestUtil.nextLong() }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	protected StagedModelChange addStagedModelChange()
+		throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		StagedModelChange stagedModelChange = _persistence.create(pk);
+
+		stagedModelChange.setGroupId(ServiceTestUtil.nextLong());
+
+		stagedModelChange.setCompanyId(ServiceTestUtil.nextLong());
+
+		stagedModelChange.setModifiedDate(ServiceTestUtil.nextDate());
+
+		stagedModelChange.setClassNameId(ServiceTestUtil.nextLong());
+
+		stagedModelChange.setClassPK(ServiceTestUtil.nextLong());
+
+		stagedModelChange.setClassUuid(ServiceTestUtil.randomString());
+
+		stagedModelChange.setType(ServiceTestUtil.nextInt());
+
+		_persistence.update(stagedModelChange, false);
+
+		return stagedModelChange;
+	}
+
+	private StagedModelChangePersistence _persistence;
+}
\ No newline at end of file
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,36 @@ public class SubscriptionPersistenceTest {
 		Assert.assertNull(missingSubscription);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Subscription newSubscription = addSubscription();
+		Subscription removedSubscription = addSubscription();
+
+		_persistence.remove(removedSubscription);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSubscription.getPrimaryKey());
+		primaryKeys.add(removedSubscription.getPrimaryKey());
+
+		Map<Serializable, Subscription> subscriptions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, subscriptions.size());
+		Assert.assertEquals(newSubscription, subscriptions.get(newSubscription.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		subscriptions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, subscriptions.size());
+		Assert.assertEquals(newSubscription, subscriptions.get(newSubscription.getPrimaryKey()));
+
+		subscriptions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(subscriptions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class TeamPersistenceTest {
 		Assert.assertNull(missingTeam);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		Team newTeam = addTeam();
+		Team removedTeam = addTeam();
+
+		_persistence.remove(removedTeam);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newTeam.getPrimaryKey());
+		primaryKeys.add(removedTeam.getPrimaryKey());
+
+		Map<Serializable, Team> teams = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, teams.size());
+		Assert.assertEquals(newTeam, teams.get(newTeam.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		teams = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, teams.size());
+		Assert.assertEquals(newTeam, teams.get(newTeam.getPrimaryKey()));
+
+		teams = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(teams.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,36 @@ public class UserGroupGroupRolePersistenceTest {
 		Assert.assertNull(missingUserGroupGroupRole);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroupGroupRole newUserGroupGroupRole = addUserGroupGroupRole();
+		UserGroupGroupRole removedUserGroupGroupRole = addUserGroupGroupRole();
+
+		_persistence.remove(removedUserGroupGroupRole);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroupGroupRole.getPrimaryKey());
+		primaryKeys.add(removedUserGroupGroupRole.getPrimaryKey());
+
+		Map<Serializable, UserGroupGroupRole> userGroupGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroupGroupRoles.size());
+		Assert.assertEquals(newUserGroupGroupRole, userGroupGroupRoles.get(newUserGroupGroupRole.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userGroupGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroupGroupRoles.size());
+		Assert.assertEquals(newUserGroupGroupRole, userGroupGroupRoles.get(newUserGroupGroupRole.getPrimaryKey()));
+
+		userGroupGroupRoles = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userGroupGroupRoles.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
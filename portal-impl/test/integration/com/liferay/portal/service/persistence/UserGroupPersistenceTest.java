@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,36 @@ public class UserGroupPersistenceTest {
 		Assert.assertNull(missingUserGroup);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroup newUserGroup = addUserGroup();
+		UserGroup removedUserGroup = addUserGroup();
+
+		_persistence.remove(removedUserGroup);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroup.getPrimaryKey());
+		primaryKeys.add(removedUserGroup.getPrimaryKey());
+
+		Map<Serializable, UserGroup> userGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroups.size());
+		Assert.assertEquals(newUserGroup, userGroups.get(newUserGroup.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroups.size());
+		Assert.assertEquals(newUserGroup, userGroups.get(newUserGroup.getPrimaryKey()));
+
+		userGroups = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userGroups.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
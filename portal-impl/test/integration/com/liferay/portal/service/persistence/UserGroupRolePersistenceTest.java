@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,36 @@ public class UserGroupRolePersistenceTest {
 		Assert.assertNull(missingUserGroupRole);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroupRole newUserGroupRole = addUserGroupRole();
+		UserGroupRole removedUserGroupRole = addUserGroupRole();
+
+		_persistence.remove(removedUserGroupRole);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroupRole.getPrimaryKey());
+		primaryKeys.add(removedUserGroupRole.getPrimaryKey());
+
+		Map<Serializable, UserGroupRole> userGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroupRoles.size());
+		Assert.assertEquals(newUserGroupRole, userGroupRoles.get(newUserGroupRole.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userGroupRoles.size());
+		Assert.assertEquals(newUserGroupRole, userGroupRoles.get(newUserGroupRole.getPrimaryKey()));
+
+		userGroupRoles = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userGroupRoles.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class UserIdMapperPersistenceTest {
 		Assert.assertNull(missingUserIdMapper);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserIdMapper newUserIdMapper = addUserIdMapper();
+		UserIdMapper removedUserIdMapper = addUserIdMapper();
+
+		_persistence.remove(removedUserIdMapper);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserIdMapper.getPrimaryKey());
+		primaryKeys.add(removedUserIdMapper.getPrimaryKey());
+
+		Map<Serializable, UserIdMapper> userIdMappers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userIdMappers.size());
+		Assert.assertEquals(newUserIdMapper, userIdMappers.get(newUserIdMapper.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userIdMappers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userIdMappers.size());
+		Assert.assertEquals(newUserIdMapper, userIdMappers.get(newUserIdMapper.getPrimaryKey()));
+
+		userIdMappers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userIdMappers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
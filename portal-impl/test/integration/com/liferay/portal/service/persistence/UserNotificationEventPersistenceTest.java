@@ -32,7 +32,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -162,6 +167,36 @@ public class UserNotificationEventPersistenceTest {
 		Assert.assertNull(missingUserNotificationEvent);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserNotificationEvent newUserNotificationEvent = addUserNotificationEvent();
+		UserNotificationEvent removedUserNotificationEvent = addUserNotificationEvent();
+
+		_persistence.remove(removedUserNotificationEvent);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserNotificationEvent.getPrimaryKey());
+		primaryKeys.add(removedUserNotificationEvent.getPrimaryKey());
+
+		Map<Serializable, UserNotificationEvent> userNotificationEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userNotificationEvents.size());
+		Assert.assertEquals(newUserNotificationEvent, userNotificationEvents.get(newUserNotificationEvent.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userNotificationEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userNotificationEvents.size());
+		Assert.assertEquals(newUserNotificationEvent, userNotificationEvents.get(newUserNotificationEvent.getPrimaryKey()));
+
+		userNotificationEvents = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userNotificationEvents.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
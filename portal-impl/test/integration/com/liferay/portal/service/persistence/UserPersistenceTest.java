@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -273,6 +278,36 @@ public class UserPersistenceTest {
 		Assert.assertNull(missingUser);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		User newUser = addUser();
+		User removedUser = addUser();
+
+		_persistence.remove(removedUser);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUser.getPrimaryKey());
+		primaryKeys.add(removedUser.getPrimaryKey());
+
+		Map<Serializable, User> users = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, users.size());
+		Assert.assertEquals(newUser, users.get(newUser.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		users = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, users.size());
+		Assert.assertEquals(newUser, users.get(newUser.getPrimaryKey()));
+
+		users = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(users.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
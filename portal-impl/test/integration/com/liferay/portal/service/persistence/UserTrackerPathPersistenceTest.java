@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class UserTrackerPathPersistenceTest {
 		Assert.assertNull(missingUserTrackerPath);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserTrackerPath newUserTrackerPath = addUserTrackerPath();
+		UserTrackerPath removedUserTrackerPath = addUserTrackerPath();
+
+		_persistence.remove(removedUserTrackerPath);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserTrackerPath.getPrimaryKey());
+		primaryKeys.add(removedUserTrackerPath.getPrimaryKey());
+
+		Map<Serializable, UserTrackerPath> userTrackerPaths = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userTrackerPaths.size());
+		Assert.assertEquals(newUserTrackerPath, userTrackerPaths.get(newUserTrackerPath.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userTrackerPaths = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userTrackerPaths.size());
+		Assert.assertEquals(newUserTrackerPath, userTrackerPaths.get(newUserTrackerPath.getPrimaryKey()));
+
+		userTrackerPaths = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userTrackerPaths.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
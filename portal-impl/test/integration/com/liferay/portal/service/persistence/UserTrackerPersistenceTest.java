@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class UserTrackerPersistenceTest {
 		Assert.assertNull(missingUserTracker);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserTracker newUserTracker = addUserTracker();
+		UserTracker removedUserTracker = addUserTracker();
+
+		_persistence.remove(removedUserTracker);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserTracker.getPrimaryKey());
+		primaryKeys.add(removedUserTracker.getPrimaryKey());
+
+		Map<Serializable, UserTracker> userTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userTrackers.size());
+		Assert.assertEquals(newUserTracker, userTrackers.get(newUserTracker.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		userTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, userTrackers.size());
+		Assert.assertEquals(newUserTracker, userTrackers.get(newUserTracker.getPrimaryKey()));
+
+		userTrackers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(userTrackers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class VirtualHostPersistenceTest {
 		Assert.assertNull(missingVirtualHost);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		VirtualHost newVirtualHost = addVirtualHost();
+		VirtualHost removedVirtualHost = addVirtualHost();
+
+		_persistence.remove(removedVirtualHost);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newVirtualHost.getPrimaryKey());
+		primaryKeys.add(removedVirtualHost.getPrimaryKey());
+
+		Map<Serializable, VirtualHost> virtualHosts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, virtualHosts.size());
+		Assert.assertEquals(newVirtualHost, virtualHosts.get(newVirtualHost.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		virtualHosts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, virtualHosts.size());
+		Assert.assertEquals(newVirtualHost, virtualHosts.get(newVirtualHost.getPrimaryKey()));
+
+		virtualHosts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(virtualHosts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
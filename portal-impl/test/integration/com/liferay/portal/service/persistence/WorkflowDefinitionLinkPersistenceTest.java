@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -179,6 +184,36 @@ public class WorkflowDefinitionLinkPersistenceTest {
 		Assert.assertNull(missingWorkflowDefinitionLink);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		WorkflowDefinitionLink newWorkflowDefinitionLink = addWorkflowDefinitionLink();
+		WorkflowDefinitionLink removedWorkflowDefinitionLink = addWorkflowDefinitionLink();
+
+		_persistence.remove(removedWorkflowDefinitionLink);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWorkflowDefinitionLink.getPrimaryKey());
+		primaryKeys.add(removedWorkflowDefinitionLink.getPrimaryKey());
+
+		Map<Serializable, WorkflowDefinitionLink> workflowDefinitionLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, workflowDefinitionLinks.size());
+		Assert.assertEquals(newWorkflowDefinitionLink, workflowDefinitionLinks.get(newWorkflowDefinitionLink.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		workflowDefinitionLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, workflowDefinitionLinks.size());
+		Assert.assertEquals(newWorkflowDefinitionLink, workflowDefinitionLinks.get(newWorkflowDefinitionLink.getPrimaryKey()));
+
+		workflowDefinitionLinks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(workflowDefinitionLinks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
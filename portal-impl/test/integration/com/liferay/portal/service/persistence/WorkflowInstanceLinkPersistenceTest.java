@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -169,6 +174,36 @@ public class WorkflowInstanceLinkPersistenceTest {
 		Assert.assertNull(missingWorkflowInstanceLink);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		WorkflowInstanceLink newWorkflowInstanceLink = addWorkflowInstanceLink();
+		WorkflowInstanceLink removedWorkflowInstanceLink = addWorkflowInstanceLink();
+
+		_persistence.remove(removedWorkflowInstanceLink);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWorkflowInstanceLink.getPrimaryKey());
+		primaryKeys.add(removedWorkflowInstanceLink.getPrimaryKey());
+
+		Map<Serializable, WorkflowInstanceLink> workflowInstanceLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, workflowInstanceLinks.size());
+		Assert.assertEquals(newWorkflowInstanceLink, workflowInstanceLinks.get(newWorkflowInstanceLink.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		workflowInstanceLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, workflowInstanceLinks.size());
+		Assert.assertEquals(newWorkflowInstanceLink, workflowInstanceLinks.get(newWorkflowInstanceLink.getPrimaryKey()));
+
+		workflowInstanceLinks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(workflowInstanceLinks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
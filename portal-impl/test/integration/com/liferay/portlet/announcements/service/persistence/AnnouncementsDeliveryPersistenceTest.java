@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -157,6 +162,36 @@ public class AnnouncementsDeliveryPersistenceTest {
 		Assert.assertNull(missingAnnouncementsDelivery);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsDelivery newAnnouncementsDelivery = addAnnouncementsDelivery();
+		AnnouncementsDelivery removedAnnouncementsDelivery = addAnnouncementsDelivery();
+
+		_persistence.remove(removedAnnouncementsDelivery);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsDelivery.getPrimaryKey());
+		primaryKeys.add(removedAnnouncementsDelivery.getPrimaryKey());
+
+		Map<Serializable, AnnouncementsDelivery> announcementsDeliveries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsDeliveries.size());
+		Assert.assertEquals(newAnnouncementsDelivery, announcementsDeliveries.get(newAnnouncementsDelivery.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		announcementsDeliveries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsDeliveries.size());
+		Assert.assertEquals(newAnnouncementsDelivery, announcementsDeliveries.get(newAnnouncementsDelivery.getPrimaryKey()));
+
+		announcementsDeliveries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(announcementsDeliveries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
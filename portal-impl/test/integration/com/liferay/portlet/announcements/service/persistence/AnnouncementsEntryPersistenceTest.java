@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -197,6 +202,36 @@ public class AnnouncementsEntryPersistenceTest {
 		Assert.assertNull(missingAnnouncementsEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsEntry newAnnouncementsEntry = addAnnouncementsEntry();
+		AnnouncementsEntry removedAnnouncementsEntry = addAnnouncementsEntry();
+
+		_persistence.remove(removedAnnouncementsEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsEntry.getPrimaryKey());
+		primaryKeys.add(removedAnnouncementsEntry.getPrimaryKey());
+
+		Map<Serializable, AnnouncementsEntry> announcementsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsEntries.size());
+		Assert.assertEquals(newAnnouncementsEntry, announcementsEntries.get(newAnnouncementsEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		announcementsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsEntries.size());
+		Assert.assertEquals(newAnnouncementsEntry, announcementsEntries.get(newAnnouncementsEntry.getPrimaryKey()));
+
+		announcementsEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(announcementsEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -148,6 +153,36 @@ public class AnnouncementsFlagPersistenceTest {
 		Assert.assertNull(missingAnnouncementsFlag);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsFlag newAnnouncementsFlag = addAnnouncementsFlag();
+		AnnouncementsFlag removedAnnouncementsFlag = addAnnouncementsFlag();
+
+		_persistence.remove(removedAnnouncementsFlag);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsFlag.getPrimaryKey());
+		primaryKeys.add(removedAnnouncementsFlag.getPrimaryKey());
+
+		Map<Serializable, AnnouncementsFlag> announcementsFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsFlags.size());
+		Assert.assertEquals(newAnnouncementsFlag, announcementsFlags.get(newAnnouncementsFlag.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		announcementsFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, announcementsFlags.size());
+		Assert.assertEquals(newAnnouncementsFlag, announcementsFlags.get(newAnnouncementsFlag.getPrimaryKey()));
+
+		announcementsFlags = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(announcementsFlags.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
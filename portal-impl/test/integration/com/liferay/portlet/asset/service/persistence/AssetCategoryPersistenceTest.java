@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -188,6 +193,36 @@ public class AssetCategoryPersistenceTest {
 		Assert.assertNull(missingAssetCategory);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetCategory newAssetCategory = addAssetCategory();
+		AssetCategory removedAssetCategory = addAssetCategory();
+
+		_persistence.remove(removedAssetCategory);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetCategory.getPrimaryKey());
+		primaryKeys.add(removedAssetCategory.getPrimaryKey());
+
+		Map<Serializable, AssetCategory> assetCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetCategories.size());
+		Assert.assertEquals(newAssetCategory, assetCategories.get(newAssetCategory.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetCategories.size());
+		Assert.assertEquals(newAssetCategory, assetCategories.get(newAssetCategory.getPrimaryKey()));
+
+		assetCategories = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetCategories.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -169,6 +174,36 @@ public class AssetCategoryPropertyPersistenceTest {
 		Assert.assertNull(missingAssetCategoryProperty);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetCategoryProperty newAssetCategoryProperty = addAssetCategoryProperty();
+		AssetCategoryProperty removedAssetCategoryProperty = addAssetCategoryProperty();
+
+		_persistence.remove(removedAssetCategoryProperty);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetCategoryProperty.getPrimaryKey());
+		primaryKeys.add(removedAssetCategoryProperty.getPrimaryKey());
+
+		Map<Serializable, AssetCategoryProperty> assetCategoryProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetCategoryProperties.size());
+		Assert.assertEquals(newAssetCategoryProperty, assetCategoryProperties.get(newAssetCategoryProperty.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetCategoryProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetCategoryProperties.size());
+		Assert.assertEquals(newAssetCategoryProperty, assetCategoryProperties.get(newAssetCategoryProperty.getPrimaryKey()));
+
+		assetCategoryProperties = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetCategoryProperties.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
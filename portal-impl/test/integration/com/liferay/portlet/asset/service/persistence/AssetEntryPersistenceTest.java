@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -238,6 +243,36 @@ public class AssetEntryPersistenceTest {
 		Assert.assertNull(missingAssetEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetEntry newAssetEntry = addAssetEntry();
+		AssetEntry removedAssetEntry = addAssetEntry();
+
+		_persistence.remove(removedAssetEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetEntry.getPrimaryKey());
+		primaryKeys.add(removedAssetEntry.getPrimaryKey());
+
+		Map<Serializable, AssetEntry> assetEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetEntries.size());
+		Assert.assertEquals(newAssetEntry, assetEntries.get(newAssetEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetEntries.size());
+		Assert.assertEquals(newAssetEntry, assetEntries.get(newAssetEntry.getPrimaryKey()));
+
+		assetEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -163,6 +168,36 @@ public class AssetLinkPersistenceTest {
 		Assert.assertNull(missingAssetLink);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetLink newAssetLink = addAssetLink();
+		AssetLink removedAssetLink = addAssetLink();
+
+		_persistence.remove(removedAssetLink);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetLink.getPrimaryKey());
+		primaryKeys.add(removedAssetLink.getPrimaryKey());
+
+		Map<Serializable, AssetLink> assetLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetLinks.size());
+		Assert.assertEquals(newAssetLink, assetLinks.get(newAssetLink.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetLinks.size());
+		Assert.assertEquals(newAssetLink, assetLinks.get(newAssetLink.getPrimaryKey()));
+
+		assetLinks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetLinks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
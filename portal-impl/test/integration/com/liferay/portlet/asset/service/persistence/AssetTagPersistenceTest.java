@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -164,6 +169,36 @@ public class AssetTagPersistenceTest {
 		Assert.assertNull(missingAssetTag);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTag newAssetTag = addAssetTag();
+		AssetTag removedAssetTag = addAssetTag();
+
+		_persistence.remove(removedAssetTag);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTag.getPrimaryKey());
+		primaryKeys.add(removedAssetTag.getPrimaryKey());
+
+		Map<Serializable, AssetTag> assetTags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTags.size());
+		Assert.assertEquals(newAssetTag, assetTags.get(newAssetTag.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetTags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTags.size());
+		Assert.assertEquals(newAssetTag, assetTags.get(newAssetTag.getPrimaryKey()));
+
+		assetTags = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetTags.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
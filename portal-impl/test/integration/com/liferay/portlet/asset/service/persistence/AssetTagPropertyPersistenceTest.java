@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class AssetTagPropertyPersistenceTest {
 		Assert.assertNull(missingAssetTagProperty);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTagProperty newAssetTagProperty = addAssetTagProperty();
+		AssetTagProperty removedAssetTagProperty = addAssetTagProperty();
+
+		_persistence.remove(removedAssetTagProperty);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTagProperty.getPrimaryKey());
+		primaryKeys.add(removedAssetTagProperty.getPrimaryKey());
+
+		Map<Serializable, AssetTagProperty> assetTagProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTagProperties.size());
+		Assert.assertEquals(newAssetTagProperty, assetTagProperties.get(newAssetTagProperty.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetTagProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTagProperties.size());
+		Assert.assertEquals(newAssetTagProperty, assetTagProperties.get(newAssetTagProperty.getPrimaryKey()));
+
+		assetTagProperties = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetTagProperties.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
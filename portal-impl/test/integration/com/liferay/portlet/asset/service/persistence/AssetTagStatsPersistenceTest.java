@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class AssetTagStatsPersistenceTest {
 		Assert.assertNull(missingAssetTagStats);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTagStats newAssetTagStats = addAssetTagStats();
+		AssetTagStats removedAssetTagStats = addAssetTagStats();
+
+		_persistence.remove(removedAssetTagStats);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTagStats.getPrimaryKey());
+		primaryKeys.add(removedAssetTagStats.getPrimaryKey());
+
+		Map<Serializable, AssetTagStats> assetTagStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTagStatses.size());
+		Assert.assertEquals(newAssetTagStats, assetTagStatses.get(newAssetTagStats.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetTagStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetTagStatses.size());
+		Assert.assertEquals(newAssetTagStats, assetTagStatses.get(newAssetTagStats.getPrimaryKey()));
+
+		assetTagStatses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetTagStatses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
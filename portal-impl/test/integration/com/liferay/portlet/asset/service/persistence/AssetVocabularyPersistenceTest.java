@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -179,6 +184,36 @@ public class AssetVocabularyPersistenceTest {
 		Assert.assertNull(missingAssetVocabulary);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetVocabulary newAssetVocabulary = addAssetVocabulary();
+		AssetVocabulary removedAssetVocabulary = addAssetVocabulary();
+
+		_persistence.remove(removedAssetVocabulary);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetVocabulary.getPrimaryKey());
+		primaryKeys.add(removedAssetVocabulary.getPrimaryKey());
+
+		Map<Serializable, AssetVocabulary> assetVocabularies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetVocabularies.size());
+		Assert.assertEquals(newAssetVocabulary, assetVocabularies.get(newAssetVocabulary.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		assetVocabularies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, assetVocabularies.size());
+		Assert.assertEquals(newAssetVocabulary, assetVocabularies.get(newAssetVocabulary.getPrimaryKey()));
+
+		assetVocabularies = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(assetVocabularies.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
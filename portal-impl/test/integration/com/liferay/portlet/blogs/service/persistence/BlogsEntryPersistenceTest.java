@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -224,6 +229,36 @@ public class BlogsEntryPersistenceTest {
 		Assert.assertNull(missingBlogsEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		BlogsEntry newBlogsEntry = addBlogsEntry();
+		BlogsEntry removedBlogsEntry = addBlogsEntry();
+
+		_persistence.remove(removedBlogsEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBlogsEntry.getPrimaryKey());
+		primaryKeys.add(removedBlogsEntry.getPrimaryKey());
+
+		Map<Serializable, BlogsEntry> blogsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, blogsEntries.size());
+		Assert.assertEquals(newBlogsEntry, blogsEntries.get(newBlogsEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		blogsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, blogsEntries.size());
+		Assert.assertEquals(newBlogsEntry, blogsEntries.get(newBlogsEntry.getPrimaryKey()));
+
+		blogsEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(blogsEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
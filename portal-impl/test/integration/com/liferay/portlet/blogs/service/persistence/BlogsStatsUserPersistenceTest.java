@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,36 @@ public class BlogsStatsUserPersistenceTest {
 		Assert.assertNull(missingBlogsStatsUser);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		BlogsStatsUser newBlogsStatsUser = addBlogsStatsUser();
+		BlogsStatsUser removedBlogsStatsUser = addBlogsStatsUser();
+
+		_persistence.remove(removedBlogsStatsUser);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBlogsStatsUser.getPrimaryKey());
+		primaryKeys.add(removedBlogsStatsUser.getPrimaryKey());
+
+		Map<Serializable, BlogsStatsUser> blogsStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, blogsStatsUsers.size());
+		Assert.assertEquals(newBlogsStatsUser, blogsStatsUsers.get(newBlogsStatsUser.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		blogsStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, blogsStatsUsers.size());
+		Assert.assertEquals(newBlogsStatsUser, blogsStatsUsers.get(newBlogsStatsUser.getPrimaryKey()));
+
+		blogsStatsUsers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(blogsStatsUsers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -190,6 +195,36 @@ public class BookmarksEntryPersistenceTest {
 		Assert.assertNull(missingBookmarksEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		BookmarksEntry newBookmarksEntry = addBookmarksEntry();
+		BookmarksEntry removedBookmarksEntry = addBookmarksEntry();
+
+		_persistence.remove(removedBookmarksEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBookmarksEntry.getPrimaryKey());
+		primaryKeys.add(removedBookmarksEntry.getPrimaryKey());
+
+		Map<Serializable, BookmarksEntry> bookmarksEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, bookmarksEntries.size());
+		Assert.assertEquals(newBookmarksEntry, bookmarksEntries.get(newBookmarksEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		bookmarksEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, bookmarksEntries.size());
+		Assert.assertEquals(newBookmarksEntry, bookmarksEntries.get(newBookmarksEntry.getPrimaryKey()));
+
+		bookmarksEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(bookmarksEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -178,6 +183,36 @@ public class BookmarksFolderPersistenceTest {
 		Assert.assertNull(missingBookmarksFolder);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		BookmarksFolder newBookmarksFolder = addBookmarksFolder();
+		BookmarksFolder removedBookmarksFolder = addBookmarksFolder();
+
+		_persistence.remove(removedBookmarksFolder);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBookmarksFolder.getPrimaryKey());
+		primaryKeys.add(removedBookmarksFolder.getPrimaryKey());
+
+		Map<Serializable, BookmarksFolder> bookmarksFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, bookmarksFolders.size());
+		Assert.assertEquals(newBookmarksFolder, bookmarksFolders.get(newBookmarksFolder.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		bookmarksFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, bookmarksFolders.size());
+		Assert.assertEquals(newBookmarksFolder, bookmarksFolders.get(newBookmarksFolder.getPrimaryKey()));
+
+		bookmarksFolders = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(bookmarksFolders.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -221,6 +226,36 @@ public class CalEventPersistenceTest {
 		Assert.assertNull(missingCalEvent);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		CalEvent newCalEvent = addCalEvent();
+		CalEvent removedCalEvent = addCalEvent();
+
+		_persistence.remove(removedCalEvent);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCalEvent.getPrimaryKey());
+		primaryKeys.add(removedCalEvent.getPrimaryKey());
+
+		Map<Serializable, CalEvent> calEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, calEvents.size());
+		Assert.assertEquals(newCalEvent, calEvents.get(newCalEvent.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		calEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, calEvents.size());
+		Assert.assertEquals(newCalEvent, calEvents.get(newCalEvent.getPrimaryKey()));
+
+		calEvents = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(calEvents.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.jdbc.OutputBlob;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.service.persistence.PersistenceExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import java.sql.Blob;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+@ExecutionTestListeners(listeners =  {
+	PersistenceExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class DLContentChunkPersistenceTest {
+	@Before
+	public void setUp() throws Exception {
+		_persistence = (DLContentChunkPersistence)PortalBeanLocatorUtil.locate(DLContentChunkPersistence.class.getName());
+	}
+
+	@Test
+	public void testCreate() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentChunk dlContentChunk = _persistence.create(pk);
+
+		Assert.assertNotNull(dlContentChunk);
+
+		Assert.assertEquals(dlContentChunk.getPrimaryKey(), pk);
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+
+		_persistence.remove(newDLContentChunk);
+
+		DLContentChunk existingDLContentChunk = _persistence.fetchByPrimaryKey(newDLContentChunk.getPrimaryKey());
+
+		Assert.assertNull(existingDLContentChunk);
+	}
+
+	@Test
+	public void testUpdateNew() throws Exception {
+		addDLContentChunk();
+	}
+
+	@Test
+	public void testUpdateExisting() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentChunk newDLContentChunk = _persistence.create(pk);
+
+		newDLContentChunk.setCompanyId(ServiceTestUtil.nextLong());
+
+		newDLContentChunk.setContentId(ServiceTestUtil.nextLong());
+
+		newDLContentChunk.setChunkIndex(ServiceTestUtil.nextInt());
+
+		String newDataString = ServiceTestUtil.randomString();
+
+		byte[] newDataBytes = newDataString.getBytes(StringPool.UTF8);
+
+		Blob newDataBlob = new OutputBlob(new UnsyncByteArrayInputStream(
+					newDataBytes), newDataBytes.length);
+
+		newDLContentChunk.setData(newDataBlob);
+
+		newDLContentChunk.setSize(ServiceTestUtil.nextLong());
+
+		_persistence.update(newDLContentChunk, false);
+
+		DLContentChunk existingDLContentChunk = _persistence.findByPrimaryKey(newDLContentChunk.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentChunk.getChunkId(),
+			newDLContentChunk.getChunkId());
+		Assert.assertEquals(existingDLContentChunk.getCompanyId(),
+			newDLContentChunk.getCompanyId());
+		Assert.assertEquals(existingDLContentChunk.getContentId(),
+			newDLContentChunk.getContentId());
+		Assert.assertEquals(existingDLContentChunk.getChunkIndex(),
+			newDLContentChunk.getChunkIndex());
+
+		Blob existingData = existingDLContentChunk.getData();
+
+		Assert.assertTrue(Arrays.equals(existingData.getBytes(1,
+					(int)existingData.length()), newDataBytes));
+		Assert.assertEquals(existingDLContentChunk.getSize(),
+			newDLContentChunk.getSize());
+	}
+
+	@Test
+	public void testFindByPrimaryKeyExisting() throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+
+		DLContentChunk existingDLContentChunk = _persistence.findByPrimaryKey(newDLContentChunk.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentChunk, newDLContentChunk);
+	}
+
+	@Test
+	public void testFindByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		try {
+			_persistence.findByPrimaryKey(pk);
+
+			Assert.fail(
+				"Missing entity did not throw NoSuchContentChunkException");
+		}
+		catch (NoSuchContentChunkException nsee) {
+		}
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyExisting() throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+
+		DLContentChunk existingDLContentChunk = _persistence.fetchByPrimaryKey(newDLContentChunk.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentChunk, newDLContentChunk);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentChunk missingDLContentChunk = _persistence.fetchByPrimaryKey(pk);
+
+		Assert.assertNull(missingDLContentChunk);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+		DLContentChunk removedDLContentChunk = addDLContentChunk();
+
+		_persistence.remove(removedDLContentChunk);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLContentChunk.getPrimaryKey());
+		primaryKeys.add(removedDLContentChunk.getPrimaryKey());
+
+		Map<Serializable, DLContentChunk> dlContentChunks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentChunks.size());
+		Assert.assertEquals(newDLContentChunk, dlContentChunks.get(newDLContentChunk.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlContentChunks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentChunks.size());
+		Assert.assertEquals(newDLContentChunk, dlContentChunks.get(newDLContentChunk.getPrimaryKey()));
+
+		dlContentChunks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlContentChunks.isEmpty());
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyExisting()
+		throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentChunk.class,
+				DLContentChunk.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("chunkId",
+				newDLContentChunk.getChunkId()));
+
+		List<DLContentChunk> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		DLContentChunk existingDLContentChunk = result.get(0);
+
+		Assert.assertEquals(existingDLContentChunk, newDLContentChunk);
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentChunk.class,
+				DLContentChunk.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("chunkId",
+				ServiceTestUtil.nextLong()));
+
+		List<DLContentChunk> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionExisting()
+		throws Exception {
+		DLContentChunk newDLContentChunk = addDLContentChunk();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentChunk.class,
+				DLContentChunk.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("chunkId"));
+
+		Object newChunkId = newDLContentChunk.getChunkId();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("chunkId",
+				new Object[] { newChunkId }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		Object existingChunkId = result.get(0);
+
+		Assert.assertEquals(existingChunkId, newChunkId);
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentChunk.class,
+				DLContentChunk.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("chunkId"));
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("chunkId",
+				new Object[] { ServiceTestUtil.nextLong() }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	protected DLContentChunk addDLContentChunk() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentChunk dlContentChunk = _persistence.create(pk);
+
+		dlContentChunk.setCompanyId(ServiceTestUtil.nextLong());
+
+		dlContentChunk.setContentId(ServiceTestUtil.nextLong());
+
+		dlContentChunk.setChunkIndex(ServiceTestUtil.nextInt());
+
+		String dataString = ServiceTestUtil.randomString();
+
+		byte[] dataBytes = dataString.getBytes(StringPool.UTF8);
+
+		Blob dataBlob = new OutputBlob(new UnsyncByteArrayInputStream(dataBytes),
+				dataBytes.length);
+
+		dlContentChunk.setData(dataBlob);
+
+		dlContentChunk.setSize(ServiceTestUtil.nextLong());
+
+		_persistence.update(dlContentChunk, false);
+
+		return dlContentChunk;
+	}
+
+	private DLContentChunkPersistence _persistence;
+}
\ No newline at end of file
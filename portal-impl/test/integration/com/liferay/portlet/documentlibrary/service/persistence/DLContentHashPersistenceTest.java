@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.service.persistence.PersistenceExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.util.PropsValues;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentHashModelImpl;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+@ExecutionTestListeners(listeners =  {
+	PersistenceExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class DLContentHashPersistenceTest {
+	@Before
+	public void setUp() throws Exception {
+		_persistence = (DLContentHashPersistence)PortalBeanLocatorUtil.locate(DLContentHashPersistence.class.getName());
+	}
+
+	@Test
+	public void testCreate() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentHash dlContentHash = _persistence.create(pk);
+
+		Assert.assertNotNull(dlContentHash);
+
+		Assert.assertEquals(dlContentHash.getPrimaryKey(), pk);
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		_persistence.remove(newDLContentHash);
+
+		DLContentHash existingDLContentHash = _persistence.fetchByPrimaryKey(newDLContentHash.getPrimaryKey());
+
+		Assert.assertNull(existingDLContentHash);
+	}
+
+	@Test
+	public void testUpdateNew() throws Exception {
+		addDLContentHash();
+	}
+
+	@Test
+	public void testUpdateExisting() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentHash newDLContentHash = _persistence.create(pk);
+
+		newDLContentHash.setCompanyId(ServiceTestUtil.nextLong());
+
+		newDLContentHash.setHash(ServiceTestUtil.randomString());
+
+		_persistence.update(newDLContentHash, false);
+
+		DLContentHash existingDLContentHash = _persistence.findByPrimaryKey(newDLContentHash.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentHash.getContentHashId(),
+			newDLContentHash.getContentHashId());
+		Assert.assertEquals(existingDLContentHash.getCompanyId(),
+			newDLContentHash.getCompanyId());
+		Assert.assertEquals(existingDLContentHash.getHash(),
+			newDLContentHash.getHash());
+	}
+
+	@Test
+	public void testFindByPrimaryKeyExisting() throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		DLContentHash existingDLContentHash = _persistence.findByPrimaryKey(newDLContentHash.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentHash, newDLContentHash);
+	}
+
+	@Test
+	public void testFindByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		try {
+			_persistence.findByPrimaryKey(pk);
+
+			Assert.fail(
+				"Missing entity did not throw NoSuchContentHashException");
+		}
+		catch (NoSuchContentHashException nsee) {
+		}
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyExisting() throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		DLContentHash existingDLContentHash = _persistence.fetchByPrimaryKey(newDLContentHash.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentHash, newDLContentHash);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentHash missingDLContentHash = _persistence.fetchByPrimaryKey(pk);
+
+		Assert.assertNull(missingDLContentHash);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+		DLContentHash removedDLContentHash = addDLContentHash();
+
+		_persistence.remove(removedDLContentHash);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLContentHash.getPrimaryKey());
+		primaryKeys.add(removedDLContentHash.getPrimaryKey());
+
+		Map<Serializable, DLContentHash> dlContentHashs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentHashs.size());
+		Assert.assertEquals(newDLContentHash, dlContentHashs.get(newDLContentHash.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlContentHashs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentHashs.size());
+		Assert.assertEquals(newDLContentHash, dlContentHashs.get(newDLContentHash.getPrimaryKey()));
+
+		dlContentHashs = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlContentHashs.isEmpty());
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyExisting()
+		throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentHash.class,
+				DLContentHash.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("contentHashId",
+				newDLContentHash.getContentHashId()));
+
+		List<DLContentHash> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		DLContentHash existingDLContentHash = result.get(0);
+
+		Assert.assertEquals(existingDLContentHash, newDLContentHash);
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentHash.class,
+				DLContentHash.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("contentHashId",
+				ServiceTestUtil.nextLong()));
+
+		List<DLContentHash> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionExisting()
+		throws Exception {
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentHash.class,
+				DLContentHash.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property(
+				"contentHashId"));
+
+		Object newContentHashId = newDLContentHash.getContentHashId();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("contentHashId",
+				new Object[] { newContentHashId }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		Object existingContentHashId = result.get(0);
+
+		Assert.assertEquals(existingContentHashId, newContentHashId);
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentHash.class,
+				DLContentHash.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property(
+				"contentHashId"));
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("contentHashId",
+				new Object[] { ServiceTestUtil.nextLong() }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testResetOriginalValues() throws Exception {
+		if (!PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			return;
+		}
+
+		DLContentHash newDLContentHash = addDLContentHash();
+
+		_persistence.clearCache();
+
+		DLContentHashModelImpl existingDLContentHashModelImpl = (DLContentHashModelImpl)_persistence.findByPrimaryKey(newDLContentHash.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentHashModelImpl.getCompanyId(),
+			existingDLContentHashModelImpl.getOriginalCompanyId());
+		Assert.assertTrue(Validator.equals(
+				existingDLContentHashModelImpl.getHash(),
+				existingDLContentHashModelImpl.getOriginalHash()));
+	}
+
+	protected DLContentHash addDLContentHash() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentHash dlContentHash = _persistence.create(pk);
+
+		dlContentHash.setCompanyId(ServiceTestUtil.nextLong());
+
+		dlContentHash.setHash(ServiceTestUtil.randomString());
+
+		_persistence.update(dlContentHash, false);
+
+		return dlContentHash;
+	}
+
+	private DLContentHashPersistence _persistence;
+}
\ No newline at end of file
@@ -39,10 +39,15 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
 import java.sql.Blob;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -173,6 +178,36 @@ public class DLContentPersistenceTest {
 		Assert.assertNull(missingDLContent);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLContent newDLContent = addDLContent();
+		DLContent removedDLContent = addDLContent();
+
+		_persistence.remove(removedDLContent);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLContent.getPrimaryKey());
+		primaryKeys.add(removedDLContent.getPrimaryKey());
+
+		Map<Serializable, DLContent> dlContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContents.size());
+		Assert.assertEquals(newDLContent, dlContents.get(newDLContent.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContents.size());
+		Assert.assertEquals(newDLContent, dlContents.get(newDLContent.getPrimaryKey()));
+
+		dlContents = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlContents.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.service.persistence.PersistenceExecutionTestListener;
+import com.liferay.portal.test.ExecutionTestListeners;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.util.PropsValues;
+
+import com.liferay.portlet.documentlibrary.NoSuchContentReferenceException;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceModelImpl;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+@ExecutionTestListeners(listeners =  {
+	PersistenceExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class DLContentReferencePersistenceTest {
+	@Before
+	public void setUp() throws Exception {
+		_persistence = (DLContentReferencePersistence)PortalBeanLocatorUtil.locate(DLContentReferencePersistence.class.getName());
+	}
+
+	@Test
+	public void testCreate() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentReference dlContentReference = _persistence.create(pk);
+
+		Assert.assertNotNull(dlContentReference);
+
+		Assert.assertEquals(dlContentReference.getPrimaryKey(), pk);
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		_persistence.remove(newDLContentReference);
+
+		DLContentReference existingDLContentReference = _persistence.fetchByPrimaryKey(newDLContentReference.getPrimaryKey());
+
+		Assert.assertNull(existingDLContentReference);
+	}
+
+	@Test
+	public void testUpdateNew() throws Exception {
+		addDLContentReference();
+	}
+
+	@Test
+	public void testUpdateExisting() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentReference newDLContentReference = _persistence.create(pk);
+
+		newDLContentReference.setCompanyId(ServiceTestUtil.nextLong());
+
+		newDLContentReference.setRepositoryId(ServiceTestUtil.nextLong());
+
+		newDLContentReference.setPath(ServiceTestUtil.randomString());
+
+		newDLContentReference.setVersion(ServiceTestUtil.randomString());
+
+		newDLContentReference.setHash(ServiceTestUtil.randomString());
+
+		newDLContentReference.setSize(ServiceTestUtil.nextLong());
+
+		_persistence.update(newDLContentReference, false);
+
+		DLContentReference existingDLContentReference = _persistence.findByPrimaryKey(newDLContentReference.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentReference.getReferenceId(),
+			newDLContentReference.getReferenceId());
+		Assert.assertEquals(existingDLContentReference.getCompanyId(),
+			newDLContentReference.getCompanyId());
+		Assert.assertEquals(existingDLContentReference.getRepositoryId(),
+			newDLContentReference.getRepositoryId());
+		Assert.assertEquals(existingDLContentReference.getPath(),
+			newDLContentReference.getPath());
+		Assert.assertEquals(existingDLContentReference.getVersion(),
+			newDLContentReference.getVersion());
+		Assert.assertEquals(existingDLContentReference.getHash(),
+			newDLContentReference.getHash());
+		Assert.assertEquals(existingDLContentReference.getSize(),
+			newDLContentReference.getSize());
+	}
+
+	@Test
+	public void testFindByPrimaryKeyExisting() throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		DLContentReference existingDLContentReference = _persistence.findByPrimaryKey(newDLContentReference.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentReference, newDLContentReference);
+	}
+
+	@Test
+	public void testFindByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		try {
+			_persistence.findByPrimaryKey(pk);
+
+			Assert.fail(
+				"Missing entity did not throw NoSuchContentReferenceException");
+		}
+		catch (NoSuchContentReferenceException nsee) {
+		}
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyExisting() throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		DLContentReference existingDLContentReference = _persistence.fetchByPrimaryKey(newDLContentReference.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentReference, newDLContentReference);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeyMissing() throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentReference missingDLContentReference = _persistence.fetchByPrimaryKey(pk);
+
+		Assert.assertNull(missingDLContentReference);
+	}
+
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+		DLContentReference removedDLContentReference = addDLContentReference();
+
+		_persistence.remove(removedDLContentReference);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLContentReference.getPrimaryKey());
+		primaryKeys.add(removedDLContentReference.getPrimaryKey());
+
+		Map<Serializable, DLContentReference> dlContentReferences = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentReferences.size());
+		Assert.assertEquals(newDLContentReference, dlContentReferences.get(newDLContentReference.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlContentReferences = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlContentReferences.size());
+		Assert.assertEquals(newDLContentReference, dlContentReferences.get(newDLContentReference.getPrimaryKey()));
+
+		dlContentReferences = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlContentReferences.isEmpty());
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyExisting()
+		throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentReference.class,
+				DLContentReference.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("referenceId",
+				newDLContentReference.getReferenceId()));
+
+		List<DLContentReference> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		DLContentReference existingDLContentReference = result.get(0);
+
+		Assert.assertEquals(existingDLContentReference, newDLContentReference);
+	}
+
+	@Test
+	public void testDynamicQueryByPrimaryKeyMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentReference.class,
+				DLContentReference.class.getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("referenceId",
+				ServiceTestUtil.nextLong()));
+
+		List<DLContentReference> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionExisting()
+		throws Exception {
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentReference.class,
+				DLContentReference.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("referenceId"));
+
+		Object newReferenceId = newDLContentReference.getReferenceId();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("referenceId",
+				new Object[] { newReferenceId }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(1, result.size());
+
+		Object existingReferenceId = result.get(0);
+
+		Assert.assertEquals(existingReferenceId, newReferenceId);
+	}
+
+	@Test
+	public void testDynamicQueryByProjectionMissing() throws Exception {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(DLContentReference.class,
+				DLContentReference.class.getClassLoader());
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("referenceId"));
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("referenceId",
+				new Object[] { ServiceTestUtil.nextLong() }));
+
+		List<Object> result = _persistence.findWithDynamicQuery(dynamicQuery);
+
+		Assert.assertEquals(0, result.size());
+	}
+
+	@Test
+	public void testResetOriginalValues() throws Exception {
+		if (!PropsValues.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE) {
+			return;
+		}
+
+		DLContentReference newDLContentReference = addDLContentReference();
+
+		_persistence.clearCache();
+
+		DLContentReferenceModelImpl existingDLContentReferenceModelImpl = (DLContentReferenceModelImpl)_persistence.findByPrimaryKey(newDLContentReference.getPrimaryKey());
+
+		Assert.assertEquals(existingDLContentReferenceModelImpl.getCompanyId(),
+			existingDLContentReferenceModelImpl.getOriginalCompanyId());
+		Assert.assertEquals(existingDLContentReferenceModelImpl.getRepositoryId(),
+			existingDLContentReferenceModelImpl.getOriginalRepositoryId());
+		Assert.assertTrue(Validator.equals(
+				existingDLContentReferenceModelImpl.getPath(),
+				existingDLContentReferenceModelImpl.getOriginalPath()));
+		Assert.assertTrue(Validator.equals(
+				existingDLContentReferenceModelImpl.getVersion(),
+				existingDLContentReferenceModelImpl.getOriginalVersion()));
+	}
+
+	protected DLContentReference addDLContentReference()
+		throws Exception {
+		long pk = ServiceTestUtil.nextLong();
+
+		DLContentReference dlContentReference = _persistence.create(pk);
+
+		dlContentReference.setCompanyId(ServiceTestUtil.nextLong());
+
+		dlContentReference.setRepositoryId(ServiceTestUtil.nextLong());
+
+		dlContentReference.setPath(ServiceTestUtil.randomString());
+
+		dlContentReference.setVersion(ServiceTestUtil.randomString());
+
+		dlContentReference.setHash(ServiceTestUtil.randomString());
+
+		dlContentReference.setSize(ServiceTestUtil.nextLong());
+
+		_persistence.update(dlContentReference, false);
+
+		return dlContentReference;
+	}
+
+	private DLContentReferencePersistence _persistence;
+}
\ No newline at end of file
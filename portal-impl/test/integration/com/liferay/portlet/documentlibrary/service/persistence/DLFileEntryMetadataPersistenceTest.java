@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,36 @@ public class DLFileEntryMetadataPersistenceTest {
 		Assert.assertNull(missingDLFileEntryMetadata);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileEntryMetadata newDLFileEntryMetadata = addDLFileEntryMetadata();
+		DLFileEntryMetadata removedDLFileEntryMetadata = addDLFileEntryMetadata();
+
+		_persistence.remove(removedDLFileEntryMetadata);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileEntryMetadata.getPrimaryKey());
+		primaryKeys.add(removedDLFileEntryMetadata.getPrimaryKey());
+
+		Map<Serializable, DLFileEntryMetadata> dlFileEntryMetadatas = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileEntryMetadatas.size());
+		Assert.assertEquals(newDLFileEntryMetadata, dlFileEntryMetadatas.get(newDLFileEntryMetadata.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlFileEntryMetadatas = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileEntryMetadatas.size());
+		Assert.assertEquals(newDLFileEntryMetadata, dlFileEntryMetadatas.get(newDLFileEntryMetadata.getPrimaryKey()));
+
+		dlFileEntryMetadatas = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlFileEntryMetadatas.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -171,6 +176,36 @@ public class DLFileEntryTypePersistenceTest {
 		Assert.assertNull(missingDLFileEntryType);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileEntryType newDLFileEntryType = addDLFileEntryType();
+		DLFileEntryType removedDLFileEntryType = addDLFileEntryType();
+
+		_persistence.remove(removedDLFileEntryType);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileEntryType.getPrimaryKey());
+		primaryKeys.add(removedDLFileEntryType.getPrimaryKey());
+
+		Map<Serializable, DLFileEntryType> dlFileEntryTypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileEntryTypes.size());
+		Assert.assertEquals(newDLFileEntryType, dlFileEntryTypes.get(newDLFileEntryType.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlFileEntryTypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileEntryTypes.size());
+		Assert.assertEquals(newDLFileEntryType, dlFileEntryTypes.get(newDLFileEntryType.getPrimaryKey()));
+
+		dlFileEntryTypes = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlFileEntryTypes.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
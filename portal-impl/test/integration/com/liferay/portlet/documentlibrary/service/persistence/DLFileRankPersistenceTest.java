@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -156,6 +161,36 @@ public class DLFileRankPersistenceTest {
 		Assert.assertNull(missingDLFileRank);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileRank newDLFileRank = addDLFileRank();
+		DLFileRank removedDLFileRank = addDLFileRank();
+
+		_persistence.remove(removedDLFileRank);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileRank.getPrimaryKey());
+		primaryKeys.add(removedDLFileRank.getPrimaryKey());
+
+		Map<Serializable, DLFileRank> dlFileRanks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileRanks.size());
+		Assert.assertEquals(newDLFileRank, dlFileRanks.get(newDLFileRank.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlFileRanks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileRanks.size());
+		Assert.assertEquals(newDLFileRank, dlFileRanks.get(newDLFileRank.getPrimaryKey()));
+
+		dlFileRanks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlFileRanks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -196,6 +201,36 @@ public class DLFileShortcutPersistenceTest {
 		Assert.assertNull(missingDLFileShortcut);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileShortcut newDLFileShortcut = addDLFileShortcut();
+		DLFileShortcut removedDLFileShortcut = addDLFileShortcut();
+
+		_persistence.remove(removedDLFileShortcut);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileShortcut.getPrimaryKey());
+		primaryKeys.add(removedDLFileShortcut.getPrimaryKey());
+
+		Map<Serializable, DLFileShortcut> dlFileShortcuts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileShortcuts.size());
+		Assert.assertEquals(newDLFileShortcut, dlFileShortcuts.get(newDLFileShortcut.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlFileShortcuts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileShortcuts.size());
+		Assert.assertEquals(newDLFileShortcut, dlFileShortcuts.get(newDLFileShortcut.getPrimaryKey()));
+
+		dlFileShortcuts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlFileShortcuts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -228,6 +233,36 @@ public class DLFileVersionPersistenceTest {
 		Assert.assertNull(missingDLFileVersion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileVersion newDLFileVersion = addDLFileVersion();
+		DLFileVersion removedDLFileVersion = addDLFileVersion();
+
+		_persistence.remove(removedDLFileVersion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileVersion.getPrimaryKey());
+		primaryKeys.add(removedDLFileVersion.getPrimaryKey());
+
+		Map<Serializable, DLFileVersion> dlFileVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileVersions.size());
+		Assert.assertEquals(newDLFileVersion, dlFileVersions.get(newDLFileVersion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlFileVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlFileVersions.size());
+		Assert.assertEquals(newDLFileVersion, dlFileVersions.get(newDLFileVersion.getPrimaryKey()));
+
+		dlFileVersions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlFileVersions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -175,6 +180,36 @@ public class DLSyncPersistenceTest {
 		Assert.assertNull(missingDLSync);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLSync newDLSync = addDLSync();
+		DLSync removedDLSync = addDLSync();
+
+		_persistence.remove(removedDLSync);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLSync.getPrimaryKey());
+		primaryKeys.add(removedDLSync.getPrimaryKey());
+
+		Map<Serializable, DLSync> dlSyncs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlSyncs.size());
+		Assert.assertEquals(newDLSync, dlSyncs.get(newDLSync.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		dlSyncs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, dlSyncs.size());
+		Assert.assertEquals(newDLSync, dlSyncs.get(newDLSync.getPrimaryKey()));
+
+		dlSyncs = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(dlSyncs.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
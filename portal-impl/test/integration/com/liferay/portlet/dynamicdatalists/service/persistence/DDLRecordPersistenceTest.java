@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -185,6 +190,36 @@ public class DDLRecordPersistenceTest {
 		Assert.assertNull(missingDDLRecord);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecord newDDLRecord = addDDLRecord();
+		DDLRecord removedDDLRecord = addDDLRecord();
+
+		_persistence.remove(removedDDLRecord);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecord.getPrimaryKey());
+		primaryKeys.add(removedDDLRecord.getPrimaryKey());
+
+		Map<Serializable, DDLRecord> ddlRecords = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecords.size());
+		Assert.assertEquals(newDDLRecord, ddlRecords.get(newDDLRecord.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddlRecords = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecords.size());
+		Assert.assertEquals(newDDLRecord, ddlRecords.get(newDDLRecord.getPrimaryKey()));
+
+		ddlRecords = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddlRecords.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -186,6 +191,36 @@ public class DDLRecordSetPersistenceTest {
 		Assert.assertNull(missingDDLRecordSet);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecordSet newDDLRecordSet = addDDLRecordSet();
+		DDLRecordSet removedDDLRecordSet = addDDLRecordSet();
+
+		_persistence.remove(removedDDLRecordSet);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecordSet.getPrimaryKey());
+		primaryKeys.add(removedDDLRecordSet.getPrimaryKey());
+
+		Map<Serializable, DDLRecordSet> ddlRecordSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecordSets.size());
+		Assert.assertEquals(newDDLRecordSet, ddlRecordSets.get(newDDLRecordSet.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddlRecordSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecordSets.size());
+		Assert.assertEquals(newDDLRecordSet, ddlRecordSets.get(newDDLRecordSet.getPrimaryKey()));
+
+		ddlRecordSets = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddlRecordSets.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
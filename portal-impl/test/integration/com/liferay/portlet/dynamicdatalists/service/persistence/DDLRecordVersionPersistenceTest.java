@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -191,6 +196,36 @@ public class DDLRecordVersionPersistenceTest {
 		Assert.assertNull(missingDDLRecordVersion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecordVersion newDDLRecordVersion = addDDLRecordVersion();
+		DDLRecordVersion removedDDLRecordVersion = addDDLRecordVersion();
+
+		_persistence.remove(removedDDLRecordVersion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecordVersion.getPrimaryKey());
+		primaryKeys.add(removedDDLRecordVersion.getPrimaryKey());
+
+		Map<Serializable, DDLRecordVersion> ddlRecordVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecordVersions.size());
+		Assert.assertEquals(newDDLRecordVersion, ddlRecordVersions.get(newDDLRecordVersion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddlRecordVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddlRecordVersions.size());
+		Assert.assertEquals(newDDLRecordVersion, ddlRecordVersions.get(newDDLRecordVersion.getPrimaryKey()));
+
+		ddlRecordVersions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddlRecordVersions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
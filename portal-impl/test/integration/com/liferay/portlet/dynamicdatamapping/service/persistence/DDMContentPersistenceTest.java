@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -173,6 +178,36 @@ public class DDMContentPersistenceTest {
 		Assert.assertNull(missingDDMContent);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMContent newDDMContent = addDDMContent();
+		DDMContent removedDDMContent = addDDMContent();
+
+		_persistence.remove(removedDDMContent);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMContent.getPrimaryKey());
+		primaryKeys.add(removedDDMContent.getPrimaryKey());
+
+		Map<Serializable, DDMContent> ddmContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmContents.size());
+		Assert.assertEquals(newDDMContent, ddmContents.get(newDDMContent.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddmContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmContents.size());
+		Assert.assertEquals(newDDMContent, ddmContents.get(newDDMContent.getPrimaryKey()));
+
+		ddmContents = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddmContents.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
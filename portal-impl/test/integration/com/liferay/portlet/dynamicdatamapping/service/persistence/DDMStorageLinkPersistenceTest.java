@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class DDMStorageLinkPersistenceTest {
 		Assert.assertNull(missingDDMStorageLink);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStorageLink newDDMStorageLink = addDDMStorageLink();
+		DDMStorageLink removedDDMStorageLink = addDDMStorageLink();
+
+		_persistence.remove(removedDDMStorageLink);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStorageLink.getPrimaryKey());
+		primaryKeys.add(removedDDMStorageLink.getPrimaryKey());
+
+		Map<Serializable, DDMStorageLink> ddmStorageLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStorageLinks.size());
+		Assert.assertEquals(newDDMStorageLink, ddmStorageLinks.get(newDDMStorageLink.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddmStorageLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStorageLinks.size());
+		Assert.assertEquals(newDDMStorageLink, ddmStorageLinks.get(newDDMStorageLink.getPrimaryKey()));
+
+		ddmStorageLinks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddmStorageLinks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class DDMStructureLinkPersistenceTest {
 		Assert.assertNull(missingDDMStructureLink);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStructureLink newDDMStructureLink = addDDMStructureLink();
+		DDMStructureLink removedDDMStructureLink = addDDMStructureLink();
+
+		_persistence.remove(removedDDMStructureLink);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStructureLink.getPrimaryKey());
+		primaryKeys.add(removedDDMStructureLink.getPrimaryKey());
+
+		Map<Serializable, DDMStructureLink> ddmStructureLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStructureLinks.size());
+		Assert.assertEquals(newDDMStructureLink, ddmStructureLinks.get(newDDMStructureLink.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddmStructureLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStructureLinks.size());
+		Assert.assertEquals(newDDMStructureLink, ddmStructureLinks.get(newDDMStructureLink.getPrimaryKey()));
+
+		ddmStructureLinks = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddmStructureLinks.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -190,6 +195,36 @@ public class DDMStructurePersistenceTest {
 		Assert.assertNull(missingDDMStructure);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStructure newDDMStructure = addDDMStructure();
+		DDMStructure removedDDMStructure = addDDMStructure();
+
+		_persistence.remove(removedDDMStructure);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStructure.getPrimaryKey());
+		primaryKeys.add(removedDDMStructure.getPrimaryKey());
+
+		Map<Serializable, DDMStructure> ddmStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStructures.size());
+		Assert.assertEquals(newDDMStructure, ddmStructures.get(newDDMStructure.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddmStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmStructures.size());
+		Assert.assertEquals(newDDMStructure, ddmStructures.get(newDDMStructure.getPrimaryKey()));
+
+		ddmStructures = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddmStructures.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -198,6 +203,36 @@ public class DDMTemplatePersistenceTest {
 		Assert.assertNull(missingDDMTemplate);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMTemplate newDDMTemplate = addDDMTemplate();
+		DDMTemplate removedDDMTemplate = addDDMTemplate();
+
+		_persistence.remove(removedDDMTemplate);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMTemplate.getPrimaryKey());
+		primaryKeys.add(removedDDMTemplate.getPrimaryKey());
+
+		Map<Serializable, DDMTemplate> ddmTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmTemplates.size());
+		Assert.assertEquals(newDDMTemplate, ddmTemplates.get(newDDMTemplate.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ddmTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ddmTemplates.size());
+		Assert.assertEquals(newDDMTemplate, ddmTemplates.get(newDDMTemplate.getPrimaryKey()));
+
+		ddmTemplates = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ddmTemplates.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
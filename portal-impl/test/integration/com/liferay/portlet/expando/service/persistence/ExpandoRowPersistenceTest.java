@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,36 @@ public class ExpandoRowPersistenceTest {
 		Assert.assertNull(missingExpandoRow);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoRow newExpandoRow = addExpandoRow();
+		ExpandoRow removedExpandoRow = addExpandoRow();
+
+		_persistence.remove(removedExpandoRow);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoRow.getPrimaryKey());
+		primaryKeys.add(removedExpandoRow.getPrimaryKey());
+
+		Map<Serializable, ExpandoRow> expandoRows = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoRows.size());
+		Assert.assertEquals(newExpandoRow, expandoRows.get(newExpandoRow.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		expandoRows = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoRows.size());
+		Assert.assertEquals(newExpandoRow, expandoRows.get(newExpandoRow.getPrimaryKey()));
+
+		expandoRows = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(expandoRows.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
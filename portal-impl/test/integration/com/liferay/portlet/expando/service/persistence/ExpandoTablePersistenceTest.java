@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class ExpandoTablePersistenceTest {
 		Assert.assertNull(missingExpandoTable);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoTable newExpandoTable = addExpandoTable();
+		ExpandoTable removedExpandoTable = addExpandoTable();
+
+		_persistence.remove(removedExpandoTable);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoTable.getPrimaryKey());
+		primaryKeys.add(removedExpandoTable.getPrimaryKey());
+
+		Map<Serializable, ExpandoTable> expandoTables = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoTables.size());
+		Assert.assertEquals(newExpandoTable, expandoTables.get(newExpandoTable.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		expandoTables = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoTables.size());
+		Assert.assertEquals(newExpandoTable, expandoTables.get(newExpandoTable.getPrimaryKey()));
+
+		expandoTables = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(expandoTables.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class ExpandoValuePersistenceTest {
 		Assert.assertNull(missingExpandoValue);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoValue newExpandoValue = addExpandoValue();
+		ExpandoValue removedExpandoValue = addExpandoValue();
+
+		_persistence.remove(removedExpandoValue);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoValue.getPrimaryKey());
+		primaryKeys.add(removedExpandoValue.getPrimaryKey());
+
+		Map<Serializable, ExpandoValue> expandoValues = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoValues.size());
+		Assert.assertEquals(newExpandoValue, expandoValues.get(newExpandoValue.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		expandoValues = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, expandoValues.size());
+		Assert.assertEquals(newExpandoValue, expandoValues.get(newExpandoValue.getPrimaryKey()));
+
+		expandoValues = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(expandoValues.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
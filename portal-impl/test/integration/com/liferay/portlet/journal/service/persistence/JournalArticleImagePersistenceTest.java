@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -161,6 +166,36 @@ public class JournalArticleImagePersistenceTest {
 		Assert.assertNull(missingJournalArticleImage);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticleImage newJournalArticleImage = addJournalArticleImage();
+		JournalArticleImage removedJournalArticleImage = addJournalArticleImage();
+
+		_persistence.remove(removedJournalArticleImage);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticleImage.getPrimaryKey());
+		primaryKeys.add(removedJournalArticleImage.getPrimaryKey());
+
+		Map<Serializable, JournalArticleImage> journalArticleImages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticleImages.size());
+		Assert.assertEquals(newJournalArticleImage, journalArticleImages.get(newJournalArticleImage.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalArticleImages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticleImages.size());
+		Assert.assertEquals(newJournalArticleImage, journalArticleImages.get(newJournalArticleImage.getPrimaryKey()));
+
+		journalArticleImages = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalArticleImages.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -267,6 +272,36 @@ public class JournalArticlePersistenceTest {
 		Assert.assertNull(missingJournalArticle);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticle newJournalArticle = addJournalArticle();
+		JournalArticle removedJournalArticle = addJournalArticle();
+
+		_persistence.remove(removedJournalArticle);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticle.getPrimaryKey());
+		primaryKeys.add(removedJournalArticle.getPrimaryKey());
+
+		Map<Serializable, JournalArticle> journalArticles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticles.size());
+		Assert.assertEquals(newJournalArticle, journalArticles.get(newJournalArticle.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalArticles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticles.size());
+		Assert.assertEquals(newJournalArticle, journalArticles.get(newJournalArticle.getPrimaryKey()));
+
+		journalArticles = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalArticles.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,36 @@ public class JournalArticleResourcePersistenceTest {
 		Assert.assertNull(missingJournalArticleResource);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticleResource newJournalArticleResource = addJournalArticleResource();
+		JournalArticleResource removedJournalArticleResource = addJournalArticleResource();
+
+		_persistence.remove(removedJournalArticleResource);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticleResource.getPrimaryKey());
+		primaryKeys.add(removedJournalArticleResource.getPrimaryKey());
+
+		Map<Serializable, JournalArticleResource> journalArticleResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticleResources.size());
+		Assert.assertEquals(newJournalArticleResource, journalArticleResources.get(newJournalArticleResource.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalArticleResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalArticleResources.size());
+		Assert.assertEquals(newJournalArticleResource, journalArticleResources.get(newJournalArticleResource.getPrimaryKey()));
+
+		journalArticleResources = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalArticleResources.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
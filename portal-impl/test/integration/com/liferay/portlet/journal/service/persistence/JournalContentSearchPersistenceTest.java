@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class JournalContentSearchPersistenceTest {
 		Assert.assertNull(missingJournalContentSearch);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalContentSearch newJournalContentSearch = addJournalContentSearch();
+		JournalContentSearch removedJournalContentSearch = addJournalContentSearch();
+
+		_persistence.remove(removedJournalContentSearch);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalContentSearch.getPrimaryKey());
+		primaryKeys.add(removedJournalContentSearch.getPrimaryKey());
+
+		Map<Serializable, JournalContentSearch> journalContentSearchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalContentSearchs.size());
+		Assert.assertEquals(newJournalContentSearch, journalContentSearchs.get(newJournalContentSearch.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalContentSearchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalContentSearchs.size());
+		Assert.assertEquals(newJournalContentSearch, journalContentSearchs.get(newJournalContentSearch.getPrimaryKey()));
+
+		journalContentSearchs = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalContentSearchs.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -222,6 +227,36 @@ public class JournalFeedPersistenceTest {
 		Assert.assertNull(missingJournalFeed);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalFeed newJournalFeed = addJournalFeed();
+		JournalFeed removedJournalFeed = addJournalFeed();
+
+		_persistence.remove(removedJournalFeed);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalFeed.getPrimaryKey());
+		primaryKeys.add(removedJournalFeed.getPrimaryKey());
+
+		Map<Serializable, JournalFeed> journalFeeds = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalFeeds.size());
+		Assert.assertEquals(newJournalFeed, journalFeeds.get(newJournalFeed.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalFeeds = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalFeeds.size());
+		Assert.assertEquals(newJournalFeed, journalFeeds.get(newJournalFeed.getPrimaryKey()));
+
+		journalFeeds = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalFeeds.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
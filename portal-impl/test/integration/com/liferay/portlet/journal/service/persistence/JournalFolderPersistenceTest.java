@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -174,6 +179,36 @@ public class JournalFolderPersistenceTest {
 		Assert.assertNull(missingJournalFolder);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalFolder newJournalFolder = addJournalFolder();
+		JournalFolder removedJournalFolder = addJournalFolder();
+
+		_persistence.remove(removedJournalFolder);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalFolder.getPrimaryKey());
+		primaryKeys.add(removedJournalFolder.getPrimaryKey());
+
+		Map<Serializable, JournalFolder> journalFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalFolders.size());
+		Assert.assertEquals(newJournalFolder, journalFolders.get(newJournalFolder.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalFolders.size());
+		Assert.assertEquals(newJournalFolder, journalFolders.get(newJournalFolder.getPrimaryKey()));
+
+		journalFolders = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalFolders.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
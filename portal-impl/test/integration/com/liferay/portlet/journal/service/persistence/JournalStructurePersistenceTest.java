@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -182,6 +187,36 @@ public class JournalStructurePersistenceTest {
 		Assert.assertNull(missingJournalStructure);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalStructure newJournalStructure = addJournalStructure();
+		JournalStructure removedJournalStructure = addJournalStructure();
+
+		_persistence.remove(removedJournalStructure);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalStructure.getPrimaryKey());
+		primaryKeys.add(removedJournalStructure.getPrimaryKey());
+
+		Map<Serializable, JournalStructure> journalStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalStructures.size());
+		Assert.assertEquals(newJournalStructure, journalStructures.get(newJournalStructure.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalStructures.size());
+		Assert.assertEquals(newJournalStructure, journalStructures.get(newJournalStructure.getPrimaryKey()));
+
+		journalStructures = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalStructures.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -202,6 +207,36 @@ public class JournalTemplatePersistenceTest {
 		Assert.assertNull(missingJournalTemplate);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalTemplate newJournalTemplate = addJournalTemplate();
+		JournalTemplate removedJournalTemplate = addJournalTemplate();
+
+		_persistence.remove(removedJournalTemplate);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalTemplate.getPrimaryKey());
+		primaryKeys.add(removedJournalTemplate.getPrimaryKey());
+
+		Map<Serializable, JournalTemplate> journalTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalTemplates.size());
+		Assert.assertEquals(newJournalTemplate, journalTemplates.get(newJournalTemplate.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		journalTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, journalTemplates.size());
+		Assert.assertEquals(newJournalTemplate, journalTemplates.get(newJournalTemplate.getPrimaryKey()));
+
+		journalTemplates = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(journalTemplates.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -157,6 +162,36 @@ public class MBBanPersistenceTest {
 		Assert.assertNull(missingMBBan);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBBan newMBBan = addMBBan();
+		MBBan removedMBBan = addMBBan();
+
+		_persistence.remove(removedMBBan);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBBan.getPrimaryKey());
+		primaryKeys.add(removedMBBan.getPrimaryKey());
+
+		Map<Serializable, MBBan> mbBans = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbBans.size());
+		Assert.assertEquals(newMBBan, mbBans.get(newMBBan.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbBans = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbBans.size());
+		Assert.assertEquals(newMBBan, mbBans.get(newMBBan.getPrimaryKey()));
+
+		mbBans = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbBans.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
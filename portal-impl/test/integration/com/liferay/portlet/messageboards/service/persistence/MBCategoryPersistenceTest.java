@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -191,6 +196,36 @@ public class MBCategoryPersistenceTest {
 		Assert.assertNull(missingMBCategory);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBCategory newMBCategory = addMBCategory();
+		MBCategory removedMBCategory = addMBCategory();
+
+		_persistence.remove(removedMBCategory);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBCategory.getPrimaryKey());
+		primaryKeys.add(removedMBCategory.getPrimaryKey());
+
+		Map<Serializable, MBCategory> mbCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbCategories.size());
+		Assert.assertEquals(newMBCategory, mbCategories.get(newMBCategory.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbCategories.size());
+		Assert.assertEquals(newMBCategory, mbCategories.get(newMBCategory.getPrimaryKey()));
+
+		mbCategories = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbCategories.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
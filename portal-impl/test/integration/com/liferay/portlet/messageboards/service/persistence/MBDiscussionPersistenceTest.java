@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -143,6 +148,36 @@ public class MBDiscussionPersistenceTest {
 		Assert.assertNull(missingMBDiscussion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBDiscussion newMBDiscussion = addMBDiscussion();
+		MBDiscussion removedMBDiscussion = addMBDiscussion();
+
+		_persistence.remove(removedMBDiscussion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBDiscussion.getPrimaryKey());
+		primaryKeys.add(removedMBDiscussion.getPrimaryKey());
+
+		Map<Serializable, MBDiscussion> mbDiscussions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbDiscussions.size());
+		Assert.assertEquals(newMBDiscussion, mbDiscussions.get(newMBDiscussion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbDiscussions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbDiscussions.size());
+		Assert.assertEquals(newMBDiscussion, mbDiscussions.get(newMBDiscussion.getPrimaryKey()));
+
+		mbDiscussions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbDiscussions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -235,6 +240,36 @@ public class MBMailingListPersistenceTest {
 		Assert.assertNull(missingMBMailingList);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBMailingList newMBMailingList = addMBMailingList();
+		MBMailingList removedMBMailingList = addMBMailingList();
+
+		_persistence.remove(removedMBMailingList);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBMailingList.getPrimaryKey());
+		primaryKeys.add(removedMBMailingList.getPrimaryKey());
+
+		Map<Serializable, MBMailingList> mbMailingLists = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbMailingLists.size());
+		Assert.assertEquals(newMBMailingList, mbMailingLists.get(newMBMailingList.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbMailingLists = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbMailingLists.size());
+		Assert.assertEquals(newMBMailingList, mbMailingLists.get(newMBMailingList.getPrimaryKey()));
+
+		mbMailingLists = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbMailingLists.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -234,6 +239,36 @@ public class MBMessagePersistenceTest {
 		Assert.assertNull(missingMBMessage);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBMessage newMBMessage = addMBMessage();
+		MBMessage removedMBMessage = addMBMessage();
+
+		_persistence.remove(removedMBMessage);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBMessage.getPrimaryKey());
+		primaryKeys.add(removedMBMessage.getPrimaryKey());
+
+		Map<Serializable, MBMessage> mbMessages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbMessages.size());
+		Assert.assertEquals(newMBMessage, mbMessages.get(newMBMessage.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbMessages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbMessages.size());
+		Assert.assertEquals(newMBMessage, mbMessages.get(newMBMessage.getPrimaryKey()));
+
+		mbMessages = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbMessages.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -148,6 +153,36 @@ public class MBStatsUserPersistenceTest {
 		Assert.assertNull(missingMBStatsUser);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBStatsUser newMBStatsUser = addMBStatsUser();
+		MBStatsUser removedMBStatsUser = addMBStatsUser();
+
+		_persistence.remove(removedMBStatsUser);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBStatsUser.getPrimaryKey());
+		primaryKeys.add(removedMBStatsUser.getPrimaryKey());
+
+		Map<Serializable, MBStatsUser> mbStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbStatsUsers.size());
+		Assert.assertEquals(newMBStatsUser, mbStatsUsers.get(newMBStatsUser.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbStatsUsers.size());
+		Assert.assertEquals(newMBStatsUser, mbStatsUsers.get(newMBStatsUser.getPrimaryKey()));
+
+		mbStatsUsers = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbStatsUsers.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
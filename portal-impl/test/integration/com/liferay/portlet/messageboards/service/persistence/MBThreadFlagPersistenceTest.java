@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -145,6 +150,36 @@ public class MBThreadFlagPersistenceTest {
 		Assert.assertNull(missingMBThreadFlag);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBThreadFlag newMBThreadFlag = addMBThreadFlag();
+		MBThreadFlag removedMBThreadFlag = addMBThreadFlag();
+
+		_persistence.remove(removedMBThreadFlag);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBThreadFlag.getPrimaryKey());
+		primaryKeys.add(removedMBThreadFlag.getPrimaryKey());
+
+		Map<Serializable, MBThreadFlag> mbThreadFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbThreadFlags.size());
+		Assert.assertEquals(newMBThreadFlag, mbThreadFlags.get(newMBThreadFlag.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbThreadFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbThreadFlags.size());
+		Assert.assertEquals(newMBThreadFlag, mbThreadFlags.get(newMBThreadFlag.getPrimaryKey()));
+
+		mbThreadFlags = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbThreadFlags.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -194,6 +199,36 @@ public class MBThreadPersistenceTest {
 		Assert.assertNull(missingMBThread);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBThread newMBThread = addMBThread();
+		MBThread removedMBThread = addMBThread();
+
+		_persistence.remove(removedMBThread);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBThread.getPrimaryKey());
+		primaryKeys.add(removedMBThread.getPrimaryKey());
+
+		Map<Serializable, MBThread> mbThreads = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbThreads.size());
+		Assert.assertEquals(newMBThread, mbThreads.get(newMBThread.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mbThreads = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mbThreads.size());
+		Assert.assertEquals(newMBThread, mbThreads.get(newMBThread.getPrimaryKey()));
+
+		mbThreads = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mbThreads.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -187,6 +192,36 @@ public class MDRActionPersistenceTest {
 		Assert.assertNull(missingMDRAction);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRAction newMDRAction = addMDRAction();
+		MDRAction removedMDRAction = addMDRAction();
+
+		_persistence.remove(removedMDRAction);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRAction.getPrimaryKey());
+		primaryKeys.add(removedMDRAction.getPrimaryKey());
+
+		Map<Serializable, MDRAction> mdrActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrActions.size());
+		Assert.assertEquals(newMDRAction, mdrActions.get(newMDRAction.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mdrActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrActions.size());
+		Assert.assertEquals(newMDRAction, mdrActions.get(newMDRAction.getPrimaryKey()));
+
+		mdrActions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mdrActions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
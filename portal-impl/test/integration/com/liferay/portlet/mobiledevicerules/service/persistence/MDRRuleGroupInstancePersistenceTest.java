@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -181,6 +186,36 @@ public class MDRRuleGroupInstancePersistenceTest {
 		Assert.assertNull(missingMDRRuleGroupInstance);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRRuleGroupInstance newMDRRuleGroupInstance = addMDRRuleGroupInstance();
+		MDRRuleGroupInstance removedMDRRuleGroupInstance = addMDRRuleGroupInstance();
+
+		_persistence.remove(removedMDRRuleGroupInstance);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRRuleGroupInstance.getPrimaryKey());
+		primaryKeys.add(removedMDRRuleGroupInstance.getPrimaryKey());
+
+		Map<Serializable, MDRRuleGroupInstance> mdrRuleGroupInstances = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrRuleGroupInstances.size());
+		Assert.assertEquals(newMDRRuleGroupInstance, mdrRuleGroupInstances.get(newMDRRuleGroupInstance.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mdrRuleGroupInstances = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrRuleGroupInstances.size());
+		Assert.assertEquals(newMDRRuleGroupInstance, mdrRuleGroupInstances.get(newMDRRuleGroupInstance.getPrimaryKey()));
+
+		mdrRuleGroupInstances = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mdrRuleGroupInstances.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -170,6 +175,36 @@ public class MDRRuleGroupPersistenceTest {
 		Assert.assertNull(missingMDRRuleGroup);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRRuleGroup newMDRRuleGroup = addMDRRuleGroup();
+		MDRRuleGroup removedMDRRuleGroup = addMDRRuleGroup();
+
+		_persistence.remove(removedMDRRuleGroup);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRRuleGroup.getPrimaryKey());
+		primaryKeys.add(removedMDRRuleGroup.getPrimaryKey());
+
+		Map<Serializable, MDRRuleGroup> mdrRuleGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrRuleGroups.size());
+		Assert.assertEquals(newMDRRuleGroup, mdrRuleGroups.get(newMDRRuleGroup.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		mdrRuleGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, mdrRuleGroups.size());
+		Assert.assertEquals(newMDRRuleGroup, mdrRuleGroups.get(newMDRRuleGroup.getPrimaryKey()));
+
+		mdrRuleGroups = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(mdrRuleGroups.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,36 @@ public class PollsChoicePersistenceTest {
 		Assert.assertNull(missingPollsChoice);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsChoice newPollsChoice = addPollsChoice();
+		PollsChoice removedPollsChoice = addPollsChoice();
+
+		_persistence.remove(removedPollsChoice);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsChoice.getPrimaryKey());
+		primaryKeys.add(removedPollsChoice.getPrimaryKey());
+
+		Map<Serializable, PollsChoice> pollsChoices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsChoices.size());
+		Assert.assertEquals(newPollsChoice, pollsChoices.get(newPollsChoice.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		pollsChoices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsChoices.size());
+		Assert.assertEquals(newPollsChoice, pollsChoices.get(newPollsChoice.getPrimaryKey()));
+
+		pollsChoices = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(pollsChoices.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
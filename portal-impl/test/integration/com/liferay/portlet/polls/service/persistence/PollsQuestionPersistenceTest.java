@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -180,6 +185,36 @@ public class PollsQuestionPersistenceTest {
 		Assert.assertNull(missingPollsQuestion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsQuestion newPollsQuestion = addPollsQuestion();
+		PollsQuestion removedPollsQuestion = addPollsQuestion();
+
+		_persistence.remove(removedPollsQuestion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsQuestion.getPrimaryKey());
+		primaryKeys.add(removedPollsQuestion.getPrimaryKey());
+
+		Map<Serializable, PollsQuestion> pollsQuestions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsQuestions.size());
+		Assert.assertEquals(newPollsQuestion, pollsQuestions.get(newPollsQuestion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		pollsQuestions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsQuestions.size());
+		Assert.assertEquals(newPollsQuestion, pollsQuestions.get(newPollsQuestion.getPrimaryKey()));
+
+		pollsQuestions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(pollsQuestions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -166,6 +171,36 @@ public class PollsVotePersistenceTest {
 		Assert.assertNull(missingPollsVote);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsVote newPollsVote = addPollsVote();
+		PollsVote removedPollsVote = addPollsVote();
+
+		_persistence.remove(removedPollsVote);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsVote.getPrimaryKey());
+		primaryKeys.add(removedPollsVote.getPrimaryKey());
+
+		Map<Serializable, PollsVote> pollsVotes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsVotes.size());
+		Assert.assertEquals(newPollsVote, pollsVotes.get(newPollsVote.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		pollsVotes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, pollsVotes.size());
+		Assert.assertEquals(newPollsVote, pollsVotes.get(newPollsVote.getPrimaryKey()));
+
+		pollsVotes = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(pollsVotes.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
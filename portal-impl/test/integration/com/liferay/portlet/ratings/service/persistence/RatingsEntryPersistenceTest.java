@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -166,6 +171,36 @@ public class RatingsEntryPersistenceTest {
 		Assert.assertNull(missingRatingsEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		RatingsEntry newRatingsEntry = addRatingsEntry();
+		RatingsEntry removedRatingsEntry = addRatingsEntry();
+
+		_persistence.remove(removedRatingsEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRatingsEntry.getPrimaryKey());
+		primaryKeys.add(removedRatingsEntry.getPrimaryKey());
+
+		Map<Serializable, RatingsEntry> ratingsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ratingsEntries.size());
+		Assert.assertEquals(newRatingsEntry, ratingsEntries.get(newRatingsEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ratingsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ratingsEntries.size());
+		Assert.assertEquals(newRatingsEntry, ratingsEntries.get(newRatingsEntry.getPrimaryKey()));
+
+		ratingsEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ratingsEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -151,6 +156,36 @@ public class RatingsStatsPersistenceTest {
 		Assert.assertNull(missingRatingsStats);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		RatingsStats newRatingsStats = addRatingsStats();
+		RatingsStats removedRatingsStats = addRatingsStats();
+
+		_persistence.remove(removedRatingsStats);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRatingsStats.getPrimaryKey());
+		primaryKeys.add(removedRatingsStats.getPrimaryKey());
+
+		Map<Serializable, RatingsStats> ratingsStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ratingsStatses.size());
+		Assert.assertEquals(newRatingsStats, ratingsStatses.get(newRatingsStats.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		ratingsStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, ratingsStatses.size());
+		Assert.assertEquals(newRatingsStats, ratingsStatses.get(newRatingsStats.getPrimaryKey()));
+
+		ratingsStatses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(ratingsStatses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
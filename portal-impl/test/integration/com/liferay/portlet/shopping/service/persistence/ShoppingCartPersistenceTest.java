@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -173,6 +178,36 @@ public class ShoppingCartPersistenceTest {
 		Assert.assertNull(missingShoppingCart);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCart newShoppingCart = addShoppingCart();
+		ShoppingCart removedShoppingCart = addShoppingCart();
+
+		_persistence.remove(removedShoppingCart);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCart.getPrimaryKey());
+		primaryKeys.add(removedShoppingCart.getPrimaryKey());
+
+		Map<Serializable, ShoppingCart> shoppingCarts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCarts.size());
+		Assert.assertEquals(newShoppingCart, shoppingCarts.get(newShoppingCart.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingCarts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCarts.size());
+		Assert.assertEquals(newShoppingCart, shoppingCarts.get(newShoppingCart.getPrimaryKey()));
+
+		shoppingCarts = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingCarts.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
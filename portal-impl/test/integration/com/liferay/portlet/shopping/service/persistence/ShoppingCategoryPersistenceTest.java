@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class ShoppingCategoryPersistenceTest {
 		Assert.assertNull(missingShoppingCategory);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCategory newShoppingCategory = addShoppingCategory();
+		ShoppingCategory removedShoppingCategory = addShoppingCategory();
+
+		_persistence.remove(removedShoppingCategory);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCategory.getPrimaryKey());
+		primaryKeys.add(removedShoppingCategory.getPrimaryKey());
+
+		Map<Serializable, ShoppingCategory> shoppingCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCategories.size());
+		Assert.assertEquals(newShoppingCategory, shoppingCategories.get(newShoppingCategory.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCategories.size());
+		Assert.assertEquals(newShoppingCategory, shoppingCategories.get(newShoppingCategory.getPrimaryKey()));
+
+		shoppingCategories = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingCategories.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -205,6 +210,36 @@ public class ShoppingCouponPersistenceTest {
 		Assert.assertNull(missingShoppingCoupon);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCoupon newShoppingCoupon = addShoppingCoupon();
+		ShoppingCoupon removedShoppingCoupon = addShoppingCoupon();
+
+		_persistence.remove(removedShoppingCoupon);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCoupon.getPrimaryKey());
+		primaryKeys.add(removedShoppingCoupon.getPrimaryKey());
+
+		Map<Serializable, ShoppingCoupon> shoppingCoupons = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCoupons.size());
+		Assert.assertEquals(newShoppingCoupon, shoppingCoupons.get(newShoppingCoupon.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingCoupons = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingCoupons.size());
+		Assert.assertEquals(newShoppingCoupon, shoppingCoupons.get(newShoppingCoupon.getPrimaryKey()));
+
+		shoppingCoupons = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingCoupons.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
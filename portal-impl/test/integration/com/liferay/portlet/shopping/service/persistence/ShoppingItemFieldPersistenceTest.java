@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,36 @@ public class ShoppingItemFieldPersistenceTest {
 		Assert.assertNull(missingShoppingItemField);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItemField newShoppingItemField = addShoppingItemField();
+		ShoppingItemField removedShoppingItemField = addShoppingItemField();
+
+		_persistence.remove(removedShoppingItemField);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItemField.getPrimaryKey());
+		primaryKeys.add(removedShoppingItemField.getPrimaryKey());
+
+		Map<Serializable, ShoppingItemField> shoppingItemFields = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItemFields.size());
+		Assert.assertEquals(newShoppingItemField, shoppingItemFields.get(newShoppingItemField.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingItemFields = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItemFields.size());
+		Assert.assertEquals(newShoppingItemField, shoppingItemFields.get(newShoppingItemField.getPrimaryKey()));
+
+		shoppingItemFields = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingItemFields.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
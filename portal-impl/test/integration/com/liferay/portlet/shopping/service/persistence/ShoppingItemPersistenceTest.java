@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -267,6 +272,36 @@ public class ShoppingItemPersistenceTest {
 		Assert.assertNull(missingShoppingItem);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItem newShoppingItem = addShoppingItem();
+		ShoppingItem removedShoppingItem = addShoppingItem();
+
+		_persistence.remove(removedShoppingItem);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItem.getPrimaryKey());
+		primaryKeys.add(removedShoppingItem.getPrimaryKey());
+
+		Map<Serializable, ShoppingItem> shoppingItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItems.size());
+		Assert.assertEquals(newShoppingItem, shoppingItems.get(newShoppingItem.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItems.size());
+		Assert.assertEquals(newShoppingItem, shoppingItems.get(newShoppingItem.getPrimaryKey()));
+
+		shoppingItems = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingItems.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
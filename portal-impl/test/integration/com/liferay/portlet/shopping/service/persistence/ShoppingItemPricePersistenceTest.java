@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,36 @@ public class ShoppingItemPricePersistenceTest {
 		Assert.assertNull(missingShoppingItemPrice);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItemPrice newShoppingItemPrice = addShoppingItemPrice();
+		ShoppingItemPrice removedShoppingItemPrice = addShoppingItemPrice();
+
+		_persistence.remove(removedShoppingItemPrice);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItemPrice.getPrimaryKey());
+		primaryKeys.add(removedShoppingItemPrice.getPrimaryKey());
+
+		Map<Serializable, ShoppingItemPrice> shoppingItemPrices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItemPrices.size());
+		Assert.assertEquals(newShoppingItemPrice, shoppingItemPrices.get(newShoppingItemPrice.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingItemPrices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingItemPrices.size());
+		Assert.assertEquals(newShoppingItemPrice, shoppingItemPrices.get(newShoppingItemPrice.getPrimaryKey()));
+
+		shoppingItemPrices = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingItemPrices.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
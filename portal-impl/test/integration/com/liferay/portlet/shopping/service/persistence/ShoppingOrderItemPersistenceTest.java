@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,36 @@ public class ShoppingOrderItemPersistenceTest {
 		Assert.assertNull(missingShoppingOrderItem);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingOrderItem newShoppingOrderItem = addShoppingOrderItem();
+		ShoppingOrderItem removedShoppingOrderItem = addShoppingOrderItem();
+
+		_persistence.remove(removedShoppingOrderItem);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingOrderItem.getPrimaryKey());
+		primaryKeys.add(removedShoppingOrderItem.getPrimaryKey());
+
+		Map<Serializable, ShoppingOrderItem> shoppingOrderItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingOrderItems.size());
+		Assert.assertEquals(newShoppingOrderItem, shoppingOrderItems.get(newShoppingOrderItem.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingOrderItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingOrderItems.size());
+		Assert.assertEquals(newShoppingOrderItem, shoppingOrderItems.get(newShoppingOrderItem.getPrimaryKey()));
+
+		shoppingOrderItems = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingOrderItems.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -335,6 +340,36 @@ public class ShoppingOrderPersistenceTest {
 		Assert.assertNull(missingShoppingOrder);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingOrder newShoppingOrder = addShoppingOrder();
+		ShoppingOrder removedShoppingOrder = addShoppingOrder();
+
+		_persistence.remove(removedShoppingOrder);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingOrder.getPrimaryKey());
+		primaryKeys.add(removedShoppingOrder.getPrimaryKey());
+
+		Map<Serializable, ShoppingOrder> shoppingOrders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingOrders.size());
+		Assert.assertEquals(newShoppingOrder, shoppingOrders.get(newShoppingOrder.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		shoppingOrders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, shoppingOrders.size());
+		Assert.assertEquals(newShoppingOrder, shoppingOrders.get(newShoppingOrder.getPrimaryKey()));
+
+		shoppingOrders = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(shoppingOrders.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
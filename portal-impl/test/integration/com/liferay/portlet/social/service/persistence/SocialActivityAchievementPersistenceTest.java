@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class SocialActivityAchievementPersistenceTest {
 		Assert.assertNull(missingSocialActivityAchievement);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivityAchievement newSocialActivityAchievement = addSocialActivityAchievement();
+		SocialActivityAchievement removedSocialActivityAchievement = addSocialActivityAchievement();
+
+		_persistence.remove(removedSocialActivityAchievement);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivityAchievement.getPrimaryKey());
+		primaryKeys.add(removedSocialActivityAchievement.getPrimaryKey());
+
+		Map<Serializable, SocialActivityAchievement> socialActivityAchievements = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityAchievements.size());
+		Assert.assertEquals(newSocialActivityAchievement, socialActivityAchievements.get(newSocialActivityAchievement.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialActivityAchievements = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityAchievements.size());
+		Assert.assertEquals(newSocialActivityAchievement, socialActivityAchievements.get(newSocialActivityAchievement.getPrimaryKey()));
+
+		socialActivityAchievements = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialActivityAchievements.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -182,6 +187,36 @@ public class SocialActivityCounterPersistenceTest {
 		Assert.assertNull(missingSocialActivityCounter);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivityCounter newSocialActivityCounter = addSocialActivityCounter();
+		SocialActivityCounter removedSocialActivityCounter = addSocialActivityCounter();
+
+		_persistence.remove(removedSocialActivityCounter);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivityCounter.getPrimaryKey());
+		primaryKeys.add(removedSocialActivityCounter.getPrimaryKey());
+
+		Map<Serializable, SocialActivityCounter> socialActivityCounters = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityCounters.size());
+		Assert.assertEquals(newSocialActivityCounter, socialActivityCounters.get(newSocialActivityCounter.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialActivityCounters = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityCounters.size());
+		Assert.assertEquals(newSocialActivityCounter, socialActivityCounters.get(newSocialActivityCounter.getPrimaryKey()));
+
+		socialActivityCounters = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialActivityCounters.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -164,6 +169,36 @@ public class SocialActivityLimitPersistenceTest {
 		Assert.assertNull(missingSocialActivityLimit);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivityLimit newSocialActivityLimit = addSocialActivityLimit();
+		SocialActivityLimit removedSocialActivityLimit = addSocialActivityLimit();
+
+		_persistence.remove(removedSocialActivityLimit);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivityLimit.getPrimaryKey());
+		primaryKeys.add(removedSocialActivityLimit.getPrimaryKey());
+
+		Map<Serializable, SocialActivityLimit> socialActivityLimits = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityLimits.size());
+		Assert.assertEquals(newSocialActivityLimit, socialActivityLimits.get(newSocialActivityLimit.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialActivityLimits = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivityLimits.size());
+		Assert.assertEquals(newSocialActivityLimit, socialActivityLimits.get(newSocialActivityLimit.getPrimaryKey()));
+
+		socialActivityLimits = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialActivityLimits.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
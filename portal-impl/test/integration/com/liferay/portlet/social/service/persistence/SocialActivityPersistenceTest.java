@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -170,6 +175,36 @@ public class SocialActivityPersistenceTest {
 		Assert.assertNull(missingSocialActivity);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivity newSocialActivity = addSocialActivity();
+		SocialActivity removedSocialActivity = addSocialActivity();
+
+		_persistence.remove(removedSocialActivity);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivity.getPrimaryKey());
+		primaryKeys.add(removedSocialActivity.getPrimaryKey());
+
+		Map<Serializable, SocialActivity> socialActivities = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivities.size());
+		Assert.assertEquals(newSocialActivity, socialActivities.get(newSocialActivity.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialActivities = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivities.size());
+		Assert.assertEquals(newSocialActivity, socialActivities.get(newSocialActivity.getPrimaryKey()));
+
+		socialActivities = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialActivities.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
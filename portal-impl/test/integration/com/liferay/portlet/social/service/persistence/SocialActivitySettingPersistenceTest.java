@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,36 @@ public class SocialActivitySettingPersistenceTest {
 		Assert.assertNull(missingSocialActivitySetting);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivitySetting newSocialActivitySetting = addSocialActivitySetting();
+		SocialActivitySetting removedSocialActivitySetting = addSocialActivitySetting();
+
+		_persistence.remove(removedSocialActivitySetting);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivitySetting.getPrimaryKey());
+		primaryKeys.add(removedSocialActivitySetting.getPrimaryKey());
+
+		Map<Serializable, SocialActivitySetting> socialActivitySettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivitySettings.size());
+		Assert.assertEquals(newSocialActivitySetting, socialActivitySettings.get(newSocialActivitySetting.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialActivitySettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialActivitySettings.size());
+		Assert.assertEquals(newSocialActivitySetting, socialActivitySettings.get(newSocialActivitySetting.getPrimaryKey()));
+
+		socialActivitySettings = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialActivitySettings.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
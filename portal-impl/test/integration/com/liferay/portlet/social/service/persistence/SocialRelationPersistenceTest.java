@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -154,6 +159,36 @@ public class SocialRelationPersistenceTest {
 		Assert.assertNull(missingSocialRelation);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialRelation newSocialRelation = addSocialRelation();
+		SocialRelation removedSocialRelation = addSocialRelation();
+
+		_persistence.remove(removedSocialRelation);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialRelation.getPrimaryKey());
+		primaryKeys.add(removedSocialRelation.getPrimaryKey());
+
+		Map<Serializable, SocialRelation> socialRelations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialRelations.size());
+		Assert.assertEquals(newSocialRelation, socialRelations.get(newSocialRelation.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialRelations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialRelations.size());
+		Assert.assertEquals(newSocialRelation, socialRelations.get(newSocialRelation.getPrimaryKey()));
+
+		socialRelations = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialRelations.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -179,6 +184,36 @@ public class SocialRequestPersistenceTest {
 		Assert.assertNull(missingSocialRequest);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialRequest newSocialRequest = addSocialRequest();
+		SocialRequest removedSocialRequest = addSocialRequest();
+
+		_persistence.remove(removedSocialRequest);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialRequest.getPrimaryKey());
+		primaryKeys.add(removedSocialRequest.getPrimaryKey());
+
+		Map<Serializable, SocialRequest> socialRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialRequests.size());
+		Assert.assertEquals(newSocialRequest, socialRequests.get(newSocialRequest.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		socialRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, socialRequests.size());
+		Assert.assertEquals(newSocialRequest, socialRequests.get(newSocialRequest.getPrimaryKey()));
+
+		socialRequests = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(socialRequests.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -34,7 +34,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -172,6 +177,36 @@ public class SCFrameworkVersionPersistenceTest {
 		Assert.assertNull(missingSCFrameworkVersion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCFrameworkVersion newSCFrameworkVersion = addSCFrameworkVersion();
+		SCFrameworkVersion removedSCFrameworkVersion = addSCFrameworkVersion();
+
+		_persistence.remove(removedSCFrameworkVersion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCFrameworkVersion.getPrimaryKey());
+		primaryKeys.add(removedSCFrameworkVersion.getPrimaryKey());
+
+		Map<Serializable, SCFrameworkVersion> scFrameworkVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scFrameworkVersions.size());
+		Assert.assertEquals(newSCFrameworkVersion, scFrameworkVersions.get(newSCFrameworkVersion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		scFrameworkVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scFrameworkVersions.size());
+		Assert.assertEquals(newSCFrameworkVersion, scFrameworkVersions.get(newSCFrameworkVersion.getPrimaryKey()));
+
+		scFrameworkVersions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(scFrameworkVersions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
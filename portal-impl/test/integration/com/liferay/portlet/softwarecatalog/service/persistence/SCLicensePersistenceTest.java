@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,36 @@ public class SCLicensePersistenceTest {
 		Assert.assertNull(missingSCLicense);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCLicense newSCLicense = addSCLicense();
+		SCLicense removedSCLicense = addSCLicense();
+
+		_persistence.remove(removedSCLicense);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCLicense.getPrimaryKey());
+		primaryKeys.add(removedSCLicense.getPrimaryKey());
+
+		Map<Serializable, SCLicense> scLicenses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scLicenses.size());
+		Assert.assertEquals(newSCLicense, scLicenses.get(newSCLicense.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		scLicenses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scLicenses.size());
+		Assert.assertEquals(newSCLicense, scLicenses.get(newSCLicense.getPrimaryKey()));
+
+		scLicenses = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(scLicenses.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
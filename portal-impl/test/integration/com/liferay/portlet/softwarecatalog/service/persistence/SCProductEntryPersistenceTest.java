@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -195,6 +200,36 @@ public class SCProductEntryPersistenceTest {
 		Assert.assertNull(missingSCProductEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductEntry newSCProductEntry = addSCProductEntry();
+		SCProductEntry removedSCProductEntry = addSCProductEntry();
+
+		_persistence.remove(removedSCProductEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductEntry.getPrimaryKey());
+		primaryKeys.add(removedSCProductEntry.getPrimaryKey());
+
+		Map<Serializable, SCProductEntry> scProductEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductEntries.size());
+		Assert.assertEquals(newSCProductEntry, scProductEntries.get(newSCProductEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		scProductEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductEntries.size());
+		Assert.assertEquals(newSCProductEntry, scProductEntries.get(newSCProductEntry.getPrimaryKey()));
+
+		scProductEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(scProductEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -35,7 +35,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,36 @@ public class SCProductScreenshotPersistenceTest {
 		Assert.assertNull(missingSCProductScreenshot);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductScreenshot newSCProductScreenshot = addSCProductScreenshot();
+		SCProductScreenshot removedSCProductScreenshot = addSCProductScreenshot();
+
+		_persistence.remove(removedSCProductScreenshot);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductScreenshot.getPrimaryKey());
+		primaryKeys.add(removedSCProductScreenshot.getPrimaryKey());
+
+		Map<Serializable, SCProductScreenshot> scProductScreenshots = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductScreenshots.size());
+		Assert.assertEquals(newSCProductScreenshot, scProductScreenshots.get(newSCProductScreenshot.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		scProductScreenshots = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductScreenshots.size());
+		Assert.assertEquals(newSCProductScreenshot, scProductScreenshots.get(newSCProductScreenshot.getPrimaryKey()));
+
+		scProductScreenshots = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(scProductScreenshots.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -179,6 +184,36 @@ public class SCProductVersionPersistenceTest {
 		Assert.assertNull(missingSCProductVersion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductVersion newSCProductVersion = addSCProductVersion();
+		SCProductVersion removedSCProductVersion = addSCProductVersion();
+
+		_persistence.remove(removedSCProductVersion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductVersion.getPrimaryKey());
+		primaryKeys.add(removedSCProductVersion.getPrimaryKey());
+
+		Map<Serializable, SCProductVersion> scProductVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductVersions.size());
+		Assert.assertEquals(newSCProductVersion, scProductVersions.get(newSCProductVersion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		scProductVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, scProductVersions.size());
+		Assert.assertEquals(newSCProductVersion, scProductVersions.get(newSCProductVersion.getPrimaryKey()));
+
+		scProductVersions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(scProductVersions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
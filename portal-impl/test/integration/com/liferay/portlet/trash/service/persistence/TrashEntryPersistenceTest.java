@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -168,6 +173,36 @@ public class TrashEntryPersistenceTest {
 		Assert.assertNull(missingTrashEntry);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		TrashEntry newTrashEntry = addTrashEntry();
+		TrashEntry removedTrashEntry = addTrashEntry();
+
+		_persistence.remove(removedTrashEntry);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newTrashEntry.getPrimaryKey());
+		primaryKeys.add(removedTrashEntry.getPrimaryKey());
+
+		Map<Serializable, TrashEntry> trashEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, trashEntries.size());
+		Assert.assertEquals(newTrashEntry, trashEntries.get(newTrashEntry.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		trashEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, trashEntries.size());
+		Assert.assertEquals(newTrashEntry, trashEntries.get(newTrashEntry.getPrimaryKey()));
+
+		trashEntries = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(trashEntries.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -33,7 +33,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,36 @@ public class TrashVersionPersistenceTest {
 		Assert.assertNull(missingTrashVersion);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		TrashVersion newTrashVersion = addTrashVersion();
+		TrashVersion removedTrashVersion = addTrashVersion();
+
+		_persistence.remove(removedTrashVersion);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newTrashVersion.getPrimaryKey());
+		primaryKeys.add(removedTrashVersion.getPrimaryKey());
+
+		Map<Serializable, TrashVersion> trashVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, trashVersions.size());
+		Assert.assertEquals(newTrashVersion, trashVersions.get(newTrashVersion.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		trashVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, trashVersions.size());
+		Assert.assertEquals(newTrashVersion, trashVersions.get(newTrashVersion.getPrimaryKey()));
+
+		trashVersions = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(trashVersions.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -37,7 +37,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -173,6 +178,36 @@ public class WikiNodePersistenceTest {
 		Assert.assertNull(missingWikiNode);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiNode newWikiNode = addWikiNode();
+		WikiNode removedWikiNode = addWikiNode();
+
+		_persistence.remove(removedWikiNode);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiNode.getPrimaryKey());
+		primaryKeys.add(removedWikiNode.getPrimaryKey());
+
+		Map<Serializable, WikiNode> wikiNodes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiNodes.size());
+		Assert.assertEquals(newWikiNode, wikiNodes.get(newWikiNode.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		wikiNodes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiNodes.size());
+		Assert.assertEquals(newWikiNode, wikiNodes.get(newWikiNode.getPrimaryKey()));
+
+		wikiNodes = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(wikiNodes.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
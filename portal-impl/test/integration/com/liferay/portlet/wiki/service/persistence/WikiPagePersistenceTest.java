@@ -38,7 +38,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -221,6 +226,36 @@ public class WikiPagePersistenceTest {
 		Assert.assertNull(missingWikiPage);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiPage newWikiPage = addWikiPage();
+		WikiPage removedWikiPage = addWikiPage();
+
+		_persistence.remove(removedWikiPage);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiPage.getPrimaryKey());
+		primaryKeys.add(removedWikiPage.getPrimaryKey());
+
+		Map<Serializable, WikiPage> wikiPages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiPages.size());
+		Assert.assertEquals(newWikiPage, wikiPages.get(newWikiPage.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		wikiPages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiPages.size());
+		Assert.assertEquals(newWikiPage, wikiPages.get(newWikiPage.getPrimaryKey()));
+
+		wikiPages = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(wikiPages.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
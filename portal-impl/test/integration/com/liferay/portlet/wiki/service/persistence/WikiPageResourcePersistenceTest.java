@@ -36,7 +36,12 @@ import org.junit.Test;
 
 import org.junit.runner.RunWith;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,36 @@ public class WikiPageResourcePersistenceTest {
 		Assert.assertNull(missingWikiPageResource);
 	}
 
+	@Test
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiPageResource newWikiPageResource = addWikiPageResource();
+		WikiPageResource removedWikiPageResource = addWikiPageResource();
+
+		_persistence.remove(removedWikiPageResource);
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiPageResource.getPrimaryKey());
+		primaryKeys.add(removedWikiPageResource.getPrimaryKey());
+
+		Map<Serializable, WikiPageResource> wikiPageResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiPageResources.size());
+		Assert.assertEquals(newWikiPageResource, wikiPageResources.get(newWikiPageResource.getPrimaryKey()));
+
+		// The second lookup is served from the entity cache, including the
+		// cached null model of the removed entity
+
+		wikiPageResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		Assert.assertEquals(1, wikiPageResources.size());
+		Assert.assertEquals(newWikiPageResource, wikiPageResources.get(newWikiPageResource.getPrimaryKey()));
+
+		wikiPageResources = _persistence.fetchByPrimaryKeys(new HashSet<Serializable>());
+
+		Assert.assertTrue(wikiPageResources.isEmpty());
+	}
+
 	@Test
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.counter.service.persistence;
+
+import com.liferay.counter.model.CounterHolder;
+import com.liferay.counter.model.CounterRegister;
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.util.PropsValues;
+
+public class CounterFinderImplTest extends TestCase {
+
+	public void testAdaptRangeSizeGrows() {
+		CounterRegister counterRegister = new CounterRegister(
+			"test", _counterHolder, 100);
+
+		// A range that lasted less than the refill interval doubles
+
+		adaptRangeSize(counterRegister, _REFILL_INTERVAL / 2);
+
+		assertEquals(200, counterRegister.getRangeSize());
+
+		adaptRangeSize(counterRegister, _REFILL_INTERVAL / 2);
+
+		assertEquals(400, counterRegister.getRangeSize());
+
+		// The range never grows beyond the maximum
+
+		for (int i = 0; i < 20; i++) {
+			adaptRangeSize(counterRegister, 0);
+		}
+
+		assertEquals(
+			PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX,
+			counterRegister.getRangeSize());
+	}
+
+	public void testAdaptRangeSizeKeepsBaseRangeSizeAboveMaximum() {
+		int baseRangeSize = PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX * 2;
+
+		CounterRegister counterRegister = new CounterRegister(
+			"test", _counterHolder, baseRangeSize);
+
+		adaptRangeSize(counterRegister, 0);
+
+		assertEquals(baseRangeSize, counterRegister.getRangeSize());
+	}
+
+	public void testAdaptRangeSizeKeepsPinnedCounters() {
+		CounterRegister counterRegister = new CounterRegister(
+			"test", _counterHolder, 1);
+
+		// Counters with an increment of 1 must never skip IDs
+
+		adaptRangeSize(counterRegister, 0);
+
+		assertEquals(1, counterRegister.getRangeSize());
+	}
+
+	public void testAdaptRangeSizeKeepsSteadyRanges() {
+		CounterRegister counterRegister = new CounterRegister(
+			"test", _counterHolder, 100);
+
+		counterRegister.setRangeSize(800);
+
+		adaptRangeSize(counterRegister, _REFILL_INTERVAL);
+		adaptRangeSize(counterRegister, _REFILL_INTERVAL * 4);
+
+		assertEquals(800, counterRegister.getRangeSize());
+	}
+
+	public void testAdaptRangeSizeShrinks() {
+		CounterRegister counterRegister = new CounterRegister(
+			"test", _counterHolder, 100);
+
+		counterRegister.setRangeSize(800);
+
+		// A range that lasted more than four refill intervals is halved
+
+		adaptRangeSize(counterRegister, _REFILL_INTERVAL * 4 + 1);
+
+		assertEquals(400, counterRegister.getRangeSize());
+
+		// The range never shrinks below the configured increment
+
+		for (int i = 0; i < 20; i++) {
+			adaptRangeSize(counterRegister, _REFILL_INTERVAL * 10);
+		}
+
+		assertEquals(100, counterRegister.getRangeSize());
+	}
+
+	protected void adaptRangeSize(
+		CounterRegister counterRegister, long allocationTime) {
+
+		_counterFinderImpl.adaptRangeSize(
+			counterRegister, _counterHolder,
+			_counterHolder.getCreateTime() + allocationTime);
+	}
+
+	private static final long _REFILL_INTERVAL =
+		PropsValues.COUNTER_ADAPTIVE_INCREMENT_REFILL_INTERVAL;
+
+	private CounterFinderImpl _counterFinderImpl = new CounterFinderImpl();
+	private CounterHolder _counterHolder = new CounterHolder(0, 100);
+
+}
@@ -0,0 +1,701 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.dao.orm.common;
+
+import com.liferay.portal.cache.key.SimpleCacheKeyGenerator;
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.CacheRegistry;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.key.CacheKeyGeneratorUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.SessionFactory;
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.service.persistence.UserGroupRolePK;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class EntityCacheImplTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		CacheRegistry cacheRegistry = Mockito.mock(CacheRegistry.class);
+
+		Mockito.when(
+			cacheRegistry.isActive()
+		).thenReturn(
+			true
+		);
+
+		CacheRegistryUtil.setCacheRegistry(cacheRegistry);
+
+		_entityCacheImpl = new EntityCacheImpl();
+
+		_entityCacheImpl.setMultiVMPool(newMultiVMPool());
+
+		_entityCacheImpl.clearLocalCache();
+	}
+
+	public void testGetResults() {
+		putResult(1L);
+		putResult(2L);
+
+		_entityCacheImpl.clearLocalCache();
+
+		Map<Serializable, Object> results = getResults(1L, 2L, 3L);
+
+		assertEquals(2, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertPrimaryKey(2L, results.get(2L));
+		assertFalse(results.containsKey(3L));
+
+		// All keys that missed the thread local cache are fetched with one
+		// bulk get
+
+		assertEquals(1, _bulkGetCount);
+		assertEquals(0, _getCount);
+	}
+
+	public void testGetResultsDisabled() {
+		putResult(1L);
+
+		Map<Serializable, Object> results = _entityCacheImpl.getResults(
+			false, TestEntity.class, Arrays.<Serializable>asList(1L));
+
+		assertTrue(results.isEmpty());
+
+		results = _entityCacheImpl.getResults(
+			true, TestEntity.class, Collections.<Serializable>emptyList());
+
+		assertTrue(results.isEmpty());
+		assertEquals(0, _bulkGetCount);
+	}
+
+	public void testGetResultsFromLocalCache() {
+		putResult(1L);
+		putResult(2L);
+
+		Map<Serializable, Object> results = getResults(1L, 2L);
+
+		assertEquals(2, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertPrimaryKey(2L, results.get(2L));
+		assertEquals(0, _bulkGetCount);
+	}
+
+	public void testGetResultsKnownMissing() {
+		putResult(1L);
+
+		// Loading an entity that does not exist remembers that it is missing
+
+		assertNull(
+			_entityCacheImpl.loadResult(
+				true, TestEntity.class, 2L, newQuerySessionFactory()));
+
+		_entityCacheImpl.clearLocalCache();
+
+		Map<Serializable, Object> results = getResults(1L, 2L, 3L);
+
+		assertEquals(2, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertSame(StringPool.BLANK, results.get(2L));
+		assertFalse(results.containsKey(3L));
+	}
+
+	public void testGetResultsMissesAreCachedLocally() {
+		putResult(1L);
+
+		_entityCacheImpl.clearLocalCache();
+
+		getResults(1L, 2L);
+
+		assertEquals(1, _bulkGetCount);
+
+		// Both the hit and the miss are remembered by the thread local cache
+
+		Map<Serializable, Object> results = getResults(1L, 2L);
+
+		assertEquals(1, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertEquals(1, _bulkGetCount);
+
+		assertPrimaryKey(
+			1L,
+			_entityCacheImpl.getResult(true, TestEntity.class, 1L));
+		assertNull(_entityCacheImpl.getResult(true, TestEntity.class, 2L));
+		assertEquals(0, _getCount);
+	}
+
+	public void testGetResultsWithUnalignedBulkGet() {
+		putResult(1L);
+
+		_entityCacheImpl.clearLocalCache();
+
+		// A portal cache that cannot align its values with the keys is
+		// treated as if it missed every key
+
+		_alignBulkGet = false;
+
+		Map<Serializable, Object> results = getResults(1L, 2L);
+
+		assertTrue(results.isEmpty());
+		assertEquals(1, _bulkGetCount);
+	}
+
+	public void testLoadResultInTransaction() throws Exception {
+		final CountDownLatch blockLatch = new CountDownLatch(1);
+		final CountDownLatch loadingLatch = new CountDownLatch(1);
+
+		final SessionFactory sessionFactory = newSessionFactory(
+			blockLatch, loadingLatch);
+
+		FutureTask<Object> futureTask = new FutureTask<Object>(
+			new Callable<Object>() {
+
+				public Object call() {
+					return _entityCacheImpl.loadResult(
+						true, TestEntity.class, 1L, sessionFactory);
+				}
+
+			});
+
+		Thread thread = new Thread(futureTask);
+
+		thread.start();
+
+		assertTrue(loadingLatch.await(10, TimeUnit.SECONDS));
+
+		// A thread in a transaction neither waits for nor shares the load of
+		// another thread
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+			BaseModel<?> baseModel = (BaseModel<?>)_entityCacheImpl.loadResult(
+				true, TestEntity.class, 1L, sessionFactory);
+
+			assertEquals(1L, baseModel.getPrimaryKeyObj());
+		}
+		finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertEquals(2, _loadCount.get());
+
+		blockLatch.countDown();
+
+		assertNotNull(futureTask.get(10, TimeUnit.SECONDS));
+	}
+
+	public void testLoadResults() {
+		putResult(1L);
+
+		_entityCacheImpl.clearLocalCache();
+
+		SessionFactory sessionFactory = newQuerySessionFactory(1L, 2L, 3L);
+
+		Map<Serializable, Object> results = loadResults(
+			sessionFactory, 3L, 1L, 2L);
+
+		assertEquals(3, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertLoadedPrimaryKey(2L, results.get(2L));
+		assertLoadedPrimaryKey(3L, results.get(3L));
+
+		// Only the keys that missed the entity cache are queried, in the
+		// order they were asked for
+
+		assertEquals(1, _queries.size());
+		assertEquals(
+			"SELECT entity FROM " + TestEntity.class.getName() +
+				" entity WHERE entity.id IN (?,?)",
+			_queries.get(0));
+		assertEquals(Arrays.<Object>asList(3L, 2L), _queryParameters.get(0));
+
+		// The loaded entities are cached
+
+		_entityCacheImpl.clearLocalCache();
+
+		assertEquals(3, getResults(1L, 2L, 3L).size());
+	}
+
+	public void testLoadResultsForFinderList() {
+		FinderCacheImpl finderCacheImpl = newFinderCacheImpl();
+
+		FinderPath finderPath = new FinderPath(
+			true, true, TestEntity.class, TestEntity.class.getName() + ".List1",
+			"findByG", new String[] {Long.class.getName()});
+
+		finderCacheImpl.putResult(
+			finderPath, new Object[] {1L},
+			Arrays.asList(newModel(3L), newModel(1L), newModel(2L)));
+
+		// The query returns the rows in another order than the finder did
+
+		List<?> list = (List<?>)finderCacheImpl.getResult(
+			finderPath, new Object[] {1L}, newQuerySessionFactory(1L, 2L, 3L));
+
+		assertEquals(3, list.size());
+		assertLoadedPrimaryKey(3L, list.get(0));
+		assertLoadedPrimaryKey(1L, list.get(1));
+		assertLoadedPrimaryKey(2L, list.get(2));
+		assertEquals(1, _queries.size());
+	}
+
+	public void testLoadResultsForMappingTableFinder() {
+
+		// A mapping table finder is cached under the mapping table and is
+		// called with the session factory of the other entity
+
+		FinderCacheImpl finderCacheImpl = newFinderCacheImpl();
+
+		FinderPath finderPath = new FinderPath(
+			true, true, TestEntity.class, "Users_TestEntities",
+			"getTestEntities", new String[] {Long.class.getName()});
+
+		finderCacheImpl.putResult(
+			finderPath, new Object[] {1L},
+			Arrays.asList(newModel(1L), newModel(2L)));
+
+		List<?> list = (List<?>)finderCacheImpl.getResult(
+			finderPath, new Object[] {1L}, newQuerySessionFactory(1L, 2L));
+
+		assertEquals(2, list.size());
+		assertLoadedPrimaryKey(1L, list.get(0));
+		assertLoadedPrimaryKey(2L, list.get(1));
+
+		// The entities are queried by the result class
+
+		assertEquals(1, _queries.size());
+		assertEquals(
+			"SELECT entity FROM " + TestEntity.class.getName() +
+				" entity WHERE entity.id IN (?,?)",
+			_queries.get(0));
+	}
+
+	public void testLoadResultsInBatches() {
+		Serializable[] primaryKeys = new Serializable[1001];
+
+		for (int i = 0; i < primaryKeys.length; i++) {
+			primaryKeys[i] = Long.valueOf(i + 1);
+		}
+
+		Map<Serializable, Object> results = loadResults(
+			newQuerySessionFactory(primaryKeys), primaryKeys);
+
+		assertEquals(1001, results.size());
+		assertLoadedPrimaryKey(1001L, results.get(1001L));
+
+		// Each query has at most 1000 keys, and all queries share a session
+
+		assertEquals(2, _queries.size());
+		assertEquals(1000, _queryParameters.get(0).size());
+		assertEquals(
+			Arrays.<Object>asList(1001L), _queryParameters.get(1));
+		assertEquals(1, _openSessionCount);
+	}
+
+	public void testLoadResultsWithCompoundPrimaryKeys() {
+		Map<Serializable, Object> results = _entityCacheImpl.loadResults(
+			true, TestEntity.class,
+			Arrays.<Serializable>asList(1L, new UserGroupRolePK(1, 2, 3)),
+			newQuerySessionFactory(1L));
+
+		// The caller falls back to loadResult for each key
+
+		assertTrue(results.isEmpty());
+		assertEquals(0, _bulkGetCount);
+		assertEquals(0, _openSessionCount);
+	}
+
+	public void testLoadResultsWithKnownMissing() {
+		putResult(1L);
+
+		assertNull(
+			_entityCacheImpl.loadResult(
+				true, TestEntity.class, 2L, newQuerySessionFactory()));
+
+		_entityCacheImpl.clearLocalCache();
+
+		Map<Serializable, Object> results = loadResults(
+			newQuerySessionFactory(3L), 1L, 2L, 3L);
+
+		assertEquals(2, results.size());
+		assertPrimaryKey(1L, results.get(1L));
+		assertFalse(results.containsKey(2L));
+		assertLoadedPrimaryKey(3L, results.get(3L));
+
+		// The entity that is known to be missing is not queried again
+
+		assertEquals(1, _queries.size());
+		assertEquals(Arrays.<Object>asList(3L), _queryParameters.get(0));
+	}
+
+	public void testLoadResultsWithMissingRows() {
+		Map<Serializable, Object> results = loadResults(
+			newQuerySessionFactory(1L), 1L, 2L);
+
+		assertEquals(1, results.size());
+		assertLoadedPrimaryKey(1L, results.get(1L));
+		assertFalse(results.containsKey(2L));
+
+		// The thread local cache does not keep a miss for the key the query
+		// did not return, so the entity cache is asked for it again
+
+		_getCount = 0;
+
+		assertNull(_entityCacheImpl.getResult(true, TestEntity.class, 2L));
+		assertEquals(1, _getCount);
+	}
+
+	protected void assertLoadedPrimaryKey(
+		Serializable primaryKey, Object result) {
+
+		assertNotNull(result);
+
+		BaseModel<?> baseModel = (BaseModel<?>)result;
+
+		assertEquals(primaryKey, baseModel.getPrimaryKeyObj());
+	}
+
+	protected void assertPrimaryKey(Serializable primaryKey, Object result) {
+		assertNotNull(result);
+
+		BaseModel<?> baseModel = (BaseModel<?>)result;
+
+		assertEquals(primaryKey, baseModel.getPrimaryKeyObj());
+		assertTrue(baseModel.isCachedModel());
+	}
+
+	protected Map<Serializable, Object> getResults(
+		Serializable... primaryKeys) {
+
+		return _entityCacheImpl.getResults(
+			true, TestEntity.class, Arrays.asList(primaryKeys));
+	}
+
+	protected Map<Serializable, Object> loadResults(
+		SessionFactory sessionFactory, Serializable... primaryKeys) {
+
+		return _entityCacheImpl.loadResults(
+			true, TestEntity.class, Arrays.asList(primaryKeys),
+			sessionFactory);
+	}
+
+	protected FinderCacheImpl newFinderCacheImpl() {
+		new CacheKeyGeneratorUtil().setDefaultCacheKeyGenerator(
+			new SimpleCacheKeyGenerator());
+
+		new EntityCacheUtil().setEntityCache(_entityCacheImpl);
+
+		FinderCacheImpl finderCacheImpl = new FinderCacheImpl();
+
+		finderCacheImpl.setMultiVMPool(newMultiVMPool());
+
+		finderCacheImpl.clearLocalCache();
+
+		return finderCacheImpl;
+	}
+
+	protected Object newModel(Serializable primaryKey) {
+		final TestEntityCacheModel testEntityCacheModel = Mockito.mock(
+			TestEntityCacheModel.class);
+
+		Mockito.when(
+			testEntityCacheModel.getPrimaryKeyObj()
+		).thenReturn(
+			primaryKey
+		);
+
+		Mockito.when(
+			testEntityCacheModel.toCacheModel()
+		).thenReturn(
+			testEntityCacheModel
+		);
+
+		Mockito.when(
+			testEntityCacheModel.toEntityModel()
+		).thenReturn(
+			testEntityCacheModel
+		);
+
+		final AtomicBoolean cachedModel = new AtomicBoolean();
+
+		Mockito.when(
+			testEntityCacheModel.isCachedModel()
+		).thenAnswer(
+			new Answer<Boolean>() {
+
+				public Boolean answer(InvocationOnMock invocationOnMock) {
+					return cachedModel.get();
+				}
+
+			}
+		);
+
+		Mockito.doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					cachedModel.set((Boolean)arguments[0]);
+
+					return null;
+				}
+
+			}
+		).when(
+			testEntityCacheModel
+		).setCachedModel(
+			Matchers.anyBoolean()
+		);
+
+		return testEntityCacheModel;
+	}
+
+	protected MultiVMPool newMultiVMPool() {
+		MultiVMPool multiVMPool = Mockito.mock(MultiVMPool.class);
+
+		Mockito.when(
+			multiVMPool.getCache(Matchers.anyString(), Matchers.anyBoolean())
+		).thenReturn(
+			_portalCache
+		);
+
+		return multiVMPool;
+	}
+
+	protected Query newQuery(final Set<Serializable> rows) {
+		final List<Object> parameters = new ArrayList<Object>();
+
+		_queryParameters.add(parameters);
+
+		final Query query = Mockito.mock(Query.class);
+
+		Mockito.when(
+			query.setLong(Matchers.anyInt(), Matchers.anyLong())
+		).thenAnswer(
+			new Answer<Query>() {
+
+				public Query answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					parameters.add(arguments[1]);
+
+					return query;
+				}
+
+			}
+		);
+
+		Mockito.when(
+			query.list()
+		).thenAnswer(
+			new Answer<List<Object>>() {
+
+				public List<Object> answer(InvocationOnMock invocationOnMock) {
+
+					// The rows come back in the reverse order of the keys
+
+					List<Object> list = new ArrayList<Object>();
+
+					for (int i = parameters.size() - 1; i >= 0; i--) {
+						Serializable primaryKey =
+							(Serializable)parameters.get(i);
+
+						if (rows.contains(primaryKey)) {
+							list.add(newModel(primaryKey));
+						}
+					}
+
+					return list;
+				}
+
+			}
+		);
+
+		return query;
+	}
+
+	protected SessionFactory newQuerySessionFactory(
+		Serializable... rowPrimaryKeys) {
+
+		final Set<Serializable> rows = new HashSet<Serializable>(
+			Arrays.asList(rowPrimaryKeys));
+
+		Session session = Mockito.mock(Session.class);
+
+		Mockito.when(
+			session.createQuery(Matchers.anyString())
+		).thenAnswer(
+			new Answer<Query>() {
+
+				public Query answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					_queries.add((String)arguments[0]);
+
+					return newQuery(rows);
+				}
+
+			}
+		);
+
+		return newSessionFactory(session);
+	}
+
+	protected SessionFactory newSessionFactory(
+		final CountDownLatch blockLatch, final CountDownLatch loadingLatch) {
+
+		final Thread mainThread = Thread.currentThread();
+
+		Session session = Mockito.mock(Session.class);
+
+		Mockito.when(
+			session.load(
+				Matchers.any(Class.class), Matchers.any(Serializable.class))
+		).thenAnswer(
+			new Answer<Object>() {
+
+				public Object answer(InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					_loadCount.incrementAndGet();
+
+					// Only the load of the other thread blocks
+
+					if (Thread.currentThread() != mainThread) {
+						loadingLatch.countDown();
+
+						blockLatch.await();
+					}
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return newModel((Serializable)arguments[1]);
+				}
+
+			}
+		);
+
+		return newSessionFactory(session);
+	}
+
+	protected SessionFactory newSessionFactory(final Session session) {
+		SessionFactory sessionFactory = Mockito.mock(SessionFactory.class);
+
+		Mockito.when(
+			sessionFactory.openSession()
+		).thenAnswer(
+			new Answer<Session>() {
+
+				public Session answer(InvocationOnMock invocationOnMock) {
+					_openSessionCount++;
+
+					return session;
+				}
+
+			}
+		);
+
+		return sessionFactory;
+	}
+
+	protected void putResult(Serializable primaryKey) {
+		_entityCacheImpl.putResult(
+			true, TestEntity.class, primaryKey, newModel(primaryKey));
+	}
+
+	private boolean _alignBulkGet = true;
+	private int _bulkGetCount;
+	private EntityCacheImpl _entityCacheImpl;
+	private int _getCount;
+	private AtomicInteger _loadCount = new AtomicInteger();
+	private int _openSessionCount;
+	private TestPortalCache _portalCache = new TestPortalCache();
+	private List<String> _queries = new ArrayList<String>();
+	private List<List<Object>> _queryParameters = new ArrayList<List<Object>>();
+
+	private interface TestEntity extends BaseModel<TestEntity> {
+	}
+
+	private interface TestEntityCacheModel
+		extends CacheModel<TestEntity>, TestEntity {
+	}
+
+	private class TestPortalCache extends MemoryPortalCache {
+
+		public TestPortalCache() {
+			super(TestEntity.class.getName(), 16);
+		}
+
+		@Override
+		public Collection<Object> get(Collection<Serializable> keys) {
+			_bulkGetCount++;
+
+			if (!_alignBulkGet) {
+				return Collections.emptyList();
+			}
+
+			List<Object> values = new ArrayList<Object>(keys.size());
+
+			for (Serializable key : keys) {
+				values.add(super.get(key));
+			}
+
+			return values;
+		}
+
+		@Override
+		public Object get(Serializable key) {
+			_getCount++;
+
+			return super.get(key);
+		}
+
+	}
+
+}
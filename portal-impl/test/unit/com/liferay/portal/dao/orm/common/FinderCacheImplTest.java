@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.dao.orm.common;
+
+import com.liferay.portal.cache.key.SimpleCacheKeyGenerator;
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.CacheRegistry;
+import com.liferay.portal.kernel.cache.CacheRegistryUtil;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.key.CacheKeyGeneratorUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class FinderCacheImplTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		CacheRegistry cacheRegistry = Mockito.mock(CacheRegistry.class);
+
+		Mockito.when(
+			cacheRegistry.isActive()
+		).thenReturn(
+			true
+		);
+
+		CacheRegistryUtil.setCacheRegistry(cacheRegistry);
+
+		new CacheKeyGeneratorUtil().setDefaultCacheKeyGenerator(
+			new SimpleCacheKeyGenerator());
+
+		_countAll = new FinderPath(
+			true, true, Long.class, "Test.List2", "countAll", new String[0]);
+		_countByG = new FinderPath(
+			true, true, Long.class, "Test.List2", "countByG",
+			new String[] {Long.class.getName()}, -1, 1);
+		_countByS = new FinderPath(
+			true, true, Long.class, "Test.List2", "countByS",
+			new String[] {String.class.getName()}, -1, 1);
+		_findAll = new FinderPath(
+			true, true, Long.class, _CACHE_NAME, "findAll", new String[0]);
+		_findByG = new FinderPath(
+			true, true, Long.class, _CACHE_NAME, "findByG",
+			new String[] {
+				Long.class.getName(), Integer.class.getName(),
+				Integer.class.getName()
+			},
+			-1, 1);
+
+		_finderCacheImpl = new FinderCacheImpl();
+
+		MultiVMPool multiVMPool = Mockito.mock(MultiVMPool.class);
+
+		Mockito.when(
+			multiVMPool.getCache(Matchers.anyString(), Matchers.anyBoolean())
+		).thenAnswer(
+			new Answer<PortalCache>() {
+
+				public PortalCache answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return newPortalCache((String)arguments[0]);
+				}
+
+			}
+		);
+
+		_finderCacheImpl.setMultiVMPool(multiVMPool);
+
+		_finderCacheImpl.clearLocalCache();
+
+		_getCount = 0;
+	}
+
+	public void testClearCache() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+
+		_finderCacheImpl.clearCache(_CACHE_NAME);
+
+		assertNull(getResult(_findByG, 1L, 0, 10));
+	}
+
+	public void testEvictedTagInvalidatesResults() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findAll, new Object[0], 2L);
+
+		// The cache may evict the tags independently of the results, and
+		// that is only seen by later requests
+
+		_finderCacheImpl.clearLocalCache();
+
+		TestPortalCache testPortalCache = _portalCaches.get(
+			FinderCacheImpl.CACHE_NAME + StringPool.PERIOD + _CACHE_NAME);
+
+		testPortalCache.removeTags();
+
+		assertNull(getResult(_findByG, 1L, 0, 10));
+		assertNull(getResult(_findAll));
+
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 3L);
+
+		assertEquals(3L, getResult(_findByG, 1L, 0, 10));
+	}
+
+	public void testGetResultLooksUpTagOnce() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 10, 20}, 2L);
+
+		_finderCacheImpl.clearLocalCache();
+
+		_getCount = 0;
+
+		// The first result of a tag looks up the result and the tag
+
+		assertEquals(1L, getResult(_findByG, 1L, 0, 10));
+		assertEquals(2, _getCount);
+
+		// Later results of the same tag only look up the result
+
+		assertEquals(2L, getResult(_findByG, 1L, 10, 20));
+		assertEquals(3, _getCount);
+
+		// Results in the thread level cache are not looked up at all
+
+		assertEquals(1L, getResult(_findByG, 1L, 0, 10));
+		assertEquals(3, _getCount);
+	}
+
+	public void testNullTagValueMatchesBlank() {
+		_finderCacheImpl.putResult(
+			_countByS, new Object[] {StringPool.BLANK}, 1L);
+
+		_finderCacheImpl.removeResults(_countByS, new Object[] {null});
+
+		assertNull(getResult(_countByS, StringPool.BLANK));
+	}
+
+	public void testRemoveResultsEvictsOnlyItsTag() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 10, 20}, 2L);
+		_finderCacheImpl.putResult(_findByG, new Object[] {2L, 0, 10}, 3L);
+		_finderCacheImpl.putResult(_countByG, new Object[] {1L}, 4L);
+		_finderCacheImpl.putResult(_findAll, new Object[0], 5L);
+
+		_finderCacheImpl.removeResults(_findByG, new Object[] {1L});
+
+		assertNull(getResult(_findByG, 1L, 0, 10));
+		assertNull(getResult(_findByG, 1L, 10, 20));
+		assertEquals(3L, getResult(_findByG, 2L, 0, 10));
+		assertEquals(5L, getResult(_findAll));
+
+		// Tags are scoped to the cache name of the finder path
+
+		assertEquals(4L, getResult(_countByG, 1L));
+
+		_finderCacheImpl.removeResults(_countByG, new Object[] {1L});
+
+		assertNull(getResult(_countByG, 1L));
+
+		// Results stored after the removal use the new tag
+
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 6L);
+
+		assertEquals(6L, getResult(_findByG, 1L, 0, 10));
+	}
+
+	public void testRemoveResultsEvictsOnlyLocalResultsOfItsTag() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findByG, new Object[] {2L, 0, 10}, 2L);
+		_finderCacheImpl.putResult(_findAll, new Object[0], 3L);
+
+		// Only the thread level cache is left to serve the results
+
+		_clearPortalCaches();
+
+		_finderCacheImpl.removeResults(_findByG, new Object[] {1L});
+
+		assertNull(getResult(_findByG, 1L, 0, 10));
+		assertEquals(2L, getResult(_findByG, 2L, 0, 10));
+		assertEquals(3L, getResult(_findAll));
+	}
+
+	public void testRemoveUntaggedResults() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findAll, new Object[0], 2L);
+
+		_finderCacheImpl.removeUntaggedResults(_CACHE_NAME);
+
+		assertNull(getResult(_findAll));
+		assertEquals(1L, getResult(_findByG, 1L, 0, 10));
+
+		_finderCacheImpl.putResult(_findAll, new Object[0], 3L);
+
+		assertEquals(3L, getResult(_findAll));
+	}
+
+	public void testRemoveUntaggedResultsEvictsOnlyLocalResultsOfItsCache() {
+		_finderCacheImpl.putResult(_findByG, new Object[] {1L, 0, 10}, 1L);
+		_finderCacheImpl.putResult(_findAll, new Object[0], 2L);
+		_finderCacheImpl.putResult(_countAll, new Object[0], 3L);
+
+		_clearPortalCaches();
+
+		// The untagged results of every cache share the same tag key
+
+		_finderCacheImpl.removeUntaggedResults(_CACHE_NAME);
+
+		assertNull(getResult(_findAll));
+		assertEquals(1L, getResult(_findByG, 1L, 0, 10));
+		assertEquals(3L, getResult(_countAll));
+	}
+
+	protected Object getResult(FinderPath finderPath, Object... args) {
+		return _finderCacheImpl.getResult(finderPath, args, null);
+	}
+
+	protected PortalCache newPortalCache(String name) {
+		TestPortalCache testPortalCache = _portalCaches.get(name);
+
+		if (testPortalCache == null) {
+			testPortalCache = new TestPortalCache(name);
+
+			_portalCaches.put(name, testPortalCache);
+		}
+
+		return testPortalCache;
+	}
+
+	private void _clearPortalCaches() {
+		for (TestPortalCache testPortalCache : _portalCaches.values()) {
+			testPortalCache.removeAll();
+		}
+	}
+
+	private static final String _CACHE_NAME = "Test.List1";
+
+	private FinderPath _countAll;
+	private FinderPath _countByG;
+	private FinderPath _countByS;
+	private FinderCacheImpl _finderCacheImpl;
+	private FinderPath _findAll;
+	private FinderPath _findByG;
+	private int _getCount;
+	private Map<String, TestPortalCache> _portalCaches =
+		new HashMap<String, TestPortalCache>();
+
+	private class TestPortalCache extends MemoryPortalCache {
+
+		public TestPortalCache(String name) {
+			super(name, 16);
+		}
+
+		@Override
+		public Object get(Serializable key) {
+			_getCount++;
+
+			return super.get(key);
+		}
+
+		@Override
+		public void remove(Serializable key) {
+			_keys.remove(key);
+
+			super.remove(key);
+		}
+
+		@Override
+		public void removeAll() {
+			_keys.clear();
+
+			super.removeAll();
+		}
+
+		public void removeTags() {
+			for (Serializable key : new ArrayList<Serializable>(_keys)) {
+				if (super.get(key) instanceof Long) {
+					remove(key);
+				}
+			}
+		}
+
+		@Override
+		protected void notifyPutEvents(
+			Serializable key, Object value, boolean updated) {
+
+			_keys.add(key);
+
+			super.notifyPutEvents(key, value, updated);
+		}
+
+		private Set<Serializable> _keys = new HashSet<Serializable>();
+
+	}
+
+}
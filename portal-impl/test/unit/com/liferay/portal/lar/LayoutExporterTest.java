@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.lar;
+
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManager;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.lar.PortletDataContext;
+import com.liferay.portal.kernel.util.KeyValuePair;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.Element;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+import com.liferay.portal.xml.SAXReaderImpl;
+import com.liferay.portlet.messageboards.model.MBMessage;
+import com.liferay.portlet.ratings.model.RatingsEntry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class LayoutExporterTest extends PowerMockito {
+
+	@Before
+	public void setUp() throws Exception {
+		new SAXReaderUtil().setSAXReader(SAXReaderImpl.getInstance());
+
+		_threadPoolExecutor = new ThreadPoolExecutor(2, 2) {
+
+			@Override
+			public void execute(Runnable runnable) {
+				super.execute(runnable);
+
+				if (_startedSemaphore != null) {
+					_startedSemaphore.acquireUninterruptibly();
+				}
+			}
+
+		};
+
+		PortalExecutorManager portalExecutorManager = mock(
+			PortalExecutorManager.class);
+
+		when(
+			portalExecutorManager.getPortalExecutor(Matchers.anyString())
+		).thenReturn(
+			_threadPoolExecutor
+		);
+
+		new PortalExecutorManagerUtil().setPortalExecutorManager(
+			portalExecutorManager);
+	}
+
+	@After
+	public void tearDown() {
+		_threadPoolExecutor.shutdownNow();
+	}
+
+	@Test
+	public void testExportPortletsInParallel() throws Exception {
+		List<Object[]> portletObjectsList = new ArrayList<Object[]>();
+
+		portletObjectsList.add(_newPortletObjects("1", 10));
+		portletObjectsList.add(_newPortletObjects("2", 10));
+		portletObjectsList.add(_newPortletObjects("1", 20));
+		portletObjectsList.add(_newPortletObjects("3", 10));
+		portletObjectsList.add(_newPortletObjects("2", 20));
+
+		PortletDataContext portletDataContext = _newPortletDataContext();
+
+		Document document = SAXReaderUtil.createDocument();
+
+		Element portletsElement = document.addElement("portlets");
+
+		_layoutExporter.exportPortletsInParallel(
+			portletDataContext, portletObjectsList, portletsElement, 0, true,
+			true, true);
+
+		// The portlets and the data they collect match a sequential export
+
+		PortletDataContext sequentialPortletDataContext =
+			_newPortletDataContext();
+
+		Document sequentialDocument = SAXReaderUtil.createDocument();
+
+		Element sequentialPortletsElement = sequentialDocument.addElement(
+			"portlets");
+
+		_layoutExporter.exportPortlets(
+			sequentialPortletDataContext, new LayoutCache(), portletObjectsList,
+			sequentialPortletsElement, 0, true, true, true);
+
+		Assert.assertEquals(
+			sequentialPortletsElement.asXML(), portletsElement.asXML());
+
+		Assert.assertEquals(5, portletDataContext.getComments().size());
+		Assert.assertEquals(
+			sequentialPortletDataContext.getComments().keySet(),
+			portletDataContext.getComments().keySet());
+		Assert.assertEquals(
+			sequentialPortletDataContext.getPermissions().keySet(),
+			portletDataContext.getPermissions().keySet());
+		Assert.assertEquals(
+			sequentialPortletDataContext.getRatingsEntries().keySet(),
+			portletDataContext.getRatingsEntries().keySet());
+	}
+
+	@Test
+	public void testExportPortletsInParallelWithFailure() throws Exception {
+		List<Object[]> portletObjectsList = new ArrayList<Object[]>();
+
+		portletObjectsList.add(_newPortletObjects(_SLOW_PORTLET_ID, 10));
+		portletObjectsList.add(_newPortletObjects(_FAILING_PORTLET_ID, 10));
+
+		// Each portlet starts on an executor thread before the next one is
+		// submitted, so that none of them runs on the current thread where
+		// it cannot be interrupted
+
+		_startedSemaphore = new Semaphore(0);
+
+		Document document = SAXReaderUtil.createDocument();
+
+		Element portletsElement = document.addElement("portlets");
+
+		try {
+			_layoutExporter.exportPortletsInParallel(
+				_newPortletDataContext(), portletObjectsList, portletsElement,
+				0, true, true, true);
+
+			Assert.fail();
+		}
+		catch (IllegalStateException ise) {
+			Assert.assertEquals(_FAILING_PORTLET_ID, ise.getMessage());
+		}
+
+		// The slow portlet was interrupted, and it finished before the
+		// failure was thrown
+
+		Assert.assertTrue(_slowPortletInterrupted);
+		Assert.assertTrue(_slowPortletFinished);
+
+		Assert.assertTrue(portletsElement.elements().isEmpty());
+	}
+
+	private PortletDataContext _newPortletDataContext() throws Exception {
+		return new PortletDataContextImpl(
+			1, 2, new HashMap<String, String[]>(),
+			new ConcurrentHashSet<String>(), null, null, null);
+	}
+
+	private Object[] _newPortletObjects(String portletId, long plid) {
+		return new Object[] {
+			portletId, plid, 2L, StringPool.BLANK, StringPool.BLANK
+		};
+	}
+
+	private static final String _FAILING_PORTLET_ID = "failing";
+
+	private static final String _SLOW_PORTLET_ID = "slow";
+
+	private TestLayoutExporter _layoutExporter = new TestLayoutExporter();
+	private volatile boolean _slowPortletFinished;
+	private volatile boolean _slowPortletInterrupted;
+	private volatile Semaphore _startedSemaphore;
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	private class TestLayoutExporter extends LayoutExporter {
+
+		@Override
+		protected void exportPortlets(
+				PortletDataContext portletDataContext, LayoutCache layoutCache,
+				Collection<Object[]> portletObjectsList,
+				Element portletsElement, long defaultUserId,
+				boolean exportPermissions, boolean exportPortletArchivedSetups,
+				boolean exportPortletUserPreferences)
+			throws Exception {
+
+			for (Object[] portletObjects : portletObjectsList) {
+				String portletId = (String)portletObjects[0];
+				long plid = (Long)portletObjects[1];
+
+				if (_startedSemaphore != null) {
+					_startedSemaphore.release();
+				}
+
+				if (portletId.equals(_FAILING_PORTLET_ID)) {
+					throw new IllegalStateException(portletId);
+				}
+				else if (portletId.equals(_SLOW_PORTLET_ID)) {
+					_exportSlowPortlet();
+				}
+
+				Element portletElement = portletsElement.addElement("portlet");
+
+				portletElement.addAttribute("portlet-id", portletId);
+				portletElement.addAttribute("plid", String.valueOf(plid));
+
+				portletDataContext.addComments(
+					portletId, plid, Collections.<MBMessage>emptyList());
+				portletDataContext.addPermissions(
+					portletId, plid, Collections.<KeyValuePair>emptyList());
+				portletDataContext.addRatingsEntries(
+					portletId, plid, Collections.<RatingsEntry>emptyList());
+			}
+		}
+
+		private void _exportSlowPortlet() throws Exception {
+			try {
+				Thread.sleep(10000);
+			}
+			catch (InterruptedException ie) {
+				_slowPortletInterrupted = true;
+
+				// Still busy for a while after the interruption
+
+				Thread.sleep(100);
+
+				throw ie;
+			}
+			finally {
+				_slowPortletFinished = true;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.lar;
+
+import com.liferay.portal.kernel.lar.PortletDataContext;
+import com.liferay.portal.kernel.xml.Element;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portal.service.PortletLocalServiceUtil;
+import com.liferay.portal.service.persistence.LayoutUtil;
+import com.liferay.portal.xml.SAXReaderImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@PowerMockIgnore("javax.xml.*")
+@PrepareForTest({LayoutUtil.class, PortletLocalServiceUtil.class})
+@RunWith(PowerMockRunner.class)
+public class LayoutImporterTest extends PowerMockito {
+
+	@Before
+	public void setUp() throws Exception {
+		new SAXReaderUtil().setSAXReader(SAXReaderImpl.getInstance());
+
+		mockStatic(LayoutUtil.class);
+		mockStatic(PortletLocalServiceUtil.class);
+
+		when(
+			_portletDataContext.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+	}
+
+	@Test
+	public void testGetPortletImports() throws Exception {
+		addPortlet("active", 1, true);
+		addPortlet("inactive", 2, false);
+		addPortlet("missing", 3, true);
+
+		Layout layout1 = addLayout(1, 101, true);
+
+		addLayout(2, 102, true);
+		addLayout(3, 103, false);
+
+		when(
+			_portletDataContext.getZipEntryAsString("/active.xml")
+		).thenReturn(
+			"<portlet><portlet-data path=\"/active-data.xml\" /></portlet>"
+		);
+
+		List<Object[]> portletImports = _layoutImporter.getPortletImports(
+			_portletDataContext, _zipReader, _newLayoutsMap,
+			_portletElements);
+
+		Assert.assertEquals(1, portletImports.size());
+
+		Object[] portletImport = portletImports.get(0);
+
+		Assert.assertEquals("active", portletImport[0]);
+		Assert.assertSame(layout1, portletImport[1]);
+		Assert.assertEquals(1001L, portletImport[2]);
+
+		Element portletElement = (Element)portletImport[3];
+
+		Assert.assertEquals("portlet", portletElement.getName());
+		Assert.assertNotNull(portletElement.element("portlet-data"));
+
+		Mockito.verify(
+			_zipReader
+		).prefetch(
+			"/active.xml"
+		);
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).prefetch(
+			Matchers.anyString()
+		);
+
+		Mockito.verify(
+			_portletDataContext, Mockito.times(1)
+		).getZipEntryAsString(
+			Matchers.anyString()
+		);
+	}
+
+	@Test
+	public void testPrefetchPortletData() throws Exception {
+		List<Object[]> portletImports = new ArrayList<Object[]>();
+
+		for (int i = 0; i < 4; i++) {
+			Element portletElement = SAXReaderUtil.createElement("portlet");
+
+			if (i != 2) {
+				Element portletDataElement = portletElement.addElement(
+					"portlet-data");
+
+				portletDataElement.addAttribute("path", "/data" + i + ".xml");
+			}
+
+			portletImports.add(new Object[] {null, null, null, portletElement});
+		}
+
+		_layoutImporter.prefetchPortletData(_zipReader, portletImports, 1, 5);
+
+		Mockito.verify(
+			_zipReader
+		).prefetch(
+			"/data1.xml"
+		);
+
+		Mockito.verify(
+			_zipReader
+		).prefetch(
+			"/data3.xml"
+		);
+
+		Mockito.verify(
+			_zipReader, Mockito.times(2)
+		).prefetch(
+			Matchers.anyString()
+		);
+	}
+
+	protected Layout addLayout(long layoutId, long plid, boolean exists)
+		throws Exception {
+
+		Layout layout = Mockito.mock(Layout.class);
+
+		when(
+			layout.getPlid()
+		).thenReturn(
+			plid
+		);
+
+		_newLayoutsMap.put(layoutId, layout);
+
+		when(
+			LayoutUtil.fetchByPrimaryKey(plid)
+		).thenReturn(
+			exists ? layout : null
+		);
+
+		return layout;
+	}
+
+	protected void addPortlet(String portletId, long layoutId, boolean active)
+		throws Exception {
+
+		Element portletElement = SAXReaderUtil.createElement("portlet");
+
+		portletElement.addAttribute("portlet-id", portletId);
+		portletElement.addAttribute("layout-id", String.valueOf(layoutId));
+		portletElement.addAttribute(
+			"old-plid", String.valueOf(layoutId + 1000));
+		portletElement.addAttribute("path", "/" + portletId + ".xml");
+
+		_portletElements.add(portletElement);
+
+		Portlet portlet = Mockito.mock(Portlet.class);
+
+		when(
+			portlet.isActive()
+		).thenReturn(
+			active
+		);
+
+		when(
+			PortletLocalServiceUtil.getPortletById(_COMPANY_ID, portletId)
+		).thenReturn(
+			portlet
+		);
+	}
+
+	private static final long _COMPANY_ID = 1;
+
+	private LayoutImporter _layoutImporter = new LayoutImporter();
+	private Map<Long, Layout> _newLayoutsMap = new HashMap<Long, Layout>();
+	private PortletDataContext _portletDataContext = Mockito.mock(
+		PortletDataContext.class);
+	private List<Element> _portletElements = new ArrayList<Element>();
+	private PrefetchZipReader _zipReader = Mockito.mock(
+		PrefetchZipReader.class);
+
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.lar;
+
+import com.liferay.portal.kernel.zip.ZipReader;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+public class PrefetchZipReaderTest {
+
+	@Before
+	public void setUp() {
+		_zipReader = Mockito.mock(ZipReader.class);
+
+		Mockito.when(
+			_zipReader.getEntryAsByteArray(Matchers.anyString())
+		).thenReturn(
+			_BYTES
+		);
+	}
+
+	@After
+	public void tearDown() {
+		_executorService.shutdownNow();
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, Mockito.mock(ExecutorService.class));
+
+		prefetchZipReader.prefetch("/entry");
+
+		prefetchZipReader.cancel("entry");
+
+		Assert.assertEquals(
+			new String(_BYTES), prefetchZipReader.getEntryAsString("/entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, Mockito.mock(ExecutorService.class));
+
+		prefetchZipReader.prefetch("entry");
+
+		prefetchZipReader.close();
+
+		Mockito.verify(_zipReader).close();
+
+		prefetchZipReader.getEntryAsByteArray("entry");
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+	}
+
+	@Test
+	public void testFailedPrefetchIsReadAgain() throws Exception {
+		Mockito.when(
+			_zipReader.getEntryAsByteArray("entry")
+		).thenThrow(
+			new RuntimeException()
+		).thenReturn(
+			_BYTES
+		);
+
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, _executorService);
+
+		prefetchZipReader.prefetch("entry");
+
+		Assert.assertSame(
+			_BYTES, prefetchZipReader.getEntryAsByteArray("entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(2)
+		).getEntryAsByteArray(
+			"entry"
+		);
+	}
+
+	@Test
+	public void testPrefetchedEntryIsReadOnce() throws Exception {
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, _executorService);
+
+		prefetchZipReader.prefetch("/entry");
+		prefetchZipReader.prefetch("entry");
+
+		_executorService.shutdown();
+
+		Assert.assertTrue(
+			_executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+
+		Assert.assertSame(
+			_BYTES, prefetchZipReader.getEntryAsByteArray("entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+
+		Assert.assertSame(
+			_BYTES, prefetchZipReader.getEntryAsByteArray("entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(2)
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+	}
+
+	@Test
+	public void testRejectedPrefetchIsReadInline() throws Exception {
+		ExecutorService executorService = Mockito.mock(ExecutorService.class);
+
+		Mockito.when(
+			executorService.submit(Matchers.any(Runnable.class))
+		).thenThrow(
+			new RejectedExecutionException()
+		);
+
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, executorService);
+
+		prefetchZipReader.prefetch("entry");
+
+		Assert.assertSame(
+			_BYTES, prefetchZipReader.getEntryAsByteArray("entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			"entry"
+		);
+	}
+
+	@Test
+	public void testUnclaimedPrefetchIsReadInline() throws Exception {
+		ExecutorService executorService = Mockito.mock(ExecutorService.class);
+
+		PrefetchZipReader prefetchZipReader = new PrefetchZipReader(
+			_zipReader, executorService);
+
+		prefetchZipReader.prefetch("entry");
+
+		Mockito.verify(
+			executorService
+		).submit(
+			Matchers.any(Runnable.class)
+		);
+
+		Mockito.verify(
+			_zipReader, Mockito.never()
+		).getEntryAsByteArray(
+			Matchers.anyString()
+		);
+
+		Assert.assertSame(
+			_BYTES, prefetchZipReader.getEntryAsByteArray("entry"));
+
+		Mockito.verify(
+			_zipReader, Mockito.times(1)
+		).getEntryAsByteArray(
+			"entry"
+		);
+	}
+
+	private static final byte[] _BYTES = "content".getBytes();
+
+	private ExecutorService _executorService =
+		Executors.newSingleThreadExecutor();
+	private ZipReader _zipReader;
+
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexSearcherManagerTest {
+
+	@Before
+	public void setUp() throws Exception {
+		IndexWriterConfig indexWriterConfig = new IndexWriterConfig(
+			Version.LUCENE_35, new StandardAnalyzer(Version.LUCENE_35));
+
+		_indexWriter = new IndexWriter(new RAMDirectory(), indexWriterConfig);
+
+		_indexWriter.commit();
+
+		_indexSearcherManager = new IndexSearcherManager(_indexWriter);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		_indexSearcherManager.close();
+
+		_indexWriter.close();
+	}
+
+	@Test
+	public void testAcquireAfterClose() throws Exception {
+		_indexSearcherManager.close();
+
+		try {
+			_indexSearcherManager.acquire();
+
+			Assert.fail();
+		}
+		catch (IllegalStateException ise) {
+		}
+	}
+
+	@Test
+	public void testAcquireAndRelease() throws Exception {
+		IndexSearcher indexSearcher1 = _indexSearcherManager.acquire();
+		IndexSearcher indexSearcher2 = _indexSearcherManager.acquire();
+
+		Assert.assertSame(indexSearcher1, indexSearcher2);
+
+		IndexReader indexReader = indexSearcher1.getIndexReader();
+
+		Assert.assertEquals(3, indexReader.getRefCount());
+
+		_indexSearcherManager.release(indexSearcher1);
+
+		Assert.assertEquals(2, indexReader.getRefCount());
+
+		_indexSearcherManager.release(indexSearcher2);
+
+		Assert.assertEquals(1, indexReader.getRefCount());
+
+		_indexSearcherManager.release(null);
+
+		Assert.assertEquals(1, indexReader.getRefCount());
+	}
+
+	@Test
+	public void testCloseWithLeasedSearcher() throws Exception {
+		IndexSearcher indexSearcher = _indexSearcherManager.acquire();
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		_indexSearcherManager.close();
+
+		Assert.assertEquals(1, indexReader.getRefCount());
+
+		_assertHits(indexSearcher, 0);
+
+		_indexSearcherManager.release(indexSearcher);
+
+		Assert.assertEquals(0, indexReader.getRefCount());
+	}
+
+	@Test
+	public void testInvalidateAfterCommit() throws Exception {
+		IndexSearcher oldIndexSearcher = _indexSearcherManager.acquire();
+
+		_addDocument("test1");
+
+		_indexWriter.commit();
+
+		IndexSearcher indexSearcher = _indexSearcherManager.acquire();
+
+		Assert.assertSame(oldIndexSearcher, indexSearcher);
+
+		_indexSearcherManager.release(indexSearcher);
+
+		_indexSearcherManager.invalidate();
+
+		IndexSearcher newIndexSearcher = _indexSearcherManager.acquire();
+
+		Assert.assertNotSame(oldIndexSearcher, newIndexSearcher);
+
+		_assertHits(oldIndexSearcher, 0);
+		_assertHits(newIndexSearcher, 1);
+
+		IndexReader oldIndexReader = oldIndexSearcher.getIndexReader();
+
+		Assert.assertEquals(1, oldIndexReader.getRefCount());
+
+		_indexSearcherManager.release(oldIndexSearcher);
+
+		Assert.assertEquals(0, oldIndexReader.getRefCount());
+
+		IndexReader newIndexReader = newIndexSearcher.getIndexReader();
+
+		Assert.assertEquals(2, newIndexReader.getRefCount());
+
+		_indexSearcherManager.release(newIndexSearcher);
+
+		Assert.assertEquals(1, newIndexReader.getRefCount());
+	}
+
+	@Test
+	public void testInvalidateWithoutChanges() throws Exception {
+		IndexSearcher indexSearcher1 = _indexSearcherManager.acquire();
+
+		_indexSearcherManager.release(indexSearcher1);
+
+		_indexSearcherManager.invalidate();
+
+		IndexSearcher indexSearcher2 = _indexSearcherManager.acquire();
+
+		Assert.assertSame(indexSearcher1, indexSearcher2);
+
+		_indexSearcherManager.release(indexSearcher2);
+	}
+
+	private void _addDocument(String value) throws Exception {
+		Document document = new Document();
+
+		document.add(
+			new Field(
+				"name", value, Field.Store.YES, Field.Index.NOT_ANALYZED));
+
+		_indexWriter.addDocument(document);
+	}
+
+	private void _assertHits(IndexSearcher indexSearcher, int expectedHits)
+		throws Exception {
+
+		TopDocs topDocs = indexSearcher.search(new MatchAllDocsQuery(), 10);
+
+		Assert.assertEquals(expectedHits, topDocs.totalHits);
+	}
+
+	private IndexSearcherManager _indexSearcherManager;
+	private IndexWriter _indexWriter;
+
+}
@@ -14,10 +14,14 @@
 
 package com.liferay.portal.search.lucene.dump;
 
+import com.liferay.portal.search.lucene.dump.IndexCommitMetaInfo.Segment;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -67,6 +71,71 @@ public class DumpIndexDeletionPolicyTest {
 		_indexWriter.close();
 	}
 
+	@Test
+	public void testIncrementalDump() throws Exception {
+		_addDocument("name", "test1");
+
+		Directory targetDirectory = _dumpToTargetDirectory(_indexWriter);
+
+		_addDocument("name", "test2");
+
+		Set<String> targetSegmentKeys = new HashSet<String>();
+
+		for (String fileName : targetDirectory.listAll()) {
+			targetSegmentKeys.add(
+				IndexCommitMetaInfo.getKey(
+					fileName, targetDirectory.fileLength(fileName),
+					SegmentChecksumCache.computeChecksum(
+						targetDirectory, fileName)));
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_dumpIndexDeletionPolicy.dump(
+			byteArrayOutputStream, _indexWriter, new ReentrantLock(),
+			targetSegmentKeys);
+
+		byte[] bytes = byteArrayOutputStream.toByteArray();
+
+		Directory stagingDirectory = new RAMDirectory();
+
+		IndexCommitMetaInfo indexCommitMetaInfo =
+			IndexCommitSerializationUtil.deserializeSegments(
+				new ByteArrayInputStream(bytes), stagingDirectory);
+
+		int transferredCount = 0;
+
+		for (Segment segment : indexCommitMetaInfo.getSegments()) {
+			String fileName = segment.getFileName();
+
+			if (targetSegmentKeys.contains(segment.getKey())) {
+				Assert.assertFalse(segment.isTransferred());
+				Assert.assertFalse(stagingDirectory.fileExists(fileName));
+
+				continue;
+			}
+
+			Assert.assertTrue(segment.isTransferred());
+
+			stagingDirectory.copy(targetDirectory, fileName, fileName);
+
+			transferredCount++;
+		}
+
+		Assert.assertTrue(transferredCount > 0);
+		Assert.assertTrue(
+			transferredCount < indexCommitMetaInfo.getSegments().size());
+
+		IndexCommitSerializationUtil.writeSegmentsGen(
+			targetDirectory, indexCommitMetaInfo.getGeneration());
+
+		_assertHits(targetDirectory, "name", "test1", 1);
+		_assertHits(targetDirectory, "name", "test2", 1);
+
+		_indexWriter.close();
+	}
+
 	@Test
 	public void testOneCommitDump() throws Exception {
 		_addDocument("name", "test1");
@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.permission;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannel;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannelFactory;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLink;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+import com.liferay.portal.model.ResourceConstants;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class PermissionCacheUtilTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		MultiVMPool multiVMPool = mock(MultiVMPool.class);
+
+		Answer<PortalCache> answer = new Answer<PortalCache>() {
+
+			public PortalCache answer(InvocationOnMock invocationOnMock) {
+				Object[] arguments = invocationOnMock.getArguments();
+
+				return _newPortalCache((String)arguments[0]);
+			}
+
+		};
+
+		when(
+			multiVMPool.getCache(Matchers.anyString())
+		).thenAnswer(
+			answer
+		);
+
+		when(
+			multiVMPool.getCache(Matchers.anyString(), Matchers.anyBoolean())
+		).thenAnswer(
+			answer
+		);
+
+		MultiVMPoolUtil multiVMPoolUtil = new MultiVMPoolUtil();
+
+		multiVMPoolUtil.setMultiVMPool(multiVMPool);
+	}
+
+	@Before
+	public void setUp() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			new PortalCacheClusterLink();
+
+		portalCacheClusterLink.setChannelNumber(1);
+		portalCacheClusterLink.setPortalCacheClusterChannelFactory(
+			new PortalCacheClusterChannelFactory() {
+
+				public PortalCacheClusterChannel
+					createPortalCacheClusterChannel() {
+
+					return _newPortalCacheClusterChannel();
+				}
+
+			});
+
+		portalCacheClusterLink.afterPropertiesSet();
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(
+			portalCacheClusterLink);
+
+		PermissionCacheUtil.clearCache();
+	}
+
+	@After
+	public void tearDown() {
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(null);
+	}
+
+	@Test
+	public void testClearResourceCache() {
+		_putPermission(_USER_ID_1, "1");
+		_putPermission(_USER_ID_1, "2");
+
+		PermissionCacheUtil.clearLocalCache();
+
+		PermissionCacheUtil.clearResourceCache(
+			_COMPANY_ID, _NAME, ResourceConstants.SCOPE_INDIVIDUAL, "1");
+
+		Assert.assertNull(_getPermission(_USER_ID_1, "1"));
+		Assert.assertEquals(Boolean.TRUE, _getPermission(_USER_ID_1, "2"));
+
+		// Clearing a group scoped resource clears every resource with the same
+		// name
+
+		PermissionCacheUtil.clearResourceCache(
+			_COMPANY_ID, _NAME, ResourceConstants.SCOPE_GROUP, "1");
+
+		Assert.assertNull(_getPermission(_USER_ID_1, "2"));
+	}
+
+	@Test
+	public void testClearUserCache() {
+		_putPermission(_USER_ID_1, "1");
+		_putPermission(_USER_ID_2, "1");
+		_putPermission(_USER_ID_3, "1");
+
+		PermissionCacheUtil.clearLocalCache();
+
+		_sentEvents.clear();
+
+		PermissionCacheUtil.clearUserCache(
+			new long[] {_USER_ID_1, _USER_ID_2});
+
+		Assert.assertNull(_getPermission(_USER_ID_1, "1"));
+		Assert.assertNull(_getPermission(_USER_ID_2, "1"));
+		Assert.assertEquals(Boolean.TRUE, _getPermission(_USER_ID_3, "1"));
+
+		// The removed versions of both users are replicated in one message
+
+		Assert.assertEquals(1, _sentEvents.size());
+
+		List<PortalCacheClusterEvent> events = _sentEvents.get(0);
+
+		Assert.assertEquals(2, events.size());
+
+		for (PortalCacheClusterEvent event : events) {
+			Assert.assertEquals(
+				PermissionCacheUtil.VERSION_CACHE_NAME, event.getCacheName());
+			Assert.assertEquals(
+				PortalCacheClusterEventType.REMOVE, event.getEventType());
+		}
+	}
+
+	private static PortalCache _newPortalCache(final String name) {
+		return new MemoryPortalCache(name, 16) {
+
+			@Override
+			public void remove(Serializable key) {
+				super.remove(key);
+
+				// Replicate the removal like the cluster link cache replicator
+				// does
+
+				PortalCacheClusterLinkUtil.sendEvent(
+					new PortalCacheClusterEvent(
+						name, key, PortalCacheClusterEventType.REMOVE));
+			}
+
+		};
+	}
+
+	private static PortalCacheClusterChannel _newPortalCacheClusterChannel() {
+		PortalCacheClusterChannel portalCacheClusterChannel = mock(
+			PortalCacheClusterChannel.class);
+
+		doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					List<PortalCacheClusterEvent> events =
+						new ArrayList<PortalCacheClusterEvent>();
+
+					events.add((PortalCacheClusterEvent)arguments[0]);
+
+					_sentEvents.add(events);
+
+					return null;
+				}
+
+			}
+		).when(
+			portalCacheClusterChannel
+		).sendEvent(
+			Matchers.any(PortalCacheClusterEvent.class)
+		);
+
+		doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					_sentEvents.add(
+						new ArrayList<PortalCacheClusterEvent>(
+							(List<PortalCacheClusterEvent>)arguments[0]));
+
+					return null;
+				}
+
+			}
+		).when(
+			portalCacheClusterChannel
+		).sendEvents(
+			Matchers.anyListOf(PortalCacheClusterEvent.class)
+		);
+
+		return portalCacheClusterChannel;
+	}
+
+	private Boolean _getPermission(long userId, String primKey) {
+		return PermissionCacheUtil.getPermission(
+			_COMPANY_ID, userId, true, false, _GROUP_ID, _NAME, primKey,
+			_ACTION_ID);
+	}
+
+	private void _putPermission(long userId, String primKey) {
+		PermissionCacheUtil.putPermission(
+			_COMPANY_ID, userId, true, false, _GROUP_ID, _NAME, primKey,
+			_ACTION_ID, Boolean.TRUE);
+	}
+
+	private static final String _ACTION_ID = "VIEW";
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long _GROUP_ID = 2;
+
+	private static final String _NAME = "com.liferay.test.Model";
+
+	private static final long _USER_ID_1 = 11;
+
+	private static final long _USER_ID_2 = 12;
+
+	private static final long _USER_ID_3 = 13;
+
+	private static List<List<PortalCacheClusterEvent>> _sentEvents =
+		new ArrayList<List<PortalCacheClusterEvent>>();
+
+}
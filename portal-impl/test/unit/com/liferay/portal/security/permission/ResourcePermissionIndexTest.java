@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.permission;
+
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.model.ResourcePermission;
+import com.liferay.portal.model.impl.ResourcePermissionImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ResourcePermissionIndexTest extends TestCase {
+
+	public void testEmpty() {
+		ResourcePermissionIndex resourcePermissionIndex =
+			new ResourcePermissionIndex(
+				Collections.<ResourcePermission>emptyList());
+
+		assertEquals(0, resourcePermissionIndex.size());
+		assertFalse(resourcePermissionIndex.hasPermission(1, 1));
+		assertFalse(resourcePermissionIndex.hasPermission(new long[0], 1));
+	}
+
+	public void testHasPermission() {
+		List<ResourcePermission> resourcePermissions =
+			new ArrayList<ResourcePermission>();
+
+		resourcePermissions.add(createResourcePermission(30, 4));
+		resourcePermissions.add(createResourcePermission(10, 1));
+		resourcePermissions.add(createResourcePermission(20, 2 | 4));
+
+		ResourcePermissionIndex resourcePermissionIndex =
+			new ResourcePermissionIndex(resourcePermissions);
+
+		assertEquals(3, resourcePermissionIndex.size());
+
+		assertTrue(resourcePermissionIndex.hasPermission(10, 1));
+		assertFalse(resourcePermissionIndex.hasPermission(10, 2));
+		assertTrue(resourcePermissionIndex.hasPermission(20, 2));
+		assertTrue(resourcePermissionIndex.hasPermission(20, 4));
+		assertTrue(resourcePermissionIndex.hasPermission(30, 4));
+		assertFalse(resourcePermissionIndex.hasPermission(30, 1));
+
+		// Unknown roles and actions that no role is granted
+
+		assertFalse(resourcePermissionIndex.hasPermission(15, 1));
+		assertFalse(resourcePermissionIndex.hasPermission(40, 4));
+		assertFalse(resourcePermissionIndex.hasPermission(10, 8));
+
+		assertTrue(
+			resourcePermissionIndex.hasPermission(new long[] {5, 20}, 2));
+		assertTrue(
+			resourcePermissionIndex.hasPermission(new long[] {10, 30}, 4));
+		assertFalse(
+			resourcePermissionIndex.hasPermission(new long[] {10, 30}, 2));
+		assertFalse(
+			resourcePermissionIndex.hasPermission(new long[] {5, 15, 25}, 1));
+		assertFalse(resourcePermissionIndex.hasPermission(new long[0], 1));
+	}
+
+	public void testMergeRoles() {
+		List<ResourcePermission> resourcePermissions =
+			new ArrayList<ResourcePermission>();
+
+		resourcePermissions.add(createResourcePermission(10, 1));
+		resourcePermissions.add(createResourcePermission(10, 2));
+		resourcePermissions.add(createResourcePermission(20, 0));
+
+		ResourcePermissionIndex resourcePermissionIndex =
+			new ResourcePermissionIndex(resourcePermissions);
+
+		// Roles without actions are not indexed and the actions of the same
+		// role are merged
+
+		assertEquals(1, resourcePermissionIndex.size());
+
+		assertTrue(resourcePermissionIndex.hasPermission(10, 1));
+		assertTrue(resourcePermissionIndex.hasPermission(10, 2));
+		assertFalse(resourcePermissionIndex.hasPermission(20, 1));
+	}
+
+	protected ResourcePermission createResourcePermission(
+		long roleId, long actionIds) {
+
+		ResourcePermission resourcePermission = new ResourcePermissionImpl();
+
+		resourcePermission.setRoleId(roleId);
+		resourcePermission.setActionIds(actionIds);
+
+		return resourcePermission;
+	}
+
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.impl;
+
+import com.liferay.portal.NoSuchLayoutSetException;
+import com.liferay.portal.kernel.bean.BeanLocator;
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.model.LayoutSet;
+import com.liferay.portal.service.LayoutLocalService;
+import com.liferay.portal.service.LayoutSetLocalService;
+import com.liferay.portal.spring.transaction.AnnotationTransactionAttributeSource;
+import com.liferay.portal.spring.transaction.TransactionInterceptor;
+import com.liferay.portal.util.PropsImpl;
+
+import java.util.HashMap;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class LayoutLocalServiceImplTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(new PropsImpl());
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		LayoutSetLocalService layoutSetLocalService = mock(
+			LayoutSetLocalService.class);
+
+		// The export stops at the first lookup, after recording whether it
+		// runs in a transaction
+
+		when(
+			layoutSetLocalService.getLayoutSet(
+				Matchers.anyLong(), Matchers.anyBoolean())
+		).thenAnswer(
+			new Answer<LayoutSet>() {
+
+				public LayoutSet answer(InvocationOnMock invocationOnMock)
+					throws Throwable {
+
+					_actualTransactionActive =
+						TransactionSynchronizationManager.
+							isActualTransactionActive();
+
+					throw new NoSuchLayoutSetException();
+				}
+
+			}
+		);
+
+		BeanLocator beanLocator = mock(BeanLocator.class);
+
+		when(
+			beanLocator.locate(LayoutSetLocalService.class.getName())
+		).thenReturn(
+			layoutSetLocalService
+		);
+
+		PortalBeanLocatorUtil.setBeanLocator(beanLocator);
+
+		TransactionInterceptor transactionInterceptor =
+			new TransactionInterceptor();
+
+		transactionInterceptor.setPlatformTransactionManager(
+			_platformTransactionManager);
+		transactionInterceptor.setTransactionAttributeSource(
+			new AnnotationTransactionAttributeSource());
+
+		ProxyFactory proxyFactory = new ProxyFactory(
+			new LayoutLocalServiceImpl());
+
+		proxyFactory.addAdvice(transactionInterceptor);
+
+		_layoutLocalService = (LayoutLocalService)proxyFactory.getProxy();
+	}
+
+	@After
+	public void tearDown() {
+		ReferenceRegistry.releaseReferences();
+	}
+
+	@Test
+	public void testExportLayouts() throws Exception {
+		try {
+			_layoutLocalService.exportLayouts(
+				_GROUP_ID, false, new HashMap<String, String[]>(), null, null);
+
+			Assert.fail();
+		}
+		catch (NoSuchLayoutSetException nslse) {
+		}
+
+		Assert.assertEquals(Boolean.FALSE, _actualTransactionActive);
+	}
+
+	@Test
+	public void testExportLayoutsAsFile() throws Exception {
+
+		// Without a transaction the portlets can be exported in parallel
+
+		_exportLayoutsAsFile();
+
+		Assert.assertEquals(Boolean.FALSE, _actualTransactionActive);
+	}
+
+	@Test
+	public void testExportLayoutsAsFileInTransaction() throws Exception {
+		TransactionStatus transactionStatus =
+			_platformTransactionManager.getTransaction(
+				new DefaultTransactionDefinition());
+
+		try {
+
+			// The export joins the caller's transaction
+
+			_exportLayoutsAsFile();
+		}
+		finally {
+			_platformTransactionManager.rollback(transactionStatus);
+		}
+
+		Assert.assertEquals(Boolean.TRUE, _actualTransactionActive);
+	}
+
+	private void _exportLayoutsAsFile() throws Exception {
+		try {
+			_layoutLocalService.exportLayoutsAsFile(
+				_GROUP_ID, false, null, new HashMap<String, String[]>(), null,
+				null);
+
+			Assert.fail();
+		}
+		catch (NoSuchLayoutSetException nslse) {
+		}
+	}
+
+	private static final long _GROUP_ID = 1;
+
+	private volatile Boolean _actualTransactionActive;
+	private LayoutLocalService _layoutLocalService;
+	private PlatformTransactionManager _platformTransactionManager =
+		new TestPlatformTransactionManager();
+
+	private class TestPlatformTransactionManager
+		extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected void doBegin(
+			Object transaction, TransactionDefinition transactionDefinition) {
+		}
+
+		@Override
+		protected void doCommit(
+			DefaultTransactionStatus defaultTransactionStatus) {
+		}
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doRollback(
+			DefaultTransactionStatus defaultTransactionStatus) {
+		}
+
+		@Override
+		protected void doSetRollbackOnly(
+			DefaultTransactionStatus defaultTransactionStatus) {
+		}
+
+		@Override
+		protected boolean isExistingTransaction(Object transaction) {
+			return TransactionSynchronizationManager.
+				isActualTransactionActive();
+		}
+
+	}
+
+}
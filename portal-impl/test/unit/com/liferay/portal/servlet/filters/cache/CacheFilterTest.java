@@ -0,0 +1,557 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.servlet.ByteBufferServletResponse;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.ReflectionUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.util.PropsImpl;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portal.util.WebKeys;
+import com.liferay.util.servlet.filters.CacheResponseData;
+import com.liferay.util.servlet.filters.CacheResponseUtil;
+
+import java.io.Serializable;
+
+import java.lang.reflect.Field;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CacheFilterTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		MultiVMPool multiVMPool = mock(MultiVMPool.class);
+
+		when(
+			multiVMPool.getCache(Matchers.anyString())
+		).thenReturn(
+			_portalCache
+		);
+
+		MultiVMPoolUtil multiVMPoolUtil = new MultiVMPoolUtil();
+
+		multiVMPoolUtil.setMultiVMPool(multiVMPool);
+
+		PropsUtil.setProps(new PropsImpl());
+	}
+
+	@Before
+	public void setUp() {
+		CacheUtil.clearCache();
+
+		// Stale copies survive clearing the content cache, so drop them with
+		// every cached response
+
+		_portalCache.removeAll();
+
+		_staleCacheResponseData = _newCacheResponseData(_STALE_CONTENT);
+
+		CacheStatisticsUtil.reset();
+	}
+
+	@Test
+	public void testCoalesceRequests() throws Exception {
+		TestCacheFilter testCacheFilter = new TestCacheFilter();
+
+		testCacheFilter._renderLatch = new CountDownLatch(1);
+
+		RequestThread leaderRequestThread = new RequestThread(testCacheFilter);
+
+		leaderRequestThread.start();
+
+		testCacheFilter._renderStartedLatch.await();
+
+		RequestThread coalescedRequestThread = new RequestThread(
+			testCacheFilter);
+
+		coalescedRequestThread.start();
+
+		_awaitWaiting(coalescedRequestThread);
+
+		testCacheFilter._renderLatch.countDown();
+
+		leaderRequestThread.join();
+		coalescedRequestThread.join();
+
+		Assert.assertEquals(1, testCacheFilter._renderCount.get());
+		Assert.assertEquals(_CONTENT, leaderRequestThread.getContent());
+		Assert.assertEquals(_CONTENT, coalescedRequestThread.getContent());
+
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(_STATISTICS_KEY);
+
+		Assert.assertEquals(1, cacheStatistics.getCoalescedHitCount());
+		Assert.assertEquals(1, cacheStatistics.getMissCount());
+
+		// The rendered content is served from the cache afterwards
+
+		Assert.assertEquals(_CONTENT, _processFilter(testCacheFilter));
+		Assert.assertEquals(1, testCacheFilter._renderCount.get());
+		Assert.assertEquals(1, cacheStatistics.getHitCount());
+	}
+
+	@Test
+	public void testCoalescedRequestGetsStaleCopy() throws Exception {
+		_putStaleCopy();
+
+		TestCacheFilter testCacheFilter = new TestCacheFilter();
+
+		testCacheFilter._renderLatch = new CountDownLatch(1);
+
+		RequestThread leaderRequestThread = new RequestThread(testCacheFilter);
+
+		leaderRequestThread.start();
+
+		testCacheFilter._renderStartedLatch.await();
+
+		// The request that arrives during the refresh does not wait for it
+
+		Assert.assertEquals(_STALE_CONTENT, _processFilter(testCacheFilter));
+
+		testCacheFilter._renderLatch.countDown();
+
+		leaderRequestThread.join();
+
+		Assert.assertEquals(_STALE_CONTENT, leaderRequestThread.getContent());
+		Assert.assertEquals(1, testCacheFilter._renderCount.get());
+
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(_STATISTICS_KEY);
+
+		Assert.assertEquals(2, cacheStatistics.getStaleHitCount());
+		Assert.assertEquals(0, cacheStatistics.getCoalescedHitCount());
+	}
+
+	@Test
+	public void testRefreshAfterSendingStaleCopy() throws Exception {
+		_putStaleCopy();
+
+		TestCacheFilter testCacheFilter = new TestCacheFilter();
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		testCacheFilter.processFilter(_newRequest(), response, null);
+
+		// The stale copy is sent and flushed before the content is rendered
+		// again in the same thread
+
+		Assert.assertEquals(_STALE_CONTENT, response.getContentAsString());
+		Assert.assertTrue(response.isCommitted());
+		Assert.assertEquals(1, testCacheFilter._renderCount.get());
+
+		CacheResponseData cacheResponseData = CacheUtil.getCacheResponseData(
+			_COMPANY_ID, _KEY);
+
+		Assert.assertNotNull(cacheResponseData);
+		Assert.assertEquals(_CONTENT, _toString(cacheResponseData));
+
+		// The request only counts as a stale hit
+
+		CacheStatistics cacheStatistics =
+			CacheStatisticsUtil.getCacheStatistics(_STATISTICS_KEY);
+
+		Assert.assertEquals(1, cacheStatistics.getStaleHitCount());
+		Assert.assertEquals(0, cacheStatistics.getMissCount());
+	}
+
+	@Test
+	public void testRefreshAfterSendingStaleCopyNotCacheable()
+		throws Exception {
+
+		_putStaleCopy();
+
+		TestCacheFilter testCacheFilter = new TestCacheFilter();
+
+		testCacheFilter._cacheable = false;
+
+		Assert.assertEquals(_STALE_CONTENT, _processFilter(testCacheFilter));
+
+		// Content that can no longer be cached is not served from the stale
+		// copy again
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+		Assert.assertNull(
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+
+		Assert.assertEquals(_CONTENT, _processFilter(testCacheFilter));
+		Assert.assertEquals(2, testCacheFilter._renderCount.get());
+	}
+
+	@Test
+	public void testStaleCopyAfterExpiration() {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		Assert.assertSame(
+			_staleCacheResponseData,
+			CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+
+		_expire();
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+		Assert.assertSame(
+			_staleCacheResponseData,
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+	}
+
+	@Test
+	public void testStaleCopyAfterClearCache() throws Exception {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		CacheUtil.clearCache();
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+		Assert.assertSame(
+			_staleCacheResponseData,
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+
+		// The stale copy expired when the cache was cleared, so it is no
+		// longer served once it is older than the maximum stale age
+
+		_setStaleCacheExpirationTime(
+			System.currentTimeMillis() -
+				PropsValues.CACHE_CONTENT_STALE_MAX_AGE - 1);
+
+		Assert.assertNull(
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+
+		// A copy that is put after the cache was cleared expires as usual
+
+		_putStaleCopy();
+
+		Assert.assertSame(
+			_staleCacheResponseData,
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+	}
+
+	@Test
+	public void testStaleCopyAfterRemoteRemoveAll() {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		_expire();
+
+		for (CacheListener cacheListener : _remoteCacheListeners) {
+			cacheListener.notifyRemoveAll(_portalCache);
+		}
+
+		Assert.assertSame(
+			_staleCacheResponseData,
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+
+		// A single entry removed on another node is never served stale
+
+		for (CacheListener cacheListener : _remoteCacheListeners) {
+			cacheListener.notifyEntryRemoved(
+				_portalCache, _encodeKey(), _staleCacheResponseData);
+		}
+
+		Assert.assertNull(
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+	}
+
+	@Test
+	public void testStaleCopyDroppedOnRemove() {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		_portalCache.remove(_encodeKey());
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+		Assert.assertNull(
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+	}
+
+	@Test
+	public void testStaleCopyDroppedOnRemoveAll() {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		_portalCache.removeAll();
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, _KEY));
+		Assert.assertNull(
+			CacheUtil.getStaleCacheResponseData(_COMPANY_ID, _KEY));
+	}
+
+	private static void _awaitWaiting(Thread thread) throws Exception {
+		while (true) {
+			Thread.State state = thread.getState();
+
+			if ((state == Thread.State.TIMED_WAITING) ||
+				(state == Thread.State.WAITING)) {
+
+				return;
+			}
+
+			Thread.sleep(10);
+		}
+	}
+
+	private static String _encodeKey() {
+		return CacheUtil.CACHE_NAME.concat(StringPool.POUND).concat(
+			StringUtil.toHexString(_COMPANY_ID)).concat(
+				StringPool.POUND).concat(_KEY);
+	}
+
+	private static void _expire() {
+		_portalCache.expire(_encodeKey());
+	}
+
+	private static CacheResponseData _newCacheResponseData(String content) {
+		ByteBufferServletResponse byteBufferResponse =
+			new ByteBufferServletResponse(new MockHttpServletResponse());
+
+		byteBufferResponse.setContentType("text/html");
+
+		try {
+			byteBufferResponse.getOutputStream().write(content.getBytes());
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+
+		return new CacheResponseData(byteBufferResponse);
+	}
+
+	private static HttpServletRequest _newRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		request.setAttribute(WebKeys.COMPANY_ID, _COMPANY_ID);
+
+		return request;
+	}
+
+	private static String _processFilter(TestCacheFilter testCacheFilter)
+		throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		testCacheFilter.processFilter(_newRequest(), response, null);
+
+		return response.getContentAsString();
+	}
+
+	private static String _toString(CacheResponseData cacheResponseData) {
+		ByteBuffer byteBuffer = cacheResponseData.getByteBuffer();
+
+		return new String(
+			byteBuffer.array(),
+			byteBuffer.arrayOffset() + byteBuffer.position(),
+			byteBuffer.remaining());
+	}
+
+	private static void _setStaleCacheExpirationTime(
+			long staleCacheExpirationTime)
+		throws Exception {
+
+		Field field = ReflectionUtil.getDeclaredField(
+			CacheUtil.class, "_staleCacheExpirationTime");
+
+		field.setLong(null, staleCacheExpirationTime);
+	}
+
+	private void _putStaleCopy() {
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, _KEY, _staleCacheResponseData);
+
+		_expire();
+	}
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final String _CONTENT = "content";
+
+	private static final String _KEY = "/test";
+
+	private static final String _STALE_CONTENT = "stale content";
+
+	private static final String _STATISTICS_KEY = "/test";
+
+	private static TestPortalCache _portalCache = new TestPortalCache();
+	private static List<CacheListener> _remoteCacheListeners =
+		new ArrayList<CacheListener>();
+
+	private CacheResponseData _staleCacheResponseData;
+
+	private static class RequestThread extends Thread {
+
+		public RequestThread(TestCacheFilter testCacheFilter) {
+			_testCacheFilter = testCacheFilter;
+		}
+
+		public String getContent() throws Exception {
+			if (_exception != null) {
+				throw _exception;
+			}
+
+			return _content;
+		}
+
+		@Override
+		public void run() {
+			try {
+				_content = _processFilter(_testCacheFilter);
+			}
+			catch (Exception e) {
+				_exception = e;
+			}
+		}
+
+		private String _content;
+		private Exception _exception;
+		private TestCacheFilter _testCacheFilter;
+
+	}
+
+	private static class TestCacheFilter extends CacheFilter {
+
+		@Override
+		protected String getCacheKey(HttpServletRequest request) {
+			return _KEY;
+		}
+
+		@Override
+		protected String getStatisticsKey(HttpServletRequest request) {
+			return _STATISTICS_KEY;
+		}
+
+		@Override
+		protected boolean isCacheableData(
+			long companyId, HttpServletRequest request) {
+
+			return true;
+		}
+
+		@Override
+		protected CacheResponseData render(
+				long companyId, String key, String statisticsKey,
+				HttpServletRequest request, HttpServletResponse response,
+				FilterChain filterChain)
+			throws Exception {
+
+			_renderCount.incrementAndGet();
+
+			_renderStartedLatch.countDown();
+
+			if (_renderLatch != null) {
+				_renderLatch.await();
+			}
+
+			CacheResponseData cacheResponseData = _newCacheResponseData(
+				_CONTENT);
+
+			if (!_cacheable) {
+				if (!response.isCommitted()) {
+					CacheResponseUtil.write(response, cacheResponseData);
+				}
+
+				return null;
+			}
+
+			CacheUtil.putCacheResponseData(companyId, key, cacheResponseData);
+
+			return cacheResponseData;
+		}
+
+		private boolean _cacheable = true;
+		private AtomicInteger _renderCount = new AtomicInteger();
+		private volatile CountDownLatch _renderLatch;
+		private CountDownLatch _renderStartedLatch = new CountDownLatch(1);
+
+	}
+
+	private static class TestPortalCache extends MemoryPortalCache {
+
+		public TestPortalCache() {
+			super(CacheUtil.class.getName(), 16);
+		}
+
+		public void expire(Serializable key) {
+
+			// Expired entries silently disappear from the cache
+
+			_expiredValues.put(key, super.get(key));
+		}
+
+		@Override
+		public Object get(Serializable key) {
+			Object value = super.get(key);
+
+			if ((value != null) && (value == _expiredValues.get(key))) {
+				return null;
+			}
+
+			return value;
+		}
+
+		@Override
+		public void registerCacheListener(
+			CacheListener cacheListener,
+			CacheListenerScope cacheListenerScope) {
+
+			if (cacheListenerScope == CacheListenerScope.REMOTE) {
+				_remoteCacheListeners.add(cacheListener);
+			}
+			else {
+				registerCacheListener(cacheListener);
+			}
+		}
+
+		@Override
+		public void removeAll() {
+			_expiredValues.clear();
+
+			super.removeAll();
+		}
+
+		private Map<Serializable, Object> _expiredValues =
+			new ConcurrentHashMap<Serializable, Object>();
+
+	}
+
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.gzip;
+
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.util.DigesterImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+
+import java.util.zip.GZIPInputStream;
+
+public class GZipCacheTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		new DigesterUtil().setDigester(new DigesterImpl());
+
+		_cacheDir = File.createTempFile("gzip", null);
+
+		_cacheDir.delete();
+		_cacheDir.mkdirs();
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		File[] files = _cacheDir.listFiles();
+
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+
+		_cacheDir.delete();
+
+		super.tearDown();
+	}
+
+	public void testConstructKeepsPreviousFiles() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1000000);
+
+		GZipCacheEntry gZipCacheEntry = gZipCache.put(
+			"/main.css", 1, _CONTENT_TYPE, toByteBuffer("a { }"));
+
+		File dataFile = gZipCacheEntry.getDataFile();
+
+		assertTrue(dataFile.exists());
+
+		long dataFileLastModified = dataFile.lastModified();
+
+		gZipCache = new GZipCache(_cacheDir, 10, 1000000);
+
+		assertTrue(dataFile.exists());
+		assertNull(gZipCache.get("/main.css", 1));
+
+		// The data file left by the previous cache is reused for the same
+		// content
+
+		Thread.sleep(1000);
+
+		gZipCacheEntry = gZipCache.put(
+			"/main.css", 1, _CONTENT_TYPE, toByteBuffer("a { }"));
+
+		assertEquals(dataFile, gZipCacheEntry.getDataFile());
+		assertEquals(dataFileLastModified, dataFile.lastModified());
+		assertEquals(dataFile.length(), gZipCache.getSize());
+		assertEquals("a { }", read(dataFile));
+	}
+
+	public void testEvictedDataFileIsKeptForDelay() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1, 1000000);
+
+		GZipCacheEntry gZipCacheEntry1 = gZipCache.put(
+			"/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+
+		gZipCache.release(gZipCacheEntry1);
+
+		GZipCacheEntry gZipCacheEntry2 = gZipCache.put(
+			"/2.js", 1, _CONTENT_TYPE, toByteBuffer("2"));
+
+		gZipCache.release(gZipCacheEntry2);
+
+		gZipCache.release(
+			gZipCache.put("/3.js", 1, _CONTENT_TYPE, toByteBuffer("3")));
+
+		// The container may still be sending the evicted data files
+
+		assertNull(gZipCache.get("/1.js", 1));
+		assertNull(gZipCache.get("/2.js", 1));
+		assertTrue(gZipCacheEntry1.getDataFile().exists());
+		assertTrue(gZipCacheEntry2.getDataFile().exists());
+	}
+
+	public void testEvictedDataFileIsKeptWhileRead() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1, 0);
+
+		GZipCacheEntry gZipCacheEntry1 = gZipCache.put(
+			"/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+
+		File dataFile1 = gZipCacheEntry1.getDataFile();
+
+		gZipCache.release(
+			gZipCache.put("/2.js", 1, _CONTENT_TYPE, toByteBuffer("2")));
+
+		assertNull(gZipCache.get("/1.js", 1));
+		assertTrue(dataFile1.exists());
+		assertEquals("1", read(dataFile1));
+
+		gZipCache.release(gZipCacheEntry1);
+
+		gZipCache.release(
+			gZipCache.put("/3.js", 1, _CONTENT_TYPE, toByteBuffer("3")));
+
+		assertFalse(dataFile1.exists());
+	}
+
+	public void testEvictedDataFileIsReused() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1, 1000000);
+
+		GZipCacheEntry gZipCacheEntry1 = gZipCache.put(
+			"/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+
+		gZipCache.release(gZipCacheEntry1);
+
+		gZipCache.release(
+			gZipCache.put("/2.js", 1, _CONTENT_TYPE, toByteBuffer("2")));
+
+		assertNull(gZipCache.get("/1.js", 1));
+
+		gZipCacheEntry1 = gZipCache.put(
+			"/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+
+		gZipCache.release(gZipCacheEntry1);
+
+		gZipCacheEntry1 = gZipCache.get("/1.js", 1);
+
+		assertNotNull(gZipCacheEntry1);
+		assertEquals(
+			gZipCacheEntry1.getDataFile().length(), gZipCache.getSize());
+		assertEquals("1", read(gZipCacheEntry1.getDataFile()));
+	}
+
+	public void testGet() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1000000);
+
+		assertNull(gZipCache.get("/main.css", 1));
+
+		gZipCache.put("/main.css", 2, _CONTENT_TYPE, toByteBuffer("a { }"));
+
+		GZipCacheEntry gZipCacheEntry = gZipCache.get("/main.css", 2);
+
+		assertNotNull(gZipCacheEntry);
+		assertEquals(_CONTENT_TYPE, gZipCacheEntry.getContentType());
+		assertEquals("a { }", read(gZipCacheEntry.getDataFile()));
+
+		assertNotNull(gZipCache.get("/main.css", 1));
+
+		// The original file was modified after it was compressed
+
+		assertNull(gZipCache.get("/main.css", 3));
+		assertNull(gZipCache.get("/main.css", 2));
+	}
+
+	public void testMaxEntries() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 2, 1000000);
+
+		gZipCache.put("/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+		gZipCache.put("/2.js", 1, _CONTENT_TYPE, toByteBuffer("2"));
+
+		assertNotNull(gZipCache.get("/1.js", 1));
+
+		gZipCache.put("/3.js", 1, _CONTENT_TYPE, toByteBuffer("3"));
+
+		assertEquals(2, gZipCache.size());
+		assertNotNull(gZipCache.get("/1.js", 1));
+		assertNull(gZipCache.get("/2.js", 1));
+		assertNotNull(gZipCache.get("/3.js", 1));
+	}
+
+	public void testMaxSize() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1, 0);
+
+		GZipCacheEntry gZipCacheEntry1 = gZipCache.put(
+			"/1.js", 1, _CONTENT_TYPE, toByteBuffer("1"));
+
+		gZipCache.release(gZipCacheEntry1);
+
+		File dataFile1 = gZipCacheEntry1.getDataFile();
+
+		assertTrue(dataFile1.exists());
+
+		// The most recent data file is kept even if it alone exceeds the
+		// maximum size
+
+		assertEquals(dataFile1.length(), gZipCache.getSize());
+
+		GZipCacheEntry gZipCacheEntry2 = gZipCache.put(
+			"/2.js", 1, _CONTENT_TYPE, toByteBuffer("2"));
+
+		gZipCache.release(gZipCacheEntry2);
+
+		File dataFile2 = gZipCacheEntry2.getDataFile();
+
+		assertFalse(dataFile1.exists());
+		assertTrue(dataFile2.exists());
+		assertEquals(dataFile2.length(), gZipCache.getSize());
+
+		assertNull(gZipCache.get("/1.js", 1));
+		assertNotNull(gZipCache.get("/2.js", 1));
+	}
+
+	public void testSameContent() throws Exception {
+		GZipCache gZipCache = new GZipCache(_cacheDir, 10, 1000000);
+
+		GZipCacheEntry gZipCacheEntry1 = gZipCache.put(
+			"/main.js?t=1", 1, _CONTENT_TYPE, toByteBuffer("var a;"));
+		GZipCacheEntry gZipCacheEntry2 = gZipCache.put(
+			"/main.js?t=2", 1, _CONTENT_TYPE, toByteBuffer("var a;"));
+
+		assertEquals(
+			gZipCacheEntry1.getDataFile(), gZipCacheEntry2.getDataFile());
+		assertEquals(2, gZipCache.size());
+		assertEquals(
+			gZipCacheEntry1.getDataFile().length(), gZipCache.getSize());
+		assertEquals(1, _cacheDir.listFiles().length);
+	}
+
+	protected String read(File file) throws Exception {
+		InputStream inputStream = new GZIPInputStream(
+			new FileInputStream(file));
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			byte[] bytes = new byte[1024];
+
+			int length = 0;
+
+			while ((length = inputStream.read(bytes)) != -1) {
+				byteArrayOutputStream.write(bytes, 0, length);
+			}
+		}
+		finally {
+			inputStream.close();
+		}
+
+		return byteArrayOutputStream.toString(StringPool.UTF8);
+	}
+
+	protected ByteBuffer toByteBuffer(String s) throws Exception {
+		return ByteBuffer.wrap(s.getBytes(StringPool.UTF8));
+	}
+
+	private static final String _CONTENT_TYPE = "text/css";
+
+	private File _cacheDir;
+
+}
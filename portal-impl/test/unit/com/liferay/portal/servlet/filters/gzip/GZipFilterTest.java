@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.gzip;
+
+import com.liferay.portal.kernel.language.Language;
+import com.liferay.portal.kernel.language.LanguageUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.util.PropsImpl;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class GZipFilterTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(new PropsImpl());
+
+		Language language = mock(Language.class);
+
+		when(
+			language.getLanguageId(Matchers.any(HttpServletRequest.class))
+		).thenAnswer(
+			new Answer<String>() {
+
+				public String answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					HttpServletRequest request =
+						(HttpServletRequest)arguments[0];
+
+					return (String)request.getAttribute(_LANGUAGE_ID);
+				}
+
+			}
+		);
+
+		LanguageUtil languageUtil = new LanguageUtil();
+
+		languageUtil.setLanguage(language);
+	}
+
+	@Test
+	public void testGetCacheKey() {
+		GZipFilter gZipFilter = new GZipFilter();
+
+		String cacheKey = gZipFilter.getCacheKey(
+			_newRequest("/html/js/main.js", null, "en_US"));
+
+		Assert.assertEquals("/html/js/main.js#en_US", cacheKey);
+
+		cacheKey = gZipFilter.getCacheKey(
+			_newRequest("/combo/", "minifierType=js", "en_US"));
+
+		Assert.assertEquals("/combo/?minifierType=js#en_US", cacheKey);
+
+		// The language filter translates the same file differently for every
+		// language
+
+		Assert.assertFalse(
+			cacheKey.equals(
+				gZipFilter.getCacheKey(
+					_newRequest("/combo/", "minifierType=js", "es_ES"))));
+	}
+
+	private HttpServletRequest _newRequest(
+		String requestURI, String queryString, String languageId) {
+
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest("GET", requestURI);
+
+		mockHttpServletRequest.setAttribute(_LANGUAGE_ID, languageId);
+		mockHttpServletRequest.setQueryString(queryString);
+
+		return mockHttpServletRequest;
+	}
+
+	private static final String _LANGUAGE_ID = "LANGUAGE_ID";
+
+}
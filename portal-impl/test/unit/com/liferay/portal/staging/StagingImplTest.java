@@ -0,0 +1,394 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.staging;
+
+import com.liferay.portal.kernel.lar.PortletDataHandler;
+import com.liferay.portal.kernel.lar.PortletDataHandlerKeys;
+import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.lar.LayoutExporter;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.LayoutSet;
+import com.liferay.portal.model.LayoutTypePortlet;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.model.StagedModelChangeConstants;
+import com.liferay.portal.service.LayoutLocalServiceUtil;
+import com.liferay.portal.service.PortletLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@PowerMockIgnore("javax.xml.*")
+@PrepareForTest(
+	{LayoutExporter.class, LayoutLocalServiceUtil.class,
+		PortletLocalServiceUtil.class})
+@RunWith(PowerMockRunner.class)
+public class StagingImplTest extends PowerMockito {
+
+	@Before
+	public void setUp() throws Exception {
+		mockStatic(LayoutExporter.class);
+		mockStatic(LayoutLocalServiceUtil.class);
+		mockStatic(PortletLocalServiceUtil.class);
+
+		when(
+			_group.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+
+		when(
+			_group.getGroupId()
+		).thenReturn(
+			_GROUP_ID
+		);
+
+		when(
+			_group.getTypeSettingsProperty("changeJournalDate")
+		).thenReturn(
+			"1"
+		);
+
+		when(
+			LayoutExporter.getAlwaysExportablePortlets(_COMPANY_ID)
+		).thenReturn(
+			_alwaysExportablePortlets
+		);
+
+		when(
+			LayoutLocalServiceUtil.getLayouts(_GROUP_ID, false)
+		).thenReturn(
+			_layouts
+		);
+
+		_parameterMap.put("range", new String[] {"fromLastPublishDate"});
+	}
+
+	@Test
+	public void testAlwaysExportablePortletIsPublishedWithFirstPage()
+		throws Exception {
+
+		addAlwaysExportablePortlet("journal", _JOURNAL_CLASS_NAME);
+
+		Layout layout1 = addLayout(1);
+
+		addLayout(2);
+
+		addStagedModelChange(_JOURNAL_CLASS_NAME, 1);
+
+		List<Layout> layouts = getChangedLayouts();
+
+		Assert.assertEquals(
+			ListUtil.fromArray(new Layout[] {layout1}), layouts);
+		Assert.assertTrue(isPortletData("journal"));
+	}
+
+	@Test
+	public void testChangedLayoutIsPublishedWithoutUnchangedPortletData()
+		throws Exception {
+
+		addPortlet("blogs", _BLOGS_CLASS_NAME);
+
+		Layout layout1 = addLayout(1, "blogs");
+
+		addLayout(2, "blogs");
+
+		addStagedModelChange(Layout.class.getName(), 1);
+
+		List<Layout> layouts = getChangedLayouts();
+
+		Assert.assertEquals(
+			ListUtil.fromArray(new Layout[] {layout1}), layouts);
+		Assert.assertFalse(isPortletData("blogs"));
+	}
+
+	@Test
+	public void testChangedPortletDataPublishesHostingLayouts()
+		throws Exception {
+
+		addPortlet("blogs", _BLOGS_CLASS_NAME);
+		addPortlet("wiki", _WIKI_CLASS_NAME);
+
+		Layout layout1 = addLayout(1, "blogs");
+
+		addLayout(2, "wiki");
+
+		Layout layout3 = addLayout(3, "blogs", "wiki");
+
+		addStagedModelChange(_BLOGS_CLASS_NAME, 1);
+
+		List<Layout> layouts = getChangedLayouts();
+
+		Assert.assertEquals(
+			ListUtil.fromArray(new Layout[] {layout1, layout3}), layouts);
+		Assert.assertTrue(isPortletData("blogs"));
+		Assert.assertFalse(isPortletData("wiki"));
+	}
+
+	@Test
+	public void testChangeJournalIsNotUsedForCategoriesOrPermissions() {
+		Date startDate = new Date();
+
+		Assert.assertTrue(
+			_stagingImpl.hasChangeJournal(_group, _parameterMap, startDate));
+
+		for (String key :
+				new String[] {
+					PortletDataHandlerKeys.CATEGORIES,
+					PortletDataHandlerKeys.PERMISSIONS}) {
+
+			Map<String, String[]> parameterMap =
+				new HashMap<String, String[]>(_parameterMap);
+
+			parameterMap.put(key, new String[] {Boolean.TRUE.toString()});
+
+			Assert.assertFalse(
+				_stagingImpl.hasChangeJournal(_group, parameterMap, startDate));
+		}
+	}
+
+	@Test
+	public void testLayoutSetChangePublishesAllLayouts() throws Exception {
+		addLayout(1);
+
+		addStagedModelChange(LayoutSet.class.getName(), 1);
+
+		Assert.assertNull(getChangedLayouts());
+	}
+
+	@Test
+	public void testNoChangesPublishNoLayouts() throws Exception {
+		addPortlet("blogs", _BLOGS_CLASS_NAME);
+
+		addLayout(1, "blogs");
+
+		Assert.assertTrue(getChangedLayouts().isEmpty());
+	}
+
+	@Test
+	public void testPortletWithoutClassNamesPublishesAllLayouts()
+		throws Exception {
+
+		addPortlet("blogs", _BLOGS_CLASS_NAME);
+		addPortlet("plugin");
+
+		addLayout(1, "blogs");
+		addLayout(2, "plugin");
+
+		addStagedModelChange(_BLOGS_CLASS_NAME, 1);
+
+		Assert.assertNull(getChangedLayouts());
+	}
+
+	@Test
+	public void testPortletWithOutdatedDataHandlerPublishesAllLayouts()
+		throws Exception {
+
+		Portlet portlet = addPortlet("plugin");
+
+		PortletDataHandler portletDataHandler =
+			portlet.getPortletDataHandlerInstance();
+
+		when(
+			portletDataHandler.getClassNames()
+		).thenThrow(
+			new AbstractMethodError()
+		);
+
+		addLayout(1, "plugin");
+
+		addStagedModelChange(Layout.class.getName(), 1);
+
+		Assert.assertNull(getChangedLayouts());
+	}
+
+	@Test
+	public void testUnpublishedChangePublishesAllLayouts() throws Exception {
+		addPortlet("blogs", _BLOGS_CLASS_NAME);
+
+		addLayout(1, "blogs");
+
+		addStagedModelChange(_BLOGS_CLASS_NAME, 1);
+		addStagedModelChange(_WIKI_CLASS_NAME, 2);
+
+		Assert.assertNull(getChangedLayouts());
+	}
+
+	protected void addAlwaysExportablePortlet(
+		String portletId, String... classNames) {
+
+		_alwaysExportablePortlets.add(createPortlet(portletId, classNames));
+	}
+
+	protected Layout addLayout(long layoutId, String... portletIds) {
+		Layout layout = Mockito.mock(Layout.class);
+
+		when(
+			layout.getLayoutId()
+		).thenReturn(
+			layoutId
+		);
+
+		when(
+			layout.getPlid()
+		).thenReturn(
+			layoutId + 100
+		);
+
+		LayoutTypePortlet layoutTypePortlet = Mockito.mock(
+			LayoutTypePortlet.class);
+
+		when(
+			layoutTypePortlet.getPortletIds()
+		).thenReturn(
+			ListUtil.fromArray(portletIds)
+		);
+
+		when(
+			layout.getLayoutType()
+		).thenReturn(
+			layoutTypePortlet
+		);
+
+		_layouts.add(layout);
+
+		return layout;
+	}
+
+	protected Portlet addPortlet(String portletId, String... classNames)
+		throws Exception {
+
+		Portlet portlet = createPortlet(portletId, classNames);
+
+		when(
+			PortletLocalServiceUtil.getPortletById(_COMPANY_ID, portletId)
+		).thenReturn(
+			portlet
+		);
+
+		return portlet;
+	}
+
+	protected void addStagedModelChange(String className, long layoutId) {
+		StagedModelChange stagedModelChange = Mockito.mock(
+			StagedModelChange.class);
+
+		when(
+			stagedModelChange.getClassName()
+		).thenReturn(
+			className
+		);
+
+		when(
+			stagedModelChange.getClassPK()
+		).thenReturn(
+			layoutId + 100
+		);
+
+		when(
+			stagedModelChange.getType()
+		).thenReturn(
+			StagedModelChangeConstants.TYPE_UPDATE
+		);
+
+		_stagedModelChanges.add(stagedModelChange);
+	}
+
+	protected Portlet createPortlet(String portletId, String... classNames) {
+		Portlet portlet = Mockito.mock(Portlet.class);
+
+		when(
+			portlet.getPortletId()
+		).thenReturn(
+			portletId
+		);
+
+		when(
+			portlet.getRootPortletId()
+		).thenReturn(
+			portletId
+		);
+
+		PortletDataHandler portletDataHandler = Mockito.mock(
+			PortletDataHandler.class);
+
+		when(
+			portletDataHandler.getClassNames()
+		).thenReturn(
+			classNames
+		);
+
+		when(
+			portlet.getPortletDataHandlerInstance()
+		).thenReturn(
+			portletDataHandler
+		);
+
+		return portlet;
+	}
+
+	protected List<Layout> getChangedLayouts() throws Exception {
+		return _stagingImpl.getChangedLayouts(
+			_group, _TARGET_GROUP_ID, false, null, _stagedModelChanges,
+			_parameterMap);
+	}
+
+	protected boolean isPortletData(String portletId) {
+		String[] values = _parameterMap.get(
+			PortletDataHandlerKeys.PORTLET_DATA + StringPool.UNDERLINE +
+				portletId);
+
+		return (values == null) || Boolean.valueOf(values[0]);
+	}
+
+	private static final String _BLOGS_CLASS_NAME = "BlogsEntry";
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long _GROUP_ID = 2;
+
+	private static final String _JOURNAL_CLASS_NAME = "JournalArticle";
+
+	private static final long _TARGET_GROUP_ID = 3;
+
+	private static final String _WIKI_CLASS_NAME = "WikiPage";
+
+	private List<Portlet> _alwaysExportablePortlets = new ArrayList<Portlet>();
+	private Group _group = Mockito.mock(Group.class);
+	private List<Layout> _layouts = new ArrayList<Layout>();
+	private Map<String, String[]> _parameterMap =
+		new HashMap<String, String[]>();
+	private List<StagedModelChange> _stagedModelChanges =
+		new ArrayList<StagedModelChange>();
+	private StagingImpl _stagingImpl = new StagingImpl();
+
+}
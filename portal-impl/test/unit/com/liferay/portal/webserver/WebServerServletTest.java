@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.webserver;
+
+import com.liferay.portal.kernel.repository.model.FileVersion;
+import com.liferay.portal.kernel.util.FastDateFormatFactoryUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.repository.liferayrepository.model.LiferayFileVersion;
+import com.liferay.portal.util.FastDateFormatFactoryImpl;
+import com.liferay.portal.util.PropsImpl;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
+import com.liferay.portlet.documentlibrary.store.DLStore;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class WebServerServletTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(new PropsImpl());
+
+		new FastDateFormatFactoryUtil().setFastDateFormatFactory(
+			new FastDateFormatFactoryImpl());
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		DLFileEntry dlFileEntry = mock(DLFileEntry.class);
+
+		when(
+			dlFileEntry.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+
+		when(
+			dlFileEntry.getDataRepositoryId()
+		).thenReturn(
+			_REPOSITORY_ID
+		);
+
+		when(
+			dlFileEntry.getName()
+		).thenReturn(
+			_FILE_NAME
+		);
+
+		DLFileVersion dlFileVersion = mock(DLFileVersion.class);
+
+		when(
+			dlFileVersion.getFileEntry()
+		).thenReturn(
+			dlFileEntry
+		);
+
+		when(
+			dlFileVersion.getVersion()
+		).thenReturn(
+			_VERSION
+		);
+
+		_fileVersion = new LiferayFileVersion(dlFileVersion);
+
+		new DLStoreUtil().setStore(_dlStore);
+	}
+
+	@After
+	public void tearDown() {
+		ReferenceRegistry.releaseReferences();
+	}
+
+	@Test
+	public void testGetFile() throws Exception {
+		File file = new File(_FILE_NAME);
+
+		when(
+			_dlStore.getFile(_COMPANY_ID, _REPOSITORY_ID, _FILE_NAME, _VERSION)
+		).thenReturn(
+			file
+		);
+
+		Assert.assertSame(file, _webServerServlet.getFile(_fileVersion));
+	}
+
+	@Test
+	public void testGetFileFromOtherRepository() throws Exception {
+
+		// The content of other repositories is never read from the store
+
+		Assert.assertNull(
+			_webServerServlet.getFile(mock(FileVersion.class)));
+
+		verifyZeroInteractions(_dlStore);
+	}
+
+	@Test
+	public void testGetFileFromStoreWithoutFiles() throws Exception {
+
+		// Stores that do not keep the content in files only offer streams
+
+		when(
+			_dlStore.getFile(_COMPANY_ID, _REPOSITORY_ID, _FILE_NAME, _VERSION)
+		).thenThrow(
+			new UnsupportedOperationException()
+		);
+
+		Assert.assertNull(_webServerServlet.getFile(_fileVersion));
+	}
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final String _FILE_NAME = "1234";
+
+	private static final long _REPOSITORY_ID = 2;
+
+	private static final String _VERSION = "1.0";
+
+	private DLStore _dlStore = mock(DLStore.class);
+	private FileVersion _fileVersion;
+	private WebServerServlet _webServerServlet = new WebServerServlet();
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.zip;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.util.FileImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class ZipWriterImplTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		new FileUtil().setFile(FileImpl.getInstance());
+
+		_file = File.createTempFile("zip", null);
+
+		_file.delete();
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		_file.delete();
+
+		super.tearDown();
+	}
+
+	public void testAddEntryAfterGetFile() throws Exception {
+		ZipWriterImpl zipWriterImpl = new ZipWriterImpl(_file);
+
+		zipWriterImpl.getFile();
+
+		try {
+			zipWriterImpl.addEntry("a.txt", "a");
+
+			fail();
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	public void testAddEntryStreamsToArchive() throws Exception {
+		ZipWriterImpl zipWriterImpl = new ZipWriterImpl(_file);
+
+		zipWriterImpl.addEntry("/a.txt", "a");
+
+		// Entries are written to the archive file itself instead of a staging
+		// directory
+
+		assertTrue(_file.isFile());
+
+		zipWriterImpl.addEntry("b/b.txt", "b".getBytes());
+		zipWriterImpl.addEntry(
+			"c.txt", new UnsyncByteArrayInputStream("c".getBytes()));
+		zipWriterImpl.addEntry("d.txt", new StringBuilder("d"));
+
+		Map<String, String> entries = readEntries(zipWriterImpl.getFile());
+
+		assertEquals(4, entries.size());
+		assertEquals("a", entries.get("a.txt"));
+		assertEquals("b", entries.get("b/b.txt"));
+		assertEquals("c", entries.get("c.txt"));
+		assertEquals("d", entries.get("d.txt"));
+	}
+
+	public void testDuplicateEntryKeepsFirst() throws Exception {
+		ZipWriterImpl zipWriterImpl = new ZipWriterImpl(_file);
+
+		zipWriterImpl.addEntry("a.txt", "first");
+		zipWriterImpl.addEntry("/a.txt", "second");
+
+		Map<String, String> entries = readEntries(zipWriterImpl.getFile());
+
+		assertEquals(1, entries.size());
+		assertEquals("first", entries.get("a.txt"));
+	}
+
+	public void testEmptyArchive() throws Exception {
+		ZipWriterImpl zipWriterImpl = new ZipWriterImpl(_file);
+
+		File file = zipWriterImpl.getFile();
+
+		assertTrue(file.isFile());
+		assertTrue(readEntries(file).isEmpty());
+		assertEquals(file.length(), zipWriterImpl.finish().length);
+	}
+
+	public void testGetPath() throws Exception {
+		ZipWriterImpl zipWriterImpl = new ZipWriterImpl(_file);
+
+		zipWriterImpl.addEntry("a.txt", "a");
+
+		// The path is the archive file itself and its entries are not files
+		// below it
+
+		assertEquals(_file.getPath(), zipWriterImpl.getPath());
+		assertFalse(new File(zipWriterImpl.getPath(), "a.txt").exists());
+
+		File file = zipWriterImpl.getFile();
+
+		assertEquals(file.getPath(), zipWriterImpl.getPath());
+	}
+
+	protected Map<String, String> readEntries(File file) throws Exception {
+		Map<String, String> entries = new HashMap<String, String>();
+
+		ZipInputStream zipInputStream = new ZipInputStream(
+			new FileInputStream(file));
+
+		try {
+			ZipEntry zipEntry = null;
+
+			while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+				ByteArrayOutputStream byteArrayOutputStream =
+					new ByteArrayOutputStream();
+
+				StreamUtil.transfer(
+					zipInputStream, byteArrayOutputStream, false);
+
+				entries.put(
+					zipEntry.getName(), byteArrayOutputStream.toString());
+			}
+		}
+		finally {
+			zipInputStream.close();
+		}
+
+		return entries;
+	}
+
+	private File _file;
+
+}
@@ -0,0 +1,874 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.store;
+
+import com.liferay.portal.kernel.bean.BeanLocator;
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.test.TestCase;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.CompanyConstants;
+import com.liferay.portlet.documentlibrary.NoSuchFileException;
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+import com.liferay.portlet.documentlibrary.service.DLContentHashLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentHashLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLContentReferenceLocalService;
+import com.liferay.portlet.documentlibrary.service.DLContentReferenceLocalServiceUtil;
+
+import java.security.MessageDigest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.codec.binary.Hex;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class ContentAddressedStoreWrapperTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		ReferenceRegistry.releaseReferences();
+
+		final Map<String, Object> beans = new HashMap<String, Object>();
+
+		beans.put(
+			DLContentHashLocalService.class.getName(),
+			newDLContentHashLocalService());
+		beans.put(
+			DLContentReferenceLocalService.class.getName(),
+			newDLContentReferenceLocalService());
+
+		BeanLocator beanLocator = Mockito.mock(BeanLocator.class);
+
+		Mockito.when(
+			beanLocator.getClassLoader()
+		).thenReturn(
+			ContentAddressedStoreWrapperTest.class.getClassLoader()
+		);
+
+		Mockito.when(
+			beanLocator.locate(Matchers.anyString())
+		).thenAnswer(
+			new Answer<Object>() {
+
+				public Object answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return beans.get(arguments[0]);
+				}
+
+			}
+		);
+
+		PortalBeanLocatorUtil.setBeanLocator(beanLocator);
+
+		_store = newStore();
+
+		_contentAddressedStoreWrapper = new ContentAddressedStoreWrapper(
+			_store);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		ReferenceRegistry.releaseReferences();
+
+		super.tearDown();
+	}
+
+	public void testAddFileStoresContentOnce() throws Exception {
+		inTransaction(new AddFileCallable("a.txt"));
+		inTransaction(new AddFileCallable("b.txt"));
+
+		assertEquals(2, _references.size());
+		assertEquals(1, _files.size());
+		assertTrue(_files.containsKey(getContentKey()));
+	}
+
+	public void testConcurrentAddAndDeleteKeepReferencedContent()
+		throws Exception {
+
+		final int count = 200;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Void> addFuture = executorService.submit(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						for (int i = 0; i < count; i++) {
+							inTransaction(new AddFileCallable("add" + i));
+						}
+
+						return null;
+					}
+
+				});
+
+			Future<Void> deleteFuture = executorService.submit(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						for (int i = 0; i < count; i++) {
+							String fileName = "delete" + i;
+
+							inTransaction(new AddFileCallable(fileName));
+							inTransaction(new DeleteFileCallable(fileName));
+						}
+
+						return null;
+					}
+
+				});
+
+			addFuture.get();
+			deleteFuture.get();
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(count, _references.size());
+
+		inTransaction(
+			new Callable<Void>() {
+
+				public Void call() throws Exception {
+					for (int i = 0; i < count; i++) {
+						assertTrue(
+							Arrays.equals(
+								_BYTES,
+								_contentAddressedStoreWrapper.getFileAsBytes(
+									_COMPANY_ID, _REPOSITORY_ID, "add" + i,
+									Store.VERSION_DEFAULT)));
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	public void testAddFileWithoutTransactionKeepsContent() throws Exception {
+		inTransaction(new AddFileCallable("a.txt"));
+
+		_referenceAddedLatch = new CountDownLatch(1);
+		_referenceCommitLatch = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+
+			// Callers such as the preview processors add files through the
+			// store outside of any transaction
+
+			Future<Void> addFuture = executorService.submit(
+				new AddFileCallable("b.txt"));
+
+			assertTrue(_referenceAddedLatch.await(10, TimeUnit.SECONDS));
+
+			Future<Void> deleteFuture = executorService.submit(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						inTransaction(new DeleteFileCallable("a.txt"));
+
+						return null;
+					}
+
+				});
+
+			// The lock of the hash is held until the reference is committed
+
+			Thread.sleep(100);
+
+			assertFalse(deleteFuture.isDone());
+			assertTrue(_files.containsKey(getContentKey()));
+
+			_referenceCommitLatch.countDown();
+
+			addFuture.get();
+			deleteFuture.get();
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(1, _references.size());
+		assertTrue(_files.containsKey(getContentKey()));
+
+		for (ReentrantLock lock : _locks.values()) {
+			assertFalse(lock.isLocked());
+		}
+	}
+
+	public void testDeleteDuringUncommittedAddKeepsContent()
+		throws Exception {
+
+		inTransaction(new AddFileCallable("a.txt"));
+
+		final CountDownLatch addedLatch = new CountDownLatch(1);
+		final CountDownLatch commitLatch = new CountDownLatch(1);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Void> addFuture = executorService.submit(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						inTransaction(
+							new AddFileCallable("b.txt") {
+
+								@Override
+								public Void call() throws Exception {
+									super.call();
+
+									addedLatch.countDown();
+
+									commitLatch.await();
+
+									return null;
+								}
+
+							});
+
+						return null;
+					}
+
+				});
+
+			assertTrue(addedLatch.await(10, TimeUnit.SECONDS));
+
+			Future<Void> deleteFuture = executorService.submit(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						inTransaction(new DeleteFileCallable("a.txt"));
+
+						return null;
+					}
+
+				});
+
+			// The content is deleted after the delete commits and only once
+			// the add releases the lock of its hash
+
+			Thread.sleep(100);
+
+			assertFalse(deleteFuture.isDone());
+			assertTrue(_files.containsKey(getContentKey()));
+
+			commitLatch.countDown();
+
+			addFuture.get();
+			deleteFuture.get();
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(1, _references.size());
+		assertTrue(_files.containsKey(getContentKey()));
+	}
+
+	public void testDeleteLastReferenceDeletesContentAfterCommit()
+		throws Exception {
+
+		inTransaction(new AddFileCallable("a.txt"));
+
+		inTransaction(
+			new DeleteFileCallable("a.txt") {
+
+				@Override
+				public Void call() throws Exception {
+					super.call();
+
+					assertTrue(_files.containsKey(getContentKey()));
+
+					return null;
+				}
+
+			});
+
+		assertTrue(_references.isEmpty());
+		assertFalse(_files.containsKey(getContentKey()));
+	}
+
+	protected void addContent(
+			final long companyId, final long repositoryId,
+			final String fileName, final String versionLabel,
+			final String hash, final byte[] bytes)
+		throws Exception {
+
+		// Joins the transaction of the caller or runs in its own one like
+		// the service
+
+		if (_transaction.get() == null) {
+			inTransaction(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						addContent(
+							companyId, repositoryId, fileName, versionLabel,
+							hash, bytes);
+
+						return null;
+					}
+
+				});
+
+			return;
+		}
+
+		lock(hash);
+
+		String contentPath = ContentAddressedStoreWrapper.getContentPath(hash);
+
+		if (!_store.hasFile(
+				companyId, CompanyConstants.SYSTEM, contentPath,
+				Store.VERSION_DEFAULT)) {
+
+			_store.addFile(
+				companyId, CompanyConstants.SYSTEM, contentPath, bytes);
+		}
+
+		DLContentReferenceLocalServiceUtil.addContentReference(
+			companyId, repositoryId, fileName, versionLabel, hash,
+			bytes.length);
+	}
+
+	protected void addContentReference(
+		long companyId, long repositoryId, String fileName, String version,
+		String hash, long size) {
+
+		Transaction transaction = _transaction.get();
+
+		transaction._addedReferences.put(
+			getKey(companyId, repositoryId, fileName, version),
+			newContentReference(fileName, version, hash, size));
+
+		if (_referenceAddedLatch != null) {
+			_referenceAddedLatch.countDown();
+
+			try {
+				_referenceCommitLatch.await();
+			}
+			catch (InterruptedException ie) {
+				throw new RuntimeException(ie);
+			}
+		}
+	}
+
+	protected List<DLContentReference> deleteContentReferences(
+		String fileName) {
+
+		Transaction transaction = _transaction.get();
+
+		List<DLContentReference> dlContentReferences =
+			new ArrayList<DLContentReference>();
+
+		for (Map.Entry<String, DLContentReference> entry :
+				_references.entrySet()) {
+
+			DLContentReference dlContentReference = entry.getValue();
+
+			if (fileName.equals(dlContentReference.getPath())) {
+				transaction._deletedReferences.add(entry.getKey());
+
+				dlContentReferences.add(dlContentReference);
+			}
+		}
+
+		// Same as DLContentReferenceLocalServiceImpl#releaseContents
+
+		for (final DLContentReference dlContentReference :
+				dlContentReferences) {
+
+			transaction._commitCallables.add(
+				new Callable<Void>() {
+
+					public Void call() throws Exception {
+						DLContentHashLocalServiceUtil.deleteUnreferencedContent(
+							_COMPANY_ID, dlContentReference.getHash());
+
+						return null;
+					}
+
+				});
+		}
+
+		return dlContentReferences;
+	}
+
+	protected void deleteUnreferencedContent(long companyId, String hash)
+		throws Exception {
+
+		lock(hash);
+
+		for (DLContentReference dlContentReference : _references.values()) {
+			if (hash.equals(dlContentReference.getHash())) {
+				return;
+			}
+		}
+
+		try {
+			_store.deleteFile(
+				companyId, CompanyConstants.SYSTEM,
+				ContentAddressedStoreWrapper.getContentPath(hash));
+		}
+		catch (NoSuchFileException nsfe) {
+		}
+	}
+
+	protected DLContentReference fetchContentReference(
+		long companyId, long repositoryId, String fileName, String version) {
+
+		String key = getKey(companyId, repositoryId, fileName, version);
+
+		Transaction transaction = _transaction.get();
+
+		if (transaction == null) {
+			return _references.get(key);
+		}
+
+		if (transaction._addedReferences.containsKey(key)) {
+			return transaction._addedReferences.get(key);
+		}
+
+		if (transaction._deletedReferences.contains(key)) {
+			return null;
+		}
+
+		return _references.get(key);
+	}
+
+	protected String getContentKey() throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+		return getKey(
+			_COMPANY_ID, CompanyConstants.SYSTEM,
+			ContentAddressedStoreWrapper.getContentPath(
+				Hex.encodeHexString(messageDigest.digest(_BYTES))),
+			Store.VERSION_DEFAULT);
+	}
+
+	protected String getKey(
+		long companyId, long repositoryId, String fileName, String version) {
+
+		return companyId + StringPool.SLASH + repositoryId + StringPool.SLASH +
+			fileName + StringPool.SLASH + version;
+	}
+
+	protected void inTransaction(Callable<Void> callable) throws Exception {
+		Transaction transaction = new Transaction();
+
+		_transaction.set(transaction);
+
+		try {
+			callable.call();
+
+			synchronized (_references) {
+				for (String key : transaction._deletedReferences) {
+					_references.remove(key);
+				}
+
+				_references.putAll(transaction._addedReferences);
+			}
+		}
+		finally {
+			_transaction.remove();
+
+			for (ReentrantLock lock : transaction._locks) {
+				lock.unlock();
+			}
+		}
+
+		for (Callable<Void> commitCallable : transaction._commitCallables) {
+			inTransaction(commitCallable);
+		}
+	}
+
+	protected void lock(String hash) {
+		ReentrantLock lock = null;
+
+		synchronized (_locks) {
+			lock = _locks.get(hash);
+
+			if (lock == null) {
+				lock = new ReentrantLock();
+
+				_locks.put(hash, lock);
+			}
+		}
+
+		lock.lock();
+
+		Transaction transaction = _transaction.get();
+
+		transaction._locks.add(lock);
+	}
+
+	protected DLContentReference newContentReference(
+		String fileName, String version, String hash, long size) {
+
+		DLContentReference dlContentReference = Mockito.mock(
+			DLContentReference.class);
+
+		Mockito.when(
+			dlContentReference.getHash()
+		).thenReturn(
+			hash
+		);
+
+		Mockito.when(
+			dlContentReference.getPath()
+		).thenReturn(
+			fileName
+		);
+
+		Mockito.when(
+			dlContentReference.getSize()
+		).thenReturn(
+			size
+		);
+
+		Mockito.when(
+			dlContentReference.getVersion()
+		).thenReturn(
+			version
+		);
+
+		return dlContentReference;
+	}
+
+	protected DLContentHashLocalService newDLContentHashLocalService()
+		throws Exception {
+
+		DLContentHashLocalService dlContentHashLocalService = Mockito.mock(
+			DLContentHashLocalService.class);
+
+		Mockito.doAnswer(
+			new Answer<DLContentReference>() {
+
+				public DLContentReference answer(
+						InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					addContent(
+						(Long)arguments[0], (Long)arguments[1],
+						(String)arguments[2], (String)arguments[3],
+						(String)arguments[4], (byte[])arguments[5]);
+
+					return null;
+				}
+
+			}
+		).when(
+			dlContentHashLocalService
+		).addContent(
+			Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+			Matchers.anyString(), Matchers.anyString(),
+			Matchers.any(byte[].class)
+		);
+
+		Mockito.doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					deleteUnreferencedContent(
+						(Long)arguments[0], (String)arguments[1]);
+
+					return null;
+				}
+
+			}
+		).when(
+			dlContentHashLocalService
+		).deleteUnreferencedContent(
+			Matchers.anyLong(), Matchers.anyString()
+		);
+
+		return dlContentHashLocalService;
+	}
+
+	protected DLContentReferenceLocalService newDLContentReferenceLocalService()
+		throws Exception {
+
+		DLContentReferenceLocalService dlContentReferenceLocalService =
+			Mockito.mock(DLContentReferenceLocalService.class);
+
+		Mockito.doAnswer(
+			new Answer<DLContentReference>() {
+
+				public DLContentReference answer(
+					InvocationOnMock invocationOnMock) {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					addContentReference(
+						(Long)arguments[0], (Long)arguments[1],
+						(String)arguments[2], (String)arguments[3],
+						(String)arguments[4], (Long)arguments[5]);
+
+					return null;
+				}
+
+			}
+		).when(
+			dlContentReferenceLocalService
+		).addContentReference(
+			Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+			Matchers.anyString(), Matchers.anyString(), Matchers.anyLong()
+		);
+
+		Mockito.when(
+			dlContentReferenceLocalService.deleteContentReferences(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString())
+		).thenAnswer(
+			new Answer<List<DLContentReference>>() {
+
+				public List<DLContentReference> answer(
+					InvocationOnMock invocationOnMock) {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return deleteContentReferences((String)arguments[2]);
+				}
+
+			}
+		);
+
+		Mockito.when(
+			dlContentReferenceLocalService.fetchContentReference(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+				Matchers.anyString())
+		).thenAnswer(
+			new Answer<DLContentReference>() {
+
+				public DLContentReference answer(
+					InvocationOnMock invocationOnMock) {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return fetchContentReference(
+						(Long)arguments[0], (Long)arguments[1],
+						(String)arguments[2], (String)arguments[3]);
+				}
+
+			}
+		);
+
+		return dlContentReferenceLocalService;
+	}
+
+	protected Store newStore() throws Exception {
+		Store store = Mockito.mock(Store.class);
+
+		Mockito.doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					Thread.yield();
+
+					_files.put(
+						getKey(
+							(Long)arguments[0], (Long)arguments[1],
+							(String)arguments[2], Store.VERSION_DEFAULT),
+						(byte[])arguments[3]);
+
+					return null;
+				}
+
+			}
+		).when(
+			store
+		).addFile(
+			Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+			Matchers.any(byte[].class)
+		);
+
+		Mockito.doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					String fileName = (String)arguments[2];
+
+					byte[] bytes = _files.remove(
+						getKey(
+							(Long)arguments[0], (Long)arguments[1], fileName,
+							Store.VERSION_DEFAULT));
+
+					if (bytes == null) {
+						throw new NoSuchFileException(fileName);
+					}
+
+					return null;
+				}
+
+			}
+		).when(
+			store
+		).deleteFile(
+			Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString()
+		);
+
+		Mockito.when(
+			store.getFileAsBytes(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+				Matchers.anyString())
+		).thenAnswer(
+			new Answer<byte[]>() {
+
+				public byte[] answer(InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					Object[] arguments = invocationOnMock.getArguments();
+
+					String fileName = (String)arguments[2];
+
+					byte[] bytes = _files.get(
+						getKey(
+							(Long)arguments[0], (Long)arguments[1], fileName,
+							Store.VERSION_DEFAULT));
+
+					if (bytes == null) {
+						throw new NoSuchFileException(fileName);
+					}
+
+					return bytes;
+				}
+
+			}
+		);
+
+		Mockito.when(
+			store.hasFile(
+				Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString(),
+				Matchers.anyString())
+		).thenAnswer(
+			new Answer<Boolean>() {
+
+				public Boolean answer(InvocationOnMock invocationOnMock) {
+					Object[] arguments = invocationOnMock.getArguments();
+
+					return _files.containsKey(
+						getKey(
+							(Long)arguments[0], (Long)arguments[1],
+							(String)arguments[2], Store.VERSION_DEFAULT));
+				}
+
+			}
+		);
+
+		return store;
+	}
+
+	private static final byte[] _BYTES = "content".getBytes();
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long _REPOSITORY_ID = 2;
+
+	private ContentAddressedStoreWrapper _contentAddressedStoreWrapper;
+	private Map<String, byte[]> _files =
+		new ConcurrentHashMap<String, byte[]>();
+	private Map<String, ReentrantLock> _locks =
+		new ConcurrentHashMap<String, ReentrantLock>();
+	private CountDownLatch _referenceAddedLatch;
+	private CountDownLatch _referenceCommitLatch;
+	private Map<String, DLContentReference> _references =
+		new ConcurrentHashMap<String, DLContentReference>();
+	private Store _store;
+	private ThreadLocal<Transaction> _transaction =
+		new ThreadLocal<Transaction>();
+
+	private class AddFileCallable implements Callable<Void> {
+
+		public AddFileCallable(String fileName) {
+			_fileName = fileName;
+		}
+
+		public Void call() throws Exception {
+			_contentAddressedStoreWrapper.addFile(
+				_COMPANY_ID, _REPOSITORY_ID, _fileName, _BYTES);
+
+			return null;
+		}
+
+		private String _fileName;
+
+	}
+
+	private class DeleteFileCallable implements Callable<Void> {
+
+		public DeleteFileCallable(String fileName) {
+			_fileName = fileName;
+		}
+
+		public Void call() throws Exception {
+			_contentAddressedStoreWrapper.deleteFile(
+				_COMPANY_ID, _REPOSITORY_ID, _fileName);
+
+			return null;
+		}
+
+		private String _fileName;
+
+	}
+
+	private class Transaction {
+
+		private Map<String, DLContentReference> _addedReferences =
+			new ConcurrentHashMap<String, DLContentReference>();
+		private List<Callable<Void>> _commitCallables =
+			new ArrayList<Callable<Void>>();
+		private List<String> _deletedReferences = Collections.synchronizedList(
+			new ArrayList<String>());
+		private List<ReentrantLock> _locks = new ArrayList<ReentrantLock>();
+
+	}
+
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.template.TemplateManagerUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portal.util.PropsImpl;
+import com.liferay.portal.velocity.LiferayResourceCacheUtil;
+import com.liferay.portlet.journal.model.JournalArticle;
+import com.liferay.portlet.journal.model.JournalArticleListener;
+import com.liferay.portlet.journal.model.JournalStructure;
+import com.liferay.portlet.journal.model.JournalStructureListener;
+import com.liferay.portlet.journal.model.JournalTemplate;
+import com.liferay.portlet.journal.model.JournalTemplateListener;
+import com.liferay.portlet.journalcontent.util.JournalContentUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@PrepareForTest({
+	CacheUtil.class, JournalContentUtil.class, LiferayResourceCacheUtil.class,
+	TemplateManagerUtil.class
+})
+@RunWith(PowerMockRunner.class)
+@SuppressStaticInitializationFor({
+	"com.liferay.portal.servlet.filters.cache.CacheUtil",
+	"com.liferay.portal.velocity.LiferayResourceCacheUtil"
+})
+public class JournalTransformerTest extends PowerMockito {
+
+	@Before
+	public void setUp() {
+		PropsUtil.setProps(new PropsImpl());
+
+		MultiVMPool multiVMPool = mock(MultiVMPool.class);
+
+		when(
+			multiVMPool.getCache(Matchers.anyString())
+		).thenAnswer(
+			new Answer<PortalCache>() {
+
+				public PortalCache answer(InvocationOnMock invocationOnMock) {
+					String name = (String)invocationOnMock.getArguments()[0];
+
+					return _newPortalCache(name);
+				}
+
+			}
+		);
+
+		new MultiVMPoolUtil().setMultiVMPool(multiVMPool);
+
+		mockStatic(CacheUtil.class);
+		mockStatic(JournalContentUtil.class);
+		mockStatic(LiferayResourceCacheUtil.class);
+		mockStatic(TemplateManagerUtil.class);
+
+		JournalTransformer.clearCache();
+
+		_putCaches();
+	}
+
+	@Test
+	public void testArticleUpdate() {
+		new JournalArticleListener().onAfterUpdate(mock(JournalArticle.class));
+
+		_assertCachesCleared();
+	}
+
+	@Test
+	public void testGetPortalCache() {
+		JournalTransformer journalTransformer = new JournalTransformer();
+
+		PortalCache portalCache = journalTransformer.getPortalCache();
+
+		Assert.assertEquals(
+			JournalTransformer.CACHE_NAME, portalCache.getName());
+	}
+
+	@Test
+	public void testStructureRemove() {
+		new JournalStructureListener().onAfterRemove(
+			mock(JournalStructure.class));
+
+		_assertCachesCleared();
+	}
+
+	@Test
+	public void testStructureUpdate() {
+		new JournalStructureListener().onAfterUpdate(
+			mock(JournalStructure.class));
+
+		_assertCachesCleared();
+	}
+
+	@Test
+	public void testTemplateRemove() throws Exception {
+		new JournalTemplateListener().onAfterRemove(
+			mock(JournalTemplate.class));
+
+		_assertCachesCleared();
+	}
+
+	@Test
+	public void testTemplateUpdate() throws Exception {
+		new JournalTemplateListener().onAfterUpdate(
+			mock(JournalTemplate.class));
+
+		_assertCachesCleared();
+	}
+
+	private void _assertCachesCleared() {
+		Assert.assertTrue(_getCache(JournalTransformer.CACHE_NAME).isEmpty());
+		Assert.assertTrue(_getCache(XSLTemplateParser.CACHE_NAME).isEmpty());
+	}
+
+	private Map<Object, Object> _getCache(String name) {
+		Map<Object, Object> cache = _caches.get(name);
+
+		if (cache == null) {
+			cache = new HashMap<Object, Object>();
+
+			_caches.put(name, cache);
+		}
+
+		return cache;
+	}
+
+	private PortalCache _newPortalCache(final String name) {
+		final Map<Object, Object> cache = _getCache(name);
+
+		PortalCache portalCache = mock(PortalCache.class);
+
+		when(
+			portalCache.getName()
+		).thenReturn(
+			name
+		);
+
+		doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					cache.clear();
+
+					return null;
+				}
+
+			}
+		).when(
+			portalCache
+		).removeAll();
+
+		return portalCache;
+	}
+
+	private void _putCaches() {
+		Map<Object, Object> cache = _getCache(JournalTransformer.CACHE_NAME);
+
+		cache.put("key", new String[] {"xml", "script"});
+
+		cache = _getCache(XSLTemplateParser.CACHE_NAME);
+
+		cache.put("key", new Object());
+	}
+
+	private static Map<String, Map<Object, Object>> _caches =
+		new HashMap<String, Map<Object, Object>>();
+
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.util;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringWriter;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.util.DigesterImpl;
+import com.liferay.portal.util.PropsImpl;
+
+import java.io.Serializable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class XSLTemplateParserTest extends PowerMockito {
+
+	@Before
+	public void setUp() {
+		PropsUtil.setProps(new PropsImpl());
+
+		new DigesterUtil().setDigester(new DigesterImpl());
+
+		MultiVMPool multiVMPool = mock(MultiVMPool.class);
+
+		when(
+			multiVMPool.getCache(Matchers.anyString())
+		).thenReturn(
+			_portalCache
+		);
+
+		new MultiVMPoolUtil().setMultiVMPool(multiVMPool);
+
+		XSLTemplateParser.clearCache();
+
+		_portalCache._putCount = 0;
+	}
+
+	@Test
+	public void testClearCache() throws Exception {
+		_transform(_newXSLTemplateParser("1", "en_US", _SCRIPT));
+
+		XSLTemplateParser.clearCache();
+
+		Assert.assertEquals(0, _portalCache.size());
+
+		Assert.assertEquals(
+			"Hello",
+			_transform(_newXSLTemplateParser("1", "en_US", _SCRIPT)));
+
+		Assert.assertEquals(2, _portalCache._putCount);
+	}
+
+	@Test
+	public void testTemplatesCacheHit() throws Exception {
+		XSLTemplateParser xslTemplateParser = _newXSLTemplateParser(
+			"1", "en_US", _SCRIPT);
+
+		Transformer transformer = _getTransformer(xslTemplateParser);
+
+		Assert.assertEquals(1, _portalCache.size());
+
+		Object templates = _portalCache.getValue();
+
+		// Another view of the same template uses the compiled template, but
+		// gets its own transformer
+
+		Transformer cachedTransformer = _getTransformer(
+			_newXSLTemplateParser("1", "en_US", _SCRIPT));
+
+		Assert.assertNotSame(transformer, cachedTransformer);
+		Assert.assertEquals(1, _portalCache.size());
+		Assert.assertSame(templates, _portalCache.getValue());
+		Assert.assertEquals(1, _portalCache._putCount);
+
+		Assert.assertEquals(
+			"Hello", _transform(_newXSLTemplateParser("1", "en_US", _SCRIPT)));
+	}
+
+	@Test
+	public void testTemplatesCacheMiss() throws Exception {
+		_transform(_newXSLTemplateParser("1", "en_US", _SCRIPT));
+
+		// The template ID, the language and the script are each part of the
+		// key
+
+		_transform(_newXSLTemplateParser("2", "en_US", _SCRIPT));
+		_transform(_newXSLTemplateParser("1", "es_ES", _SCRIPT));
+
+		Assert.assertEquals(
+			"Hello world",
+			_transform(
+				_newXSLTemplateParser(
+					"1", "en_US", _SCRIPT.replace("Hello", "Hello world"))));
+
+		Assert.assertEquals(4, _portalCache.size());
+		Assert.assertEquals(4, _portalCache._putCount);
+	}
+
+	private Transformer _getTransformer(XSLTemplateParser xslTemplateParser)
+		throws Exception {
+
+		XSLContext xslContext =
+			(XSLContext)xslTemplateParser.getTemplateContext();
+
+		return xslContext.getTransformer();
+	}
+
+	private XSLTemplateParser _newXSLTemplateParser(
+		String templateId, String languageId, String script) {
+
+		Map<String, String> tokens = new HashMap<String, String>();
+
+		tokens.put("group_id", "10");
+		tokens.put("template_id", templateId);
+
+		XSLTemplateParser xslTemplateParser = new XSLTemplateParser();
+
+		xslTemplateParser.setLanguageId(languageId);
+		xslTemplateParser.setScript(script);
+		xslTemplateParser.setTokens(tokens);
+
+		return xslTemplateParser;
+	}
+
+	private String _transform(XSLTemplateParser xslTemplateParser)
+		throws Exception {
+
+		Transformer transformer = _getTransformer(xslTemplateParser);
+
+		UnsyncStringWriter unsyncStringWriter = new UnsyncStringWriter();
+
+		transformer.transform(
+			new StreamSource(new UnsyncStringReader("<root />")),
+			new StreamResult(unsyncStringWriter));
+
+		return unsyncStringWriter.toString();
+	}
+
+	private static final String _SCRIPT =
+		"<xsl:stylesheet version=\"1.0\" " +
+			"xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">" +
+				"<xsl:output method=\"text\" />" +
+					"<xsl:template match=\"/\">Hello</xsl:template>" +
+						"</xsl:stylesheet>";
+
+	private static TestPortalCache _portalCache = new TestPortalCache();
+
+	private static class TestPortalCache extends MemoryPortalCache {
+
+		public TestPortalCache() {
+			super(XSLTemplateParserTest.class.getName(), 16);
+		}
+
+		public Object getValue() {
+			Iterator<Serializable> iterator = _keys.iterator();
+
+			return get(iterator.next());
+		}
+
+		@Override
+		public void removeAll() {
+			_keys.clear();
+
+			super.removeAll();
+		}
+
+		public int size() {
+			return _keys.size();
+		}
+
+		@Override
+		protected void notifyPutEvents(
+			Serializable key, Object value, boolean updated) {
+
+			_keys.add(key);
+			_putCount++;
+
+			super.notifyPutEvents(key, value, updated);
+		}
+
+		private Set<Serializable> _keys = new ConcurrentHashSet<Serializable>();
+		private int _putCount;
+
+	}
+
+}
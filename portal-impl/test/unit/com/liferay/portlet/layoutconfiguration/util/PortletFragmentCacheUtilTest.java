@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.WebKeys;
+import com.liferay.portal.kernel.xml.QName;
+import com.liferay.portal.model.LayoutTypePortlet;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.PublicRenderParameter;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.DigesterImpl;
+import com.liferay.portal.util.PropsImpl;
+import com.liferay.portlet.PortletPreferencesFactory;
+import com.liferay.portlet.PortletPreferencesFactoryUtil;
+import com.liferay.portlet.PortletQNameImpl;
+import com.liferay.portlet.PortletQNameUtil;
+import com.liferay.portlet.PublicRenderParametersPool;
+import com.liferay.portlet.RenderParametersPool;
+import com.liferay.portlet.portletconfiguration.util.PublicRenderParameterConfiguration;
+
+import java.util.Set;
+
+import javax.portlet.PortletPreferences;
+
+import javax.servlet.http.HttpServletRequest;
+
+import junit.framework.Assert;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@RunWith(PowerMockRunner.class)
+public class PortletFragmentCacheUtilTest extends PowerMockito {
+
+	@Before
+	public void setUp() {
+		PropsUtil.setProps(new PropsImpl());
+
+		MultiVMPool multiVMPool = mock(MultiVMPool.class);
+
+		when(
+			multiVMPool.getCache(Matchers.anyString())
+		).thenReturn(
+			mock(PortalCache.class)
+		);
+
+		new MultiVMPoolUtil().setMultiVMPool(multiVMPool);
+
+		new DigesterUtil().setDigester(new DigesterImpl());
+
+		new PortletQNameUtil().setPortletQName(new PortletQNameImpl());
+
+		Set<String> portletIds = Whitebox.getInternalState(
+			PortletFragmentCacheUtil.class, "_portletIds");
+
+		portletIds.add(_PORTLET_ID);
+
+		_setUpPortlet();
+		_setUpPortletPreferences();
+		_setUpRequest();
+	}
+
+	@Test
+	public void testGetKey() {
+		String key = _getKey();
+
+		Assert.assertNotNull(key);
+		Assert.assertEquals(key, _getKey());
+	}
+
+	@Test
+	public void testGetKeyWithPublicRenderParameter() {
+		String key = _getKey();
+
+		// A value of the public render parameter that was kept from an earlier
+		// request
+
+		PublicRenderParametersPool.get(_request, _PLID).put(
+			_publicRenderParameterName, new String[] {"1"});
+
+		String poolKey = _getKey();
+
+		Assert.assertFalse(key.equals(poolKey));
+
+		// A value of the request parameter the public render parameter is
+		// mapped to overrides the kept value
+
+		_request.addParameter("categoryId", "2");
+
+		String mappedKey = _getKey();
+
+		Assert.assertFalse(key.equals(mappedKey));
+		Assert.assertFalse(poolKey.equals(mappedKey));
+	}
+
+	@Test
+	public void testGetKeyWithPublicRenderParameterRequest() {
+		Assert.assertNotNull(_getKey());
+
+		// The portlet container stores the value of a public render parameter
+		// of the request only when it renders the portlet
+
+		_request.addParameter(_publicRenderParameterName, "1");
+
+		Assert.assertNull(_getKey());
+	}
+
+	@Test
+	public void testGetKeyWithRenderParameter() {
+		String key = _getKey();
+
+		RenderParametersPool.get(_request, _PLID, _PORTLET_ID).put(
+			"resetCur", new String[] {"true"});
+
+		String resetCurKey = _getKey();
+
+		Assert.assertFalse(key.equals(resetCurKey));
+
+		RenderParametersPool.get(_request, _PLID, _PORTLET_ID).put(
+			"tag", new String[] {"a"});
+
+		Assert.assertFalse(resetCurKey.equals(_getKey()));
+	}
+
+	@Test
+	public void testGetKeyWithoutCaching() {
+		when(
+			_portlet.getRootPortletId()
+		).thenReturn(
+			"56"
+		);
+
+		Assert.assertNull(_getKey());
+	}
+
+	private String _getKey() {
+		return PortletFragmentCacheUtil.getKey(
+			_request, _portlet, "column-1", 0, 1);
+	}
+
+	private void _setUpPortlet() {
+		QName qName = mock(QName.class);
+
+		when(
+			qName.getLocalPart()
+		).thenReturn(
+			"categoryId"
+		);
+
+		when(
+			qName.getNamespaceURI()
+		).thenReturn(
+			"http://www.liferay.com/public-render-parameters/asset"
+		);
+
+		_publicRenderParameter = mock(PublicRenderParameter.class);
+
+		when(
+			_publicRenderParameter.getIdentifier()
+		).thenReturn(
+			"categoryId"
+		);
+
+		when(
+			_publicRenderParameter.getQName()
+		).thenReturn(
+			qName
+		);
+
+		_publicRenderParameterName =
+			PortletQNameUtil.getPublicRenderParameterName(qName);
+
+		_portlet = mock(Portlet.class);
+
+		when(
+			_portlet.getPortletId()
+		).thenReturn(
+			_PORTLET_ID
+		);
+
+		when(
+			_portlet.getPublicRenderParameter(
+				qName.getNamespaceURI(), qName.getLocalPart())
+		).thenReturn(
+			_publicRenderParameter
+		);
+
+		when(
+			_portlet.getPublicRenderParameters()
+		).thenReturn(
+			SetUtil.fromArray(
+				new PublicRenderParameter[] {_publicRenderParameter})
+		);
+
+		when(
+			_portlet.getRootPortletId()
+		).thenReturn(
+			_PORTLET_ID
+		);
+	}
+
+	private void _setUpPortletPreferences() {
+		PortletPreferences portletPreferences = mock(PortletPreferences.class);
+
+		when(
+			portletPreferences.getValue(
+				PublicRenderParameterConfiguration.getMappingKey(
+					_publicRenderParameter),
+				null)
+		).thenReturn(
+			"categoryId"
+		);
+
+		PortletPreferencesFactory portletPreferencesFactory = mock(
+			PortletPreferencesFactory.class);
+
+		try {
+			when(
+				portletPreferencesFactory.getPortletSetup(
+					Matchers.any(HttpServletRequest.class),
+					Matchers.anyString())
+			).thenReturn(
+				portletPreferences
+			);
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+
+		when(
+			portletPreferencesFactory.toXML(portletPreferences)
+		).thenReturn(
+			"<portlet-preferences />"
+		);
+
+		new PortletPreferencesFactoryUtil().setPortletPreferencesFactory(
+			portletPreferencesFactory);
+	}
+
+	private void _setUpRequest() {
+		LayoutTypePortlet layoutTypePortlet = mock(LayoutTypePortlet.class);
+
+		when(
+			layoutTypePortlet.hasModeViewPortletId(_PORTLET_ID)
+		).thenReturn(
+			true
+		);
+
+		when(
+			layoutTypePortlet.hasStateNormalPortletId(_PORTLET_ID)
+		).thenReturn(
+			true
+		);
+
+		PermissionChecker permissionChecker = mock(PermissionChecker.class);
+
+		when(
+			permissionChecker.getRoleIds(
+				Matchers.anyLong(), Matchers.anyLong())
+		).thenReturn(
+			new long[] {2, 1}
+		);
+
+		ThemeDisplay themeDisplay = mock(ThemeDisplay.class);
+
+		when(
+			themeDisplay.getLayoutTypePortlet()
+		).thenReturn(
+			layoutTypePortlet
+		);
+
+		when(
+			themeDisplay.getPermissionChecker()
+		).thenReturn(
+			permissionChecker
+		);
+
+		when(
+			themeDisplay.getPlid()
+		).thenReturn(
+			_PLID
+		);
+
+		_request.setAttribute(WebKeys.THEME_DISPLAY, themeDisplay);
+	}
+
+	private static final long _PLID = 10;
+
+	private static final String _PORTLET_ID = "101";
+
+	private Portlet _portlet;
+	private PublicRenderParameter _publicRenderParameter;
+	private String _publicRenderParameterName;
+	private MockHttpServletRequest _request = new MockHttpServletRequest();
+
+}
@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.portlet.RestrictPortletServletRequest;
+import com.liferay.portal.kernel.servlet.taglib.aui.ScriptData;
+import com.liferay.portal.kernel.servlet.taglib.portletext.RuntimePortletIDs;
+import com.liferay.portal.kernel.servlet.taglib.util.OutputData;
+import com.liferay.portal.kernel.util.ListMergeable;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.WebKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.portlet.MimeResponse;
+
+import javax.servlet.http.HttpServletRequest;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class PortletFragmentServletRequestTest {
+
+	@Test
+	public void testMergeAttributes() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		ScriptData scriptData = new ScriptData();
+
+		scriptData.append("56", "a();", null);
+
+		request.setAttribute(WebKeys.AUI_SCRIPT_DATA, scriptData);
+
+		List<String> markupHeadElements = new ArrayList<String>();
+
+		markupHeadElements.add("<meta name=\"a\" />");
+
+		request.setAttribute(
+			MimeResponse.MARKUP_HEAD_ELEMENT, markupHeadElements);
+
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(request);
+
+		_render(portletFragmentServletRequest);
+
+		// The render does not see nor change the attributes of the page until
+		// they are merged
+
+		Assert.assertEquals("a();", _getRaw(request));
+		Assert.assertEquals(1, markupHeadElements.size());
+
+		portletFragmentServletRequest.mergeAttributes();
+
+		String raw = _getRaw(request);
+
+		Assert.assertEquals(8, raw.length());
+		Assert.assertTrue(raw.contains("a();"));
+		Assert.assertTrue(raw.contains("b();"));
+		Assert.assertEquals(
+			Arrays.asList("<meta name=\"a\" />", "<meta name=\"b\" />"),
+			markupHeadElements);
+		Assert.assertEquals(
+			"Title", _getListMergeable(request, WebKeys.PAGE_TITLE));
+		Assert.assertEquals("<link />", _getMergedData(request));
+	}
+
+	@Test
+	public void testReplay() {
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(new MockHttpServletRequest());
+
+		_render(portletFragmentServletRequest);
+
+		PortletFragment portletFragment =
+			portletFragmentServletRequest.getPortletFragment("101", "content");
+
+		Assert.assertNotNull(portletFragment);
+		Assert.assertEquals("content", portletFragment.getContent());
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		ListMergeable<String> titleListMergeable = new ListMergeable<String>();
+
+		titleListMergeable.add("Page");
+
+		request.setAttribute(WebKeys.PAGE_TITLE, titleListMergeable);
+
+		portletFragment.replay(request);
+
+		Assert.assertEquals("b();", _getRaw(request));
+		Assert.assertEquals(
+			"Page,Title", _getListMergeable(request, WebKeys.PAGE_TITLE));
+		Assert.assertEquals(
+			"Keyword", _getListMergeable(request, WebKeys.PAGE_KEYWORDS));
+		Assert.assertEquals("<link />", _getMergedData(request));
+		Assert.assertEquals(
+			Arrays.asList("<meta name=\"b\" />"),
+			request.getAttribute(MimeResponse.MARKUP_HEAD_ELEMENT));
+
+		ScriptData scriptData = (ScriptData)request.getAttribute(
+			WebKeys.AUI_SCRIPT_DATA);
+
+		Assert.assertEquals(
+			"(function() {(function() {c();})();})();",
+			String.valueOf(scriptData.getCallbackSB()));
+		Assert.assertTrue(scriptData.getUseSet().contains("aui-base"));
+
+		RuntimePortletIDs runtimePortletIDs =
+			(RuntimePortletIDs)request.getAttribute(
+				WebKeys.RUNTIME_PORTLET_IDS);
+
+		Assert.assertTrue(
+			runtimePortletIDs.getRuntimePortletIDs().contains("56_INSTANCE_a"));
+
+		// Replaying again does not see what the first replay merged
+
+		request = new MockHttpServletRequest();
+
+		portletFragment.replay(request);
+
+		Assert.assertEquals(
+			"Title", _getListMergeable(request, WebKeys.PAGE_TITLE));
+		Assert.assertEquals("<link />", _getMergedData(request));
+	}
+
+	@Test
+	public void testReplayOutputKey() {
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(new MockHttpServletRequest());
+
+		_render(portletFragmentServletRequest);
+
+		PortletFragment portletFragment =
+			portletFragmentServletRequest.getPortletFragment("101", "content");
+
+		// Output that another portlet of the page already added is not added
+		// again
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		OutputData outputData = new OutputData();
+
+		outputData.addOutputKey("key");
+		outputData.addData("key", WebKeys.PAGE_TOP, new StringBundler("<a />"));
+
+		request.setAttribute(WebKeys.OUTPUT_DATA, outputData);
+
+		portletFragment.replay(request);
+
+		Assert.assertEquals("<a />", _getMergedData(request));
+	}
+
+	@Test
+	public void testUnknownAttribute() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(request);
+
+		portletFragmentServletRequest.setAttribute("LIFERAY_SHARED_TEST", "a");
+
+		Assert.assertEquals("a", request.getAttribute("LIFERAY_SHARED_TEST"));
+		Assert.assertFalse(portletFragmentServletRequest.isReplayable());
+		Assert.assertNull(
+			portletFragmentServletRequest.getPortletFragment("101", "content"));
+	}
+
+	@Test
+	public void testUnknownAttributeType() {
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(new MockHttpServletRequest());
+
+		portletFragmentServletRequest.setAttribute(WebKeys.PAGE_TITLE, "Title");
+
+		Assert.assertNull(
+			portletFragmentServletRequest.getPortletFragment("101", "content"));
+	}
+
+	@Test
+	public void testUnsharedAttribute() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		PortletFragmentServletRequest portletFragmentServletRequest =
+			new PortletFragmentServletRequest(request);
+
+		portletFragmentServletRequest.setAttribute("test", "a");
+
+		Assert.assertEquals("a", request.getAttribute("test"));
+		Assert.assertNotNull(
+			portletFragmentServletRequest.getPortletFragment("101", "content"));
+	}
+
+	private String _getListMergeable(HttpServletRequest request, String name) {
+		ListMergeable<String> listMergeable =
+			(ListMergeable<String>)request.getAttribute(name);
+
+		return listMergeable.mergeToString(",");
+	}
+
+	private String _getMergedData(HttpServletRequest request) {
+		OutputData outputData = (OutputData)request.getAttribute(
+			WebKeys.OUTPUT_DATA);
+
+		return String.valueOf(outputData.getMergedData(WebKeys.PAGE_TOP));
+	}
+
+	private String _getRaw(HttpServletRequest request) {
+		ScriptData scriptData = (ScriptData)request.getAttribute(
+			WebKeys.AUI_SCRIPT_DATA);
+
+		return String.valueOf(scriptData.getRawSB());
+	}
+
+	/**
+	 * Renders the way the portlet container and the tags do, through a
+	 * restricted request whose shared attributes are merged at the end.
+	 */
+	private void _render(HttpServletRequest request) {
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			new RestrictPortletServletRequest(request);
+
+		ScriptData scriptData =
+			(ScriptData)restrictPortletServletRequest.getAttribute(
+				WebKeys.AUI_SCRIPT_DATA);
+
+		Assert.assertNull(scriptData);
+
+		scriptData = new ScriptData();
+
+		scriptData.append("101", "b();", null);
+		scriptData.append("101", "c();", "aui-base");
+
+		restrictPortletServletRequest.setAttribute(
+			WebKeys.AUI_SCRIPT_DATA, scriptData);
+
+		OutputData outputData =
+			(OutputData)restrictPortletServletRequest.getAttribute(
+				WebKeys.OUTPUT_DATA);
+
+		if (outputData.addOutputKey("key")) {
+			outputData.addData(
+				"key", WebKeys.PAGE_TOP, new StringBundler("<link />"));
+		}
+
+		ListMergeable<String> titleListMergeable = new ListMergeable<String>();
+
+		titleListMergeable.add("Title");
+
+		restrictPortletServletRequest.setAttribute(
+			WebKeys.PAGE_TITLE, titleListMergeable);
+
+		ListMergeable<String> keywordsListMergeable =
+			new ListMergeable<String>();
+
+		keywordsListMergeable.add("Keyword");
+
+		restrictPortletServletRequest.setAttribute(
+			WebKeys.PAGE_KEYWORDS, keywordsListMergeable);
+
+		RuntimePortletIDs runtimePortletIDs = new RuntimePortletIDs();
+
+		runtimePortletIDs.addRuntimePortletID("56_INSTANCE_a");
+
+		restrictPortletServletRequest.setAttribute(
+			WebKeys.RUNTIME_PORTLET_IDS, runtimePortletIDs);
+
+		restrictPortletServletRequest.mergeSharedAttributes();
+
+		// The markup head elements are set on the request of the portlet
+		// itself
+
+		List<String> markupHeadElements = new ArrayList<String>();
+
+		markupHeadElements.add("<meta name=\"b\" />");
+
+		request.setAttribute(
+			MimeResponse.MARKUP_HEAD_ELEMENT, markupHeadElements);
+	}
+
+}
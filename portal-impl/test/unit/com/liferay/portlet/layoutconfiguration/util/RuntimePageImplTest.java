@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManager;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portlet.layoutconfiguration.util.velocity.TemplateProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+
+@RunWith(PowerMockRunner.class)
+public class RuntimePageImplTest extends PowerMockito {
+
+	@Before
+	public void setUp() {
+		PropsUtil.setProps(mock(Props.class));
+
+		_portalExecutorManager = mock(PortalExecutorManager.class);
+
+		new PortalExecutorManagerUtil().setPortalExecutorManager(
+			_portalExecutorManager);
+
+		when(
+			_templateProcessor.isPortletAjaxRender()
+		).thenReturn(
+			true
+		);
+
+		PortletRenderStatisticsUtil.reset();
+	}
+
+	@After
+	public void tearDown() {
+		_executorService.shutdownNow();
+
+		_latch.countDown();
+	}
+
+	@Test
+	public void testInterruptionDoesNotCountAsTimeout() throws Exception {
+		setExecutor(startingThreadPoolExecutor());
+
+		PortletRenderer portletRenderer = mockPortletRenderer("1", 0);
+
+		Thread currentThread = Thread.currentThread();
+
+		currentThread.interrupt();
+
+		try {
+			render(10000, portletRenderer);
+		}
+		finally {
+			Thread.interrupted();
+		}
+
+		Assert.assertEquals(_AJAX_CONTENT, getContent("1"));
+		Assert.assertEquals(
+			0, PortletRenderStatisticsUtil.getTimeoutCount("1"));
+	}
+
+	@Test
+	public void testRenderQueuedPortletsOnRequestThread() throws Exception {
+		setExecutor(mock(ThreadPoolExecutor.class));
+
+		PortletRenderer portletRenderer1 = mockPortletRenderer("1", 0);
+		PortletRenderer portletRenderer2 = mockPortletRenderer("2", 0);
+
+		render(10000, portletRenderer1, portletRenderer2);
+
+		Assert.assertEquals("1", getContent("1"));
+		Assert.assertEquals("2", getContent("2"));
+	}
+
+	@Test
+	public void testSkipQueuedPortletsAfterPageTimeout() throws Exception {
+		ThreadPoolExecutor threadPoolExecutor = mock(ThreadPoolExecutor.class);
+
+		setExecutor(threadPoolExecutor);
+
+		PortletRenderer portletRenderer1 = mockPortletRenderer("1", 200);
+		PortletRenderer portletRenderer2 = mockPortletRenderer("2", 0);
+
+		render(50, portletRenderer1, portletRenderer2);
+
+		Assert.assertEquals("1", getContent("1"));
+		Assert.assertEquals(_AJAX_CONTENT, getContent("2"));
+		Assert.assertEquals(
+			0, PortletRenderStatisticsUtil.getTimeoutCount("2"));
+
+		Mockito.verify(
+			portletRenderer2, Mockito.never()
+		).renderParallel(
+			_request, _response
+		);
+
+		// The executor must not render the skipped portlet either
+
+		ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(
+			Runnable.class);
+
+		Mockito.verify(
+			threadPoolExecutor, Mockito.times(2)
+		).execute(
+			argumentCaptor.capture()
+		);
+
+		for (Runnable runnable : argumentCaptor.getAllValues()) {
+			runnable.run();
+		}
+
+		Assert.assertEquals(0, _callableCount.get());
+	}
+
+	@Test
+	public void testTimeoutOfStartedPortlet() throws Exception {
+		setExecutor(startingThreadPoolExecutor());
+
+		PortletRenderer portletRenderer = mockPortletRenderer("1", 0);
+
+		render(50, portletRenderer);
+
+		Assert.assertEquals(_AJAX_CONTENT, getContent("1"));
+		Assert.assertEquals(
+			1, PortletRenderStatisticsUtil.getTimeoutCount("1"));
+	}
+
+	protected String getContent(String portletId) {
+		StringBundler sb = _contentsMap.get(portletId);
+
+		return sb.toString();
+	}
+
+	protected PortletRenderer mockPortletRenderer(
+			final String portletId, final long renderTime)
+		throws Exception {
+
+		Portlet portlet = mock(Portlet.class);
+
+		when(
+			portlet.getPortletId()
+		).thenReturn(
+			portletId
+		);
+
+		when(
+			portlet.getRootPortletId()
+		).thenReturn(
+			portletId
+		);
+
+		when(
+			portlet.isAjaxable()
+		).thenReturn(
+			true
+		);
+
+		PortletRenderer portletRenderer = mock(PortletRenderer.class);
+
+		when(
+			portletRenderer.getPortlet()
+		).thenReturn(
+			portlet
+		);
+
+		// Executor threads block until the end of the test
+
+		when(
+			portletRenderer.getCallable(_request, _response)
+		).thenReturn(
+			new Callable<StringBundler>() {
+
+				public StringBundler call() throws Exception {
+					_callableCount.incrementAndGet();
+
+					_latch.await();
+
+					return new StringBundler(portletId);
+				}
+
+			}
+		);
+
+		when(
+			portletRenderer.renderAjax(_request, _response)
+		).thenReturn(
+			new StringBundler(_AJAX_CONTENT)
+		);
+
+		when(
+			portletRenderer.renderParallel(_request, _response)
+		).thenAnswer(
+			new Answer<StringBundler>() {
+
+				public StringBundler answer(InvocationOnMock invocationOnMock)
+					throws Exception {
+
+					Thread.sleep(renderTime);
+
+					return new StringBundler(portletId);
+				}
+
+			}
+		);
+
+		return portletRenderer;
+	}
+
+	protected void render(long waitTime, PortletRenderer... portletRenderers)
+		throws Exception {
+
+		RuntimePageImpl runtimePageImpl = new RuntimePageImpl();
+
+		Whitebox.setInternalState(runtimePageImpl, "_waitTime", (int)waitTime);
+
+		List<PortletRenderer> portletRendererList =
+			new ArrayList<PortletRenderer>();
+
+		Collections.addAll(portletRendererList, portletRenderers);
+
+		runtimePageImpl.parallelyRenderPortlets(
+			_request, _response, _templateProcessor, _contentsMap,
+			portletRendererList);
+	}
+
+	protected void setExecutor(ThreadPoolExecutor threadPoolExecutor) {
+		when(
+			_portalExecutorManager.getPortalExecutor(Matchers.anyString())
+		).thenReturn(
+			threadPoolExecutor
+		);
+	}
+
+	protected ThreadPoolExecutor startingThreadPoolExecutor() {
+		ThreadPoolExecutor threadPoolExecutor = mock(ThreadPoolExecutor.class);
+
+		// Start every task on another thread before returning, so that the
+		// request thread never renders it
+
+		doAnswer(
+			new Answer<Void>() {
+
+				public Void answer(InvocationOnMock invocationOnMock) {
+					PortletRendererTask portletRendererTask =
+						(PortletRendererTask)invocationOnMock.getArguments()[0];
+
+					_executorService.execute(portletRendererTask);
+
+					while (portletRendererTask.getStartTime() == 0) {
+						Thread.yield();
+					}
+
+					return null;
+				}
+
+			}
+		).when(
+			threadPoolExecutor
+		).execute(
+			Matchers.any(Runnable.class)
+		);
+
+		return threadPoolExecutor;
+	}
+
+	private static final String _AJAX_CONTENT = "ajax";
+
+	private AtomicInteger _callableCount = new AtomicInteger();
+	private Map<String, StringBundler> _contentsMap =
+		new HashMap<String, StringBundler>();
+	private ExecutorService _executorService = Executors.newCachedThreadPool();
+	private CountDownLatch _latch = new CountDownLatch(1);
+	private PortalExecutorManager _portalExecutorManager;
+	private HttpServletRequest _request = mock(HttpServletRequest.class);
+	private HttpServletResponse _response = mock(HttpServletResponse.class);
+	private TemplateProcessor _templateProcessor = mock(
+		TemplateProcessor.class);
+
+}
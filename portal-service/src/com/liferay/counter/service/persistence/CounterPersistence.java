@@ -100,6 +100,21 @@ public interface CounterPersistence extends BasePersistence<Counter> {
 		java.lang.String name)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the counters with the primary keys, mapped by primary key. Primary keys that do not match a counter are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the counters that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the counters
+	* @return the counters that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.counter.model.Counter> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the counters.
 	*
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache;
+
+import com.liferay.portal.kernel.util.HashUtil;
+
+import java.io.Serializable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets values from any {@link PortalCache} and loads the missing ones with a
+ * single flight per cache and key.
+ *
+ * <p>
+ * Unlike {@link BlockingPortalCache}, the cache does not need to be wrapped
+ * and the caller does not need to put the loaded value itself. When several
+ * threads miss the same key at the same time, only one of them calls the
+ * {@link PortalCacheLoader} and puts the value. The other threads wait for
+ * it and share its value. If the loading thread fails, loads
+ * <code>null</code>, or does not finish within the timeout, each waiting
+ * thread loads the value on its own.
+ * </p>
+ *
+ * <p>
+ * Callers that run inside a transaction should not use this class. A waiting
+ * thread would hold its database locks while it waits, and the loading thread
+ * could share a value that its transaction has not committed.
+ * </p>
+ */
+public class PortalCacheLoaderUtil {
+
+	/**
+	 * Returns the cached value of the key or loads it. A thread that finds
+	 * another thread loading the same key waits for it at most
+	 * <code>timeout</code> milliseconds.
+	 */
+	public static Object get(
+		PortalCache portalCache, Serializable key,
+		PortalCacheLoader portalCacheLoader, long timeout) {
+
+		Object value = portalCache.get(key);
+
+		if (value != null) {
+			return value;
+		}
+
+		FlightKey flightKey = new FlightKey(portalCache.getName(), key);
+
+		Flight flight = new Flight();
+
+		Flight currentFlight = _flights.putIfAbsent(flightKey, flight);
+
+		if (currentFlight != null) {
+			value = currentFlight.await(timeout);
+
+			if (value != null) {
+				return value;
+			}
+
+			return _load(portalCache, key, portalCacheLoader);
+		}
+
+		try {
+			value = _load(portalCache, key, portalCacheLoader);
+
+			flight._value = value;
+
+			return value;
+		}
+		finally {
+			_flights.remove(flightKey, flight);
+
+			flight._countDownLatch.countDown();
+		}
+	}
+
+	private static Object _load(
+		PortalCache portalCache, Serializable key,
+		PortalCacheLoader portalCacheLoader) {
+
+		Object value = portalCacheLoader.load(key);
+
+		if (value != null) {
+			portalCache.put(key, value);
+		}
+
+		return value;
+	}
+
+	private static ConcurrentMap<FlightKey, Flight> _flights =
+		new ConcurrentHashMap<FlightKey, Flight>();
+
+	private static class Flight {
+
+		public Object await(long timeout) {
+			try {
+				if (!_countDownLatch.await(timeout, TimeUnit.MILLISECONDS)) {
+					return null;
+				}
+			}
+			catch (InterruptedException ie) {
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				return null;
+			}
+
+			return _value;
+		}
+
+		private final CountDownLatch _countDownLatch = new CountDownLatch(1);
+		private volatile Object _value;
+
+	}
+
+	private static class FlightKey {
+
+		public FlightKey(String cacheName, Serializable key) {
+			_cacheName = cacheName;
+			_key = key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			FlightKey flightKey = (FlightKey)obj;
+
+			if (_cacheName.equals(flightKey._cacheName) &&
+				_key.equals(flightKey._key)) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = HashUtil.hash(0, _cacheName);
+
+			return HashUtil.hash(hashCode, _key);
+		}
+
+		private final String _cacheName;
+		private final Serializable _key;
+
+	}
+
+}
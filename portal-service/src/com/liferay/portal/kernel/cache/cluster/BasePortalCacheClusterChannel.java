@@ -18,6 +18,8 @@ import com.liferay.portal.kernel.concurrent.CoalescedPipe;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -44,43 +46,86 @@ public abstract class BasePortalCacheClusterChannel
 
 	public abstract void dispatchEvent(PortalCacheClusterEvent event);
 
+	/**
+	 * Dispatches a batch of events drained from the queue. Subclasses that can
+	 * send several events in one message should override this method.
+	 */
+	public void dispatchEvents(List<PortalCacheClusterEvent> events) {
+		for (PortalCacheClusterEvent event : events) {
+			dispatchEvent(event);
+		}
+	}
+
 	public long getCoalescedEventNumber() {
 		return _eventQueue.coalescedCount();
 	}
 
+	public long getDroppedEventNumber() {
+		return _droppedEventCounter.get();
+	}
+
 	public int getPendingEventNumber() {
 		return _eventQueue.pendingCount();
 	}
 
+	public long getSentBatchNumber() {
+		return _sentBatchCounter.get();
+	}
+
 	public long getSentEventNumber() {
 		return _sentEventCounter.get();
 	}
 
 	public void run() {
+		List<PortalCacheClusterEvent> events =
+			new ArrayList<PortalCacheClusterEvent>();
+
 		while (true) {
 			try {
 				if (_destroy) {
-					Object[] events = _eventQueue.takeSnapshot();
+					Object[] pendingEvents = _eventQueue.takeSnapshot();
+
+					for (Object pendingEvent : pendingEvents) {
+						events.add((PortalCacheClusterEvent)pendingEvent);
 
-					for (Object event : events) {
-						dispatchEvent((PortalCacheClusterEvent)event);
+						if (events.size() >= _batchMaxSize) {
+							_dispatchEvents(events);
+						}
+					}
 
-						_sentEventCounter.incrementAndGet();
+					if (!events.isEmpty()) {
+						_dispatchEvents(events);
 					}
 
 					break;
 				}
 				else {
 					try {
-						PortalCacheClusterEvent portalCacheClusterEvent =
-							_eventQueue.take();
+						events.add(_eventQueue.take());
+
+						if (_batchMaxSize > 1) {
+							_eventQueue.drainTo(events, _batchMaxSize - 1);
+
+							// Only wait for more events while a burst is
+							// being batched, a single event is sent at once
 
-						dispatchEvent(portalCacheClusterEvent);
+							if ((events.size() > 1) &&
+								(events.size() < _batchMaxSize) &&
+								(_batchFlushInterval > 0)) {
 
-						_sentEventCounter.incrementAndGet();
+								Thread.sleep(_batchFlushInterval);
+
+								_eventQueue.drainTo(
+									events, _batchMaxSize - events.size());
+							}
+						}
 					}
 					catch (InterruptedException ie) {
 					}
+
+					if (!events.isEmpty()) {
+						_dispatchEvents(events);
+					}
 				}
 			}
 			catch (Throwable t) {
@@ -110,7 +155,61 @@ public abstract class BasePortalCacheClusterChannel
 				_eventQueue.put(portalCacheClusterEvent);
 			}
 			catch (InterruptedException ie) {
+				_droppedEventCounter.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Sends the events in one batch from the calling thread. The events do not
+	 * go through the queue, so they are neither coalesced with nor ordered
+	 * after the events that are still pending.
+	 */
+	public void sendEvents(
+		List<PortalCacheClusterEvent> portalCacheClusterEvents) {
+
+		if (portalCacheClusterEvents.isEmpty()) {
+			return;
+		}
+
+		_dispatchEvents(
+			new ArrayList<PortalCacheClusterEvent>(portalCacheClusterEvents));
+	}
+
+	public void setBatchFlushInterval(long batchFlushInterval) {
+		_batchFlushInterval = batchFlushInterval;
+	}
+
+	public void setBatchMaxSize(int batchMaxSize) {
+		if (batchMaxSize < 1) {
+			batchMaxSize = 1;
+		}
+
+		_batchMaxSize = batchMaxSize;
+	}
+
+	private void _dispatchEvents(List<PortalCacheClusterEvent> events) {
+		int size = events.size();
+
+		try {
+			if (size == 1) {
+				dispatchEvent(events.get(0));
+			}
+			else {
+				dispatchEvents(
+					new ArrayList<PortalCacheClusterEvent>(events));
 			}
+
+			_sentBatchCounter.incrementAndGet();
+			_sentEventCounter.addAndGet(size);
+		}
+		catch (RuntimeException re) {
+			_droppedEventCounter.addAndGet(size);
+
+			throw re;
+		}
+		finally {
+			events.clear();
 		}
 	}
 
@@ -119,9 +218,13 @@ public abstract class BasePortalCacheClusterChannel
 
 	private static AtomicInteger _dispatchThreadCounter = new AtomicInteger(0);
 
+	private volatile long _batchFlushInterval;
+	private volatile int _batchMaxSize = 1;
 	private volatile boolean _destroy = false;
 	private final Thread _dispatchThread;
+	private final AtomicLong _droppedEventCounter = new AtomicLong(0);
 	private final CoalescedPipe<PortalCacheClusterEvent> _eventQueue;
+	private final AtomicLong _sentBatchCounter = new AtomicLong(0);
 	private final AtomicLong _sentEventCounter = new AtomicLong(0);
 	private volatile boolean _started = false;
 
@@ -14,6 +14,8 @@
 
 package com.liferay.portal.kernel.cache.cluster;
 
+import java.util.List;
+
 /**
  * @author Shuyang Zhou
  */
@@ -23,10 +25,17 @@ public interface PortalCacheClusterChannel {
 
 	public long getCoalescedEventNumber();
 
+	public long getDroppedEventNumber();
+
 	public int getPendingEventNumber();
 
+	public long getSentBatchNumber();
+
 	public long getSentEventNumber();
 
 	public void sendEvent(PortalCacheClusterEvent portalCacheClusterEvent);
 
+	public void sendEvents(
+		List<PortalCacheClusterEvent> portalCacheClusterEvents);
+
 }
\ No newline at end of file
@@ -46,6 +46,66 @@ public class PortalCacheClusterLink {
 		}
 	}
 
+	public long getCoalescedEventNumber() {
+		long count = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			count += portalCacheClusterChannel.getCoalescedEventNumber();
+		}
+
+		return count;
+	}
+
+	public long getDroppedEventNumber() {
+		long count = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			count += portalCacheClusterChannel.getDroppedEventNumber();
+		}
+
+		return count;
+	}
+
+	public int getPendingEventNumber() {
+		int count = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			count += portalCacheClusterChannel.getPendingEventNumber();
+		}
+
+		return count;
+	}
+
+	public long getSentBatchNumber() {
+		long count = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			count += portalCacheClusterChannel.getSentBatchNumber();
+		}
+
+		return count;
+	}
+
+	public long getSentEventNumber() {
+		long count = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			count += portalCacheClusterChannel.getSentEventNumber();
+		}
+
+		return count;
+	}
+
 	public long getSubmittedEventNumber() {
 		return _portalCacheClusterChannelSelector.getSelectedNumber();
 	}
@@ -58,6 +118,20 @@ public class PortalCacheClusterLink {
 		portalCacheClusterChannel.sendEvent(portalCacheClusterEvent);
 	}
 
+	public void sendEvents(
+		List<PortalCacheClusterEvent> portalCacheClusterEvents) {
+
+		if (portalCacheClusterEvents.isEmpty()) {
+			return;
+		}
+
+		PortalCacheClusterChannel portalCacheClusterChannel =
+			_portalCacheClusterChannelSelector.select(
+				_portalCacheClusterChannels, portalCacheClusterEvents.get(0));
+
+		portalCacheClusterChannel.sendEvents(portalCacheClusterEvents);
+	}
+
 	public void setChannelNumber(int channelNumber) {
 		_channelNumber = channelNumber;
 	}
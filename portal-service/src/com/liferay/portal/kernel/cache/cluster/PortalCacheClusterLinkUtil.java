@@ -17,11 +17,93 @@ package com.liferay.portal.kernel.cache.cluster;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Shuyang Zhou
  */
 public class PortalCacheClusterLinkUtil {
 
+	/**
+	 * Holds back the events sent by the current thread until the matching call
+	 * to {@link #endBatch()}, which sends them in one cluster message. Batches
+	 * may be nested, the events are sent when the outermost batch ends.
+	 */
+	public static void beginBatch() {
+		EventBatch eventBatch = _eventBatch.get();
+
+		if (eventBatch == null) {
+			eventBatch = new EventBatch();
+
+			_eventBatch.set(eventBatch);
+		}
+
+		eventBatch._depth++;
+	}
+
+	public static void endBatch() {
+		EventBatch eventBatch = _eventBatch.get();
+
+		if (eventBatch == null) {
+			return;
+		}
+
+		if (--eventBatch._depth > 0) {
+			return;
+		}
+
+		_eventBatch.remove();
+
+		if (eventBatch._events.isEmpty()) {
+			return;
+		}
+
+		if (_portalCacheClusterLink == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"PortalCacheClusterLinkUtil has not been initialized.");
+			}
+
+			return;
+		}
+
+		_portalCacheClusterLink.sendEvents(eventBatch._events);
+	}
+
+	public static long getCoalescedEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getCoalescedEventNumber();
+	}
+
+	public static long getDroppedEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getDroppedEventNumber();
+	}
+
+	public static int getPendingEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getPendingEventNumber();
+	}
+
 	public static PortalCacheClusterLink getPortalCacheClusterLink() {
 		if (_portalCacheClusterLink == null) {
 			if (_log.isWarnEnabled()) {
@@ -35,6 +117,28 @@ public class PortalCacheClusterLinkUtil {
 		return _portalCacheClusterLink;
 	}
 
+	public static long getSentBatchNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getSentBatchNumber();
+	}
+
+	public static long getSentEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getSentEventNumber();
+	}
+
 	public static long getSubmittedEventNumber() {
 		if (_portalCacheClusterLink == null) {
 			if (_log.isWarnEnabled()) {
@@ -60,6 +164,14 @@ public class PortalCacheClusterLinkUtil {
 			return;
 		}
 
+		EventBatch eventBatch = _eventBatch.get();
+
+		if (eventBatch != null) {
+			eventBatch._events.add(portalCacheClusterEvent);
+
+			return;
+		}
+
 		_portalCacheClusterLink.sendEvent(portalCacheClusterEvent);
 	}
 
@@ -69,9 +181,19 @@ public class PortalCacheClusterLinkUtil {
 		_portalCacheClusterLink = portalCacheClusterLink;
 	}
 
+	private static ThreadLocal<EventBatch> _eventBatch =
+		new ThreadLocal<EventBatch>();
 	private static Log _log = LogFactoryUtil.getLog(
 		PortalCacheClusterLinkUtil.class);
 
 	private static PortalCacheClusterLink _portalCacheClusterLink;
 
+	private static class EventBatch {
+
+		private int _depth;
+		private List<PortalCacheClusterEvent> _events =
+			new ArrayList<PortalCacheClusterEvent>();
+
+	}
+
 }
\ No newline at end of file
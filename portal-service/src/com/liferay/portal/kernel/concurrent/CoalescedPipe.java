@@ -14,6 +14,7 @@
 
 package com.liferay.portal.kernel.concurrent;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,6 +42,41 @@ public class CoalescedPipe<E> {
 		return _coalescedCount.get();
 	}
 
+	/**
+	 * Removes up to the given number of pending elements without blocking and
+	 * adds them to the collection in the order they were put.
+	 *
+	 * @return the number of elements that were removed
+	 */
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		int count = 0;
+
+		_takeLock.lock();
+
+		try {
+			while ((count < maxElements) && (_pendingCount.get() > 0)) {
+				ElementLink<E> garbageELementLink = _headElementLink;
+
+				_headElementLink = _headElementLink._nextElementLink;
+
+				garbageELementLink._nextElementLink = null;
+
+				collection.add(_headElementLink._element);
+
+				_headElementLink._element = null;
+
+				_pendingCount.getAndDecrement();
+
+				count++;
+			}
+		}
+		finally {
+			_takeLock.unlock();
+		}
+
+		return count;
+	}
+
 	public int pendingCount() {
 		return _pendingCount.get();
 	}
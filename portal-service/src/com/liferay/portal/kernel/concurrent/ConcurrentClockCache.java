@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache with the same contract as {@link ConcurrentLRUCache} that
+ * approximates LRU with the CLOCK algorithm.
+ *
+ * <p>
+ * Reads never lock, they only set the referenced flag of the entry they hit.
+ * Writes lock only the segment their key hashes to. Each segment sweeps its
+ * own fixed size ring of entries with a clock hand, giving second chances to
+ * referenced entries. Every eviction frees <code>maxSize - expectedSize</code>
+ * slots of the segment, so its cost is amortized O(1) per put and it never
+ * copies or sorts the cache. Caches too small to split keep a single segment.
+ * </p>
+ */
+public class ConcurrentClockCache<K, V> {
+
+	public ConcurrentClockCache(int maxSize) {
+		this(maxSize, 0.75F);
+	}
+
+	@SuppressWarnings("unchecked")
+	public ConcurrentClockCache(int maxSize, float loadFactor) {
+		if ((maxSize <= 0) || (loadFactor <= 0) || (loadFactor >= 1)) {
+			throw new IllegalArgumentException();
+		}
+
+		_maxSize = maxSize;
+		_expectedSize = (int)(maxSize * loadFactor);
+
+		if (_expectedSize == 0) {
+			throw new IllegalArgumentException(
+				"maxSize and loadFactor are too small");
+		}
+
+		_cache = new ConcurrentHashMap<K, Entry<K, V>>(maxSize);
+
+		// Split the cache only while every segment keeps enough entries for
+		// the CLOCK sweep to tell hot entries from cold ones
+
+		int segmentsCount = 1;
+
+		while ((segmentsCount < _MAX_SEGMENTS_COUNT) &&
+			((_expectedSize / segmentsCount) >=
+				(_MIN_SEGMENT_EXPECTED_SIZE * 2))) {
+
+			segmentsCount *= 2;
+		}
+
+		_segmentMask = segmentsCount - 1;
+		_segments = (Segment<K, V>[])new Segment<?, ?>[segmentsCount];
+
+		for (int i = 0; i < segmentsCount; i++) {
+			int segmentMaxSize = maxSize / segmentsCount;
+
+			if (i < (maxSize % segmentsCount)) {
+				segmentMaxSize++;
+			}
+
+			_segments[i] = new Segment<K, V>(
+				_cache, _evictCount, segmentMaxSize,
+				(int)(segmentMaxSize * loadFactor));
+		}
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : _segments) {
+			segment.lock();
+		}
+
+		try {
+			_cache.clear();
+
+			for (Segment<K, V> segment : _segments) {
+				segment.reset();
+			}
+		}
+		finally {
+			for (Segment<K, V> segment : _segments) {
+				segment.unlock();
+			}
+		}
+	}
+
+	public long evictCount() {
+		return _evictCount.get();
+	}
+
+	public int expectedSize() {
+		return _expectedSize;
+	}
+
+	public V get(K key) {
+		Entry<K, V> entry = _cache.get(key);
+
+		if (entry != null) {
+			if (!entry._referenced) {
+				entry._referenced = true;
+			}
+
+			_hitCount.getAndIncrement();
+
+			return entry._value;
+		}
+
+		_missCount.getAndIncrement();
+
+		return null;
+	}
+
+	public long hitCount() {
+		return _hitCount.get();
+	}
+
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	public long missCount() {
+		return _missCount.get();
+	}
+
+	public void put(K key, V value) {
+		if (key == null) {
+			throw new NullPointerException("Key is null");
+		}
+
+		Segment<K, V> segment = _getSegment(key);
+
+		segment.put(new Entry<K, V>(key, value));
+
+		_putCount.getAndIncrement();
+	}
+
+	public long putCount() {
+		return _putCount.get();
+	}
+
+	public int size() {
+		return _cache.size();
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler();
+
+		sb.append("{evictCount=");
+		sb.append(_evictCount.get());
+		sb.append(", expectedSize=");
+		sb.append(_expectedSize);
+		sb.append(", hitCount=");
+		sb.append(_hitCount.get());
+		sb.append(", maxSize=");
+		sb.append(_maxSize);
+		sb.append(", missCount=");
+		sb.append(_missCount.get());
+		sb.append(", putCount=");
+		sb.append(_putCount.get());
+		sb.append(", size=");
+		sb.append(size());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	protected int getSegmentsCount() {
+		return _segments.length;
+	}
+
+	private Segment<K, V> _getSegment(K key) {
+		int hash = key.hashCode();
+
+		hash ^= (hash >>> 20) ^ (hash >>> 12);
+		hash ^= (hash >>> 7) ^ (hash >>> 4);
+
+		return _segments[hash & _segmentMask];
+	}
+
+	private static final int _MAX_SEGMENTS_COUNT = 16;
+
+	private static final int _MIN_SEGMENT_EXPECTED_SIZE = 64;
+
+	private final ConcurrentMap<K, Entry<K, V>> _cache;
+	private final AtomicLong _evictCount = new AtomicLong();
+	private final int _expectedSize;
+	private final AtomicLong _hitCount = new AtomicLong();
+	private final int _maxSize;
+	private final AtomicLong _missCount = new AtomicLong();
+	private final AtomicLong _putCount = new AtomicLong();
+	private final int _segmentMask;
+	private final Segment<K, V>[] _segments;
+
+	private static class Entry<K, V> {
+
+		public Entry(K key, V value) {
+			_key = key;
+			_value = value;
+		}
+
+		private int _index;
+		private final K _key;
+		private volatile boolean _referenced;
+		private final V _value;
+
+	}
+
+	private static class Segment<K, V> extends ReentrantLock {
+
+		@SuppressWarnings("unchecked")
+		public Segment(
+			ConcurrentMap<K, Entry<K, V>> cache, AtomicLong evictCount,
+			int maxSize, int expectedSize) {
+
+			_cache = cache;
+			_evictCount = evictCount;
+			_maxSize = maxSize;
+			_expectedSize = expectedSize;
+
+			_freeIndexes = new int[maxSize];
+			_ring = (Entry<K, V>[])new Entry<?, ?>[maxSize];
+
+			reset();
+		}
+
+		public void put(Entry<K, V> entry) {
+			lock();
+
+			try {
+				Entry<K, V> oldEntry = _cache.get(entry._key);
+
+				if (oldEntry != null) {
+					entry._index = oldEntry._index;
+				}
+				else {
+					if (_freeIndexesCount == 0) {
+						_evict();
+					}
+
+					entry._index = _freeIndexes[--_freeIndexesCount];
+				}
+
+				_ring[entry._index] = entry;
+
+				_cache.put(entry._key, entry);
+			}
+			finally {
+				unlock();
+			}
+		}
+
+		public void reset() {
+			Arrays.fill(_ring, null);
+
+			for (int i = 0; i < _maxSize; i++) {
+				_freeIndexes[i] = _maxSize - i - 1;
+			}
+
+			_clockHand = 0;
+			_freeIndexesCount = _maxSize;
+		}
+
+		private void _evict() {
+			int cleanUpSize = _maxSize - _expectedSize;
+
+			_evictCount.getAndAdd(cleanUpSize);
+
+			while (cleanUpSize > 0) {
+				Entry<K, V> entry = _ring[_clockHand];
+
+				if (entry != null) {
+					if (entry._referenced) {
+						entry._referenced = false;
+					}
+					else {
+						_cache.remove(entry._key);
+
+						_ring[_clockHand] = null;
+
+						_freeIndexes[_freeIndexesCount++] = _clockHand;
+
+						cleanUpSize--;
+					}
+				}
+
+				if (++_clockHand == _maxSize) {
+					_clockHand = 0;
+				}
+			}
+		}
+
+		private final ConcurrentMap<K, Entry<K, V>> _cache;
+		private int _clockHand;
+		private final AtomicLong _evictCount;
+		private final int _expectedSize;
+		private final int[] _freeIndexes;
+		private int _freeIndexesCount;
+		private final int _maxSize;
+		private final Entry<K, V>[] _ring;
+
+	}
+
+}
@@ -16,6 +16,9 @@ package com.liferay.portal.kernel.dao.orm;
 
 import java.io.Serializable;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Brian Wing Shun Chan
  */
@@ -30,12 +33,20 @@ public interface EntityCache {
 	public Object getResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey);
 
+	public Map<Serializable, Object> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys);
+
 	public void invalidate();
 
 	public Object loadResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey,
 		SessionFactory sessionFactory);
 
+	public Map<Serializable, Object> loadResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys, SessionFactory sessionFactory);
+
 	public void putResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey,
 		Object result);
@@ -16,6 +16,9 @@ package com.liferay.portal.kernel.dao.orm;
 
 import java.io.Serializable;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Brian Wing Shun Chan
  */
@@ -44,6 +47,14 @@ public class EntityCacheUtil {
 			entityCacheEnabled, clazz, primaryKey);
 	}
 
+	public static Map<Serializable, Object> getResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys) {
+
+		return getEntityCache().getResults(
+			entityCacheEnabled, clazz, primaryKeys);
+	}
+
 	public static void invalidate() {
 		getEntityCache().invalidate();
 	}
@@ -56,6 +67,14 @@ public class EntityCacheUtil {
 			entityCacheEnabled, clazz, primaryKey, sessionFactory);
 	}
 
+	public static Map<Serializable, Object> loadResults(
+		boolean entityCacheEnabled, Class<?> clazz,
+		Collection<Serializable> primaryKeys, SessionFactory sessionFactory) {
+
+		return getEntityCache().loadResults(
+			entityCacheEnabled, clazz, primaryKeys, sessionFactory);
+	}
+
 	public static void putResult(
 		boolean entityCacheEnabled, Class<?> clazz, Serializable primaryKey,
 		Object result) {
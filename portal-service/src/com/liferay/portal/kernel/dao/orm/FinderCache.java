@@ -36,4 +36,8 @@ public interface FinderCache {
 
 	public void removeResult(FinderPath finderPath, Object[] args);
 
+	public void removeResults(FinderPath finderPath, Object[] args);
+
+	public void removeUntaggedResults(String className);
+
 }
\ No newline at end of file
@@ -88,6 +88,14 @@ public class FinderCacheUtil {
 		getFinderCache().removeResult(finderPath, args);
 	}
 
+	public static void removeResults(FinderPath finderPath, Object[] args) {
+		getFinderCache().removeResults(finderPath, args);
+	}
+
+	public static void removeUntaggedResults(String className) {
+		getFinderCache().removeUntaggedResults(className);
+	}
+
 	public void setFinderCache(FinderCache finderCache) {
 		_finderCache = finderCache;
 	}
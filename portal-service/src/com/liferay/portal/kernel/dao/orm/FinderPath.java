@@ -45,6 +45,16 @@ public class FinderPath {
 		Class<?> resultClass, String cacheName, String methodName,
 		String[] params, long columnBitmask) {
 
+		this(
+			entityCacheEnabled, finderCacheEnabled, resultClass, cacheName,
+			methodName, params, columnBitmask, -1);
+	}
+
+	public FinderPath(
+		boolean entityCacheEnabled, boolean finderCacheEnabled,
+		Class<?> resultClass, String cacheName, String methodName,
+		String[] params, long columnBitmask, int tagArgsCount) {
+
 		_entityCacheEnabled = entityCacheEnabled;
 		_finderCacheEnabled = finderCacheEnabled;
 		_resultClass = resultClass;
@@ -52,6 +62,7 @@ public class FinderPath {
 		_methodName = methodName;
 		_params = params;
 		_columnBitmask = columnBitmask;
+		_tagArgsCount = tagArgsCount;
 
 		if (BaseModel.class.isAssignableFrom(_resultClass)) {
 			_cacheKeyGeneratorCacheName =
@@ -103,6 +114,28 @@ public class FinderPath {
 		return _getCacheKey(sb);
 	}
 
+	public Serializable encodeTagKey(Object[] arguments) {
+		StringBundler sb = new StringBundler(_tagArgsCount * 2 + 4);
+
+		sb.append(ShardUtil.getCurrentShardName());
+		sb.append(StringPool.PERIOD);
+		sb.append(_cacheKeyPrefix);
+		sb.append(_TAG_SEPARATOR);
+
+		for (int i = 0; i < _tagArgsCount; i++) {
+			Object arg = arguments[i];
+
+			if (arg == null) {
+				arg = StringPool.BLANK;
+			}
+
+			sb.append(StringPool.PERIOD);
+			sb.append(StringUtil.toHexString(arg));
+		}
+
+		return _getCacheKey(sb);
+	}
+
 	public String getCacheName() {
 		return _cacheName;
 	}
@@ -123,6 +156,10 @@ public class FinderPath {
 		return _resultClass;
 	}
 
+	public int getTagArgsCount() {
+		return _tagArgsCount;
+	}
+
 	public boolean isEntityCacheEnabled() {
 		return _entityCacheEnabled;
 	}
@@ -188,6 +225,8 @@ public class FinderPath {
 
 	private static final String _PARAMS_SEPARATOR = "_P_";
 
+	private static final String _TAG_SEPARATOR = "_T_";
+
 	private CacheKeyGenerator _cacheKeyGenerator;
 	private String _cacheKeyGeneratorCacheName;
 	private String _cacheKeyPrefix;
@@ -199,5 +238,6 @@ public class FinderPath {
 	private String _methodName;
 	private String[] _params;
 	private Class<?> _resultClass;
+	private int _tagArgsCount;
 
 }
\ No newline at end of file
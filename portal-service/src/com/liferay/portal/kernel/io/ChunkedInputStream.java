@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads content that is stored as a sequence of chunks of known sizes, opening
+ * at most one chunk at a time and only when it is first read.
+ *
+ * <p>
+ * Unlike most input streams, {@link #skip(long)} always skips the requested
+ * number of bytes unless the end of the content is reached, and skipped chunks
+ * are never opened. This makes seeking to the start of a range as cheap as
+ * opening the chunk that contains it.
+ * </p>
+ */
+public abstract class ChunkedInputStream extends InputStream {
+
+	public ChunkedInputStream(long[] chunkSizes) {
+		_chunkSizes = chunkSizes;
+	}
+
+	@Override
+	public int available() throws IOException {
+		if (_inputStream == null) {
+			return 0;
+		}
+
+		return (int)Math.min(
+			_inputStream.available(), _chunkSizes[_chunkIndex] - _chunkOffset);
+	}
+
+	@Override
+	public void close() throws IOException {
+		_closeChunk();
+
+		_chunkIndex = _chunkSizes.length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] bytes = new byte[1];
+
+		int count = read(bytes, 0, 1);
+
+		if (count == -1) {
+			return -1;
+		}
+
+		return bytes[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+
+		while (_chunkIndex < _chunkSizes.length) {
+			long remaining = _chunkSizes[_chunkIndex] - _chunkOffset;
+
+			if (remaining > 0) {
+				if (_inputStream == null) {
+					_openChunk();
+				}
+
+				int count = _inputStream.read(
+					bytes, offset, (int)Math.min(length, remaining));
+
+				if (count == -1) {
+					throw new IOException(
+						"Chunk " + _chunkIndex + " ended after " +
+							_chunkOffset + " of " + _chunkSizes[_chunkIndex] +
+							" bytes");
+				}
+
+				_chunkOffset += count;
+
+				return count;
+			}
+
+			_nextChunk();
+		}
+
+		return -1;
+	}
+
+	@Override
+	public long skip(long length) throws IOException {
+		long skipped = 0;
+
+		while ((skipped < length) && (_chunkIndex < _chunkSizes.length)) {
+			long remaining = _chunkSizes[_chunkIndex] - _chunkOffset;
+
+			if ((length - skipped) >= remaining) {
+				skipped += remaining;
+
+				_nextChunk();
+
+				continue;
+			}
+
+			long count = length - skipped;
+
+			if (_inputStream != null) {
+				_skipFully(_inputStream, count);
+			}
+
+			_chunkOffset += count;
+
+			skipped += count;
+		}
+
+		return skipped;
+	}
+
+	protected abstract InputStream openChunk(int chunkIndex)
+		throws IOException;
+
+	private void _closeChunk() throws IOException {
+		if (_inputStream != null) {
+			try {
+				_inputStream.close();
+			}
+			finally {
+				_inputStream = null;
+			}
+		}
+	}
+
+	private void _nextChunk() throws IOException {
+		_closeChunk();
+
+		_chunkIndex++;
+		_chunkOffset = 0;
+	}
+
+	private void _openChunk() throws IOException {
+		_inputStream = openChunk(_chunkIndex);
+
+		if (_inputStream == null) {
+			throw new IOException("Chunk " + _chunkIndex + " does not exist");
+		}
+
+		_skipFully(_inputStream, _chunkOffset);
+	}
+
+	private void _skipFully(InputStream inputStream, long length)
+		throws IOException {
+
+		while (length > 0) {
+			long count = inputStream.skip(length);
+
+			if (count <= 0) {
+				if (inputStream.read() == -1) {
+					throw new IOException(
+						"Chunk " + _chunkIndex + " ended while skipping");
+				}
+
+				count = 1;
+			}
+
+			length -= count;
+		}
+	}
+
+	private int _chunkIndex;
+	private long _chunkOffset;
+	private final long[] _chunkSizes;
+	private InputStream _inputStream;
+
+}
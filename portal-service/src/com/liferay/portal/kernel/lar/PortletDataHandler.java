@@ -65,6 +65,18 @@ public interface PortletDataHandler {
 			PortletPreferences portletPreferences)
 		throws PortletDataException;
 
+	/**
+	 * Returns the class names of the entities whose data this data handler
+	 * exports. A publication from the last publish date skips the data of the
+	 * portlet when the change journal of the group has no change of these
+	 * entities. An empty array means that the changes of the portlet cannot be
+	 * told apart, and such a publication exports every page in full whenever
+	 * the portlet is on one of the published pages.
+	 *
+	 * @return the class names of the entities exported by this data handler
+	 */
+	public String[] getClassNames();
+
 	/**
 	 * Returns an array of the controls defined for this data handler. These
 	 * controls enable the developer to create fine grained controls over export
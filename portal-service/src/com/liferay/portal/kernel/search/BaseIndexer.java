@@ -86,6 +86,9 @@ public abstract class BaseIndexer implements Indexer {
 	public static final int INDEX_FILTER_SEARCH_LIMIT = GetterUtil.getInteger(
 		PropsUtil.get(PropsKeys.INDEX_FILTER_SEARCH_LIMIT));
 
+	public static final int INDEX_REINDEX_THREAD_COUNT = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.INDEX_REINDEX_THREAD_COUNT), 1);
+
 	public void delete(long companyId, String uid) throws SearchException {
 		try {
 			SearchEngineUtil.deleteDocument(
@@ -361,7 +364,33 @@ public abstract class BaseIndexer implements Indexer {
 				return;
 			}
 
-			doReindex(ids);
+			ParallelReindexer parallelReindexer =
+				_parallelReindexerThreadLocal.get();
+
+			if (parallelReindexer != null) {
+				doReindex(ids);
+
+				return;
+			}
+
+			parallelReindexer = new ParallelReindexer(
+				getClass().getName(), INDEX_REINDEX_THREAD_COUNT);
+
+			_parallelReindexerThreadLocal.set(parallelReindexer);
+
+			try {
+				doReindex(ids);
+
+				parallelReindexer.await();
+			}
+			catch (Exception e) {
+				parallelReindexer.cancel();
+
+				throw e;
+			}
+			finally {
+				_parallelReindexerThreadLocal.remove();
+			}
 		}
 		catch (SearchException se) {
 			throw se;
@@ -1148,6 +1177,34 @@ public abstract class BaseIndexer implements Indexer {
 		throws Exception {
 	}
 
+	/**
+	 * Reindexes the primary keys from the minimum ID to the maximum ID in
+	 * intervals of {@link Indexer#DEFAULT_INTERVAL}. During a call of {@link
+	 * #reindex(String[])}, the intervals are reindexed in parallel when the
+	 * property "index.reindex.thread.count" is greater than 1.
+	 */
+	protected void reindexIntervals(
+			long minId, long maxId, IntervalReindexer intervalReindexer)
+		throws Exception {
+
+		ParallelReindexer parallelReindexer =
+			_parallelReindexerThreadLocal.get();
+
+		if (parallelReindexer == null) {
+			parallelReindexer = new ParallelReindexer(getClass().getName(), 1);
+		}
+
+		long startId = minId;
+		long endId = startId + DEFAULT_INTERVAL;
+
+		while (startId <= maxId) {
+			parallelReindexer.reindex(startId, endId, intervalReindexer);
+
+			startId = endId;
+			endId += DEFAULT_INTERVAL;
+		}
+	}
+
 	protected void setFilterSearch(boolean filterSearch) {
 		_filterSearch = filterSearch;
 	}
@@ -1166,6 +1223,9 @@ public abstract class BaseIndexer implements Indexer {
 
 	private static Log _log = LogFactoryUtil.getLog(BaseIndexer.class);
 
+	private static ThreadLocal<ParallelReindexer>
+		_parallelReindexerThreadLocal = new ThreadLocal<ParallelReindexer>();
+
 	private boolean _filterSearch;
 	private boolean _indexerEnabled = true;
 	private IndexerPostProcessor[] _indexerPostProcessors =
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects the documents the current thread adds or updates between {@link
+ * #begin()} and {@link #end()}, and sends them to the index writer as one
+ * message per search engine, company, and run of consecutive adds or updates
+ * instead of one message per document.
+ *
+ * <p>
+ * Batches nest, and only the outermost {@link #end()} sends the documents.
+ * Deleting documents sends the collected documents first, so the index
+ * receives the changes in order. A batch is also sent as soon as it holds the
+ * number of documents set in the property "index.writer.batch.max.size".
+ * Searches do not see the collected documents until they are sent.
+ * </p>
+ */
+public class IndexWriterBatchUtil {
+
+	public static boolean addDocuments(
+			String searchEngineId, long companyId,
+			Collection<Document> documents)
+		throws SearchException {
+
+		return _collect(searchEngineId, companyId, documents, false);
+	}
+
+	public static void begin() {
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch == null) {
+			batch = new Batch();
+
+			_batchThreadLocal.set(batch);
+		}
+
+		batch._depth++;
+	}
+
+	public static void end() throws SearchException {
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch == null) {
+			return;
+		}
+
+		if (--batch._depth > 0) {
+			return;
+		}
+
+		_batchThreadLocal.remove();
+
+		batch.send();
+	}
+
+	public static void flush() throws SearchException {
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch == null) {
+			return;
+		}
+
+		_batchThreadLocal.remove();
+
+		try {
+			batch.send();
+		}
+		finally {
+			_batchThreadLocal.set(batch);
+		}
+	}
+
+	public static boolean isActive() {
+		if (_batchThreadLocal.get() != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public static boolean updateDocuments(
+			String searchEngineId, long companyId,
+			Collection<Document> documents)
+		throws SearchException {
+
+		return _collect(searchEngineId, companyId, documents, true);
+	}
+
+	private static boolean _collect(
+			String searchEngineId, long companyId,
+			Collection<Document> documents, boolean update)
+		throws SearchException {
+
+		Batch batch = _batchThreadLocal.get();
+
+		if (batch == null) {
+			return false;
+		}
+
+		batch.add(searchEngineId, companyId, documents, update);
+
+		if (batch._size >= _MAX_SIZE) {
+			flush();
+		}
+
+		return true;
+	}
+
+	private static final int _MAX_SIZE = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.INDEX_WRITER_BATCH_MAX_SIZE), 1000);
+
+	private static ThreadLocal<Batch> _batchThreadLocal =
+		new ThreadLocal<Batch>();
+
+	private static class Batch {
+
+		public void add(
+			String searchEngineId, long companyId,
+			Collection<Document> documents, boolean update) {
+
+			// Documents are grouped only while consecutive submissions share
+			// the same search engine, company, and operation, so that an add
+			// and a later update of the same document stay in order
+
+			BatchGroup batchGroup = null;
+
+			if (!_batchGroups.isEmpty()) {
+				batchGroup = _batchGroups.get(_batchGroups.size() - 1);
+			}
+
+			if ((batchGroup == null) ||
+				!batchGroup.matches(searchEngineId, companyId, update)) {
+
+				batchGroup = new BatchGroup(searchEngineId, companyId, update);
+
+				_batchGroups.add(batchGroup);
+			}
+
+			batchGroup._documents.addAll(documents);
+
+			_size += documents.size();
+		}
+
+		public void send() throws SearchException {
+			List<BatchGroup> batchGroups = _batchGroups;
+
+			_batchGroups = new ArrayList<BatchGroup>();
+			_size = 0;
+
+			for (BatchGroup batchGroup : batchGroups) {
+				if (batchGroup._update) {
+					SearchEngineUtil.updateDocuments(
+						batchGroup._searchEngineId, batchGroup._companyId,
+						batchGroup._documents);
+				}
+				else {
+					SearchEngineUtil.addDocuments(
+						batchGroup._searchEngineId, batchGroup._companyId,
+						batchGroup._documents);
+				}
+			}
+		}
+
+		private List<BatchGroup> _batchGroups = new ArrayList<BatchGroup>();
+		private int _depth;
+		private int _size;
+
+	}
+
+	private static class BatchGroup {
+
+		public BatchGroup(
+			String searchEngineId, long companyId, boolean update) {
+
+			_searchEngineId = searchEngineId;
+			_companyId = companyId;
+			_update = update;
+		}
+
+		public boolean matches(
+			String searchEngineId, long companyId, boolean update) {
+
+			if (_searchEngineId.equals(searchEngineId) &&
+				(_companyId == companyId) && (_update == update)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		private final long _companyId;
+		private final List<Document> _documents = new ArrayList<Document>();
+		private final String _searchEngineId;
+		private final boolean _update;
+
+	}
+
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reindexes the intervals submitted by one call of {@link
+ * Indexer#reindex(String[])} and reports their progress and throughput.
+ *
+ * <p>
+ * With more than one thread, intervals are reindexed on a shared portal
+ * executor while the calling thread keeps walking the primary key ranges. At
+ * most one interval per thread is in flight, so the walk never runs far ahead
+ * of the executor. Intervals submitted from an executor thread are reindexed
+ * in that thread, so nested reindexing can never wait on its own executor.
+ * </p>
+ */
+public class ParallelReindexer {
+
+	public ParallelReindexer(String name, int threadCount) {
+		_name = name;
+		_threadCount = threadCount;
+
+		if (_threadCount > 1) {
+			_semaphore = new Semaphore(_threadCount);
+		}
+		else {
+			_semaphore = null;
+		}
+
+		_startTime = System.currentTimeMillis();
+	}
+
+	public void await() throws Exception {
+		try {
+			for (Future<Integer> future : _futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ee) {
+				}
+			}
+		}
+		finally {
+			_futures.clear();
+		}
+
+		if (_exception != null) {
+			throw _exception;
+		}
+
+		if (_log.isInfoEnabled() && (_submittedIntervalCount.get() > 0)) {
+			long time = System.currentTimeMillis() - _startTime;
+
+			_log.info(
+				"Reindexed " + _documentCount.get() + " documents in " +
+					_submittedIntervalCount.get() + " intervals of " + _name +
+					" in " + time + " ms at " + _getDocumentsPerSecond(time) +
+					" documents per second");
+		}
+	}
+
+	public void cancel() {
+		for (Future<Integer> future : _futures) {
+			future.cancel(true);
+		}
+
+		_futures.clear();
+	}
+
+	public long getDocumentCount() {
+		return _documentCount.get();
+	}
+
+	public long getReindexedIntervalCount() {
+		return _reindexedIntervalCount.get();
+	}
+
+	public long getSubmittedIntervalCount() {
+		return _submittedIntervalCount.get();
+	}
+
+	public void reindex(
+			final long startId, final long endId,
+			final IntervalReindexer intervalReindexer)
+		throws Exception {
+
+		if (_exception != null) {
+			throw _exception;
+		}
+
+		_submittedIntervalCount.incrementAndGet();
+
+		Boolean reindexing = _reindexing.get();
+
+		if ((_semaphore == null) || (reindexing != null)) {
+			_reindex(startId, endId, intervalReindexer);
+
+			return;
+		}
+
+		_semaphore.acquire();
+
+		ThreadPoolExecutor threadPoolExecutor = _getThreadPoolExecutor(
+			_threadCount);
+
+		CopyThreadLocalCallable<Integer> copyThreadLocalCallable =
+			new CopyThreadLocalCallable<Integer>(false, true) {
+
+				@Override
+				public Integer doCall() throws Exception {
+					_reindexing.set(Boolean.TRUE);
+
+					try {
+						return _reindex(startId, endId, intervalReindexer);
+					}
+					catch (Exception e) {
+						if (_exception == null) {
+							_exception = e;
+						}
+
+						throw e;
+					}
+					finally {
+						_reindexing.remove();
+
+						_semaphore.release();
+					}
+				}
+
+			};
+
+		try {
+			_futures.add(threadPoolExecutor.submit(copyThreadLocalCallable));
+		}
+		catch (RuntimeException re) {
+			_semaphore.release();
+
+			throw re;
+		}
+	}
+
+	private long _getDocumentsPerSecond(long time) {
+		if (time <= 0) {
+			return _documentCount.get();
+		}
+
+		return _documentCount.get() * 1000 / time;
+	}
+
+	private static ThreadPoolExecutor _getThreadPoolExecutor(int threadCount) {
+		String name = ParallelReindexer.class.getName();
+
+		ThreadPoolExecutor threadPoolExecutor =
+			PortalExecutorManagerUtil.getPortalExecutor(name, false);
+
+		if (threadPoolExecutor != null) {
+			return threadPoolExecutor;
+		}
+
+		threadPoolExecutor = new ThreadPoolExecutor(
+			threadCount, threadCount, 60, TimeUnit.SECONDS, true,
+			Integer.MAX_VALUE);
+
+		ThreadPoolExecutor oldThreadPoolExecutor =
+			PortalExecutorManagerUtil.registerPortalExecutor(
+				name, threadPoolExecutor);
+
+		if (oldThreadPoolExecutor != null) {
+			threadPoolExecutor.shutdown();
+
+			threadPoolExecutor = oldThreadPoolExecutor;
+		}
+
+		return threadPoolExecutor;
+	}
+
+	private int _reindex(
+			long startId, long endId, IntervalReindexer intervalReindexer)
+		throws Exception {
+
+		int count = intervalReindexer.reindex(startId, endId);
+
+		long documentCount = _documentCount.addAndGet(count);
+		long reindexedIntervalCount =
+			_reindexedIntervalCount.incrementAndGet();
+
+		if (_log.isInfoEnabled()) {
+			long time = System.currentTimeMillis() - _startTime;
+
+			_log.info(
+				"Reindexed " + count + " documents with IDs from " + startId +
+					" to " + endId + " of " + _name + ", " +
+					reindexedIntervalCount + " of " +
+					_submittedIntervalCount.get() + " intervals and " +
+					documentCount + " documents in " + time + " ms");
+		}
+
+		return count;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(ParallelReindexer.class);
+
+	private static ThreadLocal<Boolean> _reindexing =
+		new ThreadLocal<Boolean>();
+
+	private final AtomicLong _documentCount = new AtomicLong();
+	private volatile Exception _exception;
+	private final List<Future<Integer>> _futures =
+		new ArrayList<Future<Integer>>();
+	private final String _name;
+	private final AtomicLong _reindexedIntervalCount = new AtomicLong();
+	private final Semaphore _semaphore;
+	private final long _startTime;
+	private final AtomicLong _submittedIntervalCount = new AtomicLong();
+	private final int _threadCount;
+
+}
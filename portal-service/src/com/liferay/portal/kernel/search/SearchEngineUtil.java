@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.security.permission.PermissionThreadLocal;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,13 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		if (IndexWriterBatchUtil.addDocuments(
+				searchEngineId, companyId,
+				Collections.singletonList(document))) {
+
+			return;
+		}
+
 		if (_log.isDebugEnabled()) {
 			_log.debug("Add document " + document.toString());
 		}
@@ -100,6 +108,12 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		if (IndexWriterBatchUtil.addDocuments(
+				searchEngineId, companyId, documents)) {
+
+			return;
+		}
+
 		for (Document document : documents) {
 			if (_log.isDebugEnabled()) {
 				_log.debug("Add document " + document.toString());
@@ -146,6 +160,8 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		IndexWriterBatchUtil.flush();
+
 		SearchEngine searchEngine = getSearchEngine(searchEngineId);
 
 		IndexWriter indexWriter = searchEngine.getIndexWriter();
@@ -177,6 +193,8 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		IndexWriterBatchUtil.flush();
+
 		SearchEngine searchEngine = getSearchEngine(searchEngineId);
 
 		IndexWriter indexWriter = searchEngine.getIndexWriter();
@@ -208,6 +226,8 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		IndexWriterBatchUtil.flush();
+
 		SearchEngine searchEngine = getSearchEngine(searchEngineId);
 
 		if (searchEngine == null) {
@@ -490,6 +510,13 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		if (IndexWriterBatchUtil.updateDocuments(
+				searchEngineId, companyId,
+				Collections.singletonList(document))) {
+
+			return;
+		}
+
 		if (_log.isDebugEnabled()) {
 			_log.debug("Document " + document.toString());
 		}
@@ -527,6 +554,12 @@ public class SearchEngineUtil {
 			return;
 		}
 
+		if (IndexWriterBatchUtil.updateDocuments(
+				searchEngineId, companyId, documents)) {
+
+			return;
+		}
+
 		for (Document document : documents) {
 			if (_log.isDebugEnabled()) {
 				_log.debug("Document " + document.toString());
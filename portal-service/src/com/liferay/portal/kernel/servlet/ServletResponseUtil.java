@@ -14,11 +14,13 @@
 
 package com.liferay.portal.kernel.servlet;
 
+import com.liferay.portal.kernel.io.ChunkedInputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.nio.charset.CharsetEncoderUtil;
 import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
@@ -43,12 +45,14 @@ import java.net.SocketException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -122,6 +126,16 @@ public class ServletResponseUtil {
 		write(response, bytes);
 	}
 
+	public static void sendFile(
+			HttpServletRequest request, HttpServletResponse response,
+			String fileName, File file, String contentType)
+		throws IOException {
+
+		setHeaders(request, response, fileName, contentType);
+
+		write(request, response, file);
+	}
+
 	public static void sendFile(
 			HttpServletRequest request, HttpServletResponse response,
 			String fileName, InputStream is)
@@ -202,6 +216,35 @@ public class ServletResponseUtil {
 		sendFile(null, response, fileName, is, contentType);
 	}
 
+	/**
+	 * Writes the file with the sendfile support of the container when the
+	 * container offers it and the response is not wrapped by a filter that
+	 * needs to see the content. Otherwise, the file is written with {@link
+	 * #write(HttpServletResponse, File)}.
+	 */
+	public static void write(
+			HttpServletRequest request, HttpServletResponse response,
+			File file)
+		throws IOException {
+
+		if (!(response instanceof ServletResponseWrapper) &&
+			Boolean.TRUE.equals(request.getAttribute(_SENDFILE_SUPPORT))) {
+
+			long length = file.length();
+
+			response.setHeader(
+				HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+
+			request.setAttribute(_SENDFILE_FILENAME, file.getCanonicalPath());
+			request.setAttribute(_SENDFILE_START, Long.valueOf(0));
+			request.setAttribute(_SENDFILE_END, Long.valueOf(length));
+
+			return;
+		}
+
+		write(response, file);
+	}
+
 	public static void write(
 			HttpServletRequest request, HttpServletResponse response,
 			String fileName, List<Range> ranges, InputStream inputStream,
@@ -234,6 +277,17 @@ public class ServletResponseUtil {
 					inputStream, outputStream, fullRange.getStart(),
 					fullRange.getLength());
 			}
+			else if ((ranges.size() > 1) &&
+					 (inputStream instanceof FileInputStream)) {
+
+				if (_log.isDebugEnabled()) {
+					_log.debug("Writing multiple range");
+				}
+
+				writeMultipleRanges(
+					request, response, fileName, ranges,
+					(FileInputStream)inputStream, outputStream, contentType);
+			}
 			else if (ranges.size() >= 1) {
 				if (_log.isDebugEnabled()) {
 					_log.debug("Attempting to write single or multiple range");
@@ -409,15 +463,15 @@ public class ServletResponseUtil {
 			FileChannel fileChannel = fileInputStream.getChannel();
 
 			try {
-				int contentLength = (int)fileChannel.size();
+				long contentLength = fileChannel.size();
 
-				response.setContentLength(contentLength);
+				response.setHeader(
+					HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
 
 				response.flushBuffer();
 
-				fileChannel.transferTo(
-					0, contentLength,
-					Channels.newChannel(response.getOutputStream()));
+				transfer(
+					fileChannel, 0, contentLength, response.getOutputStream());
 			}
 			finally {
 				fileChannel.close();
@@ -492,10 +546,7 @@ public class ServletResponseUtil {
 		if (inputStream instanceof FileInputStream) {
 			FileInputStream fileInputStream = (FileInputStream)inputStream;
 
-			FileChannel fileChannel = fileInputStream.getChannel();
-
-			fileChannel.transferTo(
-				start, length, Channels.newChannel(outputStream));
+			transfer(fileInputStream.getChannel(), start, length, outputStream);
 		}
 		else if (inputStream instanceof ByteArrayInputStream) {
 			ByteArrayInputStream byteArrayInputStream =
@@ -505,6 +556,14 @@ public class ServletResponseUtil {
 
 			StreamUtil.transfer(byteArrayInputStream, outputStream, length);
 		}
+		else if (inputStream instanceof ChunkedInputStream) {
+			ChunkedInputStream chunkedInputStream =
+				(ChunkedInputStream)inputStream;
+
+			chunkedInputStream.skip(start);
+
+			StreamUtil.transfer(chunkedInputStream, outputStream, length);
+		}
 		else {
 			RandomAccessInputStream randomAccessInputStream =
 				new RandomAccessInputStream(inputStream);
@@ -633,12 +692,113 @@ public class ServletResponseUtil {
 			HttpHeaders.CONTENT_LENGTH, String.valueOf(range.getLength()));
 	}
 
+	/**
+	 * Transfers a region of the file channel with {@link
+	 * FileChannel#transferTo(long, long, WritableByteChannel)} so that the
+	 * file is never read into the heap. A single call may transfer fewer bytes
+	 * than requested, so it is repeated until the region is written.
+	 */
+	protected static void transfer(
+			FileChannel fileChannel, long position, long count,
+			OutputStream outputStream)
+		throws IOException {
+
+		WritableByteChannel writableByteChannel = Channels.newChannel(
+			outputStream);
+
+		long end = position + count;
+
+		while (position < end) {
+			long transferred = fileChannel.transferTo(
+				position, end - position, writableByteChannel);
+
+			if (transferred <= 0) {
+				break;
+			}
+
+			position += transferred;
+		}
+	}
+
+	protected static void writeMultipleRanges(
+			HttpServletRequest request, HttpServletResponse response,
+			String fileName, List<Range> ranges,
+			FileInputStream fileInputStream, OutputStream outputStream,
+			String contentType)
+		throws IOException {
+
+		setHeaders(request, response, fileName, null);
+
+		response.setContentType(
+			ContentTypes.MULTIPART_BYTERANGES + "; boundary=" +
+				_MULTIPART_BOUNDARY);
+
+		response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+		FileChannel fileChannel = fileInputStream.getChannel();
+
+		for (Range range : ranges) {
+			StringBundler sb = new StringBundler(16);
+
+			sb.append(StringPool.RETURN_NEW_LINE);
+			sb.append(StringPool.DOUBLE_DASH);
+			sb.append(_MULTIPART_BOUNDARY);
+			sb.append(StringPool.RETURN_NEW_LINE);
+
+			if (Validator.isNotNull(contentType)) {
+				sb.append(HttpHeaders.CONTENT_TYPE);
+				sb.append(": ");
+				sb.append(contentType);
+				sb.append(StringPool.RETURN_NEW_LINE);
+			}
+
+			sb.append(HttpHeaders.CONTENT_RANGE);
+			sb.append(": bytes ");
+			sb.append(range.getStart());
+			sb.append(StringPool.DASH);
+			sb.append(range.getEnd());
+			sb.append(StringPool.SLASH);
+			sb.append(range.getTotal());
+			sb.append(StringPool.RETURN_NEW_LINE);
+			sb.append(StringPool.RETURN_NEW_LINE);
+
+			String partHeaders = sb.toString();
+
+			outputStream.write(partHeaders.getBytes(StringPool.ISO_8859_1));
+
+			transfer(
+				fileChannel, range.getStart(), range.getLength(),
+				outputStream);
+		}
+
+		String closeDelimiter = StringPool.RETURN_NEW_LINE.concat(
+			StringPool.DOUBLE_DASH).concat(_MULTIPART_BOUNDARY).concat(
+				StringPool.DOUBLE_DASH).concat(StringPool.RETURN_NEW_LINE);
+
+		outputStream.write(closeDelimiter.getBytes(StringPool.ISO_8859_1));
+	}
+
 	private static final String _CLIENT_ABORT_EXCEPTION =
 		"org.apache.catalina.connector.ClientAbortException";
 
+	private static final String _MULTIPART_BOUNDARY =
+		"liferay_multipart_byteranges";
+
 	private static final String _RANGE_REGEX =
 		"^bytes=\\d*-\\d*(,\\s?\\d*-\\d*)*$";
 
+	private static final String _SENDFILE_END =
+		"org.apache.tomcat.sendfile.end";
+
+	private static final String _SENDFILE_FILENAME =
+		"org.apache.tomcat.sendfile.filename";
+
+	private static final String _SENDFILE_START =
+		"org.apache.tomcat.sendfile.start";
+
+	private static final String _SENDFILE_SUPPORT =
+		"org.apache.tomcat.sendfile.support";
+
 	private static Log _log = LogFactoryUtil.getLog(ServletResponseUtil.class);
 
 }
\ No newline at end of file
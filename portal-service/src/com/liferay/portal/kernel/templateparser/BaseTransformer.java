@@ -14,9 +14,12 @@
 
 package com.liferay.portal.kernel.templateparser;
 
+import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.Constants;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.LocalizationUtil;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
@@ -27,6 +30,7 @@ import com.liferay.portal.theme.ThemeDisplay;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author Brian Wing Shun Chan
@@ -102,6 +106,17 @@ public abstract class BaseTransformer implements Transformer {
 			_logTransformBefore.debug(xml);
 		}
 
+		String cacheKey = null;
+		String[] preprocessedScripts = null;
+
+		PortalCache portalCache = getPortalCache();
+
+		if (portalCache != null) {
+			cacheKey = getCacheKey(tokens, languageId, xml, script, langType);
+
+			preprocessedScripts = (String[])portalCache.get(cacheKey);
+		}
+
 		List<TransformerListener> listenersList =
 			new ArrayList<TransformerListener>();
 
@@ -133,6 +148,10 @@ public abstract class BaseTransformer implements Transformer {
 				_log.error(e, e);
 			}
 
+			if (preprocessedScripts != null) {
+				continue;
+			}
+
 			// Modify XML
 
 			if (_logXmlBeforeListener.isDebugEnabled()) {
@@ -162,6 +181,14 @@ public abstract class BaseTransformer implements Transformer {
 			}
 		}
 
+		if (preprocessedScripts != null) {
+			xml = preprocessedScripts[0];
+			script = preprocessedScripts[1];
+		}
+		else if (portalCache != null) {
+			portalCache.put(cacheKey, new String[] {xml, script});
+		}
+
 		// Transform
 
 		String output = null;
@@ -227,6 +254,33 @@ public abstract class BaseTransformer implements Transformer {
 		return output;
 	}
 
+	protected String getCacheKey(
+		Map<String, String> tokens, String languageId, String xml,
+		String script, String langType) {
+
+		Map<String, String> sortedTokens = new TreeMap<String, String>();
+
+		if (tokens != null) {
+			sortedTokens.putAll(tokens);
+		}
+
+		return DigesterUtil.digestHex(
+			Digester.SHA_1, langType, languageId, sortedTokens.toString(),
+			script, xml);
+	}
+
+	/**
+	 * Returns the cache of the XML and script produced by the listeners, or
+	 * <code>null</code> if the listeners run on every transformation. The
+	 * cached XML and script are keyed by the tokens, language, XML and script
+	 * they were produced from, so a transformer should only return a cache if
+	 * its listeners modify the XML and script based on nothing else, or if it
+	 * clears the cache whenever anything else they depend on changes.
+	 */
+	protected PortalCache getPortalCache() {
+		return null;
+	}
+
 	protected abstract String getTemplateParserClassName(String langType);
 
 	protected abstract String[] getTransformerListenersClassNames();
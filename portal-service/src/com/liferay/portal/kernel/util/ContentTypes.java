@@ -63,6 +63,8 @@ public interface ContentTypes {
 
 	public static final String MULTIPART_ALTERNATIVE = "multipart/alternative";
 
+	public static final String MULTIPART_BYTERANGES = "multipart/byteranges";
+
 	public static final String MULTIPART_FORM_DATA = "multipart/form-data";
 
 	public static final String MULTIPART_MIXED = "multipart/mixed";
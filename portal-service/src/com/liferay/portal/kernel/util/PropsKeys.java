@@ -255,8 +255,16 @@ public interface PropsKeys {
 
 	public static final String BUFFERED_INCREMENT_SERIAL_QUEUE_SIZE = "buffered.increment.serial.queue.size";
 
+	public static final String CACHE_CONTENT_COALESCE_TIMEOUT = "cache.content.coalesce.timeout";
+
+	public static final String CACHE_CONTENT_STALE_MAX_AGE = "cache.content.stale.max.age";
+
+	public static final String CACHE_CONTENT_STALE_MAX_SIZE = "cache.content.stale.max.size";
+
 	public static final String CACHE_CONTENT_THRESHOLD_SIZE = "cache.content.threshold.size";
 
+	public static final String CACHE_CONTENT_TIME_TO_LIVE = "cache.content.time.to.live";
+
 	public static final String CALENDAR_EMAIL_EVENT_REMINDER_BODY = "calendar.email.event.reminder.body";
 
 	public static final String CALENDAR_EMAIL_EVENT_REMINDER_ENABLED = "calendar.email.event.reminder.enabled";
@@ -415,6 +423,12 @@ public interface PropsKeys {
 
 	public static final String CONVERT_PROCESSES = "convert.processes";
 
+	public static final String COUNTER_ADAPTIVE_INCREMENT_ENABLED = "counter.adaptive.increment.enabled";
+
+	public static final String COUNTER_ADAPTIVE_INCREMENT_MAX = "counter.adaptive.increment.max";
+
+	public static final String COUNTER_ADAPTIVE_INCREMENT_REFILL_INTERVAL = "counter.adaptive.increment.refill.interval";
+
 	public static final String COUNTER_INCREMENT = "counter.increment";
 
 	public static final String COUNTER_INCREMENT_PREFIX = "counter.increment.";
@@ -637,6 +651,10 @@ public interface PropsKeys {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = "dl.store.cmis.system.root.dir";
 
+	public static final String DL_STORE_CONTENT_ADDRESSED_ENABLED = "dl.store.content.addressed.enabled";
+
+	public static final String DL_STORE_DB_CHUNK_SIZE = "dl.store.db.chunk.size";
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = "dl.store.file.system.root.dir";
 
 	public static final String DL_STORE_IMPL = "dl.store.impl";
@@ -683,6 +701,10 @@ public interface PropsKeys {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = "ehcache.cache.manager.peer.provider.factory";
 
+	public static final String EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_FLUSH_INTERVAL = "ehcache.cluster.link.replication.batch.flush.interval";
+
+	public static final String EHCACHE_CLUSTER_LINK_REPLICATION_BATCH_MAX_SIZE = "ehcache.cluster.link.replication.batch.max.size";
+
 	public static final String EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = "ehcache.cluster.link.replication.enabled";
 
 	public static final String EHCACHE_MULTI_VM_CONFIG_LOCATION = "ehcache.multi.vm.config.location";
@@ -759,6 +781,10 @@ public interface PropsKeys {
 
 	public static final String GZIP_COMPRESSION_LEVEL = "gzip.compression.level";
 
+	public static final String GZIP_STATIC_CACHE_MAX_ENTRIES = "gzip.static.cache.max.entries";
+
+	public static final String GZIP_STATIC_CACHE_MAX_SIZE = "gzip.static.cache.max.size";
+
 	public static final String HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
 
 	public static final String HIBERNATE_CONFIGS = "hibernate.configs";
@@ -827,6 +853,8 @@ public interface PropsKeys {
 
 	public static final String INDEX_READ_ONLY = "index.read.only";
 
+	public static final String INDEX_REINDEX_THREAD_COUNT = "index.reindex.thread.count";
+
 	public static final String INDEX_SEARCH_ENGINE_ID = "index.search.engine.id";
 
 	public static final String INDEX_SEARCH_HIGHLIGHT_ENABLED = "index.search.highlight.enabled";
@@ -845,6 +873,8 @@ public interface PropsKeys {
 
 	public static final String INDEX_WITH_THREAD = "index.with.thread";
 
+	public static final String INDEX_WRITER_BATCH_MAX_SIZE = "index.writer.batch.max.size";
+
 	public static final String INVITATION_EMAIL_MAX_RECIPIENTS = "invitation.email.max.recipients";
 
 	public static final String INVITATION_EMAIL_MESSAGE_BODY = "invitation.email.message.body";
@@ -1007,6 +1037,8 @@ public interface PropsKeys {
 
 	public static final String JOURNAL_TEMPLATE_VELOCITY_RESTRICTED_VARIABLES = "journal.template.velocity.restricted.variables";
 
+	public static final String JOURNAL_TRANSFORMER_CACHE_ENABLED = "journal.transformer.cache.enabled";
+
 	public static final String JOURNAL_TRANSFORMER_LISTENER = "journal.transformer.listener";
 
 	public static final String JPA_CONFIGS = "jpa.configs";
@@ -1073,14 +1105,24 @@ public interface PropsKeys {
 
 	public static final String LAYOUT_GUEST_SHOW_MIN_ICON = "layout.guest.show.min.icon";
 
+	public static final String LAYOUT_IMPORT_PREFETCH_SIZE = "layout.import.prefetch.size";
+
 	public static final String LAYOUT_MANAGE_PAGES_INITIAL_CHILDREN = "layout.manage.pages.initial.children";
 
+	public static final String LAYOUT_PARALLEL_EXPORT_ENABLE = "layout.parallel.export.enable";
+
 	public static final String LAYOUT_PARALLEL_RENDER_ENABLE = "layout.parallel.render.enable";
 
+	public static final String LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT = "layout.parallel.render.portlet.timeout";
+
 	public static final String LAYOUT_PARALLEL_RENDER_TIMEOUT = "layout.parallel.render.timeout";
 
 	public static final String LAYOUT_PARENTABLE = "layout.parentable";
 
+	public static final String LAYOUT_PORTLET_FRAGMENT_CACHE_PORTLET_IDS = "layout.portlet.fragment.cache.portlet.ids";
+
+	public static final String LAYOUT_PORTLET_FRAGMENT_CACHE_SIGNED_IN_ENABLED = "layout.portlet.fragment.cache.signed.in.enabled";
+
 	public static final String LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD = "layout.prototype.merge.fail.threshold";
 
 	public static final String LAYOUT_PROTOTYPE_MERGE_LOCK_MAX_TIME = "layout.prototype.merge.lock.max.time";
@@ -1291,6 +1333,8 @@ public interface PropsKeys {
 
 	public static final String LUCENE_REPLICATE_WRITE = "lucene.replicate.write";
 
+	public static final String LUCENE_SHARDS = "lucene.shards";
+
 	public static final String LUCENE_STORE_TYPE = "lucene.store.type";
 
 	public static final String LUCENE_STORE_TYPE_FILE_FORCE_MMAP = "lucene.store.type.file.force.mmap";
@@ -2171,6 +2215,8 @@ public interface PropsKeys {
 
 	public static final String VALUE_OBJECT_ENTITY_CACHE_ENABLED = "value.object.entity.cache.enabled";
 
+	public static final String VALUE_OBJECT_ENTITY_CACHE_LOAD_TIMEOUT = "value.object.entity.cache.load.timeout";
+
 	public static final String VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE = "value.object.entity.thread.local.cache.max.size";
 
 	public static final String VALUE_OBJECT_FINDER_BLOCKING_CACHE = "value.object.finder.blocking.cache";
@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model;
+
+import com.liferay.portal.kernel.bean.AutoEscape;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.expando.model.ExpandoBridge;
+
+import java.io.Serializable;
+
+import java.util.Date;
+
+/**
+ * The base model interface for the StagedModelChange service. Represents a row in the &quot;StagedModelChange&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link com.liferay.portal.model.impl.StagedModelChangeModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link com.liferay.portal.model.impl.StagedModelChangeImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChange
+ * @see com.liferay.portal.model.impl.StagedModelChangeImpl
+ * @see com.liferay.portal.model.impl.StagedModelChangeModelImpl
+ * @generated
+ */
+public interface StagedModelChangeModel extends AttachedModel,
+	BaseModel<StagedModelChange> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a staged model change model instance should use the {@link StagedModelChange} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this staged model change.
+	 *
+	 * @return the primary key of this staged model change
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this staged model change.
+	 *
+	 * @param primaryKey the primary key of this staged model change
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the staged model change ID of this staged model change.
+	 *
+	 * @return the staged model change ID of this staged model change
+	 */
+	public long getStagedModelChangeId();
+
+	/**
+	 * Sets the staged model change ID of this staged model change.
+	 *
+	 * @param stagedModelChangeId the staged model change ID of this staged model change
+	 */
+	public void setStagedModelChangeId(long stagedModelChangeId);
+
+	/**
+	 * Returns the group ID of this staged model change.
+	 *
+	 * @return the group ID of this staged model change
+	 */
+	public long getGroupId();
+
+	/**
+	 * Sets the group ID of this staged model change.
+	 *
+	 * @param groupId the group ID of this staged model change
+	 */
+	public void setGroupId(long groupId);
+
+	/**
+	 * Returns the company ID of this staged model change.
+	 *
+	 * @return the company ID of this staged model change
+	 */
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this staged model change.
+	 *
+	 * @param companyId the company ID of this staged model change
+	 */
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the modified date of this staged model change.
+	 *
+	 * @return the modified date of this staged model change
+	 */
+	public Date getModifiedDate();
+
+	/**
+	 * Sets the modified date of this staged model change.
+	 *
+	 * @param modifiedDate the modified date of this staged model change
+	 */
+	public void setModifiedDate(Date modifiedDate);
+
+	/**
+	 * Returns the fully qualified class name of this staged model change.
+	 *
+	 * @return the fully qualified class name of this staged model change
+	 */
+	public String getClassName();
+
+	public void setClassName(String className);
+
+	/**
+	 * Returns the class name ID of this staged model change.
+	 *
+	 * @return the class name ID of this staged model change
+	 */
+	public long getClassNameId();
+
+	/**
+	 * Sets the class name ID of this staged model change.
+	 *
+	 * @param classNameId the class name ID of this staged model change
+	 */
+	public void setClassNameId(long classNameId);
+
+	/**
+	 * Returns the class p k of this staged model change.
+	 *
+	 * @return the class p k of this staged model change
+	 */
+	public long getClassPK();
+
+	/**
+	 * Sets the class p k of this staged model change.
+	 *
+	 * @param classPK the class p k of this staged model change
+	 */
+	public void setClassPK(long classPK);
+
+	/**
+	 * Returns the class uuid of this staged model change.
+	 *
+	 * @return the class uuid of this staged model change
+	 */
+	@AutoEscape
+	public String getClassUuid();
+
+	/**
+	 * Sets the class uuid of this staged model change.
+	 *
+	 * @param classUuid the class uuid of this staged model change
+	 */
+	public void setClassUuid(String classUuid);
+
+	/**
+	 * Returns the type of this staged model change.
+	 *
+	 * @return the type of this staged model change
+	 */
+	public int getType();
+
+	/**
+	 * Sets the type of this staged model change.
+	 *
+	 * @param type the type of this staged model change
+	 */
+	public void setType(int type);
+
+	public boolean isNew();
+
+	public void setNew(boolean n);
+
+	public boolean isCachedModel();
+
+	public void setCachedModel(boolean cachedModel);
+
+	public boolean isEscapedModel();
+
+	public Serializable getPrimaryKeyObj();
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	public ExpandoBridge getExpandoBridge();
+
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	public Object clone();
+
+	public int compareTo(StagedModelChange stagedModelChange);
+
+	public int hashCode();
+
+	public CacheModel<StagedModelChange> toCacheModel();
+
+	public StagedModelChange toEscapedModel();
+
+	public String toString();
+
+	public String toXmlString();
+}
\ No newline at end of file
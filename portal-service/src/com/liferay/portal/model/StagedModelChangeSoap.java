@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author    Brian Wing Shun Chan
+ * @generated
+ */
+public class StagedModelChangeSoap implements Serializable {
+	public static StagedModelChangeSoap toSoapModel(StagedModelChange model) {
+		StagedModelChangeSoap soapModel = new StagedModelChangeSoap();
+
+		soapModel.setStagedModelChangeId(model.getStagedModelChangeId());
+		soapModel.setGroupId(model.getGroupId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setModifiedDate(model.getModifiedDate());
+		soapModel.setClassNameId(model.getClassNameId());
+		soapModel.setClassPK(model.getClassPK());
+		soapModel.setClassUuid(model.getClassUuid());
+		soapModel.setType(model.getType());
+
+		return soapModel;
+	}
+
+	public static StagedModelChangeSoap[] toSoapModels(
+		StagedModelChange[] models) {
+		StagedModelChangeSoap[] soapModels = new StagedModelChangeSoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static StagedModelChangeSoap[][] toSoapModels(
+		StagedModelChange[][] models) {
+		StagedModelChangeSoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new StagedModelChangeSoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new StagedModelChangeSoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static StagedModelChangeSoap[] toSoapModels(
+		List<StagedModelChange> models) {
+		List<StagedModelChangeSoap> soapModels = new ArrayList<StagedModelChangeSoap>(models.size());
+
+		for (StagedModelChange model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new StagedModelChangeSoap[soapModels.size()]);
+	}
+
+	public StagedModelChangeSoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _stagedModelChangeId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setStagedModelChangeId(pk);
+	}
+
+	public long getStagedModelChangeId() {
+		return _stagedModelChangeId;
+	}
+
+	public void setStagedModelChangeId(long stagedModelChangeId) {
+		_stagedModelChangeId = stagedModelChangeId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public void setGroupId(long groupId) {
+		_groupId = groupId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public Date getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	public void setModifiedDate(Date modifiedDate) {
+		_modifiedDate = modifiedDate;
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public void setClassNameId(long classNameId) {
+		_classNameId = classNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public void setClassPK(long classPK) {
+		_classPK = classPK;
+	}
+
+	public String getClassUuid() {
+		return _classUuid;
+	}
+
+	public void setClassUuid(String classUuid) {
+		_classUuid = classUuid;
+	}
+
+	public int getType() {
+		return _type;
+	}
+
+	public void setType(int type) {
+		_type = type;
+	}
+
+	private long _stagedModelChangeId;
+	private long _groupId;
+	private long _companyId;
+	private Date _modifiedDate;
+	private long _classNameId;
+	private long _classPK;
+	private String _classUuid;
+	private int _type;
+}
\ No newline at end of file
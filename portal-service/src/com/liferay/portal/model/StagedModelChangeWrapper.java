@@ -0,0 +1,373 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.model;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link StagedModelChange}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       StagedModelChange
+ * @generated
+ */
+public class StagedModelChangeWrapper implements StagedModelChange,
+	ModelWrapper<StagedModelChange> {
+	public StagedModelChangeWrapper(StagedModelChange stagedModelChange) {
+		_stagedModelChange = stagedModelChange;
+	}
+
+	public Class<?> getModelClass() {
+		return StagedModelChange.class;
+	}
+
+	public String getModelClassName() {
+		return StagedModelChange.class.getName();
+	}
+
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("stagedModelChangeId", getStagedModelChangeId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("modifiedDate", getModifiedDate());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("classUuid", getClassUuid());
+		attributes.put("type", getType());
+
+		return attributes;
+	}
+
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long stagedModelChangeId = (Long)attributes.get("stagedModelChangeId");
+
+		if (stagedModelChangeId != null) {
+			setStagedModelChangeId(stagedModelChangeId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Date modifiedDate = (Date)attributes.get("modifiedDate");
+
+		if (modifiedDate != null) {
+			setModifiedDate(modifiedDate);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		String classUuid = (String)attributes.get("classUuid");
+
+		if (classUuid != null) {
+			setClassUuid(classUuid);
+		}
+
+		Integer type = (Integer)attributes.get("type");
+
+		if (type != null) {
+			setType(type);
+		}
+	}
+
+	/**
+	* Returns the primary key of this staged model change.
+	*
+	* @return the primary key of this staged model change
+	*/
+	public long getPrimaryKey() {
+		return _stagedModelChange.getPrimaryKey();
+	}
+
+	/**
+	* Sets the primary key of this staged model change.
+	*
+	* @param primaryKey the primary key of this staged model change
+	*/
+	public void setPrimaryKey(long primaryKey) {
+		_stagedModelChange.setPrimaryKey(primaryKey);
+	}
+
+	/**
+	* Returns the staged model change ID of this staged model change.
+	*
+	* @return the staged model change ID of this staged model change
+	*/
+	public long getStagedModelChangeId() {
+		return _stagedModelChange.getStagedModelChangeId();
+	}
+
+	/**
+	* Sets the staged model change ID of this staged model change.
+	*
+	* @param stagedModelChangeId the staged model change ID of this staged model change
+	*/
+	public void setStagedModelChangeId(long stagedModelChangeId) {
+		_stagedModelChange.setStagedModelChangeId(stagedModelChangeId);
+	}
+
+	/**
+	* Returns the group ID of this staged model change.
+	*
+	* @return the group ID of this staged model change
+	*/
+	public long getGroupId() {
+		return _stagedModelChange.getGroupId();
+	}
+
+	/**
+	* Sets the group ID of this staged model change.
+	*
+	* @param groupId the group ID of this staged model change
+	*/
+	public void setGroupId(long groupId) {
+		_stagedModelChange.setGroupId(groupId);
+	}
+
+	/**
+	* Returns the company ID of this staged model change.
+	*
+	* @return the company ID of this staged model change
+	*/
+	public long getCompanyId() {
+		return _stagedModelChange.getCompanyId();
+	}
+
+	/**
+	* Sets the company ID of this staged model change.
+	*
+	* @param companyId the company ID of this staged model change
+	*/
+	public void setCompanyId(long companyId) {
+		_stagedModelChange.setCompanyId(companyId);
+	}
+
+	/**
+	* Returns the modified date of this staged model change.
+	*
+	* @return the modified date of this staged model change
+	*/
+	public java.util.Date getModifiedDate() {
+		return _stagedModelChange.getModifiedDate();
+	}
+
+	/**
+	* Sets the modified date of this staged model change.
+	*
+	* @param modifiedDate the modified date of this staged model change
+	*/
+	public void setModifiedDate(java.util.Date modifiedDate) {
+		_stagedModelChange.setModifiedDate(modifiedDate);
+	}
+
+	/**
+	* Returns the fully qualified class name of this staged model change.
+	*
+	* @return the fully qualified class name of this staged model change
+	*/
+	public java.lang.String getClassName() {
+		return _stagedModelChange.getClassName();
+	}
+
+	public void setClassName(java.lang.String className) {
+		_stagedModelChange.setClassName(className);
+	}
+
+	/**
+	* Returns the class name ID of this staged model change.
+	*
+	* @return the class name ID of this staged model change
+	*/
+	public long getClassNameId() {
+		return _stagedModelChange.getClassNameId();
+	}
+
+	/**
+	* Sets the class name ID of this staged model change.
+	*
+	* @param classNameId the class name ID of this staged model change
+	*/
+	public void setClassNameId(long classNameId) {
+		_stagedModelChange.setClassNameId(classNameId);
+	}
+
+	/**
+	* Returns the class p k of this staged model change.
+	*
+	* @return the class p k of this staged model change
+	*/
+	public long getClassPK() {
+		return _stagedModelChange.getClassPK();
+	}
+
+	/**
+	* Sets the class p k of this staged model change.
+	*
+	* @param classPK the class p k of this staged model change
+	*/
+	public void setClassPK(long classPK) {
+		_stagedModelChange.setClassPK(classPK);
+	}
+
+	/**
+	* Returns the class uuid of this staged model change.
+	*
+	* @return the class uuid of this staged model change
+	*/
+	public java.lang.String getClassUuid() {
+		return _stagedModelChange.getClassUuid();
+	}
+
+	/**
+	* Sets the class uuid of this staged model change.
+	*
+	* @param classUuid the class uuid of this staged model change
+	*/
+	public void setClassUuid(java.lang.String classUuid) {
+		_stagedModelChange.setClassUuid(classUuid);
+	}
+
+	/**
+	* Returns the type of this staged model change.
+	*
+	* @return the type of this staged model change
+	*/
+	public int getType() {
+		return _stagedModelChange.getType();
+	}
+
+	/**
+	* Sets the type of this staged model change.
+	*
+	* @param type the type of this staged model change
+	*/
+	public void setType(int type) {
+		_stagedModelChange.setType(type);
+	}
+
+	public boolean isNew() {
+		return _stagedModelChange.isNew();
+	}
+
+	public void setNew(boolean n) {
+		_stagedModelChange.setNew(n);
+	}
+
+	public boolean isCachedModel() {
+		return _stagedModelChange.isCachedModel();
+	}
+
+	public void setCachedModel(boolean cachedModel) {
+		_stagedModelChange.setCachedModel(cachedModel);
+	}
+
+	public boolean isEscapedModel() {
+		return _stagedModelChange.isEscapedModel();
+	}
+
+	public java.io.Serializable getPrimaryKeyObj() {
+		return _stagedModelChange.getPrimaryKeyObj();
+	}
+
+	public void setPrimaryKeyObj(java.io.Serializable primaryKeyObj) {
+		_stagedModelChange.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	public com.liferay.portlet.expando.model.ExpandoBridge getExpandoBridge() {
+		return _stagedModelChange.getExpandoBridge();
+	}
+
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.service.ServiceContext serviceContext) {
+		_stagedModelChange.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new StagedModelChangeWrapper((StagedModelChange)_stagedModelChange.clone());
+	}
+
+	public int compareTo(StagedModelChange stagedModelChange) {
+		return _stagedModelChange.compareTo(stagedModelChange);
+	}
+
+	@Override
+	public int hashCode() {
+		return _stagedModelChange.hashCode();
+	}
+
+	public com.liferay.portal.model.CacheModel<StagedModelChange> toCacheModel() {
+		return _stagedModelChange.toCacheModel();
+	}
+
+	public StagedModelChange toEscapedModel() {
+		return new StagedModelChangeWrapper(_stagedModelChange.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _stagedModelChange.toString();
+	}
+
+	public java.lang.String toXmlString() {
+		return _stagedModelChange.toXmlString();
+	}
+
+	public void persist()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		_stagedModelChange.persist();
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedModel}
+	 */
+	public StagedModelChange getWrappedStagedModelChange() {
+		return _stagedModelChange;
+	}
+
+	public StagedModelChange getWrappedModel() {
+		return _stagedModelChange;
+	}
+
+	public void resetOriginalValues() {
+		_stagedModelChange.resetOriginalValues();
+	}
+
+	private StagedModelChange _stagedModelChange;
+}
\ No newline at end of file
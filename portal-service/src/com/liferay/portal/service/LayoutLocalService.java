@@ -462,6 +462,7 @@ public interface LayoutLocalService extends BaseLocalService,
 	could not be found, or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(long groupId, boolean privateLayout,
 		long[] layoutIds,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
@@ -485,6 +486,7 @@ public interface LayoutLocalService extends BaseLocalService,
 	found or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(long groupId, boolean privateLayout,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
 		java.util.Date startDate, java.util.Date endDate)
@@ -509,6 +511,7 @@ public interface LayoutLocalService extends BaseLocalService,
 	could not be found, or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public java.io.File exportLayoutsAsFile(long groupId,
 		boolean privateLayout, long[] layoutIds,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
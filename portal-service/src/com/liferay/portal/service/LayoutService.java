@@ -227,6 +227,7 @@ public interface LayoutService extends BaseService {
 	manage the layouts, or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(long groupId, boolean privateLayout,
 		long[] layoutIds,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
@@ -251,6 +252,7 @@ public interface LayoutService extends BaseService {
 	layouts, or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public byte[] exportLayouts(long groupId, boolean privateLayout,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
 		java.util.Date startDate, java.util.Date endDate)
@@ -276,6 +278,7 @@ public interface LayoutService extends BaseService {
 	manage the layouts, or if some other portal exception occurred
 	* @throws SystemException if a system exception occurred
 	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public java.io.File exportLayoutsAsFile(long groupId,
 		boolean privateLayout, long[] layoutIds,
 		java.util.Map<java.lang.String, java.lang.String[]> parameterMap,
@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.transaction.Isolation;
+import com.liferay.portal.kernel.transaction.Propagation;
+import com.liferay.portal.kernel.transaction.Transactional;
+
+/**
+ * The interface for the staged model change local service.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security checks based on the propagated JAAS credentials because this service can only be accessed from within the same VM.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangeLocalServiceUtil
+ * @see com.liferay.portal.service.base.StagedModelChangeLocalServiceBaseImpl
+ * @see com.liferay.portal.service.impl.StagedModelChangeLocalServiceImpl
+ * @generated
+ */
+@Transactional(isolation = Isolation.PORTAL, rollbackFor =  {
+	PortalException.class, SystemException.class})
+public interface StagedModelChangeLocalService extends BaseLocalService,
+	PersistedModelLocalService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link StagedModelChangeLocalServiceUtil} to access the staged model change local service. Add custom service methods to {@link com.liferay.portal.service.impl.StagedModelChangeLocalServiceImpl} and rerun ServiceBuilder to automatically copy the method declarations to this interface.
+	 */
+
+	/**
+	* Adds the staged model change to the database. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChange the staged model change
+	* @return the staged model change that was added
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange addStagedModelChange(
+		com.liferay.portal.model.StagedModelChange stagedModelChange)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Creates a new staged model change with the primary key. Does not add the staged model change to the database.
+	*
+	* @param stagedModelChangeId the primary key for the new staged model change
+	* @return the new staged model change
+	*/
+	public com.liferay.portal.model.StagedModelChange createStagedModelChange(
+		long stagedModelChangeId);
+
+	/**
+	* Deletes the staged model change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change that was removed
+	* @throws PortalException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange deleteStagedModelChange(
+		long stagedModelChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Deletes the staged model change from the database. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChange the staged model change
+	* @return the staged model change that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange deleteStagedModelChange(
+		com.liferay.portal.model.StagedModelChange stagedModelChange)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery();
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of rows that match the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows that match the dynamic query
+	* @throws SystemException if a system exception occurred
+	*/
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public com.liferay.portal.model.StagedModelChange fetchStagedModelChange(
+		long stagedModelChangeId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model change with the primary key.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change
+	* @throws PortalException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public com.liferay.portal.model.StagedModelChange getStagedModelChange(
+		long stagedModelChangeId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public com.liferay.portal.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<com.liferay.portal.model.StagedModelChange> getStagedModelChanges(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes.
+	*
+	* @return the number of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public int getStagedModelChangesCount()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Updates the staged model change in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChange the staged model change
+	* @return the staged model change that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange updateStagedModelChange(
+		com.liferay.portal.model.StagedModelChange stagedModelChange)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Updates the staged model change in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChange the staged model change
+	* @param merge whether to merge the staged model change with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	* @return the staged model change that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange updateStagedModelChange(
+		com.liferay.portal.model.StagedModelChange stagedModelChange,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the Spring bean ID for this bean.
+	*
+	* @return the Spring bean ID for this bean
+	*/
+	public java.lang.String getBeanIdentifier();
+
+	/**
+	* Sets the Spring bean ID for this bean.
+	*
+	* @param beanIdentifier the Spring bean ID for this bean
+	*/
+	public void setBeanIdentifier(java.lang.String beanIdentifier);
+
+	public void deleteStagedModelChanges(long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public void deleteStagedModelChanges(long groupId,
+		java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<com.liferay.portal.model.StagedModelChange> getStagedModelChanges(
+		long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portal.model.StagedModelChange updateStagedModelChange(
+		long companyId, long groupId, java.lang.String className, long classPK,
+		java.lang.String classUuid, int type)
+		throws com.liferay.portal.kernel.exception.SystemException;
+}
\ No newline at end of file
@@ -96,6 +96,21 @@ public interface AccountPersistence extends BasePersistence<Account> {
 	public com.liferay.portal.model.Account fetchByPrimaryKey(long accountId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the accounts with the primary keys, mapped by primary key. Primary keys that do not match a account are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the accounts that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the accounts
+	* @return the accounts that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Account> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the accounts.
 	*
@@ -186,6 +186,23 @@ public class AddressUtil {
 		return getPersistence().fetchByPrimaryKey(addressId);
 	}
 
+	/**
+	* Returns the addresses with the primary keys, mapped by primary key. Primary keys that do not match a address are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the addresses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the addresses
+	* @return the addresses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Address> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the addresses where companyId = &#63;.
 	*
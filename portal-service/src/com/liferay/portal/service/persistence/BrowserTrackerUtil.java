@@ -189,6 +189,23 @@ public class BrowserTrackerUtil {
 		return getPersistence().fetchByPrimaryKey(browserTrackerId);
 	}
 
+	/**
+	* Returns the browser trackers with the primary keys, mapped by primary key. Primary keys that do not match a browser tracker are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the browser trackers that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the browser trackers
+	* @return the browser trackers that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.BrowserTracker> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns the browser tracker where userId = &#63; or throws a {@link com.liferay.portal.NoSuchBrowserTrackerException} if it could not be found.
 	*
@@ -97,6 +97,21 @@ public interface ClassNamePersistence extends BasePersistence<ClassName> {
 		long classNameId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the class names with the primary keys, mapped by primary key. Primary keys that do not match a class name are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the class names that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the class names
+	* @return the class names that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.ClassName> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the class name where value = &#63; or throws a {@link com.liferay.portal.NoSuchClassNameException} if it could not be found.
 	*
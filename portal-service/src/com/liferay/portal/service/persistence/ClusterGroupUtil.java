@@ -189,6 +189,23 @@ public class ClusterGroupUtil {
 		return getPersistence().fetchByPrimaryKey(clusterGroupId);
 	}
 
+	/**
+	* Returns the cluster groups with the primary keys, mapped by primary key. Primary keys that do not match a cluster group are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the cluster groups that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the cluster groups
+	* @return the cluster groups that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.ClusterGroup> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the cluster groups.
 	*
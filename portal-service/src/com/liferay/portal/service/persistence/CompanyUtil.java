@@ -186,6 +186,23 @@ public class CompanyUtil {
 		return getPersistence().fetchByPrimaryKey(companyId);
 	}
 
+	/**
+	* Returns the companies with the primary keys, mapped by primary key. Primary keys that do not match a company are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the companies that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the companies
+	* @return the companies that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Company> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns the company where webId = &#63; or throws a {@link com.liferay.portal.NoSuchCompanyException} if it could not be found.
 	*
@@ -186,6 +186,23 @@ public class ContactUtil {
 		return getPersistence().fetchByPrimaryKey(contactId);
 	}
 
+	/**
+	* Returns the contacts with the primary keys, mapped by primary key. Primary keys that do not match a contact are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the contacts that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the contacts
+	* @return the contacts that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Contact> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the contacts where companyId = &#63;.
 	*
@@ -186,6 +186,23 @@ public class CountryUtil {
 		return getPersistence().fetchByPrimaryKey(countryId);
 	}
 
+	/**
+	* Returns the countries with the primary keys, mapped by primary key. Primary keys that do not match a country are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the countries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the countries
+	* @return the countries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Country> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns the country where name = &#63; or throws a {@link com.liferay.portal.NoSuchCountryException} if it could not be found.
 	*
@@ -98,6 +98,21 @@ public interface EmailAddressPersistence extends BasePersistence<EmailAddress> {
 		long emailAddressId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the email addresses with the primary keys, mapped by primary key. Primary keys that do not match a email address are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the email addresses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the email addresses
+	* @return the email addresses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.EmailAddress> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the email addresses where companyId = &#63;.
 	*
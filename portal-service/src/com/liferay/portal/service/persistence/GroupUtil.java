@@ -183,6 +183,23 @@ public class GroupUtil {
 		return getPersistence().fetchByPrimaryKey(groupId);
 	}
 
+	/**
+	* Returns the groups with the primary keys, mapped by primary key. Primary keys that do not match a group are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the groups that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the groups
+	* @return the groups that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Group> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the groups where companyId = &#63;.
 	*
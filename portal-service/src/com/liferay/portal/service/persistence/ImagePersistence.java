@@ -96,6 +96,21 @@ public interface ImagePersistence extends BasePersistence<Image> {
 	public com.liferay.portal.model.Image fetchByPrimaryKey(long imageId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the images with the primary keys, mapped by primary key. Primary keys that do not match a image are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the images that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the images
+	* @return the images that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Image> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the images where size &lt; &#63;.
 	*
@@ -98,6 +98,21 @@ public interface LayoutBranchPersistence extends BasePersistence<LayoutBranch> {
 		long LayoutBranchId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the layout branchs with the primary keys, mapped by primary key. Primary keys that do not match a layout branch are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the layout branchs that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the layout branchs
+	* @return the layout branchs that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.LayoutBranch> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the layout branchs where layoutSetBranchId = &#63;.
 	*
@@ -96,6 +96,21 @@ public interface LayoutPersistence extends BasePersistence<Layout> {
 	public com.liferay.portal.model.Layout fetchByPrimaryKey(long plid)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the layouts with the primary keys, mapped by primary key. Primary keys that do not match a layout are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the layouts that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the layouts
+	* @return the layouts that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Layout> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the layouts where uuid = &#63;.
 	*
@@ -99,6 +99,21 @@ public interface LayoutRevisionPersistence extends BasePersistence<LayoutRevisio
 		long layoutRevisionId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the layout revisions with the primary keys, mapped by primary key. Primary keys that do not match a layout revision are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the layout revisions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the layout revisions
+	* @return the layout revisions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.LayoutRevision> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the layout revisions where layoutSetBranchId = &#63;.
 	*
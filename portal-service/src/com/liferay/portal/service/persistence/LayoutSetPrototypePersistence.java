@@ -102,6 +102,21 @@ public interface LayoutSetPrototypePersistence extends BasePersistence<LayoutSet
 		long layoutSetPrototypeId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the layout set prototypes with the primary keys, mapped by primary key. Primary keys that do not match a layout set prototype are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the layout set prototypes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the layout set prototypes
+	* @return the layout set prototypes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.LayoutSetPrototype> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the layout set prototypes where uuid = &#63;.
 	*
@@ -186,6 +186,23 @@ public class LayoutSetUtil {
 		return getPersistence().fetchByPrimaryKey(layoutSetId);
 	}
 
+	/**
+	* Returns the layout sets with the primary keys, mapped by primary key. Primary keys that do not match a layout set are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the layout sets that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the layout sets
+	* @return the layout sets that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.LayoutSet> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the layout sets where groupId = &#63;.
 	*
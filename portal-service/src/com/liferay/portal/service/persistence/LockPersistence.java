@@ -95,6 +95,21 @@ public interface LockPersistence extends BasePersistence<Lock> {
 	public com.liferay.portal.model.Lock fetchByPrimaryKey(long lockId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the locks with the primary keys, mapped by primary key. Primary keys that do not match a lock are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the locks that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the locks
+	* @return the locks that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Lock> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the locks where uuid = &#63;.
 	*
@@ -192,6 +192,23 @@ public class MembershipRequestUtil {
 		return getPersistence().fetchByPrimaryKey(membershipRequestId);
 	}
 
+	/**
+	* Returns the membership requests with the primary keys, mapped by primary key. Primary keys that do not match a membership request are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the membership requests that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the membership requests
+	* @return the membership requests that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.MembershipRequest> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the membership requests where groupId = &#63;.
 	*
@@ -100,6 +100,21 @@ public interface OrgGroupRolePersistence extends BasePersistence<OrgGroupRole> {
 		com.liferay.portal.service.persistence.OrgGroupRolePK orgGroupRolePK)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the org group roles with the primary keys, mapped by primary key. Primary keys that do not match a org group role are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the org group roles that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the org group roles
+	* @return the org group roles that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.OrgGroupRole> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the org group roles where groupId = &#63;.
 	*
@@ -99,6 +99,21 @@ public interface PasswordPolicyPersistence extends BasePersistence<PasswordPolic
 		long passwordPolicyId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the password policies with the primary keys, mapped by primary key. Primary keys that do not match a password policy are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the password policies that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the password policies
+	* @return the password policies that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PasswordPolicy> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the password policy where companyId = &#63; and defaultPolicy = &#63; or throws a {@link com.liferay.portal.NoSuchPasswordPolicyException} if it could not be found.
 	*
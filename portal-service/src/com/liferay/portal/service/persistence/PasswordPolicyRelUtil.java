@@ -192,6 +192,23 @@ public class PasswordPolicyRelUtil {
 		return getPersistence().fetchByPrimaryKey(passwordPolicyRelId);
 	}
 
+	/**
+	* Returns the password policy rels with the primary keys, mapped by primary key. Primary keys that do not match a password policy rel are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the password policy rels that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the password policy rels
+	* @return the password policy rels that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.PasswordPolicyRel> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the password policy rels where passwordPolicyId = &#63;.
 	*
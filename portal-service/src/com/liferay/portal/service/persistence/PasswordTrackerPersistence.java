@@ -101,6 +101,21 @@ public interface PasswordTrackerPersistence extends BasePersistence<PasswordTrac
 		long passwordTrackerId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the password trackers with the primary keys, mapped by primary key. Primary keys that do not match a password tracker are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the password trackers that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the password trackers
+	* @return the password trackers that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PasswordTracker> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the password trackers where userId = &#63;.
 	*
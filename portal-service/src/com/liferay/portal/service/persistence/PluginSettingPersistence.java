@@ -99,6 +99,21 @@ public interface PluginSettingPersistence extends BasePersistence<PluginSetting>
 		long pluginSettingId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the plugin settings with the primary keys, mapped by primary key. Primary keys that do not match a plugin setting are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the plugin settings that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the plugin settings
+	* @return the plugin settings that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PluginSetting> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the plugin settings where companyId = &#63;.
 	*
@@ -102,6 +102,21 @@ public interface PortalPreferencesPersistence extends BasePersistence<PortalPref
 		long portalPreferencesId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the portal preferenceses with the primary keys, mapped by primary key. Primary keys that do not match a portal preferences are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the portal preferenceses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the portal preferenceses
+	* @return the portal preferenceses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PortalPreferences> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the portal preferences where ownerId = &#63; and ownerType = &#63; or throws a {@link com.liferay.portal.NoSuchPreferencesException} if it could not be found.
 	*
@@ -98,6 +98,21 @@ public interface PortletItemPersistence extends BasePersistence<PortletItem> {
 		long portletItemId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the portlet items with the primary keys, mapped by primary key. Primary keys that do not match a portlet item are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the portlet items that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the portlet items
+	* @return the portlet items that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PortletItem> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the portlet items where groupId = &#63; and classNameId = &#63;.
 	*
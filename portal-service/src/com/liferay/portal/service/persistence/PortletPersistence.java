@@ -96,6 +96,21 @@ public interface PortletPersistence extends BasePersistence<Portlet> {
 	public com.liferay.portal.model.Portlet fetchByPrimaryKey(long id)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the portlets with the primary keys, mapped by primary key. Primary keys that do not match a portlet are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the portlets that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the portlets
+	* @return the portlets that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Portlet> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the portlets where companyId = &#63;.
 	*
@@ -102,6 +102,21 @@ public interface PortletPreferencesPersistence extends BasePersistence<PortletPr
 		long portletPreferencesId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the portlet preferenceses with the primary keys, mapped by primary key. Primary keys that do not match a portlet preferences are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the portlet preferenceses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the portlet preferenceses
+	* @return the portlet preferenceses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.PortletPreferences> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the portlet preferenceses where plid = &#63;.
 	*
@@ -184,6 +184,23 @@ public class PortletUtil {
 		return getPersistence().fetchByPrimaryKey(id);
 	}
 
+	/**
+	* Returns the portlets with the primary keys, mapped by primary key. Primary keys that do not match a portlet are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the portlets that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the portlets
+	* @return the portlets that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Portlet> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the portlets where companyId = &#63;.
 	*
@@ -96,6 +96,21 @@ public interface RegionPersistence extends BasePersistence<Region> {
 	public com.liferay.portal.model.Region fetchByPrimaryKey(long regionId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the regions with the primary keys, mapped by primary key. Primary keys that do not match a region are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the regions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the regions
+	* @return the regions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Region> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the regions where countryId = &#63;.
 	*
@@ -185,6 +185,23 @@ public class RegionUtil {
 		return getPersistence().fetchByPrimaryKey(regionId);
 	}
 
+	/**
+	* Returns the regions with the primary keys, mapped by primary key. Primary keys that do not match a region are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the regions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the regions
+	* @return the regions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Region> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the regions where countryId = &#63;.
 	*
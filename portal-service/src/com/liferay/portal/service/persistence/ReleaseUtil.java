@@ -186,6 +186,23 @@ public class ReleaseUtil {
 		return getPersistence().fetchByPrimaryKey(releaseId);
 	}
 
+	/**
+	* Returns the releases with the primary keys, mapped by primary key. Primary keys that do not match a release are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the releases that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the releases
+	* @return the releases that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Release> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns the release where servletContextName = &#63; or throws a {@link com.liferay.portal.NoSuchReleaseException} if it could not be found.
 	*
@@ -101,6 +101,21 @@ public interface RepositoryEntryPersistence extends BasePersistence<RepositoryEn
 		long repositoryEntryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the repository entries with the primary keys, mapped by primary key. Primary keys that do not match a repository entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the repository entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the repository entries
+	* @return the repository entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.RepositoryEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the repository entries where uuid = &#63;.
 	*
@@ -98,6 +98,21 @@ public interface RepositoryPersistence extends BasePersistence<Repository> {
 		long repositoryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the repositories with the primary keys, mapped by primary key. Primary keys that do not match a repository are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the repositories that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the repositories
+	* @return the repositories that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Repository> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the repositories where uuid = &#63;.
 	*
@@ -194,6 +194,23 @@ public class ResourceBlockPermissionUtil {
 		return getPersistence().fetchByPrimaryKey(resourceBlockPermissionId);
 	}
 
+	/**
+	* Returns the resource block permissions with the primary keys, mapped by primary key. Primary keys that do not match a resource block permission are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the resource block permissions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the resource block permissions
+	* @return the resource block permissions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.ResourceBlockPermission> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the resource block permissions where resourceBlockId = &#63;.
 	*
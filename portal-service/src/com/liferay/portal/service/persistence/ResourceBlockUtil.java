@@ -189,6 +189,23 @@ public class ResourceBlockUtil {
 		return getPersistence().fetchByPrimaryKey(resourceBlockId);
 	}
 
+	/**
+	* Returns the resource blocks with the primary keys, mapped by primary key. Primary keys that do not match a resource block are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the resource blocks that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the resource blocks
+	* @return the resource blocks that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.ResourceBlock> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the resource blocks where companyId = &#63; and name = &#63;.
 	*
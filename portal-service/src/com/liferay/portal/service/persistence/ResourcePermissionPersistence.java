@@ -102,6 +102,21 @@ public interface ResourcePermissionPersistence extends BasePersistence<ResourceP
 		long resourcePermissionId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the resource permissions with the primary keys, mapped by primary key. Primary keys that do not match a resource permission are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the resource permissions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the resource permissions
+	* @return the resource permissions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.ResourcePermission> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the resource permissions where scope = &#63;.
 	*
@@ -193,6 +193,23 @@ public class ResourceTypePermissionUtil {
 		return getPersistence().fetchByPrimaryKey(resourceTypePermissionId);
 	}
 
+	/**
+	* Returns the resource type permissions with the primary keys, mapped by primary key. Primary keys that do not match a resource type permission are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the resource type permissions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the resource type permissions
+	* @return the resource type permissions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.ResourceTypePermission> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the resource type permissions where roleId = &#63;.
 	*
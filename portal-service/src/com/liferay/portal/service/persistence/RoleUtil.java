@@ -183,6 +183,23 @@ public class RoleUtil {
 		return getPersistence().fetchByPrimaryKey(roleId);
 	}
 
+	/**
+	* Returns the roles with the primary keys, mapped by primary key. Primary keys that do not match a role are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the roles that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the roles
+	* @return the roles that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Role> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the roles where companyId = &#63;.
 	*
@@ -102,6 +102,21 @@ public interface ServiceComponentPersistence extends BasePersistence<ServiceComp
 		long serviceComponentId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the service components with the primary keys, mapped by primary key. Primary keys that do not match a service component are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the service components that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the service components
+	* @return the service components that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.ServiceComponent> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the service components where buildNamespace = &#63;.
 	*
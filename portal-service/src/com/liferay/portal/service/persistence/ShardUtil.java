@@ -183,6 +183,23 @@ public class ShardUtil {
 		return getPersistence().fetchByPrimaryKey(shardId);
 	}
 
+	/**
+	* Returns the shards with the primary keys, mapped by primary key. Primary keys that do not match a shard are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shards that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shards
+	* @return the shards that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Shard> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns the shard where name = &#63; or throws a {@link com.liferay.portal.NoSuchShardException} if it could not be found.
 	*
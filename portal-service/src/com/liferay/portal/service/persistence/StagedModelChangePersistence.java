@@ -0,0 +1,707 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.persistence;
+
+import com.liferay.portal.model.StagedModelChange;
+
+/**
+ * The persistence interface for the staged model change service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangePersistenceImpl
+ * @see StagedModelChangeUtil
+ * @generated
+ */
+public interface StagedModelChangePersistence extends BasePersistence<StagedModelChange> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link StagedModelChangeUtil} to access the staged model change persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+
+	/**
+	* Caches the staged model change in the entity cache if it is enabled.
+	*
+	* @param stagedModelChange the staged model change
+	*/
+	public void cacheResult(
+		com.liferay.portal.model.StagedModelChange stagedModelChange);
+
+	/**
+	* Caches the staged model changes in the entity cache if it is enabled.
+	*
+	* @param stagedModelChanges the staged model changes
+	*/
+	public void cacheResult(
+		java.util.List<com.liferay.portal.model.StagedModelChange> stagedModelChanges);
+
+	/**
+	* Creates a new staged model change with the primary key. Does not add the staged model change to the database.
+	*
+	* @param stagedModelChangeId the primary key for the new staged model change
+	* @return the new staged model change
+	*/
+	public com.liferay.portal.model.StagedModelChange create(
+		long stagedModelChangeId);
+
+	/**
+	* Removes the staged model change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change that was removed
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange remove(
+		long stagedModelChangeId)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portal.model.StagedModelChange updateImpl(
+		com.liferay.portal.model.StagedModelChange stagedModelChange,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model change with the primary key or throws a {@link com.liferay.portal.NoSuchStagedModelChangeException} if it could not be found.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByPrimaryKey(
+		long stagedModelChangeId)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model change with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change, or <code>null</code> if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange fetchByPrimaryKey(
+		long stagedModelChangeId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model changes with the primary keys, mapped by primary key. Primary keys that do not match a staged model change are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the staged model changes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the staged model changes
+	* @return the staged model changes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.StagedModelChange> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the staged model changes where groupId = &#63;.
+	*
+	* @param groupId the group ID
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByGroupId_First(
+		long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByGroupId_Last(
+		long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange[] findByGroupId_PrevAndNext(
+		long stagedModelChangeId, long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_LtM_First(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_LtM_Last(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange[] findByG_LtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_GtM_First(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_GtM_Last(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange[] findByG_GtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_C_C_First(
+		long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange findByG_C_C_Last(
+		long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portal.model.StagedModelChange[] findByG_C_C_PrevAndNext(
+		long stagedModelChangeId, long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the staged model changes.
+	*
+	* @return the staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the staged model changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the staged model changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portal.model.StagedModelChange> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeByGroupId(long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeByG_LtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeByG_GtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeByG_C_C(long groupId, long classNameId, long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the staged model changes from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63;.
+	*
+	* @param groupId the group ID
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByGroupId(long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByG_LtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByG_GtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByG_C_C(long groupId, long classNameId, long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of staged model changes.
+	*
+	* @return the number of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+}
\ No newline at end of file
@@ -0,0 +1,917 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.model.StagedModelChange;
+import com.liferay.portal.service.ServiceContext;
+
+import java.util.List;
+
+/**
+ * The persistence utility for the staged model change service. This utility wraps {@link StagedModelChangePersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see StagedModelChangePersistence
+ * @see StagedModelChangePersistenceImpl
+ * @generated
+ */
+public class StagedModelChangeUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache(com.liferay.portal.model.BaseModel)
+	 */
+	public static void clearCache(StagedModelChange stagedModelChange) {
+		getPersistence().clearCache(stagedModelChange);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public long countWithDynamicQuery(DynamicQuery dynamicQuery)
+		throws SystemException {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<StagedModelChange> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<StagedModelChange> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end)
+		throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<StagedModelChange> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean)
+	 */
+	public static StagedModelChange update(
+		StagedModelChange stagedModelChange, boolean merge)
+		throws SystemException {
+		return getPersistence().update(stagedModelChange, merge);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean, ServiceContext)
+	 */
+	public static StagedModelChange update(
+		StagedModelChange stagedModelChange, boolean merge,
+		ServiceContext serviceContext) throws SystemException {
+		return getPersistence().update(stagedModelChange, merge, serviceContext);
+	}
+
+	/**
+	* Caches the staged model change in the entity cache if it is enabled.
+	*
+	* @param stagedModelChange the staged model change
+	*/
+	public static void cacheResult(
+		com.liferay.portal.model.StagedModelChange stagedModelChange) {
+		getPersistence().cacheResult(stagedModelChange);
+	}
+
+	/**
+	* Caches the staged model changes in the entity cache if it is enabled.
+	*
+	* @param stagedModelChanges the staged model changes
+	*/
+	public static void cacheResult(
+		java.util.List<com.liferay.portal.model.StagedModelChange> stagedModelChanges) {
+		getPersistence().cacheResult(stagedModelChanges);
+	}
+
+	/**
+	* Creates a new staged model change with the primary key. Does not add the staged model change to the database.
+	*
+	* @param stagedModelChangeId the primary key for the new staged model change
+	* @return the new staged model change
+	*/
+	public static com.liferay.portal.model.StagedModelChange create(
+		long stagedModelChangeId) {
+		return getPersistence().create(stagedModelChangeId);
+	}
+
+	/**
+	* Removes the staged model change with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change that was removed
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange remove(
+		long stagedModelChangeId)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().remove(stagedModelChangeId);
+	}
+
+	public static com.liferay.portal.model.StagedModelChange updateImpl(
+		com.liferay.portal.model.StagedModelChange stagedModelChange,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().updateImpl(stagedModelChange, merge);
+	}
+
+	/**
+	* Returns the staged model change with the primary key or throws a {@link com.liferay.portal.NoSuchStagedModelChangeException} if it could not be found.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByPrimaryKey(
+		long stagedModelChangeId)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByPrimaryKey(stagedModelChangeId);
+	}
+
+	/**
+	* Returns the staged model change with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param stagedModelChangeId the primary key of the staged model change
+	* @return the staged model change, or <code>null</code> if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange fetchByPrimaryKey(
+		long stagedModelChangeId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKey(stagedModelChangeId);
+	}
+
+	/**
+	* Returns the staged model changes with the primary keys, mapped by primary key. Primary keys that do not match a staged model change are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the staged model changes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the staged model changes
+	* @return the staged model changes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.StagedModelChange> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	* Returns all the staged model changes where groupId = &#63;.
+	*
+	* @param groupId the group ID
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByGroupId(groupId);
+	}
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByGroupId(groupId, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByGroupId(
+		long groupId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByGroupId(groupId, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByGroupId_First(
+		long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByGroupId_First(groupId, orderByComparator);
+	}
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByGroupId_Last(
+		long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByGroupId_Last(groupId, orderByComparator);
+	}
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange[] findByGroupId_PrevAndNext(
+		long stagedModelChangeId, long groupId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByGroupId_PrevAndNext(stagedModelChangeId, groupId,
+			orderByComparator);
+	}
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByG_LtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByG_LtM(groupId, modifiedDate, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_LtM(
+		long groupId, java.util.Date modifiedDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_LtM(groupId, modifiedDate, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_LtM_First(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_LtM_First(groupId, modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_LtM_Last(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_LtM_Last(groupId, modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange[] findByG_LtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_LtM_PrevAndNext(stagedModelChangeId, groupId,
+			modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByG_GtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByG_GtM(groupId, modifiedDate, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_GtM(
+		long groupId, java.util.Date modifiedDate, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_GtM(groupId, modifiedDate, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_GtM_First(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_GtM_First(groupId, modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_GtM_Last(
+		long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_GtM_Last(groupId, modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange[] findByG_GtM_PrevAndNext(
+		long stagedModelChangeId, long groupId, java.util.Date modifiedDate,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_GtM_PrevAndNext(stagedModelChangeId, groupId,
+			modifiedDate, orderByComparator);
+	}
+
+	/**
+	* Returns all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByG_C_C(groupId, classNameId, classPK);
+	}
+
+	/**
+	* Returns a range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_C_C(groupId, classNameId, classPK, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findByG_C_C(
+		long groupId, long classNameId, long classPK, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_C_C(groupId, classNameId, classPK, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_C_C_First(
+		long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_C_C_First(groupId, classNameId, classPK,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the last staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a matching staged model change could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange findByG_C_C_Last(
+		long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_C_C_Last(groupId, classNameId, classPK,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the staged model changes before and after the current staged model change in the ordered set where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param stagedModelChangeId the primary key of the current staged model change
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next staged model change
+	* @throws com.liferay.portal.NoSuchStagedModelChangeException if a staged model change with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portal.model.StagedModelChange[] findByG_C_C_PrevAndNext(
+		long stagedModelChangeId, long groupId, long classNameId, long classPK,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.NoSuchStagedModelChangeException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByG_C_C_PrevAndNext(stagedModelChangeId, groupId,
+			classNameId, classPK, orderByComparator);
+	}
+
+	/**
+	* Returns all the staged model changes.
+	*
+	* @return the staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the staged model changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @return the range of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the staged model changes.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of staged model changes
+	* @param end the upper bound of the range of staged model changes (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portal.model.StagedModelChange> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByGroupId(long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByGroupId(groupId);
+	}
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and modifiedDate &lt; &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByG_LtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByG_LtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and modifiedDate &gt; &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByG_GtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByG_GtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Removes all the staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByG_C_C(long groupId, long classNameId,
+		long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByG_C_C(groupId, classNameId, classPK);
+	}
+
+	/**
+	* Removes all the staged model changes from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63;.
+	*
+	* @param groupId the group ID
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByGroupId(long groupId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByGroupId(groupId);
+	}
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and modifiedDate &lt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByG_LtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByG_LtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and modifiedDate &gt; &#63;.
+	*
+	* @param groupId the group ID
+	* @param modifiedDate the modified date
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByG_GtM(long groupId, java.util.Date modifiedDate)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByG_GtM(groupId, modifiedDate);
+	}
+
+	/**
+	* Returns the number of staged model changes where groupId = &#63; and classNameId = &#63; and classPK = &#63;.
+	*
+	* @param groupId the group ID
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByG_C_C(long groupId, long classNameId, long classPK)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByG_C_C(groupId, classNameId, classPK);
+	}
+
+	/**
+	* Returns the number of staged model changes.
+	*
+	* @return the number of staged model changes
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countAll();
+	}
+
+	public static StagedModelChangePersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (StagedModelChangePersistence)PortalBeanLocatorUtil.locate(StagedModelChangePersistence.class.getName());
+
+			ReferenceRegistry.registerReference(StagedModelChangeUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	/**
+	 * @deprecated
+	 */
+	public void setPersistence(StagedModelChangePersistence persistence) {
+	}
+
+	private static StagedModelChangePersistence _persistence;
+}
\ No newline at end of file
@@ -189,6 +189,23 @@ public class SubscriptionUtil {
 		return getPersistence().fetchByPrimaryKey(subscriptionId);
 	}
 
+	/**
+	* Returns the subscriptions with the primary keys, mapped by primary key. Primary keys that do not match a subscription are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the subscriptions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the subscriptions
+	* @return the subscriptions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.Subscription> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the subscriptions where userId = &#63;.
 	*
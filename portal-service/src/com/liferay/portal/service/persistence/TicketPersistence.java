@@ -96,6 +96,21 @@ public interface TicketPersistence extends BasePersistence<Ticket> {
 	public com.liferay.portal.model.Ticket fetchByPrimaryKey(long ticketId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the tickets with the primary keys, mapped by primary key. Primary keys that do not match a ticket are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the tickets that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the tickets
+	* @return the tickets that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Ticket> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the ticket where key = &#63; or throws a {@link com.liferay.portal.NoSuchTicketException} if it could not be found.
 	*
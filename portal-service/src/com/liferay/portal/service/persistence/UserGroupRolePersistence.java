@@ -101,6 +101,21 @@ public interface UserGroupRolePersistence extends BasePersistence<UserGroupRole>
 		com.liferay.portal.service.persistence.UserGroupRolePK userGroupRolePK)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the user group roles with the primary keys, mapped by primary key. Primary keys that do not match a user group role are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the user group roles that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the user group roles
+	* @return the user group roles that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.UserGroupRole> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the user group roles where userId = &#63;.
 	*
@@ -98,6 +98,21 @@ public interface UserIdMapperPersistence extends BasePersistence<UserIdMapper> {
 		long userIdMapperId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the user ID mappers with the primary keys, mapped by primary key. Primary keys that do not match a user ID mapper are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the user ID mappers that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the user ID mappers
+	* @return the user ID mappers that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.UserIdMapper> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the user ID mappers where userId = &#63;.
 	*
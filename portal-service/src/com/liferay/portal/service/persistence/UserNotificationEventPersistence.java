@@ -102,6 +102,21 @@ public interface UserNotificationEventPersistence extends BasePersistence<UserNo
 		long userNotificationEventId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the user notification events with the primary keys, mapped by primary key. Primary keys that do not match a user notification event are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the user notification events that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the user notification events
+	* @return the user notification events that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.UserNotificationEvent> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the user notification events where uuid = &#63;.
 	*
@@ -101,6 +101,21 @@ public interface UserTrackerPathPersistence extends BasePersistence<UserTrackerP
 		long userTrackerPathId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the user tracker paths with the primary keys, mapped by primary key. Primary keys that do not match a user tracker path are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the user tracker paths that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the user tracker paths
+	* @return the user tracker paths that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.UserTrackerPath> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the user tracker paths where userTrackerId = &#63;.
 	*
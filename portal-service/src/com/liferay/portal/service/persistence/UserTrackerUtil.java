@@ -189,6 +189,23 @@ public class UserTrackerUtil {
 		return getPersistence().fetchByPrimaryKey(userTrackerId);
 	}
 
+	/**
+	* Returns the user trackers with the primary keys, mapped by primary key. Primary keys that do not match a user tracker are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the user trackers that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the user trackers
+	* @return the user trackers that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.UserTracker> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the user trackers where companyId = &#63;.
 	*
@@ -183,6 +183,23 @@ public class UserUtil {
 		return getPersistence().fetchByPrimaryKey(userId);
 	}
 
+	/**
+	* Returns the users with the primary keys, mapped by primary key. Primary keys that do not match a user are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the users that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the users
+	* @return the users that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.User> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the users where uuid = &#63;.
 	*
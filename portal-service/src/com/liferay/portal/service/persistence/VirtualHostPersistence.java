@@ -98,6 +98,21 @@ public interface VirtualHostPersistence extends BasePersistence<VirtualHost> {
 		long virtualHostId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the virtual hosts with the primary keys, mapped by primary key. Primary keys that do not match a virtual host are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the virtual hosts that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the virtual hosts
+	* @return the virtual hosts that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.VirtualHost> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the virtual host where hostname = &#63; or throws a {@link com.liferay.portal.NoSuchVirtualHostException} if it could not be found.
 	*
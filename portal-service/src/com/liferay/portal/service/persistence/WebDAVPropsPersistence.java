@@ -98,6 +98,21 @@ public interface WebDAVPropsPersistence extends BasePersistence<WebDAVProps> {
 		long webDavPropsId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the web d a v propses with the primary keys, mapped by primary key. Primary keys that do not match a web d a v props are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the web d a v propses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the web d a v propses
+	* @return the web d a v propses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.WebDAVProps> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the web d a v props where classNameId = &#63; and classPK = &#63; or throws a {@link com.liferay.portal.NoSuchWebDAVPropsException} if it could not be found.
 	*
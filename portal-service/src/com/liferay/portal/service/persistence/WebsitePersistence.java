@@ -96,6 +96,21 @@ public interface WebsitePersistence extends BasePersistence<Website> {
 	public com.liferay.portal.model.Website fetchByPrimaryKey(long websiteId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the websites with the primary keys, mapped by primary key. Primary keys that do not match a website are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the websites that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the websites
+	* @return the websites that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.Website> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the websites where companyId = &#63;.
 	*
@@ -193,6 +193,23 @@ public class WorkflowDefinitionLinkUtil {
 		return getPersistence().fetchByPrimaryKey(workflowDefinitionLinkId);
 	}
 
+	/**
+	* Returns the workflow definition links with the primary keys, mapped by primary key. Primary keys that do not match a workflow definition link are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the workflow definition links that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the workflow definition links
+	* @return the workflow definition links that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portal.model.WorkflowDefinitionLink> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the workflow definition links where companyId = &#63;.
 	*
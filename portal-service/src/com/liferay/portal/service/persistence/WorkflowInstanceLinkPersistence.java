@@ -102,6 +102,21 @@ public interface WorkflowInstanceLinkPersistence extends BasePersistence<Workflo
 		long workflowInstanceLinkId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the workflow instance links with the primary keys, mapped by primary key. Primary keys that do not match a workflow instance link are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the workflow instance links that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the workflow instance links
+	* @return the workflow instance links that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portal.model.WorkflowInstanceLink> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the workflow instance links where groupId = &#63; and companyId = &#63; and classNameId = &#63; and classPK = &#63;.
 	*
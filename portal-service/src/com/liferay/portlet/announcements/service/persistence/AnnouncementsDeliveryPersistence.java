@@ -104,6 +104,21 @@ public interface AnnouncementsDeliveryPersistence extends BasePersistence<Announ
 		long deliveryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the announcements deliveries with the primary keys, mapped by primary key. Primary keys that do not match a announcements delivery are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the announcements deliveries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the announcements deliveries
+	* @return the announcements deliveries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.announcements.model.AnnouncementsDelivery> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the announcements deliveries where userId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface AnnouncementsEntryPersistence extends BasePersistence<Announcem
 		long entryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the announcements entries with the primary keys, mapped by primary key. Primary keys that do not match a announcements entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the announcements entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the announcements entries
+	* @return the announcements entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.announcements.model.AnnouncementsEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the announcements entries where uuid = &#63;.
 	*
@@ -192,6 +192,23 @@ public class AnnouncementsFlagUtil {
 		return getPersistence().fetchByPrimaryKey(flagId);
 	}
 
+	/**
+	* Returns the announcements flags with the primary keys, mapped by primary key. Primary keys that do not match a announcements flag are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the announcements flags that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the announcements flags
+	* @return the announcements flags that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.announcements.model.AnnouncementsFlag> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the announcements flags where entryId = &#63;.
 	*
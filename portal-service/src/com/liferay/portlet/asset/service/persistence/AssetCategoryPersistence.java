@@ -102,6 +102,21 @@ public interface AssetCategoryPersistence extends BasePersistence<AssetCategory>
 		long categoryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the asset categories with the primary keys, mapped by primary key. Primary keys that do not match a asset category are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset categories that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset categories
+	* @return the asset categories that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetCategory> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the asset categories where uuid = &#63;.
 	*
@@ -194,6 +194,23 @@ public class AssetCategoryPropertyUtil {
 		return getPersistence().fetchByPrimaryKey(categoryPropertyId);
 	}
 
+	/**
+	* Returns the asset category properties with the primary keys, mapped by primary key. Primary keys that do not match a asset category property are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset category properties that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset category properties
+	* @return the asset category properties that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetCategoryProperty> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the asset category properties where companyId = &#63;.
 	*
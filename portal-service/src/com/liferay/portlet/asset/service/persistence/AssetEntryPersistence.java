@@ -101,6 +101,21 @@ public interface AssetEntryPersistence extends BasePersistence<AssetEntry> {
 		long entryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the asset entries with the primary keys, mapped by primary key. Primary keys that do not match a asset entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset entries
+	* @return the asset entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the asset entries where companyId = &#63;.
 	*
@@ -99,6 +99,21 @@ public interface AssetLinkPersistence extends BasePersistence<AssetLink> {
 	public com.liferay.portlet.asset.model.AssetLink fetchByPrimaryKey(
 		long linkId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the asset links with the primary keys, mapped by primary key. Primary keys that do not match a asset link are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset links that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset links
+	* @return the asset links that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetLink> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the asset links where entryId1 = &#63;.
 	*
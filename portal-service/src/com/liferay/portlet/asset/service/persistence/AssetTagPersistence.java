@@ -98,6 +98,21 @@ public interface AssetTagPersistence extends BasePersistence<AssetTag> {
 	public com.liferay.portlet.asset.model.AssetTag fetchByPrimaryKey(
 		long tagId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the asset tags with the primary keys, mapped by primary key. Primary keys that do not match a asset tag are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset tags that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset tags
+	* @return the asset tags that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetTag> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the asset tags where groupId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class AssetTagStatsUtil {
 		return getPersistence().fetchByPrimaryKey(tagStatsId);
 	}
 
+	/**
+	* Returns the asset tag statses with the primary keys, mapped by primary key. Primary keys that do not match a asset tag stats are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset tag statses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset tag statses
+	* @return the asset tag statses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetTagStats> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the asset tag statses where tagId = &#63;.
 	*
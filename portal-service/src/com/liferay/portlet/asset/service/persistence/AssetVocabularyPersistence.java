@@ -104,6 +104,21 @@ public interface AssetVocabularyPersistence extends BasePersistence<AssetVocabul
 		long vocabularyId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the asset vocabularies with the primary keys, mapped by primary key. Primary keys that do not match a asset vocabulary are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the asset vocabularies that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the asset vocabularies
+	* @return the asset vocabularies that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.asset.model.AssetVocabulary> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the asset vocabularies where uuid = &#63;.
 	*
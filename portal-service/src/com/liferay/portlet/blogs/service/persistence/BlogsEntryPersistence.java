@@ -101,6 +101,21 @@ public interface BlogsEntryPersistence extends BasePersistence<BlogsEntry> {
 		long entryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the blogs entries with the primary keys, mapped by primary key. Primary keys that do not match a blogs entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the blogs entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the blogs entries
+	* @return the blogs entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.blogs.model.BlogsEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the blogs entries where uuid = &#63;.
 	*
@@ -191,6 +191,23 @@ public class BlogsStatsUserUtil {
 		return getPersistence().fetchByPrimaryKey(statsUserId);
 	}
 
+	/**
+	* Returns the blogs stats users with the primary keys, mapped by primary key. Primary keys that do not match a blogs stats user are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the blogs stats users that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the blogs stats users
+	* @return the blogs stats users that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.blogs.model.BlogsStatsUser> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the blogs stats users where groupId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface BookmarksEntryPersistence extends BasePersistence<BookmarksEntr
 		long entryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the bookmarks entries with the primary keys, mapped by primary key. Primary keys that do not match a bookmarks entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the bookmarks entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the bookmarks entries
+	* @return the bookmarks entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.bookmarks.model.BookmarksEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the bookmarks entries where resourceBlockId = &#63;.
 	*
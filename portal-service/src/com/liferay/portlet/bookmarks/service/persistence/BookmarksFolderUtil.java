@@ -191,6 +191,23 @@ public class BookmarksFolderUtil {
 		return getPersistence().fetchByPrimaryKey(folderId);
 	}
 
+	/**
+	* Returns the bookmarks folders with the primary keys, mapped by primary key. Primary keys that do not match a bookmarks folder are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the bookmarks folders that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the bookmarks folders
+	* @return the bookmarks folders that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.bookmarks.model.BookmarksFolder> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the bookmarks folders where resourceBlockId = &#63;.
 	*
@@ -190,6 +190,23 @@ public class CalEventUtil {
 		return getPersistence().fetchByPrimaryKey(eventId);
 	}
 
+	/**
+	* Returns the cal events with the primary keys, mapped by primary key. Primary keys that do not match a cal event are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the cal events that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the cal events
+	* @return the cal events that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.calendar.model.CalEvent> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the cal events where uuid = &#63;.
 	*
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import java.sql.Blob;
+
+/**
+ * The Blob model class for lazy loading the data column in DLContentChunk.
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunk
+ * @generated
+ */
+public class DLContentChunkDataBlobModel {
+	public DLContentChunkDataBlobModel() {
+	}
+
+	public DLContentChunkDataBlobModel(long chunkId) {
+		_chunkId = chunkId;
+	}
+
+	public DLContentChunkDataBlobModel(long chunkId, Blob dataBlob) {
+		_chunkId = chunkId;
+		_dataBlob = dataBlob;
+	}
+
+	public long getChunkId() {
+		return _chunkId;
+	}
+
+	public void setChunkId(long chunkId) {
+		_chunkId = chunkId;
+	}
+
+	public Blob getDataBlob() {
+		return _dataBlob;
+	}
+
+	public void setDataBlob(Blob dataBlob) {
+		_dataBlob = dataBlob;
+	}
+
+	private long _chunkId;
+	private Blob _dataBlob;
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.expando.model.ExpandoBridge;
+
+import java.io.Serializable;
+
+import java.sql.Blob;
+
+/**
+ * The base model interface for the DLContentChunk service. Represents a row in the &quot;DLContentChunk&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link com.liferay.portlet.documentlibrary.model.impl.DLContentChunkModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link com.liferay.portlet.documentlibrary.model.impl.DLContentChunkImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunk
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentChunkImpl
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentChunkModelImpl
+ * @generated
+ */
+public interface DLContentChunkModel extends BaseModel<DLContentChunk> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a document library content chunk model instance should use the {@link DLContentChunk} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this document library content chunk.
+	 *
+	 * @return the primary key of this document library content chunk
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this document library content chunk.
+	 *
+	 * @param primaryKey the primary key of this document library content chunk
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the chunk ID of this document library content chunk.
+	 *
+	 * @return the chunk ID of this document library content chunk
+	 */
+	public long getChunkId();
+
+	/**
+	 * Sets the chunk ID of this document library content chunk.
+	 *
+	 * @param chunkId the chunk ID of this document library content chunk
+	 */
+	public void setChunkId(long chunkId);
+
+	/**
+	 * Returns the company ID of this document library content chunk.
+	 *
+	 * @return the company ID of this document library content chunk
+	 */
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this document library content chunk.
+	 *
+	 * @param companyId the company ID of this document library content chunk
+	 */
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the content ID of this document library content chunk.
+	 *
+	 * @return the content ID of this document library content chunk
+	 */
+	public long getContentId();
+
+	/**
+	 * Sets the content ID of this document library content chunk.
+	 *
+	 * @param contentId the content ID of this document library content chunk
+	 */
+	public void setContentId(long contentId);
+
+	/**
+	 * Returns the chunk index of this document library content chunk.
+	 *
+	 * @return the chunk index of this document library content chunk
+	 */
+	public int getChunkIndex();
+
+	/**
+	 * Sets the chunk index of this document library content chunk.
+	 *
+	 * @param chunkIndex the chunk index of this document library content chunk
+	 */
+	public void setChunkIndex(int chunkIndex);
+
+	/**
+	 * Returns the data of this document library content chunk.
+	 *
+	 * @return the data of this document library content chunk
+	 */
+	public Blob getData();
+
+	/**
+	 * Sets the data of this document library content chunk.
+	 *
+	 * @param data the data of this document library content chunk
+	 */
+	public void setData(Blob data);
+
+	/**
+	 * Returns the size of this document library content chunk.
+	 *
+	 * @return the size of this document library content chunk
+	 */
+	public long getSize();
+
+	/**
+	 * Sets the size of this document library content chunk.
+	 *
+	 * @param size the size of this document library content chunk
+	 */
+	public void setSize(long size);
+
+	public boolean isNew();
+
+	public void setNew(boolean n);
+
+	public boolean isCachedModel();
+
+	public void setCachedModel(boolean cachedModel);
+
+	public boolean isEscapedModel();
+
+	public Serializable getPrimaryKeyObj();
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	public ExpandoBridge getExpandoBridge();
+
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	public Object clone();
+
+	public int compareTo(DLContentChunk dlContentChunk);
+
+	public int hashCode();
+
+	public CacheModel<DLContentChunk> toCacheModel();
+
+	public DLContentChunk toEscapedModel();
+
+	public String toString();
+
+	public String toXmlString();
+}
\ No newline at end of file
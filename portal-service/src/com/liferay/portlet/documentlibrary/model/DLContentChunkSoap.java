@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import java.io.Serializable;
+
+import java.sql.Blob;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author    Brian Wing Shun Chan
+ * @generated
+ */
+public class DLContentChunkSoap implements Serializable {
+	public static DLContentChunkSoap toSoapModel(DLContentChunk model) {
+		DLContentChunkSoap soapModel = new DLContentChunkSoap();
+
+		soapModel.setChunkId(model.getChunkId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setContentId(model.getContentId());
+		soapModel.setChunkIndex(model.getChunkIndex());
+		soapModel.setData(model.getData());
+		soapModel.setSize(model.getSize());
+
+		return soapModel;
+	}
+
+	public static DLContentChunkSoap[] toSoapModels(DLContentChunk[] models) {
+		DLContentChunkSoap[] soapModels = new DLContentChunkSoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentChunkSoap[][] toSoapModels(DLContentChunk[][] models) {
+		DLContentChunkSoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new DLContentChunkSoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new DLContentChunkSoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentChunkSoap[] toSoapModels(List<DLContentChunk> models) {
+		List<DLContentChunkSoap> soapModels = new ArrayList<DLContentChunkSoap>(models.size());
+
+		for (DLContentChunk model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new DLContentChunkSoap[soapModels.size()]);
+	}
+
+	public DLContentChunkSoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _chunkId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setChunkId(pk);
+	}
+
+	public long getChunkId() {
+		return _chunkId;
+	}
+
+	public void setChunkId(long chunkId) {
+		_chunkId = chunkId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public long getContentId() {
+		return _contentId;
+	}
+
+	public void setContentId(long contentId) {
+		_contentId = contentId;
+	}
+
+	public int getChunkIndex() {
+		return _chunkIndex;
+	}
+
+	public void setChunkIndex(int chunkIndex) {
+		_chunkIndex = chunkIndex;
+	}
+
+	public Blob getData() {
+		return _data;
+	}
+
+	public void setData(Blob data) {
+		_data = data;
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	public void setSize(long size) {
+		_size = size;
+	}
+
+	private long _chunkId;
+	private long _companyId;
+	private long _contentId;
+	private int _chunkIndex;
+	private Blob _data;
+	private long _size;
+}
\ No newline at end of file
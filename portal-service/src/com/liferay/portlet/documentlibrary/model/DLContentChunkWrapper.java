@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.model.ModelWrapper;
+
+import java.sql.Blob;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link DLContentChunk}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       DLContentChunk
+ * @generated
+ */
+public class DLContentChunkWrapper implements DLContentChunk,
+	ModelWrapper<DLContentChunk> {
+	public DLContentChunkWrapper(DLContentChunk dlContentChunk) {
+		_dlContentChunk = dlContentChunk;
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentChunk.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentChunk.class.getName();
+	}
+
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("chunkId", getChunkId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("contentId", getContentId());
+		attributes.put("chunkIndex", getChunkIndex());
+		attributes.put("data", getData());
+		attributes.put("size", getSize());
+
+		return attributes;
+	}
+
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long chunkId = (Long)attributes.get("chunkId");
+
+		if (chunkId != null) {
+			setChunkId(chunkId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long contentId = (Long)attributes.get("contentId");
+
+		if (contentId != null) {
+			setContentId(contentId);
+		}
+
+		Integer chunkIndex = (Integer)attributes.get("chunkIndex");
+
+		if (chunkIndex != null) {
+			setChunkIndex(chunkIndex);
+		}
+
+		Blob data = (Blob)attributes.get("data");
+
+		if (data != null) {
+			setData(data);
+		}
+
+		Long size = (Long)attributes.get("size");
+
+		if (size != null) {
+			setSize(size);
+		}
+	}
+
+	/**
+	* Returns the primary key of this document library content chunk.
+	*
+	* @return the primary key of this document library content chunk
+	*/
+	public long getPrimaryKey() {
+		return _dlContentChunk.getPrimaryKey();
+	}
+
+	/**
+	* Sets the primary key of this document library content chunk.
+	*
+	* @param primaryKey the primary key of this document library content chunk
+	*/
+	public void setPrimaryKey(long primaryKey) {
+		_dlContentChunk.setPrimaryKey(primaryKey);
+	}
+
+	/**
+	* Returns the chunk ID of this document library content chunk.
+	*
+	* @return the chunk ID of this document library content chunk
+	*/
+	public long getChunkId() {
+		return _dlContentChunk.getChunkId();
+	}
+
+	/**
+	* Sets the chunk ID of this document library content chunk.
+	*
+	* @param chunkId the chunk ID of this document library content chunk
+	*/
+	public void setChunkId(long chunkId) {
+		_dlContentChunk.setChunkId(chunkId);
+	}
+
+	/**
+	* Returns the company ID of this document library content chunk.
+	*
+	* @return the company ID of this document library content chunk
+	*/
+	public long getCompanyId() {
+		return _dlContentChunk.getCompanyId();
+	}
+
+	/**
+	* Sets the company ID of this document library content chunk.
+	*
+	* @param companyId the company ID of this document library content chunk
+	*/
+	public void setCompanyId(long companyId) {
+		_dlContentChunk.setCompanyId(companyId);
+	}
+
+	/**
+	* Returns the content ID of this document library content chunk.
+	*
+	* @return the content ID of this document library content chunk
+	*/
+	public long getContentId() {
+		return _dlContentChunk.getContentId();
+	}
+
+	/**
+	* Sets the content ID of this document library content chunk.
+	*
+	* @param contentId the content ID of this document library content chunk
+	*/
+	public void setContentId(long contentId) {
+		_dlContentChunk.setContentId(contentId);
+	}
+
+	/**
+	* Returns the chunk index of this document library content chunk.
+	*
+	* @return the chunk index of this document library content chunk
+	*/
+	public int getChunkIndex() {
+		return _dlContentChunk.getChunkIndex();
+	}
+
+	/**
+	* Sets the chunk index of this document library content chunk.
+	*
+	* @param chunkIndex the chunk index of this document library content chunk
+	*/
+	public void setChunkIndex(int chunkIndex) {
+		_dlContentChunk.setChunkIndex(chunkIndex);
+	}
+
+	/**
+	* Returns the data of this document library content chunk.
+	*
+	* @return the data of this document library content chunk
+	*/
+	public java.sql.Blob getData() {
+		return _dlContentChunk.getData();
+	}
+
+	/**
+	* Sets the data of this document library content chunk.
+	*
+	* @param data the data of this document library content chunk
+	*/
+	public void setData(java.sql.Blob data) {
+		_dlContentChunk.setData(data);
+	}
+
+	/**
+	* Returns the size of this document library content chunk.
+	*
+	* @return the size of this document library content chunk
+	*/
+	public long getSize() {
+		return _dlContentChunk.getSize();
+	}
+
+	/**
+	* Sets the size of this document library content chunk.
+	*
+	* @param size the size of this document library content chunk
+	*/
+	public void setSize(long size) {
+		_dlContentChunk.setSize(size);
+	}
+
+	public boolean isNew() {
+		return _dlContentChunk.isNew();
+	}
+
+	public void setNew(boolean n) {
+		_dlContentChunk.setNew(n);
+	}
+
+	public boolean isCachedModel() {
+		return _dlContentChunk.isCachedModel();
+	}
+
+	public void setCachedModel(boolean cachedModel) {
+		_dlContentChunk.setCachedModel(cachedModel);
+	}
+
+	public boolean isEscapedModel() {
+		return _dlContentChunk.isEscapedModel();
+	}
+
+	public java.io.Serializable getPrimaryKeyObj() {
+		return _dlContentChunk.getPrimaryKeyObj();
+	}
+
+	public void setPrimaryKeyObj(java.io.Serializable primaryKeyObj) {
+		_dlContentChunk.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	public com.liferay.portlet.expando.model.ExpandoBridge getExpandoBridge() {
+		return _dlContentChunk.getExpandoBridge();
+	}
+
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.service.ServiceContext serviceContext) {
+		_dlContentChunk.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new DLContentChunkWrapper((DLContentChunk)_dlContentChunk.clone());
+	}
+
+	public int compareTo(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk) {
+		return _dlContentChunk.compareTo(dlContentChunk);
+	}
+
+	@Override
+	public int hashCode() {
+		return _dlContentChunk.hashCode();
+	}
+
+	public com.liferay.portal.model.CacheModel<com.liferay.portlet.documentlibrary.model.DLContentChunk> toCacheModel() {
+		return _dlContentChunk.toCacheModel();
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk toEscapedModel() {
+		return new DLContentChunkWrapper(_dlContentChunk.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _dlContentChunk.toString();
+	}
+
+	public java.lang.String toXmlString() {
+		return _dlContentChunk.toXmlString();
+	}
+
+	public void persist()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		_dlContentChunk.persist();
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedModel}
+	 */
+	public DLContentChunk getWrappedDLContentChunk() {
+		return _dlContentChunk;
+	}
+
+	public DLContentChunk getWrappedModel() {
+		return _dlContentChunk;
+	}
+
+	public void resetOriginalValues() {
+		_dlContentChunk.resetOriginalValues();
+	}
+
+	private DLContentChunk _dlContentChunk;
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.kernel.bean.AutoEscape;
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.expando.model.ExpandoBridge;
+
+import java.io.Serializable;
+
+/**
+ * The base model interface for the DLContentHash service. Represents a row in the &quot;DLContentHash&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link com.liferay.portlet.documentlibrary.model.impl.DLContentHashModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link com.liferay.portlet.documentlibrary.model.impl.DLContentHashImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHash
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentHashImpl
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentHashModelImpl
+ * @generated
+ */
+public interface DLContentHashModel extends BaseModel<DLContentHash> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a document library content hash model instance should use the {@link DLContentHash} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this document library content hash.
+	 *
+	 * @return the primary key of this document library content hash
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this document library content hash.
+	 *
+	 * @param primaryKey the primary key of this document library content hash
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the content hash ID of this document library content hash.
+	 *
+	 * @return the content hash ID of this document library content hash
+	 */
+	public long getContentHashId();
+
+	/**
+	 * Sets the content hash ID of this document library content hash.
+	 *
+	 * @param contentHashId the content hash ID of this document library content hash
+	 */
+	public void setContentHashId(long contentHashId);
+
+	/**
+	 * Returns the company ID of this document library content hash.
+	 *
+	 * @return the company ID of this document library content hash
+	 */
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this document library content hash.
+	 *
+	 * @param companyId the company ID of this document library content hash
+	 */
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the hash of this document library content hash.
+	 *
+	 * @return the hash of this document library content hash
+	 */
+	@AutoEscape
+	public String getHash();
+
+	/**
+	 * Sets the hash of this document library content hash.
+	 *
+	 * @param hash the hash of this document library content hash
+	 */
+	public void setHash(String hash);
+
+	public boolean isNew();
+
+	public void setNew(boolean n);
+
+	public boolean isCachedModel();
+
+	public void setCachedModel(boolean cachedModel);
+
+	public boolean isEscapedModel();
+
+	public Serializable getPrimaryKeyObj();
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	public ExpandoBridge getExpandoBridge();
+
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	public Object clone();
+
+	public int compareTo(DLContentHash dlContentHash);
+
+	public int hashCode();
+
+	public CacheModel<DLContentHash> toCacheModel();
+
+	public DLContentHash toEscapedModel();
+
+	public String toString();
+
+	public String toXmlString();
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author    Brian Wing Shun Chan
+ * @generated
+ */
+public class DLContentHashSoap implements Serializable {
+	public static DLContentHashSoap toSoapModel(DLContentHash model) {
+		DLContentHashSoap soapModel = new DLContentHashSoap();
+
+		soapModel.setContentHashId(model.getContentHashId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setHash(model.getHash());
+
+		return soapModel;
+	}
+
+	public static DLContentHashSoap[] toSoapModels(DLContentHash[] models) {
+		DLContentHashSoap[] soapModels = new DLContentHashSoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentHashSoap[][] toSoapModels(DLContentHash[][] models) {
+		DLContentHashSoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new DLContentHashSoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new DLContentHashSoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentHashSoap[] toSoapModels(List<DLContentHash> models) {
+		List<DLContentHashSoap> soapModels = new ArrayList<DLContentHashSoap>(models.size());
+
+		for (DLContentHash model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new DLContentHashSoap[soapModels.size()]);
+	}
+
+	public DLContentHashSoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _contentHashId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setContentHashId(pk);
+	}
+
+	public long getContentHashId() {
+		return _contentHashId;
+	}
+
+	public void setContentHashId(long contentHashId) {
+		_contentHashId = contentHashId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public String getHash() {
+		return _hash;
+	}
+
+	public void setHash(String hash) {
+		_hash = hash;
+	}
+
+	private long _contentHashId;
+	private long _companyId;
+	private String _hash;
+}
\ No newline at end of file
@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.model.ModelWrapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link DLContentHash}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       DLContentHash
+ * @generated
+ */
+public class DLContentHashWrapper implements DLContentHash,
+	ModelWrapper<DLContentHash> {
+	public DLContentHashWrapper(DLContentHash dlContentHash) {
+		_dlContentHash = dlContentHash;
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentHash.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentHash.class.getName();
+	}
+
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("contentHashId", getContentHashId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("hash", getHash());
+
+		return attributes;
+	}
+
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long contentHashId = (Long)attributes.get("contentHashId");
+
+		if (contentHashId != null) {
+			setContentHashId(contentHashId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		String hash = (String)attributes.get("hash");
+
+		if (hash != null) {
+			setHash(hash);
+		}
+	}
+
+	/**
+	* Returns the primary key of this document library content hash.
+	*
+	* @return the primary key of this document library content hash
+	*/
+	public long getPrimaryKey() {
+		return _dlContentHash.getPrimaryKey();
+	}
+
+	/**
+	* Sets the primary key of this document library content hash.
+	*
+	* @param primaryKey the primary key of this document library content hash
+	*/
+	public void setPrimaryKey(long primaryKey) {
+		_dlContentHash.setPrimaryKey(primaryKey);
+	}
+
+	/**
+	* Returns the content hash ID of this document library content hash.
+	*
+	* @return the content hash ID of this document library content hash
+	*/
+	public long getContentHashId() {
+		return _dlContentHash.getContentHashId();
+	}
+
+	/**
+	* Sets the content hash ID of this document library content hash.
+	*
+	* @param contentHashId the content hash ID of this document library content hash
+	*/
+	public void setContentHashId(long contentHashId) {
+		_dlContentHash.setContentHashId(contentHashId);
+	}
+
+	/**
+	* Returns the company ID of this document library content hash.
+	*
+	* @return the company ID of this document library content hash
+	*/
+	public long getCompanyId() {
+		return _dlContentHash.getCompanyId();
+	}
+
+	/**
+	* Sets the company ID of this document library content hash.
+	*
+	* @param companyId the company ID of this document library content hash
+	*/
+	public void setCompanyId(long companyId) {
+		_dlContentHash.setCompanyId(companyId);
+	}
+
+	/**
+	* Returns the hash of this document library content hash.
+	*
+	* @return the hash of this document library content hash
+	*/
+	public java.lang.String getHash() {
+		return _dlContentHash.getHash();
+	}
+
+	/**
+	* Sets the hash of this document library content hash.
+	*
+	* @param hash the hash of this document library content hash
+	*/
+	public void setHash(java.lang.String hash) {
+		_dlContentHash.setHash(hash);
+	}
+
+	public boolean isNew() {
+		return _dlContentHash.isNew();
+	}
+
+	public void setNew(boolean n) {
+		_dlContentHash.setNew(n);
+	}
+
+	public boolean isCachedModel() {
+		return _dlContentHash.isCachedModel();
+	}
+
+	public void setCachedModel(boolean cachedModel) {
+		_dlContentHash.setCachedModel(cachedModel);
+	}
+
+	public boolean isEscapedModel() {
+		return _dlContentHash.isEscapedModel();
+	}
+
+	public java.io.Serializable getPrimaryKeyObj() {
+		return _dlContentHash.getPrimaryKeyObj();
+	}
+
+	public void setPrimaryKeyObj(java.io.Serializable primaryKeyObj) {
+		_dlContentHash.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	public com.liferay.portlet.expando.model.ExpandoBridge getExpandoBridge() {
+		return _dlContentHash.getExpandoBridge();
+	}
+
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.service.ServiceContext serviceContext) {
+		_dlContentHash.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new DLContentHashWrapper((DLContentHash)_dlContentHash.clone());
+	}
+
+	public int compareTo(DLContentHash dlContentHash) {
+		return _dlContentHash.compareTo(dlContentHash);
+	}
+
+	@Override
+	public int hashCode() {
+		return _dlContentHash.hashCode();
+	}
+
+	public com.liferay.portal.model.CacheModel<DLContentHash> toCacheModel() {
+		return _dlContentHash.toCacheModel();
+	}
+
+	public DLContentHash toEscapedModel() {
+		return new DLContentHashWrapper(_dlContentHash.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _dlContentHash.toString();
+	}
+
+	public java.lang.String toXmlString() {
+		return _dlContentHash.toXmlString();
+	}
+
+	public void persist()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		_dlContentHash.persist();
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedModel}
+	 */
+	public DLContentHash getWrappedDLContentHash() {
+		return _dlContentHash;
+	}
+
+	public DLContentHash getWrappedModel() {
+		return _dlContentHash;
+	}
+
+	public void resetOriginalValues() {
+		_dlContentHash.resetOriginalValues();
+	}
+
+	private DLContentHash _dlContentHash;
+}
\ No newline at end of file
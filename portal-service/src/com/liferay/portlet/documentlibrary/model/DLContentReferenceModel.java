@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.kernel.bean.AutoEscape;
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.CacheModel;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.expando.model.ExpandoBridge;
+
+import java.io.Serializable;
+
+/**
+ * The base model interface for the DLContentReference service. Represents a row in the &quot;DLContentReference&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentReference
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceImpl
+ * @see com.liferay.portlet.documentlibrary.model.impl.DLContentReferenceModelImpl
+ * @generated
+ */
+public interface DLContentReferenceModel extends BaseModel<DLContentReference> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a document library content reference model instance should use the {@link DLContentReference} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this document library content reference.
+	 *
+	 * @return the primary key of this document library content reference
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this document library content reference.
+	 *
+	 * @param primaryKey the primary key of this document library content reference
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the reference ID of this document library content reference.
+	 *
+	 * @return the reference ID of this document library content reference
+	 */
+	public long getReferenceId();
+
+	/**
+	 * Sets the reference ID of this document library content reference.
+	 *
+	 * @param referenceId the reference ID of this document library content reference
+	 */
+	public void setReferenceId(long referenceId);
+
+	/**
+	 * Returns the company ID of this document library content reference.
+	 *
+	 * @return the company ID of this document library content reference
+	 */
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this document library content reference.
+	 *
+	 * @param companyId the company ID of this document library content reference
+	 */
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the repository ID of this document library content reference.
+	 *
+	 * @return the repository ID of this document library content reference
+	 */
+	public long getRepositoryId();
+
+	/**
+	 * Sets the repository ID of this document library content reference.
+	 *
+	 * @param repositoryId the repository ID of this document library content reference
+	 */
+	public void setRepositoryId(long repositoryId);
+
+	/**
+	 * Returns the path of this document library content reference.
+	 *
+	 * @return the path of this document library content reference
+	 */
+	@AutoEscape
+	public String getPath();
+
+	/**
+	 * Sets the path of this document library content reference.
+	 *
+	 * @param path the path of this document library content reference
+	 */
+	public void setPath(String path);
+
+	/**
+	 * Returns the version of this document library content reference.
+	 *
+	 * @return the version of this document library content reference
+	 */
+	@AutoEscape
+	public String getVersion();
+
+	/**
+	 * Sets the version of this document library content reference.
+	 *
+	 * @param version the version of this document library content reference
+	 */
+	public void setVersion(String version);
+
+	/**
+	 * Returns the hash of this document library content reference.
+	 *
+	 * @return the hash of this document library content reference
+	 */
+	@AutoEscape
+	public String getHash();
+
+	/**
+	 * Sets the hash of this document library content reference.
+	 *
+	 * @param hash the hash of this document library content reference
+	 */
+	public void setHash(String hash);
+
+	/**
+	 * Returns the size of this document library content reference.
+	 *
+	 * @return the size of this document library content reference
+	 */
+	public long getSize();
+
+	/**
+	 * Sets the size of this document library content reference.
+	 *
+	 * @param size the size of this document library content reference
+	 */
+	public void setSize(long size);
+
+	public boolean isNew();
+
+	public void setNew(boolean n);
+
+	public boolean isCachedModel();
+
+	public void setCachedModel(boolean cachedModel);
+
+	public boolean isEscapedModel();
+
+	public Serializable getPrimaryKeyObj();
+
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	public ExpandoBridge getExpandoBridge();
+
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	public Object clone();
+
+	public int compareTo(DLContentReference dlContentReference);
+
+	public int hashCode();
+
+	public CacheModel<DLContentReference> toCacheModel();
+
+	public DLContentReference toEscapedModel();
+
+	public String toString();
+
+	public String toXmlString();
+}
\ No newline at end of file
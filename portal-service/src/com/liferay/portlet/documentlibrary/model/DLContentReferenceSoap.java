@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author    Brian Wing Shun Chan
+ * @generated
+ */
+public class DLContentReferenceSoap implements Serializable {
+	public static DLContentReferenceSoap toSoapModel(DLContentReference model) {
+		DLContentReferenceSoap soapModel = new DLContentReferenceSoap();
+
+		soapModel.setReferenceId(model.getReferenceId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setRepositoryId(model.getRepositoryId());
+		soapModel.setPath(model.getPath());
+		soapModel.setVersion(model.getVersion());
+		soapModel.setHash(model.getHash());
+		soapModel.setSize(model.getSize());
+
+		return soapModel;
+	}
+
+	public static DLContentReferenceSoap[] toSoapModels(
+		DLContentReference[] models) {
+		DLContentReferenceSoap[] soapModels = new DLContentReferenceSoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentReferenceSoap[][] toSoapModels(
+		DLContentReference[][] models) {
+		DLContentReferenceSoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new DLContentReferenceSoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new DLContentReferenceSoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static DLContentReferenceSoap[] toSoapModels(
+		List<DLContentReference> models) {
+		List<DLContentReferenceSoap> soapModels = new ArrayList<DLContentReferenceSoap>(models.size());
+
+		for (DLContentReference model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new DLContentReferenceSoap[soapModels.size()]);
+	}
+
+	public DLContentReferenceSoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _referenceId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setReferenceId(pk);
+	}
+
+	public long getReferenceId() {
+		return _referenceId;
+	}
+
+	public void setReferenceId(long referenceId) {
+		_referenceId = referenceId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public long getRepositoryId() {
+		return _repositoryId;
+	}
+
+	public void setRepositoryId(long repositoryId) {
+		_repositoryId = repositoryId;
+	}
+
+	public String getPath() {
+		return _path;
+	}
+
+	public void setPath(String path) {
+		_path = path;
+	}
+
+	public String getVersion() {
+		return _version;
+	}
+
+	public void setVersion(String version) {
+		_version = version;
+	}
+
+	public String getHash() {
+		return _hash;
+	}
+
+	public void setHash(String hash) {
+		_hash = hash;
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	public void setSize(long size) {
+		_size = size;
+	}
+
+	private long _referenceId;
+	private long _companyId;
+	private long _repositoryId;
+	private String _path;
+	private String _version;
+	private String _hash;
+	private long _size;
+}
\ No newline at end of file
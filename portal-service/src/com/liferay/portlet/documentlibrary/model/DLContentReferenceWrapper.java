@@ -0,0 +1,337 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.model;
+
+import com.liferay.portal.model.ModelWrapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link DLContentReference}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       DLContentReference
+ * @generated
+ */
+public class DLContentReferenceWrapper implements DLContentReference,
+	ModelWrapper<DLContentReference> {
+	public DLContentReferenceWrapper(DLContentReference dlContentReference) {
+		_dlContentReference = dlContentReference;
+	}
+
+	public Class<?> getModelClass() {
+		return DLContentReference.class;
+	}
+
+	public String getModelClassName() {
+		return DLContentReference.class.getName();
+	}
+
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("referenceId", getReferenceId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("repositoryId", getRepositoryId());
+		attributes.put("path", getPath());
+		attributes.put("version", getVersion());
+		attributes.put("hash", getHash());
+		attributes.put("size", getSize());
+
+		return attributes;
+	}
+
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long referenceId = (Long)attributes.get("referenceId");
+
+		if (referenceId != null) {
+			setReferenceId(referenceId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long repositoryId = (Long)attributes.get("repositoryId");
+
+		if (repositoryId != null) {
+			setRepositoryId(repositoryId);
+		}
+
+		String path = (String)attributes.get("path");
+
+		if (path != null) {
+			setPath(path);
+		}
+
+		String version = (String)attributes.get("version");
+
+		if (version != null) {
+			setVersion(version);
+		}
+
+		String hash = (String)attributes.get("hash");
+
+		if (hash != null) {
+			setHash(hash);
+		}
+
+		Long size = (Long)attributes.get("size");
+
+		if (size != null) {
+			setSize(size);
+		}
+	}
+
+	/**
+	* Returns the primary key of this document library content reference.
+	*
+	* @return the primary key of this document library content reference
+	*/
+	public long getPrimaryKey() {
+		return _dlContentReference.getPrimaryKey();
+	}
+
+	/**
+	* Sets the primary key of this document library content reference.
+	*
+	* @param primaryKey the primary key of this document library content reference
+	*/
+	public void setPrimaryKey(long primaryKey) {
+		_dlContentReference.setPrimaryKey(primaryKey);
+	}
+
+	/**
+	* Returns the reference ID of this document library content reference.
+	*
+	* @return the reference ID of this document library content reference
+	*/
+	public long getReferenceId() {
+		return _dlContentReference.getReferenceId();
+	}
+
+	/**
+	* Sets the reference ID of this document library content reference.
+	*
+	* @param referenceId the reference ID of this document library content reference
+	*/
+	public void setReferenceId(long referenceId) {
+		_dlContentReference.setReferenceId(referenceId);
+	}
+
+	/**
+	* Returns the company ID of this document library content reference.
+	*
+	* @return the company ID of this document library content reference
+	*/
+	public long getCompanyId() {
+		return _dlContentReference.getCompanyId();
+	}
+
+	/**
+	* Sets the company ID of this document library content reference.
+	*
+	* @param companyId the company ID of this document library content reference
+	*/
+	public void setCompanyId(long companyId) {
+		_dlContentReference.setCompanyId(companyId);
+	}
+
+	/**
+	* Returns the repository ID of this document library content reference.
+	*
+	* @return the repository ID of this document library content reference
+	*/
+	public long getRepositoryId() {
+		return _dlContentReference.getRepositoryId();
+	}
+
+	/**
+	* Sets the repository ID of this document library content reference.
+	*
+	* @param repositoryId the repository ID of this document library content reference
+	*/
+	public void setRepositoryId(long repositoryId) {
+		_dlContentReference.setRepositoryId(repositoryId);
+	}
+
+	/**
+	* Returns the path of this document library content reference.
+	*
+	* @return the path of this document library content reference
+	*/
+	public java.lang.String getPath() {
+		return _dlContentReference.getPath();
+	}
+
+	/**
+	* Sets the path of this document library content reference.
+	*
+	* @param path the path of this document library content reference
+	*/
+	public void setPath(java.lang.String path) {
+		_dlContentReference.setPath(path);
+	}
+
+	/**
+	* Returns the version of this document library content reference.
+	*
+	* @return the version of this document library content reference
+	*/
+	public java.lang.String getVersion() {
+		return _dlContentReference.getVersion();
+	}
+
+	/**
+	* Sets the version of this document library content reference.
+	*
+	* @param version the version of this document library content reference
+	*/
+	public void setVersion(java.lang.String version) {
+		_dlContentReference.setVersion(version);
+	}
+
+	/**
+	* Returns the hash of this document library content reference.
+	*
+	* @return the hash of this document library content reference
+	*/
+	public java.lang.String getHash() {
+		return _dlContentReference.getHash();
+	}
+
+	/**
+	* Sets the hash of this document library content reference.
+	*
+	* @param hash the hash of this document library content reference
+	*/
+	public void setHash(java.lang.String hash) {
+		_dlContentReference.setHash(hash);
+	}
+
+	/**
+	* Returns the size of this document library content reference.
+	*
+	* @return the size of this document library content reference
+	*/
+	public long getSize() {
+		return _dlContentReference.getSize();
+	}
+
+	/**
+	* Sets the size of this document library content reference.
+	*
+	* @param size the size of this document library content reference
+	*/
+	public void setSize(long size) {
+		_dlContentReference.setSize(size);
+	}
+
+	public boolean isNew() {
+		return _dlContentReference.isNew();
+	}
+
+	public void setNew(boolean n) {
+		_dlContentReference.setNew(n);
+	}
+
+	public boolean isCachedModel() {
+		return _dlContentReference.isCachedModel();
+	}
+
+	public void setCachedModel(boolean cachedModel) {
+		_dlContentReference.setCachedModel(cachedModel);
+	}
+
+	public boolean isEscapedModel() {
+		return _dlContentReference.isEscapedModel();
+	}
+
+	public java.io.Serializable getPrimaryKeyObj() {
+		return _dlContentReference.getPrimaryKeyObj();
+	}
+
+	public void setPrimaryKeyObj(java.io.Serializable primaryKeyObj) {
+		_dlContentReference.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	public com.liferay.portlet.expando.model.ExpandoBridge getExpandoBridge() {
+		return _dlContentReference.getExpandoBridge();
+	}
+
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.service.ServiceContext serviceContext) {
+		_dlContentReference.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new DLContentReferenceWrapper((DLContentReference)_dlContentReference.clone());
+	}
+
+	public int compareTo(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference) {
+		return _dlContentReference.compareTo(dlContentReference);
+	}
+
+	@Override
+	public int hashCode() {
+		return _dlContentReference.hashCode();
+	}
+
+	public com.liferay.portal.model.CacheModel<com.liferay.portlet.documentlibrary.model.DLContentReference> toCacheModel() {
+		return _dlContentReference.toCacheModel();
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference toEscapedModel() {
+		return new DLContentReferenceWrapper(_dlContentReference.toEscapedModel());
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _dlContentReference.toString();
+	}
+
+	public java.lang.String toXmlString() {
+		return _dlContentReference.toXmlString();
+	}
+
+	public void persist()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		_dlContentReference.persist();
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedModel}
+	 */
+	public DLContentReference getWrappedDLContentReference() {
+		return _dlContentReference;
+	}
+
+	public DLContentReference getWrappedModel() {
+		return _dlContentReference;
+	}
+
+	public void resetOriginalValues() {
+		_dlContentReference.resetOriginalValues();
+	}
+
+	private DLContentReference _dlContentReference;
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * The utility for the document library content chunk local service. This utility wraps {@link com.liferay.portlet.documentlibrary.service.impl.DLContentChunkLocalServiceImpl} and is the primary access point for service operations in application layer code running on the local server.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security checks based on the propagated JAAS credentials because this service can only be accessed from within the same VM.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunkLocalService
+ * @see com.liferay.portlet.documentlibrary.service.base.DLContentChunkLocalServiceBaseImpl
+ * @see com.liferay.portlet.documentlibrary.service.impl.DLContentChunkLocalServiceImpl
+ * @generated
+ */
+public class DLContentChunkLocalServiceUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Add custom service methods to {@link com.liferay.portlet.documentlibrary.service.impl.DLContentChunkLocalServiceImpl} and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	* Adds the document library content chunk to the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentChunk the document library content chunk
+	* @return the document library content chunk that was added
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk addDLContentChunk(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().addDLContentChunk(dlContentChunk);
+	}
+
+	/**
+	* Creates a new document library content chunk with the primary key. Does not add the document library content chunk to the database.
+	*
+	* @param chunkId the primary key for the new document library content chunk
+	* @return the new document library content chunk
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk createDLContentChunk(
+		long chunkId) {
+		return getService().createDLContentChunk(chunkId);
+	}
+
+	/**
+	* Deletes the document library content chunk with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param chunkId the primary key of the document library content chunk
+	* @return the document library content chunk that was removed
+	* @throws PortalException if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk deleteDLContentChunk(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().deleteDLContentChunk(chunkId);
+	}
+
+	/**
+	* Deletes the document library content chunk from the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentChunk the document library content chunk
+	* @return the document library content chunk that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk deleteDLContentChunk(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().deleteDLContentChunk(dlContentChunk);
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return getService().dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService()
+				   .dynamicQuery(dynamicQuery, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows that match the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows that match the dynamic query
+	* @throws SystemException if a system exception occurred
+	*/
+	public static long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQueryCount(dynamicQuery);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk fetchDLContentChunk(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().fetchDLContentChunk(chunkId);
+	}
+
+	/**
+	* Returns the document library content chunk with the primary key.
+	*
+	* @param chunkId the primary key of the document library content chunk
+	* @return the document library content chunk
+	* @throws PortalException if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk getDLContentChunk(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentChunk(chunkId);
+	}
+
+	public static com.liferay.portal.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns a range of all the document library content chunks.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content chunks
+	* @param end the upper bound of the range of document library content chunks (not inclusive)
+	* @return the range of document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> getDLContentChunks(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentChunks(start, end);
+	}
+
+	/**
+	* Returns the number of document library content chunks.
+	*
+	* @return the number of document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int getDLContentChunksCount()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentChunksCount();
+	}
+
+	/**
+	* Updates the document library content chunk in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentChunk the document library content chunk
+	* @return the document library content chunk that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk updateDLContentChunk(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().updateDLContentChunk(dlContentChunk);
+	}
+
+	/**
+	* Updates the document library content chunk in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentChunk the document library content chunk
+	* @param merge whether to merge the document library content chunk with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	* @return the document library content chunk that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk updateDLContentChunk(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().updateDLContentChunk(dlContentChunk, merge);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunkDataBlobModel getDataBlobModel(
+		java.io.Serializable primaryKey)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDataBlobModel(primaryKey);
+	}
+
+	/**
+	* Returns the Spring bean ID for this bean.
+	*
+	* @return the Spring bean ID for this bean
+	*/
+	public static java.lang.String getBeanIdentifier() {
+		return getService().getBeanIdentifier();
+	}
+
+	/**
+	* Sets the Spring bean ID for this bean.
+	*
+	* @param beanIdentifier the Spring bean ID for this bean
+	*/
+	public static void setBeanIdentifier(java.lang.String beanIdentifier) {
+		getService().setBeanIdentifier(beanIdentifier);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentChunk addContentChunk(
+		long companyId, long contentId, int chunkIndex,
+		java.io.InputStream inputStream, long size)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService()
+				   .addContentChunk(companyId, contentId, chunkIndex,
+			inputStream, size);
+	}
+
+	public static void deleteContentChunks(long contentId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getService().deleteContentChunks(contentId);
+	}
+
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> getContentChunks(
+		long contentId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getContentChunks(contentId);
+	}
+
+	public static DLContentChunkLocalService getService() {
+		if (_service == null) {
+			_service = (DLContentChunkLocalService)PortalBeanLocatorUtil.locate(DLContentChunkLocalService.class.getName());
+
+			ReferenceRegistry.registerReference(DLContentChunkLocalServiceUtil.class,
+				"_service");
+		}
+
+		return _service;
+	}
+
+	/**
+	 * @deprecated
+	 */
+	public void setService(DLContentChunkLocalService service) {
+	}
+
+	private static DLContentChunkLocalService _service;
+}
\ No newline at end of file
@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * The utility for the document library content hash local service. This utility wraps {@link com.liferay.portlet.documentlibrary.service.impl.DLContentHashLocalServiceImpl} and is the primary access point for service operations in application layer code running on the local server.
+ *
+ * <p>
+ * This is a local service. Methods of this service will not have security checks based on the propagated JAAS credentials because this service can only be accessed from within the same VM.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHashLocalService
+ * @see com.liferay.portlet.documentlibrary.service.base.DLContentHashLocalServiceBaseImpl
+ * @see com.liferay.portlet.documentlibrary.service.impl.DLContentHashLocalServiceImpl
+ * @generated
+ */
+public class DLContentHashLocalServiceUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Add custom service methods to {@link com.liferay.portlet.documentlibrary.service.impl.DLContentHashLocalServiceImpl} and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	* Adds the document library content hash to the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was added
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash addDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().addDLContentHash(dlContentHash);
+	}
+
+	/**
+	* Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	*
+	* @param contentHashId the primary key for the new document library content hash
+	* @return the new document library content hash
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash createDLContentHash(
+		long contentHashId) {
+		return getService().createDLContentHash(contentHashId);
+	}
+
+	/**
+	* Deletes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash that was removed
+	* @throws PortalException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash deleteDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().deleteDLContentHash(contentHashId);
+	}
+
+	/**
+	* Deletes the document library content hash from the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash deleteDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().deleteDLContentHash(dlContentHash);
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return getService().dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public static java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService()
+				   .dynamicQuery(dynamicQuery, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows that match the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows that match the dynamic query
+	* @throws SystemException if a system exception occurred
+	*/
+	public static long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().dynamicQueryCount(dynamicQuery);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash fetchDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().fetchDLContentHash(contentHashId);
+	}
+
+	/**
+	* Returns the document library content hash with the primary key.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash
+	* @throws PortalException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash getDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentHash(contentHashId);
+	}
+
+	public static com.liferay.portal.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns a range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @return the range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> getDLContentHashs(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentHashs(start, end);
+	}
+
+	/**
+	* Returns the number of document library content hashs.
+	*
+	* @return the number of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int getDLContentHashsCount()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().getDLContentHashsCount();
+	}
+
+	/**
+	* Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash updateDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().updateDLContentHash(dlContentHash);
+	}
+
+	/**
+	* Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @param merge whether to merge the document library content hash with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	* @return the document library content hash that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash updateDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().updateDLContentHash(dlContentHash, merge);
+	}
+
+	/**
+	* Returns the Spring bean ID for this bean.
+	*
+	* @return the Spring bean ID for this bean
+	*/
+	public static java.lang.String getBeanIdentifier() {
+		return getService().getBeanIdentifier();
+	}
+
+	/**
+	* Sets the Spring bean ID for this bean.
+	*
+	* @param beanIdentifier the Spring bean ID for this bean
+	*/
+	public static void setBeanIdentifier(java.lang.String beanIdentifier) {
+		getService().setBeanIdentifier(beanIdentifier);
+	}
+
+	/**
+	* Adds a reference of the file version to the content of the hash,
+	* storing the content first if it is not stored yet.
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference addContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, byte[] bytes)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().addContent(companyId, repositoryId, fileName,
+			versionLabel, hash, bytes);
+	}
+
+	/**
+	* Adds a reference of the file version to the content of the hash,
+	* storing the content first if it is not stored yet.
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference addContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, java.io.File file)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().addContent(companyId, repositoryId, fileName,
+			versionLabel, hash, file);
+	}
+
+	/**
+	* Adds the row of the hash in a new transaction, so that concurrent
+	* transactions that lock the same hash find it.
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash addContentHash(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService().addContentHash(companyId, hash);
+	}
+
+	/**
+	* Adds a reference of the file version to the stored content of the hash,
+	* failing if the content was deleted in the meantime.
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference copyContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, long size)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().copyContent(companyId, repositoryId, fileName,
+			versionLabel, hash, size);
+	}
+
+	/**
+	* Deletes the stored content of the hash if no file references it. This
+	* is called after the transaction that deleted the references commits,
+	* and checks the references again while it holds the lock of the hash.
+	*/
+	public static void deleteUnreferencedContent(long companyId,
+		java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		getService().deleteUnreferencedContent(companyId, hash);
+	}
+
+	/**
+	* Locks the hash until the current transaction ends, adding its row if it
+	* does not exist yet.
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash lockContentHash(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return getService().lockContentHash(companyId, hash);
+	}
+
+	public static DLContentHashLocalService getService() {
+		if (_service == null) {
+			_service = (DLContentHashLocalService)PortalBeanLocatorUtil.locate(DLContentHashLocalService.class.getName());
+
+			ReferenceRegistry.registerReference(DLContentHashLocalServiceUtil.class,
+				"_service");
+		}
+
+		return _service;
+	}
+
+	/**
+	 * @deprecated
+	 */
+	public void setService(DLContentHashLocalService service) {
+	}
+
+	private static DLContentHashLocalService _service;
+}
\ No newline at end of file
@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service;
+
+import com.liferay.portal.service.ServiceWrapper;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link DLContentHashLocalService}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       DLContentHashLocalService
+ * @generated
+ */
+public class DLContentHashLocalServiceWrapper
+	implements DLContentHashLocalService,
+		ServiceWrapper<DLContentHashLocalService> {
+	public DLContentHashLocalServiceWrapper(
+		DLContentHashLocalService dlContentHashLocalService) {
+		_dlContentHashLocalService = dlContentHashLocalService;
+	}
+
+	/**
+	* Adds the document library content hash to the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was added
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash addDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.addDLContentHash(dlContentHash);
+	}
+
+	/**
+	* Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	*
+	* @param contentHashId the primary key for the new document library content hash
+	* @return the new document library content hash
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash createDLContentHash(
+		long contentHashId) {
+		return _dlContentHashLocalService.createDLContentHash(contentHashId);
+	}
+
+	/**
+	* Deletes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash that was removed
+	* @throws PortalException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash deleteDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.deleteDLContentHash(contentHashId);
+	}
+
+	/**
+	* Deletes the document library content hash from the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash deleteDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.deleteDLContentHash(dlContentHash);
+	}
+
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _dlContentHashLocalService.dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.dynamicQuery(dynamicQuery, start,
+			end, orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows that match the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows that match the dynamic query
+	* @throws SystemException if a system exception occurred
+	*/
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentHash fetchDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.fetchDLContentHash(contentHashId);
+	}
+
+	/**
+	* Returns the document library content hash with the primary key.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash
+	* @throws PortalException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash getDLContentHash(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.getDLContentHash(contentHashId);
+	}
+
+	public com.liferay.portal.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns a range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @return the range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> getDLContentHashs(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.getDLContentHashs(start, end);
+	}
+
+	/**
+	* Returns the number of document library content hashs.
+	*
+	* @return the number of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public int getDLContentHashsCount()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.getDLContentHashsCount();
+	}
+
+	/**
+	* Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @return the document library content hash that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash updateDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.updateDLContentHash(dlContentHash);
+	}
+
+	/**
+	* Updates the document library content hash in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentHash the document library content hash
+	* @param merge whether to merge the document library content hash with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	* @return the document library content hash that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash updateDLContentHash(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.updateDLContentHash(dlContentHash,
+			merge);
+	}
+
+	/**
+	* Returns the Spring bean ID for this bean.
+	*
+	* @return the Spring bean ID for this bean
+	*/
+	public java.lang.String getBeanIdentifier() {
+		return _dlContentHashLocalService.getBeanIdentifier();
+	}
+
+	/**
+	* Sets the Spring bean ID for this bean.
+	*
+	* @param beanIdentifier the Spring bean ID for this bean
+	*/
+	public void setBeanIdentifier(java.lang.String beanIdentifier) {
+		_dlContentHashLocalService.setBeanIdentifier(beanIdentifier);
+	}
+
+	/**
+	* Adds a reference of the file version to the content of the hash,
+	* storing the content first if it is not stored yet.
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference addContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, byte[] bytes)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.addContent(companyId, repositoryId, fileName,
+			versionLabel, hash, bytes);
+	}
+
+	/**
+	* Adds a reference of the file version to the content of the hash,
+	* storing the content first if it is not stored yet.
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference addContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, java.io.File file)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.addContent(companyId, repositoryId, fileName,
+			versionLabel, hash, file);
+	}
+
+	/**
+	* Adds the row of the hash in a new transaction, so that concurrent
+	* transactions that lock the same hash find it.
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash addContentHash(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.addContentHash(companyId, hash);
+	}
+
+	/**
+	* Adds a reference of the file version to the stored content of the hash,
+	* failing if the content was deleted in the meantime.
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference copyContent(
+		long companyId, long repositoryId, java.lang.String fileName,
+		java.lang.String versionLabel, java.lang.String hash, long size)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.copyContent(companyId, repositoryId, fileName,
+			versionLabel, hash, size);
+	}
+
+	/**
+	* Deletes the stored content of the hash if no file references it. This
+	* is called after the transaction that deleted the references commits,
+	* and checks the references again while it holds the lock of the hash.
+	*/
+	public void deleteUnreferencedContent(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		_dlContentHashLocalService.deleteUnreferencedContent(companyId, hash);
+	}
+
+	/**
+	* Locks the hash until the current transaction ends, adding its row if it
+	* does not exist yet.
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash lockContentHash(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentHashLocalService.lockContentHash(companyId, hash);
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedService}
+	 */
+	public DLContentHashLocalService getWrappedDLContentHashLocalService() {
+		return _dlContentHashLocalService;
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #setWrappedService}
+	 */
+	public void setWrappedDLContentHashLocalService(
+		DLContentHashLocalService dlContentHashLocalService) {
+		_dlContentHashLocalService = dlContentHashLocalService;
+	}
+
+	public DLContentHashLocalService getWrappedService() {
+		return _dlContentHashLocalService;
+	}
+
+	public void setWrappedService(
+		DLContentHashLocalService dlContentHashLocalService) {
+		_dlContentHashLocalService = dlContentHashLocalService;
+	}
+
+	private DLContentHashLocalService _dlContentHashLocalService;
+}
\ No newline at end of file
@@ -253,6 +253,16 @@ public interface DLContentLocalService extends BaseLocalService,
 		java.lang.String version, byte[] bytes)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, byte[] bytes, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, java.io.File file, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
 		long companyId, long repositoryId, java.lang.String path,
 		java.lang.String version, java.io.InputStream inputStream, long size)
@@ -281,6 +281,24 @@ public class DLContentLocalServiceUtil {
 				   .addContent(companyId, repositoryId, path, version, bytes);
 	}
 
+	public static com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, byte[] bytes, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService()
+				   .addContent(companyId, repositoryId, path, version, bytes,
+			chunkSize);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, java.io.File file, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getService()
+				   .addContent(companyId, repositoryId, path, version, file,
+			chunkSize);
+	}
+
 	public static com.liferay.portlet.documentlibrary.model.DLContent addContent(
 		long companyId, long repositoryId, java.lang.String path,
 		java.lang.String version, java.io.InputStream inputStream, long size)
@@ -276,6 +276,22 @@ public class DLContentLocalServiceWrapper implements DLContentLocalService,
 			version, bytes);
 	}
 
+	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, byte[] bytes, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentLocalService.addContent(companyId, repositoryId, path,
+			version, bytes, chunkSize);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, java.io.File file, int chunkSize)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentLocalService.addContent(companyId, repositoryId, path,
+			version, file, chunkSize);
+	}
+
 	public com.liferay.portlet.documentlibrary.model.DLContent addContent(
 		long companyId, long repositoryId, java.lang.String path,
 		java.lang.String version, java.io.InputStream inputStream, long size)
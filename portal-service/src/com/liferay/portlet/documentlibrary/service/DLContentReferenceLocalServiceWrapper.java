@@ -0,0 +1,375 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service;
+
+import com.liferay.portal.service.ServiceWrapper;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link DLContentReferenceLocalService}.
+ * </p>
+ *
+ * @author    Brian Wing Shun Chan
+ * @see       DLContentReferenceLocalService
+ * @generated
+ */
+public class DLContentReferenceLocalServiceWrapper
+	implements DLContentReferenceLocalService,
+		ServiceWrapper<DLContentReferenceLocalService> {
+	public DLContentReferenceLocalServiceWrapper(
+		DLContentReferenceLocalService dlContentReferenceLocalService) {
+		_dlContentReferenceLocalService = dlContentReferenceLocalService;
+	}
+
+	/**
+	* Adds the document library content reference to the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentReference the document library content reference
+	* @return the document library content reference that was added
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference addDLContentReference(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.addDLContentReference(dlContentReference);
+	}
+
+	/**
+	* Creates a new document library content reference with the primary key. Does not add the document library content reference to the database.
+	*
+	* @param referenceId the primary key for the new document library content reference
+	* @return the new document library content reference
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference createDLContentReference(
+		long referenceId) {
+		return _dlContentReferenceLocalService.createDLContentReference(referenceId);
+	}
+
+	/**
+	* Deletes the document library content reference with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param referenceId the primary key of the document library content reference
+	* @return the document library content reference that was removed
+	* @throws PortalException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference deleteDLContentReference(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.deleteDLContentReference(referenceId);
+	}
+
+	/**
+	* Deletes the document library content reference from the database. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentReference the document library content reference
+	* @return the document library content reference that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference deleteDLContentReference(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.deleteDLContentReference(dlContentReference);
+	}
+
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _dlContentReferenceLocalService.dynamicQuery();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.dynamicQuery(dynamicQuery,
+			start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	* @throws SystemException if a system exception occurred
+	*/
+	@SuppressWarnings("rawtypes")
+	public java.util.List dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.dynamicQuery(dynamicQuery,
+			start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the number of rows that match the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows that match the dynamic query
+	* @throws SystemException if a system exception occurred
+	*/
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference fetchDLContentReference(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.fetchDLContentReference(referenceId);
+	}
+
+	/**
+	* Returns the document library content reference with the primary key.
+	*
+	* @param referenceId the primary key of the document library content reference
+	* @return the document library content reference
+	* @throws PortalException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference getDLContentReference(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getDLContentReference(referenceId);
+	}
+
+	public com.liferay.portal.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns a range of all the document library content references.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> getDLContentReferences(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getDLContentReferences(start, end);
+	}
+
+	/**
+	* Returns the number of document library content references.
+	*
+	* @return the number of document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public int getDLContentReferencesCount()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getDLContentReferencesCount();
+	}
+
+	/**
+	* Updates the document library content reference in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentReference the document library content reference
+	* @return the document library content reference that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference updateDLContentReference(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.updateDLContentReference(dlContentReference);
+	}
+
+	/**
+	* Updates the document library content reference in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param dlContentReference the document library content reference
+	* @param merge whether to merge the document library content reference with the current session. See {@link com.liferay.portal.service.persistence.BatchSession#update(com.liferay.portal.kernel.dao.orm.Session, com.liferay.portal.model.BaseModel, boolean)} for an explanation.
+	* @return the document library content reference that was updated
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentReference updateDLContentReference(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.updateDLContentReference(dlContentReference,
+			merge);
+	}
+
+	/**
+	* Returns the Spring bean ID for this bean.
+	*
+	* @return the Spring bean ID for this bean
+	*/
+	public java.lang.String getBeanIdentifier() {
+		return _dlContentReferenceLocalService.getBeanIdentifier();
+	}
+
+	/**
+	* Sets the Spring bean ID for this bean.
+	*
+	* @param beanIdentifier the Spring bean ID for this bean
+	*/
+	public void setBeanIdentifier(java.lang.String beanIdentifier) {
+		_dlContentReferenceLocalService.setBeanIdentifier(beanIdentifier);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference addContentReference(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, java.lang.String hash, long size)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.addContentReference(companyId,
+			repositoryId, path, version, hash, size);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference deleteContentReference(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.deleteContentReference(companyId,
+			repositoryId, path, version);
+	}
+
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> deleteContentReferences(
+		long companyId, long repositoryId, java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.deleteContentReferences(companyId,
+			repositoryId, path);
+	}
+
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> deleteContentReferencesByDirectory(
+		long companyId, long repositoryId, java.lang.String dirName)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.deleteContentReferencesByDirectory(companyId,
+			repositoryId, dirName);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference fetchContentReference(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.fetchContentReference(companyId,
+			repositoryId, path, version);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference fetchLatestContentReference(
+		long companyId, long repositoryId, java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.fetchLatestContentReference(companyId,
+			repositoryId, path);
+	}
+
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> getContentReferences(
+		long companyId, long repositoryId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getContentReferences(companyId,
+			repositoryId);
+	}
+
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> getContentReferencesByDirectory(
+		long companyId, long repositoryId, java.lang.String dirName)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getContentReferencesByDirectory(companyId,
+			repositoryId, dirName);
+	}
+
+	public int getContentReferencesCount(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.getContentReferencesCount(companyId,
+			hash);
+	}
+
+	public void updateContentReferences(long companyId, long oldRepositoryId,
+		long newRepositoryId, java.lang.String oldPath, java.lang.String newPath)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		_dlContentReferenceLocalService.updateContentReferences(companyId,
+			oldRepositoryId, newRepositoryId, oldPath, newPath);
+	}
+
+	public com.liferay.portlet.documentlibrary.model.DLContentReference updateContentReferenceVersion(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String fromVersion, java.lang.String toVersion)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _dlContentReferenceLocalService.updateContentReferenceVersion(companyId,
+			repositoryId, path, fromVersion, toVersion);
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #getWrappedService}
+	 */
+	public DLContentReferenceLocalService getWrappedDLContentReferenceLocalService() {
+		return _dlContentReferenceLocalService;
+	}
+
+	/**
+	 * @deprecated Renamed to {@link #setWrappedService}
+	 */
+	public void setWrappedDLContentReferenceLocalService(
+		DLContentReferenceLocalService dlContentReferenceLocalService) {
+		_dlContentReferenceLocalService = dlContentReferenceLocalService;
+	}
+
+	public DLContentReferenceLocalService getWrappedService() {
+		return _dlContentReferenceLocalService;
+	}
+
+	public void setWrappedService(
+		DLContentReferenceLocalService dlContentReferenceLocalService) {
+		_dlContentReferenceLocalService = dlContentReferenceLocalService;
+	}
+
+	private DLContentReferenceLocalService _dlContentReferenceLocalService;
+}
\ No newline at end of file
@@ -0,0 +1,305 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.service.persistence.BasePersistence;
+
+import com.liferay.portlet.documentlibrary.model.DLContentChunk;
+
+/**
+ * The persistence interface for the document library content chunk service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentChunkPersistenceImpl
+ * @see DLContentChunkUtil
+ * @generated
+ */
+public interface DLContentChunkPersistence extends BasePersistence<DLContentChunk> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link DLContentChunkUtil} to access the document library content chunk persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+
+	/**
+	* Caches the document library content chunk in the entity cache if it is enabled.
+	*
+	* @param dlContentChunk the document library content chunk
+	*/
+	public void cacheResult(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk);
+
+	/**
+	* Caches the document library content chunks in the entity cache if it is enabled.
+	*
+	* @param dlContentChunks the document library content chunks
+	*/
+	public void cacheResult(
+		java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> dlContentChunks);
+
+	/**
+	* Creates a new document library content chunk with the primary key. Does not add the document library content chunk to the database.
+	*
+	* @param chunkId the primary key for the new document library content chunk
+	* @return the new document library content chunk
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk create(
+		long chunkId);
+
+	/**
+	* Removes the document library content chunk with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param chunkId the primary key of the document library content chunk
+	* @return the document library content chunk that was removed
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk remove(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentChunk dlContentChunk,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content chunk with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentChunkException} if it could not be found.
+	*
+	* @param chunkId the primary key of the document library content chunk
+	* @return the document library content chunk
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk findByPrimaryKey(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+
+	/**
+	* Returns the document library content chunk with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param chunkId the primary key of the document library content chunk
+	* @return the document library content chunk, or <code>null</code> if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk fetchByPrimaryKey(
+		long chunkId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content chunks with the primary keys, mapped by primary key. Primary keys that do not match a document library content chunk are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library content chunks that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library content chunks
+	* @return the document library content chunks that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLContentChunk> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the document library content chunks where contentId = &#63;.
+	*
+	* @param contentId the content ID
+	* @return the matching document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findByContentId(
+		long contentId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the document library content chunks where contentId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param contentId the content ID
+	* @param start the lower bound of the range of document library content chunks
+	* @param end the upper bound of the range of document library content chunks (not inclusive)
+	* @return the range of matching document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findByContentId(
+		long contentId, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the document library content chunks where contentId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param contentId the content ID
+	* @param start the lower bound of the range of document library content chunks
+	* @param end the upper bound of the range of document library content chunks (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findByContentId(
+		long contentId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the first document library content chunk in the ordered set where contentId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param contentId the content ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching document library content chunk
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a matching document library content chunk could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk findByContentId_First(
+		long contentId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+
+	/**
+	* Returns the last document library content chunk in the ordered set where contentId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param contentId the content ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching document library content chunk
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a matching document library content chunk could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk findByContentId_Last(
+		long contentId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+
+	/**
+	* Returns the document library content chunks before and after the current document library content chunk in the ordered set where contentId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param chunkId the primary key of the current document library content chunk
+	* @param contentId the content ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next document library content chunk
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentChunkException if a document library content chunk with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentChunk[] findByContentId_PrevAndNext(
+		long chunkId, long contentId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentChunkException;
+
+	/**
+	* Returns all the document library content chunks.
+	*
+	* @return the document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the document library content chunks.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content chunks
+	* @param end the upper bound of the range of document library content chunks (not inclusive)
+	* @return the range of document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the document library content chunks.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content chunks
+	* @param end the upper bound of the range of document library content chunks (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentChunk> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the document library content chunks where contentId = &#63; from the database.
+	*
+	* @param contentId the content ID
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeByContentId(long contentId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes all the document library content chunks from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of document library content chunks where contentId = &#63;.
+	*
+	* @param contentId the content ID
+	* @return the number of matching document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByContentId(long contentId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of document library content chunks.
+	*
+	* @return the number of document library content chunks
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+}
\ No newline at end of file
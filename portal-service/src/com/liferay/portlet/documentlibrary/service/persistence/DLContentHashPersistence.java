@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.service.persistence.BasePersistence;
+
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+
+/**
+ * The persistence interface for the document library content hash service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHashPersistenceImpl
+ * @see DLContentHashUtil
+ * @generated
+ */
+public interface DLContentHashPersistence extends BasePersistence<DLContentHash> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link DLContentHashUtil} to access the document library content hash persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+
+	/**
+	* Caches the document library content hash in the entity cache if it is enabled.
+	*
+	* @param dlContentHash the document library content hash
+	*/
+	public void cacheResult(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash);
+
+	/**
+	* Caches the document library content hashs in the entity cache if it is enabled.
+	*
+	* @param dlContentHashs the document library content hashs
+	*/
+	public void cacheResult(
+		java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> dlContentHashs);
+
+	/**
+	* Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	*
+	* @param contentHashId the primary key for the new document library content hash
+	* @return the new document library content hash
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash create(
+		long contentHashId);
+
+	/**
+	* Removes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash that was removed
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash remove(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+
+	public com.liferay.portlet.documentlibrary.model.DLContentHash updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content hash with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash findByPrimaryKey(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+
+	/**
+	* Returns the document library content hash with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash, or <code>null</code> if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash fetchByPrimaryKey(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content hashs with the primary keys, mapped by primary key. Primary keys that do not match a document library content hash are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library content hashs that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library content hashs
+	* @return the document library content hashs that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLContentHash> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the matching document library content hash
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash findByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash fetchByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param retrieveFromCache whether to use the finder cache
+	* @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash fetchByC_H(
+		long companyId, java.lang.String hash, boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns all the document library content hashs.
+	*
+	* @return the document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns a range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @return the range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns an ordered range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Removes the document library content hash where companyId = &#63; and hash = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the document library content hash that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public com.liferay.portlet.documentlibrary.model.DLContentHash removeByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException;
+
+	/**
+	* Removes all the document library content hashs from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of document library content hashs where companyId = &#63; and hash = &#63;.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the number of matching document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countByC_H(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
+	/**
+	* Returns the number of document library content hashs.
+	*
+	* @return the number of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException;
+}
\ No newline at end of file
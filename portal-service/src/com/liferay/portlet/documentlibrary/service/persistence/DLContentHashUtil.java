@@ -0,0 +1,372 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.documentlibrary.model.DLContentHash;
+
+import java.util.List;
+
+/**
+ * The persistence utility for the document library content hash service. This utility wraps {@link DLContentHashPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentHashPersistence
+ * @see DLContentHashPersistenceImpl
+ * @generated
+ */
+public class DLContentHashUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache(com.liferay.portal.model.BaseModel)
+	 */
+	public static void clearCache(DLContentHash dlContentHash) {
+		getPersistence().clearCache(dlContentHash);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public long countWithDynamicQuery(DynamicQuery dynamicQuery)
+		throws SystemException {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<DLContentHash> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<DLContentHash> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end)
+		throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<DLContentHash> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean)
+	 */
+	public static DLContentHash update(DLContentHash dlContentHash,
+		boolean merge) throws SystemException {
+		return getPersistence().update(dlContentHash, merge);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean, ServiceContext)
+	 */
+	public static DLContentHash update(DLContentHash dlContentHash,
+		boolean merge, ServiceContext serviceContext) throws SystemException {
+		return getPersistence().update(dlContentHash, merge, serviceContext);
+	}
+
+	/**
+	* Caches the document library content hash in the entity cache if it is enabled.
+	*
+	* @param dlContentHash the document library content hash
+	*/
+	public static void cacheResult(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash) {
+		getPersistence().cacheResult(dlContentHash);
+	}
+
+	/**
+	* Caches the document library content hashs in the entity cache if it is enabled.
+	*
+	* @param dlContentHashs the document library content hashs
+	*/
+	public static void cacheResult(
+		java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> dlContentHashs) {
+		getPersistence().cacheResult(dlContentHashs);
+	}
+
+	/**
+	* Creates a new document library content hash with the primary key. Does not add the document library content hash to the database.
+	*
+	* @param contentHashId the primary key for the new document library content hash
+	* @return the new document library content hash
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash create(
+		long contentHashId) {
+		return getPersistence().create(contentHashId);
+	}
+
+	/**
+	* Removes the document library content hash with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash that was removed
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash remove(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException {
+		return getPersistence().remove(contentHashId);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentHash dlContentHash,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().updateImpl(dlContentHash, merge);
+	}
+
+	/**
+	* Returns the document library content hash with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash findByPrimaryKey(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException {
+		return getPersistence().findByPrimaryKey(contentHashId);
+	}
+
+	/**
+	* Returns the document library content hash with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param contentHashId the primary key of the document library content hash
+	* @return the document library content hash, or <code>null</code> if a document library content hash with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash fetchByPrimaryKey(
+		long contentHashId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKey(contentHashId);
+	}
+
+	/**
+	* Returns the document library content hashs with the primary keys, mapped by primary key. Primary keys that do not match a document library content hash are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library content hashs that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library content hashs
+	* @return the document library content hashs that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLContentHash> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentHashException} if it could not be found.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the matching document library content hash
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentHashException if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash findByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException {
+		return getPersistence().findByC_H(companyId, hash);
+	}
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash fetchByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByC_H(companyId, hash);
+	}
+
+	/**
+	* Returns the document library content hash where companyId = &#63; and hash = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param retrieveFromCache whether to use the finder cache
+	* @return the matching document library content hash, or <code>null</code> if a matching document library content hash could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash fetchByC_H(
+		long companyId, java.lang.String hash, boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByC_H(companyId, hash, retrieveFromCache);
+	}
+
+	/**
+	* Returns all the document library content hashs.
+	*
+	* @return the document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @return the range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content hashs.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content hashs
+	* @param end the upper bound of the range of document library content hashs (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentHash> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Removes the document library content hash where companyId = &#63; and hash = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the document library content hash that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentHash removeByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentHashException {
+		return getPersistence().removeByC_H(companyId, hash);
+	}
+
+	/**
+	* Removes all the document library content hashs from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of document library content hashs where companyId = &#63; and hash = &#63;.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the number of matching document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_H(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByC_H(companyId, hash);
+	}
+
+	/**
+	* Returns the number of document library content hashs.
+	*
+	* @return the number of document library content hashs
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countAll();
+	}
+
+	public static DLContentHashPersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (DLContentHashPersistence)PortalBeanLocatorUtil.locate(DLContentHashPersistence.class.getName());
+
+			ReferenceRegistry.registerReference(DLContentHashUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	/**
+	 * @deprecated
+	 */
+	public void setPersistence(DLContentHashPersistence persistence) {
+	}
+
+	private static DLContentHashPersistence _persistence;
+}
\ No newline at end of file
@@ -104,6 +104,21 @@ public interface DLContentPersistence extends BasePersistence<DLContent> {
 		long contentId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the document library contents with the primary keys, mapped by primary key. Primary keys that do not match a document library content are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library contents that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library contents
+	* @return the document library contents that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLContent> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the document library contents where companyId = &#63; and repositoryId = &#63;.
 	*
@@ -0,0 +1,1040 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.service.persistence;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+import com.liferay.portal.service.ServiceContext;
+
+import com.liferay.portlet.documentlibrary.model.DLContentReference;
+
+import java.util.List;
+
+/**
+ * The persistence utility for the document library content reference service. This utility wraps {@link DLContentReferencePersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see DLContentReferencePersistence
+ * @see DLContentReferencePersistenceImpl
+ * @generated
+ */
+public class DLContentReferenceUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#clearCache(com.liferay.portal.model.BaseModel)
+	 */
+	public static void clearCache(DLContentReference dlContentReference) {
+		getPersistence().clearCache(dlContentReference);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public long countWithDynamicQuery(DynamicQuery dynamicQuery)
+		throws SystemException {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<DLContentReference> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<DLContentReference> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end)
+		throws SystemException {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<DLContentReference> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator orderByComparator) throws SystemException {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean)
+	 */
+	public static DLContentReference update(
+		DLContentReference dlContentReference, boolean merge)
+		throws SystemException {
+		return getPersistence().update(dlContentReference, merge);
+	}
+
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#update(com.liferay.portal.model.BaseModel, boolean, ServiceContext)
+	 */
+	public static DLContentReference update(
+		DLContentReference dlContentReference, boolean merge,
+		ServiceContext serviceContext) throws SystemException {
+		return getPersistence().update(dlContentReference, merge, serviceContext);
+	}
+
+	/**
+	* Caches the document library content reference in the entity cache if it is enabled.
+	*
+	* @param dlContentReference the document library content reference
+	*/
+	public static void cacheResult(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference) {
+		getPersistence().cacheResult(dlContentReference);
+	}
+
+	/**
+	* Caches the document library content references in the entity cache if it is enabled.
+	*
+	* @param dlContentReferences the document library content references
+	*/
+	public static void cacheResult(
+		java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> dlContentReferences) {
+		getPersistence().cacheResult(dlContentReferences);
+	}
+
+	/**
+	* Creates a new document library content reference with the primary key. Does not add the document library content reference to the database.
+	*
+	* @param referenceId the primary key for the new document library content reference
+	* @return the new document library content reference
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference create(
+		long referenceId) {
+		return getPersistence().create(referenceId);
+	}
+
+	/**
+	* Removes the document library content reference with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param referenceId the primary key of the document library content reference
+	* @return the document library content reference that was removed
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference remove(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence().remove(referenceId);
+	}
+
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference updateImpl(
+		com.liferay.portlet.documentlibrary.model.DLContentReference dlContentReference,
+		boolean merge)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().updateImpl(dlContentReference, merge);
+	}
+
+	/**
+	* Returns the document library content reference with the primary key or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentReferenceException} if it could not be found.
+	*
+	* @param referenceId the primary key of the document library content reference
+	* @return the document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByPrimaryKey(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence().findByPrimaryKey(referenceId);
+	}
+
+	/**
+	* Returns the document library content reference with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param referenceId the primary key of the document library content reference
+	* @return the document library content reference, or <code>null</code> if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference fetchByPrimaryKey(
+		long referenceId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKey(referenceId);
+	}
+
+	/**
+	* Returns the document library content references with the primary keys, mapped by primary key. Primary keys that do not match a document library content reference are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library content references that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library content references
+	* @return the document library content references that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLContentReference> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	* Returns all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @return the matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R(
+		long companyId, long repositoryId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_R(companyId, repositoryId);
+	}
+
+	/**
+	* Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R(
+		long companyId, long repositoryId, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_R(companyId, repositoryId, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R(
+		long companyId, long repositoryId, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_R(companyId, repositoryId, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_First(
+		long companyId, long repositoryId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_First(companyId, repositoryId, orderByComparator);
+	}
+
+	/**
+	* Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_Last(
+		long companyId, long repositoryId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_Last(companyId, repositoryId, orderByComparator);
+	}
+
+	/**
+	* Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param referenceId the primary key of the current document library content reference
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference[] findByC_R_PrevAndNext(
+		long referenceId, long companyId, long repositoryId,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_PrevAndNext(referenceId, companyId, repositoryId,
+			orderByComparator);
+	}
+
+	/**
+	* Returns all the document library content references where companyId = &#63; and hash = &#63;.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_H(
+		long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_H(companyId, hash);
+	}
+
+	/**
+	* Returns a range of all the document library content references where companyId = &#63; and hash = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_H(
+		long companyId, java.lang.String hash, int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_H(companyId, hash, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content references where companyId = &#63; and hash = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_H(
+		long companyId, java.lang.String hash, int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_H(companyId, hash, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns the first document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_H_First(
+		long companyId, java.lang.String hash,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_H_First(companyId, hash, orderByComparator);
+	}
+
+	/**
+	* Returns the last document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_H_Last(
+		long companyId, java.lang.String hash,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_H_Last(companyId, hash, orderByComparator);
+	}
+
+	/**
+	* Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and hash = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param referenceId the primary key of the current document library content reference
+	* @param companyId the company ID
+	* @param hash the hash
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference[] findByC_H_PrevAndNext(
+		long referenceId, long companyId, java.lang.String hash,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_H_PrevAndNext(referenceId, companyId, hash,
+			orderByComparator);
+	}
+
+	/**
+	* Returns all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @return the matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_P(
+		long companyId, long repositoryId, java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_R_P(companyId, repositoryId, path);
+	}
+
+	/**
+	* Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_P(
+		long companyId, long repositoryId, java.lang.String path, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_R_P(companyId, repositoryId, path, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_P(
+		long companyId, long repositoryId, java.lang.String path, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_R_P(companyId, repositoryId, path, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_P_First(
+		long companyId, long repositoryId, java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_P_First(companyId, repositoryId, path,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_P_Last(
+		long companyId, long repositoryId, java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_P_Last(companyId, repositoryId, path,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param referenceId the primary key of the current document library content reference
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference[] findByC_R_P_PrevAndNext(
+		long referenceId, long companyId, long repositoryId,
+		java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_P_PrevAndNext(referenceId, companyId,
+			repositoryId, path, orderByComparator);
+	}
+
+	/**
+	* Returns all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @return the matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_LikeP(
+		long companyId, long repositoryId, java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findByC_R_LikeP(companyId, repositoryId, path);
+	}
+
+	/**
+	* Returns a range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_LikeP(
+		long companyId, long repositoryId, java.lang.String path, int start,
+		int end) throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_R_LikeP(companyId, repositoryId, path, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findByC_R_LikeP(
+		long companyId, long repositoryId, java.lang.String path, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .findByC_R_LikeP(companyId, repositoryId, path, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the first document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_LikeP_First(
+		long companyId, long repositoryId, java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_LikeP_First(companyId, repositoryId, path,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the last document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_LikeP_Last(
+		long companyId, long repositoryId, java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_LikeP_Last(companyId, repositoryId, path,
+			orderByComparator);
+	}
+
+	/**
+	* Returns the document library content references before and after the current document library content reference in the ordered set where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param referenceId the primary key of the current document library content reference
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a document library content reference with the primary key could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference[] findByC_R_LikeP_PrevAndNext(
+		long referenceId, long companyId, long repositoryId,
+		java.lang.String path,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_LikeP_PrevAndNext(referenceId, companyId,
+			repositoryId, path, orderByComparator);
+	}
+
+	/**
+	* Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchContentReferenceException} if it could not be found.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param version the version
+	* @return the matching document library content reference
+	* @throws com.liferay.portlet.documentlibrary.NoSuchContentReferenceException if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference findByC_R_P_V(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .findByC_R_P_V(companyId, repositoryId, path, version);
+	}
+
+	/**
+	* Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param version the version
+	* @return the matching document library content reference, or <code>null</code> if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference fetchByC_R_P_V(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .fetchByC_R_P_V(companyId, repositoryId, path, version);
+	}
+
+	/**
+	* Returns the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param version the version
+	* @param retrieveFromCache whether to use the finder cache
+	* @return the matching document library content reference, or <code>null</code> if a matching document library content reference could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference fetchByC_R_P_V(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version, boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .fetchByC_R_P_V(companyId, repositoryId, path, version,
+			retrieveFromCache);
+	}
+
+	/**
+	* Returns all the document library content references.
+	*
+	* @return the document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the document library content references.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @return the range of document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findAll(
+		int start, int end)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the document library content references.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set.
+	* </p>
+	*
+	* @param start the lower bound of the range of document library content references
+	* @param end the upper bound of the range of document library content references (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.List<com.liferay.portlet.documentlibrary.model.DLContentReference> findAll(
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator orderByComparator)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Removes all the document library content references where companyId = &#63; and repositoryId = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByC_R(long companyId, long repositoryId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByC_R(companyId, repositoryId);
+	}
+
+	/**
+	* Removes all the document library content references where companyId = &#63; and hash = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByC_H(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByC_H(companyId, hash);
+	}
+
+	/**
+	* Removes all the document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByC_R_P(long companyId, long repositoryId,
+		java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByC_R_P(companyId, repositoryId, path);
+	}
+
+	/**
+	* Removes all the document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeByC_R_LikeP(long companyId, long repositoryId,
+		java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeByC_R_LikeP(companyId, repositoryId, path);
+	}
+
+	/**
+	* Removes the document library content reference where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param version the version
+	* @return the document library content reference that was removed
+	* @throws SystemException if a system exception occurred
+	*/
+	public static com.liferay.portlet.documentlibrary.model.DLContentReference removeByC_R_P_V(
+		long companyId, long repositoryId, java.lang.String path,
+		java.lang.String version)
+		throws com.liferay.portal.kernel.exception.SystemException,
+			com.liferay.portlet.documentlibrary.NoSuchContentReferenceException {
+		return getPersistence()
+				   .removeByC_R_P_V(companyId, repositoryId, path, version);
+	}
+
+	/**
+	* Removes all the document library content references from the database.
+	*
+	* @throws SystemException if a system exception occurred
+	*/
+	public static void removeAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of document library content references where companyId = &#63; and repositoryId = &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @return the number of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_R(long companyId, long repositoryId)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByC_R(companyId, repositoryId);
+	}
+
+	/**
+	* Returns the number of document library content references where companyId = &#63; and hash = &#63;.
+	*
+	* @param companyId the company ID
+	* @param hash the hash
+	* @return the number of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_H(long companyId, java.lang.String hash)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByC_H(companyId, hash);
+	}
+
+	/**
+	* Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @return the number of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_R_P(long companyId, long repositoryId,
+		java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByC_R_P(companyId, repositoryId, path);
+	}
+
+	/**
+	* Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path LIKE &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @return the number of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_R_LikeP(long companyId, long repositoryId,
+		java.lang.String path)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countByC_R_LikeP(companyId, repositoryId, path);
+	}
+
+	/**
+	* Returns the number of document library content references where companyId = &#63; and repositoryId = &#63; and path = &#63; and version = &#63;.
+	*
+	* @param companyId the company ID
+	* @param repositoryId the repository ID
+	* @param path the path
+	* @param version the version
+	* @return the number of matching document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countByC_R_P_V(long companyId, long repositoryId,
+		java.lang.String path, java.lang.String version)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence()
+				   .countByC_R_P_V(companyId, repositoryId, path, version);
+	}
+
+	/**
+	* Returns the number of document library content references.
+	*
+	* @return the number of document library content references
+	* @throws SystemException if a system exception occurred
+	*/
+	public static int countAll()
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().countAll();
+	}
+
+	public static DLContentReferencePersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (DLContentReferencePersistence)PortalBeanLocatorUtil.locate(DLContentReferencePersistence.class.getName());
+
+			ReferenceRegistry.registerReference(DLContentReferenceUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	/**
+	 * @deprecated
+	 */
+	public void setPersistence(DLContentReferencePersistence persistence) {
+	}
+
+	private static DLContentReferencePersistence _persistence;
+}
\ No newline at end of file
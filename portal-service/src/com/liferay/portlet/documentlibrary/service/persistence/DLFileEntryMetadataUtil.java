@@ -194,6 +194,23 @@ public class DLFileEntryMetadataUtil {
 		return getPersistence().fetchByPrimaryKey(fileEntryMetadataId);
 	}
 
+	/**
+	* Returns the document library file entry metadatas with the primary keys, mapped by primary key. Primary keys that do not match a document library file entry metadata are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library file entry metadatas that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library file entry metadatas
+	* @return the document library file entry metadatas that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLFileEntryMetadata> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the document library file entry metadatas where uuid = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface DLFileEntryTypePersistence extends BasePersistence<DLFileEntryT
 		long fileEntryTypeId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the document library file entry types with the primary keys, mapped by primary key. Primary keys that do not match a document library file entry type are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library file entry types that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library file entry types
+	* @return the document library file entry types that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLFileEntryType> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the document library file entry types where uuid = &#63;.
 	*
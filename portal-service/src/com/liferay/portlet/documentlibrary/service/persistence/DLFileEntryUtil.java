@@ -191,6 +191,23 @@ public class DLFileEntryUtil {
 		return getPersistence().fetchByPrimaryKey(fileEntryId);
 	}
 
+	/**
+	* Returns the document library file entries with the primary keys, mapped by primary key. Primary keys that do not match a document library file entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library file entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library file entries
+	* @return the document library file entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLFileEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the document library file entries where uuid = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface DLFileRankPersistence extends BasePersistence<DLFileRank> {
 		long fileRankId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the document library file ranks with the primary keys, mapped by primary key. Primary keys that do not match a document library file rank are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library file ranks that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library file ranks
+	* @return the document library file ranks that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLFileRank> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the document library file ranks where userId = &#63;.
 	*
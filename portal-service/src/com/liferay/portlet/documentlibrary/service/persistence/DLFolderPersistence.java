@@ -104,6 +104,21 @@ public interface DLFolderPersistence extends BasePersistence<DLFolder> {
 		long folderId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the document library folders with the primary keys, mapped by primary key. Primary keys that do not match a document library folder are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the document library folders that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the document library folders
+	* @return the document library folders that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLFolder> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the document library folders where uuid = &#63;.
 	*
@@ -100,6 +100,21 @@ public interface DLSyncPersistence extends BasePersistence<DLSync> {
 	public com.liferay.portlet.documentlibrary.model.DLSync fetchByPrimaryKey(
 		long syncId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the d l syncs with the primary keys, mapped by primary key. Primary keys that do not match a d l sync are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d l syncs that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d l syncs
+	* @return the d l syncs that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.documentlibrary.model.DLSync> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the d l sync where fileId = &#63; or throws a {@link com.liferay.portlet.documentlibrary.NoSuchSyncException} if it could not be found.
 	*
@@ -104,6 +104,21 @@ public interface DDLRecordSetPersistence extends BasePersistence<DDLRecordSet> {
 		long recordSetId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the d d l record sets with the primary keys, mapped by primary key. Primary keys that do not match a d d l record set are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d l record sets that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d l record sets
+	* @return the d d l record sets that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatalists.model.DDLRecordSet> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the d d l record sets where uuid = &#63;.
 	*
@@ -191,6 +191,23 @@ public class DDLRecordUtil {
 		return getPersistence().fetchByPrimaryKey(recordId);
 	}
 
+	/**
+	* Returns the d d l records with the primary keys, mapped by primary key. Primary keys that do not match a d d l record are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d l records that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d l records
+	* @return the d d l records that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatalists.model.DDLRecord> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the d d l records where uuid = &#63;.
 	*
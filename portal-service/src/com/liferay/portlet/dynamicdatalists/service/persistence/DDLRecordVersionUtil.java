@@ -191,6 +191,23 @@ public class DDLRecordVersionUtil {
 		return getPersistence().fetchByPrimaryKey(recordVersionId);
 	}
 
+	/**
+	* Returns the d d l record versions with the primary keys, mapped by primary key. Primary keys that do not match a d d l record version are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d l record versions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d l record versions
+	* @return the d d l record versions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatalists.model.DDLRecordVersion> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the d d l record versions where recordId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface DDMContentPersistence extends BasePersistence<DDMContent> {
 		long contentId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the d d m contents with the primary keys, mapped by primary key. Primary keys that do not match a d d m content are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d m contents that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d m contents
+	* @return the d d m contents that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatamapping.model.DDMContent> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the d d m contents where uuid = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface DDMStorageLinkPersistence extends BasePersistence<DDMStorageLin
 		long storageLinkId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the d d m storage links with the primary keys, mapped by primary key. Primary keys that do not match a d d m storage link are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d m storage links that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d m storage links
+	* @return the d d m storage links that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatamapping.model.DDMStorageLink> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the d d m storage links where uuid = &#63;.
 	*
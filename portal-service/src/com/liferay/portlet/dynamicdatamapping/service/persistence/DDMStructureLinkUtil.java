@@ -191,6 +191,23 @@ public class DDMStructureLinkUtil {
 		return getPersistence().fetchByPrimaryKey(structureLinkId);
 	}
 
+	/**
+	* Returns the d d m structure links with the primary keys, mapped by primary key. Primary keys that do not match a d d m structure link are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d m structure links that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d m structure links
+	* @return the d d m structure links that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatamapping.model.DDMStructureLink> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the d d m structure links where classNameId = &#63;.
 	*
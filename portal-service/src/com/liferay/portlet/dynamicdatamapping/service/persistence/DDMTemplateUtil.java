@@ -191,6 +191,23 @@ public class DDMTemplateUtil {
 		return getPersistence().fetchByPrimaryKey(templateId);
 	}
 
+	/**
+	* Returns the d d m templates with the primary keys, mapped by primary key. Primary keys that do not match a d d m template are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the d d m templates that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the d d m templates
+	* @return the d d m templates that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.dynamicdatamapping.model.DDMTemplate> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the d d m templates where uuid = &#63;.
 	*
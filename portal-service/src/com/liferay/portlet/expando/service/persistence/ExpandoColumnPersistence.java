@@ -102,6 +102,21 @@ public interface ExpandoColumnPersistence extends BasePersistence<ExpandoColumn>
 		long columnId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the expando columns with the primary keys, mapped by primary key. Primary keys that do not match a expando column are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the expando columns that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the expando columns
+	* @return the expando columns that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.expando.model.ExpandoColumn> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the expando columns where tableId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class ExpandoColumnUtil {
 		return getPersistence().fetchByPrimaryKey(columnId);
 	}
 
+	/**
+	* Returns the expando columns with the primary keys, mapped by primary key. Primary keys that do not match a expando column are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the expando columns that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the expando columns
+	* @return the expando columns that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.expando.model.ExpandoColumn> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the expando columns where tableId = &#63;.
 	*
@@ -189,6 +189,23 @@ public class ExpandoRowUtil {
 		return getPersistence().fetchByPrimaryKey(rowId);
 	}
 
+	/**
+	* Returns the expando rows with the primary keys, mapped by primary key. Primary keys that do not match a expando row are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the expando rows that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the expando rows
+	* @return the expando rows that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.expando.model.ExpandoRow> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the expando rows where tableId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class ExpandoTableUtil {
 		return getPersistence().fetchByPrimaryKey(tableId);
 	}
 
+	/**
+	* Returns the expando tables with the primary keys, mapped by primary key. Primary keys that do not match a expando table are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the expando tables that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the expando tables
+	* @return the expando tables that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.expando.model.ExpandoTable> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the expando tables where companyId = &#63; and classNameId = &#63;.
 	*
@@ -102,6 +102,21 @@ public interface ExpandoValuePersistence extends BasePersistence<ExpandoValue> {
 		long valueId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the expando values with the primary keys, mapped by primary key. Primary keys that do not match a expando value are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the expando values that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the expando values
+	* @return the expando values that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.expando.model.ExpandoValue> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the expando values where tableId = &#63;.
 	*
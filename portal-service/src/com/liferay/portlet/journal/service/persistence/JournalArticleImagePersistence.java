@@ -104,6 +104,21 @@ public interface JournalArticleImagePersistence extends BasePersistence<JournalA
 		long articleImageId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the journal article images with the primary keys, mapped by primary key. Primary keys that do not match a journal article image are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal article images that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal article images
+	* @return the journal article images that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalArticleImage> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the journal article images where groupId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface JournalArticleResourcePersistence extends BasePersistence<Journ
 		long resourcePrimKey)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the journal article resources with the primary keys, mapped by primary key. Primary keys that do not match a journal article resource are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal article resources that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal article resources
+	* @return the journal article resources that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalArticleResource> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the journal article resources where uuid = &#63;.
 	*
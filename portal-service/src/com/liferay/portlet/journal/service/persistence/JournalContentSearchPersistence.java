@@ -104,6 +104,21 @@ public interface JournalContentSearchPersistence extends BasePersistence<Journal
 		long contentSearchId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the journal content searchs with the primary keys, mapped by primary key. Primary keys that do not match a journal content search are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal content searchs that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal content searchs
+	* @return the journal content searchs that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalContentSearch> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the journal content searchs where articleId = &#63;.
 	*
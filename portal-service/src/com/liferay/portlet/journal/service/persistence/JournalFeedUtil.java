@@ -187,6 +187,23 @@ public class JournalFeedUtil {
 		return getPersistence().fetchByPrimaryKey(id);
 	}
 
+	/**
+	* Returns the journal feeds with the primary keys, mapped by primary key. Primary keys that do not match a journal feed are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal feeds that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal feeds
+	* @return the journal feeds that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalFeed> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the journal feeds where uuid = &#63;.
 	*
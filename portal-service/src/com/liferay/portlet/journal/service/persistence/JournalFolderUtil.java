@@ -191,6 +191,23 @@ public class JournalFolderUtil {
 		return getPersistence().fetchByPrimaryKey(folderId);
 	}
 
+	/**
+	* Returns the journal folders with the primary keys, mapped by primary key. Primary keys that do not match a journal folder are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal folders that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal folders
+	* @return the journal folders that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalFolder> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the journal folders where uuid = &#63;.
 	*
@@ -101,6 +101,21 @@ public interface JournalStructurePersistence extends BasePersistence<JournalStru
 	public com.liferay.portlet.journal.model.JournalStructure fetchByPrimaryKey(
 		long id) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the journal structures with the primary keys, mapped by primary key. Primary keys that do not match a journal structure are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal structures that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal structures
+	* @return the journal structures that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalStructure> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the journal structures where uuid = &#63;.
 	*
@@ -190,6 +190,23 @@ public class JournalTemplateUtil {
 		return getPersistence().fetchByPrimaryKey(id);
 	}
 
+	/**
+	* Returns the journal templates with the primary keys, mapped by primary key. Primary keys that do not match a journal template are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the journal templates that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the journal templates
+	* @return the journal templates that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.journal.model.JournalTemplate> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the journal templates where uuid = &#63;.
 	*
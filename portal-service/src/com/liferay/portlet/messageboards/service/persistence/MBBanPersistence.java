@@ -99,6 +99,21 @@ public interface MBBanPersistence extends BasePersistence<MBBan> {
 	public com.liferay.portlet.messageboards.model.MBBan fetchByPrimaryKey(
 		long banId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the message boards bans with the primary keys, mapped by primary key. Primary keys that do not match a message boards ban are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the message boards bans that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the message boards bans
+	* @return the message boards bans that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.messageboards.model.MBBan> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the message boards bans where groupId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface MBCategoryPersistence extends BasePersistence<MBCategory> {
 		long categoryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the message boards categories with the primary keys, mapped by primary key. Primary keys that do not match a message boards category are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the message boards categories that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the message boards categories
+	* @return the message boards categories that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.messageboards.model.MBCategory> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the message boards categories where uuid = &#63;.
 	*
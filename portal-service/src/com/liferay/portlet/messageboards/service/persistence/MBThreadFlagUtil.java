@@ -191,6 +191,23 @@ public class MBThreadFlagUtil {
 		return getPersistence().fetchByPrimaryKey(threadFlagId);
 	}
 
+	/**
+	* Returns the message boards thread flags with the primary keys, mapped by primary key. Primary keys that do not match a message boards thread flag are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the message boards thread flags that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the message boards thread flags
+	* @return the message boards thread flags that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.messageboards.model.MBThreadFlag> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the message boards thread flags where userId = &#63;.
 	*
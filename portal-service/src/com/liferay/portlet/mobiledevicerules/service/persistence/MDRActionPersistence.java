@@ -104,6 +104,21 @@ public interface MDRActionPersistence extends BasePersistence<MDRAction> {
 		long actionId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the m d r actions with the primary keys, mapped by primary key. Primary keys that do not match a m d r action are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the m d r actions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the m d r actions
+	* @return the m d r actions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.mobiledevicerules.model.MDRAction> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the m d r actions where uuid = &#63;.
 	*
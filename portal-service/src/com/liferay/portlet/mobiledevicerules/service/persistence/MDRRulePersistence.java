@@ -103,6 +103,21 @@ public interface MDRRulePersistence extends BasePersistence<MDRRule> {
 	public com.liferay.portlet.mobiledevicerules.model.MDRRule fetchByPrimaryKey(
 		long ruleId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the m d r rules with the primary keys, mapped by primary key. Primary keys that do not match a m d r rule are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the m d r rules that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the m d r rules
+	* @return the m d r rules that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.mobiledevicerules.model.MDRRule> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the m d r rules where uuid = &#63;.
 	*
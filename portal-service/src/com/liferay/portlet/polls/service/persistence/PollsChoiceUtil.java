@@ -190,6 +190,23 @@ public class PollsChoiceUtil {
 		return getPersistence().fetchByPrimaryKey(choiceId);
 	}
 
+	/**
+	* Returns the polls choices with the primary keys, mapped by primary key. Primary keys that do not match a polls choice are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the polls choices that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the polls choices
+	* @return the polls choices that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.polls.model.PollsChoice> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the polls choices where uuid = &#63;.
 	*
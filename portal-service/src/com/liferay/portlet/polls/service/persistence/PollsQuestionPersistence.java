@@ -102,6 +102,21 @@ public interface PollsQuestionPersistence extends BasePersistence<PollsQuestion>
 		long questionId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the polls questions with the primary keys, mapped by primary key. Primary keys that do not match a polls question are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the polls questions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the polls questions
+	* @return the polls questions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.polls.model.PollsQuestion> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the polls questions where uuid = &#63;.
 	*
@@ -99,6 +99,21 @@ public interface PollsVotePersistence extends BasePersistence<PollsVote> {
 	public com.liferay.portlet.polls.model.PollsVote fetchByPrimaryKey(
 		long voteId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the polls votes with the primary keys, mapped by primary key. Primary keys that do not match a polls vote are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the polls votes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the polls votes
+	* @return the polls votes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.polls.model.PollsVote> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the polls votes where questionId = &#63;.
 	*
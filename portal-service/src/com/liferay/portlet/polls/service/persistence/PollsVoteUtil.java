@@ -187,6 +187,23 @@ public class PollsVoteUtil {
 		return getPersistence().fetchByPrimaryKey(voteId);
 	}
 
+	/**
+	* Returns the polls votes with the primary keys, mapped by primary key. Primary keys that do not match a polls vote are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the polls votes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the polls votes
+	* @return the polls votes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.polls.model.PollsVote> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the polls votes where questionId = &#63;.
 	*
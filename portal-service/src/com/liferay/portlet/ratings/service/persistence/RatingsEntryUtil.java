@@ -191,6 +191,23 @@ public class RatingsEntryUtil {
 		return getPersistence().fetchByPrimaryKey(entryId);
 	}
 
+	/**
+	* Returns the ratings entries with the primary keys, mapped by primary key. Primary keys that do not match a ratings entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the ratings entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the ratings entries
+	* @return the ratings entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.ratings.model.RatingsEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the ratings entries where classNameId = &#63; and classPK = &#63;.
 	*
@@ -102,6 +102,21 @@ public interface RatingsStatsPersistence extends BasePersistence<RatingsStats> {
 		long statsId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the ratings statses with the primary keys, mapped by primary key. Primary keys that do not match a ratings stats are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the ratings statses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the ratings statses
+	* @return the ratings statses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.ratings.model.RatingsStats> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the ratings stats where classNameId = &#63; and classPK = &#63; or throws a {@link com.liferay.portlet.ratings.NoSuchStatsException} if it could not be found.
 	*
@@ -190,6 +190,23 @@ public class ShoppingCartUtil {
 		return getPersistence().fetchByPrimaryKey(cartId);
 	}
 
+	/**
+	* Returns the shopping carts with the primary keys, mapped by primary key. Primary keys that do not match a shopping cart are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping carts that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping carts
+	* @return the shopping carts that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingCart> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the shopping carts where groupId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class ShoppingCategoryUtil {
 		return getPersistence().fetchByPrimaryKey(categoryId);
 	}
 
+	/**
+	* Returns the shopping categories with the primary keys, mapped by primary key. Primary keys that do not match a shopping category are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping categories that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping categories
+	* @return the shopping categories that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingCategory> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the shopping categories where groupId = &#63;.
 	*
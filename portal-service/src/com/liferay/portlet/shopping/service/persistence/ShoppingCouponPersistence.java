@@ -104,6 +104,21 @@ public interface ShoppingCouponPersistence extends BasePersistence<ShoppingCoupo
 		long couponId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the shopping coupons with the primary keys, mapped by primary key. Primary keys that do not match a shopping coupon are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping coupons that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping coupons
+	* @return the shopping coupons that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingCoupon> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the shopping coupons where groupId = &#63;.
 	*
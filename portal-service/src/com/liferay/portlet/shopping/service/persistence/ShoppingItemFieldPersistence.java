@@ -104,6 +104,21 @@ public interface ShoppingItemFieldPersistence extends BasePersistence<ShoppingIt
 		long itemFieldId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the shopping item fields with the primary keys, mapped by primary key. Primary keys that do not match a shopping item field are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping item fields that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping item fields
+	* @return the shopping item fields that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingItemField> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the shopping item fields where itemId = &#63;.
 	*
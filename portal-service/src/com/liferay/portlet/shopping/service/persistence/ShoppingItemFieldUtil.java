@@ -193,6 +193,23 @@ public class ShoppingItemFieldUtil {
 		return getPersistence().fetchByPrimaryKey(itemFieldId);
 	}
 
+	/**
+	* Returns the shopping item fields with the primary keys, mapped by primary key. Primary keys that do not match a shopping item field are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping item fields that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping item fields
+	* @return the shopping item fields that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingItemField> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the shopping item fields where itemId = &#63;.
 	*
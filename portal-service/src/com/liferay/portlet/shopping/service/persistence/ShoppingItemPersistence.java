@@ -101,6 +101,21 @@ public interface ShoppingItemPersistence extends BasePersistence<ShoppingItem> {
 	public com.liferay.portlet.shopping.model.ShoppingItem fetchByPrimaryKey(
 		long itemId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the shopping items with the primary keys, mapped by primary key. Primary keys that do not match a shopping item are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping items that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping items
+	* @return the shopping items that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingItem> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns the shopping item where smallImageId = &#63; or throws a {@link com.liferay.portlet.shopping.NoSuchItemException} if it could not be found.
 	*
@@ -193,6 +193,23 @@ public class ShoppingOrderItemUtil {
 		return getPersistence().fetchByPrimaryKey(orderItemId);
 	}
 
+	/**
+	* Returns the shopping order items with the primary keys, mapped by primary key. Primary keys that do not match a shopping order item are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping order items that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping order items
+	* @return the shopping order items that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingOrderItem> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the shopping order items where orderId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class ShoppingOrderUtil {
 		return getPersistence().fetchByPrimaryKey(orderId);
 	}
 
+	/**
+	* Returns the shopping orders with the primary keys, mapped by primary key. Primary keys that do not match a shopping order are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the shopping orders that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the shopping orders
+	* @return the shopping orders that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.shopping.model.ShoppingOrder> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the shopping orders where groupId = &#63;.
 	*
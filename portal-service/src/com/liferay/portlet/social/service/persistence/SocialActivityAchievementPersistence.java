@@ -104,6 +104,21 @@ public interface SocialActivityAchievementPersistence extends BasePersistence<So
 		long activityAchievementId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the social activity achievements with the primary keys, mapped by primary key. Primary keys that do not match a social activity achievement are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social activity achievements that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social activity achievements
+	* @return the social activity achievements that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialActivityAchievement> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the social activity achievements where groupId = &#63;.
 	*
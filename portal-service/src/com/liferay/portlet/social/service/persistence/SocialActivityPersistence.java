@@ -104,6 +104,21 @@ public interface SocialActivityPersistence extends BasePersistence<SocialActivit
 		long activityId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the social activities with the primary keys, mapped by primary key. Primary keys that do not match a social activity are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social activities that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social activities
+	* @return the social activities that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialActivity> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the social activities where groupId = &#63;.
 	*
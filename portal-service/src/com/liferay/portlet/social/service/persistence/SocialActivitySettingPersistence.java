@@ -104,6 +104,21 @@ public interface SocialActivitySettingPersistence extends BasePersistence<Social
 		long activitySettingId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the social activity settings with the primary keys, mapped by primary key. Primary keys that do not match a social activity setting are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social activity settings that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social activity settings
+	* @return the social activity settings that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialActivitySetting> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the social activity settings where groupId = &#63;.
 	*
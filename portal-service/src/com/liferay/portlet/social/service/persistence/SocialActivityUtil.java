@@ -191,6 +191,23 @@ public class SocialActivityUtil {
 		return getPersistence().fetchByPrimaryKey(activityId);
 	}
 
+	/**
+	* Returns the social activities with the primary keys, mapped by primary key. Primary keys that do not match a social activity are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social activities that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social activities
+	* @return the social activities that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialActivity> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the social activities where groupId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface SocialRelationPersistence extends BasePersistence<SocialRelatio
 		long relationId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the social relations with the primary keys, mapped by primary key. Primary keys that do not match a social relation are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social relations that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social relations
+	* @return the social relations that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialRelation> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the social relations where uuid = &#63;.
 	*
@@ -191,6 +191,23 @@ public class SocialRequestUtil {
 		return getPersistence().fetchByPrimaryKey(requestId);
 	}
 
+	/**
+	* Returns the social requests with the primary keys, mapped by primary key. Primary keys that do not match a social request are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the social requests that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the social requests
+	* @return the social requests that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.social.model.SocialRequest> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the social requests where uuid = &#63;.
 	*
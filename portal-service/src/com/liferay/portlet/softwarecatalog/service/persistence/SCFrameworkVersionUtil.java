@@ -193,6 +193,23 @@ public class SCFrameworkVersionUtil {
 		return getPersistence().fetchByPrimaryKey(frameworkVersionId);
 	}
 
+	/**
+	* Returns the s c framework versions with the primary keys, mapped by primary key. Primary keys that do not match a s c framework version are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the s c framework versions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the s c framework versions
+	* @return the s c framework versions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.softwarecatalog.model.SCFrameworkVersion> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the s c framework versions where groupId = &#63;.
 	*
@@ -104,6 +104,21 @@ public interface SCLicensePersistence extends BasePersistence<SCLicense> {
 		long licenseId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the s c licenses with the primary keys, mapped by primary key. Primary keys that do not match a s c license are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the s c licenses that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the s c licenses
+	* @return the s c licenses that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.softwarecatalog.model.SCLicense> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the s c licenses where active = &#63;.
 	*
@@ -194,6 +194,23 @@ public class SCProductScreenshotUtil {
 		return getPersistence().fetchByPrimaryKey(productScreenshotId);
 	}
 
+	/**
+	* Returns the s c product screenshots with the primary keys, mapped by primary key. Primary keys that do not match a s c product screenshot are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the s c product screenshots that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the s c product screenshots
+	* @return the s c product screenshots that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.softwarecatalog.model.SCProductScreenshot> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the s c product screenshots where productEntryId = &#63;.
 	*
@@ -191,6 +191,23 @@ public class SCProductVersionUtil {
 		return getPersistence().fetchByPrimaryKey(productVersionId);
 	}
 
+	/**
+	* Returns the s c product versions with the primary keys, mapped by primary key. Primary keys that do not match a s c product version are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the s c product versions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the s c product versions
+	* @return the s c product versions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.softwarecatalog.model.SCProductVersion> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the s c product versions where productEntryId = &#63;.
 	*
@@ -101,6 +101,21 @@ public interface TrashEntryPersistence extends BasePersistence<TrashEntry> {
 		long entryId)
 		throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the trash entries with the primary keys, mapped by primary key. Primary keys that do not match a trash entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the trash entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the trash entries
+	* @return the trash entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.trash.model.TrashEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the trash entries where groupId = &#63;.
 	*
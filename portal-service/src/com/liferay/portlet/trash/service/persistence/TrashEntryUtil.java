@@ -190,6 +190,23 @@ public class TrashEntryUtil {
 		return getPersistence().fetchByPrimaryKey(entryId);
 	}
 
+	/**
+	* Returns the trash entries with the primary keys, mapped by primary key. Primary keys that do not match a trash entry are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the trash entries that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the trash entries
+	* @return the trash entries that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.trash.model.TrashEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the trash entries where groupId = &#63;.
 	*
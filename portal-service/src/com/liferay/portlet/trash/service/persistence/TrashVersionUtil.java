@@ -190,6 +190,23 @@ public class TrashVersionUtil {
 		return getPersistence().fetchByPrimaryKey(versionId);
 	}
 
+	/**
+	* Returns the trash versions with the primary keys, mapped by primary key. Primary keys that do not match a trash version are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the trash versions that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the trash versions
+	* @return the trash versions that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.trash.model.TrashVersion> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the trash versions where entryId = &#63;.
 	*
@@ -98,6 +98,21 @@ public interface WikiNodePersistence extends BasePersistence<WikiNode> {
 	public com.liferay.portlet.wiki.model.WikiNode fetchByPrimaryKey(
 		long nodeId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the wiki nodes with the primary keys, mapped by primary key. Primary keys that do not match a wiki node are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the wiki nodes that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the wiki nodes
+	* @return the wiki nodes that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.wiki.model.WikiNode> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the wiki nodes where uuid = &#63;.
 	*
@@ -98,6 +98,21 @@ public interface WikiPagePersistence extends BasePersistence<WikiPage> {
 	public com.liferay.portlet.wiki.model.WikiPage fetchByPrimaryKey(
 		long pageId) throws com.liferay.portal.kernel.exception.SystemException;
 
+	/**
+	* Returns the wiki pages with the primary keys, mapped by primary key. Primary keys that do not match a wiki page are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the wiki pages that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the wiki pages
+	* @return the wiki pages that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.Map<java.io.Serializable, com.liferay.portlet.wiki.model.WikiPage> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException;
+
 	/**
 	* Returns all the wiki pages where uuid = &#63;.
 	*
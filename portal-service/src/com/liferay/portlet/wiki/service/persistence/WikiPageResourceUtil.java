@@ -191,6 +191,23 @@ public class WikiPageResourceUtil {
 		return getPersistence().fetchByPrimaryKey(resourcePrimKey);
 	}
 
+	/**
+	* Returns the wiki page resources with the primary keys, mapped by primary key. Primary keys that do not match a wiki page resource are left out of the map.
+	*
+	* <p>
+	* The entity cache is checked for all the primary keys at once, and the wiki page resources that are not cached are loaded with as few queries as possible and then cached.
+	* </p>
+	*
+	* @param primaryKeys the primary keys of the wiki page resources
+	* @return the wiki page resources that were found, mapped by primary key
+	* @throws SystemException if a system exception occurred
+	*/
+	public static java.util.Map<java.io.Serializable, com.liferay.portlet.wiki.model.WikiPageResource> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	* Returns all the wiki page resources where uuid = &#63;.
 	*
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.kernel.cache;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+
+import java.io.Serializable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PortalCacheLoaderUtilTest {
+
+	@Test
+	public void testGet() {
+		TestPortalCacheLoader testPortalCacheLoader =
+			new TestPortalCacheLoader("value");
+
+		Assert.assertEquals(
+			"value",
+			PortalCacheLoaderUtil.get(
+				_portalCache, "key", testPortalCacheLoader, _TIMEOUT));
+		Assert.assertEquals("value", _portalCache.get("key"));
+
+		// A hit does not load again
+
+		Assert.assertEquals(
+			"value",
+			PortalCacheLoaderUtil.get(
+				_portalCache, "key", testPortalCacheLoader, _TIMEOUT));
+		Assert.assertEquals(1, testPortalCacheLoader._loadCount.get());
+	}
+
+	@Test
+	public void testGetNull() {
+		TestPortalCacheLoader testPortalCacheLoader = new TestPortalCacheLoader(
+			null);
+
+		Assert.assertNull(
+			PortalCacheLoaderUtil.get(
+				_portalCache, "key", testPortalCacheLoader, _TIMEOUT));
+		Assert.assertNull(_portalCache.get("key"));
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		TestPortalCacheLoader testPortalCacheLoader =
+			new TestPortalCacheLoader("value");
+
+		testPortalCacheLoader._blockLatch = new CountDownLatch(1);
+
+		FutureTask<Object> futureTask1 = _get(testPortalCacheLoader, _TIMEOUT);
+
+		Assert.assertTrue(
+			testPortalCacheLoader._loadingLatch.await(10, TimeUnit.SECONDS));
+
+		FutureTask<Object> futureTask2 = _get(testPortalCacheLoader, _TIMEOUT);
+
+		// The second thread waits for the load of the first thread
+
+		Thread.sleep(100);
+
+		Assert.assertFalse(futureTask2.isDone());
+
+		testPortalCacheLoader._blockLatch.countDown();
+
+		Assert.assertEquals("value", futureTask1.get(10, TimeUnit.SECONDS));
+		Assert.assertEquals("value", futureTask2.get(10, TimeUnit.SECONDS));
+		Assert.assertEquals(1, testPortalCacheLoader._loadCount.get());
+	}
+
+	@Test
+	public void testSingleFlightFailure() throws Exception {
+		TestPortalCacheLoader testPortalCacheLoader =
+			new TestPortalCacheLoader("value");
+
+		testPortalCacheLoader._blockLatch = new CountDownLatch(1);
+		testPortalCacheLoader._failFirstLoad = true;
+
+		FutureTask<Object> futureTask1 = _get(testPortalCacheLoader, _TIMEOUT);
+
+		Assert.assertTrue(
+			testPortalCacheLoader._loadingLatch.await(10, TimeUnit.SECONDS));
+
+		FutureTask<Object> futureTask2 = _get(testPortalCacheLoader, _TIMEOUT);
+
+		Thread.sleep(100);
+
+		testPortalCacheLoader._blockLatch.countDown();
+
+		// The waiting thread loads the value itself after the first load
+		// failed
+
+		try {
+			futureTask1.get(10, TimeUnit.SECONDS);
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+		}
+
+		Assert.assertEquals("value", futureTask2.get(10, TimeUnit.SECONDS));
+		Assert.assertEquals(2, testPortalCacheLoader._loadCount.get());
+	}
+
+	@Test
+	public void testSingleFlightTimeout() throws Exception {
+		TestPortalCacheLoader testPortalCacheLoader =
+			new TestPortalCacheLoader("value");
+
+		testPortalCacheLoader._blockLatch = new CountDownLatch(1);
+
+		FutureTask<Object> futureTask1 = _get(testPortalCacheLoader, _TIMEOUT);
+
+		Assert.assertTrue(
+			testPortalCacheLoader._loadingLatch.await(10, TimeUnit.SECONDS));
+
+		// A thread that waits longer than the timeout loads the value itself
+
+		TestPortalCacheLoader timeoutTestPortalCacheLoader =
+			new TestPortalCacheLoader("timeoutValue");
+
+		Assert.assertEquals(
+			"timeoutValue",
+			PortalCacheLoaderUtil.get(
+				_portalCache, "key", timeoutTestPortalCacheLoader, 100));
+		Assert.assertEquals(1, timeoutTestPortalCacheLoader._loadCount.get());
+
+		testPortalCacheLoader._blockLatch.countDown();
+
+		Assert.assertEquals("value", futureTask1.get(10, TimeUnit.SECONDS));
+	}
+
+	private FutureTask<Object> _get(
+		final PortalCacheLoader portalCacheLoader, final long timeout) {
+
+		FutureTask<Object> futureTask = new FutureTask<Object>(
+			new Callable<Object>() {
+
+				public Object call() {
+					return PortalCacheLoaderUtil.get(
+						_portalCache, "key", portalCacheLoader, timeout);
+				}
+
+			});
+
+		Thread thread = new Thread(futureTask);
+
+		thread.start();
+
+		return futureTask;
+	}
+
+	private static final long _TIMEOUT = 10000;
+
+	private PortalCache _portalCache = new MemoryPortalCache("testCache", 16);
+
+	private static class TestPortalCacheLoader implements PortalCacheLoader {
+
+		public TestPortalCacheLoader(Object value) {
+			_value = value;
+		}
+
+		public Object load(Serializable key) {
+			int loadCount = _loadCount.incrementAndGet();
+
+			_loadingLatch.countDown();
+
+			if (_blockLatch != null) {
+				try {
+					_blockLatch.await();
+				}
+				catch (InterruptedException ie) {
+				}
+			}
+
+			if (_failFirstLoad && (loadCount == 1)) {
+				throw new IllegalStateException();
+			}
+
+			return _value;
+		}
+
+		private volatile CountDownLatch _blockLatch;
+		private volatile boolean _failFirstLoad;
+		private final AtomicInteger _loadCount = new AtomicInteger();
+		private final CountDownLatch _loadingLatch = new CountDownLatch(1);
+		private final Object _value;
+
+	}
+
+}
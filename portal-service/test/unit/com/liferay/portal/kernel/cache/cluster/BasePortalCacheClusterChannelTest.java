@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.kernel.cache.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BasePortalCacheClusterChannelTest {
+
+	@After
+	public void tearDown() {
+		_testPortalCacheClusterChannel.destroy();
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		_testPortalCacheClusterChannel.setBatchFlushInterval(0);
+		_testPortalCacheClusterChannel.setBatchMaxSize(2);
+
+		_testPortalCacheClusterChannel._blockLatch = new CountDownLatch(1);
+
+		_testPortalCacheClusterChannel.sendEvent(_newEvent("key1"));
+
+		// Events pile up while the dispatch thread sends the first one
+
+		Assert.assertTrue(
+			_testPortalCacheClusterChannel._dispatchingLatch.await(
+				10, TimeUnit.SECONDS));
+
+		_testPortalCacheClusterChannel.sendEvent(_newEvent("key2"));
+		_testPortalCacheClusterChannel.sendEvent(_newEvent("key3"));
+		_testPortalCacheClusterChannel.sendEvent(_newEvent("key4"));
+
+		_testPortalCacheClusterChannel._blockLatch.countDown();
+
+		_waitForSentEvents(4);
+
+		List<List<PortalCacheClusterEvent>> sent =
+			_testPortalCacheClusterChannel._sent;
+
+		Assert.assertEquals(3, sent.size());
+		Assert.assertEquals(Arrays.asList("key1"), _getKeys(sent.get(0)));
+		Assert.assertEquals(
+			Arrays.asList("key2", "key3"), _getKeys(sent.get(1)));
+		Assert.assertEquals(Arrays.asList("key4"), _getKeys(sent.get(2)));
+
+		Assert.assertEquals(
+			0, _testPortalCacheClusterChannel.getDroppedEventNumber());
+		Assert.assertEquals(
+			3, _testPortalCacheClusterChannel.getSentBatchNumber());
+	}
+
+	@Test
+	public void testSendEvents() {
+		List<PortalCacheClusterEvent> events =
+			new ArrayList<PortalCacheClusterEvent>();
+
+		_testPortalCacheClusterChannel.sendEvents(events);
+
+		Assert.assertTrue(_testPortalCacheClusterChannel._sent.isEmpty());
+
+		events.add(_newEvent("key1"));
+		events.add(_newEvent("key2"));
+
+		_testPortalCacheClusterChannel.sendEvents(events);
+
+		Assert.assertEquals(1, _testPortalCacheClusterChannel._sent.size());
+		Assert.assertEquals(
+			Arrays.asList("key1", "key2"),
+			_getKeys(_testPortalCacheClusterChannel._sent.get(0)));
+
+		Assert.assertEquals(
+			1, _testPortalCacheClusterChannel.getSentBatchNumber());
+		Assert.assertEquals(
+			2, _testPortalCacheClusterChannel.getSentEventNumber());
+	}
+
+	@Test
+	public void testSendEventsFailure() {
+		_testPortalCacheClusterChannel._fail = true;
+
+		try {
+			_testPortalCacheClusterChannel.sendEvents(
+				Arrays.asList(_newEvent("key1"), _newEvent("key2")));
+
+			Assert.fail();
+		}
+		catch (IllegalStateException ise) {
+		}
+
+		Assert.assertEquals(
+			2, _testPortalCacheClusterChannel.getDroppedEventNumber());
+		Assert.assertEquals(
+			0, _testPortalCacheClusterChannel.getSentBatchNumber());
+		Assert.assertEquals(
+			0, _testPortalCacheClusterChannel.getSentEventNumber());
+	}
+
+	private List<Object> _getKeys(List<PortalCacheClusterEvent> events) {
+		List<Object> keys = new ArrayList<Object>();
+
+		for (PortalCacheClusterEvent event : events) {
+			keys.add(event.getElementKey());
+		}
+
+		return keys;
+	}
+
+	private PortalCacheClusterEvent _newEvent(String key) {
+		return new PortalCacheClusterEvent(
+			"testCache", key, PortalCacheClusterEventType.REMOVE);
+	}
+
+	private void _waitForSentEvents(long count) throws Exception {
+		long timeout = System.currentTimeMillis() + 10000;
+
+		while (_testPortalCacheClusterChannel.getSentEventNumber() < count) {
+			Assert.assertTrue(System.currentTimeMillis() < timeout);
+
+			Thread.sleep(10);
+		}
+	}
+
+	private TestPortalCacheClusterChannel _testPortalCacheClusterChannel =
+		new TestPortalCacheClusterChannel();
+
+	private static class TestPortalCacheClusterChannel
+		extends BasePortalCacheClusterChannel {
+
+		@Override
+		public void dispatchEvent(PortalCacheClusterEvent event) {
+			dispatchEvents(Arrays.asList(event));
+		}
+
+		@Override
+		public void dispatchEvents(List<PortalCacheClusterEvent> events) {
+			if (_fail) {
+				throw new IllegalStateException();
+			}
+
+			_sent.add(new ArrayList<PortalCacheClusterEvent>(events));
+
+			_dispatchingLatch.countDown();
+
+			if (_blockLatch != null) {
+				try {
+					_blockLatch.await();
+				}
+				catch (InterruptedException ie) {
+				}
+
+				_blockLatch = null;
+			}
+		}
+
+		private volatile CountDownLatch _blockLatch;
+		private final CountDownLatch _dispatchingLatch = new CountDownLatch(1);
+		private volatile boolean _fail;
+		private final List<List<PortalCacheClusterEvent>> _sent =
+			new CopyOnWriteArrayList<List<PortalCacheClusterEvent>>();
+
+	}
+
+}
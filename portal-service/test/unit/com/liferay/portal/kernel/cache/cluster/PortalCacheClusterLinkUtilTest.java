@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PortalCacheClusterLinkUtilTest {
+
+	@Before
+	public void setUp() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			new PortalCacheClusterLink();
+
+		// Both channels are the same test channel, so every event is recorded
+		// by it whichever channel is selected
+
+		portalCacheClusterLink.setChannelNumber(2);
+		portalCacheClusterLink.setPortalCacheClusterChannelFactory(
+			new PortalCacheClusterChannelFactory() {
+
+				public PortalCacheClusterChannel
+					createPortalCacheClusterChannel() {
+
+					return _testPortalCacheClusterChannel;
+				}
+
+			});
+
+		portalCacheClusterLink.afterPropertiesSet();
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(
+			portalCacheClusterLink);
+	}
+
+	@After
+	public void tearDown() {
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(null);
+	}
+
+	@Test
+	public void testBatch() {
+		PortalCacheClusterLinkUtil.beginBatch();
+
+		try {
+			_sendEvent("key1");
+			_sendEvent("key2");
+
+			Assert.assertTrue(_testPortalCacheClusterChannel._sent.isEmpty());
+		}
+		finally {
+			PortalCacheClusterLinkUtil.endBatch();
+		}
+
+		Assert.assertEquals(1, _testPortalCacheClusterChannel._sent.size());
+
+		List<PortalCacheClusterEvent> events =
+			_testPortalCacheClusterChannel._sent.get(0);
+
+		Assert.assertEquals(2, events.size());
+		Assert.assertEquals("key1", events.get(0).getElementKey());
+		Assert.assertEquals("key2", events.get(1).getElementKey());
+
+		// Events are sent at once again after the batch ended
+
+		_sendEvent("key3");
+
+		Assert.assertEquals(2, _testPortalCacheClusterChannel._sent.size());
+	}
+
+	@Test
+	public void testCounters() {
+		PortalCacheClusterLinkUtil.beginBatch();
+
+		try {
+			_sendEvent("key1");
+			_sendEvent("key2");
+		}
+		finally {
+			PortalCacheClusterLinkUtil.endBatch();
+		}
+
+		_sendEvent("key3");
+
+		// The counters of both channels are added up, so each counter of the
+		// test channel is counted twice
+
+		Assert.assertEquals(
+			6, PortalCacheClusterLinkUtil.getCoalescedEventNumber());
+		Assert.assertEquals(
+			2, PortalCacheClusterLinkUtil.getDroppedEventNumber());
+		Assert.assertEquals(
+			4, PortalCacheClusterLinkUtil.getPendingEventNumber());
+		Assert.assertEquals(4, PortalCacheClusterLinkUtil.getSentBatchNumber());
+		Assert.assertEquals(6, PortalCacheClusterLinkUtil.getSentEventNumber());
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(null);
+
+		Assert.assertEquals(
+			-1, PortalCacheClusterLinkUtil.getSentBatchNumber());
+	}
+
+	@Test
+	public void testEmptyBatch() {
+		PortalCacheClusterLinkUtil.beginBatch();
+		PortalCacheClusterLinkUtil.endBatch();
+
+		Assert.assertTrue(_testPortalCacheClusterChannel._sent.isEmpty());
+
+		// Ending a batch that was never begun is ignored
+
+		PortalCacheClusterLinkUtil.endBatch();
+
+		Assert.assertTrue(_testPortalCacheClusterChannel._sent.isEmpty());
+	}
+
+	@Test
+	public void testNestedBatch() {
+		PortalCacheClusterLinkUtil.beginBatch();
+
+		try {
+			_sendEvent("key1");
+
+			PortalCacheClusterLinkUtil.beginBatch();
+
+			try {
+				_sendEvent("key2");
+			}
+			finally {
+				PortalCacheClusterLinkUtil.endBatch();
+			}
+
+			Assert.assertTrue(_testPortalCacheClusterChannel._sent.isEmpty());
+		}
+		finally {
+			PortalCacheClusterLinkUtil.endBatch();
+		}
+
+		Assert.assertEquals(1, _testPortalCacheClusterChannel._sent.size());
+
+		List<PortalCacheClusterEvent> events =
+			_testPortalCacheClusterChannel._sent.get(0);
+
+		Assert.assertEquals(2, events.size());
+	}
+
+	@Test
+	public void testSendEvent() {
+		_sendEvent("key1");
+		_sendEvent("key2");
+
+		Assert.assertEquals(2, _testPortalCacheClusterChannel._sent.size());
+	}
+
+	private void _sendEvent(String key) {
+		PortalCacheClusterLinkUtil.sendEvent(
+			new PortalCacheClusterEvent(
+				"testCache", key, PortalCacheClusterEventType.REMOVE));
+	}
+
+	private TestPortalCacheClusterChannel _testPortalCacheClusterChannel =
+		new TestPortalCacheClusterChannel();
+
+	private static class TestPortalCacheClusterChannel
+		implements PortalCacheClusterChannel {
+
+		public void destroy() {
+		}
+
+		public long getCoalescedEventNumber() {
+			return 3;
+		}
+
+		public long getDroppedEventNumber() {
+			return 1;
+		}
+
+		public int getPendingEventNumber() {
+			return 2;
+		}
+
+		public long getSentBatchNumber() {
+			return _sent.size();
+		}
+
+		public long getSentEventNumber() {
+			long count = 0;
+
+			for (List<PortalCacheClusterEvent> events : _sent) {
+				count += events.size();
+			}
+
+			return count;
+		}
+
+		public void sendEvent(PortalCacheClusterEvent portalCacheClusterEvent) {
+			List<PortalCacheClusterEvent> events =
+				new ArrayList<PortalCacheClusterEvent>();
+
+			events.add(portalCacheClusterEvent);
+
+			_sent.add(events);
+		}
+
+		public void sendEvents(
+			List<PortalCacheClusterEvent> portalCacheClusterEvents) {
+
+			_sent.add(
+				new ArrayList<PortalCacheClusterEvent>(
+					portalCacheClusterEvents));
+		}
+
+		private List<List<PortalCacheClusterEvent>> _sent =
+			new ArrayList<List<PortalCacheClusterEvent>>();
+
+	}
+
+}
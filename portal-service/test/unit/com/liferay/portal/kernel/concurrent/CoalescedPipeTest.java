@@ -16,7 +16,9 @@ package com.liferay.portal.kernel.concurrent;
 
 import com.liferay.portal.kernel.test.TestCase;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,37 @@ public class CoalescedPipeTest extends TestCase {
 		scheduledExecutorService.awaitTermination(120, TimeUnit.SECONDS);
 	}
 
+	public void testDrainTo() throws InterruptedException {
+		CoalescedPipe<String> coalescedPipe = new CoalescedPipe<String>();
+
+		List<String> list = new ArrayList<String>();
+
+		assertEquals(0, coalescedPipe.drainTo(list, 10));
+		assertTrue(list.isEmpty());
+
+		coalescedPipe.put("test1");
+		coalescedPipe.put("test2");
+		coalescedPipe.put("test3");
+
+		assertEquals(2, coalescedPipe.drainTo(list, 2));
+		assertEquals(2, list.size());
+		assertEquals("test1", list.get(0));
+		assertEquals("test2", list.get(1));
+		assertEquals(1, coalescedPipe.pendingCount());
+
+		coalescedPipe.put("test4");
+
+		assertEquals(2, coalescedPipe.drainTo(list, 10));
+		assertEquals(4, list.size());
+		assertEquals("test3", list.get(2));
+		assertEquals("test4", list.get(3));
+		assertEquals(0, coalescedPipe.pendingCount());
+
+		coalescedPipe.put("test5");
+
+		assertEquals("test5", coalescedPipe.take());
+	}
+
 	public void testNonBlockingTake() throws InterruptedException {
 		CoalescedPipe<String> coalescedPipe = new CoalescedPipe<String>();
 
@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+public class ConcurrentClockCacheTest extends TestCase {
+
+	public void testConcurrentPutAndGet() throws Exception {
+		_testConcurrentPutAndGet(100);
+	}
+
+	public void testConcurrentPutAndGetWithSegments() throws Exception {
+		_testConcurrentPutAndGet(2000);
+	}
+
+	public void testConstruct() {
+
+		// maxSize is 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(0);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		try {
+			new ConcurrentClockCache<Object, Object>(0, 0.9F);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// maxSize is less than 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(-1);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		try {
+			new ConcurrentClockCache<Object, Object>(-1, 0.9F);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// loadFactor is 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(10, 0);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// loadFactor is less than 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(10, -1);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// loadFactor is 1
+
+		try {
+			new ConcurrentClockCache<Object, Object>(10, 1);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// loadFactor is greater than 1
+
+		try {
+			new ConcurrentClockCache<Object, Object>(10, 1.1F);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// Small loadFactor causes _expectSize to be 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(1, 0.9F);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		// Small maxSize causes _expectSize to be 0
+
+		try {
+			new ConcurrentClockCache<Object, Object>(10, 0.09F);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		ConcurrentClockCache<String, String> concurrentClockCache =
+			new ConcurrentClockCache<String, String>(10);
+
+		assertEquals(0, concurrentClockCache.evictCount());
+		assertEquals(0, concurrentClockCache.hitCount());
+		assertEquals(10, concurrentClockCache.maxSize());
+		assertEquals(0, concurrentClockCache.missCount());
+		assertEquals(0, concurrentClockCache.putCount());
+		assertEquals(0, concurrentClockCache.size());
+
+		assertNull(concurrentClockCache.get("key"));
+	}
+
+	public void testPut() {
+		ConcurrentClockCache<String, String> concurrentClockCache =
+			new ConcurrentClockCache<String, String>(2, 0.5F);
+
+		try {
+			concurrentClockCache.put(null, "value");
+
+			fail();
+		}
+		catch (NullPointerException npe) {
+		}
+
+		concurrentClockCache.put("key1", "value1");
+		concurrentClockCache.put("key1", "value1-1");
+
+		assertEquals(0, concurrentClockCache.evictCount());
+		assertEquals(2, concurrentClockCache.putCount());
+		assertEquals(1, concurrentClockCache.size());
+
+		assertEquals("value1-1", concurrentClockCache.get("key1"));
+
+		concurrentClockCache.clear();
+
+		assertEquals(0, concurrentClockCache.size());
+		assertNull(concurrentClockCache.get("key1"));
+	}
+
+	public void testSecondChance() {
+		ConcurrentClockCache<String, String> concurrentClockCache =
+			new ConcurrentClockCache<String, String>(4, 0.5F);
+
+		for (int i = 1; i <= 4; i++) {
+			concurrentClockCache.put("key" + i, "value" + i);
+		}
+
+		assertEquals(0, concurrentClockCache.evictCount());
+		assertEquals(4, concurrentClockCache.size());
+
+		// The read entry survives the sweep although it is the oldest one
+
+		assertEquals("value1", concurrentClockCache.get("key1"));
+
+		concurrentClockCache.put("key5", "value5");
+
+		assertEquals(2, concurrentClockCache.evictCount());
+		assertEquals(3, concurrentClockCache.size());
+
+		assertEquals("value1", concurrentClockCache.get("key1"));
+		assertNull(concurrentClockCache.get("key2"));
+		assertNull(concurrentClockCache.get("key3"));
+		assertEquals("value4", concurrentClockCache.get("key4"));
+		assertEquals("value5", concurrentClockCache.get("key5"));
+	}
+
+	public void testSecondChanceIsUsedOnce() {
+		ConcurrentClockCache<String, String> concurrentClockCache =
+			new ConcurrentClockCache<String, String>(4, 0.5F);
+
+		for (int i = 1; i <= 4; i++) {
+			concurrentClockCache.put("key" + i, "value" + i);
+		}
+
+		concurrentClockCache.get("key1");
+
+		concurrentClockCache.put("key5", "value5");
+		concurrentClockCache.put("key6", "value6");
+
+		// The first sweep cleared the referenced flag of key1, so the next
+		// sweep evicts it unless it was read again
+
+		concurrentClockCache.put("key7", "value7");
+
+		assertEquals(4, concurrentClockCache.evictCount());
+		assertEquals(3, concurrentClockCache.size());
+
+		assertNull(concurrentClockCache.get("key1"));
+		assertNull(concurrentClockCache.get("key4"));
+		assertEquals("value5", concurrentClockCache.get("key5"));
+		assertEquals("value6", concurrentClockCache.get("key6"));
+		assertEquals("value7", concurrentClockCache.get("key7"));
+	}
+
+	public void testSegments() {
+
+		// Small caches keep a single segment so that they evict in exact CLOCK
+		// order
+
+		ConcurrentClockCache<Integer, String> concurrentClockCache =
+			new ConcurrentClockCache<Integer, String>(100);
+
+		assertEquals(1, concurrentClockCache.getSegmentsCount());
+
+		concurrentClockCache = new ConcurrentClockCache<Integer, String>(1000);
+
+		assertEquals(8, concurrentClockCache.getSegmentsCount());
+
+		concurrentClockCache = new ConcurrentClockCache<Integer, String>(
+			100000);
+
+		assertEquals(16, concurrentClockCache.getSegmentsCount());
+
+		// Each segment evicts on its own, and together they never exceed the
+		// maximum size
+
+		concurrentClockCache = new ConcurrentClockCache<Integer, String>(
+			1001, 0.5F);
+
+		assertEquals(4, concurrentClockCache.getSegmentsCount());
+
+		for (int i = 0; i < 5000; i++) {
+			concurrentClockCache.put(i, String.valueOf(i));
+
+			assertTrue(concurrentClockCache.size() <= 1001);
+		}
+
+		assertEquals(5000, concurrentClockCache.putCount());
+		assertEquals(
+			5000 - concurrentClockCache.size(),
+			concurrentClockCache.evictCount());
+		assertTrue(concurrentClockCache.size() >= 500);
+
+		for (int i = 4990; i < 5000; i++) {
+			assertEquals(String.valueOf(i), concurrentClockCache.get(i));
+		}
+
+		concurrentClockCache.clear();
+
+		assertEquals(0, concurrentClockCache.size());
+		assertNull(concurrentClockCache.get(4999));
+	}
+
+	private void _testConcurrentPutAndGet(final int maxSize) throws Exception {
+		final ConcurrentClockCache<Integer, String> concurrentClockCache =
+			new ConcurrentClockCache<Integer, String>(maxSize);
+
+		final int threadCount = 8;
+		final int operationCount = 20000;
+
+		final CountDownLatch startCountDownLatch = new CountDownLatch(1);
+		final List<Throwable> throwables =
+			new CopyOnWriteArrayList<Throwable>();
+
+		Thread[] threads = new Thread[threadCount];
+
+		for (int i = 0; i < threadCount; i++) {
+			final int seed = i;
+
+			threads[i] = new Thread() {
+
+				@Override
+				public void run() {
+					Random random = new Random(seed);
+
+					try {
+						startCountDownLatch.await();
+
+						for (int j = 0; j < operationCount; j++) {
+							Integer key = random.nextInt(maxSize * 3);
+
+							if (random.nextBoolean()) {
+								concurrentClockCache.put(key, key.toString());
+							}
+							else {
+								String value = concurrentClockCache.get(key);
+
+								if ((value != null) &&
+									!value.equals(key.toString())) {
+
+									throw new IllegalStateException(
+										"Key " + key + " has value " + value);
+								}
+							}
+
+							if (concurrentClockCache.size() > maxSize) {
+								throw new IllegalStateException(
+									"Size " + concurrentClockCache.size());
+							}
+						}
+					}
+					catch (Throwable t) {
+						throwables.add(t);
+					}
+				}
+
+			};
+
+			threads[i].start();
+		}
+
+		startCountDownLatch.countDown();
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue(throwables.toString(), throwables.isEmpty());
+
+		assertTrue(concurrentClockCache.size() <= maxSize);
+		assertEquals(
+			threadCount * operationCount,
+			concurrentClockCache.hitCount() + concurrentClockCache.missCount() +
+				concurrentClockCache.putCount());
+		assertTrue(concurrentClockCache.evictCount() > 0);
+
+		for (int i = 0; i < (maxSize * 3); i++) {
+			String value = concurrentClockCache.get(i);
+
+			if (value != null) {
+				assertEquals(String.valueOf(i), value);
+			}
+		}
+	}
+
+}
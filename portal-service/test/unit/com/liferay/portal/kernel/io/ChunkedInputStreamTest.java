@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.io;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChunkedInputStreamTest extends TestCase {
+
+	public void testBlockRead() throws IOException {
+		TestChunkedInputStream testChunkedInputStream =
+			new TestChunkedInputStream();
+
+		byte[] buffer = new byte[_SIZE];
+
+		int offset = 0;
+
+		while (offset < _SIZE) {
+			int read = testChunkedInputStream.read(
+				buffer, offset, _SIZE - offset);
+
+			assertTrue(read > 0);
+			assertTrue(read <= _CHUNK_SIZE);
+
+			offset += read;
+		}
+
+		for (int i = 0; i < _SIZE; i++) {
+			assertEquals((byte)i, buffer[i]);
+		}
+
+		assertEquals(-1, testChunkedInputStream.read(buffer));
+		assertEquals(_CHUNK_COUNT, testChunkedInputStream.getOpenedCount());
+	}
+
+	public void testPrematureEndOfChunk() throws IOException {
+		TestChunkedInputStream testChunkedInputStream =
+			new TestChunkedInputStream(new long[] {_CHUNK_SIZE + 1});
+
+		byte[] buffer = new byte[_SIZE];
+
+		assertEquals(
+			_CHUNK_SIZE, testChunkedInputStream.read(buffer, 0, _SIZE));
+
+		try {
+			testChunkedInputStream.read(buffer, 0, _SIZE);
+
+			fail();
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	public void testRead() throws IOException {
+		TestChunkedInputStream testChunkedInputStream =
+			new TestChunkedInputStream();
+
+		for (int i = 0; i < _SIZE; i++) {
+			assertEquals(i & 0xff, testChunkedInputStream.read());
+		}
+
+		assertEquals(-1, testChunkedInputStream.read());
+	}
+
+	public void testSkip() throws IOException {
+		TestChunkedInputStream testChunkedInputStream =
+			new TestChunkedInputStream();
+
+		// Skip whole chunks without opening them
+
+		int position = _CHUNK_SIZE * 2 + 5;
+
+		assertEquals(position, testChunkedInputStream.skip(position));
+		assertEquals(0, testChunkedInputStream.getOpenedCount());
+
+		assertEquals(position++ & 0xff, testChunkedInputStream.read());
+		assertEquals(1, testChunkedInputStream.getOpenedCount());
+
+		// Skip within an opened chunk
+
+		assertEquals(3, testChunkedInputStream.skip(3));
+
+		position += 3;
+
+		assertEquals(position++ & 0xff, testChunkedInputStream.read());
+		assertEquals(1, testChunkedInputStream.getOpenedCount());
+
+		// Skip past the end
+
+		assertEquals(_SIZE - position, testChunkedInputStream.skip(_SIZE));
+		assertEquals(-1, testChunkedInputStream.read());
+
+		List<Integer> openedChunkIndexes =
+			testChunkedInputStream.getOpenedChunkIndexes();
+
+		assertEquals(1, openedChunkIndexes.size());
+		assertEquals(2, openedChunkIndexes.get(0).intValue());
+	}
+
+	private static final int _CHUNK_COUNT = 5;
+
+	private static final int _CHUNK_SIZE = 64;
+
+	private static final int _SIZE = _CHUNK_SIZE * _CHUNK_COUNT - 10;
+
+	private static class TestChunkedInputStream extends ChunkedInputStream {
+
+		public TestChunkedInputStream() {
+			this(_getChunkSizes());
+		}
+
+		public TestChunkedInputStream(long[] chunkSizes) {
+			super(chunkSizes);
+		}
+
+		public int getOpenedCount() {
+			return _openedChunkIndexes.size();
+		}
+
+		public List<Integer> getOpenedChunkIndexes() {
+			return _openedChunkIndexes;
+		}
+
+		@Override
+		protected InputStream openChunk(int chunkIndex) {
+			_openedChunkIndexes.add(chunkIndex);
+
+			int offset = chunkIndex * _CHUNK_SIZE;
+
+			byte[] bytes = new byte[Math.min(_CHUNK_SIZE, _SIZE - offset)];
+
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = (byte)(offset + i);
+			}
+
+			return new UnsyncByteArrayInputStream(bytes);
+		}
+
+		private static long[] _getChunkSizes() {
+			long[] chunkSizes = new long[_CHUNK_COUNT];
+
+			for (int i = 0; i < _CHUNK_COUNT; i++) {
+				chunkSizes[i] = Math.min(_CHUNK_SIZE, _SIZE - i * _CHUNK_SIZE);
+			}
+
+			return chunkSizes;
+		}
+
+		private List<Integer> _openedChunkIndexes = new ArrayList<Integer>();
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.test.BaseTestCase;
+import com.liferay.portal.kernel.util.ReflectionUtil;
+
+import java.lang.reflect.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.portlet.PortletURL;
+
+public class BaseIndexerTest extends BaseTestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		Field field = ReflectionUtil.getDeclaredField(
+			BaseIndexer.class, "_parallelReindexerThreadLocal");
+
+		_parallelReindexerThreadLocal =
+			(ThreadLocal<ParallelReindexer>)field.get(null);
+	}
+
+	public void testReindex() throws Exception {
+		TestIndexer testIndexer = new TestIndexer();
+
+		testIndexer.reindex(new String[0]);
+
+		assertEquals(3, testIndexer._startIds.size());
+		assertEquals(1, testIndexer._parallelReindexers.size());
+		assertNotNull(testIndexer._parallelReindexers.get(0));
+		assertNull(_parallelReindexerThreadLocal.get());
+
+		// Each call of reindex uses its own reindexer
+
+		testIndexer.reindex(new String[0]);
+
+		assertEquals(2, testIndexer._parallelReindexers.size());
+		assertNotSame(
+			testIndexer._parallelReindexers.get(0),
+			testIndexer._parallelReindexers.get(1));
+	}
+
+	public void testReindexFailure() throws Exception {
+		TestIndexer testIndexer = new TestIndexer();
+
+		testIndexer._fail = true;
+
+		try {
+			testIndexer.reindex(new String[0]);
+
+			fail();
+		}
+		catch (SearchException se) {
+		}
+
+		assertNull(_parallelReindexerThreadLocal.get());
+
+		// The failed reindexer is removed from the thread, so it neither
+		// fails nor collects the intervals of later calls
+
+		testIndexer._fail = false;
+		testIndexer._startIds.clear();
+
+		testIndexer.reindexIntervals(
+			0, Indexer.DEFAULT_INTERVAL * 2, testIndexer._intervalReindexer);
+
+		assertEquals(3, testIndexer._startIds.size());
+
+		testIndexer.reindex(new String[0]);
+
+		assertEquals(6, testIndexer._startIds.size());
+		assertEquals(2, testIndexer._parallelReindexers.size());
+		assertNotSame(
+			testIndexer._parallelReindexers.get(0),
+			testIndexer._parallelReindexers.get(1));
+		assertNull(_parallelReindexerThreadLocal.get());
+	}
+
+	private static ThreadLocal<ParallelReindexer>
+		_parallelReindexerThreadLocal;
+
+	private static class TestIndexer extends BaseIndexer {
+
+		public String[] getClassNames() {
+			return new String[0];
+		}
+
+		public String getPortletId() {
+			return null;
+		}
+
+		@Override
+		protected void doDelete(Object obj) {
+		}
+
+		@Override
+		protected Document doGetDocument(Object obj) {
+			return null;
+		}
+
+		@Override
+		protected Summary doGetSummary(
+			Document document, Locale locale, String snippet,
+			PortletURL portletURL) {
+
+			return null;
+		}
+
+		@Override
+		protected void doReindex(Object obj) {
+		}
+
+		@Override
+		protected void doReindex(String className, long classPK) {
+		}
+
+		@Override
+		protected void doReindex(String[] ids) throws Exception {
+			_parallelReindexers.add(_parallelReindexerThreadLocal.get());
+
+			reindexIntervals(
+				0, Indexer.DEFAULT_INTERVAL * 2, _intervalReindexer);
+		}
+
+		@Override
+		protected String getPortletId(SearchContext searchContext) {
+			return null;
+		}
+
+		private volatile boolean _fail;
+
+		private IntervalReindexer _intervalReindexer = new IntervalReindexer() {
+
+			public int reindex(long startId, long endId) throws Exception {
+				if (_fail) {
+					throw new Exception();
+				}
+
+				_startIds.add(startId);
+
+				return 0;
+			}
+
+		};
+
+		private List<ParallelReindexer> _parallelReindexers =
+			new ArrayList<ParallelReindexer>();
+		private List<Long> _startIds = new ArrayList<Long>();
+
+	}
+
+}
@@ -0,0 +1,358 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.test.BaseTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.mockito.Mockito;
+
+public class IndexWriterBatchUtilTest extends BaseTestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		SearchEngineUtil searchEngineUtil = new SearchEngineUtil();
+
+		searchEngineUtil.setSearchPermissionChecker(
+			Mockito.mock(SearchPermissionChecker.class));
+
+		SearchEngineUtil.setIndexReadOnly(false);
+		SearchEngineUtil.setSearchEngine(
+			_SEARCH_ENGINE_ID_1, newSearchEngine(_SEARCH_ENGINE_ID_1));
+		SearchEngineUtil.setSearchEngine(
+			_SEARCH_ENGINE_ID_2, newSearchEngine(_SEARCH_ENGINE_ID_2));
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		super.tearDown();
+
+		while (IndexWriterBatchUtil.isActive()) {
+			IndexWriterBatchUtil.end();
+		}
+
+		SearchEngineUtil.removeSearchEngine(_SEARCH_ENGINE_ID_1);
+		SearchEngineUtil.removeSearchEngine(_SEARCH_ENGINE_ID_2);
+	}
+
+	public void testBatch() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		assertTrue(IndexWriterBatchUtil.isActive());
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "b", "c");
+
+		assertTrue(_operations.isEmpty());
+
+		IndexWriterBatchUtil.end();
+
+		assertFalse(IndexWriterBatchUtil.isActive());
+		assertOperations("add engine1 1 [a, b, c]");
+	}
+
+	public void testEndAfterException() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		try {
+			addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+
+			throw new Exception();
+		}
+		catch (Exception e) {
+		}
+		finally {
+			IndexWriterBatchUtil.end();
+		}
+
+		// The documents collected before the exception are still sent
+
+		assertFalse(IndexWriterBatchUtil.isActive());
+		assertOperations("add engine1 1 [a]");
+	}
+
+	public void testEndAfterSendFailure() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+
+		_fail = true;
+
+		try {
+			IndexWriterBatchUtil.end();
+
+			fail();
+		}
+		catch (SearchException se) {
+		}
+
+		// A failed batch is not left behind on the thread
+
+		assertFalse(IndexWriterBatchUtil.isActive());
+
+		_fail = false;
+
+		IndexWriterBatchUtil.begin();
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "b");
+
+		IndexWriterBatchUtil.end();
+
+		assertOperations("add engine1 1 [b]");
+	}
+
+	public void testEndWithoutBegin() throws Exception {
+		IndexWriterBatchUtil.end();
+		IndexWriterBatchUtil.flush();
+
+		assertFalse(IndexWriterBatchUtil.isActive());
+
+		// Without a batch, documents are sent at once
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+
+		assertOperations("add engine1 1 [a]");
+	}
+
+	public void testFlushOrdering() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+		updateDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+		updateDocuments(_SEARCH_ENGINE_ID_1, 1, "b");
+		addDocuments(_SEARCH_ENGINE_ID_1, 2, "c");
+		addDocuments(_SEARCH_ENGINE_ID_2, 2, "d");
+
+		// Deleting sends the collected documents first
+
+		SearchEngineUtil.deleteDocument(_SEARCH_ENGINE_ID_1, 1, "a");
+
+		assertTrue(IndexWriterBatchUtil.isActive());
+		assertOperations(
+			"add engine1 1 [a]", "update engine1 1 [a, b]",
+			"add engine1 2 [c]", "add engine2 2 [d]", "delete engine1 1 a");
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "e");
+
+		IndexWriterBatchUtil.end();
+
+		assertOperations("add engine1 1 [e]");
+	}
+
+	public void testMaxSize() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		String[] names = new String[999];
+
+		Arrays.fill(names, "a");
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, names);
+
+		assertTrue(_operations.isEmpty());
+
+		// The batch is sent as soon as it holds the maximum number of
+		// documents, and collecting goes on
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "b");
+
+		assertEquals(1, _operations.size());
+		assertTrue(IndexWriterBatchUtil.isActive());
+
+		_operations.clear();
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "c");
+
+		assertTrue(_operations.isEmpty());
+
+		IndexWriterBatchUtil.end();
+
+		assertOperations("add engine1 1 [c]");
+	}
+
+	public void testNestedBatch() throws Exception {
+		IndexWriterBatchUtil.begin();
+
+		addDocuments(_SEARCH_ENGINE_ID_1, 1, "a");
+
+		IndexWriterBatchUtil.begin();
+
+		try {
+			updateDocuments(_SEARCH_ENGINE_ID_1, 1, "b");
+		}
+		finally {
+			IndexWriterBatchUtil.end();
+		}
+
+		// Only the outermost end sends the documents
+
+		assertTrue(IndexWriterBatchUtil.isActive());
+		assertTrue(_operations.isEmpty());
+
+		IndexWriterBatchUtil.end();
+
+		assertFalse(IndexWriterBatchUtil.isActive());
+		assertOperations("add engine1 1 [a]", "update engine1 1 [b]");
+	}
+
+	protected void addDocuments(
+			String searchEngineId, long companyId, String... names)
+		throws Exception {
+
+		SearchEngineUtil.addDocuments(
+			searchEngineId, companyId, newDocuments(names));
+	}
+
+	protected void assertOperations(String... operations) {
+		assertEquals(Arrays.asList(operations), _operations);
+
+		_operations.clear();
+	}
+
+	protected List<Document> newDocuments(String... names) {
+		List<Document> documents = new ArrayList<Document>();
+
+		for (String name : names) {
+			Document document = Mockito.mock(Document.class);
+
+			Mockito.when(
+				document.get(Field.NAME)
+			).thenReturn(
+				name
+			);
+
+			documents.add(document);
+		}
+
+		return documents;
+	}
+
+	protected SearchEngine newSearchEngine(String searchEngineId) {
+		BaseSearchEngine baseSearchEngine = new BaseSearchEngine();
+
+		baseSearchEngine.setIndexWriter(new TestIndexWriter(searchEngineId));
+
+		return baseSearchEngine;
+	}
+
+	protected void updateDocuments(
+			String searchEngineId, long companyId, String... names)
+		throws Exception {
+
+		SearchEngineUtil.updateDocuments(
+			searchEngineId, companyId, newDocuments(names));
+	}
+
+	private static final String _SEARCH_ENGINE_ID_1 = "engine1";
+
+	private static final String _SEARCH_ENGINE_ID_2 = "engine2";
+
+	private boolean _fail;
+	private List<String> _operations = new ArrayList<String>();
+
+	private class TestIndexWriter implements IndexWriter {
+
+		public TestIndexWriter(String searchEngineId) {
+			_searchEngineId = searchEngineId;
+		}
+
+		public void addDocument(SearchContext searchContext, Document document)
+			throws SearchException {
+
+			_addOperation(
+				"addDocument", searchContext, Arrays.asList(document));
+		}
+
+		public void addDocuments(
+				SearchContext searchContext, Collection<Document> documents)
+			throws SearchException {
+
+			_addOperation("add", searchContext, documents);
+		}
+
+		public void deleteDocument(SearchContext searchContext, String uid)
+			throws SearchException {
+
+			_addOperation("delete", searchContext, uid);
+		}
+
+		public void deleteDocuments(
+				SearchContext searchContext, Collection<String> uids)
+			throws SearchException {
+
+			_addOperation("deleteDocuments", searchContext, uids);
+		}
+
+		public void deletePortletDocuments(
+				SearchContext searchContext, String portletId)
+			throws SearchException {
+
+			_addOperation("deletePortletDocuments", searchContext, portletId);
+		}
+
+		public void updateDocument(
+				SearchContext searchContext, Document document)
+			throws SearchException {
+
+			_addOperation(
+				"updateDocument", searchContext, Arrays.asList(document));
+		}
+
+		public void updateDocuments(
+				SearchContext searchContext, Collection<Document> documents)
+			throws SearchException {
+
+			_addOperation("update", searchContext, documents);
+		}
+
+		private void _addOperation(
+				String operation, SearchContext searchContext, Object value)
+			throws SearchException {
+
+			if (_fail) {
+				throw new SearchException();
+			}
+
+			if (value instanceof Collection<?>) {
+				List<String> names = new ArrayList<String>();
+
+				for (Object object : (Collection<?>)value) {
+					if (object instanceof Document) {
+						Document document = (Document)object;
+
+						names.add(document.get(Field.NAME));
+					}
+					else {
+						names.add(String.valueOf(object));
+					}
+				}
+
+				value = names;
+			}
+
+			_operations.add(
+				operation + " " + _searchEngineId + " " +
+					searchContext.getCompanyId() + " " + value);
+		}
+
+		private String _searchEngineId;
+
+	}
+
+}
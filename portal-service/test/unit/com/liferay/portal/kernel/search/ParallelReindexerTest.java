@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.executor.PortalExecutorManagerImpl;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelReindexerTest {
+
+	@Before
+	public void setUp() {
+		PortalExecutorManagerUtil portalExecutorManagerUtil =
+			new PortalExecutorManagerUtil();
+
+		portalExecutorManagerUtil.setPortalExecutorManager(
+			_portalExecutorManager);
+	}
+
+	@After
+	public void tearDown() {
+		_portalExecutorManager.shutdown(true);
+
+		PortalExecutorManagerUtil portalExecutorManagerUtil =
+			new PortalExecutorManagerUtil();
+
+		portalExecutorManagerUtil.setPortalExecutorManager(null);
+	}
+
+	@Test
+	public void testFailure() throws Exception {
+		ParallelReindexer parallelReindexer = new ParallelReindexer(
+			"test", 2);
+
+		final Exception exception = new Exception();
+
+		TestIntervalReindexer testIntervalReindexer =
+			new TestIntervalReindexer() {
+
+				@Override
+				public int reindex(long startId, long endId)
+					throws Exception {
+
+					if (startId == 50) {
+						throw exception;
+					}
+
+					return super.reindex(startId, endId);
+				}
+
+			};
+
+		// The failure is rethrown by the next call of reindex or await
+
+		try {
+			for (long i = 0; i < 100; i++) {
+				parallelReindexer.reindex(i, i + 1, testIntervalReindexer);
+			}
+
+			parallelReindexer.await();
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Assert.assertSame(exception, e);
+		}
+
+		// Intervals submitted after a failure are not reindexed
+
+		try {
+			parallelReindexer.reindex(100, 101, testIntervalReindexer);
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Assert.assertSame(exception, e);
+		}
+
+		Assert.assertFalse(testIntervalReindexer._counts.containsKey(100L));
+	}
+
+	@Test
+	public void testFailureInCallingThread() {
+		ParallelReindexer parallelReindexer = new ParallelReindexer(
+			"test", 1);
+
+		final Exception exception = new Exception();
+
+		try {
+			parallelReindexer.reindex(
+				0, 1,
+				new IntervalReindexer() {
+
+					public int reindex(long startId, long endId)
+						throws Exception {
+
+						throw exception;
+					}
+
+				});
+
+			Assert.fail();
+		}
+		catch (Exception e) {
+			Assert.assertSame(exception, e);
+		}
+	}
+
+	@Test
+	public void testNestedReindex() throws Exception {
+		final ParallelReindexer parallelReindexer = new ParallelReindexer(
+			"test", 2);
+
+		final TestIntervalReindexer testIntervalReindexer =
+			new TestIntervalReindexer();
+
+		final Map<Long, Thread> threads = new ConcurrentHashMap<Long, Thread>();
+
+		for (long i = 0; i < 10; i++) {
+			parallelReindexer.reindex(
+				i, i + 1,
+				new IntervalReindexer() {
+
+					public int reindex(long startId, long endId)
+						throws Exception {
+
+						threads.put(startId, Thread.currentThread());
+
+						// An interval submitted from an executor thread is
+						// reindexed in that thread
+
+						parallelReindexer.reindex(
+							startId + 100, endId + 100,
+							new IntervalReindexer() {
+
+								public int reindex(long startId, long endId)
+									throws Exception {
+
+									threads.put(
+										startId, Thread.currentThread());
+
+									return testIntervalReindexer.reindex(
+										startId, endId);
+								}
+
+							});
+
+						return 0;
+					}
+
+				});
+		}
+
+		parallelReindexer.await();
+
+		for (long i = 0; i < 10; i++) {
+			Assert.assertSame(threads.get(i), threads.get(i + 100));
+			Assert.assertEquals(
+				1, testIntervalReindexer._counts.get(i + 100).get());
+		}
+
+		Assert.assertEquals(20, parallelReindexer.getReindexedIntervalCount());
+		Assert.assertEquals(20, parallelReindexer.getSubmittedIntervalCount());
+	}
+
+	@Test
+	public void testReindex() throws Exception {
+		_testReindex(4);
+	}
+
+	@Test
+	public void testReindexInCallingThread() throws Exception {
+		_testReindex(1);
+	}
+
+	private void _testReindex(int threadCount) throws Exception {
+		ParallelReindexer parallelReindexer = new ParallelReindexer(
+			"test", threadCount);
+
+		TestIntervalReindexer testIntervalReindexer =
+			new TestIntervalReindexer();
+
+		for (long i = 0; i < 100; i++) {
+			parallelReindexer.reindex(
+				i * 10, (i + 1) * 10, testIntervalReindexer);
+		}
+
+		parallelReindexer.await();
+
+		// Every interval is reindexed exactly once
+
+		Assert.assertEquals(100, testIntervalReindexer._counts.size());
+
+		for (long i = 0; i < 100; i++) {
+			Assert.assertEquals(
+				1, testIntervalReindexer._counts.get(i * 10).get());
+		}
+
+		Assert.assertEquals(1000, parallelReindexer.getDocumentCount());
+		Assert.assertEquals(
+			100, parallelReindexer.getReindexedIntervalCount());
+		Assert.assertEquals(100, parallelReindexer.getSubmittedIntervalCount());
+
+		if (threadCount == 1) {
+			Assert.assertEquals(
+				1, testIntervalReindexer._threads.size());
+			Assert.assertTrue(
+				testIntervalReindexer._threads.containsKey(
+					Thread.currentThread()));
+		}
+		else {
+			Assert.assertFalse(
+				testIntervalReindexer._threads.containsKey(
+					Thread.currentThread()));
+		}
+	}
+
+	private PortalExecutorManagerImpl _portalExecutorManager =
+		new PortalExecutorManagerImpl();
+
+	private static class TestIntervalReindexer implements IntervalReindexer {
+
+		public int reindex(long startId, long endId) throws Exception {
+			AtomicInteger count = new AtomicInteger();
+
+			AtomicInteger previousCount = _counts.putIfAbsent(startId, count);
+
+			if (previousCount != null) {
+				count = previousCount;
+			}
+
+			count.incrementAndGet();
+
+			_threads.put(Thread.currentThread(), Boolean.TRUE);
+
+			return (int)(endId - startId);
+		}
+
+		private final ConcurrentMap<Long, AtomicInteger> _counts =
+			new ConcurrentHashMap<Long, AtomicInteger>();
+		private final Map<Thread, Boolean> _threads =
+			new ConcurrentHashMap<Thread, Boolean>();
+
+	}
+
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.servlet;
+
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.util.FileImpl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServletResponseUtilTest {
+
+	@Before
+	public void setUp() throws Exception {
+		new FileUtil().setFile(FileImpl.getInstance());
+
+		_file = File.createTempFile("ServletResponseUtilTest", ".txt");
+
+		_write(_BYTES);
+	}
+
+	@After
+	public void tearDown() {
+		_file.delete();
+	}
+
+	@Test
+	public void testSendFile() throws Exception {
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.sendFile(
+			new MockHttpServletRequest(), mockHttpServletResponse, "test.txt",
+			_file, ContentTypes.TEXT_PLAIN);
+
+		Assert.assertEquals(
+			ContentTypes.TEXT_PLAIN, mockHttpServletResponse.getContentType());
+		Assert.assertEquals(
+			"attachment; filename=\"test.txt\"",
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+		Assert.assertEquals(
+			String.valueOf(_BYTES.length),
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertArrayEquals(
+			_BYTES, mockHttpServletResponse.getContentAsByteArray());
+	}
+
+	@Test
+	public void testWriteFile() throws Exception {
+
+		// Files larger than the transfer buffers are written completely
+
+		byte[] bytes = new byte[1024 * 1024];
+
+		Random random = new Random();
+
+		random.nextBytes(bytes);
+
+		_write(bytes);
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(mockHttpServletResponse, _file);
+
+		Assert.assertEquals(
+			String.valueOf(bytes.length),
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertArrayEquals(
+			bytes, mockHttpServletResponse.getContentAsByteArray());
+	}
+
+	@Test
+	public void testWriteFileWithSendfile() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.setAttribute(_SENDFILE_SUPPORT, Boolean.TRUE);
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(
+			mockHttpServletRequest, mockHttpServletResponse, _file);
+
+		// The container sends the file after the servlet returns
+
+		Assert.assertEquals(
+			_file.getCanonicalPath(),
+			mockHttpServletRequest.getAttribute(_SENDFILE_FILENAME));
+		Assert.assertEquals(
+			Long.valueOf(0),
+			mockHttpServletRequest.getAttribute(_SENDFILE_START));
+		Assert.assertEquals(
+			Long.valueOf(_BYTES.length),
+			mockHttpServletRequest.getAttribute(_SENDFILE_END));
+		Assert.assertEquals(
+			String.valueOf(_BYTES.length),
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertEquals(
+			0, mockHttpServletResponse.getContentAsByteArray().length);
+	}
+
+	@Test
+	public void testWriteFileWithSendfileAndWrappedResponse()
+		throws Exception {
+
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.setAttribute(_SENDFILE_SUPPORT, Boolean.TRUE);
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		// A filter that wraps the response needs to see the content
+
+		HttpServletResponse httpServletResponse =
+			new HttpServletResponseWrapper(mockHttpServletResponse);
+
+		ServletResponseUtil.write(
+			mockHttpServletRequest, httpServletResponse, _file);
+
+		Assert.assertNull(
+			mockHttpServletRequest.getAttribute(_SENDFILE_FILENAME));
+		Assert.assertArrayEquals(
+			_BYTES, mockHttpServletResponse.getContentAsByteArray());
+	}
+
+	@Test
+	public void testWriteMultipleRanges() throws Exception {
+		List<Range> ranges = new ArrayList<Range>();
+
+		ranges.add(new Range(0, 1, _BYTES.length));
+		ranges.add(new Range(5, 7, _BYTES.length));
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(
+			new MockHttpServletRequest(), mockHttpServletResponse, "test.txt",
+			ranges, new FileInputStream(_file), _BYTES.length,
+			ContentTypes.TEXT_PLAIN);
+
+		Assert.assertEquals(
+			HttpServletResponse.SC_PARTIAL_CONTENT,
+			mockHttpServletResponse.getStatus());
+
+		String contentType = mockHttpServletResponse.getContentType();
+
+		Assert.assertTrue(
+			contentType.startsWith(
+				ContentTypes.MULTIPART_BYTERANGES + "; boundary="));
+
+		String boundary = contentType.substring(
+			contentType.indexOf("boundary=") + 9);
+
+		// Every range is sent as its own part
+
+		String expectedContent =
+			"\r\n--" + boundary + "\r\n" +
+				"Content-Type: text/plain\r\n" +
+					"Content-Range: bytes 0-1/10\r\n\r\n" +
+						"01" +
+			"\r\n--" + boundary + "\r\n" +
+				"Content-Type: text/plain\r\n" +
+					"Content-Range: bytes 5-7/10\r\n\r\n" +
+						"567" +
+			"\r\n--" + boundary + "--\r\n";
+
+		Assert.assertEquals(
+			expectedContent,
+			new String(
+				mockHttpServletResponse.getContentAsByteArray(),
+				StringPool.ISO_8859_1));
+	}
+
+	@Test
+	public void testWriteSingleRange() throws Exception {
+		List<Range> ranges = Arrays.asList(new Range(2, 4, _BYTES.length));
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(
+			new MockHttpServletRequest(), mockHttpServletResponse, "test.txt",
+			ranges, new FileInputStream(_file), _BYTES.length,
+			ContentTypes.TEXT_PLAIN);
+
+		Assert.assertEquals(
+			HttpServletResponse.SC_PARTIAL_CONTENT,
+			mockHttpServletResponse.getStatus());
+		Assert.assertEquals(
+			"bytes 2-4/10",
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_RANGE));
+		Assert.assertEquals(
+			"234",
+			new String(
+				mockHttpServletResponse.getContentAsByteArray(),
+				StringPool.ISO_8859_1));
+	}
+
+	private void _write(byte[] bytes) throws Exception {
+		FileOutputStream fileOutputStream = new FileOutputStream(_file);
+
+		try {
+			fileOutputStream.write(bytes);
+		}
+		finally {
+			fileOutputStream.close();
+		}
+	}
+
+	private static final byte[] _BYTES = "0123456789".getBytes();
+
+	private static final String _SENDFILE_END =
+		"org.apache.tomcat.sendfile.end";
+
+	private static final String _SENDFILE_FILENAME =
+		"org.apache.tomcat.sendfile.filename";
+
+	private static final String _SENDFILE_START =
+		"org.apache.tomcat.sendfile.start";
+
+	private static final String _SENDFILE_SUPPORT =
+		"org.apache.tomcat.sendfile.support";
+
+	private File _file;
+
+}
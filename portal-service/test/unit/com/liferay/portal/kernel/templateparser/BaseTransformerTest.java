@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2000-2012 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.templateparser;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.DigesterImpl;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BaseTransformerTest {
+
+	@Before
+	public void setUp() {
+		PortalClassLoaderUtil.setClassLoader(getClass().getClassLoader());
+
+		new DigesterUtil().setDigester(new DigesterImpl());
+
+		_onOutputCount = 0;
+		_onScriptCount = 0;
+		_onXmlCount = 0;
+	}
+
+	@After
+	public void tearDown() {
+		PortalClassLoaderUtil.setClassLoader(null);
+	}
+
+	@Test
+	public void testCacheDisabled() throws Exception {
+		TestTransformer testTransformer = new TestTransformer(null);
+
+		Assert.assertEquals("xml+x|script+s+o", _transform(testTransformer));
+		Assert.assertEquals("xml+x|script+s+o", _transform(testTransformer));
+
+		Assert.assertEquals(2, _onXmlCount);
+		Assert.assertEquals(2, _onScriptCount);
+		Assert.assertEquals(2, _onOutputCount);
+	}
+
+	@Test
+	public void testCacheHit() throws Exception {
+		TestTransformer testTransformer = new TestTransformer(
+			_newPortalCache());
+
+		Assert.assertEquals("xml+x|script+s+o", _transform(testTransformer));
+
+		Assert.assertEquals(1, _portalCache.size());
+
+		// The listeners do not modify the XML and script again, but still
+		// modify the output
+
+		Assert.assertEquals("xml+x|script+s+o", _transform(testTransformer));
+
+		Assert.assertEquals(1, _onXmlCount);
+		Assert.assertEquals(1, _onScriptCount);
+		Assert.assertEquals(2, _onOutputCount);
+	}
+
+	@Test
+	public void testCacheMiss() throws Exception {
+		TestTransformer testTransformer = new TestTransformer(
+			_newPortalCache());
+
+		_transform(testTransformer);
+
+		// Each of the tokens, the language, the XML, the script and the
+		// template language is part of the key
+
+		Map<String, String> tokens = new HashMap<String, String>();
+
+		tokens.put("article_resource_pk", "2");
+
+		testTransformer.transform(
+			null, tokens, null, "en_US", "xml", "script", "test");
+		testTransformer.transform(
+			null, _tokens, null, "es_ES", "xml", "script", "test");
+		testTransformer.transform(
+			null, _tokens, null, "en_US", "xml2", "script", "test");
+		testTransformer.transform(
+			null, _tokens, null, "en_US", "xml", "script2", "test");
+		testTransformer.transform(
+			null, _tokens, null, "en_US", "xml", "script", "test2");
+
+		Assert.assertEquals(6, _portalCache.size());
+		Assert.assertEquals(6, _onXmlCount);
+		Assert.assertEquals(6, _onScriptCount);
+	}
+
+	@Test
+	public void testCacheRemoveAll() throws Exception {
+		TestTransformer testTransformer = new TestTransformer(
+			_newPortalCache());
+
+		_transform(testTransformer);
+
+		_portalCache.removeAll();
+
+		Assert.assertEquals("xml+x|script+s+o", _transform(testTransformer));
+
+		Assert.assertEquals(2, _onXmlCount);
+		Assert.assertEquals(2, _onScriptCount);
+	}
+
+	public static class TestTemplateParser implements TemplateParser {
+
+		public String getLanguageId() {
+			return _languageId;
+		}
+
+		public String getScript() {
+			return _script;
+		}
+
+		public ThemeDisplay getThemeDisplay() {
+			return null;
+		}
+
+		public Map<String, String> getTokens() {
+			return _tokens;
+		}
+
+		public String getViewMode() {
+			return null;
+		}
+
+		public String getXML() {
+			return _xml;
+		}
+
+		public void setContextObjects(Map<String, Object> contextObjects) {
+		}
+
+		public void setLanguageId(String languageId) {
+			_languageId = languageId;
+		}
+
+		public void setScript(String script) {
+			_script = script;
+		}
+
+		public void setThemeDisplay(ThemeDisplay themeDisplay) {
+		}
+
+		public void setTokens(Map<String, String> tokens) {
+			_tokens = tokens;
+		}
+
+		public void setViewMode(String viewMode) {
+		}
+
+		public void setXML(String xml) {
+			_xml = xml;
+		}
+
+		public String transform() {
+			return _xml + "|" + _script;
+		}
+
+		private String _languageId;
+		private String _script;
+		private Map<String, String> _tokens;
+		private String _xml;
+
+	}
+
+	public static class TestTransformerListener
+		extends BaseTransformerListener {
+
+		@Override
+		public String onOutput(String s) {
+			_onOutputCount++;
+
+			return s + "+o";
+		}
+
+		@Override
+		public String onScript(String s) {
+			_onScriptCount++;
+
+			return s + "+s";
+		}
+
+		@Override
+		public String onXml(String s) {
+			_onXmlCount++;
+
+			return s + "+x";
+		}
+
+	}
+
+	private PortalCache _newPortalCache() {
+		_portalCache = new TestPortalCache();
+
+		return _portalCache;
+	}
+
+	private String _transform(TestTransformer testTransformer)
+		throws Exception {
+
+		return testTransformer.transform(
+			null, _tokens, null, "en_US", "xml", "script", "test");
+	}
+
+	private static int _onOutputCount;
+	private static int _onScriptCount;
+	private static int _onXmlCount;
+
+	private TestPortalCache _portalCache;
+	private Map<String, String> _tokens = Collections.singletonMap(
+		"article_resource_pk", "1");
+
+	private static class TestPortalCache extends MemoryPortalCache {
+
+		public TestPortalCache() {
+			super(BaseTransformerTest.class.getName(), 16);
+		}
+
+		@Override
+		public void removeAll() {
+			_keys.clear();
+
+			super.removeAll();
+		}
+
+		public int size() {
+			return _keys.size();
+		}
+
+		@Override
+		protected void notifyPutEvents(
+			Serializable key, Object value, boolean updated) {
+
+			_keys.add(key);
+
+			super.notifyPutEvents(key, value, updated);
+		}
+
+		private Set<Serializable> _keys = new ConcurrentHashSet<Serializable>();
+
+	}
+
+	private static class TestTransformer extends BaseTransformer {
+
+		public TestTransformer(PortalCache portalCache) {
+			_portalCache = portalCache;
+		}
+
+		@Override
+		protected PortalCache getPortalCache() {
+			return _portalCache;
+		}
+
+		@Override
+		protected String getTemplateParserClassName(String langType) {
+			return TestTemplateParser.class.getName();
+		}
+
+		@Override
+		protected String[] getTransformerListenersClassNames() {
+			return new String[] {TestTransformerListener.class.getName()};
+		}
+
+		private PortalCache _portalCache;
+
+	}
+
+}
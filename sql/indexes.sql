@@ -199,6 +199,15 @@ create index IX_6A83A66A on DLContent (companyId, repositoryId);
 create index IX_EB531760 on DLContent (companyId, repositoryId, path_);
 create unique index IX_FDD1AAA8 on DLContent (companyId, repositoryId, path_, version);
 
+create index IX_6A1F3E02 on DLContentChunk (contentId);
+
+create unique index IX_8C5182C5 on DLContentHash (companyId, hash);
+
+create index IX_B2AFF2EA on DLContentReference (companyId, hash);
+create index IX_5FC44021 on DLContentReference (companyId, repositoryId);
+create index IX_63DB71C9 on DLContentReference (companyId, repositoryId, path_);
+create unique index IX_A22DF65F on DLContentReference (companyId, repositoryId, path_, version);
+
 create index IX_4CB1B2B4 on DLFileEntry (companyId);
 create index IX_F4AF5636 on DLFileEntry (groupId);
 create index IX_93CF8193 on DLFileEntry (groupId, folderId);
@@ -774,6 +783,10 @@ create index IX_49D5872C on SocialRequest (uuid_);
 create index IX_8D42897C on SocialRequest (uuid_, companyId);
 create unique index IX_4F973EFE on SocialRequest (uuid_, groupId);
 
+create index IX_196846B1 on StagedModelChange (groupId);
+create index IX_F3A32E46 on StagedModelChange (groupId, classNameId, classPK);
+create index IX_BBDD573C on StagedModelChange (groupId, modifiedDate);
+
 create index IX_786D171A on Subscription (companyId, classNameId, classPK);
 create unique index IX_2E1A92D4 on Subscription (companyId, userId, classNameId, classPK);
 create index IX_54243AFD on Subscription (userId);
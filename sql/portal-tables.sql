@@ -525,6 +525,31 @@ create table DLContent (
 	size_ LONG
 );
 
+create table DLContentChunk (
+	chunkId LONG not null primary key,
+	companyId LONG,
+	contentId LONG,
+	chunkIndex INTEGER,
+	data_ BLOB,
+	size_ LONG
+);
+
+create table DLContentHash (
+	contentHashId LONG not null primary key,
+	companyId LONG,
+	hash VARCHAR(75) null
+);
+
+create table DLContentReference (
+	referenceId LONG not null primary key,
+	companyId LONG,
+	repositoryId LONG,
+	path_ VARCHAR(255) null,
+	version VARCHAR(75) null,
+	hash VARCHAR(75) null,
+	size_ LONG
+);
+
 create table DLFileEntry (
 	uuid_ VARCHAR(75) null,
 	fileEntryId LONG not null primary key,
@@ -1949,6 +1974,17 @@ create table SocialRequest (
 	status INTEGER
 );
 
+create table StagedModelChange (
+	stagedModelChangeId LONG not null primary key,
+	groupId LONG,
+	companyId LONG,
+	modifiedDate DATE null,
+	classNameId LONG,
+	classPK LONG,
+	classUuid VARCHAR(75) null,
+	type_ INTEGER
+);
+
 create table Subscription (
 	subscriptionId LONG not null primary key,
 	companyId LONG,
@@ -230,6 +230,31 @@ update Country set name = 'yemen' where name = 'Yemen';
 update Country set name = 'zambia' where name = 'Zambia';
 update Country set name = 'zimbabwe' where name = 'Zimbabwe';
 
+create table DLContentChunk (
+	chunkId LONG not null primary key,
+	companyId LONG,
+	contentId LONG,
+	chunkIndex INTEGER,
+	data_ BLOB,
+	size_ LONG
+);
+
+create table DLContentHash (
+	contentHashId LONG not null primary key,
+	companyId LONG,
+	hash VARCHAR(75) null
+);
+
+create table DLContentReference (
+	referenceId LONG not null primary key,
+	companyId LONG,
+	repositoryId LONG,
+	path_ VARCHAR(255) null,
+	version VARCHAR(75) null,
+	hash VARCHAR(75) null,
+	size_ LONG
+);
+
 alter table DLFileRank add active_ BOOLEAN;
 
 COMMIT_TRANSACTION;
@@ -288,6 +313,17 @@ COMMIT_TRANSACTION;
 
 update SocialActivityCounter set active_ = TRUE;
 
+create table StagedModelChange (
+	stagedModelChangeId LONG not null primary key,
+	groupId LONG,
+	companyId LONG,
+	modifiedDate DATE null,
+	classNameId LONG,
+	classPK LONG,
+	classUuid VARCHAR(75) null,
+	type_ INTEGER
+);
+
 create table TrashEntry (
 	entryId LONG not null primary key,
 	groupId LONG,